@@ -21,6 +21,12 @@ const ListInput = z.object({
   limit: z.number().int().min(1).max(200).default(50),
   page: z.number().int().min(0).default(0),
   search: z.string().optional(),
+  fields: z
+    .string()
+    .default("id,displayId,name,type,parentId,priority")
+    .describe(
+      "쉼표로 구분한 응답 필드. steps, tags, description 등 필요한 것만 추가한다",
+    ),
 });
 
 const GetInput = z.object({
@@ -98,7 +104,8 @@ export const testcaseTools: Tool[] = [
     name: "testcase_list",
     description:
       "프로젝트의 테스트 케이스 목록을 조회한다. '테스트케이스 목록', '프로젝트 X의 TC' 같은 요청 시 사용. " +
-      "projectId는 UUID 문자열. search로 필터 가능.",
+      "projectId는 UUID 문자열. search로 필터 가능. 기본은 ID·이름·구조 필드만 돌려주며 " +
+      "단계·태그 등이 필요하면 fields에 추가(예: id,name,steps,tags).",
     inputSchema: zodToJsonSchema(ListInput) as any,
   },
   {
@@ -175,6 +182,7 @@ export const testcaseHandlers: Record<
           limit: input.limit,
           page: input.page,
           search: input.search,
+          fields: input.fields,
         },
       },
     );
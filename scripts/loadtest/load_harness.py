@@ -0,0 +1,360 @@
+#!/usr/bin/env python3
+"""End-to-end 부하 하네스 - 합성 데이터(synthetic 프로파일) 위에서 핵심 API 지연·처리량 측정.
+
+SyntheticDataGenerator 가 남긴 매니페스트(build/synthetic/manifest.json)의 프로젝트·플랜·실행 ID 로
+시나리오별 요청을 만들고, 동시 사용자 수만큼 스레드를 돌려 엔드포인트별 p50/p95/p99·처리량을 낸다.
+표준 라이브러리만 쓰므로 외부 네트워크 없이 로컬에서 그대로 돈다.
+
+사용법:
+  python3 load_harness.py                               # 전 시나리오, 동시 8, 시나리오당 30초
+  python3 load_harness.py -s dashboard,report -c 32 -d 60
+  python3 load_harness.py --output build/loadtest/before.json
+  python3 load_harness.py --compare build/loadtest/before.json   # 이전 결과 대비 p95 변화 표시
+
+시나리오:
+  dashboard     프로젝트 개요·통계·추이·결과 요약
+  report        상세 리포트(GET 페이지 이동, 플랜 필터 POST, 최신 결과만 보기)
+  tree          프로젝트 테스트케이스 전체 목록 (트리 화면 원본)
+  bulk-result   진행 중 실행에 결과 일괄 입력 (쓰기)
+  junit-upload  JUnit XML 업로드 (쓰기, 파싱은 비동기)
+
+환경변수:
+  LOAD_BASE_URL  (default http://localhost:8080)
+  LOAD_USER      (default admin)
+  LOAD_PASS      (default admin123)
+"""
+
+from __future__ import annotations
+
+import argparse
+import json
+import os
+import random
+import sys
+import threading
+import time
+import urllib.error
+import urllib.request
+import uuid
+from concurrent.futures import ThreadPoolExecutor
+from pathlib import Path
+
+BASE_URL = os.environ.get("LOAD_BASE_URL", "http://localhost:8080")
+USERNAME = os.environ.get("LOAD_USER", "admin")
+PASSWORD = os.environ.get("LOAD_PASS", "admin123")
+
+REPO_ROOT = Path(__file__).resolve().parents[2]
+DEFAULT_MANIFEST = REPO_ROOT / "build" / "synthetic" / "manifest.json"
+ALL_SCENARIOS = ["dashboard", "report", "tree", "bulk-result", "junit-upload"]
+RESULTS = ["PASS", "PASS", "PASS", "FAIL", "BLOCKED"]
+
+
+class Client:
+    """토큰을 공유하는 HTTP 클라이언트. 401 이면 한 스레드만 다시 로그인한다."""
+
+    def __init__(self, timeout: float):
+        self.timeout = timeout
+        self._lock = threading.Lock()
+        self._token = None
+        self._generation = 0
+
+    def login(self, seen_generation: int | None = None):
+        with self._lock:
+            if seen_generation is not None and seen_generation != self._generation:
+                return  # 다른 스레드가 이미 갱신했다
+            body = json.dumps({"username": USERNAME, "password": PASSWORD}).encode()
+            req = urllib.request.Request(
+                BASE_URL + "/api/auth/login",
+                data=body,
+                headers={"Content-Type": "application/json"},
+                method="POST",
+            )
+            with urllib.request.urlopen(req, timeout=15) as r:
+                self._token = json.loads(r.read())["accessToken"]
+            self._generation += 1
+
+    def send(self, method: str, path: str, body: bytes | None, content_type: str | None):
+        """(HTTP 상태, 응답 바이트 수). 응답 본문은 끝까지 읽어 전송 시간까지 잰다."""
+        for attempt in (0, 1):
+            generation = self._generation
+            headers = {"Authorization": f"Bearer {self._token}"}
+            if content_type:
+                headers["Content-Type"] = content_type
+            req = urllib.request.Request(BASE_URL + path, data=body, headers=headers, method=method)
+            try:
+                with urllib.request.urlopen(req, timeout=self.timeout) as r:
+                    return r.status, len(r.read())
+            except urllib.error.HTTPError as e:
+                if e.code == 401 and attempt == 0:
+                    self.login(generation)
+                    continue
+                return e.code, len(e.read() or b"")
+            except (urllib.error.URLError, TimeoutError, ConnectionError) as e:
+                return f"ERR:{type(e).__name__}", 0
+        return 401, 0
+
+
+# ── 시나리오: (rnd) -> (이름, 메서드, 경로, 본문, Content-Type) ──
+
+
+def dashboard_requests(project: dict):
+    pid = project["projectId"]
+    return [
+        lambda rnd: ("dashboard.overview", "GET", f"/api/dashboard/projects/{pid}/overview", None, None),
+        lambda rnd: ("dashboard.statistics", "GET", f"/api/dashboard/projects/{pid}/statistics", None, None),
+        lambda rnd: (
+            "dashboard.trend",
+            "GET",
+            f"/api/dashboard/projects/{pid}/test-results-trend",
+            None,
+            None,
+        ),
+        lambda rnd: (
+            "dashboard.summary",
+            "GET",
+            f"/api/dashboard/projects/{pid}/test-results-summary",
+            None,
+            None,
+        ),
+    ]
+
+
+def report_requests(project: dict):
+    pid = project["projectId"]
+    plans = project["planIds"]
+
+    def page_walk(rnd):
+        page = rnd.choice([0, 0, 1, 5, 20, 100])
+        return ("report.page", "GET", f"/api/test-results/report?projectId={pid}&page={page}&size=50", None, None)
+
+    def plan_filter(rnd):
+        body = {
+            "projectId": pid,
+            "testPlanIds": [rnd.choice(plans)],
+            "page": 0,
+            "size": 100,
+            "latestOnly": rnd.random() < 0.5,
+        }
+        return ("report.plan", "POST", "/api/test-results/report", json.dumps(body).encode(), "application/json")
+
+    def by_plan(rnd):
+        return ("report.by-testplan", "GET", f"/api/test-results/by-testplan/{rnd.choice(plans)}", None, None)
+
+    return [page_walk, plan_filter, by_plan]
+
+
+def tree_requests(project: dict):
+    pid = project["projectId"]
+    return [lambda rnd: ("tree.project", "GET", f"/api/testcases/project/{pid}", None, None)]
+
+
+def bulk_result_requests(project: dict, batch: int):
+    executions = project.get("inProgressExecutions") or []
+    if not executions:
+        return []
+
+    def bulk(rnd):
+        execution = rnd.choice(executions)
+        cases = execution["testCaseIds"]
+        body = {
+            "testCaseIds": rnd.sample(cases, min(batch, len(cases))),
+            "result": rnd.choice(RESULTS),
+            "notes": "load-harness",
+        }
+        path = f"/api/test-executions/{execution['executionId']}/results/bulk"
+        return ("bulk-result", "POST", path, json.dumps(body).encode(), "application/json")
+
+    return [bulk]
+
+
+def junit_xml(rnd: random.Random, cases: int) -> bytes:
+    parts = ['<?xml version="1.0" encoding="UTF-8"?><testsuites>']
+    for s in range(max(1, cases // 50)):
+        cls = f"com.example.load.Suite{s}Test"
+        parts.append(f'<testsuite name="{cls}" tests="50" failures="0" errors="0" skipped="0" time="1.0">')
+        for c in range(50):
+            parts.append(f'<testcase name="case_{c}" classname="{cls}" time="{rnd.random():.3f}"')
+            if rnd.random() < 0.05:
+                parts.append('><failure message="boom" type="AssertionError">trace</failure></testcase>')
+            else:
+                parts.append("/>")
+        parts.append("</testsuite>")
+    parts.append("</testsuites>")
+    return "".join(parts).encode()
+
+
+def junit_upload_requests(project: dict, cases: int):
+    pid = project["projectId"]
+
+    def upload(rnd):
+        boundary = uuid.uuid4().hex
+        xml = junit_xml(rnd, cases)
+        # 같은 파일은 중복 업로드로 걸러지므로 실행 이름·내용을 매번 바꾼다
+        name = f"TEST-load-{uuid.uuid4().hex[:8]}.xml"
+        body = b"".join(
+            [
+                f"--{boundary}\r\nContent-Disposition: form-data; name=\"projectId\"\r\n\r\n{pid}\r\n".encode(),
+                f"--{boundary}\r\nContent-Disposition: form-data; name=\"executionName\"\r\n\r\n{name}\r\n".encode(),
+                f"--{boundary}\r\nContent-Disposition: form-data; name=\"file\"; filename=\"{name}\"\r\n".encode(),
+                b"Content-Type: application/xml\r\n\r\n",
+                xml,
+                f"\r\n--{boundary}--\r\n".encode(),
+            ]
+        )
+        return ("junit-upload", "POST", "/api/junit-results/upload", body, f"multipart/form-data; boundary={boundary}")
+
+    return [upload]
+
+
+# ── 측정 ──
+
+
+def percentile(sorted_values: list[float], p: float) -> float:
+    """nearest-rank 백분위수"""
+    if not sorted_values:
+        return 0.0
+    rank = max(1, -(-len(sorted_values) * p // 100))
+    return sorted_values[int(rank) - 1]
+
+
+def run_scenario(client: Client, builders, concurrency: int, duration: float, warmup: float, seed: int):
+    samples: dict[str, list[float]] = {}
+    errors: dict[str, dict[str, int]] = {}
+    lock = threading.Lock()
+    start = time.monotonic()
+    measure_from = start + warmup
+    deadline = measure_from + duration
+
+    def worker(index: int):
+        rnd = random.Random(seed * 1000 + index)
+        while True:
+            now = time.monotonic()
+            if now >= deadline:
+                return
+            name, method, path, body, ctype = rnd.choice(builders)(rnd)
+            t0 = time.perf_counter()
+            status, _ = client.send(method, path, body, ctype)
+            elapsed_ms = (time.perf_counter() - t0) * 1000
+            if now < measure_from:
+                continue  # 워밍업 구간은 버린다 (JIT·커넥션 풀·캐시)
+            with lock:
+                if isinstance(status, int) and 200 <= status < 300:
+                    samples.setdefault(name, []).append(elapsed_ms)
+                else:
+                    bucket = errors.setdefault(name, {})
+                    bucket[str(status)] = bucket.get(str(status), 0) + 1
+
+    with ThreadPoolExecutor(max_workers=concurrency) as pool:
+        list(pool.map(worker, range(concurrency)))
+
+    report = {}
+    for name in sorted(set(samples) | set(errors)):
+        values = sorted(samples.get(name, []))
+        failed = sum(errors.get(name, {}).values())
+        report[name] = {
+            "count": len(values),
+            "errors": failed,
+            "errorCodes": errors.get(name, {}),
+            "throughputRps": round(len(values) / duration, 2),
+            "p50Ms": round(percentile(values, 50), 1),
+            "p95Ms": round(percentile(values, 95), 1),
+            "p99Ms": round(percentile(values, 99), 1),
+            "maxMs": round(values[-1], 1) if values else 0.0,
+        }
+    return report
+
+
+def print_report(scenario: str, report: dict, baseline: dict | None):
+    print(f"\n== {scenario}")
+    header = f"{'endpoint':<24}{'ok':>8}{'err':>6}{'rps':>9}{'p50':>9}{'p95':>9}{'p99':>9}{'max':>9}"
+    if baseline is not None:
+        header += f"{'Δp95':>9}"
+    print(header)
+    for name, r in report.items():
+        line = (
+            f"{name:<24}{r['count']:>8}{r['errors']:>6}{r['throughputRps']:>9.1f}"
+            f"{r['p50Ms']:>9.1f}{r['p95Ms']:>9.1f}{r['p99Ms']:>9.1f}{r['maxMs']:>9.1f}"
+        )
+        if baseline is not None:
+            base = baseline.get(scenario, {}).get(name)
+            if base and base["p95Ms"]:
+                line += f"{(r['p95Ms'] / base['p95Ms'] - 1) * 100:>+8.0f}%"
+            else:
+                line += f"{'-':>9}"
+        print(line)
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("--manifest", default=str(DEFAULT_MANIFEST))
+    parser.add_argument("-s", "--scenarios", default=",".join(ALL_SCENARIOS))
+    parser.add_argument("-c", "--concurrency", type=int, default=8)
+    parser.add_argument("-d", "--duration", type=float, default=30, help="시나리오당 측정 시간(초)")
+    parser.add_argument("-w", "--warmup", type=float, default=5, help="시나리오당 워밍업 시간(초)")
+    parser.add_argument("--timeout", type=float, default=60, help="요청 타임아웃(초)")
+    parser.add_argument("--bulk-size", type=int, default=50, help="일괄 결과 입력 1회당 케이스 수")
+    parser.add_argument("--junit-cases", type=int, default=500, help="업로드 XML 1개의 케이스 수")
+    parser.add_argument("--seed", type=int, default=20240601)
+    parser.add_argument("--output", help="결과 JSON 경로 (기본 build/loadtest/result-<시각>.json)")
+    parser.add_argument("--compare", help="이전 결과 JSON. 엔드포인트별 p95 변화율을 함께 보인다")
+    args = parser.parse_args()
+
+    manifest_path = Path(args.manifest)
+    if not manifest_path.exists():
+        sys.exit(f"매니페스트가 없습니다: {manifest_path}\n먼저 synthetic 프로파일로 앱을 띄워 데이터를 만드세요.")
+    manifest = json.loads(manifest_path.read_text())
+    project = manifest["projects"][0]
+
+    scenarios = [s.strip() for s in args.scenarios.split(",") if s.strip()]
+    unknown = [s for s in scenarios if s not in ALL_SCENARIOS]
+    if unknown:
+        sys.exit(f"알 수 없는 시나리오: {unknown} (가능: {ALL_SCENARIOS})")
+
+    builders = {
+        "dashboard": lambda: dashboard_requests(project),
+        "report": lambda: report_requests(project),
+        "tree": lambda: tree_requests(project),
+        "bulk-result": lambda: bulk_result_requests(project, args.bulk_size),
+        "junit-upload": lambda: junit_upload_requests(project, args.junit_cases),
+    }
+    baseline = json.loads(Path(args.compare).read_text())["scenarios"] if args.compare else None
+
+    client = Client(args.timeout)
+    client.login()
+    print(f"target={BASE_URL} project={project['code']} ({project['projectId']})")
+    print(f"concurrency={args.concurrency} duration={args.duration}s warmup={args.warmup}s")
+
+    results = {}
+    for scenario in scenarios:
+        requests = builders[scenario]()
+        if not requests:
+            print(f"\n== {scenario}: 매니페스트에 대상이 없어 건너뜀")
+            continue
+        results[scenario] = run_scenario(
+            client, requests, args.concurrency, args.duration, args.warmup, args.seed
+        )
+        print_report(scenario, results[scenario], baseline)
+
+    output = Path(args.output) if args.output else REPO_ROOT / "build" / "loadtest" / (
+        time.strftime("result-%Y%m%d-%H%M%S") + ".json"
+    )
+    output.parent.mkdir(parents=True, exist_ok=True)
+    output.write_text(
+        json.dumps(
+            {
+                "target": BASE_URL,
+                "project": project["code"],
+                "concurrency": args.concurrency,
+                "durationSeconds": args.duration,
+                "warmupSeconds": args.warmup,
+                "scenarios": results,
+            },
+            ensure_ascii=False,
+            indent=2,
+        )
+    )
+    print(f"\nsaved: {output}")
+
+
+if __name__ == "__main__":
+    main()
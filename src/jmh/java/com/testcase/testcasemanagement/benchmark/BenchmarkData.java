@@ -0,0 +1,231 @@
+package com.testcase.testcasemanagement.benchmark;
+
+import com.testcase.testcasemanagement.dto.TestResultReportDto;
+import com.testcase.testcasemanagement.model.TestCase;
+import com.testcase.testcasemanagement.model.TestResultStatus;
+import com.testcase.testcasemanagement.model.TestStep;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력 생성기
+ *
+ * <p>모든 생성기는 고정 시드로 같은 크기면 같은 데이터를 만든다. 실행마다 입력이 달라지면 결과 차이가 코드 때문인지 데이터 때문인지 가릴 수 없다.
+ * 크기는 각 벤치마크의 {@code @Param} 으로 키워 선형이 아닌 구간(정규식 역추적, 트리 조립 등)을 드러낸다.
+ */
+final class BenchmarkData {
+
+  static final long SEED = 20240601L;
+
+  static final String PROJECT_ID = "3f2b8c1e-7a4d-4e9b-9c61-5d2f0a8b7e14";
+
+  private static final String[] RESULTS = {
+    TestResultStatus.PASS.value(),
+    TestResultStatus.PASS.value(),
+    TestResultStatus.PASS.value(),
+    TestResultStatus.FAIL.value(),
+    TestResultStatus.BLOCKED.value(),
+    TestResultStatus.NOT_RUN.value()
+  };
+
+  private BenchmarkData() {}
+
+  /**
+   * surefire 형식 JUnit XML. 케이스 일부는 실패·스킵이며 실패에는 스택 트레이스와 출력이 붙어 실제 리포트처럼 텍스트 노드가 크다.
+   *
+   * @param totalCases 전체 케이스 수 (스위트당 50개씩 나눈다)
+   */
+  static byte[] junitXml(int totalCases) {
+    Random random = new Random(SEED);
+    int perSuite = 50;
+    int suites = Math.max(1, (totalCases + perSuite - 1) / perSuite);
+    StringBuilder xml = new StringBuilder(totalCases * 400);
+    xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites>\n");
+    int written = 0;
+    for (int s = 0; s < suites; s++) {
+      int cases = Math.min(perSuite, totalCases - written);
+      String className = "com.example.module" + (s % 7) + ".Feature" + s + "Test";
+      xml.append("<testsuite name=\"")
+          .append(className)
+          .append("\" tests=\"")
+          .append(cases)
+          .append("\" failures=\"0\" errors=\"0\" skipped=\"0\" time=\"1.0\"")
+          .append(" timestamp=\"2024-06-01T10:00:00\" hostname=\"ci-runner\">\n");
+      for (int c = 0; c < cases; c++) {
+        xml.append("  <testcase name=\"should_handle_case_")
+            .append(c)
+            .append("\" classname=\"")
+            .append(className)
+            .append("\" time=\"")
+            .append(String.format("%.3f", random.nextDouble()))
+            .append("\"");
+        int roll = random.nextInt(20);
+        if (roll == 0) {
+          xml.append(">\n    <failure message=\"expected: &lt;200&gt; but was: &lt;500&gt;\"")
+              .append(" type=\"org.opentest4j.AssertionFailedError\">")
+              .append(stackTrace(className, 25))
+              .append("</failure>\n    <system-out>")
+              .append("INFO request id=").append(random.nextInt()).append(" done\n".repeat(10))
+              .append("</system-out>\n  </testcase>\n");
+        } else if (roll == 1) {
+          xml.append(">\n    <skipped message=\"disabled\"/>\n  </testcase>\n");
+        } else {
+          xml.append("/>\n");
+        }
+        written++;
+      }
+      xml.append("</testsuite>\n");
+    }
+    xml.append("</testsuites>\n");
+    return xml.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String stackTrace(String className, int depth) {
+    StringBuilder trace = new StringBuilder("org.opentest4j.AssertionFailedError: boom\n");
+    for (int i = 0; i < depth; i++) {
+      trace.append("\tat ").append(className).append(".frame").append(i).append("(X.java:")
+          .append(10 + i).append(")\n");
+    }
+    return trace.toString();
+  }
+
+  /**
+   * 폴더·케이스가 섞인 트리. 폴더마다 {@code fanOut} 개의 자식을 두고 입력 순서는 섞어서 부모가 자식보다 뒤에 오는 경우도 만든다.
+   *
+   * @param nodes 전체 노드 수
+   */
+  static List<TestCase> testCaseTree(int nodes, int fanOut) {
+    Random random = new Random(SEED);
+    List<TestCase> all = new ArrayList<>(nodes);
+    List<TestCase> folders = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.of(2024, 6, 1, 10, 0);
+    for (int i = 0; i < nodes; i++) {
+      TestCase tc = new TestCase();
+      tc.setId("tc-" + i);
+      boolean folder = i == 0 || random.nextInt(fanOut) == 0;
+      tc.setType(folder ? "folder" : "testcase");
+      tc.setName((folder ? "폴더 " : "케이스 ") + i);
+      tc.setDescription("설명 " + i);
+      tc.setDisplayOrder(i);
+      tc.setCreatedAt(now);
+      tc.setUpdatedAt(now);
+      if (i > 0) {
+        // 앞쪽 폴더에 몰리도록 해 깊은 경로와 넓은 폴더가 함께 생긴다
+        int parentIndex = (int) (folders.size() * Math.pow(random.nextDouble(), 2));
+        tc.setParentId(folders.get(folders.size() - 1 - parentIndex).getId());
+      }
+      if (!folder) {
+        List<TestStep> steps = new ArrayList<>();
+        for (int s = 1; s <= 3; s++) {
+          TestStep step = new TestStep();
+          step.setStepNumber(s);
+          step.setDescription("단계 " + s);
+          step.setExpectedResult("기대 결과 " + s);
+          steps.add(step);
+        }
+        tc.setSteps(steps);
+      } else {
+        folders.add(tc);
+      }
+      all.add(tc);
+    }
+    Collections.shuffle(all.subList(1, all.size()), random);
+    return all;
+  }
+
+  /** 리포트 내보내기 행. 한글·긴 비고·스텝 JSON 이 섞인다. */
+  static List<TestResultReportDto> reportRows(int rows) {
+    Random random = new Random(SEED);
+    List<TestResultReportDto> list = new ArrayList<>(rows);
+    LocalDateTime base = LocalDateTime.of(2024, 6, 1, 9, 0);
+    for (int i = 0; i < rows; i++) {
+      list.add(
+          TestResultReportDto.builder()
+              .testPlanId("plan-" + (i % 5))
+              .testPlanName("릴리스 플랜 " + (i % 5))
+              .testExecutionId("exec-" + (i % 20))
+              .testExecutionName("회귀 실행 " + (i % 20))
+              .testCaseId("tc-" + i)
+              .testCaseName("로그인 시나리오 " + i)
+              .folderPath("루트 >> 인증 >> 모듈" + (i % 13))
+              .result(RESULTS[random.nextInt(RESULTS.length)])
+              .executedAt(base.plusMinutes(i))
+              .executedBy("user-" + (i % 9))
+              .executorName("테스터" + (i % 9))
+              .notes(random.nextInt(4) == 0 ? "재현 절차 메모 ".repeat(20) : "")
+              .jiraIssueKey(random.nextInt(3) == 0 ? "ICT-" + (100 + i) : null)
+              .priority(i % 3 == 0 ? "HIGH" : "MEDIUM")
+              .category("기능")
+              .preCondition("사전 조건 " + i)
+              .expectedResults("정상 응답")
+              .steps("[{\"stepNumber\":1,\"description\":\"입력\",\"expectedResult\":\"확인\"}]")
+              .build());
+    }
+    return list;
+  }
+
+  /** 사용자가 JIRA 칸에 붙여 넣는 형태: URL·키·잡음이 쉼표·공백으로 섞인다. */
+  static String jiraInput(int tokens) {
+    Random random = new Random(SEED);
+    StringBuilder input = new StringBuilder();
+    for (int i = 0; i < tokens; i++) {
+      switch (random.nextInt(4)) {
+        case 0 -> input.append("https://jira.example.com/browse/ICT-").append(random.nextInt(900));
+        case 1 -> input.append("agv2-").append(random.nextInt(900));
+        case 2 -> input.append("참고사항").append(i);
+        default -> input.append("ONT-").append(random.nextInt(50));
+      }
+      input.append(i % 5 == 4 ? ", " : " ");
+    }
+    return input.toString();
+  }
+
+  /**
+   * LLM 이 만들 법한 SELECT. {@code joins} 만큼 조인·조건을 붙여 길이를 키운다.
+   *
+   * @param safe false 면 검사 마지막 단계(project_id 조건)에서 거절되는 문장을 만든다
+   */
+  static String ragSql(int joins, boolean safe) {
+    StringBuilder sql = new StringBuilder("SELECT tc.id, tc.name, tr0.result FROM test_cases tc");
+    for (int i = 0; i < joins; i++) {
+      sql.append(" LEFT JOIN test_results tr").append(i)
+          .append(" ON tr").append(i).append(".test_case_id = tc.id");
+    }
+    sql.append(" WHERE ");
+    sql.append(
+        safe ? "tc.project_id = '" + PROJECT_ID + "'" : "tc.name LIKE '%" + PROJECT_ID + "%'");
+    for (int i = 0; i < joins; i++) {
+      sql.append(" AND tr").append(i).append(".result IN ('PASS', 'FAIL')");
+    }
+    return sql.append(" ORDER BY tc.name").toString();
+  }
+
+  /** {@code @Value} 로 주입되는 필드를 컨텍스트 없이 채운다. */
+  static void setField(Object target, String name, Object value) {
+    try {
+      Field field = target.getClass().getDeclaredField(name);
+      field.setAccessible(true);
+      field.set(target, value);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("필드 설정 실패: " + name, e);
+    }
+  }
+
+  /** 공개 API 를 바꾸지 않고 private 핫패스를 직접 부른다. */
+  static MethodHandle privateMethod(Class<?> owner, String name, MethodType type) {
+    try {
+      return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+          .findVirtual(owner, name, type);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("메서드 조회 실패: " + owner.getSimpleName() + "." + name, e);
+    }
+  }
+}
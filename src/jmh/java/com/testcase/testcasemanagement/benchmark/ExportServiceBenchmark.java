@@ -0,0 +1,77 @@
+package com.testcase.testcasemanagement.benchmark;
+
+import com.testcase.testcasemanagement.dto.TestResultFilterDto;
+import com.testcase.testcasemanagement.dto.TestResultReportDto;
+import com.testcase.testcasemanagement.service.ExportService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 리포트 내보내기 작성기 (메조)
+ *
+ * <p>Excel 은 열 너비 자동 조정이 글꼴 측정을 하므로 headless AWT 가 필요하다. PDF 는 첫 호출에서 한글 글꼴을 찾고 캐시하므로 워밍업이
+ * 끝난 뒤의 값은 글꼴 탐색을 뺀 문서 작성 비용이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC", "-Djava.awt.headless=true"})
+@State(Scope.Benchmark)
+public class ExportServiceBenchmark {
+
+  @Param({"100", "1000", "5000"})
+  public int rows;
+
+  /** false 면 기본 7개 열, true 면 스텝 포함 전체 열 */
+  @Param({"false", "true"})
+  public boolean allColumns;
+
+  private final ExportService exportService = new ExportService();
+  private Page<TestResultReportDto> page;
+  private TestResultFilterDto filter;
+
+  @Setup
+  public void setUp() {
+    List<TestResultReportDto> content = BenchmarkData.reportRows(rows);
+    page = new PageImpl<>(content, PageRequest.of(0, rows), rows);
+    filter = new TestResultFilterDto();
+    if (allColumns) {
+      filter.setAllDisplayColumns();
+    } else {
+      filter.setDefaultDisplayColumns();
+    }
+    filter.setIncludeStatistics(true);
+  }
+
+  @Benchmark
+  public byte[] csv() {
+    return exportService.exportToCsv(page, filter);
+  }
+
+  @Benchmark
+  public byte[] excel() {
+    return exportService.exportToExcel(page, filter);
+  }
+
+  @Benchmark
+  public byte[] pdf() {
+    return exportService.exportToPdf(page, filter);
+  }
+}
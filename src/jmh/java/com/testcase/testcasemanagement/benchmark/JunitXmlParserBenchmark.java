@@ -0,0 +1,49 @@
+package com.testcase.testcasemanagement.benchmark;
+
+import com.testcase.testcasemanagement.model.JunitTestResult;
+import com.testcase.testcasemanagement.model.User;
+import com.testcase.testcasemanagement.service.JunitXmlParserService;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** 업로드 한 건의 파싱 비용 (메조). 케이스 수에 따라 DOM 크기와 엔티티 생성량이 함께 커진다. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC"})
+@State(Scope.Benchmark)
+public class JunitXmlParserBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  public int cases;
+
+  private final JunitXmlParserService parser = new JunitXmlParserService();
+  private byte[] xml;
+  private User user;
+
+  @Setup
+  public void setUp() {
+    xml = BenchmarkData.junitXml(cases);
+    user = new User();
+    user.setId("bench-user");
+    user.setUsername("bench");
+  }
+
+  @Benchmark
+  public JunitTestResult parse() throws Exception {
+    return parser.parseJunitXml(
+        new ByteArrayInputStream(xml), "TEST-bench.xml", BenchmarkData.PROJECT_ID, user);
+  }
+}
@@ -0,0 +1,72 @@
+package com.testcase.testcasemanagement.benchmark;
+
+import com.testcase.testcasemanagement.util.JwtTokenUtil;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 인증 필터가 요청마다 하는 토큰 검증 (마이크로)
+ *
+ * <p>{@code validateToken} 은 사용자명·만료·서명을 따로 확인하면서 토큰을 여러 번 파싱한다. 서명 검증 한 번({@link
+ * #isSignatureValid})과 나란히 재면 중복 파싱 비용이 드러난다. 필터는 요청 스레드마다 동시에 돌므로 4 스레드로 잰다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m", "-XX:+UseG1GC"})
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+  private JwtTokenUtil jwtTokenUtil;
+  private UserDetails userDetails;
+  private String accessToken;
+  private String tamperedToken;
+
+  @Setup
+  public void setUp() {
+    byte[] secret = new byte[64];
+    new Random(BenchmarkData.SEED).nextBytes(secret);
+    jwtTokenUtil = new JwtTokenUtil();
+    BenchmarkData.setField(jwtTokenUtil, "secret", Base64.getEncoder().encodeToString(secret));
+    BenchmarkData.setField(jwtTokenUtil, "accessTokenExpiration", TimeUnit.HOURS.toMillis(1));
+    BenchmarkData.setField(jwtTokenUtil, "refreshTokenExpiration", TimeUnit.DAYS.toMillis(7));
+
+    userDetails = User.withUsername("bench").password("x").roles("USER").build();
+    accessToken = jwtTokenUtil.generateAccessToken(userDetails);
+    // 서명 중간 글자를 바꿔 서명 검증에서 떨어지는 토큰 (마지막 글자는 패딩 비트만 바뀔 수 있다)
+    int at = accessToken.length() - 10;
+    char flipped = accessToken.charAt(at) == 'A' ? 'B' : 'A';
+    tamperedToken = accessToken.substring(0, at) + flipped + accessToken.substring(at + 1);
+  }
+
+  @Benchmark
+  public Boolean validateToken() {
+    return jwtTokenUtil.validateToken(accessToken, userDetails);
+  }
+
+  @Benchmark
+  public boolean isSignatureValid() {
+    return jwtTokenUtil.isSignatureValid(accessToken);
+  }
+
+  @Benchmark
+  public boolean isSignatureValidTampered() {
+    return jwtTokenUtil.isSignatureValid(tamperedToken);
+  }
+}
@@ -0,0 +1,102 @@
+package com.testcase.testcasemanagement.benchmark;
+
+import com.testcase.testcasemanagement.dto.TestCaseDto;
+import com.testcase.testcasemanagement.mapper.TestCaseMapper;
+import com.testcase.testcasemanagement.model.TestCase;
+import com.testcase.testcasemanagement.repository.TestCaseRepository;
+import com.testcase.testcasemanagement.service.TestCaseService;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 트리 화면과 내보내기의 폴더 경로 조립
+ *
+ * <p>{@code buildFullFolderPath} 는 조상마다 {@code findById} 를 부른다. 저장소는 메모리 맵으로 대신하므로 여기서 재는 값은
+ * DB 왕복을 뺀 순수 CPU 비용이고, 호출 횟수는 {@link #folderPathsWithCache} 와 {@link
+ * #folderPathsWithoutCache} 의 차이로 드러난다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+@State(Scope.Benchmark)
+public class TestCaseTreeBenchmark {
+
+  @Param({"1000", "10000", "50000"})
+  public int nodes;
+
+  @Param({"8"})
+  public int fanOut;
+
+  private List<TestCase> entities;
+  private TestCaseService service;
+  private MethodHandle buildFullFolderPath;
+
+  @Setup
+  public void setUp() {
+    entities = BenchmarkData.testCaseTree(nodes, fanOut);
+    Map<String, TestCase> byId =
+        entities.stream().collect(Collectors.toMap(TestCase::getId, Function.identity()));
+    TestCaseRepository repository =
+        (TestCaseRepository)
+            Proxy.newProxyInstance(
+                TestCaseRepository.class.getClassLoader(),
+                new Class<?>[] {TestCaseRepository.class},
+                (proxy, method, args) -> {
+                  if (method.getName().equals("findById")) {
+                    return Optional.ofNullable(byId.get((String) args[0]));
+                  }
+                  throw new UnsupportedOperationException(method.getName());
+                });
+    service =
+        new TestCaseService(
+            repository, null, null, null, null, null, null, null, null, null, null, null);
+    buildFullFolderPath =
+        BenchmarkData.privateMethod(
+            TestCaseService.class,
+            "buildFullFolderPath",
+            MethodType.methodType(String.class, String.class, Map.class));
+  }
+
+  @Benchmark
+  public List<TestCaseDto> toTreeDtoList() {
+    return TestCaseMapper.toTreeDtoList(entities);
+  }
+
+  /** 목록 전체의 경로를 한 캐시로 조립 (getAllTestCasesWithParentName 경로) */
+  @Benchmark
+  public void folderPathsWithCache(Blackhole bh) throws Throwable {
+    Map<String, String> cache = new HashMap<>();
+    for (TestCase tc : entities) {
+      bh.consume((String) buildFullFolderPath.invoke(service, tc.getParentId(), cache));
+    }
+  }
+
+  @Benchmark
+  public void folderPathsWithoutCache(Blackhole bh) throws Throwable {
+    for (TestCase tc : entities) {
+      bh.consume((String) buildFullFolderPath.invoke(service, tc.getParentId(), null));
+    }
+  }
+}
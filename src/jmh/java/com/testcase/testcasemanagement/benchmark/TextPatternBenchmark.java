@@ -0,0 +1,72 @@
+package com.testcase.testcasemanagement.benchmark;
+
+import com.testcase.testcasemanagement.service.rag.RagSqlExecutor;
+import com.testcase.testcasemanagement.util.JiraKeyUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 요청마다 도는 정규식 검사 (마이크로)
+ *
+ * <p>입력 길이를 키워 정규식이 길이에 선형인지 본다. {@code isSafeSelect} 는 통과 문장(모든 검사를 거침)과 마지막 단계에서 거절되는 문장을
+ * 함께 재서 최악 경로를 놓치지 않는다. 거절 시 남기는 WARN 로그도 실제 비용이므로 그대로 둔다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m", "-XX:+UseG1GC"})
+@State(Scope.Benchmark)
+public class TextPatternBenchmark {
+
+  /** JIRA 입력 토큰 수이자 SQL 조인 수의 배수 */
+  @Param({"10", "100", "1000"})
+  public int size;
+
+  private String jiraInput;
+  private String safeSql;
+  private String unsafeSql;
+  private RagSqlExecutor executor;
+  private MethodHandle isSafeSelect;
+
+  @Setup
+  public void setUp() {
+    jiraInput = BenchmarkData.jiraInput(size);
+    int joins = Math.max(1, size / 10);
+    safeSql = BenchmarkData.ragSql(joins, true);
+    unsafeSql = BenchmarkData.ragSql(joins, false);
+    executor = new RagSqlExecutor(null, null);
+    isSafeSelect =
+        BenchmarkData.privateMethod(
+            RagSqlExecutor.class,
+            "isSafeSelect",
+            MethodType.methodType(boolean.class, String.class, String.class));
+  }
+
+  @Benchmark
+  public String extractJiraKeys() {
+    return JiraKeyUtils.extractJiraKeys(jiraInput);
+  }
+
+  @Benchmark
+  public boolean isSafeSelectAccepted() throws Throwable {
+    return (boolean) isSafeSelect.invoke(executor, safeSql, BenchmarkData.PROJECT_ID);
+  }
+
+  @Benchmark
+  public boolean isSafeSelectRejected() throws Throwable {
+    return (boolean) isSafeSelect.invoke(executor, unsafeSql, BenchmarkData.PROJECT_ID);
+  }
+}
@@ -0,0 +1,27 @@
+package com.testcase.testcasemanagement.actuator;
+
+import com.testcase.testcasemanagement.config.SqlTracingListener;
+import com.testcase.testcasemanagement.config.SqlTracingListener.SlowQuery;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/** 최근 느린 SQL 을 노출하는 커스텀 Actuator 엔드포인트. 바인드 값은 가려져 있다. */
+@Component
+@Endpoint(id = "slowsql")
+public class SlowSqlEndpoint {
+
+  private final ObjectProvider<SqlTracingListener> sqlTracingListener;
+
+  public SlowSqlEndpoint(ObjectProvider<SqlTracingListener> sqlTracingListener) {
+    this.sqlTracingListener = sqlTracingListener;
+  }
+
+  @ReadOperation
+  public List<SlowQuery> slowQueries() {
+    SqlTracingListener listener = sqlTracingListener.getIfAvailable();
+    return listener != null ? listener.recentSlowQueries() : List.of();
+  }
+}
@@ -5,6 +5,7 @@ import com.testcase.testcasemanagement.model.AuditLog;
 import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.repository.AuditLogRepository;
 import com.testcase.testcasemanagement.repository.UserRepository;
+import com.testcase.testcasemanagement.service.TimePartitionManager;
 import com.testcase.testcasemanagement.util.SecurityContextUtil;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -27,6 +28,8 @@ public class AuditService {
 
   @Autowired private SecurityContextUtil securityContextUtil;
 
+  @Autowired private TimePartitionManager timePartitionManager;
+
   /**
    * 감사 로그 자동 기록
    *
@@ -157,4 +160,23 @@ public class AuditService {
       logAction(entityType, entityId, action, "Details conversion failed");
     }
   }
+
+  /**
+   * cutoff 이전 감사 로그 삭제 (보존 스케줄러용)
+   *
+   * <p>파티션 테이블이면 지난 달 파티션을 통째로 버리고 경계 달만 벌크 DELETE 로 지운다.
+   *
+   * @return 삭제한 행 수 (파티션 삭제분은 통계 추정치)
+   */
+  @Transactional
+  public long purgeLogsBefore(LocalDateTime cutoffDate) {
+    long dropped =
+        timePartitionManager.dropPartitionsBefore(
+            TimePartitionManager.PartitionedTable.AUDIT_LOGS, cutoffDate.toLocalDate());
+    long count = dropped + auditLogRepository.deleteOldLogs(cutoffDate);
+    if (count > 0) {
+      logger.info("오래된 감사 로그 {}건 정리 완료 (파티션 삭제 {}건)", count, dropped);
+    }
+    return count;
+  }
 }
@@ -20,6 +20,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
+  /** 인증된 서비스 API 키 ID. 주체는 모두 "service-account" 라서 키별 Rate Limit 은 이 속성으로 구분한다. */
+  public static final String API_KEY_ID_ATTRIBUTE =
+      ApiKeyAuthenticationFilter.class.getName() + ".KEY_ID";
+
   private final ServiceApiKeyRepository serviceApiKeyRepository;
 
   @Override
@@ -53,6 +57,7 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
                   );
 
           SecurityContextHolder.getContext().setAuthentication(authentication);
+          request.setAttribute(API_KEY_ID_ATTRIBUTE, serviceApiKey.getId());
           logger.debug("API Key authentication successful for: " + serviceApiKey.getName());
         } else {
           logger.debug("API Key is expired: " + serviceApiKey.getName());
@@ -3,20 +3,38 @@
 package com.testcase.testcasemanagement.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-/** ICT-200: 대량 파일 처리를 위한 비동기 설정 JUnit XML 파일의 백그라운드 처리를 위한 스레드 풀 구성 */
+/**
+ * ICT-200: 대량 파일 처리를 위한 비동기 설정 JUnit XML 파일의 백그라운드 처리를 위한 스레드 풀 구성
+ *
+ * <p>{@code spring.threads.virtual.enabled=true} 면 I/O 대기 위주 실행기(JUnit 처리, 일반, RAG)가 가상 스레드로
+ * 돈다. 일반(코어 4·최대 8·대기열 100)·RAG 컨텍스트(코어 8·최대 16·대기열 32) 풀의 한도는 짧은 I/O 대기 작업이 플랫폼
+ * 스레드를 붙잡는 비용 때문에 둔 것이라, 가상 스레드에서는 작업마다 스레드를 띄우는 {@link SimpleAsyncTaskExecutor} 로 바꾼다.
+ * 하위 시스템(메모리, RAG 서버)을 보호하던 JUnit 처리·RAG 벡터화 풀은 같은 스레드 수·대기열을 유지하고 작업 스레드만 가상
+ * 스레드로 만든다 — 한도에 닿아도 제출한 스레드(트랜잭션을 연 저장 요청 등)를 막지 않고 대기열에 쌓는다. CPU 작업인 묶음
+ * 파싱 풀은 그대로 둔다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
   /** JUnit 파일 처리용 전용 스레드 풀 대용량 파일 처리 시 메인 애플리케이션 스레드에 영향을 주지 않도록 분리 */
   @Bean("junitProcessingExecutor")
   public Executor junitProcessingExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    // 파일 하나를 통째로 메모리에 올리므로 가상 스레드여도 동시 처리 수는 최대 스레드 수로 묶는다
+    executor.setVirtualThreads(virtualThreads);
 
     // 기본 스레드 수 (CPU 코어 수의 1/2)
     executor.setCorePoolSize(Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
@@ -45,9 +63,41 @@ public class AsyncConfig {
     return executor;
   }
 
+  /**
+   * JUnit 묶음(zip, tar.gz) 항목 파싱용 스레드 풀
+   *
+   * <p>묶음 하나를 처리하는 작업은 {@code junitProcessingExecutor} 에서 돌고, 그 안의 XML 항목 파싱만 여기로
+   * 나눈다. 같은 풀을 쓰면 바깥 작업이 안쪽 작업을 기다리며 풀을 다 잡아 교착될 수 있다. DOM 파싱은 CPU 작업이라 코어 수만큼 두고, 대기열이 차면
+   * 항목을 읽던 스레드가 직접 파싱해 메모리에 올라가는 항목 수를 묶는다.
+   */
+  @Bean("junitArchiveParseExecutor")
+  public ThreadPoolTaskExecutor junitArchiveParseExecutor(
+      @Value("${junit.archive.parse-threads:0}") int parseThreads) {
+    int threads =
+        parseThreads > 0 ? parseThreads : Math.max(2, Runtime.getRuntime().availableProcessors());
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(threads * 2);
+    executor.setThreadNamePrefix("JunitArchiveParse-");
+    executor.setKeepAliveSeconds(60);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+
+    executor.initialize();
+
+    return executor;
+  }
+
   /** 일반적인 비동기 작업용 스레드 풀 가벼운 비동기 작업용 */
   @Bean("generalAsyncExecutor")
   public Executor generalAsyncExecutor() {
+    if (virtualThreads) {
+      return virtualExecutor("GeneralAsync-", 15_000L);
+    }
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
     executor.setCorePoolSize(4);
@@ -71,6 +121,8 @@ public class AsyncConfig {
   @Bean("ragVectorizationExecutor")
   public Executor ragVectorizationExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    // 일괄 저장 때 RAG 서버로 한꺼번에 몰리지 않도록 가상 스레드여도 최대 스레드 수만큼만 동시에 보낸다
+    executor.setVirtualThreads(virtualThreads);
 
     // RAG 작업은 I/O 집약적이므로 스레드 수를 적절히 설정
     // 대량 일괄 저장을 고려하여 Core 스레드 증가 (2 → 4)
@@ -87,4 +139,47 @@ public class AsyncConfig {
 
     return executor;
   }
+
+  /**
+   * RAG 채팅 컨텍스트 수집용 스레드 풀
+   *
+   * <p>답변 LLM 호출 전에 벡터 검색과 DB 조회를 동시에 돌린다. 모두 I/O 대기라 코어 수보다 넉넉히 둔다. 가득 차면 호출 스레드에서 바로 실행해 요청을
+   * 거부하지 않는다 — 병렬성만 줄어들 뿐 결과는 같다.
+   */
+  @Bean("ragContextExecutor")
+  public AsyncTaskExecutor ragContextExecutor() {
+    if (virtualThreads) {
+      // 채팅 요청마다 조회 몇 건이 전부라 한도를 두지 않는다
+      return virtualExecutor("RAGContext-", 0L);
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    executor.setCorePoolSize(8);
+    executor.setMaxPoolSize(16);
+    executor.setQueueCapacity(32);
+    executor.setThreadNamePrefix("RAGContext-");
+    executor.setKeepAliveSeconds(60);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+
+    executor.initialize();
+
+    return executor;
+  }
+
+  /**
+   * 작업마다 가상 스레드를 띄우는 한도 없는 실행기
+   *
+   * <p>{@code setConcurrencyLimit} 은 대기열 없이 제출 스레드를 막으므로 쓰지 않는다. 동시 실행을 묶어야 하는 실행기는 가상 스레드
+   * {@link ThreadPoolTaskExecutor} 로 만든다.
+   *
+   * @param terminationTimeoutMillis 종료 시 실행 중 작업을 기다릴 시간 (0 이면 기다리지 않음)
+   */
+  static SimpleAsyncTaskExecutor virtualExecutor(
+      String threadNamePrefix, long terminationTimeoutMillis) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+    executor.setVirtualThreads(true);
+    executor.setTaskTerminationTimeout(terminationTimeoutMillis);
+    return executor;
+  }
 }
@@ -2,6 +2,7 @@
 
 package com.testcase.testcasemanagement.config;
 
+import com.testcase.testcasemanagement.filter.ApiRateLimitFilter;
 import com.testcase.testcasemanagement.filter.RateLimiterFilter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -30,4 +31,17 @@ public class FilterConfig {
 
     return registration;
   }
+
+  /**
+   * API Rate Limit 필터는 서블릿 필터로 등록하지 않는다. 인증 결과(사용자·API 키)를 봐야 하므로 {@link SecurityConfig} 가 Security 체인의
+   * 인증 필터 뒤에 넣는다.
+   */
+  @Bean
+  public FilterRegistrationBean<ApiRateLimitFilter> apiRateLimitFilterRegistration(
+      ApiRateLimitFilter apiRateLimitFilter) {
+    FilterRegistrationBean<ApiRateLimitFilter> registration =
+        new FilterRegistrationBean<>(apiRateLimitFilter);
+    registration.setEnabled(false);
+    return registration;
+  }
 }
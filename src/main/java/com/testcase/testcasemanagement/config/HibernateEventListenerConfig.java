@@ -0,0 +1,48 @@
+package com.testcase.testcasemanagement.config;
+
+import com.testcase.testcasemanagement.service.ProjectChangeListener;
+import com.testcase.testcasemanagement.service.TestResultLatestListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 계층의 Hibernate 이벤트 리스너 등록
+ *
+ * <p>엔티티에 {@code @EntityListeners} 로 서비스 클래스를 걸면 모델 패키지가 서비스 패키지에 묶인다. 여기서 세션 팩토리의 이벤트 레지스트리에
+ * 직접 붙여 엔티티는 리스너를 모르게 둔다.
+ */
+@Configuration
+public class HibernateEventListenerConfig {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final ProjectChangeListener projectChangeListener;
+  private final TestResultLatestListener testResultLatestListener;
+
+  public HibernateEventListenerConfig(
+      EntityManagerFactory entityManagerFactory,
+      ProjectChangeListener projectChangeListener,
+      TestResultLatestListener testResultLatestListener) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.projectChangeListener = projectChangeListener;
+    this.testResultLatestListener = testResultLatestListener;
+  }
+
+  @PostConstruct
+  void registerListeners() {
+    EventListenerRegistry registry =
+        entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+    registry.appendListeners(
+        EventType.POST_INSERT, projectChangeListener, testResultLatestListener);
+    registry.appendListeners(
+        EventType.POST_UPDATE, projectChangeListener, testResultLatestListener);
+    registry.appendListeners(
+        EventType.POST_DELETE, projectChangeListener, testResultLatestListener);
+  }
+}
@@ -0,0 +1,79 @@
+package com.testcase.testcasemanagement.config;
+
+import java.net.URI;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.client5.http.routing.RoutingSupport;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.pool.StrictConnPool;
+import org.apache.hc.core5.util.TimeValue;
+
+/**
+ * JIRA 커넥션 풀 — 서버(호스트) 하나의 유휴 커넥션만 닫을 수 있다
+ *
+ * <p>{@link PoolingHttpClientConnectionManager} 는 유휴 정리를 풀 전체 단위로만 열어 두어, 한 서버 설정을 바꿀 때 다른 서버로 쓰던
+ * keep-alive 커넥션까지 닫혔다. 풀을 직접 만들어 넘기고 그 풀의 유휴 항목을 라우트 대상 호스트로 골라 닫는다.
+ */
+public class JiraHttpConnectionManager extends PoolingHttpClientConnectionManager {
+
+  private final StrictConnPool<HttpRoute, ManagedHttpClientConnection> pool;
+
+  private JiraHttpConnectionManager(
+      TlsSocketStrategy tlsStrategy,
+      StrictConnPool<HttpRoute, ManagedHttpClientConnection> pool,
+      HttpConnectionFactory<ManagedHttpClientConnection> connectionFactory) {
+    super(
+        new DefaultHttpClientConnectionOperator(
+            null,
+            null,
+            RegistryBuilder.<TlsSocketStrategy>create()
+                .register(URIScheme.HTTPS.id, tlsStrategy)
+                .build()),
+        pool,
+        connectionFactory);
+    this.pool = pool;
+  }
+
+  /** 빌더 기본값(LIFO 재사용, 수명 제한 없음)과 같은 풀로 만든다 */
+  public static JiraHttpConnectionManager create(
+      TlsSocketStrategy tlsStrategy,
+      HttpConnectionFactory<ManagedHttpClientConnection> connectionFactory,
+      int maxTotal,
+      int maxPerRoute) {
+    StrictConnPool<HttpRoute, ManagedHttpClientConnection> pool =
+        new StrictConnPool<>(
+            maxPerRoute, maxTotal, TimeValue.NEG_ONE_MILLISECOND, PoolReusePolicy.LIFO, null);
+    return new JiraHttpConnectionManager(tlsStrategy, pool, connectionFactory);
+  }
+
+  /**
+   * 서버 URL 의 호스트로 가는 유휴 커넥션만 닫는다. 사용 중인 커넥션은 건드리지 않는다.
+   *
+   * @return 닫은 커넥션 수
+   */
+  public int closeIdle(String serverUrl) {
+    HttpHost target = normalize(HttpHost.create(URI.create(serverUrl)));
+    int[] closed = {0};
+    pool.enumAvailable(
+        entry -> {
+          if (target.equals(normalize(entry.getRoute().getTargetHost()))) {
+            entry.discardConnection(CloseMode.GRACEFUL);
+            closed[0]++;
+          }
+        });
+    return closed[0];
+  }
+
+  private static HttpHost normalize(HttpHost host) {
+    return RoutingSupport.normalize(host, DefaultSchemePortResolver.INSTANCE);
+  }
+}
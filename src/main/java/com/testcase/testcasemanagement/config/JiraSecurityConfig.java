@@ -1,20 +1,34 @@
 package com.testcase.testcasemanagement.config;
 
 import jakarta.annotation.PostConstruct;
-import java.net.HttpURLConnection;
+import java.io.IOException;
+import java.net.Socket;
 import java.net.URL;
 import java.security.cert.X509Certificate;
-import javax.net.ssl.HttpsURLConnection;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /** JIRA 통신 보안 설정 ICT-165: JIRA 통합 시스템 보안 강화 */
@@ -34,6 +48,22 @@ public class JiraSecurityConfig {
   @Value("${jira.connection.read-timeout:60000}")
   private int readTimeout;
 
+  @Value("${jira.connection-pool.max-connections:20}")
+  private int poolMaxConnections;
+
+  @Value("${jira.connection-pool.max-per-route:10}")
+  private int poolMaxPerRoute;
+
+  @Value("${jira.connection-pool.idle-timeout:300000}") // 5분
+  private long poolIdleTimeout;
+
+  // 풀이 꽉 찼을 때 커넥션을 기다리는 최대 시간
+  @Value("${jira.connection-pool.acquire-timeout:10000}")
+  private long poolAcquireTimeout;
+
+  private final AtomicLong connectionsOpened = new AtomicLong();
+  private final AtomicLong requestsExecuted = new AtomicLong();
+
   private final Environment environment;
   private boolean prodProfileActive;
 
@@ -69,54 +99,110 @@ public class JiraSecurityConfig {
     return restTemplate;
   }
 
-  /** JIRA 전용 HTTP 클라이언트 팩토리 */
+  /** JIRA 전용 HTTP 클라이언트 팩토리 (커넥션 풀 HTTP 클라이언트 위에서 동작) */
   @Bean
   public ClientHttpRequestFactory jiraClientHttpRequestFactory() {
-    SimpleClientHttpRequestFactory factory =
-        new SimpleClientHttpRequestFactory() {
-          @Override
-          protected void prepareConnection(HttpURLConnection connection, String httpMethod)
-              throws java.io.IOException {
-            super.prepareConnection(connection, httpMethod);
-
-            // SSRF 방어: 리다이렉트 자동 추종 차단. normalizeServerUrl 의 대상검증(#81)을 통과한 공개 URL 이
-            // 302 로 사설/링크로컬(169.254.169.254 메타데이터)로 재유도하는 우회를 막는다. 리다이렉트가 필요한
-            // 정상 Jira 는 없다. (DNS 리바인딩 TOCTOU 의 근본 방어인 SSRF-aware 소켓팩토리/이그레스 프록시는 후속 과제)
-            connection.setInstanceFollowRedirects(false);
-
-            // HTTPS 강제 적용
-            if (httpsEnforce && connection instanceof HttpsURLConnection) {
-              HttpsURLConnection httpsConnection = (HttpsURLConnection) connection;
-
-              if (isSslBypassAllowed()) {
-                // 개발/테스트 환경에서만 사용 (운영 프로파일에서는 isSslBypassAllowed 가 false → 진입 불가)
-                log.warn("SSL 인증서 검증을 건너뜁니다. 운영 환경에서는 권장하지 않습니다.");
-                configureSslBypass(httpsConnection);
-              } else {
-                // 운영 환경 권장 설정
-                configureSecureHttps(httpsConnection);
+    return new HttpComponentsClientHttpRequestFactory(jiraHttpClient());
+  }
+
+  /**
+   * JIRA 아웃바운드 HTTP 클라이언트
+   *
+   * <p>커넥션은 {@link #jiraHttpConnectionManager} 풀에서 빌려 keep-alive 로 재사용한다. 같은 Jira Cloud 에 배치로 상태를
+   * 갱신할 때 요청마다 TCP·TLS 핸드셰이크를 다시 하지 않는다.
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient jiraHttpClient() {
+    return HttpClients.custom()
+        .setConnectionManager(jiraHttpConnectionManager())
+        // SSRF 방어: 리다이렉트 자동 추종 차단. normalizeServerUrl 의 대상검증(#81)을 통과한 공개 URL 이
+        // 302 로 사설/링크로컬(169.254.169.254 메타데이터)로 재유도하는 우회를 막는다. 리다이렉트가 필요한
+        // 정상 Jira 는 없다. (DNS 리바인딩 TOCTOU 의 근본 방어인 SSRF-aware 소켓팩토리/이그레스 프록시는 후속 과제)
+        .disableRedirectHandling()
+        .setDefaultRequestConfig(
+            RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeout))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                .build())
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.ofMilliseconds(poolIdleTimeout))
+        .addRequestInterceptorFirst(
+            (request, entity, context) -> {
+              requestsExecuted.incrementAndGet();
+              // URL이 HTTP인 경우 경고
+              if (httpsEnforce && "http".equalsIgnoreCase(request.getScheme())) {
+                log.warn("HTTP 연결이 감지되었습니다. HTTPS 사용을 권장합니다: {}", request.getAuthority());
               }
-            }
+            })
+        .build();
+  }
 
-            // URL이 HTTP인 경우 경고
-            String urlString = connection.getURL().toString();
-            if (httpsEnforce && urlString.startsWith("http://")) {
-              log.warn("HTTP 연결이 감지되었습니다. HTTPS 사용을 권장합니다: {}", urlString);
-            }
+  /**
+   * JIRA 커넥션 풀
+   *
+   * <p>라우트(호스트)별·전체 최대 커넥션 수를 두고, 유휴 커넥션은 클라이언트가 정리한다. 서버 하나만 정리할 때는 {@link
+   * JiraHttpConnectionManager#closeIdle(String)} 을 쓴다. TLS 설정은 풀 전체가 SSLContext 하나를 공유하므로 같은
+   * 호스트로 새 커넥션을 열 때도 세션 재개로 전체 핸드셰이크를 피한다.
+   */
+  @Bean(destroyMethod = "close")
+  public JiraHttpConnectionManager jiraHttpConnectionManager() {
+    HttpConnectionFactory<ManagedHttpClientConnection> connectionFactory =
+        new HttpConnectionFactory<>() {
+          @Override
+          public ManagedHttpClientConnection createConnection(Socket socket) throws IOException {
+            connectionsOpened.incrementAndGet();
+            return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+          }
+
+          @Override
+          public ManagedHttpClientConnection createConnection(SSLSocket sslSocket, Socket socket)
+              throws IOException {
+            connectionsOpened.incrementAndGet();
+            return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(sslSocket, socket);
           }
         };
 
-    // 타임아웃 설정
-    factory.setConnectTimeout(connectionTimeout);
-    factory.setReadTimeout(readTimeout);
+    JiraHttpConnectionManager manager =
+        JiraHttpConnectionManager.create(
+            createTlsStrategy(), connectionFactory, poolMaxConnections, poolMaxPerRoute);
+    manager.setDefaultConnectionConfig(
+        ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(connectionTimeout))
+            .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+            // 오래 쉬었던 커넥션은 빌려주기 전에 살아 있는지 확인한다 (서버가 먼저 끊은 경우)
+            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+            .build());
+    return manager;
+  }
+
+  /** 이 클라이언트가 새로 연 커넥션 수 (재사용률 계산용) */
+  public long getConnectionsOpened() {
+    return connectionsOpened.get();
+  }
 
-    return factory;
+  /** 이 클라이언트로 나간 요청 수 */
+  public long getRequestsExecuted() {
+    return requestsExecuted.get();
   }
 
-  /** SSL 검증 우회 설정 (개발/테스트 환경용) */
-  private void configureSslBypass(HttpsURLConnection connection) {
+  private TlsSocketStrategy createTlsStrategy() {
+    if (isSslBypassAllowed()) {
+      // 개발/테스트 환경에서만 사용 (운영 프로파일에서는 init 이 강한 경고를 남긴다)
+      log.warn("SSL 인증서 검증을 건너뜁니다. 운영 환경에서는 권장하지 않습니다.");
+      return new DefaultClientTlsStrategy(
+          createTrustAllSslContext(), NoopHostnameVerifier.INSTANCE);
+    }
+    try {
+      // 기본 SSL 컨텍스트 사용 (시스템 인증서 저장소 기반) + 호스트명 검증
+      return new DefaultClientTlsStrategy(SSLContext.getDefault());
+    } catch (Exception e) {
+      throw new IllegalStateException("JIRA HTTPS 설정 중 오류 발생", e);
+    }
+  }
+
+  /** 모든 인증서를 신뢰하는 SSLContext (개발/테스트 환경용) */
+  private SSLContext createTrustAllSslContext() {
     try {
-      // 모든 인증서를 신뢰하는 TrustManager 생성
       TrustManager[] trustAllCerts =
           new TrustManager[] {
             new X509TrustManager() {
@@ -134,29 +220,11 @@ public class JiraSecurityConfig {
             }
           };
 
-      SSLContext sslContext = SSLContext.getInstance("SSL");
+      SSLContext sslContext = SSLContext.getInstance("TLS");
       sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-
-      connection.setSSLSocketFactory(sslContext.getSocketFactory());
-      connection.setHostnameVerifier((hostname, session) -> true);
-
-    } catch (Exception e) {
-      log.error("SSL 설정 중 오류 발생", e);
-    }
-  }
-
-  /** 보안 HTTPS 연결 설정 (운영 환경용) */
-  private void configureSecureHttps(HttpsURLConnection connection) {
-    try {
-      // 기본 SSL 컨텍스트 사용 (시스템 인증서 저장소 기반)
-      SSLContext sslContext = SSLContext.getDefault();
-      connection.setSSLSocketFactory(sslContext.getSocketFactory());
-
-      // 호스트명 검증 활성화
-      connection.setHostnameVerifier(HttpsURLConnection.getDefaultHostnameVerifier());
-
+      return sslContext;
     } catch (Exception e) {
-      log.error("보안 HTTPS 설정 중 오류 발생", e);
+      throw new IllegalStateException("SSL 설정 중 오류 발생", e);
     }
   }
 
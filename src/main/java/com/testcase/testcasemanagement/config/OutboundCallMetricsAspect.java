@@ -0,0 +1,104 @@
+package com.testcase.testcasemanagement.config;
+
+import com.testcase.testcasemanagement.exception.OutboundUnavailableException;
+import com.testcase.testcasemanagement.service.llm.LlmClient;
+import com.testcase.testcasemanagement.service.outbound.OutboundBulkheads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 시스템 호출 타이머 + 격리
+ *
+ * <p>Jira({@code RestTemplate}), RAG·LLM({@code WebClient.block()}), MinIO 는 각자 다른 클라이언트를 직접 만들어 써서
+ * Boot 의 {@code http.client.requests} 계측이 붙지 않는다. 대신 호출을 감싼 서비스 메서드를 {@code outbound.calls} 타이머로 잰다. 태그는
+ * {@code system}(jira/rag/llm/minio), {@code operation}(메서드 이름, LLM 은 {@code 제공자.메서드}), {@code
+ * outcome}(success/error/rejected). 같은 빈 안에서 부르는 메서드는 프록시를 지나지 않아 바깥 호출에 합쳐진다.
+ *
+ * <p>같은 자리에서 {@link OutboundBulkheads} 의 시스템별 회로 차단기·동시 호출 한도를 건다. 거절된 호출은 {@code outcome=rejected}
+ * 로 남는다. 외부 호출이 없는 도우미 메서드({@link #LOCAL_OPERATIONS})는 격리하지 않는다 — 회로가 열렸다고 이슈 키 검사까지 막으면 안 된다.
+ * 몇 분씩 폴링하는 흐름({@link #ORCHESTRATIONS})도 통째로 감싸지 않는다. 자리를 흐름 내내 쥐면 배경 벡터화 몇 개가 한도를 다 차지해
+ * 검색이 거절되므로, 그 안의 HTTP 호출이 하나씩 자리를 잡는다.
+ */
+@Aspect
+@Component
+public class OutboundCallMetricsAspect {
+
+  static final String METRIC_NAME = "outbound.calls";
+
+  /** 감싸는 서비스의 public 메서드 중 외부 호출이 없는 것 */
+  static final Set<String> LOCAL_OPERATIONS =
+      Set.of(
+          "generateTestResultComment",
+          "generateIssueUrl",
+          "isValidIssueKey",
+          "invalidateDocumentListCache");
+
+  /** 여러 호출과 대기를 묶은 긴 흐름. 안쪽 호출마다 {@link OutboundBulkheads} 를 직접 지난다 */
+  static final Set<String> ORCHESTRATIONS = Set.of("vectorizeTestCase", "analyzeDocumentWithLlm");
+
+  private final MeterRegistry meterRegistry;
+  private final OutboundBulkheads bulkheads;
+
+  public OutboundCallMetricsAspect(MeterRegistry meterRegistry, OutboundBulkheads bulkheads) {
+    this.meterRegistry = meterRegistry;
+    this.bulkheads = bulkheads;
+  }
+
+  @Around("execution(public * com.testcase.testcasemanagement.service.JiraApiService.*(..))")
+  public Object jira(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("jira", joinPoint.getSignature().getName(), joinPoint);
+  }
+
+  @Around("execution(public * com.testcase.testcasemanagement.service.RagServiceImpl.*(..))")
+  public Object rag(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("rag", joinPoint.getSignature().getName(), joinPoint);
+  }
+
+  @Around("execution(public * com.testcase.testcasemanagement.service.MinIOService.*(..))")
+  public Object minio(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("minio", joinPoint.getSignature().getName(), joinPoint);
+  }
+
+  @Around("execution(* com.testcase.testcasemanagement.service.llm.LlmClient+.chat*(..))")
+  public Object llm(ProceedingJoinPoint joinPoint) throws Throwable {
+    String operation = joinPoint.getSignature().getName();
+    if (joinPoint.getTarget() instanceof LlmClient client) {
+      operation = client.getSupportedProvider().name().toLowerCase(Locale.ROOT) + "." + operation;
+    }
+    return time("llm", operation, joinPoint);
+  }
+
+  private Object time(String system, String operation, ProceedingJoinPoint joinPoint)
+      throws Throwable {
+    long start = System.nanoTime();
+    String outcome = "success";
+    try {
+      if (LOCAL_OPERATIONS.contains(operation) || ORCHESTRATIONS.contains(operation)) {
+        return joinPoint.proceed();
+      }
+      return bulkheads.guard(system).call(joinPoint::proceed);
+    } catch (OutboundUnavailableException e) {
+      // 안쪽에서 다른 시스템이 거절했으면 이 호출은 그 때문에 실패한 것이다
+      outcome = system.equals(e.getSystem()) ? "rejected" : "error";
+      throw e;
+    } catch (Throwable e) {
+      outcome = "error";
+      throw e;
+    } finally {
+      Timer.builder(METRIC_NAME)
+          .description("Outbound calls to Jira, RAG, LLM providers and MinIO")
+          .tag("system", system)
+          .tag("operation", operation)
+          .tag("outcome", outcome)
+          .register(meterRegistry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+}
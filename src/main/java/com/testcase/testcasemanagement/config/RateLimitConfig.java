@@ -0,0 +1,35 @@
+package com.testcase.testcasemanagement.config;
+
+import com.testcase.testcasemanagement.filter.ratelimit.JdbcRateLimitBackend;
+import com.testcase.testcasemanagement.filter.ratelimit.LocalRateLimitBackend;
+import com.testcase.testcasemanagement.filter.ratelimit.RateLimitBackend;
+import java.time.Clock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * API Rate Limit 버킷 저장소 설정
+ *
+ * <p>기본은 인스턴스 메모리다. 여러 인스턴스가 함께 한도를 지켜야 하면 {@code app.ratelimit.api.backend=jdbc} 로 DB 테이블을 쓴다.
+ * 이 경우 허용 판정마다 UPSERT 한 번이 들고, 거절된 클라이언트는 다시 허용될 때까지 DB 를 보지 않는다.
+ */
+@Slf4j
+@Configuration
+public class RateLimitConfig {
+
+  @Bean
+  public RateLimitBackend apiRateLimitBackend(
+      @Value("${app.ratelimit.api.backend:local}") String backend,
+      @Value("${app.ratelimit.api.max-tracked-keys:100000}") int maxTrackedKeys,
+      JdbcTemplate jdbcTemplate,
+      Clock clock) {
+    if ("jdbc".equalsIgnoreCase(backend)) {
+      log.info("API Rate Limit 저장소: DB 공유 (rate_limit_buckets)");
+      return new JdbcRateLimitBackend(jdbcTemplate, clock);
+    }
+    return new LocalRateLimitBackend(maxTrackedKeys);
+  }
+}
@@ -0,0 +1,130 @@
+package com.testcase.testcasemanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 읽기 복제본 라우팅 ({@code app.read-replica.enabled=true})
+ *
+ * <p>켜면 Boot 의 DataSource 자동 구성 대신 {@link ReadReplicaRouter} 가 주 DB 풀({@code spring.datasource.*},
+ * {@code spring.datasource.hikari.*} 그대로)과 복제본 풀을 만든다. 복제본 풀 크기는 {@code app.read-replica.pool.*} 로 따로 잡는다.
+ * 리포트·대시보드처럼 {@code @Transactional(readOnly = true)} 로 도는 읽기가 복제본으로 간다.
+ *
+ * <p>OSIV 가 켜져 있으면 Hibernate 는 첫 트랜잭션에서 얻은 커넥션을 요청 끝까지 쥔다. 그러면 읽기 전용 트랜잭션이 먼저 잡은 복제본 커넥션으로
+ * 같은 요청의 쓰기가 나가므로, 커넥션을 트랜잭션마다 놓도록 바꾼다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.read-replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+  /** 복구 중(복제본)이면 마지막 재생 시각과의 차이, 받은 WAL 을 다 재생했으면 0. 주 DB 에 연결되면 0. */
+  static final String POSTGRES_LAG_QUERY =
+      "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0"
+          + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+          + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+  private final ObjectProvider<ReadReplicaRouter> router;
+
+  public ReadReplicaDataSourceConfig(ObjectProvider<ReadReplicaRouter> router) {
+    this.router = router;
+  }
+
+  @Bean(destroyMethod = "close")
+  public ReadReplicaRouter readReplicaRouter(
+      DataSourceProperties properties,
+      Environment environment,
+      MeterRegistry meterRegistry,
+      @Value("${app.read-replica.urls}") List<String> urls,
+      @Value("${app.read-replica.username:}") String username,
+      @Value("${app.read-replica.password:}") String password,
+      @Value("${app.read-replica.pool.maximum-size:10}") int maximumPoolSize,
+      @Value("${app.read-replica.pool.minimum-idle:2}") int minimumIdle,
+      @Value("${app.read-replica.pool.connection-timeout:3s}") Duration connectionTimeout,
+      @Value("${app.read-replica.max-lag:5s}") Duration maxLag,
+      @Value("${app.read-replica.read-your-writes:5s}") Duration readYourWrites,
+      @Value("${app.read-replica.lag-query:}") String lagQuery) {
+    HikariDataSource primary =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    List<String> jdbcUrls = urls.stream().map(String::trim).filter(u -> !u.isEmpty()).toList();
+    for (int i = 0; i < jdbcUrls.size(); i++) {
+      HikariDataSource replica = new HikariDataSource();
+      replica.setPoolName("replica-" + (i + 1));
+      replica.setJdbcUrl(jdbcUrls.get(i));
+      replica.setUsername(username.isBlank() ? properties.determineUsername() : username);
+      replica.setPassword(password.isBlank() ? properties.determinePassword() : password);
+      replica.setDriverClassName(properties.determineDriverClassName());
+      replica.setMaximumPoolSize(maximumPoolSize);
+      replica.setMinimumIdle(minimumIdle);
+      // 복제본이 죽었을 때 기본 30초를 기다리지 않고 곧장 주 DB 로 넘어가게 짧게 둔다
+      replica.setConnectionTimeout(connectionTimeout.toMillis());
+      // 복제본이 기동 시 내려가 있어도 앱은 떠야 한다 — 점검이 회복을 잡는다
+      replica.setInitializationFailTimeout(-1);
+      replica.setReadOnly(true);
+      replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+      replicas.put(replica.getPoolName(), replica);
+    }
+
+    String query = lagQuery.isBlank() ? POSTGRES_LAG_QUERY : lagQuery;
+    return new ReadReplicaRouter(
+        primary, replicas, maxLag, readYourWrites, query, meterRegistry, Clock.systemUTC());
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadReplicaRouter readReplicaRouter) {
+    return readReplicaRouter.dataSource();
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer readReplicaConnectionHandling() {
+    return props ->
+        props.put(
+            AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+  }
+
+  /** 쓰기 트랜잭션 커밋을 사용자별로 기록해 읽은 뒤 쓰기 일관성(read-your-writes)을 맞춘다. */
+  @Bean
+  public TransactionExecutionListener readReplicaWriteTracker(
+      ReadReplicaRouter readReplicaRouter) {
+    return new TransactionExecutionListener() {
+      @Override
+      public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+          readReplicaRouter.markWrite();
+        }
+      }
+    };
+  }
+
+  @Scheduled(fixedDelayString = "${app.read-replica.lag-check-interval:5s}")
+  public void refreshReplicaLag() {
+    router.getObject().refreshLag();
+  }
+}
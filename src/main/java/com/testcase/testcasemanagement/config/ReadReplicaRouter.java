@@ -0,0 +1,238 @@
+package com.testcase.testcasemanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 읽기 전용 트랜잭션을 읽기 복제본으로 보내는 라우터
+ *
+ * <p>{@link #dataSource()} 는 주 DB 를 감싼 {@link LazyConnectionDataSourceProxy} 다. 트랜잭션 매니저가 커넥션을 실제로
+ * 쓰기 전에 {@code setReadOnly(true)} 를 부르면({@code @Transactional(readOnly = true)}) 복제본 쪽 커넥션을 받는다.
+ * 복제본은 차례로 돌려 쓰고, 아래 경우에는 주 DB 로 보낸다.
+ *
+ * <ul>
+ *   <li>지연이 {@code maxLag} 를 넘었거나 지연 조회가 실패한 복제본은 다음 점검에서 회복할 때까지 뺀다. 다 빠지면 주 DB.
+ *   <li>복제본 커넥션을 얻지 못하면 그 복제본을 빼고 주 DB 커넥션을 준다.
+ *   <li>사용자가 쓰기 트랜잭션을 커밋한 뒤 {@code readYourWrites} 동안은 그 사용자의 읽기를 주 DB 로 보내, 방금 저장한 값이 복제 지연 때문에
+ *       사라져 보이지 않게 한다.
+ * </ul>
+ */
+@Slf4j
+public class ReadReplicaRouter implements Closeable {
+
+  /** 복제본 하나. 지연은 점검 스레드가 쓰고 요청 스레드가 읽는다. */
+  static final class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile double lagSeconds;
+
+    Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    String name() {
+      return name;
+    }
+
+    boolean healthy() {
+      return healthy;
+    }
+  }
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final Duration maxLag;
+  private final Duration readYourWrites;
+  private final String lagQuery;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+
+  private final AtomicInteger next = new AtomicInteger();
+  private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+  private final Map<String, Counter> readCounters = new ConcurrentHashMap<>();
+
+  public ReadReplicaRouter(
+      DataSource primary,
+      Map<String, DataSource> replicas,
+      Duration maxLag,
+      Duration readYourWrites,
+      String lagQuery,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.primary = primary;
+    this.replicas =
+        replicas.entrySet().stream().map(e -> new Replica(e.getKey(), e.getValue())).toList();
+    this.maxLag = maxLag;
+    this.readYourWrites = readYourWrites;
+    this.lagQuery = lagQuery;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    for (Replica replica : this.replicas) {
+      Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+          .description("Replication lag of a read replica (last check)")
+          .baseUnit("seconds")
+          .tag("replica", replica.name)
+          .register(meterRegistry);
+      Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+          .description("1 when the replica receives read-only transactions")
+          .tag("replica", replica.name)
+          .register(meterRegistry);
+    }
+  }
+
+  /** 애플리케이션이 쓰는 DataSource. 읽기 전용 커넥션만 복제본으로 간다. */
+  public DataSource dataSource() {
+    LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+    proxy.setReadOnlyDataSource(new ReadOnlyDataSource());
+    return proxy;
+  }
+
+  /** 현재 사용자가 쓰기를 커밋했다고 기록한다. 로그인하지 않은 호출은 무시한다. */
+  public void markWrite() {
+    if (readYourWrites.isZero()) {
+      return;
+    }
+    String user = currentUser();
+    if (user == null) {
+      return;
+    }
+    long now = clock.millis();
+    lastWriteAt.put(user, now);
+    // 오래된 기록은 쓸 때 같이 치운다. 창이 짧아 맵은 동시 작성자 수 정도로만 자란다.
+    if (lastWriteAt.size() > 1024) {
+      lastWriteAt.values().removeIf(at -> now - at > readYourWrites.toMillis());
+    }
+  }
+
+  /** 복제본마다 지연을 재고 라우팅 대상 여부를 갱신한다. */
+  public void refreshLag() {
+    for (Replica replica : replicas) {
+      try (Connection con = replica.dataSource.getConnection();
+          Statement st = con.createStatement();
+          ResultSet rs = st.executeQuery(lagQuery)) {
+        double lag = rs.next() ? rs.getDouble(1) : 0;
+        replica.lagSeconds = lag;
+        setHealthy(replica, lag <= maxLag.toMillis() / 1000.0, "지연 " + lag + "초");
+      } catch (SQLException e) {
+        setHealthy(replica, false, "지연 조회 실패: " + e.getMessage());
+      }
+    }
+  }
+
+  List<Replica> replicas() {
+    return replicas;
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof Closeable closeable) {
+        closeable.close();
+      }
+    }
+    if (primary instanceof Closeable closeable) {
+      closeable.close();
+    }
+  }
+
+  Connection readOnlyConnection() throws SQLException {
+    if (isSticky()) {
+      countRead("primary", "read-your-writes");
+      return primary.getConnection();
+    }
+    int size = replicas.size();
+    int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (!replica.healthy) {
+        continue;
+      }
+      try {
+        Connection connection = replica.dataSource.getConnection();
+        countRead(replica.name, "replica");
+        return connection;
+      } catch (SQLException e) {
+        setHealthy(replica, false, "커넥션 실패: " + e.getMessage());
+      }
+    }
+    countRead("primary", "no-healthy-replica");
+    return primary.getConnection();
+  }
+
+  private boolean isSticky() {
+    if (readYourWrites.isZero() || lastWriteAt.isEmpty()) {
+      return false;
+    }
+    String user = currentUser();
+    Long at = user != null ? lastWriteAt.get(user) : null;
+    return at != null && clock.millis() - at <= readYourWrites.toMillis();
+  }
+
+  private void setHealthy(Replica replica, boolean healthy, String reason) {
+    if (replica.healthy != healthy) {
+      if (healthy) {
+        log.info("읽기 복제본 {} 복귀 ({})", replica.name, reason);
+      } else {
+        log.warn("읽기 복제본 {} 제외 - 읽기 전용 트랜잭션을 주 DB 로 보냄 ({})", replica.name, reason);
+      }
+    }
+    replica.healthy = healthy;
+  }
+
+  private void countRead(String target, String reason) {
+    readCounters
+        .computeIfAbsent(
+            target + "|" + reason,
+            key ->
+                Counter.builder("datasource.readonly.connections")
+                    .description("Read-only connections by routing target")
+                    .tag("target", target)
+                    .tag("reason", reason)
+                    .register(meterRegistry))
+        .increment();
+  }
+
+  private static String currentUser() {
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return auth.getName();
+  }
+
+  /** {@link LazyConnectionDataSourceProxy} 가 읽기 전용 커넥션을 얻는 곳 */
+  private final class ReadOnlyDataSource extends AbstractDataSource {
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return readOnlyConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      throw new SQLException("복제본 라우팅은 사용자별 자격 증명을 지원하지 않습니다");
+    }
+  }
+}
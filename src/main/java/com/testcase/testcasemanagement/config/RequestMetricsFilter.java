@@ -0,0 +1,94 @@
+package com.testcase.testcasemanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청별 SQL 집계 필터
+ *
+ * <p>요청마다 {@link RequestSqlStats} 를 열고, 끝나면 컨트롤러 경로 템플릿({@code
+ * /api/testcases/project/{projectId}})별로 문장 수를 {@code http.server.requests.sql.statements} 분포로 남긴다. 같은 모양의 문장이 {@code
+ * app.sql-tracing.n-plus-one-threshold} 번 이상 나오면 {@code sql.n_plus_one} 을 세고 문장 모양과 함께 경고한다. 인증 단계의
+ * 사용자 조회까지 세도록 보안 필터보다 앞에 둔다. 엔드포인트 응답 시간 분포는 Boot 의 {@code http.server.requests} 가 맡는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(
+    name = "app.sql-tracing.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+  private final int nPlusOneThreshold;
+
+  public RequestMetricsFilter(
+      MeterRegistry meterRegistry,
+      @Value("${app.sql-tracing.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.nPlusOneThreshold = nPlusOneThreshold;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestSqlStats stats =
+        RequestSqlStats.begin(request.getMethod() + " " + request.getRequestURI());
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      RequestSqlStats.end();
+      record(request, stats);
+    }
+  }
+
+  void record(HttpServletRequest request, RequestSqlStats stats) {
+    // 매핑되지 않은 경로(정적 리소스, 404)는 태그 종류만 늘리므로 남기지 않는다
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    if (!(pattern instanceof String uri)) {
+      return;
+    }
+    String method = request.getMethod();
+    DistributionSummary.builder("http.server.requests.sql.statements")
+        .description("JDBC statements executed per request")
+        .tag("method", method)
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(stats.getStatements());
+
+    Map.Entry<String, Integer> top = stats.mostRepeated();
+    if (top != null && top.getValue() >= nPlusOneThreshold) {
+      Counter.builder("sql.n_plus_one")
+          .description("Requests that repeated one statement shape past the N+1 threshold")
+          .tag("method", method)
+          .tag("uri", uri)
+          .register(meterRegistry)
+          .increment();
+      log.warn(
+          "N+1 의심 [{} {}] 같은 SQL {}회 (요청 전체 {}문, {}ms): {}",
+          method,
+          uri,
+          top.getValue(),
+          stats.getStatements(),
+          stats.getElapsedMillis(),
+          SqlTracingListener.truncate(top.getKey()));
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.testcase.testcasemanagement.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나가 실행한 SQL 집계
+ *
+ * <p>{@link RequestMetricsFilter} 가 요청 스레드에 열고 닫으며, {@link SqlTracingListener} 가 문장을 실행할 때마다
+ * 더한다. 같은 모양(바인드 자리표시자만 다른)의 문장이 한 요청에서 여러 번 나오면 N+1 로 본다. 비동기 스레드에서 실행한 문장은 요청에
+ * 묶이지 않는다.
+ */
+public final class RequestSqlStats {
+
+  /** 요청 하나에서 모양별로 세는 문장 종류 상한. 일괄 작업이 메모리를 키우지 않게 한다. */
+  static final int MAX_SHAPES = 256;
+
+  private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+  private final String request;
+  private final Map<String, Integer> shapeCounts = new HashMap<>();
+  private int statements;
+  private long elapsedMillis;
+
+  private RequestSqlStats(String request) {
+    this.request = request;
+  }
+
+  /**
+   * 현재 스레드에 새 집계를 연다.
+   *
+   * @param request 로그에 남길 요청 표시 (예: {@code GET /api/testcases/project/1})
+   */
+  public static RequestSqlStats begin(String request) {
+    RequestSqlStats stats = new RequestSqlStats(request);
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  /** 현재 스레드의 집계. 요청 밖이면 null. */
+  public static RequestSqlStats current() {
+    return CURRENT.get();
+  }
+
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  void record(String shape, long elapsed) {
+    statements++;
+    elapsedMillis += elapsed;
+    if (shapeCounts.containsKey(shape) || shapeCounts.size() < MAX_SHAPES) {
+      shapeCounts.merge(shape, 1, Integer::sum);
+    }
+  }
+
+  public String getRequest() {
+    return request;
+  }
+
+  public int getStatements() {
+    return statements;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /** 가장 많이 반복된 문장 모양과 횟수. 문장이 없으면 null. */
+  public Map.Entry<String, Integer> mostRepeated() {
+    Map.Entry<String, Integer> top = null;
+    for (Map.Entry<String, Integer> entry : shapeCounts.entrySet()) {
+      if (top == null || entry.getValue() > top.getValue()) {
+        top = entry;
+      }
+    }
+    return top;
+  }
+}
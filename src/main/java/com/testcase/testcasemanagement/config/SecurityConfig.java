@@ -1,6 +1,7 @@
 // src/main/java/com/testcase/testcasemanagement/config/SecurityConfig.java
 package com.testcase.testcasemanagement.config;
 
+import com.testcase.testcasemanagement.filter.ApiRateLimitFilter;
 import com.testcase.testcasemanagement.service.CustomUserDetailsService;
 import com.testcase.testcasemanagement.util.JwtTokenUtil;
 import java.util.List;
@@ -35,6 +36,7 @@ public class SecurityConfig {
   private final CustomAccessDeniedHandler accessDeniedHandler;
   private final com.testcase.testcasemanagement.repository.ServiceApiKeyRepository
       serviceApiKeyRepository;
+  private final ApiRateLimitFilter apiRateLimitFilter;
 
   /**
    * CORS 허용 Origin 목록(쉼표 구분). 와일드카드 '*'를 쓰지 않는다 — allowCredentials(true)와 '*' 조합은 요청 Origin을 그대로
@@ -49,12 +51,14 @@ public class SecurityConfig {
       JwtTokenUtil jwtTokenUtil,
       CustomAuthenticationEntryPoint authenticationEntryPoint,
       CustomAccessDeniedHandler accessDeniedHandler,
-      com.testcase.testcasemanagement.repository.ServiceApiKeyRepository serviceApiKeyRepository) {
+      com.testcase.testcasemanagement.repository.ServiceApiKeyRepository serviceApiKeyRepository,
+      ApiRateLimitFilter apiRateLimitFilter) {
     this.userDetailsService = userDetailsService;
     this.jwtTokenUtil = jwtTokenUtil;
     this.authenticationEntryPoint = authenticationEntryPoint;
     this.accessDeniedHandler = accessDeniedHandler;
     this.serviceApiKeyRepository = serviceApiKeyRepository;
+    this.apiRateLimitFilter = apiRateLimitFilter;
   }
 
   /** 파일 이름에 내용 해시가 붙어 내용이 바뀌면 이름도 바뀌는 정적 자산 경로. */
@@ -223,7 +227,9 @@ public class SecurityConfig {
                     .anyRequest()
                     .authenticated())
         .addFilterBefore(apiKeyAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
-        .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+        // 인증 필터 뒤 — 사용자·API 키별로 한도를 건다
+        .addFilterAfter(apiRateLimitFilter, UsernamePasswordAuthenticationFilter.class);
 
     return http.build();
   }
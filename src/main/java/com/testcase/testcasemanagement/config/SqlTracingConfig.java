@@ -0,0 +1,42 @@
+package com.testcase.testcasemanagement.config;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸 {@link SqlTracingListener} 가 모든 JDBC 문장을 보게 한다.
+ *
+ * <p>Hibernate 통계({@code generate_statistics})는 세션 팩토리 전체 누계라 요청별로 나눌 수 없고, JdbcTemplate
+ * 문장은 잡지 못한다. 커넥션 풀 바깥을 감싸므로 Hikari 지표·헬스 체크는 {@code unwrap} 으로 원래 풀을 그대로 본다.
+ * {@code app.sql-tracing.enabled=false} 면 감싸지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "app.sql-tracing.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class SqlTracingConfig {
+
+  @Bean
+  static BeanPostProcessor sqlTracingDataSourcePostProcessor(
+      ObjectProvider<SqlTracingListener> listener) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+          return ProxyDataSourceBuilder.create(dataSource)
+              .name(beanName)
+              .listener(listener.getObject())
+              .build();
+        }
+        return bean;
+      }
+    };
+  }
+}
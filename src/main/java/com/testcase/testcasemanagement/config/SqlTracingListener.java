@@ -0,0 +1,229 @@
+package com.testcase.testcasemanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * JDBC 문장 계측
+ *
+ * <p>Hibernate·JdbcTemplate 구분 없이 DataSource 를 지나는 모든 문장을 본다 ({@link SqlTracingConfig}).
+ *
+ * <ul>
+ *   <li>{@code sql.query} 타이머 — 문장 종류(select/insert/update/delete/other)별 실행 시간
+ *   <li>요청 집계 — 요청 스레드에서 실행된 문장을 {@link RequestSqlStats} 에 더해 요청당 문장 수와 N+1 을 잡는다
+ *   <li>느린 SQL — 임계값을 넘은 문장을 {@code sql.slow} 로 세고 경고 로그와 최근 목록(/actuator/slowsql)에 남긴다
+ * </ul>
+ *
+ * <p>바인드 값에는 이메일·이름·토큰이 섞여 있으므로 느린 SQL 에 남길 때 문자열·바이너리는 길이만 남기고 가린다. 숫자·날짜·UUID·불리언처럼 조회
+ * 재현에 필요하고 개인 정보가 아닌 값만 그대로 둔다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    name = "app.sql-tracing.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class SqlTracingListener implements QueryExecutionListener {
+
+  static final int MAX_SQL_CHARS = 2000;
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+  private static final Pattern PLACEHOLDER_LIST =
+      Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+  private final MeterRegistry meterRegistry;
+  private final Duration slowThreshold;
+  private final int recentSlowLimit;
+  private final boolean redactParameters;
+
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<String, Counter> slowCounters = new ConcurrentHashMap<>();
+  private final Deque<SlowQuery> recentSlow = new ConcurrentLinkedDeque<>();
+
+  public SqlTracingListener(
+      MeterRegistry meterRegistry,
+      @Value("${app.sql-tracing.slow-threshold:500ms}") Duration slowThreshold,
+      @Value("${app.sql-tracing.recent-slow-limit:100}") int recentSlowLimit,
+      @Value("${app.sql-tracing.redact-parameters:true}") boolean redactParameters) {
+    this.meterRegistry = meterRegistry;
+    this.slowThreshold = slowThreshold;
+    this.recentSlowLimit = recentSlowLimit;
+    this.redactParameters = redactParameters;
+  }
+
+  /** 느린 SQL 한 건 (/actuator/slowsql) */
+  public record SlowQuery(
+      Instant at,
+      long elapsedMillis,
+      String type,
+      String request,
+      String sql,
+      int batchSize,
+      List<String> parameters) {}
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    if (queryInfoList.isEmpty()) {
+      return;
+    }
+    String sql =
+        queryInfoList.size() == 1
+            ? queryInfoList.get(0).getQuery()
+            : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    String type = statementType(sql);
+    long elapsed = execInfo.getElapsedTime();
+
+    timers
+        .computeIfAbsent(
+            type,
+            t ->
+                Timer.builder("sql.query")
+                    .description("JDBC statement execution time")
+                    .tag("type", t)
+                    .register(meterRegistry))
+        .record(Duration.ofMillis(elapsed));
+
+    RequestSqlStats stats = RequestSqlStats.current();
+    if (stats != null) {
+      stats.record(shapeOf(sql), elapsed);
+    }
+
+    if (elapsed >= slowThreshold.toMillis()) {
+      recordSlow(execInfo, queryInfoList, sql, type, elapsed, stats);
+    }
+  }
+
+  /** 최근 느린 SQL, 새것부터 */
+  public List<SlowQuery> recentSlowQueries() {
+    return new ArrayList<>(recentSlow);
+  }
+
+  private void recordSlow(
+      ExecutionInfo execInfo,
+      List<QueryInfo> queryInfoList,
+      String sql,
+      String type,
+      long elapsed,
+      RequestSqlStats stats) {
+    slowCounters
+        .computeIfAbsent(
+            type,
+            t ->
+                Counter.builder("sql.slow")
+                    .description("JDBC statements slower than app.sql-tracing.slow-threshold")
+                    .tag("type", t)
+                    .register(meterRegistry))
+        .increment();
+
+    List<List<ParameterSetOperation>> parametersList = queryInfoList.get(0).getParametersList();
+    List<String> parameters =
+        parametersList.isEmpty() ? List.of() : renderParameters(parametersList.get(0));
+    int batchSize = execInfo.isBatch() ? execInfo.getBatchSize() : 0;
+    String request = stats != null ? stats.getRequest() : null;
+    SlowQuery slow =
+        new SlowQuery(
+            Instant.now(), elapsed, type, request, truncate(sql), batchSize, parameters);
+
+    recentSlow.addFirst(slow);
+    while (recentSlow.size() > recentSlowLimit) {
+      recentSlow.pollLast();
+    }
+    log.warn(
+        "느린 SQL {}ms [{}]{} {} 파라미터={}",
+        elapsed,
+        request != null ? request : "-",
+        batchSize > 0 ? " 배치=" + batchSize : "",
+        slow.sql(),
+        parameters);
+  }
+
+  List<String> renderParameters(List<ParameterSetOperation> operations) {
+    return operations.stream()
+        .sorted(Comparator.comparingInt(op -> op.getArgs()[0] instanceof Integer i ? i : 0))
+        .map(this::renderParameter)
+        .collect(Collectors.toList());
+  }
+
+  private String renderParameter(ParameterSetOperation operation) {
+    if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+      return "NULL";
+    }
+    Object[] args = operation.getArgs();
+    Object value = args.length > 1 ? args[1] : null;
+    if (value == null) {
+      return "NULL";
+    }
+    if (value instanceof Number
+        || value instanceof Boolean
+        || value instanceof Temporal
+        || value instanceof java.util.Date
+        || value instanceof UUID
+        || value instanceof Enum<?>) {
+      return String.valueOf(value);
+    }
+    if (value instanceof CharSequence text) {
+      return redactParameters ? "'***'(" + text.length() + ")" : "'" + text + "'";
+    }
+    if (value instanceof byte[] bytes) {
+      return "<binary " + bytes.length + " bytes>";
+    }
+    return "<" + value.getClass().getSimpleName() + ">";
+  }
+
+  static String statementType(String sql) {
+    String trimmed = sql.stripLeading();
+    int end = 0;
+    while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+      end++;
+    }
+    String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    return switch (keyword) {
+      case "select", "with" -> "select";
+      case "insert", "update", "delete" -> keyword;
+      default -> "other";
+    };
+  }
+
+  /** 값만 다른 문장을 같은 모양으로 묶는다: 리터럴은 {@code ?}, IN 목록은 길이와 상관없이 {@code (?...)} */
+  static String shapeOf(String sql) {
+    String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = PLACEHOLDER_LIST.matcher(shape).replaceAll("(?...)");
+    return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+  }
+
+  static String truncate(String sql) {
+    String compact = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+    return compact.length() <= MAX_SQL_CHARS
+        ? compact
+        : compact.substring(0, MAX_SQL_CHARS) + "…(" + compact.length() + ")";
+  }
+}
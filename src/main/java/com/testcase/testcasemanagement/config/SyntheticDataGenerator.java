@@ -0,0 +1,604 @@
+package com.testcase.testcasemanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.testcase.testcasemanagement.model.JunitProcessStatus;
+import com.testcase.testcasemanagement.model.JunitTestCase;
+import com.testcase.testcasemanagement.model.JunitTestResult;
+import com.testcase.testcasemanagement.model.JunitTestStatus;
+import com.testcase.testcasemanagement.model.JunitTestSuite;
+import com.testcase.testcasemanagement.model.Project;
+import com.testcase.testcasemanagement.model.TestCase;
+import com.testcase.testcasemanagement.model.TestExecution;
+import com.testcase.testcasemanagement.model.TestPlan;
+import com.testcase.testcasemanagement.model.TestResult;
+import com.testcase.testcasemanagement.model.TestResultStatus;
+import com.testcase.testcasemanagement.model.TestStep;
+import com.testcase.testcasemanagement.model.User;
+import com.testcase.testcasemanagement.model.UserActivity;
+import com.testcase.testcasemanagement.repository.JunitTestResultRepository;
+import com.testcase.testcasemanagement.repository.ProjectRepository;
+import com.testcase.testcasemanagement.repository.TestCaseRepository;
+import com.testcase.testcasemanagement.repository.TestExecutionRepository;
+import com.testcase.testcasemanagement.repository.TestPlanRepository;
+import com.testcase.testcasemanagement.repository.TestResultRepository;
+import com.testcase.testcasemanagement.repository.UserActivityRepository;
+import com.testcase.testcasemanagement.repository.UserRepository;
+import com.testcase.testcasemanagement.service.TestCaseSequenceAllocator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 운영 규모 합성 데이터 생성기 ({@code synthetic} 프로파일 전용)
+ *
+ * <p>DataInitializer 의 시드는 수십 행이라 대시보드·리포트가 수십만 행에서 어떻게 느려지는지 로컬에서 볼 수 없다. 이 생성기는 프로젝트마다 깊은 폴더
+ * 트리의 테스트케이스 10만 건, 플랜·실행에 걸친 결과 100만 건, JUnit 업로드, 활동 이력을 채운다. 같은 설정이면 같은 데이터가 나오도록 시드를 고정한다.
+ *
+ * <p>저장은 서비스가 아니라 저장소로 직접 하되 엔티티를 거친다. 권한 검사·이벤트·RAG 색인처럼 규모와 무관한 비용은 빼고, 스키마 제약·엔티티 콜백(최신 결과
+ * 투영 등)은 실제 경로와 같게 유지하기 위해서다. 청크마다 트랜잭션을 끊고 영속성 컨텍스트를 비워 메모리가 행 수에 비례해 늘지 않게 한다.
+ *
+ * <p>이미 같은 코드의 프로젝트가 있으면 건너뛰므로 재기동해도 중복 생성되지 않는다. 끝나면 부하 하네스(scripts/loadtest)가 읽을 ID 목록을
+ * {@code synthetic.manifest-path} 에 쓴다.
+ */
+@Slf4j
+@Component
+@Profile("synthetic")
+@Order(10) // DataInitializer(1)·OrganizationDataInitializer(2) 로 admin 이 생긴 뒤
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+  private static final String[] RESULT_POOL = {
+    TestResultStatus.PASS.value(),
+    TestResultStatus.PASS.value(),
+    TestResultStatus.PASS.value(),
+    TestResultStatus.PASS.value(),
+    TestResultStatus.PASS.value(),
+    TestResultStatus.PASS.value(),
+    TestResultStatus.PASS.value(),
+    TestResultStatus.FAIL.value(),
+    TestResultStatus.FAIL.value(),
+    TestResultStatus.BLOCKED.value(),
+    TestResultStatus.NOT_RUN.value()
+  };
+
+  private static final String[][] ACTIVITIES = {
+    {"LOGIN", "AUTHENTICATION"},
+    {"LOGOUT", "AUTHENTICATION"},
+    {"PROJECT_ACCESS", "PROJECT_MANAGEMENT"},
+    {"TESTCASE_CREATE", "TEST_MANAGEMENT"},
+    {"TESTCASE_UPDATE", "TEST_MANAGEMENT"},
+    {"TEST_RESULT_UPDATE", "TEST_MANAGEMENT"}
+  };
+
+  // 진행 중 실행마다 매니페스트에 남길 플랜 케이스 ID 수 (일괄 결과 입력 시나리오의 표본)
+  private static final int MANIFEST_SAMPLE_CASES = 200;
+
+  private final UserRepository userRepository;
+  private final ProjectRepository projectRepository;
+  private final TestCaseRepository testCaseRepository;
+  private final TestPlanRepository testPlanRepository;
+  private final TestExecutionRepository testExecutionRepository;
+  private final TestResultRepository testResultRepository;
+  private final JunitTestResultRepository junitTestResultRepository;
+  private final UserActivityRepository userActivityRepository;
+  private final TestCaseSequenceAllocator sequenceAllocator;
+  private final PasswordEncoder passwordEncoder;
+  private final TransactionTemplate transactionTemplate;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Value("${synthetic.seed:20240601}")
+  private long seed;
+
+  @Value("${synthetic.projects:1}")
+  private int projects;
+
+  @Value("${synthetic.test-cases-per-project:100000}")
+  private int testCasesPerProject;
+
+  @Value("${synthetic.cases-per-folder:25}")
+  private int casesPerFolder;
+
+  @Value("${synthetic.folder-fan-out:8}")
+  private int folderFanOut;
+
+  @Value("${synthetic.plans-per-project:20}")
+  private int plansPerProject;
+
+  @Value("${synthetic.cases-per-plan:5000}")
+  private int casesPerPlan;
+
+  @Value("${synthetic.executions-per-plan:5}")
+  private int executionsPerPlan;
+
+  @Value("${synthetic.results-per-project:1000000}")
+  private int resultsPerProject;
+
+  @Value("${synthetic.junit-uploads-per-project:50}")
+  private int junitUploadsPerProject;
+
+  @Value("${synthetic.junit-suites-per-upload:20}")
+  private int junitSuitesPerUpload;
+
+  @Value("${synthetic.junit-cases-per-suite:50}")
+  private int junitCasesPerSuite;
+
+  @Value("${synthetic.activities:200000}")
+  private int activities;
+
+  @Value("${synthetic.testers:10}")
+  private int testers;
+
+  @Value("${synthetic.tester-password:synthetic123}")
+  private String testerPassword;
+
+  @Value("${synthetic.history-days:180}")
+  private int historyDays;
+
+  @Value("${synthetic.chunk-size:2000}")
+  private int chunkSize;
+
+  @Value("${synthetic.manifest-path:build/synthetic/manifest.json}")
+  private String manifestPath;
+
+  public SyntheticDataGenerator(
+      UserRepository userRepository,
+      ProjectRepository projectRepository,
+      TestCaseRepository testCaseRepository,
+      TestPlanRepository testPlanRepository,
+      TestExecutionRepository testExecutionRepository,
+      TestResultRepository testResultRepository,
+      JunitTestResultRepository junitTestResultRepository,
+      UserActivityRepository userActivityRepository,
+      TestCaseSequenceAllocator sequenceAllocator,
+      PasswordEncoder passwordEncoder,
+      PlatformTransactionManager transactionManager) {
+    this.userRepository = userRepository;
+    this.projectRepository = projectRepository;
+    this.testCaseRepository = testCaseRepository;
+    this.testPlanRepository = testPlanRepository;
+    this.testExecutionRepository = testExecutionRepository;
+    this.testResultRepository = testResultRepository;
+    this.junitTestResultRepository = junitTestResultRepository;
+    this.userActivityRepository = userActivityRepository;
+    this.sequenceAllocator = sequenceAllocator;
+    this.passwordEncoder = passwordEncoder;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    long started = System.currentTimeMillis();
+    Random random = new Random(seed);
+    LocalDateTime now = LocalDateTime.now().withNano(0);
+    LocalDateTime since = now.minusDays(historyDays);
+
+    List<User> users = ensureTesters();
+    List<Map<String, Object>> manifestProjects = new ArrayList<>();
+    for (int p = 1; p <= projects; p++) {
+      String code = "SYN-" + p;
+      if (projectRepository.existsByCode(code)) {
+        log.info("합성 데이터: 프로젝트 {} 가 이미 있어 건너뜀", code);
+        continue;
+      }
+      manifestProjects.add(generateProject(code, p, users, random, since, now));
+    }
+    if (activities > 0 && !manifestProjects.isEmpty()) {
+      generateActivities(users, random, since, now);
+    }
+    if (!manifestProjects.isEmpty()) {
+      writeManifest(manifestProjects);
+    }
+    log.info(
+        "합성 데이터 생성 완료: 프로젝트 {}개, {}초",
+        manifestProjects.size(),
+        (System.currentTimeMillis() - started) / 1000);
+  }
+
+  private Map<String, Object> generateProject(
+      String code,
+      int index,
+      List<User> users,
+      Random random,
+      LocalDateTime since,
+      LocalDateTime now) {
+    Project project = new Project();
+    project.setName("Synthetic Load " + index);
+    project.setCode(code);
+    project.setDescription("부하 측정용 합성 데이터 (synthetic 프로파일)");
+    project.setDisplayOrder(1000 + index);
+    Project saved = transactionTemplate.execute(s -> projectRepository.save(project));
+    log.info("합성 데이터: 프로젝트 {} ({}) 생성", code, saved.getId());
+
+    List<String> caseIds = generateTestCases(saved, random, since);
+    List<TestPlan> plans = generatePlans(saved, caseIds);
+    List<Map<String, Object>> inProgress = new ArrayList<>();
+    generateExecutionsAndResults(saved, plans, users, random, since, now, inProgress);
+    generateJunitUploads(saved, users, random, since, now);
+
+    Map<String, Object> entry = new LinkedHashMap<>();
+    entry.put("projectId", saved.getId());
+    entry.put("code", code);
+    entry.put("testCases", caseIds.size());
+    entry.put("planIds", plans.stream().map(TestPlan::getId).toList());
+    entry.put("inProgressExecutions", inProgress);
+    return entry;
+  }
+
+  /**
+   * 폴더를 층별로 만들고(부모 ID 가 저장 뒤에 정해지므로) 가장 깊은 층 폴더에 케이스를 나눠 담는다.
+   *
+   * @return 폴더를 뺀 테스트케이스 ID (폴더 순서대로)
+   */
+  private List<String> generateTestCases(Project project, Random random, LocalDateTime since) {
+    int folderTarget = Math.max(1, testCasesPerProject / Math.max(1, casesPerFolder));
+    int nextSequentialId =
+        sequenceAllocator.reserveSequentialIds(project.getId(), folderTarget + testCasesPerProject);
+
+    List<TestCase> allFolders = new ArrayList<>(folderTarget);
+    Set<String> expanded = new HashSet<>();
+    List<TestCase> parents = new ArrayList<>();
+    parents.add(null);
+    int depth = 0;
+    while (allFolders.size() < folderTarget) {
+      List<TestCase> level = new ArrayList<>();
+      for (TestCase parent : parents) {
+        for (int i = 0; i < folderFanOut && allFolders.size() + level.size() < folderTarget; i++) {
+          TestCase folder =
+              newNode(project, parent, "folder", "모듈 " + depth + "-" + (i + 1), i);
+          folder.setSequentialId(nextSequentialId++);
+          folder.setDisplayId(displayId(project, folder.getSequentialId()));
+          folder.setCreatedAt(since);
+          level.add(folder);
+          if (parent != null) {
+            expanded.add(parent.getId());
+          }
+        }
+      }
+      persistInChunks(level, testCaseRepository::saveAll);
+      allFolders.addAll(level);
+      parents = level;
+      depth++;
+    }
+    // 자식 폴더가 없는 폴더(마지막 층 + 목표 수에 걸려 덜 펼친 폴더)에 케이스를 담는다
+    List<TestCase> leaves =
+        allFolders.stream().filter(f -> !expanded.contains(f.getId())).toList();
+    int folders = allFolders.size();
+    log.info("합성 데이터: 폴더 {}개, 깊이 {}", folders, depth);
+
+    List<String> caseIds = new ArrayList<>(testCasesPerProject);
+    List<TestCase> chunk = new ArrayList<>(chunkSize);
+    for (int i = 0; i < testCasesPerProject; i++) {
+      TestCase parent = leaves.get(i % leaves.size());
+      TestCase tc = newNode(project, parent, "testcase", "시나리오 " + (i + 1), i / leaves.size());
+      tc.setSequentialId(nextSequentialId++);
+      tc.setDisplayId(displayId(project, tc.getSequentialId()));
+      tc.setPriority(random.nextInt(5) == 0 ? "HIGH" : random.nextInt(3) == 0 ? "LOW" : "MEDIUM");
+      tc.setIsAutomated(random.nextInt(3) == 0);
+      tc.setPreCondition("로그인된 사용자");
+      tc.setExpectedResults("요청이 정상 처리된다");
+      tc.setSteps(steps(1 + random.nextInt(5)));
+      tc.setCreatedAt(since.plusMinutes(i % (historyDays * 24L * 60)));
+      chunk.add(tc);
+      if (chunk.size() == chunkSize) {
+        persistChunk(chunk, testCaseRepository::saveAll);
+        chunk.forEach(c -> caseIds.add(c.getId()));
+        chunk.clear();
+      }
+    }
+    persistChunk(chunk, testCaseRepository::saveAll);
+    chunk.forEach(c -> caseIds.add(c.getId()));
+    log.info("합성 데이터: 테스트케이스 {}건", caseIds.size());
+    return caseIds;
+  }
+
+  private TestCase newNode(Project project, TestCase parent, String type, String name, int order) {
+    TestCase node = new TestCase();
+    node.setProject(project);
+    node.setParentId(parent == null ? null : parent.getId());
+    node.setType(type);
+    node.setName(name);
+    node.setDisplayOrder(order + 1);
+    node.setCreatedBy("synthetic");
+    return node;
+  }
+
+  // TestCaseDisplayIdService 와 같은 형식
+  private static String displayId(Project project, int sequentialId) {
+    return String.format("%s-%03d", project.getCode(), sequentialId);
+  }
+
+  private static List<TestStep> steps(int count) {
+    List<TestStep> steps = new ArrayList<>(count);
+    for (int s = 1; s <= count; s++) {
+      TestStep step = new TestStep();
+      step.setStepNumber(s);
+      step.setDescription("단계 " + s + " 수행");
+      step.setExpectedResult("단계 " + s + " 결과 확인");
+      steps.add(step);
+    }
+    return steps;
+  }
+
+  /** 플랜마다 케이스를 연속 구간으로 나눠 담는다. 구간은 플랜끼리 겹쳐서 케이스가 여러 플랜에 속한다. */
+  private List<TestPlan> generatePlans(Project project, List<String> caseIds) {
+    List<TestPlan> plans = new ArrayList<>(plansPerProject);
+    int span = Math.min(casesPerPlan, caseIds.size());
+    int stride =
+        plansPerProject > 1 ? Math.max(1, (caseIds.size() - span) / (plansPerProject - 1)) : 0;
+    for (int i = 0; i < plansPerProject; i++) {
+      int from = Math.min(i * stride, caseIds.size() - span);
+      TestPlan plan = new TestPlan();
+      plan.setProject(project);
+      plan.setName("릴리스 " + (i + 1) + " 회귀");
+      plan.setDescription("합성 플랜");
+      plan.setTestCaseIds(new ArrayList<>(caseIds.subList(from, from + span)));
+      plans.add(plan);
+    }
+    persistInChunks(plans, testPlanRepository::saveAll);
+    return plans;
+  }
+
+  /**
+   * 플랜마다 실행을 시간 순으로 만들고 결과를 나눠 담는다. 마지막 실행은 진행 중으로 두어 일괄 입력 시나리오가 쓸 수 있게 한다. 결과 수가 플랜 케이스 수보다
+   * 많으면 같은 케이스를 재실행한 것으로 본다.
+   */
+  private void generateExecutionsAndResults(
+      Project project,
+      List<TestPlan> plans,
+      List<User> users,
+      Random random,
+      LocalDateTime since,
+      LocalDateTime now,
+      List<Map<String, Object>> inProgress) {
+    int executionTotal = plans.size() * executionsPerPlan;
+    if (executionTotal == 0) {
+      return;
+    }
+    int perExecution = resultsPerProject / executionTotal;
+    long windowMinutes = Math.max(1, Duration.between(since, now).toMinutes());
+    long slotMinutes = windowMinutes / executionTotal;
+    int slot = 0;
+    long written = 0;
+    for (TestPlan plan : plans) {
+      for (int e = 0; e < executionsPerPlan; e++) {
+        boolean last = e == executionsPerPlan - 1;
+        LocalDateTime start = since.plusMinutes(slot++ * slotMinutes);
+        TestExecution execution = new TestExecution();
+        execution.setProject(project);
+        execution.setTestPlanId(plan.getId());
+        execution.setName(plan.getName() + " #" + (e + 1));
+        execution.setDescription("합성 실행");
+        execution.setStatus(last ? "INPROGRESS" : "COMPLETED");
+        execution.setStartDate(start);
+        execution.setEndDate(last ? null : start.plusMinutes(slotMinutes));
+        TestExecution savedExecution =
+            transactionTemplate.execute(s -> testExecutionRepository.save(execution));
+        if (last) {
+          List<String> cases = plan.getTestCaseIds();
+          List<String> sample = cases.subList(0, Math.min(MANIFEST_SAMPLE_CASES, cases.size()));
+          inProgress.add(
+              Map.of(
+                  "executionId", savedExecution.getId(),
+                  "planId", plan.getId(),
+                  "testCaseIds", List.copyOf(sample)));
+        }
+
+        List<String> planCases = plan.getTestCaseIds();
+        List<TestResult> chunk = new ArrayList<>(chunkSize);
+        for (int r = 0; r < perExecution; r++) {
+          TestResult result = new TestResult();
+          result.setTestExecution(savedExecution);
+          result.setTestCaseId(planCases.get(r % planCases.size()));
+          String verdict = RESULT_POOL[random.nextInt(RESULT_POOL.length)];
+          result.setResult(verdict);
+          result.setExecutedAt(start.plusSeconds((long) r * 60 * slotMinutes / perExecution));
+          result.setExecutedBy(users.get(random.nextInt(users.size())));
+          if (TestResultStatus.FAIL.value().equals(verdict)) {
+            result.setNotes("재현: 응답 코드 500, 요청 ID " + random.nextInt(1_000_000));
+            if (random.nextInt(3) == 0) {
+              result.setJiraIssueKey(project.getCode() + "-" + (1 + random.nextInt(2000)));
+            }
+          }
+          chunk.add(result);
+          if (chunk.size() == chunkSize) {
+            persistChunk(chunk, testResultRepository::saveAll);
+            written += chunk.size();
+            chunk.clear();
+          }
+        }
+        persistChunk(chunk, testResultRepository::saveAll);
+        written += chunk.size();
+      }
+      log.info("합성 데이터: 결과 {}/{}건", written, (long) perExecution * executionTotal);
+    }
+  }
+
+  private void generateJunitUploads(
+      Project project, List<User> users, Random random, LocalDateTime since, LocalDateTime now) {
+    long windowMinutes = Math.max(1, Duration.between(since, now).toMinutes());
+    List<JunitTestResult> batch = new ArrayList<>();
+    int batchCases = 0;
+    for (int u = 0; u < junitUploadsPerProject; u++) {
+      JunitTestResult upload = new JunitTestResult();
+      upload.setProjectId(project.getId());
+      upload.setFileName("TEST-synthetic-" + (u + 1) + ".xml");
+      upload.setFileSize(2048L * junitSuitesPerUpload * junitCasesPerSuite);
+      upload.setTestExecutionName("CI 빌드 #" + (u + 1));
+      upload.setUploadedBy(users.get(random.nextInt(users.size())));
+      upload.setStatus(JunitProcessStatus.COMPLETED);
+      upload.setParsedAt(
+          since.plusMinutes(u * windowMinutes / Math.max(1, junitUploadsPerProject)));
+
+      List<JunitTestSuite> suites = new ArrayList<>(junitSuitesPerUpload);
+      int total = 0;
+      int failures = 0;
+      int skipped = 0;
+      double time = 0;
+      for (int s = 0; s < junitSuitesPerUpload; s++) {
+        JunitTestSuite suite = new JunitTestSuite();
+        suite.setJunitTestResult(upload);
+        suite.setName("com.example.synthetic.Module" + s + "Test");
+        suite.setPackageName("com.example.synthetic");
+        suite.setHostname("ci-runner");
+        suite.setTimestamp(upload.getParsedAt());
+        List<JunitTestCase> cases = new ArrayList<>(junitCasesPerSuite);
+        int suiteFailures = 0;
+        int suiteSkipped = 0;
+        double suiteTime = 0;
+        for (int c = 0; c < junitCasesPerSuite; c++) {
+          JunitTestCase testCase = new JunitTestCase();
+          testCase.setJunitTestSuite(suite);
+          testCase.setName("should_handle_case_" + c);
+          testCase.setClassName(suite.getName());
+          testCase.setTime(random.nextDouble());
+          int roll = random.nextInt(20);
+          if (roll == 0) {
+            testCase.setStatus(JunitTestStatus.FAILED);
+            testCase.setFailureMessage("expected: <200> but was: <500>");
+            testCase.setFailureType("org.opentest4j.AssertionFailedError");
+            testCase.setStackTrace("org.opentest4j.AssertionFailedError\n\tat " + suite.getName());
+            suiteFailures++;
+          } else if (roll == 1) {
+            testCase.setStatus(JunitTestStatus.SKIPPED);
+            testCase.setSkipMessage("disabled");
+            suiteSkipped++;
+          }
+          suiteTime += testCase.getTime();
+          cases.add(testCase);
+        }
+        suite.setTestCases(cases);
+        suite.setTests(cases.size());
+        suite.setFailures(suiteFailures);
+        suite.setSkipped(suiteSkipped);
+        suite.setTime(suiteTime);
+        suites.add(suite);
+        total += cases.size();
+        failures += suiteFailures;
+        skipped += suiteSkipped;
+        time += suiteTime;
+      }
+      upload.setTestSuites(suites);
+      upload.setTotalTests(total);
+      upload.setFailures(failures);
+      upload.setSkipped(skipped);
+      upload.setTotalTime(time);
+      batch.add(upload);
+      batchCases += total;
+      if (batchCases >= chunkSize) {
+        persistChunk(batch, junitTestResultRepository::saveAll);
+        batch.clear();
+        batchCases = 0;
+      }
+    }
+    persistChunk(batch, junitTestResultRepository::saveAll);
+    log.info("합성 데이터: JUnit 업로드 {}건", junitUploadsPerProject);
+  }
+
+  private void generateActivities(
+      List<User> users, Random random, LocalDateTime since, LocalDateTime now) {
+    long windowSeconds = Math.max(1, Duration.between(since, now).toSeconds());
+    List<UserActivity> chunk = new ArrayList<>(chunkSize);
+    for (int i = 0; i < activities; i++) {
+      String[] kind = ACTIVITIES[random.nextInt(ACTIVITIES.length)];
+      UserActivity activity = new UserActivity();
+      activity.setUser(users.get(random.nextInt(users.size())));
+      activity.setActivityType(kind[0]);
+      activity.setActivityCategory(kind[1]);
+      activity.setTimestamp(since.plusSeconds(i * windowSeconds / activities));
+      activity.setIpAddress("10.0." + random.nextInt(256) + "." + random.nextInt(256));
+      activity.setUserAgent("synthetic-load/1.0");
+      activity.setDurationMs((long) random.nextInt(2000));
+      activity.setIsSuccessful(random.nextInt(50) != 0);
+      chunk.add(activity);
+      if (chunk.size() == chunkSize) {
+        persistChunk(chunk, userActivityRepository::saveAll);
+        chunk.clear();
+      }
+    }
+    persistChunk(chunk, userActivityRepository::saveAll);
+    log.info("합성 데이터: 활동 이력 {}건", activities);
+  }
+
+  /** 결과 작성자로 쓸 테스터 계정. 이미 있으면 재사용한다. */
+  private List<User> ensureTesters() {
+    String encoded = passwordEncoder.encode(testerPassword);
+    List<User> users = new ArrayList<>(testers);
+    List<User> created = new ArrayList<>();
+    for (int i = 1; i <= Math.max(1, testers); i++) {
+      String username = String.format("syn-tester-%02d", i);
+      User user = userRepository.findByUsername(username).orElse(null);
+      if (user == null) {
+        user = new User();
+        user.setUsername(username);
+        user.setPassword(encoded);
+        user.setName("합성 테스터 " + i);
+        user.setEmail(username + "@synthetic.local");
+        user.setRole("TESTER");
+        created.add(user);
+      }
+      users.add(user);
+    }
+    if (!created.isEmpty()) {
+      transactionTemplate.executeWithoutResult(s -> userRepository.saveAll(created));
+    }
+    return users;
+  }
+
+  private <T> void persistInChunks(List<T> items, Consumer<List<T>> saver) {
+    for (int from = 0; from < items.size(); from += chunkSize) {
+      persistChunk(items.subList(from, Math.min(items.size(), from + chunkSize)), saver);
+    }
+  }
+
+  /** 청크 하나를 한 트랜잭션으로 저장하고 컨텍스트를 비운다. 엔티티는 ID 를 가진 채 분리된다. */
+  private <T> void persistChunk(List<T> chunk, Consumer<List<T>> saver) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    transactionTemplate.executeWithoutResult(
+        s -> {
+          saver.accept(chunk);
+          entityManager.flush();
+          entityManager.clear();
+        });
+  }
+
+  private void writeManifest(List<Map<String, Object>> manifestProjects) throws IOException {
+    Map<String, Object> manifest = new LinkedHashMap<>();
+    manifest.put("generatedAt", LocalDateTime.now().toString());
+    manifest.put("seed", seed);
+    manifest.put("testerPassword", testerPassword);
+    manifest.put("projects", manifestProjects);
+    Path path = Path.of(manifestPath);
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .writeValue(path.toFile(), manifest);
+    log.info("합성 데이터 매니페스트: {}", path.toAbsolutePath());
+  }
+}
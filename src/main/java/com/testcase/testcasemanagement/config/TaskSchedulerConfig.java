@@ -1,16 +1,30 @@
 package com.testcase.testcasemanagement.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /** TaskScheduler 설정 동적 스케줄링을 위한 TaskScheduler Bean 등록 */
 @Configuration
 public class TaskSchedulerConfig {
 
+  /**
+   * 가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서는 스케줄마다 가상 스레드로 실행해, 느린 작업 하나가 고정 풀
+   * 10개를 잡고 다른 스케줄을 밀어내지 않게 한다. 트리거 계산은 스케줄러 스레드 하나가 맡는다.
+   */
   @Bean
-  public TaskScheduler taskScheduler() {
+  public TaskScheduler taskScheduler(
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    if (virtualThreads) {
+      SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+      scheduler.setVirtualThreads(true);
+      scheduler.setThreadNamePrefix("scheduler-");
+      scheduler.setTaskTerminationTimeout(20_000L);
+      return scheduler;
+    }
     ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
     scheduler.setPoolSize(10); // 동시 실행 가능한 스케줄 작업 수
     scheduler.setThreadNamePrefix("scheduler-");
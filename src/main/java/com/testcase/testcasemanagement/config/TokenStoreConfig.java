@@ -0,0 +1,35 @@
+package com.testcase.testcasemanagement.config;
+
+import com.testcase.testcasemanagement.service.token.ExpiringTokenStore;
+import com.testcase.testcasemanagement.service.token.InMemoryExpiringTokenStore;
+import com.testcase.testcasemanagement.service.token.JdbcExpiringTokenStore;
+import java.time.Clock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 짧은 수명 토큰 저장소 설정
+ *
+ * <p>리다이렉트 토큰은 기본으로 인스턴스 메모리에 둔다. 여러 인스턴스를 로드밸런서 뒤에 두어 발급(Forge 앱의 API 호출)과 소비(브라우저
+ * 리다이렉트)가 다른 인스턴스로 갈 수 있으면 {@code app.tokens.redirect.backing=jdbc} 로 DB 테이블을 함께 쓴다.
+ */
+@Slf4j
+@Configuration
+public class TokenStoreConfig {
+
+  @Bean
+  public ExpiringTokenStore<String> redirectTokenBacking(
+      @Value("${app.tokens.redirect.backing:memory}") String backing,
+      @Value("${app.tokens.redirect.max-entries:10000}") int maxEntries,
+      JdbcTemplate jdbcTemplate,
+      Clock clock) {
+    if ("jdbc".equalsIgnoreCase(backing)) {
+      log.info("리다이렉트 토큰 저장소: DB 공유 (expiring_tokens)");
+      return new JdbcExpiringTokenStore(jdbcTemplate, "redirect", clock);
+    }
+    return new InMemoryExpiringTokenStore<>(maxEntries);
+  }
+}
@@ -0,0 +1,166 @@
+package com.testcase.testcasemanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ *
+ * <p>JDK 21 에서는 {@code synchronized} 블록이나 네이티브 프레임 안에서 블로킹하면 가상 스레드가 캐리어 스레드를 놓지 못한다. 캐리어는
+ * 코어 수만큼뿐이라 이런 구간이 몇 개만 겹쳐도 요청 전체가 멈춘다. JFR {@code jdk.VirtualThreadPinned} 이벤트를 앱 안에서 구독해
+ * 고정이 일어난 첫 애플리케이션 프레임별로 {@code jvm.threads.virtual.pinned} 카운터·타이머를 남기고, 처음 보는 위치는 스택과 함께 경고로
+ * 찍는다. 가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서만 뜬다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+  static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+  static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+  static final String APP_PACKAGE = "com.testcase.testcasemanagement.";
+  static final String OTHER_SITE = "other";
+  static final String UNKNOWN_SITE = "unknown";
+
+  private static final int LOGGED_FRAMES = 12;
+
+  private final MeterRegistry meterRegistry;
+  private final Duration threshold;
+  private final int maxSites;
+
+  /** 태그로 쓴 위치. 상한을 넘는 새 위치는 {@link #OTHER_SITE} 로 묶어 태그 수가 불어나지 않게 한다. */
+  private final Set<String> sites = ConcurrentHashMap.newKeySet();
+
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${app.virtual-threads.pinning.threshold:20ms}") Duration threshold,
+      @Value("${app.virtual-threads.pinning.max-sites:50}") int maxSites) {
+    this.meterRegistry = meterRegistry;
+    this.threshold = threshold;
+    this.maxSites = maxSites;
+  }
+
+  @PostConstruct
+  void start() {
+    try {
+      stream = new RecordingStream();
+      stream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+      stream.onEvent(EVENT_NAME, this::onPinned);
+      stream.startAsync();
+      log.info("가상 스레드 고정 감시 시작 (임계값 {}ms)", threshold.toMillis());
+    } catch (RuntimeException e) {
+      // JFR 이 꺼진 JVM(-XX:-FlightRecorder 등)에서도 앱은 떠야 한다
+      log.warn("가상 스레드 고정 감시를 시작하지 못했습니다: {}", e.getMessage());
+      stream = null;
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  private void onPinned(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    List<String> frames =
+        stackTrace == null
+            ? List.of()
+            : stackTrace.getFrames().stream()
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.toList());
+    record(event.getDuration(), frames);
+  }
+
+  /** 고정 한 건을 위치 태그로 기록한다. {@code frames} 는 안쪽(블로킹 지점)부터 {@code 클래스.메서드:줄} 형식. */
+  void record(Duration duration, List<String> frames) {
+    String candidate = pinnedSite(frames);
+    boolean seen = sites.contains(candidate);
+    String site = tagFor(candidate);
+    Counter.builder(METRIC_NAME)
+        .description("Virtual thread pinned on carrier while blocking")
+        .tag("site", site)
+        .register(meterRegistry)
+        .increment();
+    Timer.builder(METRIC_NAME + ".duration")
+        .description("Time a virtual thread stayed pinned to its carrier")
+        .tag("site", site)
+        .register(meterRegistry)
+        .record(duration);
+
+    if (!seen && site.equals(candidate)) {
+      log.warn(
+          "가상 스레드가 캐리어에 고정됨 ({}ms) - 위치: {}\n  at {}",
+          duration.toMillis(),
+          site,
+          String.join("\n  at ", frames.subList(0, Math.min(LOGGED_FRAMES, frames.size()))));
+    } else {
+      log.debug("가상 스레드 고정 ({}ms) - 위치: {}", duration.toMillis(), site);
+    }
+  }
+
+  private String tagFor(String site) {
+    if (sites.contains(site)) {
+      return site;
+    }
+    if (sites.size() >= maxSites) {
+      return OTHER_SITE;
+    }
+    sites.add(site);
+    return site;
+  }
+
+  /**
+   * 고정을 일으킨 위치. 스택 안쪽에서부터 첫 애플리케이션 프레임을 고르고, 없으면 JDK 가 아닌 첫 프레임(라이브러리)을 고른다. 줄 번호는 빼서 같은
+   * 메서드의 여러 지점을 한 태그로 묶는다.
+   */
+  static String pinnedSite(List<String> frames) {
+    String library = null;
+    for (String frame : frames) {
+      String method = frame.contains(":") ? frame.substring(0, frame.indexOf(':')) : frame;
+      if (method.startsWith(APP_PACKAGE)) {
+        return method.substring(APP_PACKAGE.length());
+      }
+      if (library == null && !isJdkFrame(method)) {
+        library = method;
+      }
+    }
+    return library != null ? library : UNKNOWN_SITE;
+  }
+
+  private static boolean isJdkFrame(String method) {
+    return method.startsWith("java.")
+        || method.startsWith("javax.")
+        || method.startsWith("jdk.")
+        || method.startsWith("sun.")
+        || method.startsWith("com.sun.");
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+}
@@ -1,12 +1,16 @@
 // src/main/java/com/testcase/testcasemanagement/controller/AuditLogController.java
 package com.testcase.testcasemanagement.controller;
 
+import com.testcase.testcasemanagement.dto.SeekPage;
 import com.testcase.testcasemanagement.model.AuditLog;
 import com.testcase.testcasemanagement.repository.AuditLogRepository;
 import com.testcase.testcasemanagement.security.GroupSecurityService;
 import com.testcase.testcasemanagement.security.OrganizationSecurityService;
 import com.testcase.testcasemanagement.security.ProjectSecurityService;
+import com.testcase.testcasemanagement.service.RowCountEstimator;
+import com.testcase.testcasemanagement.service.TimePartitionManager;
 import com.testcase.testcasemanagement.util.SecurityContextUtil;
+import com.testcase.testcasemanagement.util.SeekCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.LocalDateTime;
@@ -14,6 +18,7 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -35,6 +40,10 @@ public class AuditLogController {
 
   @Autowired private SecurityContextUtil securityContextUtil;
 
+  @Autowired private RowCountEstimator rowCountEstimator;
+
+  private static final String SCROLL_SCOPE = "audit-logs:desc";
+
   /** 최근 감사 로그 조회 (전체 - 시스템 관리자만) 권한: 시스템 관리자만 가능 */
   @Operation(summary = "최근 감사 로그 조회", description = "전체 감사 로그를 최신순으로 조회합니다. (시스템 관리자 전용)")
   @GetMapping("/recent")
@@ -46,6 +55,61 @@ public class AuditLogController {
     return ResponseEntity.ok(logs);
   }
 
+  /**
+   * 감사 로그 커서 조회 권한: 시스템 관리자만 가능
+   *
+   * <p>OFFSET 없이 (timestamp, id) 키셋으로 이어 읽어 이력 내보내기가 깊이와 무관하게 일정한 속도로 돈다. 전체 건수는 요청할 때만 센다.
+   */
+  @Operation(
+      summary = "감사 로그 커서 조회",
+      description =
+          "감사 로그를 최신순으로 커서를 따라 이어 읽습니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘깁니다."
+              + " 전체 건수는 count=APPROXIMATE|EXACT 일 때만 계산합니다. (시스템 관리자 전용)")
+  @GetMapping("/scroll")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<SeekPage<AuditLog>> scrollLogs(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) String entityType,
+      @RequestParam(required = false) String entityId,
+      @RequestParam(required = false) String userId,
+      @RequestParam(defaultValue = "50") int size,
+      @RequestParam(defaultValue = "NONE") String count) {
+
+    int limit = Math.min(Math.max(size, 1), 1000);
+    SeekCursor after = SeekCursor.decode(cursor, SCROLL_SCOPE);
+
+    Specification<AuditLog> base = (root, query, cb) -> cb.conjunction();
+    boolean filtered = false;
+    if (entityType != null && !entityType.isBlank()) {
+      base = base.and((root, query, cb) -> cb.equal(root.get("entityType"), entityType));
+      filtered = true;
+    }
+    if (entityId != null && !entityId.isBlank()) {
+      base = base.and((root, query, cb) -> cb.equal(root.get("entityId"), entityId));
+      filtered = true;
+    }
+    if (userId != null && !userId.isBlank()) {
+      base = base.and((root, query, cb) -> cb.equal(root.get("performedBy").get("id"), userId));
+      filtered = true;
+    }
+    Specification<AuditLog> spec = after != null ? base.and(after.after("timestamp", true)) : base;
+
+    List<AuditLog> rows =
+        auditLogRepository.findBy(
+            spec, q -> q.sortBy(SeekCursor.sort("timestamp", true)).limit(limit + 1).all());
+    SeekPage<AuditLog> page =
+        SeekPage.of(rows, limit, l -> new SeekCursor(l.getTimestamp(), l.getId()), SCROLL_SCOPE);
+
+    Specification<AuditLog> countSpec = base;
+    return ResponseEntity.ok(
+        rowCountEstimator.withTotal(
+            page,
+            SeekPage.CountMode.from(count),
+            TimePartitionManager.PartitionedTable.AUDIT_LOGS.getTableName(),
+            filtered,
+            () -> auditLogRepository.count(countSpec)));
+  }
+
   /** 특정 엔티티의 감사 로그 조회 권한: 해당 엔티티에 접근 권한이 있는 사용자 */
   @Operation(summary = "엔티티별 감사 로그 조회", description = "특정 엔티티(프로젝트, 조직 등)의 감사 로그를 조회합니다.")
   @GetMapping("/entity/{entityType}/{entityId}")
@@ -5,8 +5,11 @@ package com.testcase.testcasemanagement.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.testcase.testcasemanagement.dto.JunitTestResultDto;
 import com.testcase.testcasemanagement.model.*;
+import com.testcase.testcasemanagement.service.JunitArchiveIngestionService;
 import com.testcase.testcasemanagement.service.JunitAsyncProcessingService;
+import com.testcase.testcasemanagement.service.JunitIngestionScheduler;
 import com.testcase.testcasemanagement.service.JunitResultService;
+import com.testcase.testcasemanagement.service.LiveUpdateHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,7 +18,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +31,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** ICT-203: JUnit XML 테스트 결과 업로드 및 관리 API */
 @RestController
@@ -43,6 +46,10 @@ public class JunitResultController {
 
   @Autowired private JunitAsyncProcessingService asyncProcessingService;
 
+  @Autowired private JunitIngestionScheduler ingestionScheduler;
+
+  @Autowired private LiveUpdateHub liveUpdateHub;
+
   @Value("${junit.file.large-size-threshold:52428800}") // 50MB
   private long largeFileSizeThreshold;
 
@@ -93,10 +100,8 @@ public class JunitResultController {
             junitResultService.createInitialTestResult(
                 file, projectId, authentication.getName(), executionName, description);
 
-        // 비동기 처리 시작
-        CompletableFuture<JunitTestResult> futureResult =
-            asyncProcessingService.processLargeJunitFileAsync(
-                testResult.getId(), testResult.getOriginalFilePath(), testResult.getUploadedBy());
+        // 처리 작업을 대기열에 넣는다. 자리가 없으면 DB 에서 기다렸다가 처리된다
+        ingestionScheduler.submit(testResult, JunitIngestionJob.Kind.XML);
 
         // 즉시 응답 (처리 중 상태)
         response.put("success", true);
@@ -151,6 +156,81 @@ public class JunitResultController {
     }
   }
 
+  /**
+   * JUnit 리포트 묶음(zip, tar.gz) 업로드
+   *
+   * <p>surefire/Gradle 리포트 디렉터리를 통째로 묶어 한 번에 올린다. 묶음 안의 XML 은 병렬로 파싱되어 하나의 테스트 결과로 합쳐지고, 처리는 항상
+   * 백그라운드에서 진행된다. 진행률은 {@code /{testResultId}/processing-progress} 로 조회한다.
+   */
+  @PostMapping("/upload-archive")
+  @Operation(
+      summary = "테스트 결과 묶음 업로드",
+      description = "여러 JUnit XML 을 담은 zip/tar.gz 를 업로드해 하나의 테스트 결과로 합쳐 저장합니다.")
+  @PreAuthorize("@projectSecurityService.canUploadToProject(#projectId, authentication.name)")
+  public ResponseEntity<Map<String, Object>> uploadJunitArchive(
+      @Parameter(description = "업로드할 zip/tar.gz 파일") @RequestParam("file") MultipartFile file,
+      @Parameter(description = "프로젝트 ID") @RequestParam("projectId") String projectId,
+      @Parameter(description = "테스트 실행 이름") @RequestParam(value = "executionName", required = false)
+          String executionName,
+      @Parameter(description = "설명") @RequestParam(value = "description", required = false)
+          String description,
+      Authentication authentication) {
+
+    logger.info(
+        "JUnit 묶음 업로드 요청 - 파일: {}, 프로젝트: {}, 사용자: {}",
+        file.getOriginalFilename(),
+        projectId,
+        authentication.getName());
+
+    Map<String, Object> response = new HashMap<>();
+
+    try {
+      if (file.isEmpty()) {
+        response.put("success", false);
+        response.put("error", "업로드된 파일이 비어있습니다.");
+        return ResponseEntity.badRequest().body(response);
+      }
+
+      if (!JunitArchiveIngestionService.isArchive(file.getOriginalFilename())) {
+        response.put("success", false);
+        response.put("error", "zip, tar.gz, tgz 파일만 업로드 가능합니다.");
+        return ResponseEntity.badRequest().body(response);
+      }
+
+      JunitTestResult testResult =
+          junitResultService.createInitialTestResult(
+              file, projectId, authentication.getName(), executionName, description);
+
+      // 같은 묶음을 다시 올리면 기존 결과를 돌려주고 다시 처리하지 않는다. 실패했던 묶음은 서비스가 UPLOADING 으로 되돌려 다시 처리한다
+      boolean duplicate =
+          testResult.getStatus() != JunitProcessStatus.UPLOADING
+              || !ingestionScheduler.submit(testResult, JunitIngestionJob.Kind.ARCHIVE);
+
+      response.put("success", true);
+      response.put(
+          "message",
+          duplicate ? "이미 업로드된 묶음입니다. 기존 결과를 반환합니다." : "묶음 업로드 완료. 백그라운드에서 처리 중입니다.");
+      response.put("testResultId", testResult.getId());
+      response.put("fileName", testResult.getFileName());
+      response.put("status", duplicate ? testResult.getStatus().name() : "PROCESSING");
+      response.put("isAsync", !duplicate);
+      response.put("duplicate", duplicate);
+      response.put("uploadedAt", testResult.getUploadedAt());
+
+      logger.info("JUnit 묶음 업로드 접수 - ID: {}", testResult.getId());
+
+      return ResponseEntity.ok(response);
+
+    } catch (JunitResultService.JunitProcessingException e) {
+      logger.error("JUnit 묶음 업로드 실패: {}", e.getMessage(), e);
+
+      response.put("success", false);
+      response.put("error", "파일 처리 중 오류가 발생했습니다: " + e.getMessage());
+
+      return ResponseEntity.status(500).body(response);
+    }
+  }
+
   /** 프로젝트별 테스트 결과 목록 조회 */
   @GetMapping("/projects/{projectId}")
   @Operation(summary = "프로젝트 테스트 결과 목록", description = "특정 프로젝트의 JUnit 테스트 결과 목록을 조회합니다.")
@@ -625,6 +705,27 @@ public class JunitResultController {
     }
   }
 
+  @GetMapping(value = "/{testResultId}/processing-progress/stream", produces = "text/event-stream")
+  @PreAuthorize("@projectSecurityService.canAccessJunitResult(#testResultId)")
+  @Operation(
+      summary = "파일 처리 진행률 구독 (SSE)",
+      description =
+          "processing-progress 를 폴링하는 대신 진행률이 바뀔 때마다 progress 이벤트로 받습니다. 본문은 processing-progress"
+              + " 응답과 같은 키입니다. 처리 중이 아니면 연결 직후 완료 상태를 한 번 보냅니다.")
+  public SseEmitter streamProcessingProgress(@PathVariable String testResultId) {
+    JunitAsyncProcessingService.ProcessingProgress progress =
+        asyncProcessingService.getProcessingProgress(testResultId);
+    Map<String, Object> snapshot =
+        progress != null
+            ? progress.toEventData(testResultId)
+            : Map.of(
+                "testResultId", testResultId,
+                "progressPercentage", 100.0,
+                "isCompleted", true,
+                "statusMessage", "처리 완료");
+    return liveUpdateHub.subscribe("junit:" + testResultId, "progress", snapshot);
+  }
+
   /** 모든 활성 처리 작업 조회 */
   @GetMapping("/active-processing")
   @Operation(summary = "활성 처리 작업 조회", description = "현재 처리 중인 모든 JUnit 파일의 진행률을 조회합니다.")
@@ -0,0 +1,65 @@
+package com.testcase.testcasemanagement.controller;
+
+import com.testcase.testcasemanagement.dto.ProjectChangesDto;
+import com.testcase.testcasemanagement.service.ProjectChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 델타 동기화 API
+ *
+ * <p>목록을 주기적으로 통째로 다시 받던 클라이언트(MCP 서버, Jira 앱, 오프라인 편집기)가 마지막 커서 이후 바뀐 ID 만 받아 그 항목만 다시 읽게 한다.
+ */
+@Tag(name = "Project - Changes", description = "테스트케이스·플랜·실행 변경 피드 (델타 동기화)")
+@RestController
+@RequestMapping("/api/projects/{projectId}/changes")
+public class ProjectChangeController {
+
+  private final ProjectChangeFeed projectChangeFeed;
+  private final int maxPageSize;
+
+  public ProjectChangeController(
+      ProjectChangeFeed projectChangeFeed,
+      @Value("${app.change-feed.max-page-size:1000}") int maxPageSize) {
+    this.projectChangeFeed = projectChangeFeed;
+    this.maxPageSize = maxPageSize;
+  }
+
+  @Operation(
+      summary = "변경 조회",
+      description =
+          "since 커서 이후 저장·삭제된 테스트케이스·플랜·실행 ID 를 돌려줍니다. 응답의 cursor 를 다음 since 로 넘기고,"
+              + " hasMore 이면 바로 이어 받습니다. resetRequired 이면 전체 목록을 다시 받은 뒤 응답 cursor 부터 이어 갑니다.")
+  @PreAuthorize("@projectSecurityService.canAccessProject(#projectId)")
+  @GetMapping
+  public ResponseEntity<ProjectChangesDto> getChanges(
+      @PathVariable String projectId,
+      @Parameter(description = "마지막으로 받은 커서 (처음이면 0)") @RequestParam(defaultValue = "0")
+          long since,
+      @Parameter(description = "최대 변경 기록 수") @RequestParam(defaultValue = "500") int limit) {
+    int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+    return ResponseEntity.ok(projectChangeFeed.changesSince(projectId, since, pageSize));
+  }
+
+  @Operation(
+      summary = "변경 알림 구독 (SSE)",
+      description =
+          "연결 직후와 변경이 커밋될 때마다 {\"cursor\": n} 을 change 이벤트로 보냅니다. 알림을 받으면 GET /changes 로"
+              + " 가져옵니다. 알림은 연결된 서버 인스턴스의 변경만 담으므로 재연결 때는 since 로 한 번 따라잡아야 합니다.")
+  @PreAuthorize("@projectSecurityService.canAccessProject(#projectId)")
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter stream(@PathVariable String projectId) {
+    return projectChangeFeed.subscribe(projectId);
+  }
+}
@@ -12,6 +12,7 @@ import com.testcase.testcasemanagement.repository.ProjectUserRepository;
 import com.testcase.testcasemanagement.repository.TestCaseRepository;
 import com.testcase.testcasemanagement.repository.TestExecutionRepository;
 import com.testcase.testcasemanagement.repository.TestPlanRepository;
+import com.testcase.testcasemanagement.service.LiveUpdateHub;
 import com.testcase.testcasemanagement.service.OrganizationService;
 import com.testcase.testcasemanagement.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,6 +36,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 프로젝트 관리 API 컨트롤러
@@ -63,6 +65,8 @@ public class ProjectController {
 
   @Autowired private OrganizationUserRepository organizationUserRepository;
 
+  @Autowired private LiveUpdateHub liveUpdateHub;
+
   /** 전체 프로젝트 목록 조회 */
   @Operation(
       summary = "전체 프로젝트 목록 조회",
@@ -1225,6 +1229,18 @@ public class ProjectController {
     return ResponseEntity.ok(members);
   }
 
+  /** 프로젝트 화면 실시간 구독 (SSE) */
+  @Operation(
+      summary = "프로젝트 실시간 구독 (SSE)",
+      description =
+          "대시보드가 진행 중 실행과 JUnit 처리 현황을 폴링하는 대신 밀어 받습니다. 실행 상태나 결과가 바뀌면 execution 이벤트,"
+              + " JUnit 처리 진행률이 바뀌면 junit-progress 이벤트를 보냅니다. 짧은 간격 안의 변경은 항목마다 마지막 것만 갑니다.")
+  @GetMapping(value = "/{projectId}/live", produces = "text/event-stream")
+  @PreAuthorize("@projectSecurityService.canAccessProject(#projectId, authentication.name)")
+  public SseEmitter streamProjectUpdates(@PathVariable String projectId) {
+    return liveUpdateHub.subscribe("project:" + projectId);
+  }
+
   /** 프로젝트를 다른 조직으로 이전 */
   @Operation(
       summary = "프로젝트를 다른 조직으로 이전",
@@ -4,6 +4,7 @@ import com.testcase.testcasemanagement.dto.TestCaseAttachmentDto;
 import com.testcase.testcasemanagement.model.TestCaseAttachment;
 import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.repository.UserRepository;
+import com.testcase.testcasemanagement.service.AttachmentDownloadService;
 import com.testcase.testcasemanagement.service.I18nService;
 import com.testcase.testcasemanagement.service.TestCaseFileStorageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,7 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -37,6 +37,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class TestCaseAttachmentController {
 
   private final TestCaseFileStorageService fileStorageService;
+  private final AttachmentDownloadService downloadService;
   private final UserRepository userRepository;
   private final I18nService i18nService;
 
@@ -190,29 +191,25 @@ public class TestCaseAttachmentController {
   @GetMapping("/{attachmentId}/download")
   @Operation(summary = "파일 다운로드")
   public ResponseEntity<Resource> downloadFile(
-      @PathVariable String attachmentId, @AuthenticationPrincipal UserDetails userDetails) {
+      @PathVariable String attachmentId,
+      @RequestHeader HttpHeaders requestHeaders,
+      @AuthenticationPrincipal UserDetails userDetails) {
 
     try {
       TestCaseAttachmentDto attachmentInfo = fileStorageService.getAttachmentInfo(attachmentId);
-      Resource resource = fileStorageService.loadFileAsResource(attachmentId);
-
-      HttpHeaders headers = new HttpHeaders();
-      headers.add(
-          HttpHeaders.CONTENT_DISPOSITION,
-          "attachment; filename=\"" + attachmentInfo.getOriginalFileName() + "\"");
-      headers.add(
-          HttpHeaders.CONTENT_TYPE,
-          attachmentInfo.getMimeType() != null
-              ? attachmentInfo.getMimeType()
-              : MediaType.APPLICATION_OCTET_STREAM_VALUE);
-      headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(attachmentInfo.getFileSize()));
+      String objectKey = fileStorageService.getDownloadObjectKey(attachmentId);
 
       log.info(
           "테스트케이스 파일 다운로드: {} by {}",
           attachmentInfo.getOriginalFileName(),
           userDetails.getUsername());
 
-      return ResponseEntity.ok().headers(headers).body(resource);
+      return downloadService.serve(
+          objectKey,
+          attachmentInfo.getOriginalFileName(),
+          attachmentInfo.getMimeType(),
+          false,
+          requestHeaders);
 
     } catch (IllegalArgumentException e) {
       log.warn("파일 다운로드 요청 오류: {}", e.getMessage());
@@ -238,7 +235,9 @@ public class TestCaseAttachmentController {
   @GetMapping("/public/{attachmentId}")
   @Operation(summary = "공개 토큰으로 파일 다운로드")
   public ResponseEntity<Resource> downloadFileWithToken(
-      @PathVariable String attachmentId, @RequestParam("token") String token) {
+      @PathVariable String attachmentId,
+      @RequestParam("token") String token,
+      @RequestHeader HttpHeaders requestHeaders) {
 
     try {
       // 공개 토큰은 인증 자격이므로 평문으로 로깅하지 않는다
@@ -249,22 +248,15 @@ public class TestCaseAttachmentController {
           "첨부파일 정보 조회 성공: fileName={}, mimeType={}",
           attachment.getOriginalFileName(),
           attachment.getMimeType());
-      Resource resource = fileStorageService.loadFileAsResource(attachment);
-
-      HttpHeaders headers = new HttpHeaders();
-      headers.add(
-          HttpHeaders.CONTENT_DISPOSITION,
-          "inline; filename=\"" + attachment.getOriginalFileName() + "\"");
-      headers.add(
-          HttpHeaders.CONTENT_TYPE,
-          attachment.getMimeType() != null
-              ? attachment.getMimeType()
-              : MediaType.APPLICATION_OCTET_STREAM_VALUE);
-      headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(attachment.getFileSize()));
 
       log.info("공개 토큰을 통한 첨부파일 다운로드: {}", attachment.getOriginalFileName());
 
-      return ResponseEntity.ok().headers(headers).body(resource);
+      return downloadService.serve(
+          attachment.getFilePath(),
+          attachment.getOriginalFileName(),
+          attachment.getMimeType(),
+          true,
+          requestHeaders);
 
     } catch (IllegalArgumentException e) {
       log.warn("공개 다운로드 토큰 오류: {}", e.getMessage());
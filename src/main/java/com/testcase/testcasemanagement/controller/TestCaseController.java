@@ -20,7 +20,9 @@ import com.testcase.testcasemanagement.model.TestCase;
 import com.testcase.testcasemanagement.repository.TestCaseRepository;
 import com.testcase.testcasemanagement.service.TestCaseAiGenerationService;
 import com.testcase.testcasemanagement.service.TestCaseCrossProjectService;
+import com.testcase.testcasemanagement.service.TestCaseFieldProjection;
 import com.testcase.testcasemanagement.service.TestCaseService;
+import com.testcase.testcasemanagement.service.TestCaseStandardImporter;
 import com.testcase.testcasemanagement.service.TestCaseTreeMoveService;
 import com.testcase.testcasemanagement.service.TestCaseTreeMoveService.CrossProjectMoveException;
 import com.testcase.testcasemanagement.service.TestCaseTreeMoveService.MoveForbiddenException;
@@ -31,6 +33,8 @@ import com.testcase.testcasemanagement.util.CsvMappingConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +47,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Test Case - Management", description = "테스트케이스 관리 API")
 @Slf4j
@@ -57,18 +62,21 @@ public class TestCaseController {
   private final TestCaseAiGenerationService testCaseAiGenerationService;
   private final TestCaseTreeMoveService testCaseTreeMoveService;
   private final TestCaseCrossProjectService testCaseCrossProjectService;
+  private final TestCaseFieldProjection testCaseFieldProjection;
 
   public TestCaseController(
       TestCaseService testCaseService,
       ObjectMapper objectMapper,
       TestCaseAiGenerationService testCaseAiGenerationService,
       TestCaseTreeMoveService testCaseTreeMoveService,
-      TestCaseCrossProjectService testCaseCrossProjectService) {
+      TestCaseCrossProjectService testCaseCrossProjectService,
+      TestCaseFieldProjection testCaseFieldProjection) {
     this.testCaseService = testCaseService;
     this.objectMapper = objectMapper;
     this.testCaseAiGenerationService = testCaseAiGenerationService;
     this.testCaseTreeMoveService = testCaseTreeMoveService;
     this.testCaseCrossProjectService = testCaseCrossProjectService;
+    this.testCaseFieldProjection = testCaseFieldProjection;
   }
 
   // ==================== Tree Drag-and-Drop Move APIs ====================
@@ -314,11 +322,51 @@ public class TestCaseController {
   }
 
   // 프로젝트 ID로 테스트 케이스 전체 조회
-  @Operation(summary = "프로젝트별 테스트케이스 조회", description = "특정 프로젝트에 속한 모든 테스트케이스를 조회합니다.")
+  @Operation(
+      summary = "프로젝트별 테스트케이스 조회",
+      description =
+          "특정 프로젝트에 속한 모든 테스트케이스를 조회합니다. fields(쉼표 구분, 예: id,displayId,name,parentId)를 주면 그 필드만"
+              + " 읽어 돌려주고, format=ndjson 이면 한 줄에 하나씩 스트리밍합니다(fields 생략 시 전체 필드).")
   @GetMapping("/project/{projectId}")
-  public List<TestCaseDto> getTestCasesByProjectId(@PathVariable String projectId) {
-    List<TestCase> entities = testCaseService.getTestCasesByProjectId(projectId);
-    return TestCaseMapper.toDtoList(entities);
+  public ResponseEntity<?> getTestCasesByProjectId(
+      @PathVariable String projectId,
+      @RequestParam(required = false) String fields,
+      @RequestParam(required = false) String format) {
+    boolean ndjson = "ndjson".equalsIgnoreCase(format);
+    if (fields == null && !ndjson) {
+      List<TestCase> entities = testCaseService.getTestCasesByProjectId(projectId);
+      return ResponseEntity.ok(TestCaseMapper.toDtoList(entities));
+    }
+
+    List<String> selected;
+    try {
+      selected =
+          fields != null
+              ? TestCaseFieldProjection.parseFields(fields)
+              : TestCaseFieldProjection.ALL_FIELDS;
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+    if (!ndjson) {
+      return ResponseEntity.ok(testCaseFieldProjection.list(projectId, selected));
+    }
+
+    // 권한은 응답을 시작하기 전에 본다 — 스트리밍이 시작되면 상태 코드를 바꿀 수 없다
+    testCaseFieldProjection.checkAccess(projectId);
+    StreamingResponseBody body =
+        out ->
+            testCaseFieldProjection.forEach(
+                projectId,
+                selected,
+                row -> {
+                  try {
+                    out.write(objectMapper.writeValueAsBytes(row));
+                    out.write('\n');
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
   }
 
   /**
@@ -602,11 +650,9 @@ public class TestCaseController {
       return ResponseEntity.badRequest().body(Map.of("error", "파일 크기가 5MB를 초과합니다"));
     }
     try {
-      List<TestCase> imported =
+      TestCaseStandardImporter.ImportResult result =
           testCaseService.importFromStandardCsv(file.getInputStream(), projectId);
-      List<TestCaseDto> dtos =
-          imported.stream().map(TestCaseMapper::toDto).collect(Collectors.toList());
-      return ResponseEntity.ok(Map.of("importedCount", dtos.size(), "items", dtos));
+      return ResponseEntity.ok(standardImportResponse(result));
     } catch (TestCaseService.CsvImportException e) {
       return ResponseEntity.badRequest()
           .body(Map.of("error", e.getMessage(), "details", e.getErrors()));
@@ -627,11 +673,9 @@ public class TestCaseController {
       return ResponseEntity.badRequest().body(Map.of("error", "파일 크기가 10MB를 초과합니다"));
     }
     try {
-      List<TestCase> imported =
+      TestCaseStandardImporter.ImportResult result =
           testCaseService.importFromStandardExcel(file.getInputStream(), projectId);
-      List<TestCaseDto> dtos =
-          imported.stream().map(TestCaseMapper::toDto).collect(Collectors.toList());
-      return ResponseEntity.ok(Map.of("importedCount", dtos.size(), "items", dtos));
+      return ResponseEntity.ok(standardImportResponse(result));
     } catch (TestCaseService.CsvImportException e) {
       return ResponseEntity.badRequest()
           .body(Map.of("error", e.getMessage(), "details", e.getErrors()));
@@ -650,10 +694,9 @@ public class TestCaseController {
       return ResponseEntity.badRequest().body(Map.of("error", "파일 크기가 5MB를 초과합니다"));
     }
     try {
-      List<TestCase> imported = testCaseService.importFromJson(file.getInputStream(), projectId);
-      List<TestCaseDto> dtos =
-          imported.stream().map(TestCaseMapper::toDto).collect(Collectors.toList());
-      return ResponseEntity.ok(Map.of("importedCount", dtos.size(), "items", dtos));
+      TestCaseStandardImporter.ImportResult result =
+          testCaseService.importFromJson(file.getInputStream(), projectId);
+      return ResponseEntity.ok(standardImportResponse(result));
     } catch (TestCaseService.CsvImportException e) {
       return ResponseEntity.badRequest()
           .body(Map.of("error", e.getMessage(), "details", e.getErrors()));
@@ -663,6 +706,21 @@ public class TestCaseController {
     }
   }
 
+  /** 표준 Import 응답. items 는 앞쪽 일부만 담고, 잘렸으면 itemsTruncated 로 알린다. */
+  private Map<String, Object> standardImportResponse(TestCaseStandardImporter.ImportResult result) {
+    List<TestCaseDto> dtos =
+        result.items().stream().map(TestCaseMapper::toDto).collect(Collectors.toList());
+    return Map.of(
+        "importedCount",
+        result.importedCount(),
+        "items",
+        dtos,
+        "itemsTruncated",
+        dtos.size() < result.importedCount(),
+        "chunks",
+        result.chunks());
+  }
+
   @Operation(summary = "Import 사전 검증", description = "파일을 저장하지 않고 데이터 유효성만 검사합니다.")
   @PostMapping("/import/validate")
   public ResponseEntity<?> validateImportFile(
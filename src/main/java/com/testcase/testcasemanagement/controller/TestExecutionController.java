@@ -19,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** 테스트 실행(Execution) 관리용 컨트롤러 */
 @lombok.extern.slf4j.Slf4j
@@ -62,6 +63,17 @@ public class TestExecutionController {
     return dto.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
   }
 
+  // 테스트 실행 실시간 구독 (SSE) - 실행 화면 폴링 대신 결과 기록을 밀어 받는다
+  @GetMapping(value = "/{id}/stream", produces = "text/event-stream")
+  @Operation(
+      summary = "테스트 실행 실시간 구독 (SSE)",
+      description =
+          "연결 직후와 상태가 바뀔 때 execution 이벤트, 결과가 기록·수정·삭제될 때 케이스별 result 이벤트를 보냅니다."
+              + " resync 이벤트를 받으면 실행을 다시 조회합니다.")
+  public SseEmitter streamTestExecution(@PathVariable String id) {
+    return testExecutionService.subscribeLiveUpdates(id);
+  }
+
   // 테스트 실행 정보 수정
   @PutMapping("/{id}")
   public ResponseEntity<TestExecutionDto> updateTestExecution(
@@ -14,6 +14,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -54,12 +55,14 @@ public class TestResultApiController {
       Page<TestResultReportDto> resultPage =
           testResultReportService.getDetailedTestResultReport(filter);
 
-      // 메타데이터 생성
-      Map<String, Object> metadata =
-          Map.of(
-              "queryExecutedAt", LocalDateTime.now(),
-              "totalResults", resultPage.getTotalElements(),
-              "searchCriteria", query);
+      // 메타데이터 생성 (커서 페이징이면 다음 커서 포함)
+      Map<String, Object> metadata = new LinkedHashMap<>();
+      metadata.put("queryExecutedAt", LocalDateTime.now());
+      metadata.put("totalResults", resultPage.getTotalElements());
+      metadata.put("searchCriteria", query);
+      if (resultPage instanceof CursorPage<TestResultReportDto> cursorPage) {
+        metadata.put("nextCursor", cursorPage.getNextCursor());
+      }
 
       return ResponseEntity.ok(ApiResponse.success(resultPage.getContent(), metadata));
 
@@ -279,6 +282,8 @@ public class TestResultApiController {
             .tags(query.getTags()) // ICT-427: 결과 태그 필터
             .page(query.getPage())
             .size(query.getSize())
+            .latestOnly(query.getLatestOnly())
+            .cursor(query.getCursor())
             .build();
 
     // ICT-178: JIRA 이슈 키 필터 처리 (URL인 경우 ID 추출)
@@ -3,6 +3,7 @@ package com.testcase.testcasemanagement.controller;
 import com.testcase.testcasemanagement.dto.TestResultAttachmentDto;
 import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.repository.UserRepository;
+import com.testcase.testcasemanagement.service.AttachmentDownloadService;
 import com.testcase.testcasemanagement.service.FileStorageService;
 import com.testcase.testcasemanagement.service.I18nService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,7 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -37,6 +37,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class TestResultAttachmentController {
 
   private final FileStorageService fileStorageService;
+  private final AttachmentDownloadService downloadService;
   private final UserRepository userRepository;
   private final I18nService i18nService;
 
@@ -147,37 +148,32 @@ public class TestResultAttachmentController {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "다운로드 성공", content = @Content),
+        @ApiResponse(responseCode = "206", description = "부분 응답 (Range 요청)", content = @Content),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "401", description = "인증 실패"),
         @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   public ResponseEntity<Resource> downloadFile(
       @Parameter(description = "첨부파일 ID") @PathVariable String attachmentId,
+      @RequestHeader HttpHeaders requestHeaders,
       @AuthenticationPrincipal UserDetails userDetails) {
 
     try {
       // 첨부파일 정보 조회
       TestResultAttachmentDto attachmentInfo = fileStorageService.getAttachmentInfo(attachmentId);
-
-      // 파일 리소스 로드
-      Resource resource = fileStorageService.loadFileAsResource(attachmentId);
-
-      // 파일 다운로드 응답 헤더 설정
-      HttpHeaders headers = new HttpHeaders();
-      headers.add(
-          HttpHeaders.CONTENT_DISPOSITION,
-          "attachment; filename=\"" + attachmentInfo.getOriginalFileName() + "\"");
-      headers.add(
-          HttpHeaders.CONTENT_TYPE,
-          attachmentInfo.getMimeType() != null
-              ? attachmentInfo.getMimeType()
-              : MediaType.APPLICATION_OCTET_STREAM_VALUE);
-      headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(attachmentInfo.getFileSize()));
+      String objectKey = fileStorageService.getDownloadObjectKey(attachmentId);
 
       log.info(
           "파일 다운로드: {} by {}", attachmentInfo.getOriginalFileName(), userDetails.getUsername());
 
-      return ResponseEntity.ok().headers(headers).body(resource);
+      // Range/If-None-Match 처리 포함 (206, 304 응답 가능)
+      return downloadService.serve(
+          objectKey,
+          attachmentInfo.getOriginalFileName(),
+          attachmentInfo.getMimeType(),
+          false,
+          requestHeaders);
 
     } catch (IllegalArgumentException e) {
       log.warn("파일 다운로드 요청 오류: {}", e.getMessage());
@@ -331,41 +327,40 @@ public class TestResultAttachmentController {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "미리보기 성공", content = @Content),
+        @ApiResponse(responseCode = "206", description = "부분 응답 (Range 요청)", content = @Content),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "401", description = "인증 실패"),
         @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   public ResponseEntity<Resource> previewFile(
       @Parameter(description = "첨부파일 ID") @PathVariable String attachmentId,
+      @RequestHeader HttpHeaders requestHeaders,
       @AuthenticationPrincipal UserDetails userDetails) {
 
     try {
       // 첨부파일 정보 조회
       TestResultAttachmentDto attachmentInfo = fileStorageService.getAttachmentInfo(attachmentId);
+      String objectKey = fileStorageService.getDownloadObjectKey(attachmentId);
 
-      // 파일 리소스 로드
-      Resource resource = fileStorageService.loadFileAsResource(attachmentId);
-
-      // 미리보기 응답 헤더 설정 (다운로드가 아닌 인라인 표시)
-      HttpHeaders headers = new HttpHeaders();
-      headers.add(
-          HttpHeaders.CONTENT_DISPOSITION,
-          "inline; filename=\"" + attachmentInfo.getOriginalFileName() + "\"");
-      headers.add(
-          HttpHeaders.CONTENT_TYPE,
-          attachmentInfo.getMimeType() != null
-              ? attachmentInfo.getMimeType()
-              : MediaType.APPLICATION_OCTET_STREAM_VALUE);
-      headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(attachmentInfo.getFileSize()));
-
-      // CORS 헤더 추가 (iframe에서 접근 가능하도록)
-      headers.add(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
-      headers.add(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, "GET");
+      // 미리보기는 인라인 표시 + Range 지원 (동영상/큰 로그 탐색)
+      ResponseEntity<Resource> response =
+          downloadService.serve(
+              objectKey,
+              attachmentInfo.getOriginalFileName(),
+              attachmentInfo.getMimeType(),
+              true,
+              requestHeaders);
 
       log.info(
           "파일 미리보기: {} by {}", attachmentInfo.getOriginalFileName(), userDetails.getUsername());
 
-      return ResponseEntity.ok().headers(headers).body(resource);
+      // CORS 헤더 추가 (iframe에서 접근 가능하도록)
+      return ResponseEntity.status(response.getStatusCode())
+          .headers(response.getHeaders())
+          .header(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*")
+          .header(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, "GET")
+          .body(response.getBody());
 
     } catch (IllegalArgumentException e) {
       log.warn("파일 미리보기 요청 오류: {}", e.getMessage());
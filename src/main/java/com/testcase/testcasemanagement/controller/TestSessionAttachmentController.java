@@ -3,6 +3,7 @@ package com.testcase.testcasemanagement.controller;
 import com.testcase.testcasemanagement.dto.TestSessionAttachmentDto;
 import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.repository.UserRepository;
+import com.testcase.testcasemanagement.service.AttachmentDownloadService;
 import com.testcase.testcasemanagement.service.I18nService;
 import com.testcase.testcasemanagement.service.TestSessionFileStorageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,7 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,6 +30,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class TestSessionAttachmentController {
 
   private final TestSessionFileStorageService fileStorageService;
+  private final AttachmentDownloadService downloadService;
   private final UserRepository userRepository;
   private final I18nService i18nService;
 
@@ -78,21 +79,20 @@ public class TestSessionAttachmentController {
   @PreAuthorize("@projectSecurityService.canAccessTestSessionAttachment(#attachmentId)")
   @Operation(summary = "파일 다운로드")
   public ResponseEntity<Resource> downloadFile(
-      @PathVariable String attachmentId, @AuthenticationPrincipal UserDetails userDetails) {
+      @PathVariable String attachmentId,
+      @RequestHeader HttpHeaders requestHeaders,
+      @AuthenticationPrincipal UserDetails userDetails) {
 
     try {
       TestSessionAttachmentDto attachmentInfo = fileStorageService.getAttachmentInfo(attachmentId);
-      Resource resource = fileStorageService.loadFileAsResource(attachmentId);
-
-      return ResponseEntity.ok()
-          .header(
-              HttpHeaders.CONTENT_DISPOSITION,
-              "attachment; filename=\"" + attachmentInfo.getOriginalFileName() + "\"")
-          .contentType(
-              attachmentInfo.getMimeType() != null
-                  ? MediaType.parseMediaType(attachmentInfo.getMimeType())
-                  : MediaType.APPLICATION_OCTET_STREAM)
-          .body(resource);
+      String objectKey = fileStorageService.getDownloadObjectKey(attachmentId);
+
+      return downloadService.serve(
+          objectKey,
+          attachmentInfo.getOriginalFileName(),
+          attachmentInfo.getMimeType(),
+          false,
+          requestHeaders);
 
     } catch (Exception e) {
       log.error("파일 다운로드 오류: {}", e.getMessage());
@@ -1,5 +1,6 @@
 package com.testcase.testcasemanagement.controller;
 
+import com.testcase.testcasemanagement.dto.SeekPage;
 import com.testcase.testcasemanagement.dto.TestSessionPauseRequestDto;
 import com.testcase.testcasemanagement.dto.TestSessionRequestDto;
 import com.testcase.testcasemanagement.dto.TestSessionResponseDto;
@@ -121,6 +122,36 @@ public class TestSessionController {
             projectId, parseStatus(status), from, to, testerId, charterId, page, size, sort));
   }
 
+  /** 세션 목록을 커서로 이어 읽는다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘긴다. */
+  @GetMapping("/projects/{projectId}/sessions/scroll")
+  @PreAuthorize("@projectSecurityService.canAccessProject(#projectId)")
+  public ResponseEntity<SeekPage<TestSessionResponseDto>> scrollByProject(
+      @PathVariable String projectId,
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to,
+      @RequestParam(required = false) String testerId,
+      @RequestParam(required = false) String charterId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "desc") String direction,
+      @RequestParam(defaultValue = "NONE") String count) {
+    return ResponseEntity.ok(
+        testSessionService.scrollByProject(
+            projectId,
+            parseStatus(status),
+            from,
+            to,
+            testerId,
+            charterId,
+            cursor,
+            size,
+            !"asc".equalsIgnoreCase(direction),
+            SeekPage.CountMode.from(count)));
+  }
+
   @DeleteMapping("/sessions/{id}")
   @PreAuthorize("@projectSecurityService.canDeleteTestSession(#id)")
   public ResponseEntity<Void> deleteSession(@PathVariable String id) {
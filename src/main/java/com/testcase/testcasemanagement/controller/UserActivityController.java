@@ -2,6 +2,7 @@
 package com.testcase.testcasemanagement.controller;
 
 import com.testcase.testcasemanagement.audit.AuditSeverity;
+import com.testcase.testcasemanagement.dto.SeekPage;
 import com.testcase.testcasemanagement.dto.UserActivityDto;
 import com.testcase.testcasemanagement.model.UserActivity;
 import com.testcase.testcasemanagement.service.UserActivityService;
@@ -277,6 +278,45 @@ public class UserActivityController {
     return ResponseEntity.ok(response);
   }
 
+  /** 활동 이력 커서 조회 (관리자 전용) */
+  @Operation(
+      summary = "활동 이력 커서 조회",
+      description =
+          """
+          **활동 이력을 최신순으로 커서를 따라 이어 읽습니다.**
+
+          • 응답의 `nextCursor` 를 다음 요청의 `cursor` 로 넘기면 이어서 읽습니다 (마지막이면 null)
+          • 페이지가 깊어져도 응답 시간이 일정합니다 (무한 스크롤·이력 내보내기용)
+          • `keyword` 를 주면 활동 검색과 같은 대상에서 찾습니다
+          • 전체 건수는 `count=APPROXIMATE|EXACT` 일 때만 계산합니다
+
+          **⚠️ 관리자 전용 기능**
+          """)
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "활동 이력 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+        @ApiResponse(responseCode = "403", description = "권한 없음 - 관리자 권한 필요")
+      })
+  @GetMapping("/scroll")
+  @PreAuthorize("hasRole('ADMIN') or @securityContextUtil.isSystemAdmin()")
+  public ResponseEntity<SeekPage<UserActivityDto.Response>> scrollActivities(
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "검색 키워드") @RequestParam(required = false) String keyword,
+      @Parameter(description = "페이지 크기", example = "50") @RequestParam(defaultValue = "50")
+          int size,
+      @Parameter(description = "전체 건수 계산 방식 (NONE, APPROXIMATE, EXACT)")
+          @RequestParam(defaultValue = "NONE")
+          String count) {
+
+    SeekPage<UserActivity> activities =
+        userActivityService.scrollActivities(
+            keyword, cursor, size, SeekPage.CountMode.from(count));
+
+    return ResponseEntity.ok(activities.map(this::convertToDto));
+  }
+
   /** 이상 활동 조회 */
   @Operation(
       summary = "이상 활동 조회",
@@ -0,0 +1,27 @@
+package com.testcase.testcasemanagement.dto;
+
+import java.util.List;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 키셋 페이징 응답. 일반 {@code Page} 응답에 다음 페이지 커서를 더한다.
+ *
+ * <p>클라이언트는 다음 요청에 {@code nextCursor} 를 그대로 돌려주면 OFFSET 없이 이어 읽는다. 페이지 번호 방식도 그대로 쓸 수 있다.
+ */
+public class CursorPage<T> extends PageImpl<T> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String nextCursor;
+
+  public CursorPage(List<T> content, Pageable pageable, long total, String nextCursor) {
+    super(content, pageable, total);
+    this.nextCursor = nextCursor;
+  }
+
+  /** 다음 페이지 커서. 마지막 페이지면 null. */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+}
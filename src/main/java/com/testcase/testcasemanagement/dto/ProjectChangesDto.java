@@ -0,0 +1,40 @@
+package com.testcase.testcasemanagement.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 델타 동기화 응답 ({@code GET /api/projects/{projectId}/changes?since=})
+ *
+ * <p>{@code changes} 는 한 엔티티에 여러 변경이 있으면 마지막 것만 남긴다. 다음 요청은 {@code cursor} 를 {@code since} 로 넘긴다.
+ * {@code resetRequired} 이면 since 이후 기록 일부가 보존 기간이 지나 지워졌으므로 목록을 처음부터 다시 받아야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectChangesDto {
+
+  private long cursor;
+  private boolean hasMore;
+  private boolean resetRequired;
+  private List<Change> changes;
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Change {
+    private long seq;
+    private String entityType;
+    private String entityId;
+    private String operation;
+    private String changedAt;
+  }
+}
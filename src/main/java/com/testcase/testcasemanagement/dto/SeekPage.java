@@ -0,0 +1,90 @@
+package com.testcase.testcasemanagement.dto;
+
+import com.testcase.testcasemanagement.util.SeekCursor;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * 커서로 이어 읽는 목록 응답
+ *
+ * <p>{@code Page} 와 달리 전체 건수를 기본으로 세지 않는다. 수백만 행 표에서는 COUNT 가 페이지 조회만큼 비싸고, 무한 스크롤·내보내기는 다음 페이지가
+ * 있는지만 알면 된다. 건수가 필요하면 {@link CountMode} 로 요청한다.
+ */
+@Getter
+public class SeekPage<T> {
+
+  private final List<T> content;
+  private final int size;
+  private final boolean hasNext;
+
+  /** 다음 요청에 그대로 돌려줄 커서. 마지막 페이지면 null. */
+  private final String nextCursor;
+
+  /** 전체 건수. {@link CountMode#NONE} 이면 null. */
+  private final Long totalElements;
+
+  /** {@code totalElements} 가 통계 기반 추정치인지 여부 */
+  private final boolean totalApproximate;
+
+  private SeekPage(
+      List<T> content,
+      int size,
+      boolean hasNext,
+      String nextCursor,
+      Long totalElements,
+      boolean totalApproximate) {
+    this.content = content;
+    this.size = size;
+    this.hasNext = hasNext;
+    this.nextCursor = nextCursor;
+    this.totalElements = totalElements;
+    this.totalApproximate = totalApproximate;
+  }
+
+  /**
+   * {@code size + 1} 행을 읽은 결과로 페이지를 만든다. 넘친 한 행은 다음 페이지가 있다는 표시로만 쓰고 버린다.
+   *
+   * @param keyOf 행의 (시각, ID) 키. 마지막 행의 키가 다음 커서가 된다.
+   * @param scope 커서를 발급한 목록·방향. {@link SeekCursor#decode} 에 같은 값을 넘겨야 한다.
+   */
+  public static <T> SeekPage<T> of(
+      List<T> fetched, int size, Function<T, SeekCursor> keyOf, String scope) {
+    boolean hasNext = fetched.size() > size;
+    List<T> rows = hasNext ? List.copyOf(fetched.subList(0, size)) : List.copyOf(fetched);
+    String next = hasNext ? keyOf.apply(rows.get(rows.size() - 1)).encode(scope) : null;
+    return new SeekPage<>(rows, size, hasNext, next, null, false);
+  }
+
+  public SeekPage<T> withTotal(Long total, boolean approximate) {
+    return new SeekPage<>(content, size, hasNext, nextCursor, total, approximate);
+  }
+
+  public <R> SeekPage<R> map(Function<? super T, ? extends R> mapper) {
+    List<R> mapped = content.stream().<R>map(mapper).toList();
+    return new SeekPage<>(mapped, size, hasNext, nextCursor, totalElements, totalApproximate);
+  }
+
+  /** 전체 건수를 어떻게 셀지 */
+  public enum CountMode {
+    /** 세지 않는다 (기본) */
+    NONE,
+    /** 조건 없는 목록은 테이블 통계 추정치, 조건이 있으면 정확히 센다 */
+    APPROXIMATE,
+    /** 항상 정확히 센다 */
+    EXACT;
+
+    /** 요청 파라미터 값. 모르는 값은 NONE. */
+    public static CountMode from(String value) {
+      if (value == null || value.isBlank()) {
+        return NONE;
+      }
+      try {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        return NONE;
+      }
+    }
+  }
+}
@@ -57,6 +57,8 @@ public class TestResultFilterDto {
   private Integer page;
   private Integer size;
   private Integer limit; // 최대 결과 수 제한
+  // 키셋 페이징 커서 (직전 응답의 nextCursor). 있으면 page 대신 이 위치 다음부터 읽는다
+  private String cursor;
 
   // 그룹핑 옵션
   private String groupBy; // TEST_PLAN, EXECUTOR, DATE, JIRA_STATUS 등
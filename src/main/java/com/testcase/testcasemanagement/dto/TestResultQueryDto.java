@@ -73,6 +73,15 @@ public class TestResultQueryDto {
   /** 페이지 크기 */
   @Builder.Default private int size = 20;
 
+  /** 플랜별 최신 결과만 조회 (테스트케이스당 한 행) */
+  private Boolean latestOnly;
+
+  /**
+   * 이전 응답 metadata 의 nextCursor. 최신 결과 조회(latestOnly + testPlanIds)에서는 page 대신 이 커서로 이어
+   * 읽어 페이지 깊이와 무관하게 일정한 속도로 읽는다.
+   */
+  private String cursor;
+
   /** 정렬 필드 */
   @Builder.Default private String sortBy = "executedAt";
 
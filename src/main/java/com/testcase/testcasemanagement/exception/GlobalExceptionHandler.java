@@ -255,6 +255,35 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
   }
 
+  /**
+   * 외부 시스템 격리가 호출을 보내지 않고 거절한 경우 (동시 호출 한도 초과, 회로 열림).
+   *
+   * <p>앱이 아니라 그 외부 시스템을 쓰는 기능만 잠시 쓸 수 없는 상태라 503 과 짧은 Retry-After 를 준다.
+   */
+  @ExceptionHandler(OutboundUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleOutboundUnavailable(
+      OutboundUnavailableException ex, WebRequest request) {
+
+    logger.warn(
+        "외부 시스템 호출 거절 - 시스템: {}, 이유: {}, 요청: {}",
+        ex.getSystem(),
+        ex.getReason(),
+        request.getDescription(false));
+
+    Map<String, String> details = new HashMap<>();
+    details.put("system", ex.getSystem());
+    details.put("reason", ex.getReason().name());
+
+    ErrorResponse response =
+        new ErrorResponse(
+            OutboundUnavailableException.ERROR_CODE, ex.getMessage(), LocalDateTime.now(), details);
+
+    boolean circuitOpen = ex.getReason() == OutboundUnavailableException.Reason.CIRCUIT_OPEN;
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header("Retry-After", circuitOpen ? "30" : "1")
+        .body(response);
+  }
+
   @ExceptionHandler(RagVectorWriteDisabledException.class)
   public ResponseEntity<ErrorResponse> handleRagVectorWriteDisabled(
       RagVectorWriteDisabledException ex, WebRequest request) {
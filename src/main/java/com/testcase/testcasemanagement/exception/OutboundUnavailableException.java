@@ -0,0 +1,41 @@
+package com.testcase.testcasemanagement.exception;
+
+/**
+ * 외부 시스템(Jira·RAG·LLM·MinIO) 호출을 보내지 않고 바로 거절했을 때 발생한다.
+ *
+ * <p>상대가 느리거나 멈춰 동시 호출 한도가 찼거나(벌크헤드), 최근 실패가 많아 회로가 열린 경우다. 요청 스레드를 상대의 타임아웃(RAG 는 최대
+ * 5분)까지 붙잡아 두지 않고 503 으로 돌려보내, 느린 시스템 하나가 그 기능만 멈추게 하고 앱 전체의 스레드를 잠그지 않게 한다.
+ */
+public class OutboundUnavailableException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  /** 프런트엔드가 안내 문구를 고를 때 쓰는 식별자. 문구가 바뀌어도 이 값은 유지한다. */
+  public static final String ERROR_CODE = "OUTBOUND_UNAVAILABLE";
+
+  public enum Reason {
+    /** 동시 호출 한도가 차 있다 */
+    BULKHEAD_FULL,
+    /** 최근 실패·지연이 많아 회로가 열려 있다 */
+    CIRCUIT_OPEN
+  }
+
+  private final String system;
+  private final Reason reason;
+
+  public OutboundUnavailableException(String system, Reason reason) {
+    super(
+        reason == Reason.CIRCUIT_OPEN
+            ? "외부 시스템(" + system + ")이 응답하지 않아 잠시 호출을 멈췄습니다. 잠시 후 다시 시도해주세요."
+            : "외부 시스템(" + system + ") 호출이 몰려 있습니다. 잠시 후 다시 시도해주세요.");
+    this.system = system;
+    this.reason = reason;
+  }
+
+  public String getSystem() {
+    return system;
+  }
+
+  public Reason getReason() {
+    return reason;
+  }
+}
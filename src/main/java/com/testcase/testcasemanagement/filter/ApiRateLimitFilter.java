@@ -0,0 +1,190 @@
+package com.testcase.testcasemanagement.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcase.testcasemanagement.config.ApiKeyAuthenticationFilter;
+import com.testcase.testcasemanagement.dto.ErrorResponse;
+import com.testcase.testcasemanagement.filter.ratelimit.ApiRouteClass;
+import com.testcase.testcasemanagement.filter.ratelimit.RateLimit;
+import com.testcase.testcasemanagement.filter.ratelimit.RateLimitBackend;
+import com.testcase.testcasemanagement.filter.ratelimit.RateLimitDecision;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * API Rate Limiting 필터 — 사용자·서비스 API 키·IP 별, 경로 분류별 토큰 버킷
+ *
+ * <p>{@link RateLimiterFilter} 는 페이지 요청만 IP 로 묶고 {@code /api/} 는 건너뛴다. 실제 부하는 CI·mcp-server 가 부르는 API
+ * 쪽이라, 클라이언트 하나가 폭주하면 DB 가 먼저 포화됐다. 이 필터는 Security 체인 안에서 인증 필터 뒤에 돌아 누가 부르는지 안다.
+ *
+ * <ul>
+ *   <li>버킷 키: 서비스 API 키 ID → 로그인 사용자 → 클라이언트 IP 순으로 정한 식별자 + {@link ApiRouteClass}
+ *   <li>한도: 식별자 종류별 ({@code app.ratelimit.api.user/api-key/anonymous}). 로그인·토큰 갱신은 누구든 IP 별
+ *       {@code app.ratelimit.api.auth} 한도를 따로 쓴다
+ *   <li>비용: 내보내기·AI 생성·RAG 채팅·일괄 가져오기는 요청 하나가 토큰 여러 개
+ * </ul>
+ *
+ * <p>서블릿 필터로 따로 등록하지 않는다({@code FilterConfig}). {@code SecurityConfig} 가 체인에 넣는다.
+ */
+@Slf4j
+@Component
+public class ApiRateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimitBackend backend;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  private final RateLimit userLimit;
+  private final RateLimit apiKeyLimit;
+  private final RateLimit anonymousLimit;
+  private final RateLimit authLimit;
+  private final Map<ApiRouteClass, Integer> costs = new EnumMap<>(ApiRouteClass.class);
+
+  @Value("${app.ratelimit.api.enabled:true}")
+  private boolean enabled = true;
+
+  /** RateLimiterFilter 와 같은 설정 — 신뢰할 수 있는 프록시 뒤에서만 X-Forwarded-For 를 본다 */
+  @Value("${app.ratelimit.trust-forwarded-headers:false}")
+  private boolean trustForwardedHeaders;
+
+  public ApiRateLimitFilter(
+      RateLimitBackend backend,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.ratelimit.api.user.rate:20}") double userRate,
+      @Value("${app.ratelimit.api.user.burst:100}") int userBurst,
+      @Value("${app.ratelimit.api.api-key.rate:50}") double apiKeyRate,
+      @Value("${app.ratelimit.api.api-key.burst:200}") int apiKeyBurst,
+      @Value("${app.ratelimit.api.anonymous.rate:5}") double anonymousRate,
+      @Value("${app.ratelimit.api.anonymous.burst:30}") int anonymousBurst,
+      @Value("${app.ratelimit.api.auth.rate:50}") double authRate,
+      @Value("${app.ratelimit.api.auth.burst:300}") int authBurst,
+      @Value("${app.ratelimit.api.costs.rag-chat:10}") int ragChatCost,
+      @Value("${app.ratelimit.api.costs.ai-generation:20}") int aiGenerationCost,
+      @Value("${app.ratelimit.api.costs.export:10}") int exportCost,
+      @Value("${app.ratelimit.api.costs.bulk-import:20}") int bulkImportCost) {
+    this.backend = backend;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.userLimit = new RateLimit(userRate, userBurst);
+    this.apiKeyLimit = new RateLimit(apiKeyRate, apiKeyBurst);
+    this.anonymousLimit = new RateLimit(anonymousRate, anonymousBurst);
+    this.authLimit = new RateLimit(authRate, authBurst);
+    costs.put(ApiRouteClass.RAG_CHAT, ragChatCost);
+    costs.put(ApiRouteClass.AI_GENERATION, aiGenerationCost);
+    costs.put(ApiRouteClass.EXPORT, exportCost);
+    costs.put(ApiRouteClass.BULK_IMPORT, bulkImportCost);
+    costs.put(ApiRouteClass.AUTH, ApiRouteClass.AUTH.defaultCost());
+    costs.put(ApiRouteClass.DEFAULT, ApiRouteClass.DEFAULT.defaultCost());
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled
+        || HttpMethod.OPTIONS.matches(request.getMethod())
+        || !request.getRequestURI().startsWith("/api/");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ApiRouteClass routeClass = ApiRouteClass.of(request.getRequestURI());
+    Client client =
+        routeClass == ApiRouteClass.AUTH ? authClient(request) : resolveClient(request);
+    RateLimitDecision decision =
+        backend.tryAcquire(client.key() + "|" + routeClass, costs.get(routeClass), client.limit());
+
+    if (!decision.allowed()) {
+      reject(request, response, client, routeClass, decision);
+      return;
+    }
+    response.setHeader("X-RateLimit-Remaining", Long.toString(decision.remaining()));
+    filterChain.doFilter(request, response);
+  }
+
+  /** 정리 주기 — 가득 찬 버킷은 없는 것과 같아 지워도 판정이 바뀌지 않는다 */
+  @Scheduled(fixedDelayString = "${app.ratelimit.api.purge-interval:60s}")
+  public void purgeIdleBuckets() {
+    backend.purgeIdle();
+  }
+
+  Client resolveClient(HttpServletRequest request) {
+    Object apiKeyId = request.getAttribute(ApiKeyAuthenticationFilter.API_KEY_ID_ATTRIBUTE);
+    if (apiKeyId != null) {
+      return new Client("key:" + apiKeyId, "api-key", apiKeyLimit);
+    }
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.isAuthenticated()
+        && !(authentication instanceof AnonymousAuthenticationToken)) {
+      return new Client("user:" + authentication.getName(), "user", userLimit);
+    }
+    String ip = RateLimiterFilter.clientIp(request, trustForwardedHeaders);
+    return new Client("ip:" + ip, "anonymous", anonymousLimit);
+  }
+
+  /**
+   * 로그인·토큰 갱신은 만료된 토큰이 실려 와도 사용자로 잡히지 않으므로 익명과 같은 IP 로 묶되, 익명 버킷과 섞이지 않는 키와 넉넉한 한도를 쓴다. 무차별
+   * 대입은 막고, 프록시 IP 하나를 나눠 쓰는 사용자들의 로그인·갱신 물결은 통과시킨다.
+   */
+  Client authClient(HttpServletRequest request) {
+    String ip = RateLimiterFilter.clientIp(request, trustForwardedHeaders);
+    return new Client("auth:" + ip, "auth", authLimit);
+  }
+
+  private void reject(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Client client,
+      ApiRouteClass routeClass,
+      RateLimitDecision decision)
+      throws IOException {
+    long retryAfterSeconds = Math.max(1L, (decision.retryAfter().toMillis() + 999) / 1000);
+    log.warn(
+        "API rate limit exceeded - client: {}, route: {}, path: {}",
+        client.key(),
+        routeClass,
+        request.getRequestURI());
+    meterRegistry
+        .counter("ratelimit.api.rejected", "route", routeClass.name(), "client", client.type())
+        .increment();
+
+    ErrorResponse body =
+        new ErrorResponse(
+            "RATE_LIMIT_EXCEEDED",
+            "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.",
+            LocalDateTime.now(),
+            Map.of(
+                "retryAfter", Long.toString(retryAfterSeconds), "routeClass", routeClass.name()));
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8");
+    objectMapper.writeValue(response.getWriter(), body);
+  }
+
+  /**
+   * 한도를 적용할 클라이언트
+   *
+   * @param key 버킷 키 앞부분 (예: {@code user:alice})
+   * @param type 지표 태그 (user, api-key, anonymous, auth)
+   */
+  record Client(String key, String type, RateLimit limit) {}
+}
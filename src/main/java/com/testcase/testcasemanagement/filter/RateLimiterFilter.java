@@ -2,20 +2,16 @@
 
 package com.testcase.testcasemanagement.filter;
 
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import com.testcase.testcasemanagement.filter.ratelimit.LocalRateLimitBackend;
+import com.testcase.testcasemanagement.filter.ratelimit.RateLimit;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.HtmlUtils;
@@ -24,6 +20,8 @@ import org.springframework.web.util.HtmlUtils;
  * Rate Limiting 필터 - IP 기반으로 페이지 리프레시 제한
  *
  * <p>기능: - IP별로 1초당 최대 60회 페이지 요청 허용 - 제한 초과 시 429 Too Many Requests 응답 - 정적 리소스는 제한에서 제외
+ *
+ * <p>API 요청은 {@link ApiRateLimitFilter} 가 사용자·API 키별로 제한한다.
  */
 @Component
 public class RateLimiterFilter implements Filter {
@@ -33,19 +31,12 @@ public class RateLimiterFilter implements Filter {
   // 추적 IP 상한 — 무한 증식(스푸핑된 IP 회전에 의한 메모리 고갈 DoS) 방지용 LRU 캡
   private static final int MAX_TRACKED_IPS = 100_000;
 
-  // IP별 Rate Limiter를 관리하는 크기 제한 LRU 맵 (접근 순서, 상한 초과 시 오래된 항목 제거).
-  // (이전: 무한 ConcurrentHashMap + resilience4j Registry 이중 저장 → evict 없이 무한 증식)
-  private final Map<String, RateLimiter> rateLimiters =
-      Collections.synchronizedMap(
-          new LinkedHashMap<>(1024, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, RateLimiter> eldest) {
-              return size() > MAX_TRACKED_IPS;
-            }
-          });
+  // 1초당 60회, 대기 없이 즉시 거부
+  private static final RateLimit PAGE_LIMIT = new RateLimit(60, 60);
 
-  // Rate Limiter 설정
-  private final RateLimiterConfig rateLimiterConfig;
+  // IP별 토큰 버킷 (락 없는 맵 + CAS, 상한 초과 시 한가한 버킷부터 정리).
+  // (이전: synchronizedMap LRU + resilience4j RateLimiter → 모든 요청이 전역 락 하나를 잡았다)
+  private final LocalRateLimitBackend rateLimiters = new LocalRateLimitBackend(MAX_TRACKED_IPS);
 
   /**
    * X-Forwarded-For / X-Real-IP 신뢰 여부. 기본 false — 헤더는 클라이언트가 임의로 설정할 수 있어, 신뢰하면 IP를 회전시켜 rate
@@ -69,16 +60,6 @@ public class RateLimiterFilter implements Filter {
     "/api-docs/" // API 문서
   };
 
-  public RateLimiterFilter() {
-    // Rate Limiter 설정: 1초당 60회
-    this.rateLimiterConfig =
-        RateLimiterConfig.custom()
-            .limitForPeriod(60) // 기간당 최대 60회
-            .limitRefreshPeriod(Duration.ofSeconds(1)) // 1초마다 리셋
-            .timeoutDuration(Duration.ZERO) // 대기 없이 즉시 거부
-            .build();
-  }
-
   @Override
   public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
       throws IOException, ServletException {
@@ -97,21 +78,21 @@ public class RateLimiterFilter implements Filter {
     // 클라이언트 IP 추출
     String clientIp = extractClientIp(httpRequest);
 
-    // IP별 Rate Limiter 가져오기 또는 생성 (Registry 미사용 — LRU 맵이 수명 관리)
-    RateLimiter rateLimiter =
-        rateLimiters.computeIfAbsent(clientIp, ip -> RateLimiter.of(ip, rateLimiterConfig));
-
-    try {
-      // Rate Limiter 체크
-      RateLimiter.waitForPermission(rateLimiter);
-
-      // 허용된 요청 - 다음 필터로 진행
-      chain.doFilter(request, response);
-
-    } catch (RequestNotPermitted e) {
+    // Rate Limiter 체크
+    if (!rateLimiters.tryAcquire(clientIp, 1, PAGE_LIMIT).allowed()) {
       // Rate Limit 초과 - 429 응답
       handleRateLimitExceeded(httpRequest, httpResponse, clientIp);
+      return;
     }
+
+    // 허용된 요청 - 다음 필터로 진행
+    chain.doFilter(request, response);
+  }
+
+  /** 가득 찬(한동안 요청이 없던) IP 버킷 정리 */
+  @Scheduled(fixedDelay = 60_000)
+  public void purgeIdleBuckets() {
+    rateLimiters.purgeIdle();
   }
 
   /** Rate Limit 초과 시 처리 */
@@ -429,6 +410,10 @@ public class RateLimiterFilter implements Filter {
    * 사용해 IP 스푸핑에 의한 rate limit 우회·추적 맵 무한 증식을 막는다.
    */
   private String extractClientIp(HttpServletRequest request) {
+    return clientIp(request, trustForwardedHeaders);
+  }
+
+  static String clientIp(HttpServletRequest request, boolean trustForwardedHeaders) {
     if (trustForwardedHeaders) {
       String xForwardedFor = request.getHeader("X-Forwarded-For");
       if (StringUtils.hasText(xForwardedFor)) {
@@ -455,6 +440,5 @@ public class RateLimiterFilter implements Filter {
   @Override
   public void destroy() {
     log.info("RateLimiterFilter 종료");
-    rateLimiters.clear();
   }
 }
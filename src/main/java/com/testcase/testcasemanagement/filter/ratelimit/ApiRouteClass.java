@@ -0,0 +1,64 @@
+package com.testcase.testcasemanagement.filter.ratelimit;
+
+import java.util.List;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * API 경로 분류 — 비용이 큰 경로는 따로 버킷을 두고 요청 하나에 토큰을 여러 개 쓴다.
+ *
+ * <p>분류마다 버킷이 따로라서 내보내기를 몰아 돌려도 일반 조회 한도는 남는다. 비용 기본값은 DB·외부 호출 부담의 대략적인 비율이고
+ * {@code app.ratelimit.api.costs.*} 로 바꾼다. 위에서부터 처음 맞는 분류를 쓴다.
+ */
+public enum ApiRouteClass {
+  /**
+   * 로그인·토큰 갱신. 로그인 전이라 클라이언트 IP 로만 묶이는데, 프록시 뒤에서는 모두가 같은 IP 라 익명 한도를 함께 쓰면 로그인이 몰릴 때 전원이 429 를
+   * 받는다. 필터가 별도 한도({@code app.ratelimit.api.auth.*})와 키로 센다.
+   */
+  AUTH(1, "/api/auth/login", "/api/auth/refresh"),
+
+  /** RAG 채팅 (LLM 호출 + 벡터 검색) */
+  RAG_CHAT(10, "/api/rag/chat", "/api/rag/chat/stream"),
+
+  /** LLM 로 메타데이터·임베딩 생성 */
+  AI_GENERATION(20, "/api/testcases/ai/**", "/api/rag/embeddings/generate"),
+
+  /** 파일·시트로 내보내기 (전체 목록 조회 + 직렬화) */
+  EXPORT(10, "/api/**/export", "/api/**/export/**", "/api/**/export-*"),
+
+  /** 가져오기, 일괄 변경, 결과 파일 업로드 */
+  BULK_IMPORT(
+      20,
+      "/api/**/import/**",
+      "/api/**/bulk",
+      "/api/**/bulk-changes",
+      "/api/**/csv-upload",
+      "/api/junit-results/upload",
+      "/api/junit-results/upload-archive"),
+
+  DEFAULT(1);
+
+  private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+  private final int defaultCost;
+  private final List<String> patterns;
+
+  ApiRouteClass(int defaultCost, String... patterns) {
+    this.defaultCost = defaultCost;
+    this.patterns = List.of(patterns);
+  }
+
+  public int defaultCost() {
+    return defaultCost;
+  }
+
+  public static ApiRouteClass of(String path) {
+    for (ApiRouteClass routeClass : values()) {
+      for (String pattern : routeClass.patterns) {
+        if (MATCHER.match(pattern, path)) {
+          return routeClass;
+        }
+      }
+    }
+    return DEFAULT;
+  }
+}
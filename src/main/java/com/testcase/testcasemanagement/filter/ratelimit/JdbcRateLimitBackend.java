@@ -0,0 +1,114 @@
+package com.testcase.testcasemanagement.filter.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * DB 테이블({@code rate_limit_buckets})에 두는 {@link RateLimitBackend}
+ *
+ * <p>여러 인스턴스가 로드밸런서 뒤에 있으면 인스턴스별 버킷은 한도가 인스턴스 수만큼 늘어난다. 이 구현은 버킷을 한 테이블에 두고 판정을
+ * {@code INSERT ... ON CONFLICT DO UPDATE ... WHERE} 한 문장으로 한다. 조건을 만족하지 않으면 행이 돌아오지 않고(거절), 동시 요청은 행
+ * 락으로 차례로 판정된다. 시각은 마이크로초 단위 epoch 이다.
+ *
+ * <p>거절된 키는 다시 허용될 시각까지 이 인스턴스 메모리에서 바로 거절한다. 폭주하는 클라이언트가 요청마다 DB 를 두드리지 않게 하기 위해서다.
+ *
+ * <p>DB 오류 때는 허용한다(fail-open). 한도 판정 때문에 서비스 전체가 멈추지 않게 하고, 경고 로그는 1분에 한 번만 남긴다. SQL 은 PostgreSQL
+ * 전용이다({@code ON CONFLICT}, {@code RETURNING}).
+ */
+@Slf4j
+public class JdbcRateLimitBackend implements RateLimitBackend {
+
+  static final String ACQUIRE_SQL =
+      "INSERT INTO rate_limit_buckets (bucket_key, tat) VALUES (?, ?)"
+          + " ON CONFLICT (bucket_key) DO UPDATE"
+          + " SET tat = GREATEST(rate_limit_buckets.tat, ?) + ?"
+          + " WHERE GREATEST(rate_limit_buckets.tat, ?) + ? - ? <= ?"
+          + " RETURNING tat";
+
+  static final String SELECT_SQL = "SELECT tat FROM rate_limit_buckets WHERE bucket_key = ?";
+
+  static final String PURGE_SQL = "DELETE FROM rate_limit_buckets WHERE tat <= ?";
+
+  private static final long WARN_INTERVAL_MICROS = 60_000_000L;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Clock clock;
+
+  /** 거절된 키 → 다시 물어볼 수 있는 시각 (마이크로초) */
+  private final ConcurrentHashMap<String, Long> deniedUntil = new ConcurrentHashMap<>();
+
+  private final AtomicLong lastWarn = new AtomicLong(Long.MIN_VALUE);
+
+  public JdbcRateLimitBackend(JdbcTemplate jdbcTemplate, Clock clock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.clock = clock;
+  }
+
+  @Override
+  public RateLimitDecision tryAcquire(String key, int cost, RateLimit limit) {
+    long now = nowMicros();
+    Long blocked = deniedUntil.get(key);
+    if (blocked != null) {
+      if (blocked > now) {
+        return RateLimitDecision.deny(Duration.ofNanos((blocked - now) * 1_000L));
+      }
+      deniedUntil.remove(key, blocked);
+    }
+
+    long interval = Math.max(1L, limit.intervalNanos() / 1_000L);
+    long increment = limit.clampCost(cost) * interval;
+    long capacity = limit.burst() * interval;
+    try {
+      List<Long> granted =
+          jdbcTemplate.queryForList(
+              ACQUIRE_SQL,
+              Long.class,
+              key,
+              now + increment,
+              now,
+              increment,
+              now,
+              increment,
+              now,
+              capacity);
+      if (!granted.isEmpty()) {
+        return RateLimitDecision.allow((capacity - (granted.get(0) - now)) / interval);
+      }
+      List<Long> current = jdbcTemplate.queryForList(SELECT_SQL, Long.class, key);
+      long retryAt = current.isEmpty() ? now : current.get(0) + increment - capacity;
+      if (retryAt > now) {
+        deniedUntil.put(key, retryAt);
+      }
+      return RateLimitDecision.deny(Duration.ofNanos(Math.max(0L, retryAt - now) * 1_000L));
+    } catch (DataAccessException e) {
+      long last = lastWarn.get();
+      if (now - last >= WARN_INTERVAL_MICROS && lastWarn.compareAndSet(last, now)) {
+        log.warn("공유 Rate Limit 판정 실패 - 허용으로 처리: {}", e.getMessage());
+      }
+      return RateLimitDecision.allow(0);
+    }
+  }
+
+  @Override
+  public void purgeIdle() {
+    long now = nowMicros();
+    deniedUntil.values().removeIf(until -> until <= now);
+    try {
+      jdbcTemplate.update(PURGE_SQL, now);
+    } catch (DataAccessException e) {
+      log.warn("Rate Limit 버킷 정리 실패: {}", e.getMessage());
+    }
+  }
+
+  private long nowMicros() {
+    Instant instant = clock.instant();
+    return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000L;
+  }
+}
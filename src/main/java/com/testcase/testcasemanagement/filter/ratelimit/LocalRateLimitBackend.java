@@ -0,0 +1,89 @@
+package com.testcase.testcasemanagement.filter.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 메모리에 두는 {@link RateLimitBackend}
+ *
+ * <p>키마다 {@link AtomicLong} 하나(TAT, {@code System.nanoTime} 기준)를 {@link ConcurrentHashMap} 에 둔다. 이미 있는 키는
+ * 맵 조회가 락 없이 끝나고 판정은 CAS 재시도 루프라, 예전 {@code synchronizedMap} LRU 처럼 모든 요청이 한 락을 잡지 않는다.
+ *
+ * <p>추적 키 수는 {@code maxKeys} 로 묶는다. 가득 차면 먼저 한가한 버킷을 비우고, 그래도 차 있으면 새 키는 하나의 넘침 버킷을 함께 쓴다. 키를
+ * 바꿔 가며 한도를 피하려는 클라이언트가 메모리를 늘리지 못하고, 그동안 새 클라이언트끼리 한도를 나눠 갖는다.
+ */
+public final class LocalRateLimitBackend implements RateLimitBackend {
+
+  static final String OVERFLOW_KEY = "__overflow__";
+
+  /** 가득 찼을 때 요청 스레드에서 비우는 간격. 공격 중 새 키마다 전체를 훑지 않게 한다. */
+  private static final long INLINE_PURGE_INTERVAL_NANOS = 1_000_000_000L;
+
+  private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+  private final int maxKeys;
+  private final LongSupplier nanoClock;
+  private final AtomicLong lastInlinePurge;
+
+  public LocalRateLimitBackend(int maxKeys) {
+    this(maxKeys, System::nanoTime);
+  }
+
+  LocalRateLimitBackend(int maxKeys, LongSupplier nanoClock) {
+    this.maxKeys = maxKeys;
+    this.nanoClock = nanoClock;
+    this.lastInlinePurge = new AtomicLong(nanoClock.getAsLong() - INLINE_PURGE_INTERVAL_NANOS);
+  }
+
+  @Override
+  public RateLimitDecision tryAcquire(String key, int cost, RateLimit limit) {
+    long now = nanoClock.getAsLong();
+    long interval = limit.intervalNanos();
+    long increment = limit.clampCost(cost) * interval;
+    long capacity = limit.burst() * interval;
+    AtomicLong tat = bucket(key, now);
+    while (true) {
+      long current = tat.get();
+      long next = Math.max(current, now) + increment;
+      long used = next - now;
+      if (used > capacity) {
+        return RateLimitDecision.deny(Duration.ofNanos(used - capacity));
+      }
+      if (tat.compareAndSet(current, next)) {
+        return RateLimitDecision.allow((capacity - used) / interval);
+      }
+    }
+  }
+
+  /**
+   * TAT 가 지난 버킷(가득 참)을 지운다. 지우는 순간 다른 스레드가 같은 버킷을 쓰고 있었다면 그 요청 하나의 비용이 잊힐 수 있다 — 한도를
+   * 아주 조금 느슨하게 할 뿐이라 락을 두지 않는다.
+   */
+  @Override
+  public void purgeIdle() {
+    long now = nanoClock.getAsLong();
+    buckets.values().removeIf(tat -> tat.get() - now <= 0);
+  }
+
+  int trackedKeys() {
+    return buckets.size();
+  }
+
+  private AtomicLong bucket(String key, long now) {
+    AtomicLong existing = buckets.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    if (buckets.size() >= maxKeys) {
+      long last = lastInlinePurge.get();
+      if (now - last >= INLINE_PURGE_INTERVAL_NANOS && lastInlinePurge.compareAndSet(last, now)) {
+        purgeIdle();
+      }
+      if (buckets.size() >= maxKeys) {
+        return buckets.computeIfAbsent(OVERFLOW_KEY, k -> new AtomicLong(now));
+      }
+    }
+    return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+  }
+}
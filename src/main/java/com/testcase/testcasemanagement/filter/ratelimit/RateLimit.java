@@ -0,0 +1,27 @@
+package com.testcase.testcasemanagement.filter.ratelimit;
+
+/**
+ * 토큰 버킷 한도 — 초당 {@code permitsPerSecond} 만큼 차고 최대 {@code burst} 까지 쌓인다.
+ *
+ * @param permitsPerSecond 지속 처리량 (0 보다 커야 한다)
+ * @param burst 한 번에 쓸 수 있는 최대 토큰 (요청 비용의 상한이기도 하다)
+ */
+public record RateLimit(double permitsPerSecond, int burst) {
+
+  public RateLimit {
+    if (permitsPerSecond <= 0 || burst <= 0) {
+      throw new IllegalArgumentException(
+          "rate limit must be positive: " + permitsPerSecond + "/s, burst " + burst);
+    }
+  }
+
+  /** 토큰 하나가 차는 데 걸리는 시간 (나노초) */
+  public long intervalNanos() {
+    return Math.max(1L, Math.round(1_000_000_000d / permitsPerSecond));
+  }
+
+  /** 비용을 버킷 크기 안으로 자른다. 버킷보다 비싼 요청이 영원히 거절되지 않게 한다. */
+  public int clampCost(int cost) {
+    return Math.min(Math.max(cost, 1), burst);
+  }
+}
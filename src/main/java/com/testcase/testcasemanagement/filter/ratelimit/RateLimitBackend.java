@@ -0,0 +1,22 @@
+package com.testcase.testcasemanagement.filter.ratelimit;
+
+/**
+ * 키별 토큰 버킷 저장소
+ *
+ * <p>두 구현 모두 GCRA(Generic Cell Rate Algorithm)로 버킷을 표현한다. 키마다 "다음 토큰이 비는 이론상 시각(TAT)" 숫자 하나만 두고,
+ * 비용 {@code c} 요청은 {@code max(TAT, now) + c·interval} 이 {@code now + burst·interval} 을 넘지 않을 때 허용하며 TAT 를
+ * 그 값으로 옮긴다. 토큰 수와 마지막 충전 시각 두 값을 함께 고칠 필요가 없어 CAS 한 번(메모리) 또는 UPDATE 한 문장(DB)으로 끝난다.
+ *
+ * <ul>
+ *   <li>{@link LocalRateLimitBackend} — 인스턴스 메모리. 락 없음.
+ *   <li>{@link JdbcRateLimitBackend} — 여러 인스턴스가 한 한도를 나눠 쓴다.
+ * </ul>
+ */
+public interface RateLimitBackend {
+
+  /** {@code key} 버킷에서 {@code cost} 만큼 쓴다. 비용은 {@link RateLimit#clampCost} 로 잘린다. */
+  RateLimitDecision tryAcquire(String key, int cost, RateLimit limit);
+
+  /** 가득 찬(한동안 쓰지 않은) 버킷을 지운다. 가득 찬 버킷은 없는 것과 같으므로 판정이 바뀌지 않는다. */
+  void purgeIdle();
+}
@@ -0,0 +1,21 @@
+package com.testcase.testcasemanagement.filter.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 한도 판정 결과
+ *
+ * @param allowed 허용 여부
+ * @param remaining 허용 뒤 남은 토큰 (거절이면 0)
+ * @param retryAfter 거절일 때 이만큼 기다리면 같은 비용이 허용된다 (허용이면 0)
+ */
+public record RateLimitDecision(boolean allowed, long remaining, Duration retryAfter) {
+
+  public static RateLimitDecision allow(long remaining) {
+    return new RateLimitDecision(true, remaining, Duration.ZERO);
+  }
+
+  public static RateLimitDecision deny(Duration retryAfter) {
+    return new RateLimitDecision(false, 0, retryAfter);
+  }
+}
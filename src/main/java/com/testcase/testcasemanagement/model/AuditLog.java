@@ -11,7 +11,13 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "audit_logs")
+// 최신순 조회·커서 조회는 (timestamp, id), 엔티티별 이력은 (entity_type, entity_id) 인덱스로 읽는다
+@Table(
+    name = "audit_logs",
+    indexes = {
+      @Index(name = "idx_audit_logs_timestamp_id", columnList = "timestamp, id"),
+      @Index(name = "idx_audit_logs_entity", columnList = "entity_type, entity_id")
+    })
 public class AuditLog {
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
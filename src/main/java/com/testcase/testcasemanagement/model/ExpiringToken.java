@@ -0,0 +1,52 @@
+package com.testcase.testcasemanagement.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 인스턴스 사이에 공유하는 짧은 수명 토큰
+ *
+ * <p>{@code JdbcExpiringTokenStore} 의 저장소다. 이 엔티티는 테이블 정의용이고 읽고 쓰기는 저장소가 JDBC 로 직접 한다 (소비는
+ * {@code DELETE ... RETURNING} 한 문장이어야 동시 소비 중 하나만 값을 받는다).
+ */
+@Entity
+@Table(
+    name = "expiring_tokens",
+    indexes = {@Index(name = "idx_expiring_tokens_expires_at", columnList = "expires_at")})
+@IdClass(ExpiringToken.Key.class)
+@Getter
+@Setter
+public class ExpiringToken {
+
+  /** 용도 구분 (예: redirect) */
+  @Id
+  @Column(name = "namespace", length = 50)
+  private String namespace;
+
+  @Id
+  @Column(name = "token", length = 200)
+  private String token;
+
+  @Column(name = "token_value", columnDefinition = "TEXT", nullable = false)
+  private String tokenValue;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  /** 복합 키 (용도, 토큰) */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String namespace;
+    private String token;
+  }
+}
@@ -0,0 +1,106 @@
+package com.testcase.testcasemanagement.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * JUnit 결과 백그라운드 처리 작업
+ *
+ * <p>대용량 XML·리포트 묶음 처리를 메모리의 진행률 맵과 실행 풀 대기열에만 두면 재시작 때 사라지고 대기열이 차면 거절됐다. 작업을 이 테이블에
+ * 남기고 {@code JunitIngestionScheduler} 가 꺼내 실행한다. 실행 중인 인스턴스는 임대({@code leaseUntil})를 주기적으로 늘리고,
+ * 임대가 끝난 작업은 다른 인스턴스나 재시작한 인스턴스가 이어받는다.
+ *
+ * <p>체크포인트: 스위트를 배치 단위로 커밋하면서 {@code suitesCommitted} 를 같은 트랜잭션에서 올린다. 이어받을 때는 원본을 다시 파싱하되
+ * 이미 커밋된 스위트는 건너뛴다. 원본 크기가 기록과 다르면 처음부터 다시 한다.
+ */
+@Entity
+@Table(
+    name = "junit_ingestion_jobs",
+    indexes = {@Index(name = "idx_junit_ingestion_job_claim", columnList = "status, leaseUntil")})
+@Getter
+@Setter
+@NoArgsConstructor
+public class JunitIngestionJob {
+
+  /** 처리할 {@link JunitTestResult} ID. 결과 하나에 작업 하나다. */
+  @Id
+  @Column(columnDefinition = "VARCHAR(36)")
+  private String testResultId;
+
+  @Column(name = "project_id", nullable = false)
+  private String projectId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private Kind kind;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private Status status = Status.QUEUED;
+
+  /** 실행 중인 인스턴스 */
+  @Column(length = 100)
+  private String owner;
+
+  /** RUNNING: 이 시각까지 owner 가 잡고 있다. QUEUED: 이 시각 이후에 다시 시도한다 (null 이면 바로). */
+  private LocalDateTime leaseUntil;
+
+  /** 실행을 시작한 횟수. 이어받기도 센다. */
+  @Column(nullable = false)
+  private Integer attempts = 0;
+
+  /** 체크포인트를 남길 때의 원본 파일 크기 */
+  private Long sourceBytes;
+
+  /** 커밋된 스위트 수 (원본 순서 기준) */
+  @Column(nullable = false)
+  private Integer suitesCommitted = 0;
+
+  @Column(nullable = false)
+  private Integer batchesCommitted = 0;
+
+  /** 진행 단계 (1~5). 다른 인스턴스에서 진행률을 물을 때 쓴다. */
+  @Column(nullable = false)
+  private Integer currentStep = 0;
+
+  @Column(length = 500)
+  private String statusMessage;
+
+  @Column(columnDefinition = "TEXT")
+  private String lastError;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime updatedAt;
+
+  public JunitIngestionJob(String testResultId, String projectId, Kind kind) {
+    this.testResultId = testResultId;
+    this.projectId = projectId;
+    this.kind = kind;
+    this.statusMessage = "처리 대기 중...";
+    this.createdAt = LocalDateTime.now();
+    this.updatedAt = this.createdAt;
+  }
+
+  public enum Kind {
+    /** JUnit XML 한 개 */
+    XML,
+    /** zip/tar.gz 리포트 묶음 */
+    ARCHIVE
+  }
+
+  public enum Status {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    public boolean isActive() {
+      return this == QUEUED || this == RUNNING;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.testcase.testcasemanagement.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 프로젝트 변경 기록 (델타 동기화용)
+ *
+ * <p>테스트케이스·플랜·실행이 저장되거나 지워질 때마다 한 행. {@code seq} 는 프로젝트 안에서 커밋 순서대로 1 씩 늘어나는 커서라, 클라이언트는
+ * 마지막으로 받은 값 이후만 물으면 빠짐없이 따라온다. 기록은 {@code ProjectChangeFeed} 가 커밋 직전에 쓴다. 직접 고치지 않는다.
+ */
+@Entity
+@Table(
+    name = "project_changes",
+    indexes = {@Index(name = "idx_project_changes_changed_at", columnList = "changed_at")})
+@IdClass(ProjectChange.Key.class)
+@Getter
+@Setter
+public class ProjectChange {
+
+  @Id
+  @Column(name = "project_id", length = 36)
+  private String projectId;
+
+  @Id
+  @Column(name = "seq")
+  private Long seq;
+
+  /** TESTCASE, TESTPLAN, TESTEXECUTION */
+  @Column(name = "entity_type", length = 20, nullable = false)
+  private String entityType;
+
+  @Column(name = "entity_id", length = 36, nullable = false)
+  private String entityId;
+
+  /** UPSERT, DELETE */
+  @Column(name = "operation", length = 10, nullable = false)
+  private String operation;
+
+  @Column(name = "changed_at", nullable = false)
+  private LocalDateTime changedAt;
+
+  /** 복합 키 (프로젝트, 커서) */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String projectId;
+    private Long seq;
+  }
+}
@@ -0,0 +1,29 @@
+package com.testcase.testcasemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 인스턴스 사이에 공유하는 Rate Limit 버킷
+ *
+ * <p>{@code JdbcRateLimitBackend} 의 저장소다. 이 엔티티는 테이블 정의용이고 판정은 저장소가 JDBC 한 문장으로 직접 한다. 행은 버킷이 다시
+ * 가득 차면(TAT 가 지나면) 정리 작업이 지운다.
+ */
+@Entity
+@Table(
+    name = "rate_limit_buckets",
+    indexes = {@Index(name = "idx_rate_limit_buckets_tat", columnList = "tat")})
+@Getter
+@Setter
+public class RateLimitBucket {
+
+  /** 클라이언트 식별자와 경로 분류 (예: {@code user:alice|EXPORT}) */
+  @Id
+  @Column(name = "bucket_key", length = 200)
+  private String bucketKey;
+
+  /** 다음 토큰이 비는 이론상 시각 (epoch 마이크로초) */
+  @Column(name = "tat", nullable = false)
+  private Long tat;
+}
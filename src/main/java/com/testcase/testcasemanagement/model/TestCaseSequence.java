@@ -0,0 +1,32 @@
+package com.testcase.testcasemanagement.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 테스트케이스 번호 카운터 (프로젝트별 순차 ID, 부모별 displayOrder)
+ *
+ * <p>한 행이 한 범위(scope)의 다음에 내줄 값을 들고 있다. 값은 {@code UPDATE ... SET next_value = next_value + n}
+ * 한 문장으로 원자적으로 늘려 빌려 가므로 MAX() 집계나 재시도 없이 동시 생성이 서로 다른 번호를 받는다. 갱신은 {@code
+ * TestCaseSequenceAllocator} 와 변경 피드 커서({@code change:<projectId>}, {@code ProjectChangeFeed})만 한다.
+ */
+@Entity
+@Table(name = "testcase_sequences")
+@Getter
+@Setter
+public class TestCaseSequence {
+
+  /** 범위 키. {@code seq:<projectId>}, {@code order:<parentId>}, {@code order:<projectId>:root}, {@code change:<projectId>} */
+  @Id
+  @Column(name = "scope_key", length = 100)
+  private String scopeKey;
+
+  /** 아직 빌려 주지 않은 첫 값 */
+  @Column(name = "next_value", nullable = false)
+  private Long nextValue;
+
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
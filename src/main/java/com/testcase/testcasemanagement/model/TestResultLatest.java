@@ -0,0 +1,76 @@
+package com.testcase.testcasemanagement.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * (플랜, 테스트케이스)별 현재 상태 투영
+ *
+ * <p>리포트의 '최신 결과만 보기'·'미실행 포함' 은 예전에 프로젝트의 결과를 전부 훑어 조합마다 승자를 가린 뒤 메모리에서 정렬·페이징했다. 이 표는 그
+ * 승자를 미리 한 행으로 들고 있어 리포트가 DB 에서 바로 키셋 페이징한다. 결과가 저장·수정·삭제되거나 편집본이 적용·되돌려질 때 같은 트랜잭션 안에서
+ * {@code TestResultLatestProjection} 이 해당 조합만 다시 계산한다. 직접 고치지 않는다.
+ */
+@Entity
+@Table(
+    name = "test_result_latest",
+    indexes = {
+      @Index(
+          name = "idx_test_result_latest_plan_executed",
+          columnList = "test_plan_id, executed_at"),
+      @Index(name = "idx_test_result_latest_project", columnList = "project_id")
+    })
+@IdClass(TestResultLatest.Key.class)
+@Getter
+@Setter
+public class TestResultLatest {
+
+  @Id
+  @Column(name = "test_plan_id")
+  private String testPlanId;
+
+  @Id
+  @Column(name = "test_case_id")
+  private String testCaseId;
+
+  @Column(name = "project_id")
+  private String projectId;
+
+  /** 가장 최근에 수행된 결과 */
+  @Column(name = "test_result_id", nullable = false)
+  private String testResultId;
+
+  /** 현재 판정. 적용된 편집본이 있으면 편집된 판정이다. */
+  @Column(name = "result")
+  private String result;
+
+  @Column(name = "executed_at")
+  private LocalDateTime executedAt;
+
+  /** 이 조합의 수행 횟수 */
+  @Column(name = "execution_count", nullable = false)
+  private Integer executionCount;
+
+  /** JIRA 이슈가 붙은 가장 최근 결과. 최신 결과에 이슈가 없을 때 리포트가 이 결과의 JIRA 정보를 보여 준다. */
+  @Column(name = "jira_result_id")
+  private String jiraResultId;
+
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
+  /** 복합 키 (플랜, 테스트케이스) */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String testPlanId;
+    private String testCaseId;
+  }
+}
@@ -35,7 +35,8 @@ import lombok.Setter;
     indexes = {
       @Index(name = "idx_test_session_project", columnList = "project_id"),
       @Index(name = "idx_test_session_status", columnList = "status"),
-      @Index(name = "idx_test_session_project_status", columnList = "project_id, status")
+      @Index(name = "idx_test_session_project_status", columnList = "project_id, status"),
+      @Index(name = "idx_test_session_project_created", columnList = "project_id, created_at, id")
     })
 public class TestSession {
 
@@ -5,12 +5,15 @@ import com.testcase.testcasemanagement.model.AuditLog;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, String> {
+public interface AuditLogRepository
+    extends JpaRepository<AuditLog, String>, JpaSpecificationExecutor<AuditLog> {
 
   // 엔티티 타입별 로그 조회
   List<AuditLog> findByEntityType(String entityType);
@@ -118,9 +121,10 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, String> {
           + "LOWER(al.entityType) LIKE LOWER(CONCAT('%', :keyword, '%'))")
   List<AuditLog> searchByKeyword(@Param("keyword") String keyword);
 
-  // 오래된 로그 삭제용 (데이터 정리)
-  @Query("SELECT al FROM AuditLog al WHERE al.timestamp < :cutoffDate")
-  List<AuditLog> findOldLogs(@Param("cutoffDate") LocalDateTime cutoffDate);
+  // 오래된 로그 삭제용 (데이터 정리) - 엔티티를 읽지 않고 한 문장으로 지운다
+  @Modifying
+  @Query("DELETE FROM AuditLog al WHERE al.timestamp < :cutoffDate")
+  int deleteOldLogs(@Param("cutoffDate") LocalDateTime cutoffDate);
 
   // 특정 엔티티의 로그를 시간 역순으로 조회 (UserPermissionService에서 사용)
   List<AuditLog> findByEntityIdOrderByTimestampDesc(String entityId);
@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,5 +31,7 @@ public interface DailyVisitSummaryRepository extends JpaRepository<DailyVisitSum
   List<DailyVisitSummary> findRecentDays();
 
   /** 특정 날짜 이전의 모든 요약 삭제 (정리용) */
-  void deleteByVisitDateBefore(LocalDate date);
+  @Modifying
+  @Query("DELETE FROM DailyVisitSummary dvs WHERE dvs.visitDate < :date")
+  int deleteByVisitDateBefore(@Param("date") LocalDate date);
 }
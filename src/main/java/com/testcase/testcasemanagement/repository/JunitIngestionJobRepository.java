@@ -0,0 +1,160 @@
+package com.testcase.testcasemanagement.repository;
+
+import com.testcase.testcasemanagement.model.JunitIngestionJob;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Status;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JUnit 처리 작업 Repository
+ *
+ * <p>상태 변경은 모두 조건부 UPDATE 다. 여러 인스턴스가 같은 작업을 동시에 잡으려 해도 하나만 1 을 돌려받고, 임대를 잃은 인스턴스의 체크포인트는
+ * 0 행으로 끝난다.
+ */
+@Repository
+public interface JunitIngestionJobRepository extends JpaRepository<JunitIngestionJob, String> {
+
+  /** 지금 잡을 수 있는 작업 (대기 중이거나 임대가 끝난 실행 중 작업), 오래된 순 */
+  @Query(
+      "SELECT j.testResultId FROM JunitIngestionJob j WHERE (j.status = :queued AND (j.leaseUntil"
+          + " IS NULL OR j.leaseUntil < :now)) OR (j.status = :running AND j.leaseUntil < :now)"
+          + " ORDER BY j.createdAt")
+  List<String> findClaimable(
+      @Param("queued") Status queued,
+      @Param("running") Status running,
+      @Param("now") LocalDateTime now,
+      Pageable pageable);
+
+  /** 작업을 잡는다. 잡았으면 1. 시도 횟수를 함께 올린다. */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE JunitIngestionJob j SET j.status = :running, j.owner = :owner, j.leaseUntil ="
+          + " :leaseUntil, j.attempts = j.attempts + 1, j.updatedAt = :now WHERE j.testResultId ="
+          + " :id AND ((j.status = :queued AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)) OR"
+          + " (j.status = :running AND j.leaseUntil < :now))")
+  int claim(
+      @Param("id") String id,
+      @Param("owner") String owner,
+      @Param("queued") Status queued,
+      @Param("running") Status running,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  /** 이 인스턴스가 실행 중인 작업들의 임대를 늘린다 */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE JunitIngestionJob j SET j.leaseUntil = :leaseUntil WHERE j.testResultId IN :ids"
+          + " AND j.owner = :owner AND j.status = :running")
+  int renewLeases(
+      @Param("ids") Collection<String> ids,
+      @Param("owner") String owner,
+      @Param("running") Status running,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE JunitIngestionJob j SET j.currentStep = :step, j.statusMessage = :message,"
+          + " j.updatedAt = :now WHERE j.testResultId = :id AND j.owner = :owner")
+  int updateProgress(
+      @Param("id") String id,
+      @Param("owner") String owner,
+      @Param("step") int step,
+      @Param("message") String message,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * 스위트 배치를 커밋한 것으로 기록한다. 배치 저장과 같은 트랜잭션에서 부른다. 0 이면 임대를 잃은 것이니 배치도 롤백해야 한다.
+   */
+  @Modifying
+  @Query(
+      "UPDATE JunitIngestionJob j SET j.suitesCommitted = :suitesCommitted, j.sourceBytes ="
+          + " :sourceBytes, j.batchesCommitted = j.batchesCommitted + 1, j.updatedAt = :now"
+          + " WHERE j.testResultId = :id AND j.owner = :owner AND j.status = :running")
+  int checkpoint(
+      @Param("id") String id,
+      @Param("owner") String owner,
+      @Param("running") Status running,
+      @Param("suitesCommitted") int suitesCommitted,
+      @Param("sourceBytes") Long sourceBytes,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * 처음부터 다시 하도록 체크포인트를 지운다 (원본이 바뀐 경우). 커밋된 스위트 삭제와 같은 트랜잭션에서 먼저 부른다. 0 이면 임대를 잃었거나 끝난
+   * 것이니 삭제도 하지 않고 물러나야 한다.
+   */
+  @Modifying
+  @Query(
+      "UPDATE JunitIngestionJob j SET j.suitesCommitted = 0, j.batchesCommitted = 0,"
+          + " j.sourceBytes = :sourceBytes, j.updatedAt = :now WHERE j.testResultId = :id"
+          + " AND j.owner = :owner AND j.status = :running AND j.leaseUntil > :now")
+  int resetCheckpoint(
+      @Param("id") String id,
+      @Param("owner") String owner,
+      @Param("running") Status running,
+      @Param("sourceBytes") Long sourceBytes,
+      @Param("now") LocalDateTime now);
+
+  /** 끝난 작업 (DONE/FAILED) 기록. 실행 중이던 인스턴스만 바꿀 수 있다. */
+  @Modifying
+  @Query(
+      "UPDATE JunitIngestionJob j SET j.status = :status, j.owner = NULL, j.leaseUntil = NULL,"
+          + " j.statusMessage = :message, j.lastError = :error, j.updatedAt = :now"
+          + " WHERE j.testResultId = :id AND j.owner = :owner")
+  int finish(
+      @Param("id") String id,
+      @Param("owner") String owner,
+      @Param("status") Status status,
+      @Param("message") String message,
+      @Param("error") String error,
+      @Param("now") LocalDateTime now);
+
+  /** 실패로 끝난 작업을 처음부터 다시 대기열에 넣는다. 같은 파일을 다시 올렸을 때 쓴다. */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE JunitIngestionJob j SET j.status = :queued, j.owner = NULL, j.leaseUntil = NULL,"
+          + " j.attempts = 0, j.sourceBytes = NULL, j.suitesCommitted = 0, j.batchesCommitted = 0,"
+          + " j.currentStep = 0, j.statusMessage = :message, j.lastError = NULL, j.updatedAt = :now"
+          + " WHERE j.testResultId = :id AND j.status = :failed")
+  int restartFailed(
+      @Param("id") String id,
+      @Param("queued") Status queued,
+      @Param("failed") Status failed,
+      @Param("message") String message,
+      @Param("now") LocalDateTime now);
+
+  /** 일시적인 실패로 대기열에 되돌린다. {@code retryAt} 전에는 다시 잡지 않는다. */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE JunitIngestionJob j SET j.status = :queued, j.owner = NULL, j.leaseUntil ="
+          + " :retryAt, j.statusMessage = :message, j.lastError = :error, j.updatedAt = :now"
+          + " WHERE j.testResultId = :id AND j.owner = :owner")
+  int requeue(
+      @Param("id") String id,
+      @Param("owner") String owner,
+      @Param("queued") Status queued,
+      @Param("retryAt") LocalDateTime retryAt,
+      @Param("message") String message,
+      @Param("error") String error,
+      @Param("now") LocalDateTime now);
+
+  List<JunitIngestionJob> findByStatusInOrderByCreatedAt(Collection<Status> statuses);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM JunitIngestionJob j WHERE j.status IN :statuses AND j.updatedAt < :before")
+  int deleteFinishedBefore(
+      @Param("statuses") Collection<Status> statuses, @Param("before") LocalDateTime before);
+}
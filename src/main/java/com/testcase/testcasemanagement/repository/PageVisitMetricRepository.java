@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,8 +29,10 @@ public interface PageVisitMetricRepository extends JpaRepository<PageVisitMetric
   List<PageVisitMetric> findByVisitDateBetween(
       @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
-  /** 특정 날짜 이전의 모든 메트릭 삭제 (정리용) */
-  void deleteByVisitDateBefore(LocalDate date);
+  /** 특정 날짜 이전의 모든 메트릭 삭제 (정리용). 파생 delete 는 행마다 조회 후 지우므로 벌크 DELETE 로 둔다. */
+  @Modifying
+  @Query("DELETE FROM PageVisitMetric pvm WHERE pvm.visitDate < :date")
+  int deleteByVisitDateBefore(@Param("date") LocalDate date);
 
   /** 특정 페이지 경로의 최근 메트릭 조회 */
   @Query(
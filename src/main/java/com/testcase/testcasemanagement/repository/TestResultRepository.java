@@ -34,6 +34,7 @@ public interface TestResultRepository extends JpaRepository<TestResult, String>
       "SELECT tr FROM TestResult tr "
           + "JOIN tr.testExecution te "
           + "JOIN te.project p "
+          + "LEFT JOIN FETCH tr.executedBy "
           + "WHERE p.id = :projectId "
           + "AND tr.executedAt IS NOT NULL "
           + "ORDER BY tr.executedAt DESC")
@@ -241,6 +242,123 @@ public interface TestResultRepository extends JpaRepository<TestResult, String>
       nativeQuery = true)
   Map<String, Object> findProjectPriorityStatistics(@Param("projectId") String projectId);
 
+  /**
+   * 프로젝트 통계 스냅샷을 한 문장으로 조회. 기본·실행·실행 상태·결과·우선순위 통계와 폴더 수를 합친 것으로, 키 이름은 분할 쿼리들과 같다.
+   *
+   * <p>프로젝트 결과는 CTE 로 한 번만 읽고, 케이스별 최신 결과는 상관 서브쿼리 대신 윈도 함수로 고른다. 최신 executed_at 이 같은 결과가
+   * 여럿이면 모두 세는 기존 동작도 그대로다.
+   *
+   * @param projectId 프로젝트 ID
+   * @return 통계 맵 (행 하나)
+   */
+  @Query(
+      value =
+          "WITH project_results AS ("
+              + "    SELECT tr.test_case_id, tr.result, tr.executed_at "
+              + "    FROM test_results tr "
+              + "    JOIN test_executions te ON tr.test_execution_id = te.id "
+              + "    WHERE te.project_id = :projectId), "
+              + "latest_results AS ("
+              + "    SELECT r.test_case_id, r.result FROM ("
+              + "        SELECT test_case_id, result, executed_at, "
+              + "            MAX(executed_at) OVER (PARTITION BY test_case_id) AS latest_at "
+              + "        FROM project_results WHERE executed_at IS NOT NULL) r "
+              + "    WHERE r.executed_at = r.latest_at) "
+              + "SELECT "
+              + "    cs.total_test_cases, cs.passed_test_cases, cs.failed_test_cases, "
+              + "    cs.blocked_test_cases, cs.skipped_test_cases, cs.not_run_test_cases, "
+              + "    cs.active_priority_high_cases, cs.active_priority_medium_cases, "
+              + "    cs.active_priority_low_cases, "
+              + "    (SELECT COUNT(*) FROM test_plans tp WHERE tp.project_id = :projectId)"
+              + "        as total_test_plans, "
+              + "    es.total_test_executions, es.active_test_executions, "
+              + "    es.completed_test_executions, es.paused_test_executions, "
+              + "    rs.executed_test_cases, rs.last_execution_date, "
+              + "    (SELECT COUNT(*) FROM testcases f WHERE f.project_id = :projectId "
+              + "        AND (f.type IS NULL OR f.type <> 'testcase')) as total_folders "
+              + "FROM ("
+              + "    SELECT "
+              + "        COUNT(DISTINCT tc.id) as total_test_cases, "
+              + "        COUNT(CASE WHEN lr.result = 'PASS' THEN 1 END) as passed_test_cases, "
+              + "        COUNT(CASE WHEN lr.result = 'FAIL' THEN 1 END) as failed_test_cases, "
+              + "        COUNT(CASE WHEN lr.result = 'BLOCKED' THEN 1 END) as blocked_test_cases, "
+              + "        COUNT(CASE WHEN lr.result = 'SKIPPED' THEN 1 END) as skipped_test_cases, "
+              + "        COUNT(CASE WHEN lr.result IS NULL THEN 1 END) as not_run_test_cases, "
+              + "        COUNT(CASE WHEN tc.priority = 'HIGH' AND lr.result IS NULL THEN 1 END)"
+              + "            as active_priority_high_cases, "
+              + "        COUNT(CASE WHEN tc.priority = 'MEDIUM' AND lr.result IS NULL THEN 1 END)"
+              + "            as active_priority_medium_cases, "
+              + "        COUNT(CASE WHEN tc.priority = 'LOW' AND lr.result IS NULL THEN 1 END)"
+              + "            as active_priority_low_cases "
+              + "    FROM testcases tc "
+              + "    LEFT JOIN latest_results lr ON tc.id = lr.test_case_id "
+              + "    WHERE tc.project_id = :projectId AND tc.type = 'testcase') cs "
+              + "CROSS JOIN ("
+              + "    SELECT "
+              + "        COUNT(*) as total_test_executions, "
+              + "        COUNT(CASE WHEN te.status = 'INPROGRESS' THEN 1 END)"
+              + "            as active_test_executions, "
+              + "        COUNT(CASE WHEN te.status = 'COMPLETED' THEN 1 END)"
+              + "            as completed_test_executions, "
+              + "        COUNT(CASE WHEN te.status = 'PAUSED' THEN 1 END)"
+              + "            as paused_test_executions "
+              + "    FROM test_executions te WHERE te.project_id = :projectId) es "
+              + "CROSS JOIN ("
+              + "    SELECT "
+              + "        COUNT(DISTINCT CASE WHEN executed_at IS NOT NULL THEN test_case_id END)"
+              + "            as executed_test_cases, "
+              + "        MAX(executed_at) as last_execution_date "
+              + "    FROM project_results) rs",
+      nativeQuery = true)
+  Map<String, Object> findProjectStatisticsSnapshot(@Param("projectId") String projectId);
+
+  /**
+   * 대시보드 기간 지표를 한 번의 스캔으로 조회. 가장 이른 창(30일 전)부터 지금까지의 결과를 한 번 읽고 창마다 조건부 집계한다.
+   * countExecutionsByDateRange·calculateAveragePassRateByPeriod·countCriticalFailuresByPeriod 를 창별로
+   * 일곱 번 부르던 것과 같은 값을 낸다.
+   *
+   * @return yesterday_executions, today_executions, last_week_executions, this_week_executions,
+   *     average_pass_rate_7_days, average_pass_rate_30_days, critical_failures_7_days
+   */
+  @Query(
+      value =
+          "SELECT "
+              + "    COUNT(CASE WHEN tr.executed_at BETWEEN :yesterdayStart AND :yesterdayEnd"
+              + "        THEN 1 END) as yesterday_executions, "
+              + "    COUNT(CASE WHEN tr.executed_at BETWEEN :todayStart AND :now"
+              + "        THEN 1 END) as today_executions, "
+              + "    COUNT(CASE WHEN tr.executed_at BETWEEN :lastWeekStart AND :yesterdayEnd"
+              + "        THEN 1 END) as last_week_executions, "
+              + "    COUNT(CASE WHEN tr.executed_at BETWEEN :thisWeekStart AND :now"
+              + "        THEN 1 END) as this_week_executions, "
+              + "    COALESCE(ROUND("
+              + "        COUNT(CASE WHEN tr.executed_at >= :last7DaysStart"
+              + "            AND tr.result = 'PASS' THEN 1 END) * 100.0"
+              + "        / NULLIF(COUNT(CASE WHEN tr.executed_at >= :last7DaysStart"
+              + "            AND tr.result IS NOT NULL THEN 1 END), 0), 2), 0)"
+              + "        as average_pass_rate_7_days, "
+              + "    COALESCE(ROUND("
+              + "        COUNT(CASE WHEN tr.result = 'PASS' THEN 1 END) * 100.0"
+              + "        / NULLIF(COUNT(tr.result), 0), 2), 0) as average_pass_rate_30_days, "
+              + "    COUNT(CASE WHEN tr.executed_at >= :last7DaysStart AND tr.result = 'FAIL'"
+              + "        AND tc.priority = 'HIGH' THEN 1 END) as critical_failures_7_days "
+              + "FROM test_results tr "
+              + "JOIN test_executions te ON tr.test_execution_id = te.id "
+              + "LEFT JOIN testcases tc ON tr.test_case_id = tc.id "
+              + "WHERE te.project_id = :projectId "
+              + "AND tr.executed_at BETWEEN :last30DaysStart AND :now",
+      nativeQuery = true)
+  Map<String, Object> findProjectExecutionWindows(
+      @Param("projectId") String projectId,
+      @Param("yesterdayStart") LocalDateTime yesterdayStart,
+      @Param("yesterdayEnd") LocalDateTime yesterdayEnd,
+      @Param("todayStart") LocalDateTime todayStart,
+      @Param("lastWeekStart") LocalDateTime lastWeekStart,
+      @Param("thisWeekStart") LocalDateTime thisWeekStart,
+      @Param("last7DaysStart") LocalDateTime last7DaysStart,
+      @Param("last30DaysStart") LocalDateTime last30DaysStart,
+      @Param("now") LocalDateTime now);
+
   /**
    * ICT-130: 레거시 메서드 (호환성 유지) 새로운 분할된 메서드들을 사용하도록 서비스에서 변경 필요
    *
@@ -8,12 +8,15 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserActivityRepository extends JpaRepository<UserActivity, String> {
+public interface UserActivityRepository
+    extends JpaRepository<UserActivity, String>, JpaSpecificationExecutor<UserActivity> {
 
   // 사용자별 활동 이력 조회
   List<UserActivity> findByUserIdOrderByTimestampDesc(String userId);
@@ -170,9 +173,10 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Stri
           + "LOWER(ua.user.username) LIKE LOWER(CONCAT('%', :keyword, '%'))")
   Page<UserActivity> searchActivities(@Param("keyword") String keyword, Pageable pageable);
 
-  // 오래된 활동 정리용
-  @Query("SELECT ua FROM UserActivity ua WHERE ua.timestamp < :cutoffDate")
-  List<UserActivity> findOldActivities(@Param("cutoffDate") LocalDateTime cutoffDate);
+  // 오래된 활동 정리용 - 엔티티를 읽지 않고 한 문장으로 지운다
+  @Modifying
+  @Query("DELETE FROM UserActivity ua WHERE ua.timestamp < :cutoffDate")
+  int deleteOldActivities(@Param("cutoffDate") LocalDateTime cutoffDate);
 
   // 사용자별 활동 수 카운트
   @Query("SELECT COUNT(ua) FROM UserActivity ua WHERE ua.user.id = :userId")
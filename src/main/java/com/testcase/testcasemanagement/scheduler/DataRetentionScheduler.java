@@ -0,0 +1,58 @@
+package com.testcase.testcasemanagement.scheduler;
+
+import com.testcase.testcasemanagement.audit.AuditService;
+import com.testcase.testcasemanagement.service.UserActivityService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활동 이력·감사 로그 보존 기간 정리 스케줄러
+ *
+ * <p>보존 기간(개월)이 지난 행을 매일 새벽 정리한다. cutoff 는 달의 첫날로 맞춘다 — 월 파티션 경계와 일치시켜 정리가 파티션 DROP 만으로 끝나게
+ * 하기 위해서다. 보존 기간이 0 이면 해당 테이블은 정리하지 않는다(기본값).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataRetentionScheduler {
+
+  private final UserActivityService userActivityService;
+  private final AuditService auditService;
+
+  @Value("${app.retention.user-activities-months:0}")
+  private int userActivitiesMonths;
+
+  @Value("${app.retention.audit-logs-months:0}")
+  private int auditLogsMonths;
+
+  /** 보존 기간 경과 데이터 정리 - 매일 새벽 3시 30분 */
+  @Scheduled(cron = "0 30 3 * * *")
+  public void purgeExpiredData() {
+    LocalDate firstOfMonth = LocalDate.now().withDayOfMonth(1);
+
+    if (userActivitiesMonths > 0) {
+      try {
+        int purged =
+            userActivityService.purgeActivitiesBefore(
+                firstOfMonth.minusMonths(userActivitiesMonths).atStartOfDay());
+        log.info("활동 이력 보존 정리 완료: {}건 ({}개월 보존)", purged, userActivitiesMonths);
+      } catch (Exception e) {
+        log.error("활동 이력 보존 정리 중 오류 발생", e);
+      }
+    }
+
+    if (auditLogsMonths > 0) {
+      try {
+        long purged =
+            auditService.purgeLogsBefore(firstOfMonth.minusMonths(auditLogsMonths).atStartOfDay());
+        log.info("감사 로그 보존 정리 완료: {}건 ({}개월 보존)", purged, auditLogsMonths);
+      } catch (Exception e) {
+        log.error("감사 로그 보존 정리 중 오류 발생", e);
+      }
+    }
+  }
+}
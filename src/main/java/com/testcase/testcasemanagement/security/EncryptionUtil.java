@@ -4,6 +4,7 @@ import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
@@ -14,7 +15,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
-/** AES-256 암호화/복호화 유틸리티 클래스 JIRA API 키 및 민감한 데이터 암호화용 */
+/**
+ * AES-256 암호화/복호화 유틸리티 클래스 JIRA API 키 및 민감한 데이터 암호화용
+ *
+ * <p>호출마다 키를 Base64 로 풀고 {@code Cipher.getInstance} 로 공급자를 찾던 것을, 키는 설정 값이 바뀔 때만 다시 만들고 Cipher 는
+ * 스레드마다 하나를 재사용하도록 바꿨다. 같은 평문을 자주 푸는 경로는 {@link SecretVault} 를 거친다.
+ */
 @Component
 @Slf4j
 public class EncryptionUtil {
@@ -24,6 +30,19 @@ public class EncryptionUtil {
   private static final int KEY_LENGTH = 256;
   private static final int IV_LENGTH = 16;
 
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  // Cipher 는 스레드 안전하지 않지만 init 으로 매번 초기화되므로 스레드마다 하나면 된다
+  private static final ThreadLocal<Cipher> CIPHERS =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return Cipher.getInstance(TRANSFORMATION);
+            } catch (Exception e) {
+              throw new IllegalStateException("Cipher 생성 실패: " + TRANSFORMATION, e);
+            }
+          });
+
   /** 저장소에 커밋된 DEV/TEST 기본 키. 운영에서 이 값이 그대로 쓰이면 안전하지 않으므로 감지·경고한다. */
   private static final String COMMITTED_DEFAULT_KEY =
       "5CBRv5FwesBJkQ7ecX1KGCxyUQTcnE1CkkGBYDswb2Y=";
@@ -36,6 +55,14 @@ public class EncryptionUtil {
 
   private final Environment environment;
 
+  /** 마지막으로 만든 키와 그 키를 만든 설정 값. 설정 값이 바뀌면(테스트 주입 포함) 다시 만든다. */
+  private volatile CachedKey cachedKey;
+
+  private final AtomicLong decryptCount = new AtomicLong();
+  private final AtomicLong encryptCount = new AtomicLong();
+
+  private record CachedKey(String source, SecretKey key) {}
+
   public EncryptionUtil(Environment environment) {
     this.environment = environment;
   }
@@ -66,6 +93,16 @@ public class EncryptionUtil {
   }
 
   private SecretKey getEncryptionKey() {
+    CachedKey cached = cachedKey;
+    if (cached != null && cached.source().equals(encryptionKeyBase64)) {
+      return cached.key();
+    }
+    SecretKey key = createEncryptionKey();
+    cachedKey = new CachedKey(encryptionKeyBase64, key);
+    return key;
+  }
+
+  private SecretKey createEncryptionKey() {
     if (encryptionKeyBase64 == null || encryptionKeyBase64.trim().isEmpty()) {
       throw new IllegalStateException(
           "암호화 키가 설정되지 않았습니다. jira.security.encryption.key 환경변수를 설정하세요.");
@@ -116,15 +153,16 @@ public class EncryptionUtil {
 
     try {
       SecretKey key = getEncryptionKey();
-      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+      Cipher cipher = CIPHERS.get();
 
       // 랜덤 IV 생성
       byte[] iv = new byte[IV_LENGTH];
-      new SecureRandom().nextBytes(iv);
+      RANDOM.nextBytes(iv);
       IvParameterSpec ivSpec = new IvParameterSpec(iv);
 
       cipher.init(Cipher.ENCRYPT_MODE, key, ivSpec);
       byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+      encryptCount.incrementAndGet();
 
       // IV와 암호문을 결합
       byte[] encryptedWithIv = new byte[IV_LENGTH + encrypted.length];
@@ -154,7 +192,7 @@ public class EncryptionUtil {
 
     try {
       SecretKey key = getEncryptionKey();
-      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+      Cipher cipher = CIPHERS.get();
 
       // Base64 디코딩
       byte[] encryptedWithIv = Base64.getDecoder().decode(encryptedText);
@@ -169,12 +207,23 @@ public class EncryptionUtil {
       cipher.init(Cipher.DECRYPT_MODE, key, ivSpec);
 
       byte[] decrypted = cipher.doFinal(encrypted);
+      decryptCount.incrementAndGet();
       return new String(decrypted, StandardCharsets.UTF_8);
     } catch (Exception e) {
       throw new RuntimeException("복호화 실패", e);
     }
   }
 
+  /** 실제로 복호화한 횟수 (메트릭용, 실패 제외) */
+  public long getDecryptCount() {
+    return decryptCount.get();
+  }
+
+  /** 실제로 암호화한 횟수 (메트릭용, 실패 제외) */
+  public long getEncryptCount() {
+    return encryptCount.get();
+  }
+
   /** 암호화 활성화 여부 확인 */
   public boolean isEncryptionEnabled() {
     return encryptionEnabled;
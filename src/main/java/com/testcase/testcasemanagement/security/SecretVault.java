@@ -0,0 +1,214 @@
+package com.testcase.testcasemanagement.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 복호화한 자격 증명(JIRA 토큰, LLM API 키, 메일 비밀번호)을 잠깐 들고 있는 저장소
+ *
+ * <p>LLM 호출과 JIRA 일괄 조회는 요청마다 같은 암호문을 다시 풀었다. 여기서는 푼 값을 바이트 배열로 짧게(기본 5분) 두고 개수도 제한한다. 만료·축출·
+ * 무효화 때 배열을 0 으로 덮어 힙 덤프에 평문이 오래 남지 않게 한다. 돌려주는 String 은 호출한 쪽 책임이다.
+ *
+ * <p>키는 두 가지다. 암호문 자체를 키로 쓰면 설정을 바꿀 때 암호문도 바뀌므로 옛 값이 다시 쓰일 일이 없다. 설정 ID 같은 이름을 키로 쓰면 암호문을 읽으려고
+ * 엔티티를 다시 조회하지 않아도 되지만, 설정을 바꾸는 서비스가 {@link #invalidate} 를 불러야 한다.
+ *
+ * <p>복호화는 잠금 밖에서 하므로, 무효화 전에 옛 암호문을 읽기 시작한 조회가 무효화 뒤에 끝나 옛 값을 다시 넣을 수 있다. 무효화마다 세대 번호를
+ * 올리고, 조회를 시작할 때의 세대와 다르면 푼 값을 돌려주기만 하고 보관하지 않는다.
+ */
+@Component
+public final class SecretVault {
+
+  private final EncryptionUtil encryptionUtil;
+  private final Duration ttl;
+  private final int maxEntries;
+
+  // 접근 순서 LinkedHashMap = LRU. 모든 접근은 this 로 동기화한다 (항목 수가 작고 임계 구역이 짧다)
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  // 무효화할 때마다 올린다. this 로 동기화한다
+  private long generation;
+
+  private final Counter hits;
+  private final Counter misses;
+
+  public SecretVault(
+      EncryptionUtil encryptionUtil,
+      MeterRegistry meterRegistry,
+      @Value("${app.secrets.vault.ttl:5m}") Duration ttl,
+      @Value("${app.secrets.vault.max-entries:256}") int maxEntries) {
+    this.encryptionUtil = encryptionUtil;
+    this.ttl = ttl;
+    this.maxEntries = maxEntries;
+    this.hits =
+        Counter.builder("secrets.vault.lookups")
+            .description("복호화 자격 증명 조회")
+            .tag("result", "hit")
+            .register(meterRegistry);
+    this.misses =
+        Counter.builder("secrets.vault.lookups")
+            .description("복호화 자격 증명 조회")
+            .tag("result", "miss")
+            .register(meterRegistry);
+    FunctionCounter.builder(
+            "secrets.decrypt.operations", encryptionUtil, EncryptionUtil::getDecryptCount)
+        .description("실제로 수행한 복호화 수 (캐시 적중 제외)")
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "secrets.encrypt.operations", encryptionUtil, EncryptionUtil::getEncryptCount)
+        .description("수행한 암호화 수")
+        .register(meterRegistry);
+    Gauge.builder("secrets.vault.entries", this, SecretVault::size)
+        .description("보관 중인 복호화 자격 증명 수")
+        .register(meterRegistry);
+  }
+
+  /** 암호문을 푼다. 같은 암호문은 TTL 동안 다시 풀지 않는다. */
+  public String reveal(String ciphertext) {
+    if (ciphertext == null || ciphertext.isEmpty()) {
+      return ciphertext;
+    }
+    return reveal(ciphertext, () -> ciphertext);
+  }
+
+  /**
+   * 이름으로 보관된 값을 돌려준다. 없으면 {@code ciphertext} 로 암호문을 읽어 풀어 둔다.
+   *
+   * @param name 암호문에 쓰이지 않는 ':' 를 넣은 이름 (예: {@code jira:<configId>})
+   */
+  public String reveal(String name, Supplier<String> ciphertext) {
+    long now = System.nanoTime();
+    long startedAt;
+    synchronized (this) {
+      startedAt = generation;
+      Entry entry = entries.get(name);
+      if (entry != null && entry.expiresAt - now > 0) {
+        hits.increment();
+        return new String(entry.plain, StandardCharsets.UTF_8);
+      }
+      if (entry != null) {
+        remove(name);
+      }
+    }
+    misses.increment();
+    String encrypted = ciphertext.get();
+    String plain = encryptionUtil.decrypt(encrypted);
+    if (plain == null || plain.isEmpty() || ttl.isZero()) {
+      return plain;
+    }
+    Entry created = new Entry(plain.getBytes(StandardCharsets.UTF_8), now + ttl.toNanos());
+    synchronized (this) {
+      if (generation != startedAt) {
+        // 읽는 동안 무효화되었다 — 옛 암호문으로 푼 값일 수 있으므로 보관하지 않는다
+        created.wipe();
+        return plain;
+      }
+      Entry previous = entries.put(name, created);
+      if (previous != null) {
+        previous.wipe();
+      }
+      evictOverflow();
+    }
+    return plain;
+  }
+
+  /** 설정을 바꾸거나 지웠을 때 부른다. 이름이나 옛 암호문 어느 쪽이든 된다. */
+  public synchronized void invalidate(String key) {
+    if (key != null) {
+      generation++;
+      remove(key);
+    }
+  }
+
+  /**
+   * 지금 한 번, 트랜잭션이 커밋된 뒤 한 번 더 지운다. 커밋 전에 다른 요청이 옛 암호문을 읽어 다시 넣어 두는 경우를 막는다. 트랜잭션 밖이면 지금만
+   * 지운다.
+   */
+  public void invalidateAfterCommit(String... keys) {
+    for (String key : keys) {
+      invalidate(key);
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            for (String key : keys) {
+              invalidate(key);
+            }
+          }
+        });
+  }
+
+  /** 이름이 {@code prefix} 로 시작하는 항목을 모두 지운다 (예: {@code jira:}) */
+  public synchronized void invalidatePrefix(String prefix) {
+    generation++;
+    Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, Entry> e = it.next();
+      if (e.getKey().startsWith(prefix)) {
+        e.getValue().wipe();
+        it.remove();
+      }
+    }
+  }
+
+  public synchronized void invalidateAll() {
+    generation++;
+    entries.values().forEach(Entry::wipe);
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private void remove(String key) {
+    Entry removed = entries.remove(key);
+    if (removed != null) {
+      removed.wipe();
+    }
+  }
+
+  private void evictOverflow() {
+    long now = System.nanoTime();
+    Iterator<Entry> it = entries.values().iterator();
+    // 가장 오래 안 쓴 것부터 넘친 만큼 지우고, 그 앞쪽에 만료된 것이 있으면 함께 지운다
+    while (it.hasNext()) {
+      Entry entry = it.next();
+      if (entries.size() <= maxEntries && entry.expiresAt - now > 0) {
+        break;
+      }
+      entry.wipe();
+      it.remove();
+    }
+  }
+
+  private static final class Entry {
+    private final byte[] plain;
+    private final long expiresAt;
+
+    Entry(byte[] plain, long expiresAt) {
+      this.plain = plain;
+      this.expiresAt = expiresAt;
+    }
+
+    void wipe() {
+      Arrays.fill(plain, (byte) 0);
+    }
+  }
+}
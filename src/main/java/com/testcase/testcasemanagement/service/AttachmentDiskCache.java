@@ -0,0 +1,156 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.util.ApiKeyHasher;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자주 조회되는 작은 첨부파일의 로컬 디스크 LRU 캐시
+ *
+ * <p>인라인 이미지나 짧은 로그처럼 작은 객체는 목록을 열 때마다 반복해서 내려받는다. 한 번 받은 내용을 로컬 디스크에 두고 MinIO 왕복을 건너뛴다.
+ *
+ * <p>키에 ETag 를 포함하므로 같은 objectKey 로 다시 업로드된 객체는 자연스럽게 캐시 미스가 되고, 낡은 항목은 LRU 로 밀려난다. 기동 시 디렉터리를
+ * 비운다 — 이전 프로세스의 항목은 크기 집계에 들어 있지 않기 때문이다.
+ */
+@Slf4j
+@Component
+public class AttachmentDiskCache {
+
+  @Value("${minio.download.cache.enabled:false}")
+  private boolean enabled;
+
+  @Value("${minio.download.cache.dir:${java.io.tmpdir}/testcasecraft-attachment-cache}")
+  private String cacheDir;
+
+  @Value("${minio.download.cache.max-size-bytes:268435456}") // 256MB
+  private long maxSizeBytes;
+
+  @Value("${minio.download.cache.max-object-size-bytes:2097152}") // 2MB
+  private long maxObjectSizeBytes;
+
+  // access-order LinkedHashMap: 가장 오래 안 쓴 항목이 맨 앞. 값은 파일 크기.
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private long totalBytes;
+  private Path root;
+
+  @PostConstruct
+  public void init() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      root = Paths.get(cacheDir).toAbsolutePath().normalize();
+      Files.createDirectories(root);
+      try (Stream<Path> stale = Files.list(root)) {
+        stale.forEach(this::deleteQuietly);
+      }
+      log.info(
+          "첨부파일 디스크 캐시 활성화: dir={}, maxSize={}B, maxObjectSize={}B",
+          root,
+          maxSizeBytes,
+          maxObjectSizeBytes);
+    } catch (IOException e) {
+      // 캐시는 최적화일 뿐이다 — 준비에 실패하면 끄고 MinIO 직접 스트리밍으로 동작한다.
+      log.warn("첨부파일 디스크 캐시 초기화 실패, 비활성화합니다: {}", e.getMessage());
+      enabled = false;
+    }
+  }
+
+  /** 해당 크기의 객체를 캐시에 담을 수 있는지 */
+  public boolean isCacheable(long size) {
+    return enabled && size >= 0 && size <= maxObjectSizeBytes;
+  }
+
+  /** 캐시된 파일 경로 조회. 없으면 empty. */
+  public synchronized Optional<Path> get(String objectKey, String etag) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    String key = cacheKey(objectKey, etag);
+    if (entries.get(key) == null) {
+      return Optional.empty();
+    }
+    return Optional.of(root.resolve(key));
+  }
+
+  /**
+   * 스트림 내용을 캐시에 저장하고 파일 경로를 돌려준다.
+   *
+   * <p>임시 파일에 다 쓴 뒤 원자적으로 옮기므로 읽는 쪽이 쓰다 만 파일을 보지 않는다. 디스크 쓰기는 락 밖에서 한다.
+   */
+  public Path put(String objectKey, String etag, InputStream content) throws IOException {
+    if (!enabled) {
+      throw new IllegalStateException("첨부파일 디스크 캐시가 비활성화되어 있습니다.");
+    }
+    String key = cacheKey(objectKey, etag);
+    Path target = root.resolve(key);
+    Path temp = Files.createTempFile(root, key, ".part");
+    try {
+      long size = Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      register(key, size);
+      return target;
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /** 캐시 항목 제거 (파일이 사라졌거나 손상된 경우) */
+  public synchronized void invalidate(String objectKey, String etag) {
+    if (!enabled) {
+      return;
+    }
+    String key = cacheKey(objectKey, etag);
+    Long size = entries.remove(key);
+    if (size != null) {
+      totalBytes -= size;
+      deleteQuietly(root.resolve(key));
+    }
+  }
+
+  /** 현재 캐시 사용량 (바이트) */
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  private synchronized void register(String key, long size) {
+    Long previous = entries.put(key, size);
+    totalBytes += size - (previous != null ? previous : 0L);
+    evictIfNeeded();
+  }
+
+  private void evictIfNeeded() {
+    Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+    while (totalBytes > maxSizeBytes && it.hasNext()) {
+      Map.Entry<String, Long> eldest = it.next();
+      it.remove();
+      totalBytes -= eldest.getValue();
+      deleteQuietly(root.resolve(eldest.getKey()));
+    }
+  }
+
+  private void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.debug("캐시 파일 삭제 실패: {} - {}", path, e.getMessage());
+    }
+  }
+
+  private static String cacheKey(String objectKey, String etag) {
+    return ApiKeyHasher.sha256Hex(objectKey + "\n" + (etag != null ? etag : ""));
+  }
+}
@@ -0,0 +1,225 @@
+package com.testcase.testcasemanagement.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+/**
+ * 첨부파일 다운로드 응답 생성 서비스 (Range / ETag / 캐시 / Presigned 리다이렉트)
+ *
+ * <p>테스트케이스·테스트결과·세션 첨부파일 컨트롤러가 공통으로 사용한다. 권한 확인과 objectKey 조회는 각 FileStorageService 가 하고, 여기서는
+ * MinIO 객체를 HTTP 응답으로 옮기는 일만 한다.
+ *
+ * <ul>
+ *   <li>{@code If-None-Match} 가 객체 ETag 와 같으면 본문 없이 304
+ *   <li>단일 {@code Range} 요청은 MinIO ranged GET 으로 해당 구간만 중계해 206 — 동영상 탐색, 큰 로그 뒷부분 미리보기용
+ *   <li>작은 객체는 {@link AttachmentDiskCache} 에서 서빙 (선택)
+ *   <li>큰 객체는 Presigned URL 로 302 리다이렉트해 앱 서버를 데이터 경로에서 뺀다 (선택)
+ * </ul>
+ *
+ * <p>본문은 항상 {@link InputStreamResource} 로 감싼다. Spring MVC 는 InputStreamResource 에 자체 Range 처리를 적용하지
+ * 않으므로, 여기서 내린 200/206 판단이 그대로 나간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentDownloadService {
+
+  private final MinIOService minioService;
+  private final AttachmentDiskCache diskCache;
+
+  @Value("${minio.download.presigned-redirect.enabled:false}")
+  private boolean presignedRedirectEnabled;
+
+  @Value("${minio.download.presigned-redirect.threshold-bytes:52428800}") // 50MB
+  private long presignedRedirectThresholdBytes;
+
+  @Value("${minio.download.presigned-redirect.expiry-minutes:10}")
+  private int presignedRedirectExpiryMinutes;
+
+  /**
+   * MinIO 객체를 다운로드 응답으로 만든다.
+   *
+   * @param objectKey MinIO 객체 키
+   * @param fileName 사용자에게 보일 원본 파일명
+   * @param mimeType 저장된 MIME 타입 (null 이면 octet-stream)
+   * @param inline true 면 Content-Disposition: inline (미리보기), false 면 attachment
+   * @param requestHeaders 요청 헤더 (Range, If-None-Match, If-Range)
+   * @return 200, 206, 304, 302 또는 416 응답
+   * @throws IOException MinIO 조회 오류 (객체 없음 포함)
+   */
+  public ResponseEntity<Resource> serve(
+      String objectKey,
+      String fileName,
+      String mimeType,
+      boolean inline,
+      HttpHeaders requestHeaders)
+      throws IOException {
+
+    MinIOService.ObjectStat stat = minioService.statObject(objectKey);
+    long size = stat.size();
+    String etag = "\"" + stat.etag() + "\"";
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(etag);
+    if (stat.lastModified() != null) {
+      headers.setLastModified(stat.lastModified());
+    }
+    // 첨부는 권한이 필요한 리소스다 — 공유 캐시에는 두지 않고, 브라우저는 매번 ETag 로 재검증한다.
+    headers.setCacheControl(CacheControl.noCache().cachePrivate());
+    headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+    if (matchesIfNoneMatch(requestHeaders.getIfNoneMatch(), etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+    }
+
+    String disposition = (inline ? "inline" : "attachment") + "; filename=\"" + fileName + "\"";
+    String contentType = mimeType != null ? mimeType : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+    if (presignedRedirectEnabled && size >= presignedRedirectThresholdBytes) {
+      String url =
+          minioService.generatePresignedUrl(
+              objectKey,
+              presignedRedirectExpiryMinutes,
+              Map.of(
+                  "response-content-disposition", disposition,
+                  "response-content-type", contentType));
+      log.debug("Presigned 리다이렉트: {} ({} bytes)", objectKey, size);
+      return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(url)).build();
+    }
+
+    headers.set(HttpHeaders.CONTENT_DISPOSITION, disposition);
+    headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+
+    HttpRange range = resolveRange(requestHeaders, etag);
+    if (range == null) {
+      headers.setContentLength(size);
+      return ResponseEntity.ok().headers(headers).body(open(objectKey, stat, 0, size));
+    }
+
+    long start;
+    long end;
+    try {
+      start = range.getRangeStart(size);
+      end = range.getRangeEnd(size);
+    } catch (IllegalArgumentException e) {
+      start = -1;
+      end = -1;
+    }
+    if (start < 0 || start >= size || end < start) {
+      // 객체 크기를 벗어난 구간 — RFC 9110: 416 + 전체 크기 안내
+      HttpHeaders rangeError = new HttpHeaders();
+      rangeError.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+      return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+          .headers(rangeError)
+          .build();
+    }
+
+    long length = end - start + 1;
+    headers.setContentLength(length);
+    headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+    return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+        .headers(headers)
+        .body(open(objectKey, stat, start, length));
+  }
+
+  /**
+   * 처리할 단일 Range 를 고른다. 해당 없으면 null (전체 응답).
+   *
+   * <p>형식이 잘못된 Range 는 무시하고, 다중 구간은 지원하지 않으므로 전체를 보낸다 — 둘 다 RFC 가 허용하는 동작이다. If-Range 가 현재 ETag 와
+   * 다르면(날짜 형식 포함) 객체가 바뀌었을 수 있으므로 전체를 보낸다.
+   */
+  static HttpRange resolveRange(HttpHeaders requestHeaders, String etag) {
+    if (requestHeaders.getFirst(HttpHeaders.RANGE) == null) {
+      return null;
+    }
+    String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+    if (ifRange != null && !ifRange.trim().equals(etag)) {
+      return null;
+    }
+    List<HttpRange> ranges;
+    try {
+      ranges = requestHeaders.getRange();
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+    return ranges.size() == 1 ? ranges.get(0) : null;
+  }
+
+  /** If-None-Match 비교 (약한 비교: W/ 접두어 무시, * 는 항상 일치) */
+  static boolean matchesIfNoneMatch(List<String> ifNoneMatch, String etag) {
+    for (String candidate : ifNoneMatch) {
+      String value = candidate.trim();
+      if (value.startsWith("W/")) {
+        value = value.substring(2);
+      }
+      if ("*".equals(value) || value.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Resource open(String objectKey, MinIOService.ObjectStat stat, long offset, long length)
+      throws IOException {
+    if (diskCache.isCacheable(stat.size())) {
+      Optional<byte[]> cached = readCached(objectKey, stat);
+      if (cached.isPresent()) {
+        return new InputStreamResource(
+            new ByteArrayInputStream(cached.get(), (int) offset, (int) length));
+      }
+    }
+    InputStream stream =
+        offset == 0 && length == stat.size()
+            ? minioService.downloadFile(objectKey)
+            : minioService.downloadFileRange(objectKey, offset, length);
+    return new InputStreamResource(stream);
+  }
+
+  /** 캐시 대상 크기의 객체 전체를 캐시에서 읽는다. 없으면 MinIO 에서 받아 채운다. 실패하면 empty. */
+  private Optional<byte[]> readCached(String objectKey, MinIOService.ObjectStat stat) {
+    try {
+      Optional<Path> hit = diskCache.get(objectKey, stat.etag());
+      if (hit.isPresent()) {
+        try {
+          return Optional.of(Files.readAllBytes(hit.get()));
+        } catch (NoSuchFileException e) {
+          // 조회와 읽기 사이에 LRU 에서 밀려났다 — 다시 채운다
+          diskCache.invalidate(objectKey, stat.etag());
+        }
+      }
+      try (InputStream in = minioService.downloadFile(objectKey)) {
+        Path stored = diskCache.put(objectKey, stat.etag(), in);
+        byte[] bytes = Files.readAllBytes(stored);
+        if (bytes.length != stat.size()) {
+          // 받는 사이 객체가 교체됐다 — 이 내용으로는 stat 기준 Range 를 맞출 수 없다
+          diskCache.invalidate(objectKey, stat.etag());
+          return Optional.empty();
+        }
+        return Optional.of(bytes);
+      }
+    } catch (IOException e) {
+      log.warn("첨부파일 캐시 사용 실패, MinIO 직접 스트리밍으로 대체: {} - {}", objectKey, e.getMessage());
+      return Optional.empty();
+    }
+  }
+}
@@ -26,8 +26,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+/** 대시보드 집계. 쓰지 않으므로 읽기 전용 트랜잭션으로 돌아 읽기 복제본이 있으면 그쪽으로 간다 (ReadReplicaRouter). */
 @Service
+@Transactional(readOnly = true)
 public class DashboardService {
 
   private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
@@ -38,6 +41,8 @@ public class DashboardService {
 
   @Autowired private TestExecutionRepository testExecutionRepository;
 
+  @Autowired private ProjectStatisticsEngine projectStatisticsEngine;
+
   // ICT-134: 모니터링 서비스 주입
   @Autowired private MonitoringService monitoringService;
 
@@ -309,8 +314,8 @@ public class DashboardService {
                 })
             .collect(Collectors.toList());
 
-    System.out.println(
-        "ICT-265 Debug - getTestResultsTrend 기간 필터 후 개수: " + filteredByDateResults.size());
+    logger.debug(
+        "ICT-265 getTestResultsTrend 기간 필터 후 개수: {}", filteredByDateResults.size());
 
     // ICT-265: ICT-263과 동일한 중복 제거 로직 적용 (통계 계산용)
     Map<String, TestResult> latestResultsMap =
@@ -333,7 +338,7 @@ public class DashboardService {
                     }));
 
     List<TestResult> uniqueResults = new ArrayList<>(latestResultsMap.values());
-    System.out.println("ICT-265 Debug - getTestResultsTrend 중복 제거 후 개수: " + uniqueResults.size());
+    logger.debug("ICT-265 getTestResultsTrend 중복 제거 후 개수: {}", uniqueResults.size());
 
     // 날짜별로 그룹화하여 집계 데이터 생성 (중복 제거된 데이터 기준)
     Map<String, Map<String, Integer>> groupedData =
@@ -564,205 +569,14 @@ public class DashboardService {
   }
 
   /**
-   * ICT-129: 프로젝트 전체 통계 조회 ICT-265: 중복 데이터 제거 로직 추가 - Repository 쿼리에서 이미 중복 제거 적용됨 성능 최적화된 방식으로
-   * 프로젝트의 종합 통계 정보를 제공합니다.
+   * ICT-129: 프로젝트 전체 통계 조회 ICT-265: 중복 데이터 제거 로직 추가 - Repository 쿼리에서 이미 중복 제거 적용됨. 계산과 짧은 스냅샷
+   * 공유는 {@link ProjectStatisticsEngine} 이 맡는다.
    *
    * @param projectId 프로젝트 ID
    * @return 프로젝트 전체 통계 DTO
    */
   public ProjectStatisticsDto getProjectStatistics(String projectId) {
-    logger.info("ICT-265 Debug - getProjectStatistics 프로젝트 통계 조회 시작: {}", projectId);
-    LocalDateTime now = LocalDateTime.now();
-
-    // ICT-130: 성능 최적화된 분할 쿼리들을 병렬로 실행
-    // ICT-265: Repository 쿼리에서 이미 최신 executed_at 기준 중복 제거 적용됨
-    // 1. 기본 통계 데이터 조회
-    Map<String, Object> basicStats = testResultRepository.findProjectBasicStatistics(projectId);
-
-    // 2. 실행 통계 조회
-    Map<String, Object> executionStats =
-        testResultRepository.findProjectExecutionStatistics(projectId);
-
-    // 3. 실행 상태 통계 조회
-    Map<String, Object> statusStats =
-        testResultRepository.findProjectExecutionStatusStatistics(projectId);
-
-    // 4. 테스트 결과 통계 조회 (ICT-265: Repository 쿼리에서 중복 제거 적용됨)
-    Map<String, Object> resultStats = testResultRepository.findProjectResultStatistics(projectId);
-    logger.info("ICT-265 Debug - 테스트 결과 통계: {}", resultStats);
-
-    // 5. 우선순위별 통계 조회 (ICT-265: Repository 쿼리에서 중복 제거 적용됨)
-    Map<String, Object> priorityStats =
-        testResultRepository.findProjectPriorityStatistics(projectId);
-    logger.info("ICT-265 Debug - 우선순위별 통계: {}", priorityStats);
-
-    // 통계 데이터 병합
-    Map<String, Object> statisticsData = new java.util.HashMap<>();
-    statisticsData.putAll(basicStats);
-    statisticsData.putAll(executionStats);
-    statisticsData.putAll(statusStats);
-    statisticsData.putAll(resultStats);
-    statisticsData.putAll(priorityStats);
-
-    // 2. 일일 변화 추이 계산 (어제 vs 오늘)
-    LocalDateTime yesterdayStart = now.minusDays(1).withHour(0).withMinute(0).withSecond(0);
-    LocalDateTime yesterdayEnd = now.minusDays(1).withHour(23).withMinute(59).withSecond(59);
-    LocalDateTime todayStart = now.withHour(0).withMinute(0).withSecond(0);
-
-    Integer yesterdayExecutions =
-        testResultRepository.countExecutionsByDateRange(projectId, yesterdayStart, yesterdayEnd);
-    Integer todayExecutions =
-        testResultRepository.countExecutionsByDateRange(projectId, todayStart, now);
-
-    // 3. 주간 변화 추이 계산 (지난주 vs 이번주)
-    LocalDateTime lastWeekStart = now.minusDays(7).withHour(0).withMinute(0).withSecond(0);
-    LocalDateTime lastWeekEnd = now.minusDays(1).withHour(23).withMinute(59).withSecond(59);
-    LocalDateTime thisWeekStart =
-        now.minusDays(now.getDayOfWeek().getValue() - 1).withHour(0).withMinute(0).withSecond(0);
-
-    Integer lastWeekExecutions =
-        testResultRepository.countExecutionsByDateRange(projectId, lastWeekStart, lastWeekEnd);
-    Integer thisWeekExecutions =
-        testResultRepository.countExecutionsByDateRange(projectId, thisWeekStart, now);
-
-    // 4. 최근 7일/30일 평균 통과율 계산
-    LocalDateTime last7DaysStart = now.minusDays(7);
-    LocalDateTime last30DaysStart = now.minusDays(30);
-
-    Double averagePassRate7Days =
-        testResultRepository.calculateAveragePassRateByPeriod(projectId, last7DaysStart, now);
-    Double averagePassRate30Days =
-        testResultRepository.calculateAveragePassRateByPeriod(projectId, last30DaysStart, now);
-
-    // 5. 최근 7일 중요 실패 수 조회
-    Integer criticalFailures7Days =
-        testResultRepository.countCriticalFailuresByPeriod(projectId, last7DaysStart, now);
-
-    // 6. DTO 변환 및 계산
-    ProjectStatisticsDto dto = convertToProjectStatisticsDto(statisticsData, projectId);
-
-    // 변화율 계산
-    dto.setYesterdayExecutions(yesterdayExecutions != null ? yesterdayExecutions : 0);
-    dto.setLastWeekExecutions(lastWeekExecutions != null ? lastWeekExecutions : 0);
-
-    // 일일 변화율 계산
-    double dailyChangeRate = 0.0;
-    if (yesterdayExecutions != null && yesterdayExecutions > 0) {
-      dailyChangeRate =
-          ((double) (todayExecutions - yesterdayExecutions) / yesterdayExecutions) * 100;
-    }
-    dto.setDailyChangeRate(Math.round(dailyChangeRate * 100.0) / 100.0);
-
-    // 주간 변화율 계산
-    double weeklyChangeRate = 0.0;
-    if (lastWeekExecutions != null && lastWeekExecutions > 0) {
-      weeklyChangeRate =
-          ((double) (thisWeekExecutions - lastWeekExecutions) / lastWeekExecutions) * 100;
-    }
-    dto.setWeeklyChangeRate(Math.round(weeklyChangeRate * 100.0) / 100.0);
-
-    // 평균 통과율 설정
-    dto.setAveragePassRateLast7Days(averagePassRate7Days != null ? averagePassRate7Days : 0.0);
-    dto.setAveragePassRateLast30Days(averagePassRate30Days != null ? averagePassRate30Days : 0.0);
-    dto.setCriticalFailuresLast7Days(criticalFailures7Days != null ? criticalFailures7Days : 0);
-
-    // 통과율 계산 (ICT-265: 중복 제거된 데이터 기준)
-    Integer executedCases = dto.getExecutedTestCases();
-    Integer passedCases = dto.getPassedTestCases();
-    if (executedCases != null && executedCases > 0) {
-      double passRate = (passedCases != null ? passedCases : 0) * 100.0 / executedCases;
-      dto.setPassRate(Math.round(passRate * 100.0) / 100.0);
-      logger.info(
-          "ICT-265 Debug - 통과율 계산: {}개 중 {}개 통과 = {}%",
-          executedCases, passedCases, dto.getPassRate());
-    } else {
-      dto.setPassRate(0.0);
-      logger.info("ICT-265 Debug - 통과율 계산: 실행된 테스트가 없어 0%");
-    }
-
-    // 테스트 커버리지 계산 (실행된 케이스 / 전체 케이스)
-    Integer totalCases = dto.getTotalTestCases();
-    if (totalCases != null && totalCases > 0) {
-      double testCoverage = (executedCases != null ? executedCases : 0) * 100.0 / totalCases;
-      dto.setTestCoverage(Math.round(testCoverage * 100.0) / 100.0);
-    } else {
-      dto.setTestCoverage(0.0);
-    }
-
-    // 폴더 수 (테스트케이스와 같은 테이블에 있어 총계에서 제외하고 따로 센다)
-    dto.setTotalFolders((int) testCaseRepository.countFoldersByProjectId(projectId));
-
-    // 메타 정보 설정
-    dto.setCalculatedAt(now);
-    dto.setDataFreshnessMinutes(0); // 실시간 계산
-
-    return dto;
-  }
-
-  /** 통계 쿼리 결과를 ProjectStatisticsDto로 변환 */
-  private ProjectStatisticsDto convertToProjectStatisticsDto(
-      Map<String, Object> data, String projectId) {
-    ProjectStatisticsDto dto = new ProjectStatisticsDto();
-
-    dto.setProjectId(projectId);
-    // 프로젝트 이름은 별도 조회가 필요하므로 일단 ID로 설정
-    dto.setProjectName("Project " + projectId);
-
-    // 기본 통계 설정
-    dto.setTotalTestCases(getIntegerFromMap(data, "total_test_cases"));
-    dto.setTotalTestPlans(getIntegerFromMap(data, "total_test_plans"));
-    dto.setTotalTestExecutions(getIntegerFromMap(data, "total_test_executions"));
-
-    // 실행 통계 설정
-    dto.setExecutedTestCases(getIntegerFromMap(data, "executed_test_cases"));
-    dto.setExecutionRate(getDoubleFromMap(data, "execution_rate"));
-    dto.setPassedTestCases(getIntegerFromMap(data, "passed_test_cases"));
-    dto.setFailedTestCases(getIntegerFromMap(data, "failed_test_cases"));
-    dto.setBlockedTestCases(getIntegerFromMap(data, "blocked_test_cases"));
-    dto.setSkippedTestCases(getIntegerFromMap(data, "skipped_test_cases"));
-    dto.setNotRunTestCases(getIntegerFromMap(data, "not_run_test_cases"));
-
-    // 진행 상황 설정
-    dto.setActiveTestExecutions(getIntegerFromMap(data, "active_test_executions"));
-    dto.setCompletedTestExecutions(getIntegerFromMap(data, "completed_test_executions"));
-    dto.setPausedTestExecutions(getIntegerFromMap(data, "paused_test_executions"));
-
-    // 우선순위별 활성 케이스 설정
-    dto.setActivePriorityHighCases(getIntegerFromMap(data, "active_priority_high_cases"));
-    dto.setActivePriorityMediumCases(getIntegerFromMap(data, "active_priority_medium_cases"));
-    dto.setActivePriorityLowCases(getIntegerFromMap(data, "active_priority_low_cases"));
-
-    // 시간 정보 설정
-    Object lastExecutionObj = data.get("last_execution_date");
-    if (lastExecutionObj instanceof LocalDateTime) {
-      dto.setLastExecutionDate((LocalDateTime) lastExecutionObj);
-    }
-
-    return dto;
-  }
-
-  /** Map에서 Integer 값을 안전하게 추출하는 헬퍼 메소드 */
-  private Integer getIntegerFromMap(Map<String, Object> map, String key) {
-    Object value = map.get(key);
-    if (value == null) {
-      return 0;
-    }
-    if (value instanceof Number) {
-      return ((Number) value).intValue();
-    }
-    return 0;
-  }
-
-  /** Map에서 Double 값을 안전하게 추출하는 헬퍼 메소드 */
-  private Double getDoubleFromMap(Map<String, Object> map, String key) {
-    Object value = map.get(key);
-    if (value == null) {
-      return 0.0;
-    }
-    if (value instanceof Number) {
-      return ((Number) value).doubleValue();
-    }
-    return 0.0;
+    return projectStatisticsEngine.statistics(projectId);
   }
 
   // ===============================
@@ -8,7 +8,7 @@ import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.repository.EmailVerificationRepository;
 import com.testcase.testcasemanagement.repository.MailSettingsRepository;
 import com.testcase.testcasemanagement.repository.UserRepository;
-import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.time.LocalDateTime;
@@ -32,7 +32,7 @@ public class EmailVerificationService {
   private final EmailVerificationRepository emailVerificationRepository;
   private final UserRepository userRepository;
   private final MailSettingsRepository mailSettingsRepository;
-  private final EncryptionUtil encryptionUtil;
+  private final SecretVault secretVault;
 
   @Value("${app.frontend.url:http://localhost:8080}")
   private String frontendUrl;
@@ -213,7 +213,7 @@ public class EmailVerificationService {
     mailSender.setUsername(settings.getUsername());
 
     // 비밀번호 복호화
-    String decryptedPassword = encryptionUtil.decrypt(settings.getPassword());
+    String decryptedPassword = secretVault.reveal(settings.getPassword());
     mailSender.setPassword(decryptedPassword);
 
     // SMTP 속성 설정
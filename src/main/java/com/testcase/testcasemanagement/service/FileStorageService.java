@@ -7,7 +7,6 @@ import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.repository.TestResultAttachmentRepository;
 import com.testcase.testcasemanagement.repository.TestResultRepository;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +15,6 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -106,9 +103,13 @@ public class FileStorageService {
         .collect(Collectors.toList());
   }
 
-  /** 첨부파일 다운로드 (MinIO에서 가져오기) */
+  /**
+   * 다운로드할 MinIO objectKey 조회
+   *
+   * <p>본문 스트리밍(Range/ETag 처리 포함)은 {@link AttachmentDownloadService} 가 맡는다.
+   */
   @Transactional(readOnly = true)
-  public Resource loadFileAsResource(String attachmentId) throws IOException {
+  public String getDownloadObjectKey(String attachmentId) {
     TestResultAttachment attachment =
         attachmentRepository
             .findById(attachmentId)
@@ -118,11 +119,7 @@ public class FileStorageService {
       throw new IllegalStateException("다운로드할 수 없는 파일입니다: " + attachmentId);
     }
 
-    // MinIO에서 파일 다운로드
-    String objectKey = attachment.getFilePath(); // objectKey
-    InputStream inputStream = minioService.downloadFile(objectKey);
-
-    return new InputStreamResource(inputStream);
+    return attachment.getFilePath(); // objectKey
   }
 
   /** 첨부파일 정보 조회 */
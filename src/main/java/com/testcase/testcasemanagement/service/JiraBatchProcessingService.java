@@ -3,7 +3,7 @@ package com.testcase.testcasemanagement.service;
 import com.testcase.testcasemanagement.dto.JiraConfigDto;
 import com.testcase.testcasemanagement.model.JiraConfig;
 import com.testcase.testcasemanagement.repository.JiraConfigRepository;
-import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -30,15 +30,15 @@ public class JiraBatchProcessingService {
 
   private final JiraConfigRepository jiraConfigRepository;
   private final Optional<JiraApiService> jiraApiService;
-  private final EncryptionUtil encryptionUtil;
+  private final SecretVault secretVault;
 
   public JiraBatchProcessingService(
       JiraConfigRepository jiraConfigRepository,
       @Lazy Optional<JiraApiService> jiraApiService,
-      EncryptionUtil encryptionUtil) {
+      SecretVault secretVault) {
     this.jiraConfigRepository = jiraConfigRepository;
     this.jiraApiService = jiraApiService;
-    this.encryptionUtil = encryptionUtil;
+    this.secretVault = secretVault;
   }
 
   @Value("${jira.batch-processing.max-threads:5}")
@@ -93,7 +93,7 @@ public class JiraBatchProcessingService {
         return BatchOperationResult.failure(operationId, "활성화된 JIRA 설정이 없습니다.");
       }
 
-      String decryptedApiToken = encryptionUtil.decrypt(jiraConfig.getEncryptedApiToken());
+      String decryptedApiToken = secretVault.reveal(jiraConfig.getEncryptedApiToken());
 
       // 배치 단위로 분할하여 처리
       List<List<BatchCommentRequest>> batches = partitionList(requests, batchSize);
@@ -296,7 +296,7 @@ public class JiraBatchProcessingService {
                   return new BatchProjectResult(userId, false, null, "활성 JIRA 설정 없음");
                 }
 
-                String apiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+                String apiToken = secretVault.reveal(config.getEncryptedApiToken());
                 List<JiraConfigDto.JiraProjectDto> projects =
                     jiraApiService
                         .map(
@@ -322,7 +322,7 @@ public class JiraBatchProcessingService {
         .map(
             config -> {
               try {
-                String apiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+                String apiToken = secretVault.reveal(config.getEncryptedApiToken());
 
                 JiraConfigDto.TestConnectionDto testConfig =
                     JiraConfigDto.TestConnectionDto.builder()
@@ -5,6 +5,7 @@ import com.testcase.testcasemanagement.dto.JiraConfigDto;
 import com.testcase.testcasemanagement.model.JiraConfig;
 import com.testcase.testcasemanagement.repository.JiraConfigRepository;
 import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
 import com.testcase.testcasemanagement.util.JiraKeyUtils;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
@@ -25,6 +26,7 @@ public class JiraConfigService {
   private final JiraConfigRepository jiraConfigRepository;
   private final EncryptionUtil encryptionUtil;
   private final JiraApiService jiraApiService;
+  private final SecretVault secretVault;
 
   @PostConstruct
   public void init() {
@@ -178,6 +180,8 @@ public class JiraConfigService {
 
       // 새로운 API 토큰이 제공된 경우만 암호화하여 업데이트
       if (configDto.getApiToken() != null && !configDto.getApiToken().trim().isEmpty()) {
+        secretVault.invalidateAfterCommit(
+            vaultKey(configId), existingConfig.getEncryptedApiToken());
         existingConfig.setEncryptedApiToken(encryptionUtil.encrypt(configDto.getApiToken()));
       }
 
@@ -227,7 +231,7 @@ public class JiraConfigService {
           JiraConfig savedConfig = configOpt.get();
 
           // 저장된 암호화된 토큰을 복호화하여 사용
-          String decryptedToken = encryptionUtil.decrypt(savedConfig.getEncryptedApiToken());
+          String decryptedToken = secretVault.reveal(savedConfig.getEncryptedApiToken());
           testConfig.setApiToken(decryptedToken);
 
           // serverUrl과 username도 비어있으면 DB 값 사용
@@ -300,6 +304,11 @@ public class JiraConfigService {
     }
   }
 
+  /** {@link SecretVault} 에 설정 ID 로 보관하는 API 토큰의 이름 */
+  static String vaultKey(String configId) {
+    return "jira:" + configId;
+  }
+
   /** 사용자의 JIRA 설정 삭제 */
   @Transactional
   public boolean deleteConfig(String userId, String configId) {
@@ -316,6 +325,7 @@ public class JiraConfigService {
         }
 
         jiraConfigRepository.delete(config);
+        secretVault.invalidateAfterCommit(vaultKey(configId), config.getEncryptedApiToken());
         log.info("JIRA 설정 삭제 완료: userId={}, configId={}", userId, configId);
         return true;
       }
@@ -345,7 +355,7 @@ public class JiraConfigService {
     JiraConfig config = configOpt.get();
     String decryptedApiToken;
     try {
-      decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+      decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
     } catch (Exception e) {
       log.warn("JIRA API 토큰 복호화 실패: userId={}, configId={}", userId, config.getId());
       config.markConnectionFailure("API 토큰을 읽을 수 없습니다. 토큰을 다시 입력해 주세요.");
@@ -378,7 +388,7 @@ public class JiraConfigService {
       }
 
       JiraConfig config = configOpt.get();
-      String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+      String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
       return jiraApiService.getProjects(
           config.getServerUrl(), config.getUsername(), decryptedApiToken);
@@ -407,7 +417,7 @@ public class JiraConfigService {
 
         // 자동 재검증 수행
         try {
-          String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+          String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
           JiraConfigDto.TestConnectionDto testConfig =
               JiraConfigDto.TestConnectionDto.builder()
@@ -441,7 +451,7 @@ public class JiraConfigService {
         }
       }
 
-      String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+      String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
       boolean success =
           jiraApiService.addCommentToIssue(
@@ -483,7 +493,7 @@ public class JiraConfigService {
         return List.of();
       }
 
-      String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+      String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
       // JQL 변환 - 간단한 텍스트 검색을 JQL로 변환
       String jql = buildJqlFromQuery(query, config.getTestProjectKey());
@@ -519,7 +529,7 @@ public class JiraConfigService {
       }
 
       JiraConfig config = configOpt.get();
-      String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+      String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
       // 프로젝트 키가 없으면 기본 설정된 프로젝트 키 사용
       if (createRequest.getProjectKey() == null || createRequest.getProjectKey().trim().isEmpty()) {
@@ -550,7 +560,7 @@ public class JiraConfigService {
       }
 
       JiraConfig config = configOpt.get();
-      String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+      String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
       return jiraApiService.uploadAttachment(
           config.getServerUrl(),
@@ -578,7 +588,7 @@ public class JiraConfigService {
       }
 
       JiraConfig config = configOpt.get();
-      String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+      String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
       // 프로젝트 키가 전달되지 않았으면 설정된 기본값 사용
       String targetProjectKey =
@@ -612,7 +622,7 @@ public class JiraConfigService {
 
       for (JiraConfig config : staleConfigs) {
         try {
-          String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+          String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
           JiraConfigDto.TestConnectionDto testConfig =
               JiraConfigDto.TestConnectionDto.builder()
@@ -668,7 +678,7 @@ public class JiraConfigService {
 
       JiraConfig config = configOpt.get();
 
-      String decryptedApiToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+      String decryptedApiToken = secretVault.reveal(config.getEncryptedApiToken());
 
       // JiraApiService를 통해 실제 이슈 존재 여부 확인
       JiraConfigDto.IssueExistsDto result =
@@ -813,7 +823,7 @@ public class JiraConfigService {
     String maskedApiToken = null;
     if (config.getEncryptedApiToken() != null) {
       try {
-        String decryptedToken = encryptionUtil.decrypt(config.getEncryptedApiToken());
+        String decryptedToken = secretVault.reveal(config.getEncryptedApiToken());
         // 보안을 위해 마스킹 처리 (앞 4자리만 표시)
         if (decryptedToken.length() > 4) {
           maskedApiToken =
@@ -1,23 +1,28 @@
 package com.testcase.testcasemanagement.service;
 
+import com.testcase.testcasemanagement.config.JiraHttpConnectionManager;
 import com.testcase.testcasemanagement.config.JiraSecurityConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
-import java.time.LocalDateTime;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-/** JIRA 연결 관리자 ICT-165: 연결 풀링 및 성능 최적화 */
+/**
+ * JIRA 연결 관리자 ICT-165: 연결 풀링 및 성능 최적화
+ *
+ * <p>실제 커넥션 풀은 {@link JiraSecurityConfig#jiraHttpConnectionManager} 가 가진다. 예전에는 서버 URL 마다
+ * RestTemplate 을 캐시했지만 그 아래가 {@code HttpURLConnection} 이라 커넥션 수를 세거나 제한하지 못했고, 생성 경로가 서버
+ * 전체에 걸친 {@code synchronized} 였다. 지금은 모든 서버가 풀 하나를 공유하는 RestTemplate 을 쓰고, 한도·유휴 정리는
+ * 라우트(호스트) 단위로 풀이 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -28,232 +33,87 @@ import org.springframework.web.client.RestTemplate;
 public class JiraConnectionManager {
 
   private final JiraSecurityConfig jiraSecurityConfig;
-
-  @Value("${jira.connection-pool.max-connections:20}")
-  private int maxConnections;
+  private final MeterRegistry meterRegistry;
 
   @Value("${jira.connection-pool.idle-timeout:300000}") // 5분
   private long idleTimeoutMs;
 
-  @Value("${jira.connection-pool.cleanup-interval:60000}") // 1분
-  private long cleanupIntervalMs;
-
-  // 연결별 RestTemplate 캐시
-  private final ConcurrentHashMap<String, CachedRestTemplate> connectionPool =
-      new ConcurrentHashMap<>();
-
-  // 연결 통계
-  private final AtomicInteger activeConnections = new AtomicInteger(0);
-  private final AtomicLong totalConnectionsCreated = new AtomicLong(0);
-  private final AtomicLong totalConnectionsReused = new AtomicLong(0);
-
-  private ScheduledExecutorService cleanupExecutor;
+  private RestTemplate restTemplate;
+  private JiraHttpConnectionManager connectionManager;
 
   @PostConstruct
   public void init() {
-    // 연결 정리 스케줄러 시작
-    this.cleanupExecutor =
-        Executors.newSingleThreadScheduledExecutor(
-            r -> {
-              Thread t = new Thread(r);
-              t.setName("jira-connection-cleanup");
-              t.setDaemon(true);
-              return t;
-            });
-
-    cleanupExecutor.scheduleAtFixedRate(
-        this::cleanupIdleConnections, cleanupIntervalMs, cleanupIntervalMs, TimeUnit.MILLISECONDS);
-
-    log.info("JIRA 연결 관리자 초기화 완료 - 최대연결: {}, 유휴타임아웃: {}ms", maxConnections, idleTimeoutMs);
-  }
-
-  @PreDestroy
-  public void destroy() {
-    if (cleanupExecutor != null && !cleanupExecutor.isShutdown()) {
-      cleanupExecutor.shutdown();
-      try {
-        if (!cleanupExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-          cleanupExecutor.shutdownNow();
-        }
-      } catch (InterruptedException e) {
-        cleanupExecutor.shutdownNow();
-        Thread.currentThread().interrupt();
-      }
-    }
-
-    // 모든 연결 정리
-    connectionPool.clear();
-    log.info("JIRA 연결 관리자 정리 완료");
+    // 설정 클래스 프록시를 거치므로 두 호출 모두 싱글톤 빈을 돌려준다
+    this.restTemplate = jiraSecurityConfig.jiraRestTemplate();
+    this.connectionManager = jiraSecurityConfig.jiraHttpConnectionManager();
+
+    // 풀 상태(jira 태그의 httpcomponents.httpclient.pool.*)와 커넥션 재사용 지표
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "jira")
+        .bindTo(meterRegistry);
+    FunctionCounter.builder(
+            "jira.http.connections.opened",
+            jiraSecurityConfig,
+            JiraSecurityConfig::getConnectionsOpened)
+        .description("Jira 로 새로 연 TCP(TLS) 커넥션 수")
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "jira.http.requests", jiraSecurityConfig, JiraSecurityConfig::getRequestsExecuted)
+        .description("Jira 로 보낸 HTTP 요청 수")
+        .register(meterRegistry);
+
+    log.info(
+        "JIRA 연결 관리자 초기화 완료 - 최대연결: {}, 라우트당: {}, 유휴타임아웃: {}ms",
+        connectionManager.getMaxTotal(),
+        connectionManager.getDefaultMaxPerRoute(),
+        idleTimeoutMs);
   }
 
-  /** JIRA 서버별 최적화된 RestTemplate 획득 */
+  /** JIRA 서버별 최적화된 RestTemplate 획득 — 모든 서버가 같은 커넥션 풀을 쓴다 */
   public RestTemplate getRestTemplate(String serverUrl) {
-    String connectionKey = generateConnectionKey(serverUrl);
-
-    CachedRestTemplate cached = connectionPool.get(connectionKey);
-
-    if (cached != null && !cached.isExpired()) {
-      // 기존 연결 재사용
-      cached.updateLastUsed();
-      totalConnectionsReused.incrementAndGet();
-
-      if (log.isDebugEnabled()) {
-        log.debug("JIRA 연결 재사용: serverUrl={}, key={}", serverUrl, connectionKey);
-      }
-
-      return cached.getRestTemplate();
-    }
-
-    // 새 연결 생성
-    return createNewRestTemplate(serverUrl, connectionKey);
+    return restTemplate;
   }
 
   /** 연결 상태 정보 조회 */
   public ConnectionPoolStats getConnectionPoolStats() {
+    PoolStats totals = connectionManager.getTotalStats();
+    long opened = jiraSecurityConfig.getConnectionsOpened();
+    long requests = jiraSecurityConfig.getRequestsExecuted();
     return ConnectionPoolStats.builder()
-        .maxConnections(maxConnections)
-        .activeConnections(activeConnections.get())
-        .cachedConnections(connectionPool.size())
-        .totalConnectionsCreated(totalConnectionsCreated.get())
-        .totalConnectionsReused(totalConnectionsReused.get())
+        .maxConnections(totals.getMax())
+        .maxConnectionsPerRoute(connectionManager.getDefaultMaxPerRoute())
+        .activeConnections(totals.getLeased())
+        .cachedConnections(totals.getAvailable())
+        .pendingRequests(totals.getPending())
+        .totalConnectionsCreated(opened)
+        .totalConnectionsReused(Math.max(0, requests - opened))
         .idleTimeoutMs(idleTimeoutMs)
         .build();
   }
 
-  /** 특정 서버의 연결 강제 제거 */
+  /**
+   * 특정 서버의 연결 강제 제거
+   *
+   * <p>그 서버(호스트)로 가는 쉬고 있는 커넥션만 닫는다. 다른 서버의 keep-alive 커넥션은 남고, 사용 중인 커넥션은 반납 후 다시 쓰인다.
+   */
   public void evictConnection(String serverUrl) {
-    String connectionKey = generateConnectionKey(serverUrl);
-    CachedRestTemplate removed = connectionPool.remove(connectionKey);
-
-    if (removed != null) {
-      activeConnections.decrementAndGet();
-      log.info("JIRA 연결 강제 제거: serverUrl={}", serverUrl);
-    }
+    int removedCount = connectionManager.closeIdle(serverUrl);
+    log.info("JIRA 유휴 연결 강제 정리: serverUrl={}, count={}", serverUrl, removedCount);
   }
 
-  /** 모든 연결 강제 제거 */
+  /** 모든 연결 강제 제거 (사용 중인 커넥션은 반납 시 닫힌다) */
   public void evictAllConnections() {
-    int removedCount = connectionPool.size();
-    connectionPool.clear();
-    activeConnections.set(0);
+    int removedCount = connectionManager.getTotalStats().getAvailable();
+    connectionManager.closeIdle(TimeValue.ZERO_MILLISECONDS);
+    connectionManager.closeExpired();
     log.info("모든 JIRA 연결 강제 제거: count={}", removedCount);
   }
 
-  // Private Helper Methods
-
-  private synchronized RestTemplate createNewRestTemplate(String serverUrl, String connectionKey) {
-    // 더블 체크 (동시 생성 방지)
-    CachedRestTemplate existing = connectionPool.get(connectionKey);
-    if (existing != null && !existing.isExpired()) {
-      existing.updateLastUsed();
-      totalConnectionsReused.incrementAndGet();
-      return existing.getRestTemplate();
-    }
-
-    // 최대 연결 수 체크
-    if (activeConnections.get() >= maxConnections) {
-      log.warn(
-          "최대 연결 수 초과, 오래된 연결 정리 시도: current={}, max={}", activeConnections.get(), maxConnections);
-      cleanupIdleConnections();
-
-      // 정리 후에도 여전히 최대 연결 수를 초과하면 오래된 것 하나 제거
-      if (activeConnections.get() >= maxConnections) {
-        evictOldestConnection();
-      }
-    }
-
-    try {
-      // 보안 설정이 적용된 RestTemplate 생성
-      RestTemplate restTemplate = jiraSecurityConfig.jiraRestTemplate();
-
-      CachedRestTemplate cachedTemplate = new CachedRestTemplate(restTemplate);
-      connectionPool.put(connectionKey, cachedTemplate);
-      activeConnections.incrementAndGet();
-      totalConnectionsCreated.incrementAndGet();
-
-      log.info(
-          "새 JIRA 연결 생성: serverUrl={}, activeConnections={}", serverUrl, activeConnections.get());
-
-      return restTemplate;
-
-    } catch (Exception e) {
-      log.error("JIRA 연결 생성 실패: serverUrl={}", serverUrl, e);
-      throw new RuntimeException("JIRA 연결 생성 실패", e);
-    }
-  }
-
-  private String generateConnectionKey(String serverUrl) {
-    // 서버 URL을 기반으로 고유 키 생성
-    return serverUrl.toLowerCase().trim();
-  }
-
-  private void cleanupIdleConnections() {
-    try {
-      LocalDateTime cutoffTime = LocalDateTime.now().minusNanos(idleTimeoutMs * 1_000_000);
-
-      connectionPool
-          .entrySet()
-          .removeIf(
-              entry -> {
-                CachedRestTemplate cached = entry.getValue();
-                if (cached.getLastUsed().isBefore(cutoffTime)) {
-                  activeConnections.decrementAndGet();
-                  log.debug(
-                      "유휴 JIRA 연결 정리: key={}, lastUsed={}", entry.getKey(), cached.getLastUsed());
-                  return true;
-                }
-                return false;
-              });
-
-    } catch (Exception e) {
-      log.warn("JIRA 연결 정리 중 경고", e);
-    }
-  }
-
-  private void evictOldestConnection() {
-    connectionPool.entrySet().stream()
-        .min((e1, e2) -> e1.getValue().getLastUsed().compareTo(e2.getValue().getLastUsed()))
-        .ifPresent(
-            entry -> {
-              connectionPool.remove(entry.getKey());
-              activeConnections.decrementAndGet();
-              log.info("가장 오래된 JIRA 연결 제거: key={}", entry.getKey());
-            });
-  }
-
-  // Inner Classes
-
-  private static class CachedRestTemplate {
-    private final RestTemplate restTemplate;
-    private volatile LocalDateTime lastUsed;
-
-    public CachedRestTemplate(RestTemplate restTemplate) {
-      this.restTemplate = restTemplate;
-      this.lastUsed = LocalDateTime.now();
-    }
-
-    public RestTemplate getRestTemplate() {
-      return restTemplate;
-    }
-
-    public LocalDateTime getLastUsed() {
-      return lastUsed;
-    }
-
-    public void updateLastUsed() {
-      this.lastUsed = LocalDateTime.now();
-    }
-
-    public boolean isExpired() {
-      // 만료 여부는 ConnectionManager에서 판단
-      return false;
-    }
-  }
-
   public static class ConnectionPoolStats {
     private int maxConnections;
+    private int maxConnectionsPerRoute;
     private int activeConnections;
     private int cachedConnections;
+    private int pendingRequests;
     private long totalConnectionsCreated;
     private long totalConnectionsReused;
     private long idleTimeoutMs;
@@ -267,6 +127,10 @@ public class JiraConnectionManager {
       return maxConnections;
     }
 
+    public int getMaxConnectionsPerRoute() {
+      return maxConnectionsPerRoute;
+    }
+
     public int getActiveConnections() {
       return activeConnections;
     }
@@ -275,6 +139,10 @@ public class JiraConnectionManager {
       return cachedConnections;
     }
 
+    public int getPendingRequests() {
+      return pendingRequests;
+    }
+
     public long getTotalConnectionsCreated() {
       return totalConnectionsCreated;
     }
@@ -300,6 +168,11 @@ public class JiraConnectionManager {
         return this;
       }
 
+      public ConnectionPoolStatsBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        stats.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+      }
+
       public ConnectionPoolStatsBuilder activeConnections(int activeConnections) {
         stats.activeConnections = activeConnections;
         return this;
@@ -310,6 +183,11 @@ public class JiraConnectionManager {
         return this;
       }
 
+      public ConnectionPoolStatsBuilder pendingRequests(int pendingRequests) {
+        stats.pendingRequests = pendingRequests;
+        return this;
+      }
+
       public ConnectionPoolStatsBuilder totalConnectionsCreated(long totalConnectionsCreated) {
         stats.totalConnectionsCreated = totalConnectionsCreated;
         return this;
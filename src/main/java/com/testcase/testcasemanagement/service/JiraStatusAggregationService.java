@@ -22,7 +22,7 @@ public class JiraStatusAggregationService {
   private final TestResultRepository testResultRepository;
   private final JiraApiService jiraApiService;
   private final JiraConfigService jiraConfigService;
-  private final com.testcase.testcasemanagement.security.EncryptionUtil encryptionUtil;
+  private final com.testcase.testcasemanagement.security.SecretVault secretVault;
   private final com.testcase.testcasemanagement.repository.JiraConfigRepository
       jiraConfigRepository;
 
@@ -150,13 +150,7 @@ public class JiraStatusAggregationService {
 
       var config = jiraConfigDto.get();
 
-      // 🔧 DTO가 아닌 Entity에서 암호화된 토큰 직접 가져오기
-      var configEntity =
-          jiraConfigRepository
-              .findById(config.getId())
-              .orElseThrow(
-                  () -> new IllegalStateException("JIRA 설정을 찾을 수 없습니다: " + config.getId()));
-      String decryptedToken = encryptionUtil.decrypt(configEntity.getEncryptedApiToken());
+      String decryptedToken = revealApiToken(config.getId());
 
       JsonNode issueInfo =
           jiraApiService.getIssueInfo(
@@ -182,6 +176,21 @@ public class JiraStatusAggregationService {
     }
   }
 
+  /**
+   * 설정의 API 토큰을 푼다. 이슈마다 엔티티를 다시 읽고 복호화하던 것을 설정 ID 로 보관해 두고, 설정이 바뀌면 {@link
+   * JiraConfigService} 가 무효화한다.
+   */
+  private String revealApiToken(String configId) {
+    return secretVault.reveal(
+        JiraConfigService.vaultKey(configId),
+        // DTO 에는 토큰이 없으므로 엔티티에서 암호문을 읽는다
+        () ->
+            jiraConfigRepository
+                .findById(configId)
+                .orElseThrow(() -> new IllegalStateException("JIRA 설정을 찾을 수 없습니다: " + configId))
+                .getEncryptedApiToken());
+  }
+
   /**
    * 배치로 여러 JIRA 이슈 상태 조회 (성능 최적화)
    *
@@ -203,13 +212,7 @@ public class JiraStatusAggregationService {
 
       var config = jiraConfigDto.get();
 
-      // 🔧 DTO가 아닌 Entity에서 암호화된 토큰 직접 가져오기
-      var configEntity =
-          jiraConfigRepository
-              .findById(config.getId())
-              .orElseThrow(
-                  () -> new IllegalStateException("JIRA 설정을 찾을 수 없습니다: " + config.getId()));
-      String decryptedToken = encryptionUtil.decrypt(configEntity.getEncryptedApiToken());
+      String decryptedToken = revealApiToken(config.getId());
 
       // 배치 크기로 나누어 처리 (JIRA API 제한 고려)
       List<String> jiraIdList = new ArrayList<>(jiraIds);
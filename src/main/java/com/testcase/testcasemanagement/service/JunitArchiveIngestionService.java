@@ -0,0 +1,285 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.model.JunitProcessStatus;
+import com.testcase.testcasemanagement.model.JunitTestResult;
+import com.testcase.testcasemanagement.model.JunitTestSuite;
+import com.testcase.testcasemanagement.model.User;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * JUnit 리포트 묶음(zip, tar.gz) 수집 서비스
+ *
+ * <p>Maven/Gradle 빌드는 실행마다 {@code TEST-*.xml} 을 수백 개 만든다. 파일마다 업로드하면 요청·엔티티가 파일 수만큼
+ * 생기고, 한 파일로 이어 붙이면 XML 이 깨진다. 묶음 한 개를 받아 항목을 디스크에 풀지 않고 순서대로 읽으면서 XML 항목만 전용 풀({@code
+ * junitArchiveParseExecutor})에 넘겨 병렬로 파싱하고, 모든 스위트를 하나의 {@link JunitTestResult} 로 합친다.
+ *
+ * <p>풀의 대기열이 차면 읽는 스레드가 직접 파싱하므로(CallerRuns) 메모리에 올라가는 항목은 풀 크기 + 대기열 크기로 묶인다. 압축
+ * 폭탄에 대비해 항목 수·항목 크기·전체 해제 크기에 상한을 둔다. 루트가 testsuite(s) 가 아닌 XML(surefire 요약 파일 등)과 깨진 XML 은
+ * 건너뛰고, 스위트가 하나도 없으면 실패로 본다.
+ */
+@Service
+public class JunitArchiveIngestionService {
+
+  private static final Logger logger = LoggerFactory.getLogger(JunitArchiveIngestionService.class);
+
+  private static final List<String> ARCHIVE_EXTENSIONS = List.of(".zip", ".tar.gz", ".tgz");
+
+  private final JunitXmlParserService xmlParserService;
+  private final Executor parseExecutor;
+
+  @Value("${junit.archive.max-entries:5000}")
+  private int maxEntries = 5000;
+
+  @Value("${junit.archive.max-entry-size:52428800}")
+  private long maxEntrySize = 50L * 1024 * 1024;
+
+  @Value("${junit.archive.max-total-size:1073741824}")
+  private long maxTotalSize = 1024L * 1024 * 1024;
+
+  public JunitArchiveIngestionService(
+      JunitXmlParserService xmlParserService,
+      @Qualifier("junitArchiveParseExecutor") Executor parseExecutor) {
+    this.xmlParserService = xmlParserService;
+    this.parseExecutor = parseExecutor;
+  }
+
+  /** 지원하는 묶음 파일인지 (확장자 기준) */
+  public static boolean isArchive(String fileName) {
+    if (fileName == null) {
+      return false;
+    }
+    String lower = fileName.toLowerCase(Locale.ROOT);
+    return ARCHIVE_EXTENSIONS.stream().anyMatch(lower::endsWith);
+  }
+
+  /**
+   * 묶음 안의 JUnit XML 을 모두 파싱해 하나의 결과로 합친다.
+   *
+   * @param inputStream 묶음 파일 스트림 (닫지 않는다)
+   * @param archiveName 원본 묶음 파일명. 형식(zip/tar.gz) 판별과 기본 실행 이름에 쓴다.
+   * @param progressCallback (파싱 끝난 XML 수, 지금까지 발견한 XML 수, 메시지). null 이면 보고하지 않는다.
+   * @return 항목 순서대로 스위트를 모은 결과 (저장 전)
+   */
+  public JunitTestResult parseArchive(
+      InputStream inputStream,
+      String archiveName,
+      String projectId,
+      User uploadedBy,
+      JunitXmlParserService.ProgressCallback progressCallback)
+      throws JunitXmlParserService.JunitXmlParsingException {
+    logger.info("JUnit 묶음 파싱 시작 - 파일: {}, 프로젝트: {}", archiveName, projectId);
+
+    AtomicInteger discovered = new AtomicInteger();
+    AtomicInteger parsed = new AtomicInteger();
+    List<CompletableFuture<JunitTestResult>> futures = new ArrayList<>();
+
+    try (ArchiveInputStream<?> archive = open(inputStream, archiveName)) {
+      long totalBytes = 0;
+      ArchiveEntry entry;
+      while ((entry = archive.getNextEntry()) != null) {
+        if (entry.isDirectory() || !isJunitXmlEntry(entry.getName())) {
+          continue;
+        }
+        if (discovered.get() >= maxEntries) {
+          throw new JunitXmlParserService.JunitXmlParsingException(
+              "Archive contains more than " + maxEntries + " XML entries");
+        }
+        byte[] content = readEntry(archive, entry.getName());
+        totalBytes += content.length;
+        if (totalBytes > maxTotalSize) {
+          throw new JunitXmlParserService.JunitXmlParsingException(
+              "Archive exceeds maximum uncompressed size (" + maxTotalSize + " bytes)");
+        }
+
+        String entryName = entry.getName();
+        discovered.incrementAndGet();
+        futures.add(
+            CompletableFuture.supplyAsync(
+                () -> {
+                  JunitTestResult part = parseEntry(content, entryName, projectId, uploadedBy);
+                  int done = parsed.incrementAndGet();
+                  if (progressCallback != null) {
+                    int seen = discovered.get();
+                    progressCallback.onProgress(
+                        done, seen, "XML 파싱 중... (" + done + "/" + seen + ")");
+                  }
+                  return part;
+                },
+                parseExecutor));
+      }
+    } catch (IOException e) {
+      cancelAll(futures);
+      throw new JunitXmlParserService.JunitXmlParsingException(
+          "Failed to read archive: " + e.getMessage(), e);
+    } catch (JunitXmlParserService.JunitXmlParsingException e) {
+      cancelAll(futures);
+      throw e;
+    }
+
+    JunitTestResult merged = merge(futures, archiveName, projectId, uploadedBy);
+    if (progressCallback != null) {
+      progressCallback.onProgress(
+          discovered.get(), discovered.get(), "XML 파싱 완료 (" + discovered.get() + "개 파일)");
+    }
+    return merged;
+  }
+
+  /** 항목 순서대로 스위트를 이어 붙이고 합계를 다시 낸다. 파싱하지 못한 항목은 건너뛴다. */
+  private JunitTestResult merge(
+      List<CompletableFuture<JunitTestResult>> futures,
+      String archiveName,
+      String projectId,
+      User uploadedBy)
+      throws JunitXmlParserService.JunitXmlParsingException {
+    JunitTestResult merged = new JunitTestResult();
+    merged.setFileName(archiveName);
+    merged.setProjectId(projectId);
+    merged.setUploadedBy(uploadedBy);
+    merged.setTestExecutionName("Test Execution - " + baseName(archiveName));
+
+    List<JunitTestSuite> suites = new ArrayList<>();
+    int skipped = 0;
+    int totalTests = 0;
+    int failures = 0;
+    int errors = 0;
+    int skippedTests = 0;
+    double totalTime = 0.0;
+    try {
+      for (CompletableFuture<JunitTestResult> future : futures) {
+        JunitTestResult part = future.join();
+        if (part == null || part.getTestSuites() == null) {
+          skipped++;
+          continue;
+        }
+        for (JunitTestSuite suite : part.getTestSuites()) {
+          suite.setJunitTestResult(merged);
+          suites.add(suite);
+        }
+        totalTests += part.getTotalTests();
+        failures += part.getFailures();
+        errors += part.getErrors();
+        skippedTests += part.getSkipped();
+        totalTime += part.getTotalTime();
+      }
+    } catch (CompletionException e) {
+      cancelAll(futures);
+      throw new JunitXmlParserService.JunitXmlParsingException(
+          "Failed to parse archive entry: " + e.getCause().getMessage(), e.getCause());
+    }
+
+    if (suites.isEmpty()) {
+      throw new JunitXmlParserService.JunitXmlParsingException(
+          "No JUnit test suites found in archive: " + archiveName);
+    }
+    if (skipped > 0) {
+      logger.warn("JUnit 묶음에서 파싱하지 못한 XML {}개를 건너뜀 - 파일: {}", skipped, archiveName);
+    }
+
+    merged.setTestSuites(suites);
+    merged.setTotalTests(totalTests);
+    merged.setFailures(failures);
+    merged.setErrors(errors);
+    merged.setSkipped(skippedTests);
+    merged.setTotalTime(totalTime);
+    merged.setStatus(JunitProcessStatus.COMPLETED);
+    merged.setParsedAt(LocalDateTime.now());
+
+    logger.info(
+        "JUnit 묶음 파싱 완료 - 파일: {}, XML: {}, 스위트: {}, 총 테스트: {}",
+        archiveName,
+        futures.size() - skipped,
+        suites.size(),
+        totalTests);
+    return merged;
+  }
+
+  /** 한 항목 파싱. JUnit 형식이 아니거나 깨진 XML 이면 null. */
+  private JunitTestResult parseEntry(
+      byte[] content, String entryName, String projectId, User uploadedBy) {
+    try {
+      return xmlParserService.parseJunitXml(
+          new ByteArrayInputStream(content), entryName, projectId, uploadedBy);
+    } catch (JunitXmlParserService.JunitXmlParsingException e) {
+      logger.warn("JUnit 묶음 항목 건너뜀 - {}: {}", entryName, e.getMessage());
+      return null;
+    }
+  }
+
+  private ArchiveInputStream<?> open(InputStream inputStream, String archiveName)
+      throws IOException, JunitXmlParserService.JunitXmlParsingException {
+    String lower = archiveName == null ? "" : archiveName.toLowerCase(Locale.ROOT);
+    if (lower.endsWith(".zip")) {
+      return new ZipArchiveInputStream(inputStream);
+    }
+    if (lower.endsWith(".tar.gz") || lower.endsWith(".tgz")) {
+      return new TarArchiveInputStream(new GzipCompressorInputStream(inputStream));
+    }
+    throw new JunitXmlParserService.JunitXmlParsingException(
+        "Unsupported archive type. Only .zip, .tar.gz and .tgz are allowed: " + archiveName);
+  }
+
+  /** 항목 하나를 상한까지만 메모리로 읽는다. */
+  private byte[] readEntry(InputStream archive, String entryName)
+      throws IOException, JunitXmlParserService.JunitXmlParsingException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    long size = 0;
+    int read;
+    while ((read = archive.read(buffer)) != -1) {
+      size += read;
+      if (size > maxEntrySize) {
+        throw new JunitXmlParserService.JunitXmlParsingException(
+            "Archive entry exceeds maximum size (" + maxEntrySize + " bytes): " + entryName);
+      }
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
+  // 숨김 파일과 macOS 가 zip 에 넣는 리소스 포크(__MACOSX/._*)는 XML 이 아니다
+  private static boolean isJunitXmlEntry(String name) {
+    String lower = name.toLowerCase(Locale.ROOT);
+    if (!lower.endsWith(".xml") || lower.startsWith("__macosx/") || lower.contains("/__macosx/")) {
+      return false;
+    }
+    String simple = name.substring(name.lastIndexOf('/') + 1);
+    return !simple.startsWith(".");
+  }
+
+  private static String baseName(String archiveName) {
+    if (archiveName == null) {
+      return "archive";
+    }
+    for (String ext : ARCHIVE_EXTENSIONS) {
+      if (archiveName.toLowerCase(Locale.ROOT).endsWith(ext)) {
+        return archiveName.substring(0, archiveName.length() - ext.length());
+      }
+    }
+    return archiveName;
+  }
+
+  private static void cancelAll(List<CompletableFuture<JunitTestResult>> futures) {
+    futures.forEach(f -> f.cancel(false));
+  }
+}
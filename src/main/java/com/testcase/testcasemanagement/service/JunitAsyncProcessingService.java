@@ -2,21 +2,44 @@
 
 package com.testcase.testcasemanagement.service;
 
+import com.testcase.testcasemanagement.model.JunitIngestionJob;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Kind;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Status;
 import com.testcase.testcasemanagement.model.JunitProcessStatus;
+import com.testcase.testcasemanagement.model.JunitTestCase;
 import com.testcase.testcasemanagement.model.JunitTestResult;
+import com.testcase.testcasemanagement.model.JunitTestSuite;
+import com.testcase.testcasemanagement.model.User;
+import com.testcase.testcasemanagement.repository.JunitIngestionJobRepository;
 import com.testcase.testcasemanagement.repository.JunitTestResultRepository;
+import com.testcase.testcasemanagement.repository.JunitTestSuiteRepository;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-/** ICT-200: 대량 JUnit XML 파일 비동기 처리 서비스 대용량 파일의 백그라운드 처리 및 진행률 추적 */
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xml.sax.SAXException;
+
+/**
+ * ICT-200: 대량 JUnit XML 파일 비동기 처리 서비스 대용량 파일의 백그라운드 처리 및 진행률 추적
+ *
+ * <p>작업은 {@link JunitIngestionScheduler} 가 잡아서 {@link #runJob} 으로 넘긴다. 한 트랜잭션으로 전체를 저장하던 것을 스위트
+ * 배치마다 커밋하고, 같은 트랜잭션에서 작업의 체크포인트를 올린다. 중간에 인스턴스가 내려가면 다음 실행이 원본을 다시 파싱한 뒤 커밋된 스위트를
+ * 건너뛰고 이어서 저장한다. 파싱·검증 오류는 다시 해도 같으므로 바로 실패로 끝내고, 그 밖의 오류는 {@code max-attempts} 까지 다시 시도한다.
+ */
 @Service
 public class JunitAsyncProcessingService {
 
@@ -24,129 +47,193 @@ public class JunitAsyncProcessingService {
 
   @Autowired private JunitTestResultRepository testResultRepository;
 
+  @Autowired private JunitTestSuiteRepository testSuiteRepository;
+
+  @Autowired private JunitIngestionJobRepository jobRepository;
+
   @Autowired private JunitXmlParserService xmlParserService;
 
   @Autowired private JunitFileStorageService fileStorageService;
 
-  // 진행률 추적을 위한 맵
+  @Autowired private JunitArchiveIngestionService archiveIngestionService;
+
+  @Autowired private LiveUpdateHub liveUpdateHub;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Value("${junit.ingestion.batch-suites:100}")
+  private int batchSuites = 100;
+
+  @Value("${junit.ingestion.max-attempts:3}")
+  private int maxAttempts = 3;
+
+  @Value("${junit.ingestion.retry-delay:1m}")
+  private Duration retryDelay = Duration.ofMinutes(1);
+
+  // 이 인스턴스에서 실행 중인 작업의 세부 진행률. 다른 인스턴스의 작업은 작업 행에서 읽는다
   private final ConcurrentHashMap<String, ProcessingProgress> processingStatus =
       new ConcurrentHashMap<>();
 
   /**
-   * 대용량 JUnit XML 파일 비동기 처리
+   * 작업 하나를 처리한다 (로드 → 파싱 → 검증 → 배치 저장 → 완료). 호출한 쪽이 작업을 잡은 상태여야 한다.
    *
-   * @param testResultId 테스트 결과 ID
-   * @param filePath 파일 경로
-   * @param user 업로드 사용자
-   * @return 비동기 처리 CompletableFuture
+   * @param owner 작업을 잡은 임대 주인. 체크포인트와 종료 기록은 주인이 같을 때만 반영된다.
    */
-  @Async("junitProcessingExecutor")
-  @Transactional
-  public CompletableFuture<JunitTestResult> processLargeJunitFileAsync(
-      String testResultId, String filePath, com.testcase.testcasemanagement.model.User user) {
-
-    logger.info("대용량 JUnit XML 파일 비동기 처리 시작 - ID: {}, 파일: {}", testResultId, filePath);
-
-    // 진행률 추적 시작
+  public void runJob(JunitIngestionJob job, String owner) {
+    String testResultId = job.getTestResultId();
     ProcessingProgress progress = new ProcessingProgress();
+    progress.setProjectId(job.getProjectId());
     progress.setTotalSteps(5); // 파일 로드, XML 파싱, 데이터 검증, 저장, 완료
     progress.setCurrentStep(0);
     progress.setStatusMessage("처리 준비 중...");
     processingStatus.put(testResultId, progress);
 
     try {
+      if (job.getAttempts() > maxAttempts) {
+        fail(job, owner, progress, "처리 시도 횟수를 넘었습니다. 마지막 오류: " + job.getLastError());
+        return;
+      }
+
       // 1단계: 테스트 결과 엔티티 조회
+      updateProgress(testResultId, owner, 1, "파일 로딩 중...");
       JunitTestResult testResult =
-          testResultRepository
-              .findById(testResultId)
-              .orElseThrow(() -> new RuntimeException("Test result not found: " + testResultId));
-
-      updateProgress(testResultId, 1, "파일 로딩 중...");
-      testResult.setStatus(JunitProcessStatus.PARSING);
-      testResultRepository.save(testResult);
+          transaction()
+              .execute(
+                  status -> {
+                    JunitTestResult result =
+                        testResultRepository.findById(testResultId).orElse(null);
+                    if (result != null) {
+                      result.setStatus(JunitProcessStatus.PARSING);
+                      testResultRepository.save(result);
+                    }
+                    return result;
+                  });
+      if (testResult == null) {
+        // 처리 대기 중에 결과가 삭제됐다
+        finish(testResultId, owner, Status.FAILED, "테스트 결과가 삭제되었습니다", null);
+        processingStatus.remove(testResultId);
+        return;
+      }
+      if (job.getSuitesCommitted() > 0) {
+        logger.info(
+            "JUnit 처리 이어서 시작 - ID: {}, 커밋된 스위트: {}, 시도: {}",
+            testResultId,
+            job.getSuitesCommitted(),
+            job.getAttempts());
+      }
 
-      // 2단계: 스트리밍 파싱으로 메모리 효율성 개선
-      updateProgress(testResultId, 2, "XML 파싱 중...");
-      JunitTestResult parsedResult =
-          parseWithProgressTracking(filePath, testResult, user, testResultId);
+      // 2단계: 파싱. 이어받을 때도 원본 전체를 다시 파싱한다 (DOM·묶음 파싱은 중간부터 시작할 수 없다)
+      updateProgress(testResultId, owner, 2, "XML 파싱 중...");
+      long[] sourceBytes = new long[1];
+      JunitTestResult parsedResult = parse(job.getKind(), testResult, sourceBytes);
 
       // 3단계: 데이터 검증
-      updateProgress(testResultId, 3, "데이터 검증 중...");
+      updateProgress(testResultId, owner, 3, "데이터 검증 중...");
       validateParsedData(parsedResult);
 
-      // 4단계: 배치 저장으로 성능 최적화
-      updateProgress(testResultId, 4, "데이터 저장 중...");
-      JunitTestResult savedResult = saveParsedDataInBatches(testResult, parsedResult);
-
-      // 5단계: 완료
-      updateProgress(testResultId, 5, "처리 완료");
-      savedResult.setStatus(JunitProcessStatus.COMPLETED);
-      savedResult.setParsedAt(LocalDateTime.now());
-      testResultRepository.save(savedResult);
-
-      // 진행률 추적 정리
+      // 4단계: 스위트 배치 저장 + 체크포인트
+      updateProgress(testResultId, owner, 4, "데이터 저장 중...");
+      saveParsedDataInBatches(job, owner, parsedResult, sourceBytes[0]);
+
+      // 5단계: 통계와 상태를 반영하고 작업을 끝낸다
+      updateProgress(testResultId, owner, 5, "처리 완료");
+      JunitTestResult savedResult =
+          transaction()
+              .execute(
+                  status -> {
+                    JunitTestResult result =
+                        testResultRepository
+                            .findById(testResultId)
+                            .orElseThrow(() -> new LeaseLostException(testResultId));
+                    copyParsedStatistics(result, parsedResult);
+                    result.setStatus(JunitProcessStatus.COMPLETED);
+                    result.setParsedAt(LocalDateTime.now());
+                    requireOwned(
+                        testResultId,
+                        jobRepository.finish(
+                            testResultId,
+                            owner,
+                            Status.DONE,
+                            "처리 완료",
+                            null,
+                            LocalDateTime.now()));
+                    return testResultRepository.save(result);
+                  });
+
+      // 진행률 추적 정리. 커밋이 끝났으므로 받은 쪽이 다시 읽으면 결과가 보인다
       processingStatus.remove(testResultId);
+      publishProgress(testResultId, progress, true);
 
       logger.info(
           "대용량 JUnit XML 파일 비동기 처리 완료 - ID: {}, 총 테스트: {}",
           testResultId,
           savedResult.getTotalTests());
 
-      return CompletableFuture.completedFuture(savedResult);
-
+    } catch (LeaseLostException e) {
+      // 임대가 끝나 다른 인스턴스가 이어받았다. 그쪽이 마무리한다
+      logger.warn("JUnit 처리 작업을 다른 인스턴스가 가져감 - ID: {}", testResultId);
+      processingStatus.remove(testResultId);
     } catch (Exception e) {
-      logger.error("대용량 JUnit XML 파일 처리 중 오류 발생 - ID: {}", testResultId, e);
-
-      // 오류 상태 업데이트
-      testResultRepository
-          .findById(testResultId)
-          .ifPresent(
-              result -> {
-                result.setStatus(JunitProcessStatus.FAILED);
-                result.setErrorMessage(e.getMessage());
-                testResultRepository.save(result);
-              });
-
-      // 진행률 추적에 오류 상태 기록
-      ProcessingProgress failedProgress = processingStatus.get(testResultId);
-      if (failedProgress != null) {
-        failedProgress.setStatusMessage("처리 실패: " + e.getMessage());
-        failedProgress.setFailed(true);
+      String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+      if (isPermanent(e) || job.getAttempts() >= maxAttempts) {
+        logger.error("대용량 JUnit XML 파일 처리 중 오류 발생 - ID: {}", testResultId, e);
+        fail(job, owner, progress, message);
+      } else {
+        logger.warn(
+            "JUnit 처리 일시 오류, {} 뒤 다시 시도 - ID: {}, 시도: {}/{}, 오류: {}",
+            retryDelay,
+            testResultId,
+            job.getAttempts(),
+            maxAttempts,
+            message);
+        LocalDateTime now = LocalDateTime.now();
+        int requeued =
+            jobRepository.requeue(
+                testResultId,
+                owner,
+                Status.QUEUED,
+                now.plus(retryDelay),
+                "재시도 대기 중...",
+                message,
+                now);
+        if (requeued == 0) {
+          // 그 사이 임대가 끝나 다른 인스턴스가 이어받았다. 그쪽 상태를 덮지 않는다
+          logger.warn("JUnit 처리 작업을 다른 인스턴스가 가져감 - ID: {}", testResultId);
+        }
+        processingStatus.remove(testResultId);
       }
-
-      return CompletableFuture.failedFuture(e);
     }
   }
 
-  /** 스트리밍 파싱으로 메모리 효율적 처리 */
-  private JunitTestResult parseWithProgressTracking(
-      String filePath,
-      JunitTestResult testResult,
-      com.testcase.testcasemanagement.model.User user,
-      String testResultId)
+  /** 종류에 맞게 원본을 파싱한다. 읽은 바이트 수를 {@code sourceBytes[0]} 에 남긴다. */
+  private JunitTestResult parse(Kind kind, JunitTestResult testResult, long[] sourceBytes)
       throws JunitFileStorageService.FileStorageException,
-          JunitXmlParserService.JunitXmlParsingException {
-
-    // 스트리밍으로 파일 읽기
-    try (InputStream inputStream = fileStorageService.loadFileAsInputStream(filePath)) {
-      // 파싱 진행률 콜백과 함께 파싱
-      return xmlParserService.parseJunitXmlWithProgress(
-          inputStream,
-          testResult.getFileName(),
-          testResult.getProjectId(),
-          user,
-          (current, total, message) ->
-              updateParsingProgress(testResultId, current, total, message));
-    } catch (Exception e) {
-      throw new JunitXmlParserService.JunitXmlParsingException(
-          "Failed to parse with streaming: " + e.getMessage(), e);
+          JunitXmlParserService.JunitXmlParsingException,
+          IOException {
+    String testResultId = testResult.getId();
+    User user = testResult.getUploadedBy();
+    try (CountingInputStream inputStream =
+        new CountingInputStream(
+            fileStorageService.loadFileAsInputStream(testResult.getOriginalFilePath()))) {
+      JunitXmlParserService.ProgressCallback callback =
+          (current, total, message) -> updateParsingProgress(testResultId, current, total, message);
+      JunitTestResult parsed =
+          kind == Kind.ARCHIVE
+              ? archiveIngestionService.parseArchive(
+                  inputStream, testResult.getFileName(), testResult.getProjectId(), user, callback)
+              : xmlParserService.parseJunitXmlWithProgress(
+                  inputStream, testResult.getFileName(), testResult.getProjectId(), user, callback);
+      sourceBytes[0] = inputStream.count;
+      return parsed;
     }
   }
 
   /** 데이터 검증 */
-  private void validateParsedData(JunitTestResult parsedResult) {
+  private void validateParsedData(JunitTestResult parsedResult)
+      throws JunitXmlParserService.JunitXmlParsingException {
     if (parsedResult.getTestSuites() == null || parsedResult.getTestSuites().isEmpty()) {
-      throw new RuntimeException("No test suites found in parsed data");
+      throw new JunitXmlParserService.JunitXmlParsingException(
+          "No test suites found in parsed data");
     }
 
     // 통계 일관성 검증
@@ -160,29 +247,71 @@ public class JunitAsyncProcessingService {
     }
   }
 
-  /** 배치 저장으로 성능 최적화 */
-  private JunitTestResult saveParsedDataInBatches(
-      JunitTestResult original, JunitTestResult parsed) {
-    // 원본 엔티티에 파싱된 데이터 복사
-    copyParsedData(original, parsed);
-
-    // 배치 크기 설정 (대용량 처리를 위해 작은 배치 사용)
-    final int BATCH_SIZE = 100;
-
-    if (original.getTestSuites() != null) {
-      for (int i = 0; i < original.getTestSuites().size(); i += BATCH_SIZE) {
-        int endIndex = Math.min(i + BATCH_SIZE, original.getTestSuites().size());
-        // 배치별로 처리하되, 전체를 한 번에 저장 (JPA cascade 활용)
-        logger.debug("배치 저장 진행: {}/{} 스위트", endIndex, original.getTestSuites().size());
-      }
+  /**
+   * 스위트를 배치마다 별도 트랜잭션으로 저장한다. 배치 저장과 체크포인트가 함께 커밋되므로, 어디서 끊겨도 다음 실행은 {@code
+   * suitesCommitted} 부터 이어 쓰면 중복도 누락도 없다.
+   */
+  private void saveParsedDataInBatches(
+      JunitIngestionJob job, String owner, JunitTestResult parsed, long sourceBytes) {
+    String testResultId = job.getTestResultId();
+    List<JunitTestSuite> suites = parsed.getTestSuites();
+    int start = job.getSuitesCommitted();
+    if (start > 0
+        && (!Objects.equals(job.getSourceBytes(), sourceBytes) || start > suites.size())) {
+      // 체크포인트 이후 원본이 바뀌었다. 커밋된 스위트를 지우고 처음부터 한다
+      logger.warn(
+          "JUnit 원본이 체크포인트와 달라 처음부터 저장 - ID: {}, 기록: {}B, 현재: {}B",
+          testResultId,
+          job.getSourceBytes(),
+          sourceBytes);
+      transaction()
+          .executeWithoutResult(
+              status -> {
+                // 임대를 확인한 뒤에 지운다. 이어받은 인스턴스가 쓰고 있는 스위트를 지우지 않는다
+                requireOwned(
+                    testResultId,
+                    jobRepository.resetCheckpoint(
+                        testResultId, owner, Status.RUNNING, sourceBytes, LocalDateTime.now()));
+                deleteCommittedSuites(testResultId);
+              });
+      start = 0;
     }
 
-    // 전체 저장 (cascade로 관련 엔티티들 자동 저장)
-    return testResultRepository.save(original);
+    int batchSize = Math.max(1, batchSuites);
+    for (int from = start; from < suites.size(); from += batchSize) {
+      int to = Math.min(from + batchSize, suites.size());
+      List<JunitTestSuite> batch = suites.subList(from, to);
+      transaction()
+          .executeWithoutResult(
+              status -> {
+                JunitTestResult resultRef = testResultRepository.getReferenceById(testResultId);
+                for (JunitTestSuite suite : batch) {
+                  suite.setJunitTestResult(resultRef);
+                  if (suite.getTestCases() != null) {
+                    for (JunitTestCase testCase : suite.getTestCases()) {
+                      testCase.setJunitTestSuite(suite);
+                    }
+                  }
+                }
+                testSuiteRepository.saveAll(batch);
+                requireOwned(
+                    testResultId,
+                    jobRepository.checkpoint(
+                        testResultId,
+                        owner,
+                        Status.RUNNING,
+                        to,
+                        sourceBytes,
+                        LocalDateTime.now()));
+              });
+      updateProgress(
+          testResultId, owner, 4, "데이터 저장 중... (" + to + "/" + suites.size() + " 스위트)");
+      logger.debug("배치 저장 진행: {}/{} 스위트", to, suites.size());
+    }
   }
 
-  /** 파싱된 데이터를 기존 엔티티에 복사 */
-  private void copyParsedData(JunitTestResult target, JunitTestResult source) {
+  /** 파싱된 통계를 기존 엔티티에 복사한다. 스위트는 배치로 이미 저장했다 */
+  private void copyParsedStatistics(JunitTestResult target, JunitTestResult source) {
     target.setTotalTests(source.getTotalTests());
     target.setFailures(source.getFailures());
     target.setErrors(source.getErrors());
@@ -192,30 +321,104 @@ public class JunitAsyncProcessingService {
     if (target.getTestExecutionName() == null || target.getTestExecutionName().isEmpty()) {
       target.setTestExecutionName(source.getTestExecutionName());
     }
+  }
 
-    if (source.getTestSuites() != null) {
-      for (com.testcase.testcasemanagement.model.JunitTestSuite sourceSuite :
-          source.getTestSuites()) {
-        sourceSuite.setJunitTestResult(target);
-
-        if (sourceSuite.getTestCases() != null) {
-          for (com.testcase.testcasemanagement.model.JunitTestCase sourceCase :
-              sourceSuite.getTestCases()) {
-            sourceCase.setJunitTestSuite(sourceSuite);
-          }
-        }
+  /** 다시 해도 같은 결과가 나올 오류인지. 파싱·검증 오류는 원본 문제이고, 저장소·DB 오류는 일시적일 수 있다. */
+  static boolean isPermanent(Throwable e) {
+    if (!(e instanceof JunitXmlParserService.JunitXmlParsingException)) {
+      return false;
+    }
+    for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+      if (cause instanceof SAXException) {
+        return true;
+      }
+      if (cause instanceof IOException
+          || cause instanceof JunitFileStorageService.FileStorageException) {
+        return false;
       }
-      target.setTestSuites(source.getTestSuites());
     }
+    return true;
+  }
+
+  /**
+   * 처리를 실패로 끝낸다. 일부만 저장된 스위트는 지워 예전처럼 실패한 결과에 데이터가 남지 않게 한다. 작업을 먼저 끝내 보고 임대를 잃었으면
+   * 트랜잭션째 되돌린다 — 이어받은 인스턴스가 저장 중인 스위트를 지우거나 상태를 덮지 않는다.
+   */
+  private void fail(
+      JunitIngestionJob job, String owner, ProcessingProgress progress, String message) {
+    String testResultId = job.getTestResultId();
+    try {
+      transaction()
+          .executeWithoutResult(
+              status -> {
+                requireOwned(
+                    testResultId,
+                    jobRepository.finish(
+                        testResultId,
+                        owner,
+                        Status.FAILED,
+                        "처리 실패: " + message,
+                        message,
+                        LocalDateTime.now()));
+                deleteCommittedSuites(testResultId);
+                testResultRepository
+                    .findById(testResultId)
+                    .ifPresent(
+                        result -> {
+                          result.setStatus(JunitProcessStatus.FAILED);
+                          result.setErrorMessage(message);
+                          testResultRepository.save(result);
+                        });
+              });
+    } catch (LeaseLostException e) {
+      logger.warn("JUnit 처리 작업을 다른 인스턴스가 가져감 - ID: {}", testResultId);
+      processingStatus.remove(testResultId);
+      return;
+    }
+    processingStatus.remove(testResultId);
+    progress.setStatusMessage("처리 실패: " + message);
+    progress.setFailed(true);
+    publishProgress(testResultId, progress, true);
   }
 
-  /** 진행률 업데이트 */
-  private void updateProgress(String testResultId, int currentStep, String statusMessage) {
+  private void finish(
+      String testResultId, String owner, Status status, String message, String error) {
+    transaction()
+        .executeWithoutResult(
+            s ->
+                jobRepository.finish(
+                    testResultId, owner, status, message, error, LocalDateTime.now()));
+  }
+
+  private void deleteCommittedSuites(String testResultId) {
+    testSuiteRepository.deleteAll(
+        testSuiteRepository.findByJunitTestResult_IdOrderByName(testResultId));
+  }
+
+  private static void requireOwned(String testResultId, int updated) {
+    if (updated == 0) {
+      throw new LeaseLostException(testResultId);
+    }
+  }
+
+  private TransactionTemplate transaction() {
+    return new TransactionTemplate(transactionManager);
+  }
+
+  /** 진행률 업데이트. 단계와 메시지는 작업 행에도 남겨 다른 인스턴스에서 물어도 보이게 한다 */
+  private void updateProgress(
+      String testResultId, String owner, int currentStep, String statusMessage) {
+    jobRepository.updateProgress(
+        testResultId, owner, currentStep, statusMessage, LocalDateTime.now());
     ProcessingProgress progress = processingStatus.get(testResultId);
     if (progress != null) {
       progress.setCurrentStep(currentStep);
       progress.setStatusMessage(statusMessage);
       progress.setLastUpdated(System.currentTimeMillis());
+      if (currentStep < progress.getTotalSteps()) {
+        // 완료 단계는 커밋 뒤에 따로 알린다
+        publishProgress(testResultId, progress, false);
+      }
 
       logger.debug(
           "처리 진행률 업데이트 - ID: {}, 단계: {}/{}, 메시지: {}",
@@ -234,21 +437,112 @@ public class JunitAsyncProcessingService {
       progress.setParsingTotal(total);
       progress.setStatusMessage(message);
       progress.setLastUpdated(System.currentTimeMillis());
+      publishProgress(testResultId, progress, false);
     }
   }
 
-  /** 처리 진행률 조회 */
+  /**
+   * 진행률 구독자(SSE)에게 알린다. 결과 하나를 보는 화면({@code junit:<id>})과 프로젝트 화면({@code project:<id>}) 두 토픽으로
+   * 보낸다. 파싱 중에는 테스트케이스마다 불리지만 구독자가 없으면 바로 돌아가고, 있어도 허브가 묶어 간격당 한 번만 보낸다.
+   */
+  private void publishProgress(String testResultId, ProcessingProgress progress, boolean last) {
+    String resultTopic = "junit:" + testResultId;
+    String projectTopic =
+        progress.getProjectId() != null ? "project:" + progress.getProjectId() : null;
+    boolean toResult = liveUpdateHub.hasSubscribers(resultTopic);
+    boolean toProject = projectTopic != null && liveUpdateHub.hasSubscribers(projectTopic);
+    if (!last && !toResult && !toProject) {
+      return;
+    }
+    Map<String, Object> data = progress.toEventData(testResultId);
+    if (last) {
+      liveUpdateHub.publishAfterCommit(resultTopic, "progress", testResultId, data);
+      if (projectTopic != null) {
+        liveUpdateHub.publishAfterCommit(projectTopic, "junit-progress", testResultId, data);
+      }
+      return;
+    }
+    if (toResult) {
+      liveUpdateHub.publish(resultTopic, "progress", testResultId, data);
+    }
+    if (toProject) {
+      liveUpdateHub.publish(projectTopic, "junit-progress", testResultId, data);
+    }
+  }
+
+  /**
+   * 처리 진행률 조회. 이 인스턴스에서 실행 중이면 세부 진행률을, 아니면 작업 행(대기 중, 다른 인스턴스에서 실행 중, 실패)을 돌려준다. 끝났거나
+   * 작업이 없으면 null.
+   */
   public ProcessingProgress getProcessingProgress(String testResultId) {
-    return processingStatus.get(testResultId);
+    ProcessingProgress local = processingStatus.get(testResultId);
+    if (local != null) {
+      return local;
+    }
+    return jobRepository
+        .findById(testResultId)
+        .filter(job -> job.getStatus() != Status.DONE)
+        .map(ProcessingProgress::fromJob)
+        .orElse(null);
   }
 
-  /** 모든 활성 처리 진행률 조회 */
+  /** 모든 활성 처리 진행률 조회 (대기 중인 작업과 다른 인스턴스의 작업 포함) */
   public ConcurrentHashMap<String, ProcessingProgress> getAllProcessingProgress() {
-    return new ConcurrentHashMap<>(processingStatus);
+    ConcurrentHashMap<String, ProcessingProgress> all = new ConcurrentHashMap<>();
+    for (JunitIngestionJob job :
+        jobRepository.findByStatusInOrderByCreatedAt(List.of(Status.QUEUED, Status.RUNNING))) {
+      all.put(job.getTestResultId(), ProcessingProgress.fromJob(job));
+    }
+    all.putAll(processingStatus);
+    return all;
+  }
+
+  /** 임대를 잃었거나 작업이 지워져 이 인스턴스의 기록이 반영되지 않았다 */
+  static final class LeaseLostException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    LeaseLostException(String testResultId) {
+      super("JUnit 처리 작업 임대를 잃었습니다: " + testResultId);
+    }
+  }
+
+  /** 체크포인트에 남길 원본 크기를 세는 스트림 */
+  private static final class CountingInputStream extends FilterInputStream {
+    private long count;
+
+    CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        count++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        count += n;
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count += skipped;
+      return skipped;
+    }
   }
 
   /** 진행률 추적 클래스 */
   public static class ProcessingProgress {
+    private String projectId;
     private int totalSteps;
     private int currentStep;
     private String statusMessage;
@@ -274,7 +568,51 @@ public class JunitAsyncProcessingService {
       return Math.min(stepProgress * 100, 100.0);
     }
 
+    /** 작업 행에서 만든 진행률 (파싱 세부 진행률은 없다) */
+    static ProcessingProgress fromJob(JunitIngestionJob job) {
+      ProcessingProgress progress = new ProcessingProgress();
+      progress.setProjectId(job.getProjectId());
+      progress.setTotalSteps(5);
+      progress.setCurrentStep(job.getCurrentStep());
+      progress.setStatusMessage(job.getStatusMessage());
+      progress.setFailed(job.getStatus() == Status.FAILED);
+      LocalDateTime updatedAt =
+          job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getCreatedAt();
+      progress.setLastUpdated(
+          updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+      if (job.getStatus().isActive() && progress.getCurrentStep() >= progress.getTotalSteps()) {
+        // 완료 직전 단계에서 멈춘 작업이 완료로 보이지 않게 한다
+        progress.setCurrentStep(progress.getTotalSteps() - 1);
+      }
+      return progress;
+    }
+
+    /** {@code /processing-progress} 응답과 같은 키의 이벤트 본문 (SSE) */
+    public Map<String, Object> toEventData(String testResultId) {
+      Map<String, Object> data = new LinkedHashMap<>();
+      data.put("testResultId", testResultId);
+      data.put("progressPercentage", getProgressPercentage());
+      data.put("currentStep", currentStep);
+      data.put("totalSteps", totalSteps);
+      data.put("statusMessage", statusMessage);
+      data.put("isCompleted", isCompleted());
+      data.put("isFailed", failed);
+      data.put("lastUpdated", lastUpdated);
+      if (currentStep == 2 && parsingTotal > 0) {
+        data.put("parsingProgress", Map.of("current", parsingCurrent, "total", parsingTotal));
+      }
+      return data;
+    }
+
     // Getters and Setters
+    public String getProjectId() {
+      return projectId;
+    }
+
+    public void setProjectId(String projectId) {
+      this.projectId = projectId;
+    }
+
     public int getTotalSteps() {
       return totalSteps;
     }
@@ -27,8 +27,9 @@ public class JunitFileStorageService {
 
   private static final Logger logger = LoggerFactory.getLogger(JunitFileStorageService.class);
 
-  // 허용되는 파일 확장자
-  private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(".xml", ".XML");
+  // 허용되는 파일 확장자 (XML 한 개, 또는 XML 여러 개를 담은 묶음)
+  private static final List<String> ALLOWED_EXTENSIONS =
+      Arrays.asList(".xml", ".XML", ".zip", ".tar.gz", ".tgz");
 
   // 최대 파일 크기 (100MB)
   private static final long MAX_FILE_SIZE = 100 * 1024 * 1024L;
@@ -189,7 +190,8 @@ public class JunitFileStorageService {
 
     // 파일 확장자 확인
     if (!isValidFileExtension(fileName)) {
-      throw new FileStorageException("Invalid file type. Only XML files are allowed");
+      throw new FileStorageException(
+          "Invalid file type. Only XML files or .zip/.tar.gz archives are allowed");
     }
 
     // 파일 크기 확인
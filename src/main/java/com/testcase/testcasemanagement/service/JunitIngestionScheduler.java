@@ -0,0 +1,180 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.model.JunitIngestionJob;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Kind;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Status;
+import com.testcase.testcasemanagement.model.JunitTestResult;
+import com.testcase.testcasemanagement.repository.JunitIngestionJobRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JUnit 처리 작업 대기열
+ *
+ * <p>업로드는 {@link #submit} 으로 작업 행만 남기고, 실제 처리는 이 인스턴스의 {@code junitProcessingExecutor} 가 비어 있을 때
+ * 가져간다. 풀에 넘기는 수를 {@code max-concurrent} 로 묶으므로 풀 대기열이 차서 거절되는 일이 없고, 넘치는 작업은 DB 에서 기다린다.
+ *
+ * <p>실행하는 스레드가 작업을 조건부 UPDATE 로 잡고({@code claim}) 임대를 주기적으로 늘린다. 인스턴스가 죽거나 배포로 내려가면 임대가
+ * 끝난 뒤 살아 있는 인스턴스(또는 다시 뜬 인스턴스)가 다음 폴링에서 이어받는다.
+ */
+@Slf4j
+@Component
+public class JunitIngestionScheduler {
+
+  private static final List<Status> FINISHED = List.of(Status.DONE, Status.FAILED);
+
+  private final JunitIngestionJobRepository jobRepository;
+  private final JunitAsyncProcessingService processingService;
+  private final Executor executor;
+
+  /** 임대 주인 표시. 재시작하면 바뀌므로 이전 실행의 작업은 임대가 끝나야 다시 잡힌다. */
+  private final String owner = "junit-" + UUID.randomUUID();
+
+  // 풀에 넘긴 작업(대기 + 실행)과 그중 잡아서 실행 중인 작업
+  private final Set<String> dispatched = ConcurrentHashMap.newKeySet();
+  private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+  @Value("${junit.ingestion.lease:2m}")
+  private Duration lease = Duration.ofMinutes(2);
+
+  @Value("${junit.ingestion.max-concurrent:0}")
+  private int maxConcurrent;
+
+  @Value("${junit.ingestion.retention:7d}")
+  private Duration retention = Duration.ofDays(7);
+
+  public JunitIngestionScheduler(
+      JunitIngestionJobRepository jobRepository,
+      JunitAsyncProcessingService processingService,
+      @Qualifier("junitProcessingExecutor") Executor executor) {
+    this.jobRepository = jobRepository;
+    this.processingService = processingService;
+    this.executor = executor;
+  }
+
+  /**
+   * 결과 처리를 대기열에 넣고 자리가 있으면 바로 시작한다.
+   *
+   * @return 새로 넣었거나 실패로 끝난 작업을 다시 넣었으면 true, 대기·실행 중이거나 끝난 작업이 있으면 false (같은 파일을 다시 올린
+   *     경우)
+   */
+  public boolean submit(JunitTestResult testResult, Kind kind) {
+    String id = testResult.getId();
+    if (jobRepository.existsById(id)) {
+      // 실패한 결과를 같은 파일로 다시 올렸으면 작업을 처음부터 다시 돌린다
+      if (jobRepository.restartFailed(
+              id, Status.QUEUED, Status.FAILED, "처리 대기 중...", LocalDateTime.now())
+          == 0) {
+        return false;
+      }
+      log.info("실패한 JUnit 처리 작업 재접수 - ID: {}, 종류: {}", id, kind);
+      dispatch(id);
+      return true;
+    }
+    try {
+      jobRepository.saveAndFlush(new JunitIngestionJob(id, testResult.getProjectId(), kind));
+    } catch (DataIntegrityViolationException e) {
+      // 같은 결과를 동시에 넣으려 한 다른 요청이 먼저 넣었다
+      return false;
+    }
+    log.info("JUnit 처리 작업 접수 - ID: {}, 종류: {}", id, kind);
+    dispatch(id);
+    return true;
+  }
+
+  /** 대기 중이거나 임대가 끝난 작업을 빈자리만큼 가져온다 */
+  @Scheduled(
+      fixedDelayString = "${junit.ingestion.poll-interval:5s}",
+      initialDelayString = "${junit.ingestion.poll-initial-delay:10s}")
+  public void poll() {
+    int free = capacity() - dispatched.size();
+    if (free <= 0) {
+      return;
+    }
+    List<String> ids =
+        jobRepository.findClaimable(
+            Status.QUEUED, Status.RUNNING, LocalDateTime.now(), PageRequest.of(0, free));
+    for (String id : ids) {
+      if (!dispatch(id)) {
+        break;
+      }
+    }
+  }
+
+  /** 실행 중인 작업의 임대를 늘린다. 파싱처럼 체크포인트 없이 오래 걸리는 단계도 빼앗기지 않게 한다. */
+  @Scheduled(fixedDelayString = "${junit.ingestion.lease-renew-interval:30s}")
+  public void renewLeases() {
+    if (running.isEmpty()) {
+      return;
+    }
+    jobRepository.renewLeases(
+        Set.copyOf(running), owner, Status.RUNNING, LocalDateTime.now().plus(lease));
+  }
+
+  /** 끝난 작업 기록은 보존 기간이 지나면 지운다. 진행률은 결과 엔티티의 상태로 충분하다. */
+  @Scheduled(cron = "${junit.ingestion.purge-cron:0 40 3 * * *}")
+  public void purgeFinished() {
+    int deleted =
+        jobRepository.deleteFinishedBefore(FINISHED, LocalDateTime.now().minus(retention));
+    if (deleted > 0) {
+      log.info("끝난 JUnit 처리 작업 기록 {}건 삭제", deleted);
+    }
+  }
+
+  /** 풀에 넘긴다. 자리가 없거나 풀이 거절하면 false — 작업은 DB 에 남아 다음 폴링에서 다시 온다. */
+  private boolean dispatch(String id) {
+    if (dispatched.size() >= capacity() || !dispatched.add(id)) {
+      return false;
+    }
+    try {
+      executor.execute(() -> run(id));
+      return true;
+    } catch (RejectedExecutionException e) {
+      dispatched.remove(id);
+      log.debug("JUnit 처리 풀이 가득 차 대기열에 남김 - ID: {}", id);
+      return false;
+    }
+  }
+
+  private void run(String id) {
+    try {
+      LocalDateTime now = LocalDateTime.now();
+      if (jobRepository.claim(id, owner, Status.QUEUED, Status.RUNNING, now, now.plus(lease))
+          == 0) {
+        // 다른 인스턴스가 먼저 잡았거나 재시도 시각 전이다
+        return;
+      }
+      running.add(id);
+      JunitIngestionJob job = jobRepository.findById(id).orElse(null);
+      if (job != null) {
+        processingService.runJob(job, owner);
+      }
+    } catch (RuntimeException e) {
+      log.error("JUnit 처리 작업 실행 오류 - ID: {}", id, e);
+    } finally {
+      running.remove(id);
+      dispatched.remove(id);
+    }
+  }
+
+  private int capacity() {
+    return maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+  }
+
+  int dispatchedCount() {
+    return dispatched.size();
+  }
+}
@@ -34,6 +34,8 @@ public class JunitResultService {
 
   @Autowired private JunitTestCaseRepository testCaseRepository;
 
+  @Autowired private JunitIngestionJobRepository ingestionJobRepository;
+
   @Autowired
   private com.testcase.testcasemanagement.repository.TestCaseRepository projectTestCaseRepository;
 
@@ -329,6 +331,10 @@ public class JunitResultService {
     // 참조 대상 id를 조회할 수 있다.
     testCaseRepository.deleteTestCaseLinksByResultId(id);
     testResultRepository.delete(result);
+    // 처리 중이던 작업은 다음 체크포인트에서 작업 행이 없는 것을 보고 멈춘다
+    if (ingestionJobRepository.existsById(id)) {
+      ingestionJobRepository.deleteById(id);
+    }
 
     // 원본 파일 삭제는 비트랜잭션 부수효과 — 실패해도 DB 삭제는 유지(로그만)
     if (originalFilePath != null) {
@@ -379,6 +385,25 @@ public class JunitResultService {
           testResultRepository.findByProjectIdAndFileChecksum(
               projectId, storageResult.getChecksum());
 
+      if (existingResult.isPresent()
+          && existingResult.get().getStatus() == JunitProcessStatus.FAILED) {
+        // 실패한 결과는 중복으로 막지 않는다. 새로 받은 파일로 되돌려 다시 처리한다
+        JunitTestResult failed = existingResult.get();
+        logger.info("실패한 결과를 같은 파일로 다시 처리 - ID: {}", failed.getId());
+        String previousPath = failed.getOriginalFilePath();
+        failed.setFileName(storageResult.getOriginalFileName());
+        failed.setFileSize(storageResult.getFileSize());
+        failed.setOriginalFilePath(storageResult.getFilePath());
+        failed.setUploadedBy(user);
+        failed.setStatus(JunitProcessStatus.UPLOADING);
+        failed.setErrorMessage(null);
+        applyExecutionDetails(failed, executionName, description);
+        JunitTestResult reset = testResultRepository.save(failed);
+        if (previousPath != null && !previousPath.equals(storageResult.getFilePath())) {
+          fileStorageService.deleteFile(previousPath);
+        }
+        return reset;
+      }
       if (existingResult.isPresent()) {
         logger.warn("중복 파일 감지 - 기존 결과 반환: {}", existingResult.get().getId());
         // 중복 파일 삭제
@@ -395,13 +420,7 @@ public class JunitResultService {
       testResult.setUploadedBy(user);
       testResult.setOriginalFilePath(storageResult.getFilePath());
       testResult.setStatus(JunitProcessStatus.UPLOADING);
-
-      if (executionName != null && !executionName.trim().isEmpty()) {
-        testResult.setTestExecutionName(executionName.trim());
-      }
-      if (description != null && !description.trim().isEmpty()) {
-        testResult.setDescription(description.trim());
-      }
+      applyExecutionDetails(testResult, executionName, description);
 
       // 저장 후 반환
       return testResultRepository.save(testResult);
@@ -413,6 +432,16 @@ public class JunitResultService {
     }
   }
 
+  private static void applyExecutionDetails(
+      JunitTestResult testResult, String executionName, String description) {
+    if (executionName != null && !executionName.trim().isEmpty()) {
+      testResult.setTestExecutionName(executionName.trim());
+    }
+    if (description != null && !description.trim().isEmpty()) {
+      testResult.setDescription(description.trim());
+    }
+  }
+
   /** 테스트 케이스 편집 */
   public JunitTestCase updateTestCase(
       String testCaseId,
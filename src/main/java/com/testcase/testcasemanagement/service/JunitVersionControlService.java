@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -59,11 +60,14 @@ public class JunitVersionControlService {
   /**
    * 테스트결과별 임계구역 락. getNextVersionNumber + updateVersionHistory 의 read-modify-write 윈도우를 보호하여 동시에 같은
    * testResultId 로 버전을 생성해도 번호가 중복 발급되지 않도록 한다. 서로 다른 testResultId 호출은 락이 분리되어 병렬성을 유지한다.
+   *
+   * <p>임계구역에서 파일 복사·압축을 하므로 {@code synchronized} 대신 {@link ReentrantLock} 을 쓴다. 가상 스레드 모드에서
+   * {@code synchronized} 안의 I/O 는 캐리어 스레드를 붙잡는다(JDK 21).
    */
-  private final Map<String, Object> versionLocks = new ConcurrentHashMap<>();
+  private final Map<String, ReentrantLock> versionLocks = new ConcurrentHashMap<>();
 
-  private Object lockFor(String testResultId) {
-    return versionLocks.computeIfAbsent(testResultId, k -> new Object());
+  private ReentrantLock lockFor(String testResultId) {
+    return versionLocks.computeIfAbsent(testResultId, k -> new ReentrantLock());
   }
 
   /**
@@ -79,7 +83,9 @@ public class JunitVersionControlService {
       String testResultId, String originalFilePath, String editDescription, String editorUsername)
       throws VersionControlException {
     // 동시 호출 시 버전 번호 중복 발급 방지를 위해 testResultId 별 락으로 직렬화
-    synchronized (lockFor(testResultId)) {
+    ReentrantLock lock = lockFor(testResultId);
+    lock.lock();
+    try {
       try {
         // 버전 저장 디렉터리 생성
         Path versionDir = createVersionDirectory(testResultId);
@@ -143,6 +149,8 @@ public class JunitVersionControlService {
         logger.error("파일 버전 생성 실패: {}", e.getMessage(), e);
         throw new VersionControlException("Failed to create version: " + e.getMessage(), e);
       }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -0,0 +1,288 @@
+package com.testcase.testcasemanagement.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 화면 갱신용 SSE 허브
+ *
+ * <p>JUnit 처리 진행률과 실행 결과 화면은 몇 초마다 폴링했고, 화면을 열어 둔 사람 수만큼 같은 조회가 DB 와 앱에 쌓였다. 이제 변경하는 쪽이 토픽({@code
+ * junit:<id>}, {@code execution:<id>}, {@code project:<id>})으로 알리고, 구독자에게 SSE 로 밀어 준다.
+ *
+ * <ul>
+ *   <li>묶음: 구독자마다 {@code 이벤트 + 키} 별로 마지막 값만 들고 있다가 묶음 간격마다 한 번 보낸다. 파싱 진행률처럼 초당 수백 번 바뀌는 값도
+ *       구독자에게는 간격당 한 번만 간다.
+ *   <li>배압: 구독자마다 전송은 한 번에 하나이고, 보내는 동안 들어온 이벤트는 다시 묶인다. 밀린 키가 상한을 넘으면 모두 버리고 {@code resync}
+ *       하나만 보낸다 — 느린 클라이언트는 전체를 다시 읽는다.
+ *   <li>상한: 토픽별·전체 구독자 수를 넘으면 503 으로 거절한다. 클라이언트는 폴링으로 돌아가면 된다.
+ * </ul>
+ *
+ * <p>구독은 이 인스턴스에만 걸리므로 여러 대로 띄우면 같은 인스턴스에서 일어난 변경만 받는다. 재연결 때는 한 번 다시 읽어야 한다.
+ */
+@Slf4j
+@Component
+public class LiveUpdateHub {
+
+  private final TaskScheduler scheduler;
+  private final Executor sendExecutor;
+
+  @Value("${app.live-updates.coalesce-window:250ms}")
+  private Duration coalesceWindow = Duration.ofMillis(250);
+
+  @Value("${app.live-updates.max-pending-per-subscriber:64}")
+  private int maxPendingPerSubscriber = 64;
+
+  @Value("${app.live-updates.max-subscribers-per-topic:50}")
+  private int maxSubscribersPerTopic = 50;
+
+  @Value("${app.live-updates.max-subscribers:2000}")
+  private int maxSubscribers = 2000;
+
+  @Value("${app.live-updates.sse-timeout:30m}")
+  private Duration sseTimeout = Duration.ofMinutes(30);
+
+  private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+
+  public LiveUpdateHub(
+      TaskScheduler scheduler, @Qualifier("generalAsyncExecutor") Executor sendExecutor) {
+    this.scheduler = scheduler;
+    this.sendExecutor = sendExecutor;
+  }
+
+  public SseEmitter subscribe(String topic) {
+    return subscribe(topic, null, null);
+  }
+
+  /**
+   * 토픽을 구독한다. {@code initialEvent} 가 있으면 첫 이벤트로 현재 상태를 바로 보낸다.
+   *
+   * @throws ResponseStatusException 구독자 수 상한을 넘었을 때 (503)
+   */
+  public SseEmitter subscribe(String topic, String initialEvent, Object initialData) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 구독자 수가 가득 찼습니다");
+    }
+    SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+    Subscriber subscriber = new Subscriber(topic, emitter);
+    boolean[] full = {false};
+    // 추가·제거를 토픽 단위로 원자적으로 해, 빈 토픽을 지우는 것과 새 구독이 엇갈리지 않게 한다
+    topics.compute(
+        topic,
+        (k, subscribers) -> {
+          Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+          if (set.size() >= maxSubscribersPerTopic) {
+            full[0] = true;
+          } else {
+            set.add(subscriber);
+          }
+          return set.isEmpty() ? null : set;
+        });
+    if (full[0]) {
+      subscriberCount.decrementAndGet();
+      throw new ResponseStatusException(
+          HttpStatus.SERVICE_UNAVAILABLE, "이 화면의 실시간 구독자 수가 가득 찼습니다: " + topic);
+    }
+    emitter.onCompletion(() -> remove(subscriber));
+    emitter.onTimeout(() -> remove(subscriber));
+    emitter.onError(e -> remove(subscriber));
+    if (initialEvent != null && initialData != null) {
+      publishTo(subscriber, new Event(initialEvent, initialEvent, initialData));
+    }
+    return emitter;
+  }
+
+  public boolean hasSubscribers(String topic) {
+    Set<Subscriber> subscribers = topics.get(topic);
+    return subscribers != null && !subscribers.isEmpty();
+  }
+
+  /**
+   * 토픽 구독자에게 이벤트를 보낸다. 같은 {@code event}·{@code key} 의 이벤트가 아직 나가지 않았으면 새 값으로 덮어쓴다. 호출한 스레드는 막지
+   * 않는다.
+   */
+  public void publish(String topic, String event, String key, Object data) {
+    Set<Subscriber> subscribers = topics.get(topic);
+    if (subscribers == null || subscribers.isEmpty()) {
+      return;
+    }
+    Event e = new Event(event, event + ":" + key, data);
+    for (Subscriber subscriber : subscribers) {
+      publishTo(subscriber, e);
+    }
+  }
+
+  /** 현재 트랜잭션이 커밋된 뒤에 보낸다. 롤백되면 보내지 않는다. 트랜잭션 밖이면 바로 보낸다. */
+  public void publishAfterCommit(String topic, String event, String key, Object data) {
+    afterCommit(() -> publish(topic, event, key, data));
+  }
+
+  /** 여러 이벤트를 한 번에 커밋 뒤로 미룬다. 이벤트를 만드는 일도 커밋 뒤에 하므로 구독자가 없으면 거의 비용이 없다. */
+  public void afterCommit(Runnable publishing) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      publishing.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            publishing.run();
+          }
+        });
+  }
+
+  /** 프록시가 쉬는 연결을 끊지 않도록 주기적으로 주석 한 줄을 보낸다. 끊긴 연결도 이때 정리된다. */
+  @Scheduled(fixedDelayString = "${app.live-updates.heartbeat:25s}")
+  public void heartbeat() {
+    for (Set<Subscriber> subscribers : topics.values()) {
+      for (Subscriber subscriber : subscribers) {
+        publishTo(subscriber, new Event(null, "keepalive", null));
+      }
+    }
+  }
+
+  int subscriberCount() {
+    return subscriberCount.get();
+  }
+
+  private void publishTo(Subscriber subscriber, Event event) {
+    if (subscriber.offer(event, maxPendingPerSubscriber)) {
+      schedule(subscriber);
+    }
+  }
+
+  private void schedule(Subscriber subscriber) {
+    scheduler.schedule(() -> dispatch(subscriber), Instant.now().plus(coalesceWindow));
+  }
+
+  private void dispatch(Subscriber subscriber) {
+    try {
+      sendExecutor.execute(() -> send(subscriber));
+    } catch (RejectedExecutionException e) {
+      // 전송 풀이 밀려 있다. 이벤트는 구독자 쪽에 묶여 있으니 다음 간격에 다시 시도한다
+      schedule(subscriber);
+    }
+  }
+
+  private void send(Subscriber subscriber) {
+    for (Event event : subscriber.drain()) {
+      try {
+        if (event.name() == null) {
+          subscriber.emitter.send(SseEmitter.event().comment(event.key()));
+        } else {
+          subscriber.emitter.send(SseEmitter.event().name(event.name()).data(event.data()));
+        }
+      } catch (IOException | IllegalStateException e) {
+        log.debug("실시간 구독 연결 종료: topic={}, {}", subscriber.topic, e.getMessage());
+        remove(subscriber);
+        subscriber.emitter.completeWithError(e);
+        return;
+      }
+    }
+    if (subscriber.finishDrain()) {
+      schedule(subscriber);
+    }
+  }
+
+  private void remove(Subscriber subscriber) {
+    if (!subscriber.close()) {
+      return;
+    }
+    subscriberCount.decrementAndGet();
+    topics.computeIfPresent(
+        subscriber.topic,
+        (k, subscribers) -> {
+          subscribers.remove(subscriber);
+          return subscribers.isEmpty() ? null : subscribers;
+        });
+  }
+
+  /** name 이 null 이면 SSE 주석(keepalive) */
+  record Event(String name, String key, Object data) {}
+
+  /** 구독자 하나. 아직 보내지 않은 이벤트를 키마다 마지막 값만 들고 있다. */
+  static final class Subscriber {
+    private static final Event RESYNC = new Event("resync", "resync", Map.of("reason", "overflow"));
+
+    private final String topic;
+    private final SseEmitter emitter;
+    private final LinkedHashMap<String, Event> pending = new LinkedHashMap<>();
+    private boolean scheduled;
+    private boolean overflowed;
+    private boolean closed;
+
+    Subscriber(String topic, SseEmitter emitter) {
+      this.topic = topic;
+      this.emitter = emitter;
+    }
+
+    /** 이벤트를 묶어 둔다. 새로 전송을 예약해야 하면 true. */
+    synchronized boolean offer(Event event, int maxPending) {
+      if (closed) {
+        return false;
+      }
+      if (!overflowed) {
+        pending.remove(event.key());
+        pending.put(event.key(), event);
+        if (pending.size() > maxPending) {
+          pending.clear();
+          overflowed = true;
+        }
+      }
+      if (scheduled) {
+        return false;
+      }
+      scheduled = true;
+      return true;
+    }
+
+    synchronized List<Event> drain() {
+      List<Event> events = overflowed ? List.of(RESYNC) : new ArrayList<>(pending.values());
+      pending.clear();
+      overflowed = false;
+      return events;
+    }
+
+    /** 보내는 동안 새 이벤트가 쌓였으면 true (다시 예약한다) */
+    synchronized boolean finishDrain() {
+      if (closed || (pending.isEmpty() && !overflowed)) {
+        scheduled = false;
+        return false;
+      }
+      return true;
+    }
+
+    /** 처음 닫을 때만 true */
+    synchronized boolean close() {
+      if (closed) {
+        return false;
+      }
+      closed = true;
+      pending.clear();
+      return true;
+    }
+  }
+}
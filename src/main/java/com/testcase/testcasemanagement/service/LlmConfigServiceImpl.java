@@ -12,8 +12,10 @@ import com.testcase.testcasemanagement.model.LlmConfig;
 import com.testcase.testcasemanagement.model.LlmConfig.LlmProvider;
 import com.testcase.testcasemanagement.repository.LlmConfigRepository;
 import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
 import com.testcase.testcasemanagement.service.llm.LlmClient;
 import com.testcase.testcasemanagement.service.llm.LlmClientFactory;
+import com.testcase.testcasemanagement.service.llm.LlmResponseCache;
 import com.testcase.testcasemanagement.service.llm.OpenRouterModelCatalogService;
 import jakarta.annotation.PostConstruct;
 import java.util.Collections;
@@ -35,6 +37,8 @@ public class LlmConfigServiceImpl implements LlmConfigService {
   private final EncryptionUtil encryptionUtil;
   private final LlmClientFactory llmClientFactory;
   private final OpenRouterModelCatalogService openRouterModelCatalogService;
+  private final SecretVault secretVault;
+  private final LlmResponseCache responseCache;
 
   @PostConstruct
   public void init() {
@@ -148,6 +152,7 @@ public class LlmConfigServiceImpl implements LlmConfigService {
     // 기본 설정으로 지정 시 다른 설정들의 기본 플래그 제거
     if (config.getIsDefault()) {
       llmConfigRepository.clearDefaultFlag();
+      responseCache.invalidateAfterCommit(null);
     }
 
     // 저장
@@ -209,6 +214,7 @@ public class LlmConfigServiceImpl implements LlmConfigService {
         throw new EncryptionKeyNotConfiguredException();
       }
       try {
+        secretVault.invalidateAfterCommit(config.getEncryptedApiKey());
         String encryptedApiKey = encryptionUtil.encrypt(configDTO.getApiKey());
         config.setEncryptedApiKey(encryptedApiKey);
       } catch (Exception e) {
@@ -221,9 +227,11 @@ public class LlmConfigServiceImpl implements LlmConfigService {
     if (configDTO.getIsDefault() != null && configDTO.getIsDefault() && !config.getIsDefault()) {
       llmConfigRepository.clearDefaultFlag();
       config.setIsDefault(true);
+      responseCache.invalidateAfterCommit(null);
     }
 
     LlmConfig updatedConfig = llmConfigRepository.save(config);
+    responseCache.invalidateAfterCommit(id);
     log.info("✅ LLM 설정 수정 완료: id={}", id);
 
     return convertToDTO(updatedConfig);
@@ -248,6 +256,8 @@ public class LlmConfigServiceImpl implements LlmConfigService {
     }
 
     llmConfigRepository.delete(config);
+    secretVault.invalidateAfterCommit(config.getEncryptedApiKey());
+    responseCache.invalidateAfterCommit(id);
     log.info("✅ LLM 설정 삭제 완료: id={}", id);
   }
 
@@ -270,6 +280,8 @@ public class LlmConfigServiceImpl implements LlmConfigService {
     config.setIsDefault(true);
 
     LlmConfig updatedConfig = llmConfigRepository.save(config);
+    // 기본 설정으로 답하던 호출 전체가 다른 설정으로 옮겨 가므로 통째로 비운다
+    responseCache.invalidateAfterCommit(null);
     log.info("✅ 기본 설정 지정 완료: id={}", id);
 
     return convertToDTO(updatedConfig);
@@ -336,8 +348,12 @@ public class LlmConfigServiceImpl implements LlmConfigService {
       throw new RuntimeException("API Key 암호화 실패: " + e.getMessage());
     }
 
-    // 연결 테스트 수행 (예외 발생 시 자동으로 전파됨)
-    testLlmConnection(tempConfig);
+    // 연결 테스트 수행 (예외 발생 시 자동으로 전파됨). 임시 키가 보관소에 남지 않게 지운다
+    try {
+      testLlmConnection(tempConfig);
+    } finally {
+      secretVault.invalidate(tempConfig.getEncryptedApiKey());
+    }
 
     log.info(
         "✅ 저장하지 않고 설정 테스트 성공: provider={}, model={}",
@@ -411,7 +427,7 @@ public class LlmConfigServiceImpl implements LlmConfigService {
     }
 
     try {
-      return encryptionUtil.decrypt(config.getEncryptedApiKey());
+      return secretVault.reveal(config.getEncryptedApiKey());
     } catch (Exception e) {
       log.error("❌ 저장된 API Key 복호화 실패: configId={}", configId, e);
       throw new IllegalStateException("저장된 API Key 를 읽을 수 없습니다. 키를 다시 입력해 주세요.");
@@ -430,7 +446,7 @@ public class LlmConfigServiceImpl implements LlmConfigService {
     }
 
     try {
-      String apiKey = encryptionUtil.decrypt(config.getEncryptedApiKey());
+      String apiKey = secretVault.reveal(config.getEncryptedApiKey());
       return openRouterModelCatalogService.listFreeChatModels(apiKey);
     } catch (Exception e) {
       // 목록을 못 받아도 채팅 자체는 기본 모델로 되어야 한다. 실패를 던지지 않고 빈 목록으로 답한다.
@@ -465,6 +481,7 @@ public class LlmConfigServiceImpl implements LlmConfigService {
     }
 
     LlmConfig updatedConfig = llmConfigRepository.save(config);
+    responseCache.invalidateAfterCommit(id);
     log.info("✅ 활성/비활성 토글 완료: id={}, isActive={}", id, updatedConfig.getIsActive());
 
     return convertToDTO(updatedConfig);
@@ -472,7 +489,8 @@ public class LlmConfigServiceImpl implements LlmConfigService {
 
   /** LLM API 연결 테스트 */
   private void testLlmConnection(LlmConfig config) {
-    LlmClient client = llmClientFactory.getClient(config);
+    // 연결 확인은 실제로 제공자에 닿아야 한다 — 캐시를 거치지 않는다
+    LlmClient client = llmClientFactory.getDirectClient(config);
 
     List<RagChatMessage> messages =
         List.of(
@@ -4,6 +4,7 @@ import com.testcase.testcasemanagement.dto.MailSettingsDto;
 import com.testcase.testcasemanagement.model.MailSettings;
 import com.testcase.testcasemanagement.repository.MailSettingsRepository;
 import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ public class MailSettingsService {
 
   private final MailSettingsRepository mailSettingsRepository;
   private final EncryptionUtil encryptionUtil;
+  private final SecretVault secretVault;
 
   /** 현재 메일 설정 조회 */
   @Transactional(readOnly = true)
@@ -76,6 +78,7 @@ public class MailSettingsService {
 
       // 비밀번호가 변경된 경우만 암호화
       if (dto.getPassword() != null && !dto.getPassword().isEmpty()) {
+        secretVault.invalidateAfterCommit(existing.getPassword());
         existing.setPassword(encryptionUtil.encrypt(dto.getPassword()));
       }
 
@@ -163,7 +166,7 @@ public class MailSettingsService {
     mailSender.setUsername(settings.getUsername());
 
     // 비밀번호 복호화
-    String decryptedPassword = encryptionUtil.decrypt(settings.getPassword());
+    String decryptedPassword = secretVault.reveal(settings.getPassword());
     mailSender.setPassword(decryptedPassword);
 
     // SMTP 속성 설정
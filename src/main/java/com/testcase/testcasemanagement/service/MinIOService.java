@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -144,6 +145,87 @@ public class MinIOService {
     }
   }
 
+  /**
+   * 파일 일부 다운로드 (HTTP Range 요청용)
+   *
+   * <p>MinIO 의 ranged GET 을 그대로 사용하므로 앱 서버는 요청된 구간만 중계한다. 동영상 탐색이나 큰 로그의 뒷부분 미리보기가 객체 전체를
+   * 다시 받지 않는다.
+   *
+   * @param objectKey 객체 키 (파일명)
+   * @param offset 시작 바이트 위치 (0부터)
+   * @param length 읽을 바이트 수
+   * @return 해당 구간의 InputStream
+   * @throws IOException 파일 다운로드 오류
+   */
+  public InputStream downloadFileRange(String objectKey, long offset, long length)
+      throws IOException {
+    try {
+      InputStream stream =
+          minioClient.getObject(
+              GetObjectArgs.builder()
+                  .bucket(bucketName)
+                  .object(objectKey)
+                  .offset(offset)
+                  .length(length)
+                  .build());
+
+      log.debug("Downloaded range from MinIO: {} [{}+{}]", objectKey, offset, length);
+      return stream;
+
+    } catch (ErrorResponseException e) {
+      if (e.errorResponse().code().equals("NoSuchKey")) {
+        log.error("File not found in MinIO: {}", objectKey);
+        throw new IOException("File not found in storage: " + objectKey);
+      }
+      log.error("MinIO range download error for {}: {}", objectKey, e.getMessage(), e);
+      throw new IOException("File download failed: " + e.getMessage(), e);
+
+    } catch (InsufficientDataException
+        | InternalException
+        | InvalidKeyException
+        | InvalidResponseException
+        | NoSuchAlgorithmException
+        | ServerException
+        | XmlParserException e) {
+      log.error("Unexpected error during range download: {}", e.getMessage(), e);
+      throw new IOException("Download error: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 객체 상태 조회 (크기, ETag, 수정 시각)
+   *
+   * <p>조건부/범위 다운로드 응답을 만들기 전에 한 번 호출한다. {@link #getFileMetadata(String)} 와 달리 타입이 있는 값을 돌려준다.
+   *
+   * @param objectKey 객체 키 (파일명)
+   * @return 객체 상태
+   * @throws IOException 조회 오류
+   */
+  public ObjectStat statObject(String objectKey) throws IOException {
+    try {
+      StatObjectResponse stat =
+          minioClient.statObject(
+              StatObjectArgs.builder().bucket(bucketName).object(objectKey).build());
+      return new ObjectStat(stat.size(), stat.etag(), stat.contentType(), stat.lastModified());
+
+    } catch (ErrorResponseException e) {
+      if (e.errorResponse().code().equals("NoSuchKey")) {
+        log.error("File not found in MinIO: {}", objectKey);
+        throw new IOException("File not found in storage: " + objectKey);
+      }
+      log.error("MinIO stat error for {}: {}", objectKey, e.getMessage(), e);
+      throw new IOException("Failed to get file metadata: " + e.getMessage(), e);
+
+    } catch (Exception e) {
+      log.error("Unexpected error getting metadata: {}", e.getMessage(), e);
+      throw new IOException("Metadata error: " + e.getMessage(), e);
+    }
+  }
+
+  /** MinIO 객체 상태. etag 는 따옴표가 벗겨진 값이다. */
+  public record ObjectStat(
+      long size, String etag, String contentType, ZonedDateTime lastModified) {}
+
   /**
    * 파일 삭제
    *
@@ -237,6 +319,41 @@ public class MinIOService {
     }
   }
 
+  /**
+   * 응답 헤더를 지정한 Presigned URL 생성
+   *
+   * <p>브라우저를 MinIO 로 바로 보낼 때 원래 응답과 같은 Content-Type/Content-Disposition 을 받도록 {@code
+   * response-content-*} 쿼리 파라미터를 서명에 포함한다.
+   *
+   * @param objectKey 객체 키 (파일명)
+   * @param expiryMinutes 만료 시간 (분)
+   * @param responseHeaders 응답 헤더 오버라이드 (예: response-content-disposition)
+   * @return Presigned URL
+   * @throws IOException URL 생성 오류
+   */
+  public String generatePresignedUrl(
+      String objectKey, int expiryMinutes, Map<String, String> responseHeaders)
+      throws IOException {
+    try {
+      String url =
+          minioClient.getPresignedObjectUrl(
+              GetPresignedObjectUrlArgs.builder()
+                  .method(Method.GET)
+                  .bucket(bucketName)
+                  .object(objectKey)
+                  .expiry(expiryMinutes, TimeUnit.MINUTES)
+                  .extraQueryParams(responseHeaders)
+                  .build());
+
+      log.info("Generated presigned URL for: {}", objectKey);
+      return url;
+
+    } catch (Exception e) {
+      log.error("MinIO presigned URL error for {}: {}", objectKey, e.getMessage(), e);
+      throw new IOException("Failed to generate download URL: " + e.getMessage(), e);
+    }
+  }
+
   /**
    * 객체 태그 설정
    *
@@ -45,6 +45,7 @@ public class PageVisitMetricsService {
 
   private final PageVisitMetricRepository pageVisitMetricRepository;
   private final DailyVisitSummaryRepository dailyVisitSummaryRepository;
+  private final TimePartitionManager timePartitionManager;
 
   private static final Duration ACTIVE_VISITOR_WINDOW = Duration.ofMinutes(10);
   private static final int MAX_HISTORY_DAYS = 7;
@@ -91,8 +92,10 @@ public class PageVisitMetricsService {
   public PageVisitMetricsService(
       MeterRegistry meterRegistry,
       PageVisitMetricRepository pageVisitMetricRepository,
-      DailyVisitSummaryRepository dailyVisitSummaryRepository) {
+      DailyVisitSummaryRepository dailyVisitSummaryRepository,
+      TimePartitionManager timePartitionManager) {
     this.meterRegistry = meterRegistry;
+    this.timePartitionManager = timePartitionManager;
     this.pageVisitMetricRepository = pageVisitMetricRepository;
     this.dailyVisitSummaryRepository = dailyVisitSummaryRepository;
   }
@@ -216,17 +219,28 @@ public class PageVisitMetricsService {
     }
   }
 
-  /** 오래된 메트릭 데이터를 정리합니다. 매일 자정에 30일 이전 데이터 삭제 */
+  /**
+   * 오래된 메트릭 데이터를 정리합니다. 매일 자정에 30일 이전 데이터 삭제
+   *
+   * <p>page_visit_metrics 가 파티션 테이블이면 지난 달 파티션을 먼저 통째로 버리고, 경계 달만 벌크 DELETE 로 지운다.
+   */
   @Scheduled(cron = "0 0 0 * * *") // 매일 자정
   @Transactional
   public void cleanupOldMetrics() {
     try {
       LocalDate cutoffDate = LocalDate.now().minusDays(30);
 
-      pageVisitMetricRepository.deleteByVisitDateBefore(cutoffDate);
+      long dropped =
+          timePartitionManager.dropPartitionsBefore(
+              TimePartitionManager.PartitionedTable.PAGE_VISIT_METRICS, cutoffDate);
+      int deleted = pageVisitMetricRepository.deleteByVisitDateBefore(cutoffDate);
       dailyVisitSummaryRepository.deleteByVisitDateBefore(cutoffDate);
 
-      log.info("오래된 메트릭 데이터 정리 완료 - 기준 날짜: {}", cutoffDate);
+      log.info(
+          "오래된 메트릭 데이터 정리 완료 - 기준 날짜: {}, 파티션 삭제 {}건, 행 삭제 {}건",
+          cutoffDate,
+          dropped,
+          deleted);
 
     } catch (Exception e) {
       log.error("오래된 메트릭 데이터 정리 중 오류 발생: {}", e.getMessage(), e);
@@ -0,0 +1,273 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.dto.ProjectChangesDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 프로젝트 변경 피드 ({@code project_changes})
+ *
+ * <p>테스트케이스·플랜·실행이 바뀌면 트랜잭션 동안 모아 두었다가 커밋 직전에 프로젝트마다 커서를 한 번 올리고 기록을 JDBC 배치로 넣는다. 커서는
+ * {@code testcase_sequences} 의 {@code change:<projectId>} 행이다. 그 행 잠금이 커밋까지 유지되므로 같은 프로젝트의 기록은 커밋 순서대로
+ * 번호를 받고, 읽는 쪽이 큰 번호를 본 뒤에 작은 번호가 뒤늦게 나타나는 일이 없다. 잠금은 커밋 직전부터 커밋까지만 잡는다.
+ *
+ * <p>엔티티 변경은 {@link ProjectChangeListener} 가 Hibernate 이벤트로 알려 준다. 엔티티를 거치지 않는 경로(네이티브 삭제)는 서비스가
+ * {@link #markChanged} 를 직접 부른다. 커밋되면 {@link LiveUpdateHub} 의 {@code changes:<projectId>} 토픽으로 새 커서를
+ * 알린다 — 이 인스턴스의 구독자에게만 가므로 클라이언트는 재연결 때 {@code since} 로 한 번 따라잡아야 한다.
+ *
+ * <p>SQL 은 PostgreSQL 전용이다({@code ON CONFLICT ... RETURNING}).
+ */
+@Slf4j
+@Component
+public class ProjectChangeFeed {
+
+  public enum EntityType {
+    TESTCASE,
+    TESTPLAN,
+    TESTEXECUTION
+  }
+
+  public enum Operation {
+    UPSERT,
+    DELETE
+  }
+
+  /** 커서를 n 만큼 올리고 올린 뒤의 "다음 번호" 를 돌려준다. 처음이면 n + 1 로 만든다. 두 번째 인자는 n + 1 이다. */
+  static final String ADVANCE_CURSOR_SQL =
+      "INSERT INTO testcase_sequences (scope_key, next_value, updated_at)"
+          + " VALUES (?, ?, CURRENT_TIMESTAMP) ON CONFLICT (scope_key) DO UPDATE"
+          + " SET next_value = testcase_sequences.next_value + EXCLUDED.next_value - 1,"
+          + " updated_at = EXCLUDED.updated_at RETURNING next_value";
+
+  static final String INSERT_SQL =
+      "INSERT INTO project_changes"
+          + " (project_id, seq, entity_type, entity_id, operation, changed_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?)";
+
+  static final String SELECT_SQL =
+      "SELECT seq, entity_type, entity_id, operation, changed_at FROM project_changes"
+          + " WHERE project_id = ? AND seq > ? ORDER BY seq LIMIT ?";
+
+  static final String OLDEST_SQL = "SELECT MIN(seq) FROM project_changes WHERE project_id = ?";
+
+  static final String CURRENT_CURSOR_SQL =
+      "SELECT next_value - 1 FROM testcase_sequences WHERE scope_key = ?";
+
+  static final String PURGE_SQL = "DELETE FROM project_changes WHERE changed_at < ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LiveUpdateHub liveUpdateHub;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Value("${app.change-feed.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.change-feed.retention:7d}")
+  private Duration retention;
+
+  // 트랜잭션(세션)마다 아직 기록하지 않은 변경
+  private final Map<SessionImplementor, Pending> pendingBySession = new ConcurrentHashMap<>();
+
+  public ProjectChangeFeed(JdbcTemplate jdbcTemplate, LiveUpdateHub liveUpdateHub) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.liveUpdateHub = liveUpdateHub;
+  }
+
+  /** 엔티티가 저장되었거나 지워졌음을 기록한다. 실제 기록은 현재 트랜잭션 커밋 직전에 한다. */
+  public void markChanged(
+      String projectId, EntityType entityType, String entityId, Operation operation) {
+    if (!enabled || projectId == null || entityId == null) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      log.warn("트랜잭션 밖의 변경이라 변경 피드에 남기지 않습니다: {} {}", entityType, entityId);
+      return;
+    }
+    SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+    Pending pending =
+        pendingBySession.computeIfAbsent(
+            session,
+            s -> {
+              Pending created = new Pending();
+              s.getActionQueue().registerProcess(txSession -> flush(created));
+              s.getActionQueue()
+                  .registerProcess(
+                      (success, txSession) -> {
+                        pendingBySession.remove(s);
+                        if (success) {
+                          notifySubscribers(created.cursors);
+                        }
+                      });
+              return created;
+            });
+    pending.mark(projectId, entityType, entityId, operation);
+  }
+
+  /** 모은 변경을 기록한다. 커밋 직전 Hibernate 가 호출한다. */
+  void flush(Pending pending) {
+    Map<String, Map<String, Object[]>> byProject = pending.drain();
+    if (byProject.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    // 프로젝트 순서를 고정해, 여러 프로젝트를 고친 트랜잭션끼리 커서 잠금을 엇갈려 잡지 않게 한다
+    for (Map.Entry<String, Map<String, Object[]>> entry : new TreeMap<>(byProject).entrySet()) {
+      String projectId = entry.getKey();
+      List<Object[]> changes = new ArrayList<>(entry.getValue().values());
+      int count = changes.size();
+      Long next =
+          jdbcTemplate.query(
+              ADVANCE_CURSOR_SQL,
+              rs -> rs.next() ? rs.getLong(1) : null,
+              "change:" + projectId,
+              count + 1L);
+      if (next == null) {
+        throw new IllegalStateException("변경 피드 커서를 올리지 못했습니다: " + projectId);
+      }
+      long seq = next - count;
+      List<Object[]> rows = new ArrayList<>(count);
+      for (Object[] change : changes) {
+        rows.add(new Object[] {projectId, seq++, change[0], change[1], change[2], now});
+      }
+      jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+      pending.cursors.put(projectId, next - 1);
+    }
+  }
+
+  /**
+   * {@code since} 이후 변경. 한 엔티티의 변경이 여러 번이면 마지막 것만 남긴다.
+   *
+   * @param since 마지막으로 받은 커서 (처음이면 0)
+   * @param limit 읽을 기록 수 상한
+   */
+  public ProjectChangesDto changesSince(String projectId, long since, int limit) {
+    List<ProjectChangesDto.Change> page =
+        jdbcTemplate.query(
+            SELECT_SQL,
+            (rs, i) ->
+                ProjectChangesDto.Change.builder()
+                    .seq(rs.getLong("seq"))
+                    .entityType(rs.getString("entity_type"))
+                    .entityId(rs.getString("entity_id"))
+                    .operation(rs.getString("operation"))
+                    .changedAt(rs.getTimestamp("changed_at").toLocalDateTime().toString())
+                    .build(),
+            projectId,
+            since,
+            limit);
+    long current = currentCursor(projectId);
+
+    boolean reset = since > current;
+    if (!reset && since < current && (page.isEmpty() || page.get(0).getSeq() > since + 1)) {
+      // since 바로 다음 기록이 없다 — 보존 기간이 지나 지워졌다
+      Long oldest = jdbcTemplate.queryForObject(OLDEST_SQL, Long.class, projectId);
+      reset = oldest == null || oldest > since + 1;
+    }
+    if (reset) {
+      return ProjectChangesDto.builder()
+          .cursor(current)
+          .resetRequired(true)
+          .changes(List.of())
+          .build();
+    }
+
+    long cursor = page.isEmpty() ? since : page.get(page.size() - 1).getSeq();
+    return ProjectChangesDto.builder()
+        .cursor(cursor)
+        .hasMore(page.size() >= limit)
+        .changes(latestPerEntity(page))
+        .build();
+  }
+
+  /**
+   * 프로젝트 변경을 밀어 주는 SSE 연결. 연결 직후 현재 커서를, 이후 커밋마다 새 커서를 {@code change} 이벤트로 보낸다. 연결 관리·하트비트·
+   * 묶음 전송은 {@link LiveUpdateHub} 가 한다 — 짧은 간격의 커밋은 마지막 커서 하나로 묶인다.
+   */
+  public SseEmitter subscribe(String projectId) {
+    return liveUpdateHub.subscribe(topic(projectId), "change", cursorEvent(projectId));
+  }
+
+  /** 보존 기간이 지난 기록을 지운다. 그보다 오래된 커서로 묻는 클라이언트는 resetRequired 를 받는다. */
+  @Scheduled(cron = "0 20 0 * * *")
+  public void purgeExpired() {
+    if (!enabled || retention.isZero()) {
+      return;
+    }
+    int deleted =
+        jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+    if (deleted > 0) {
+      log.info("변경 피드 정리: {}건 (보존 {})", deleted, retention);
+    }
+  }
+
+  static List<ProjectChangesDto.Change> latestPerEntity(List<ProjectChangesDto.Change> page) {
+    Map<String, ProjectChangesDto.Change> latest = new LinkedHashMap<>();
+    for (ProjectChangesDto.Change change : page) {
+      String key = change.getEntityType() + ":" + change.getEntityId();
+      // 다시 넣어 순서를 마지막 변경 위치로 옮긴다
+      latest.remove(key);
+      latest.put(key, change);
+    }
+    return new ArrayList<>(latest.values());
+  }
+
+  private long currentCursor(String projectId) {
+    List<Long> cursor =
+        jdbcTemplate.queryForList(CURRENT_CURSOR_SQL, Long.class, "change:" + projectId);
+    return cursor.isEmpty() || cursor.get(0) == null ? 0L : cursor.get(0);
+  }
+
+  private Map<String, Long> cursorEvent(String projectId) {
+    return Map.of("cursor", currentCursor(projectId));
+  }
+
+  private void notifySubscribers(Map<String, Long> cursors) {
+    // 허브는 묶어 두기만 하고 전송은 다른 스레드에서 하므로 커밋한 요청 스레드를 붙잡지 않는다
+    cursors.forEach(
+        (projectId, cursor) ->
+            liveUpdateHub.publish(topic(projectId), "change", "cursor", Map.of("cursor", cursor)));
+  }
+
+  // 프로젝트 현황 토픽(project:<id>)과 나눠 이 SSE 에는 change 이벤트만 간다
+  private static String topic(String projectId) {
+    return "changes:" + projectId;
+  }
+
+  /** 한 트랜잭션에서 모은 변경. 같은 엔티티는 마지막 작업만 남긴다. */
+  static final class Pending {
+    private Map<String, Map<String, Object[]>> byProject = new LinkedHashMap<>();
+    private final Map<String, Long> cursors = new LinkedHashMap<>();
+
+    void mark(String projectId, EntityType entityType, String entityId, Operation operation) {
+      Map<String, Object[]> changes =
+          byProject.computeIfAbsent(projectId, k -> new LinkedHashMap<>());
+      String key = entityType + ":" + entityId;
+      changes.remove(key);
+      changes.put(key, new Object[] {entityType.name(), entityId, operation.name()});
+    }
+
+    Map<String, Map<String, Object[]>> drain() {
+      Map<String, Map<String, Object[]>> drained = byProject;
+      byProject = new LinkedHashMap<>();
+      return drained;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.model.Project;
+import com.testcase.testcasemanagement.model.TestCase;
+import com.testcase.testcasemanagement.model.TestExecution;
+import com.testcase.testcasemanagement.model.TestPlan;
+import com.testcase.testcasemanagement.service.ProjectChangeFeed.EntityType;
+import com.testcase.testcasemanagement.service.ProjectChangeFeed.Operation;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테스트케이스·플랜·실행 변경을 {@link ProjectChangeFeed} 에 알리는 Hibernate 이벤트 리스너
+ *
+ * <p>저장 경로가 편집 화면, 트리 이동, 스프레드시트 일괄 저장, 가져오기, 실행 진행 등 여럿이라 엔티티 이벤트에서 한 번에 잡는다. 엔티티가 서비스
+ * 계층을 알지 않도록 {@code @EntityListeners} 대신 {@code HibernateEventListenerConfig} 가 등록한다.
+ */
+@Component
+public class ProjectChangeListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private final ProjectChangeFeed feed;
+
+  public ProjectChangeListener(ProjectChangeFeed feed) {
+    this.feed = feed;
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    publish(event.getEntity(), Operation.UPSERT);
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    publish(event.getEntity(), Operation.UPSERT);
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    publish(event.getEntity(), Operation.DELETE);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private void publish(Object entity, Operation operation) {
+    switch (entity) {
+      case TestCase tc -> mark(tc.getProject(), EntityType.TESTCASE, tc.getId(), operation);
+      case TestPlan tp -> mark(tp.getProject(), EntityType.TESTPLAN, tp.getId(), operation);
+      case TestExecution te ->
+          mark(te.getProject(), EntityType.TESTEXECUTION, te.getId(), operation);
+      default -> {}
+    }
+  }
+
+  private void mark(Project project, EntityType entityType, String entityId, Operation operation) {
+    if (project != null) {
+      feed.markChanged(project.getId(), entityType, entityId, operation);
+    }
+  }
+}
@@ -56,6 +56,10 @@ public class ProjectService {
 
   @Autowired private TestResultRepository testResultRepository;
 
+  @Autowired private TestResultLatestProjection testResultLatestProjection;
+
+  @Autowired private TestCaseSequenceAllocator sequenceAllocator;
+
   @Autowired
   private com.testcase.testcasemanagement.repository.RagChatThreadRepository
       ragChatThreadRepository;
@@ -277,6 +281,7 @@ public class ProjectService {
 
     // 프로젝트 삭제
     projectRepository.delete(project);
+    sequenceAllocator.forgetProject(projectId);
   }
 
   /** 프로젝트에 멤버 초대 */
@@ -677,7 +682,8 @@ public class ProjectService {
                 .executeUpdate();
         System.out.println("   ✅ 테스트 결과 첨부파일 " + attachmentsDeleted + "개 삭제 완료");
 
-        // 3. 테스트 결과 삭제
+        // 3. 테스트 결과 삭제 (일괄 삭제라 엔티티 리스너를 거치지 않으므로 최신 결과 투영도 함께 지운다)
+        testResultLatestProjection.deleteByProject(id);
         testResultRepository.deleteByProjectId(id);
         System.out.println("   ✅ 테스트 결과 삭제 완료");
 
@@ -705,8 +711,9 @@ public class ProjectService {
         // 7. 프로젝트 멤버 관계 삭제
         projectUserRepository.deleteByProjectId(id);
 
-        // 8. 프로젝트 삭제
+        // 8. 프로젝트 삭제 (순차 ID·displayOrder 카운터도 함께)
         projectRepository.delete(project);
+        sequenceAllocator.forgetProject(id);
         System.out.println("🎉 강제 삭제 완료: " + project.getName());
 
       } catch (Exception e) {
@@ -729,6 +736,7 @@ public class ProjectService {
       // 연관된 멤버 관계 삭제 후 프로젝트 삭제
       projectUserRepository.deleteByProjectId(id);
       projectRepository.delete(project);
+      sequenceAllocator.forgetProject(id);
     }
 
     return project;
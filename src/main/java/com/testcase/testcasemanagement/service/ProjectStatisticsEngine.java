@@ -0,0 +1,243 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.dto.ProjectStatisticsDto;
+import com.testcase.testcasemanagement.repository.TestResultRepository;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 프로젝트 종합 통계 계산기
+ *
+ * <p>예전에는 통계 하나에 13개 쿼리를 차례로 보냈고 대부분이 같은 프로젝트의 test_results 를 다시 읽었다. 지금은 두 문장으로 끝난다.
+ *
+ * <ul>
+ *   <li>{@link TestResultRepository#findProjectStatisticsSnapshot} — 케이스·계획·실행·최신 결과·우선순위·폴더 수
+ *   <li>{@link TestResultRepository#findProjectExecutionWindows} — 어제/오늘/지난주/이번주 실행 수, 7·30일 통과율,
+ *       7일 중요 실패 수를 30일치 결과 한 번 스캔으로
+ * </ul>
+ *
+ * <p>{@code /overview}, {@code /statistics}, 챗봇 컨텍스트가 같은 프로젝트 통계를 연달아 부르므로 결과를 {@code
+ * app.dashboard.statistics-snapshot-ttl} 동안 프로젝트별로 공유한다. 스냅샷이 없거나 만료됐을 때 동시에 들어온 요청은 한 요청의 계산을
+ * 기다려 같은 결과를 받는다. 가상 스레드가 모니터에 고정되지 않도록 {@code synchronized} 나 {@code computeIfAbsent} 안에서 계산하지
+ * 않는다. 반환한 DTO 는 호출자끼리 공유되므로 고치지 말 것.
+ */
+@Service
+public class ProjectStatisticsEngine {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProjectStatisticsEngine.class);
+
+  /** 이 수를 넘으면 만료된 스냅샷을 치운다. 프로젝트 수만큼만 자라므로 평소에는 닿지 않는다. */
+  private static final int SWEEP_THRESHOLD = 1024;
+
+  private record Snapshot(CompletableFuture<ProjectStatisticsDto> value, long expiresAtNanos) {
+
+    boolean isFresh(long now) {
+      return now - expiresAtNanos < 0;
+    }
+  }
+
+  private final TestResultRepository testResultRepository;
+  private final long ttlNanos;
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  public ProjectStatisticsEngine(
+      TestResultRepository testResultRepository,
+      @Value("${app.dashboard.statistics-snapshot-ttl:30s}") Duration snapshotTtl) {
+    this.testResultRepository = testResultRepository;
+    this.ttlNanos = snapshotTtl.toNanos();
+  }
+
+  /**
+   * 프로젝트 통계. 살아 있는 스냅샷이 있으면 그것을, 없으면 새로 계산해 스냅샷으로 남긴다.
+   *
+   * @param projectId 프로젝트 ID
+   * @return 프로젝트 전체 통계 DTO
+   */
+  public ProjectStatisticsDto statistics(String projectId) {
+    if (ttlNanos <= 0) {
+      return calculate(projectId);
+    }
+    while (true) {
+      long now = System.nanoTime();
+      Snapshot current = snapshots.get(projectId);
+      if (current != null && current.isFresh(now)) {
+        return await(current.value());
+      }
+      Snapshot mine = new Snapshot(new CompletableFuture<>(), now + ttlNanos);
+      boolean claimed =
+          current == null
+              ? snapshots.putIfAbsent(projectId, mine) == null
+              : snapshots.replace(projectId, current, mine);
+      if (!claimed) {
+        // 다른 요청이 먼저 계산을 맡았다 — 다시 읽어 그 결과를 기다린다
+        continue;
+      }
+      sweepExpired(now);
+      try {
+        ProjectStatisticsDto dto = calculate(projectId);
+        mine.value().complete(dto);
+        return dto;
+      } catch (Throwable e) {
+        // 실패는 공유하지 않는다. 기다리던 요청은 같은 예외를 받고 다음 요청이 다시 계산한다.
+        // Error 도 여기서 완료시키지 않으면 기다리던 요청이 join() 에서 영원히 멈춘다.
+        snapshots.remove(projectId, mine);
+        mine.value().completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
+
+  /** 스냅샷 없이 바로 계산한다. */
+  ProjectStatisticsDto calculate(String projectId) {
+    long start = System.nanoTime();
+    LocalDateTime now = LocalDateTime.now();
+
+    Map<String, Object> snapshot = testResultRepository.findProjectStatisticsSnapshot(projectId);
+
+    LocalDateTime yesterdayStart = now.minusDays(1).withHour(0).withMinute(0).withSecond(0);
+    LocalDateTime yesterdayEnd = now.minusDays(1).withHour(23).withMinute(59).withSecond(59);
+    LocalDateTime todayStart = now.withHour(0).withMinute(0).withSecond(0);
+    LocalDateTime lastWeekStart = now.minusDays(7).withHour(0).withMinute(0).withSecond(0);
+    LocalDateTime thisWeekStart =
+        now.minusDays(now.getDayOfWeek().getValue() - 1).withHour(0).withMinute(0).withSecond(0);
+    Map<String, Object> windows =
+        testResultRepository.findProjectExecutionWindows(
+            projectId,
+            yesterdayStart,
+            yesterdayEnd,
+            todayStart,
+            lastWeekStart,
+            thisWeekStart,
+            now.minusDays(7),
+            now.minusDays(30),
+            now);
+
+    ProjectStatisticsDto dto = toDto(projectId, snapshot, windows);
+    dto.setCalculatedAt(now);
+    dto.setDataFreshnessMinutes(0);
+    logger.debug(
+        "프로젝트 통계 계산 {}: {}ms",
+        projectId,
+        Duration.ofNanos(System.nanoTime() - start).toMillis());
+    return dto;
+  }
+
+  /** 두 쿼리 결과를 DTO 로 옮기고 변화율·통과율·커버리지를 계산한다. */
+  static ProjectStatisticsDto toDto(
+      String projectId, Map<String, Object> snapshot, Map<String, Object> windows) {
+    ProjectStatisticsDto dto = new ProjectStatisticsDto();
+
+    dto.setProjectId(projectId);
+    // 프로젝트 이름은 별도 조회가 필요하므로 일단 ID로 설정
+    dto.setProjectName("Project " + projectId);
+
+    // 기본 통계 설정
+    dto.setTotalTestCases(intValue(snapshot, "total_test_cases"));
+    dto.setTotalTestPlans(intValue(snapshot, "total_test_plans"));
+    dto.setTotalTestExecutions(intValue(snapshot, "total_test_executions"));
+    // 폴더 수 (테스트케이스와 같은 테이블에 있어 총계에서 제외하고 따로 센다)
+    dto.setTotalFolders(intValue(snapshot, "total_folders"));
+
+    // 실행 통계 설정
+    dto.setExecutedTestCases(intValue(snapshot, "executed_test_cases"));
+    dto.setExecutionRate(doubleValue(snapshot, "execution_rate"));
+    dto.setPassedTestCases(intValue(snapshot, "passed_test_cases"));
+    dto.setFailedTestCases(intValue(snapshot, "failed_test_cases"));
+    dto.setBlockedTestCases(intValue(snapshot, "blocked_test_cases"));
+    dto.setSkippedTestCases(intValue(snapshot, "skipped_test_cases"));
+    dto.setNotRunTestCases(intValue(snapshot, "not_run_test_cases"));
+
+    // 진행 상황 설정
+    dto.setActiveTestExecutions(intValue(snapshot, "active_test_executions"));
+    dto.setCompletedTestExecutions(intValue(snapshot, "completed_test_executions"));
+    dto.setPausedTestExecutions(intValue(snapshot, "paused_test_executions"));
+
+    // 우선순위별 활성 케이스 설정
+    dto.setActivePriorityHighCases(intValue(snapshot, "active_priority_high_cases"));
+    dto.setActivePriorityMediumCases(intValue(snapshot, "active_priority_medium_cases"));
+    dto.setActivePriorityLowCases(intValue(snapshot, "active_priority_low_cases"));
+
+    // 시간 정보 설정
+    Object lastExecution = snapshot.get("last_execution_date");
+    if (lastExecution instanceof LocalDateTime localDateTime) {
+      dto.setLastExecutionDate(localDateTime);
+    } else if (lastExecution instanceof Timestamp timestamp) {
+      dto.setLastExecutionDate(timestamp.toLocalDateTime());
+    }
+
+    // 일일·주간 변화율 (어제 vs 오늘, 지난주 vs 이번주)
+    int yesterdayExecutions = intValue(windows, "yesterday_executions");
+    int lastWeekExecutions = intValue(windows, "last_week_executions");
+    dto.setYesterdayExecutions(yesterdayExecutions);
+    dto.setLastWeekExecutions(lastWeekExecutions);
+    dto.setDailyChangeRate(
+        changeRate(intValue(windows, "today_executions"), yesterdayExecutions));
+    dto.setWeeklyChangeRate(
+        changeRate(intValue(windows, "this_week_executions"), lastWeekExecutions));
+
+    // 평균 통과율·중요 실패
+    dto.setAveragePassRateLast7Days(doubleValue(windows, "average_pass_rate_7_days"));
+    dto.setAveragePassRateLast30Days(doubleValue(windows, "average_pass_rate_30_days"));
+    dto.setCriticalFailuresLast7Days(intValue(windows, "critical_failures_7_days"));
+
+    // 통과율 (ICT-265: 중복 제거된 데이터 기준), 커버리지 (실행된 케이스 / 전체 케이스)
+    int executedCases = dto.getExecutedTestCases();
+    int totalCases = dto.getTotalTestCases();
+    dto.setPassRate(percent(dto.getPassedTestCases(), executedCases));
+    dto.setTestCoverage(percent(executedCases, totalCases));
+
+    return dto;
+  }
+
+  private static double changeRate(int current, int previous) {
+    if (previous <= 0) {
+      return 0.0;
+    }
+    return round2((double) (current - previous) / previous * 100);
+  }
+
+  private static double percent(int part, int whole) {
+    return whole > 0 ? round2(part * 100.0 / whole) : 0.0;
+  }
+
+  private static double round2(double value) {
+    return Math.round(value * 100.0) / 100.0;
+  }
+
+  private static int intValue(Map<String, Object> map, String key) {
+    return map.get(key) instanceof Number number ? number.intValue() : 0;
+  }
+
+  private static double doubleValue(Map<String, Object> map, String key) {
+    return map.get(key) instanceof Number number ? number.doubleValue() : 0.0;
+  }
+
+  private static ProjectStatisticsDto await(CompletableFuture<ProjectStatisticsDto> value) {
+    try {
+      return value.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void sweepExpired(long now) {
+    if (snapshots.size() > SWEEP_THRESHOLD) {
+      snapshots.values().removeIf(s -> !s.isFresh(now) && s.value().isDone());
+    }
+  }
+}
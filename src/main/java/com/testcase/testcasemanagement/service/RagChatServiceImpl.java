@@ -16,20 +16,30 @@ import com.testcase.testcasemanagement.repository.TestResultRepository;
 import com.testcase.testcasemanagement.service.llm.LlmClient;
 import com.testcase.testcasemanagement.service.llm.LlmClientFactory;
 import com.testcase.testcasemanagement.service.llm.OpenRouterModelCatalogService;
-import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
 import com.testcase.testcasemanagement.service.rag.RagDataSummarizer;
 import com.testcase.testcasemanagement.service.rag.RagQueryAnalyzer;
 import com.testcase.testcasemanagement.service.rag.RagQueryAnalyzer.QueryIntent;
+import com.testcase.testcasemanagement.service.rag.RagQueryResult;
 import com.testcase.testcasemanagement.service.rag.RagSqlExecutor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -51,7 +61,7 @@ public class RagChatServiceImpl implements RagChatService {
   private final RagChatConversationService conversationService;
   private final LlmClientFactory llmClientFactory;
   private final OpenRouterModelCatalogService openRouterModelCatalogService;
-  private final EncryptionUtil encryptionUtil;
+  private final SecretVault secretVault;
   private final SystemSettingService systemSettingService;
   private final DashboardService dashboardService;
   private final TestCaseRepository testCaseRepository;
@@ -59,6 +69,12 @@ public class RagChatServiceImpl implements RagChatService {
   private final RagQueryAnalyzer queryAnalyzer;
   private final RagSqlExecutor sqlExecutor;
   private final RagDataSummarizer dataSummarizer;
+  @Qualifier("ragContextExecutor")
+  private final AsyncTaskExecutor ragContextExecutor;
+
+  // 컨텍스트 수집 대기 한도. 넘기면 남은 작업을 취소하고 모인 것만으로 답한다.
+  @Value("${rag.chat.context-timeout-seconds:30}")
+  private long contextTimeoutSeconds;
 
   @Override
   public RagChatResponse chat(RagChatRequest request, String username) {
@@ -93,18 +109,11 @@ public class RagChatServiceImpl implements RagChatService {
           request.getLlmConfigId(),
           llmConfig.getId());
 
-      // 2. 질의 의도 분석 및 DB 데이터 가져오기 (지능형 컨텍스트)
-      String projectIdStr = request.getProjectId().toString();
-      QueryIntent intent = queryAnalyzer.analyzeIntent(request.getMessage(), projectIdStr);
-      Map<String, Object> dbContext = fetchDbContext(projectIdStr, intent);
-
-      // 3. RAG 문서 검색으로 관련 컨텍스트 가져오기 (useRagSearch 옵션 확인)
-      boolean useRagSearch =
-          request.getUseRagSearch() == null || Boolean.TRUE.equals(request.getUseRagSearch());
-      List<RagChatContext> contextSources =
-          useRagSearch ? searchRelevantContext(request) : Collections.emptyList();
+      // 2~3. 질의 의도 분석, DB 데이터, RAG 문서 검색 (병렬 수집)
+      PreparedContext prepared = prepareContext(request, request.getProjectId().toString());
+      List<RagChatContext> contextSources = prepared.contextSources();
 
-      if (useRagSearch) {
+      if (prepared.ragSearchUsed()) {
         log.info("📚 RAG 검색 활성화 - 검색된 컨텍스트: {} 개", contextSources.size());
       } else {
         log.info("💬 순수 LLM 대화 모드 - RAG 검색 스킵");
@@ -112,7 +121,8 @@ public class RagChatServiceImpl implements RagChatService {
 
       // 4. 시스템 프롬프트 + 컨텍스트 + 대화 히스토리 구성
       List<RagChatMessage> messages =
-          buildMessages(request, contextSources, dbContext, intent, llmConfig);
+          buildMessages(
+              request, contextSources, prepared.dbContext(), prepared.intent(), llmConfig);
 
       if (persistConversation) {
         thread = conversationService.ensureThread(project, request, username);
@@ -122,7 +132,7 @@ public class RagChatServiceImpl implements RagChatService {
       }
 
       // 4. LLM 클라이언트 선택 및 질의
-      LlmClient llmClient = llmClientFactory.getClient(llmConfig);
+      LlmClient llmClient = llmClientFactory.getClient(llmConfig, "rag-chat");
       LlmClient.LlmResponse llmResponse =
           llmClient.chat(llmConfig, messages, request.getTemperature(), request.getMaxTokens());
 
@@ -199,20 +209,12 @@ public class RagChatServiceImpl implements RagChatService {
                 // 1. LLM 설정 가져오기
                 LlmConfig llmConfig = resolveLlmConfig(request);
 
-                // 2. 질의 의도 분석 및 DB 데이터 가져오기
-                String projectIdStr = request.getProjectId().toString();
-                QueryIntent intent =
-                    queryAnalyzer.analyzeIntent(request.getMessage(), projectIdStr);
-                Map<String, Object> dbContext = fetchDbContext(projectIdStr, intent);
-
-                // 3. RAG 문서 검색 (useRagSearch 옵션 확인)
-                boolean useRagSearch =
-                    request.getUseRagSearch() == null
-                        || Boolean.TRUE.equals(request.getUseRagSearch());
-                List<RagChatContext> contextSources =
-                    useRagSearch ? searchRelevantContext(request) : Collections.emptyList();
+                // 2~3. 질의 의도 분석, DB 데이터, RAG 문서 검색 (병렬 수집)
+                PreparedContext prepared =
+                    prepareContext(request, request.getProjectId().toString());
+                List<RagChatContext> contextSources = prepared.contextSources();
 
-                if (useRagSearch) {
+                if (prepared.ragSearchUsed()) {
                   log.info("📚 RAG 검색 활성화 (스트리밍) - 검색된 컨텍스트: {} 개", contextSources.size());
                 } else {
                   log.info("💬 순수 LLM 대화 모드 (스트리밍) - RAG 검색 스킵");
@@ -223,10 +225,15 @@ public class RagChatServiceImpl implements RagChatService {
 
                 // 4. 메시지 구성
                 List<RagChatMessage> messages =
-                    buildMessages(request, contextSources, dbContext, intent, llmConfig);
+                    buildMessages(
+                        request,
+                        contextSources,
+                        prepared.dbContext(),
+                        prepared.intent(),
+                        llmConfig);
 
                 // 4. LLM 스트리밍 호출
-                LlmClient llmClient = llmClientFactory.getClient(llmConfig);
+                LlmClient llmClient = llmClientFactory.getClient(llmConfig, "rag-chat");
                 boolean[] streamCompleted = {false}; // 스트리밍 완료 플래그
 
                 try {
@@ -317,7 +324,7 @@ public class RagChatServiceImpl implements RagChatService {
   /** 요청한 모델이 이 설정의 키로 쓸 수 있는 무료 모델인지 확인한다. */
   private boolean isFreeModel(LlmConfig config, String model) {
     try {
-      String apiKey = encryptionUtil.decrypt(config.getEncryptedApiKey());
+      String apiKey = secretVault.reveal(config.getEncryptedApiKey());
       return openRouterModelCatalogService.listFreeChatModels(apiKey).stream()
           .anyMatch(candidate -> model.equals(candidate.getId()));
     } catch (Exception e) {
@@ -553,57 +560,145 @@ public class RagChatServiceImpl implements RagChatService {
     return prompt.toString();
   }
 
-  /** 의도에 따른 DB 데이터 조회 */
-  private Map<String, Object> fetchDbContext(String projectId, QueryIntent intent) {
-    Map<String, Object> context = new HashMap<>();
+  /** 답변 LLM 호출 전에 모은 컨텍스트 */
+  private record PreparedContext(
+      QueryIntent intent,
+      Map<String, Object> dbContext,
+      List<RagChatContext> contextSources,
+      boolean ragSearchUsed) {}
 
+  /**
+   * 답변 호출 전 컨텍스트를 병렬로 모은다.
+   *
+   * <p>예전에는 의도 분석(LLM) → DB 조회 → 벡터 검색 → 요약(LLM)을 차례로 기다려 첫 토큰까지 몇 초씩 더 걸렸다. 벡터 검색은 의도와 무관하므로
+   * 의도 분석과 동시에 시작하고, DB 조회는 의도가 나온 뒤 항목별로 나눠 아직 진행 중인 검색과 겹쳐 돌린다.
+   *
+   * <p>시작한 작업은 모두 이 메서드 안에서 끝난다. 대기 한도를 넘기거나 예외로 빠져나갈 때 남은 작업은 interrupt 로 취소한다. 벡터 검색 오류는 예전처럼
+   * 요청 실패로 올리고, 시간 초과는 검색 결과 없이 진행한다.
+   */
+  private PreparedContext prepareContext(RagChatRequest request, String projectId)
+      throws Exception {
+    boolean useRagSearch =
+        request.getUseRagSearch() == null || Boolean.TRUE.equals(request.getUseRagSearch());
+    List<Future<?>> tasks = new ArrayList<>();
     try {
-      // 1. 통계 정보
-      if (intent.isNeedsStatistics()) {
-        context.put("statistics", dashboardService.getProjectStatistics(projectId));
-      }
+      Future<List<RagChatContext>> search =
+          useRagSearch ? submit(tasks, () -> searchRelevantContext(request)) : null;
 
-      // 2. 테스트케이스 검색
-      if (intent.isNeedsTestCaseSearch()
-          && intent.getSearchKeywords() != null
-          && !intent.getSearchKeywords().isEmpty()) {
-        List<TestCase> allResults = new ArrayList<>();
-        for (String keyword : intent.getSearchKeywords()) {
-          allResults.addAll(testCaseRepository.searchByKeyword(projectId, keyword));
+      // 의도 분석은 호출 스레드에서 — 어차피 결과를 기다려야 DB 조회를 정할 수 있다
+      QueryIntent intent = queryAnalyzer.analyzeIntent(request.getMessage(), projectId);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(contextTimeoutSeconds);
+      Map<String, Object> dbContext = fetchDbContext(projectId, intent, tasks, deadline);
+
+      List<RagChatContext> contextSources = Collections.emptyList();
+      if (search != null) {
+        try {
+          contextSources = await(search, deadline);
+        } catch (TimeoutException e) {
+          log.warn("RAG 문서 검색 시간 초과 ({}초) - 검색 결과 없이 진행", contextTimeoutSeconds);
         }
-        // 중복 제거 및 상위 5개 제한
-        context.put(
-            "searchResults", allResults.stream().distinct().limit(5).collect(Collectors.toList()));
       }
+      return new PreparedContext(intent, dbContext, contextSources, useRagSearch);
+    } finally {
+      tasks.forEach(task -> task.cancel(true));
+    }
+  }
 
-      // 3. 최근 실행 결과
-      if (intent.isNeedsRecentResults()) {
-        Pageable pageable = PageRequest.of(0, 5);
-        context.put(
-            "recentResults",
-            testResultRepository.findRecentTestResultsByProject(projectId, pageable));
-      }
+  /** 의도에 따른 DB 데이터 조회. 항목끼리 독립이라 각각 따로 돌리고, 실패하거나 늦은 항목만 뺀다. */
+  private Map<String, Object> fetchDbContext(
+      String projectId, QueryIntent intent, List<Future<?>> tasks, long deadline)
+      throws InterruptedException {
+    Map<String, Future<?>> lookups = new LinkedHashMap<>();
 
-      // 4. SQL 기반 정밀 데이터 조회 및 요약
-      if (intent.getGeneratedSql() != null && !intent.getGeneratedSql().isBlank()) {
-        try {
-          List<Map<String, Object>> sqlResults =
-              sqlExecutor.executeSelect(intent.getGeneratedSql(), projectId);
-          String summary =
-              dataSummarizer.summarize(
-                  sqlResults, intent.getJustification(), intent.isNeedsFullList());
-          context.put("sqlData", summary);
-        } catch (Exception e) {
-          log.warn("SQL 실행 또는 요약 실패: {}", e.getMessage());
-        }
+    // 1. 통계 정보
+    if (intent.isNeedsStatistics()) {
+      lookups.put(
+          "statistics", submit(tasks, () -> dashboardService.getProjectStatistics(projectId)));
+    }
+
+    // 2. 테스트케이스 검색
+    if (intent.isNeedsTestCaseSearch()
+        && intent.getSearchKeywords() != null
+        && !intent.getSearchKeywords().isEmpty()) {
+      lookups.put(
+          "searchResults",
+          submit(
+              tasks,
+              () -> {
+                List<TestCase> allResults = new ArrayList<>();
+                for (String keyword : intent.getSearchKeywords()) {
+                  allResults.addAll(testCaseRepository.searchByKeyword(projectId, keyword));
+                }
+                // 중복 제거 및 상위 5개 제한
+                return allResults.stream().distinct().limit(5).collect(Collectors.toList());
+              }));
+    }
+
+    // 3. 최근 실행 결과 (실행자는 쿼리에서 함께 가져온다 — 다른 스레드라 지연 로딩이 안 된다)
+    if (intent.isNeedsRecentResults()) {
+      Pageable pageable = PageRequest.of(0, 5);
+      lookups.put(
+          "recentResults",
+          submit(
+              tasks,
+              () -> testResultRepository.findRecentTestResultsByProject(projectId, pageable)));
+    }
+
+    // 4. SQL 기반 정밀 데이터 조회 및 요약
+    if (intent.getGeneratedSql() != null && !intent.getGeneratedSql().isBlank()) {
+      lookups.put(
+          "sqlData",
+          submit(
+              tasks,
+              () -> {
+                RagQueryResult sqlResult =
+                    sqlExecutor.executeBounded(intent.getGeneratedSql(), projectId);
+                String summary =
+                    dataSummarizer.summarize(
+                        sqlResult.toRows(), intent.getJustification(), intent.isNeedsFullList());
+                // 잘린 결과를 전체로 오해해 개수를 단정하지 않도록 알린다
+                return sqlResult.truncated()
+                    ? summary
+                        + "\n(조회 결과가 "
+                        + sqlResult.truncationReason()
+                        + "에 걸려 앞의 "
+                        + sqlResult.rowCount()
+                        + "행만 포함됨)"
+                    : summary;
+              }));
+    }
+
+    Map<String, Object> context = new HashMap<>();
+    for (Map.Entry<String, Future<?>> lookup : lookups.entrySet()) {
+      try {
+        context.put(lookup.getKey(), await(lookup.getValue(), deadline));
+      } catch (InterruptedException e) {
+        throw e;
+      } catch (TimeoutException e) {
+        log.warn("DB 컨텍스트 조회 시간 초과: {}", lookup.getKey());
+      } catch (Exception e) {
+        log.warn("DB 컨텍스트 조회 실패 ({}): {}", lookup.getKey(), e.getMessage());
       }
-    } catch (Exception e) {
-      log.error("DB 컨텍스트 조회 실패: {}", e.getMessage());
     }
 
     return context;
   }
 
+  private <T> Future<T> submit(List<Future<?>> tasks, Callable<T> task) {
+    Future<T> future = ragContextExecutor.submit(task);
+    tasks.add(future);
+    return future;
+  }
+
+  /** 마감 시각까지 결과를 기다린다. 작업 안에서 난 예외는 그대로 다시 던진다. */
+  private static <T> T await(Future<T> future, long deadlineNanos) throws Exception {
+    try {
+      return future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof Exception cause ? cause : e;
+    }
+  }
+
   private void checkRagEnabled() {
     if (!systemSettingService.getBooleanSetting("RAG_ENABLED", true)) {
       throw new RagDisabledException();
@@ -5,13 +5,16 @@ import com.testcase.testcasemanagement.exception.RagDisabledException;
 import com.testcase.testcasemanagement.exception.RagVectorWriteDisabledException;
 import com.testcase.testcasemanagement.model.LlmConfig;
 import com.testcase.testcasemanagement.repository.LlmConfigRepository;
-import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
+import com.testcase.testcasemanagement.service.outbound.OutboundBulkheads;
+import com.testcase.testcasemanagement.service.outbound.OutboundGuard;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -52,25 +55,30 @@ public class RagServiceImpl implements RagService {
   private final WebClient ragWebClient;
   private final String ragApiUrl;
   private final LlmConfigRepository llmConfigRepository;
-  private final EncryptionUtil encryptionUtil;
+  private final SecretVault secretVault;
   private final SystemSettingService systemSettingService;
+  private final OutboundBulkheads bulkheads;
 
   // ICT-Performance: RAG 문서 목록 캐시 (N+1 조회를 방지하기 위해 10초간 유지)
   private RagDocumentListResponse documentListCache;
   private long lastCacheUpdate = 0;
   private static final long CACHE_TTL_MS = 10000; // 10초
+  // 갱신은 락을 쥔 채 RAG 서버를 부른다. synchronized 면 가상 스레드가 캐리어를 붙잡으므로 ReentrantLock 을 쓴다.
+  private final ReentrantLock documentListLock = new ReentrantLock();
 
   public RagServiceImpl(
       WebClient ragWebClient,
       @Value("${rag.api.url:http://localhost:8001}") String ragApiUrl,
       LlmConfigRepository llmConfigRepository,
-      EncryptionUtil encryptionUtil,
-      SystemSettingService systemSettingService) {
+      SecretVault secretVault,
+      SystemSettingService systemSettingService,
+      OutboundBulkheads bulkheads) {
     this.ragWebClient = ragWebClient;
     this.ragApiUrl = ragApiUrl;
     this.llmConfigRepository = llmConfigRepository;
-    this.encryptionUtil = encryptionUtil;
+    this.secretVault = secretVault;
     this.systemSettingService = systemSettingService;
+    this.bulkheads = bulkheads;
     log.info("RAG Service initialized with API URL: {}", ragApiUrl);
   }
 
@@ -533,6 +541,20 @@ public class RagServiceImpl implements RagService {
     }
   }
 
+  /**
+   * RAG 호출 하나를 {@code rag} 격리 안에서 한다. 벡터화처럼 몇 분씩 도는 흐름은 통째로 격리하지 않으므로({@code
+   * OutboundCallMetricsAspect.ORCHESTRATIONS}) 안쪽 호출이 이것으로 자리를 잡고, 폴링 사이 대기 동안은 자리를 돌려준다.
+   */
+  private <T> T guarded(OutboundGuard.Call<T> call) {
+    try {
+      return bulkheads.guard("rag").call(call);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   /**
    * Wait until document analysis completes or fails by polling the RAG API. 문서 분석이 완료되거나 실패할 때까지
    * RAG API를 폴링하여 대기합니다.
@@ -543,7 +565,7 @@ public class RagServiceImpl implements RagService {
 
     while (System.currentTimeMillis() < deadline) {
       try {
-        RagDocumentResponse document = fetchDocument(documentId);
+        RagDocumentResponse document = guarded(() -> fetchDocument(documentId));
         if (document != null && document.getAnalysisStatus() != null) {
           String status = document.getAnalysisStatus().toLowerCase();
           if ("completed".equals(status)) {
@@ -600,7 +622,7 @@ public class RagServiceImpl implements RagService {
 
     while (System.currentTimeMillis() < deadline) {
       try {
-        RagDocumentResponse document = fetchDocument(documentId);
+        RagDocumentResponse document = guarded(() -> fetchDocument(documentId));
         if (document != null && document.getMetaData() != null) {
           Object statusObj = document.getMetaData().get("embedding_status");
           if (statusObj != null) {
@@ -680,7 +702,11 @@ public class RagServiceImpl implements RagService {
     try {
       // ICT-388: 동일한 testCaseId의 기존 문서가 있으면 먼저 삭제 (1개만 유지)
       try {
-        deleteTestCaseFromRAG(testCaseId);
+        guarded(
+            () -> {
+              deleteTestCaseFromRAG(testCaseId);
+              return null;
+            });
         log.info("기존 TestCase 문서 삭제 완료: testCaseId={}", testCaseId);
       } catch (Exception e) {
         // 기존 문서가 없으면 무시
@@ -736,7 +762,8 @@ public class RagServiceImpl implements RagService {
           };
 
       // 1. RAG API에 업로드
-      RagDocumentResponse uploadResponse = uploadDocument(multipartFile, projectId, uploadedBy);
+      RagDocumentResponse uploadResponse =
+          guarded(() -> uploadDocument(multipartFile, projectId, uploadedBy));
 
       if (uploadResponse == null || uploadResponse.getId() == null) {
         throw new RuntimeException("TestCase 업로드 실패: 응답이 null입니다");
@@ -748,7 +775,8 @@ public class RagServiceImpl implements RagService {
       // 2. 문서 분석 (pymupdf4llm 파서 사용 - LLM 최적화 마크다운 추출)
       boolean analysisCompleted = false;
       try {
-        RagDocumentResponse analyzeResponse = analyzeDocument(documentId, DEFAULT_PDF_PARSER);
+        RagDocumentResponse analyzeResponse =
+            guarded(() -> analyzeDocument(documentId, DEFAULT_PDF_PARSER));
         log.info(
             "TestCase analysis started: status={}",
             analyzeResponse != null ? analyzeResponse.getAnalysisStatus() : "unknown");
@@ -772,14 +800,14 @@ public class RagServiceImpl implements RagService {
 
       // 3. 임베딩 생성
       try {
-        generateEmbeddings(documentId);
+        guarded(() -> generateEmbeddings(documentId));
         boolean embeddingsCompleted =
             waitForEmbeddingCompletion(documentId, Duration.ofMinutes(10), Duration.ofSeconds(2));
 
         if (!embeddingsCompleted) {
           // Check if document was deleted (superseded)
           try {
-            fetchDocument(documentId);
+            guarded(() -> fetchDocument(documentId));
             // If we are here, document exists, so it was a real timeout or failure
             throw new RuntimeException("TestCase 임베딩 생성이 제한 시간 내에 완료되지 않았습니다 (Timeout/Failure).");
           } catch (RuntimeException e) {
@@ -870,13 +898,16 @@ public class RagServiceImpl implements RagService {
       long currentTime = System.currentTimeMillis();
       RagDocumentListResponse documents;
 
-      synchronized (this) {
+      documentListLock.lock();
+      try {
         if (documentListCache == null || (currentTime - lastCacheUpdate) > CACHE_TTL_MS) {
           log.debug("Refreshing RAG document list cache for vectorization check");
           documentListCache = listDocuments(null, 1, 1000);
           lastCacheUpdate = currentTime;
         }
         documents = documentListCache;
+      } finally {
+        documentListLock.unlock();
       }
 
       if (documents != null && documents.getDocuments() != null) {
@@ -898,10 +929,13 @@ public class RagServiceImpl implements RagService {
 
   @Override
   public void invalidateDocumentListCache() {
-    synchronized (this) {
+    documentListLock.lock();
+    try {
       documentListCache = null;
       lastCacheUpdate = 0;
       log.debug("RAG 문서 목록 캐시 무효화 완료");
+    } finally {
+      documentListLock.unlock();
     }
   }
 
@@ -1284,27 +1318,30 @@ public class RagServiceImpl implements RagService {
           enrichedRequest.getLlmModel(),
           enrichedRequest.getLlmBaseUrl());
 
+      // 설정 조회·복호화는 격리 밖에서 하고 RAG 호출만 자리를 잡는다
       RagLlmAnalysisResponse response =
-          ragWebClient
-              .post()
-              .uri("/api/v1/llm-analysis/{documentId}/analyze-chunks-with-llm", documentId)
-              .contentType(MediaType.APPLICATION_JSON)
-              .bodyValue(enrichedRequest)
-              .retrieve()
-              .onStatus(
-                  status -> status.is4xxClientError(),
-                  clientResponse ->
-                      clientResponse
-                          .bodyToMono(String.class)
-                          .map(error -> new RuntimeException("LLM 분석 시작 실패: " + error)))
-              .onStatus(
-                  status -> status.is5xxServerError(),
-                  clientResponse ->
-                      clientResponse
-                          .bodyToMono(String.class)
-                          .map(error -> new RuntimeException("RAG API 서버 에러: " + error)))
-              .bodyToMono(RagLlmAnalysisResponse.class)
-              .block(DEFAULT_BLOCK_TIMEOUT);
+          guarded(
+              () ->
+                  ragWebClient
+                      .post()
+                      .uri("/api/v1/llm-analysis/{documentId}/analyze-chunks-with-llm", documentId)
+                      .contentType(MediaType.APPLICATION_JSON)
+                      .bodyValue(enrichedRequest)
+                      .retrieve()
+                      .onStatus(
+                          status -> status.is4xxClientError(),
+                          clientResponse ->
+                              clientResponse
+                                  .bodyToMono(String.class)
+                                  .map(error -> new RuntimeException("LLM 분석 시작 실패: " + error)))
+                      .onStatus(
+                          status -> status.is5xxServerError(),
+                          clientResponse ->
+                              clientResponse
+                                  .bodyToMono(String.class)
+                                  .map(error -> new RuntimeException("RAG API 서버 에러: " + error)))
+                      .bodyToMono(RagLlmAnalysisResponse.class)
+                      .block(DEFAULT_BLOCK_TIMEOUT));
 
       log.info(
           "LLM analysis started successfully: documentId={}, jobId={}, status={}",
@@ -1333,7 +1370,7 @@ public class RagServiceImpl implements RagService {
               .orElseThrow(() -> new RuntimeException("LLM Config not found: " + configId));
 
       // 암호화된 API key 복호화
-      String decryptedApiKey = encryptionUtil.decrypt(llmConfig.getEncryptedApiKey());
+      String decryptedApiKey = secretVault.reveal(llmConfig.getEncryptedApiKey());
 
       log.info(
           "Enriching request with LLM Config: id={}, provider={}, model={}",
@@ -1550,7 +1587,7 @@ public class RagServiceImpl implements RagService {
                           new RuntimeException(
                               "LLM Config not found: " + statusResponse.getLlmConfigId()));
 
-          String decryptedApiKey = encryptionUtil.decrypt(llmConfig.getEncryptedApiKey());
+          String decryptedApiKey = secretVault.reveal(llmConfig.getEncryptedApiKey());
 
           log.info(
               "Resume with LLM Config: id={}, provider={}, model={}",
@@ -1,24 +1,29 @@
 package com.testcase.testcasemanagement.service;
 
-import java.time.Instant;
+import com.testcase.testcasemanagement.service.token.ExpiringTokenStore;
+import java.time.Duration;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * 단기 임시 리다이렉트 토큰을 인메모리에 저장하는 컴포넌트. Forge 앱이 API 키를 직접 URL에 노출하는 대신, 이 토큰을 통해 안전하게 인증합니다.
+ * 단기 임시 리다이렉트 토큰 저장 컴포넌트. Forge 앱이 API 키를 직접 URL에 노출하는 대신, 이 토큰을 통해 안전하게 인증합니다.
  *
  * <p>토큰 특성: - TTL: 5분 (짧은 유효기간) - 1회성: 사용(소비) 후 즉시 삭제 - UUID 기반으로 API 키를 추측 불가
+ *
+ * <p>저장은 {@link ExpiringTokenStore} 에 맡긴다 ({@code TokenStoreConfig}). 기본 인메모리 저장소는 항목 수 상한이 있어 토큰
+ * 발급이 몰려도 메모리가 늘지 않고, 만료 정리가 전체 스캔이 아니다.
  */
 @Component
 public class RedirectTokenStore {
 
-  private static final long TTL_MILLIS = 5 * 60 * 1000L; // 5분
+  private static final Duration TTL = Duration.ofMinutes(5);
 
-  private record TokenEntry(String apiKey, Instant expiresAt) {}
+  private final ExpiringTokenStore<String> store;
 
-  private final ConcurrentHashMap<String, TokenEntry> store = new ConcurrentHashMap<>();
+  public RedirectTokenStore(ExpiringTokenStore<String> store) {
+    this.store = store;
+  }
 
   /**
    * 새 임시 토큰을 생성하고 저장한 후 반환합니다.
@@ -28,7 +33,7 @@ public class RedirectTokenStore {
    */
   public String generateToken(String apiKey) {
     String token = UUID.randomUUID().toString();
-    store.put(token, new TokenEntry(apiKey, Instant.now().plusMillis(TTL_MILLIS)));
+    store.put(token, apiKey, TTL);
     return token;
   }
 
@@ -40,16 +45,12 @@ public class RedirectTokenStore {
    */
   public String consumeToken(String token) {
     if (token == null || token.isBlank()) return null;
-    TokenEntry entry = store.remove(token);
-    if (entry == null) return null;
-    if (Instant.now().isAfter(entry.expiresAt())) return null;
-    return entry.apiKey();
+    return store.consume(token);
   }
 
-  /** 만료된 토큰을 주기적으로 정리합니다. (1분마다 실행) */
+  /** 만료된 토큰이 차지한 자리를 주기적으로 비웁니다. (1분마다 실행) */
   @Scheduled(fixedDelay = 60_000)
   public void evictExpiredTokens() {
-    Instant now = Instant.now();
-    store.entrySet().removeIf(e -> now.isAfter(e.getValue().expiresAt()));
+    store.purgeExpired();
   }
 }
@@ -4,17 +4,33 @@ import com.testcase.testcasemanagement.model.RefreshToken;
 import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.repository.RefreshTokenRepository;
 import com.testcase.testcasemanagement.repository.UserRepository;
+import com.testcase.testcasemanagement.service.token.InMemoryExpiringTokenStore;
 import com.testcase.testcasemanagement.util.JwtTokenUtil;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Refresh Token 발급·검증·무효화
+ *
+ * <p>갱신 요청마다 {@code refresh_tokens} 를 조회하지 않도록 유효한 토큰의 (사용자, 만료일)을 인스턴스 메모리에 잠깐 둔다
+ * ({@code app.tokens.refresh-cache.*}). 항목 수 상한이 있어 로그인이 몰려도 메모리는 늘지 않는다. 무효화·만료된 토큰은 담지 않는다.
+ *
+ * <p>{@link #revokeToken}/{@link #revokeAllUserTokens} 는 캐시를 바로, 그리고 트랜잭션이 끝난 뒤 한 번 더 비운다. 커밋 전에 다른
+ * 요청이 옛 행을 읽어 다시 담는 경우는 무효화 세대 번호로 막는다. 다른 인스턴스의 캐시는 알 수 없으므로 거기서는 무효화가 최대 캐시 TTL 만큼 늦게
+ * 보인다 — 기본 30초로 짧게 둔 이유다. 0 이면 캐시를 쓰지 않는다.
+ */
 @Service
 public class RefreshTokenService {
 
@@ -26,16 +42,30 @@ public class RefreshTokenService {
   private final JwtTokenUtil jwtTokenUtil;
   private final CustomUserDetailsService userDetailsService;
 
+  /** 유효한 토큰 캐시 (토큰 → 사용자, 만료일) */
+  private final InMemoryExpiringTokenStore<ActiveToken> activeTokens;
+
+  private final Duration cacheTtl;
+
+  /** 무효화할 때마다 올린다. 조회 시작 뒤에 바뀌었으면 읽은 행을 캐시에 담지 않는다. */
+  private final AtomicLong revocations = new AtomicLong();
+
+  private record ActiveToken(String userId, LocalDateTime expiryDate) {}
+
   @Autowired
   public RefreshTokenService(
       RefreshTokenRepository refreshTokenRepository,
       UserRepository userRepository,
       JwtTokenUtil jwtTokenUtil,
-      CustomUserDetailsService userDetailsService) {
+      CustomUserDetailsService userDetailsService,
+      @Value("${app.tokens.refresh-cache.ttl:30s}") Duration cacheTtl,
+      @Value("${app.tokens.refresh-cache.max-entries:10000}") int cacheMaxEntries) {
     this.refreshTokenRepository = refreshTokenRepository;
     this.userRepository = userRepository;
     this.jwtTokenUtil = jwtTokenUtil;
     this.userDetailsService = userDetailsService;
+    this.cacheTtl = cacheTtl;
+    this.activeTokens = new InMemoryExpiringTokenStore<>(cacheMaxEntries);
   }
 
   /** 새로운 Refresh Token 생성 */
@@ -100,25 +130,17 @@ public class RefreshTokenService {
         return Optional.empty();
       }
 
-      // DB에서 토큰 확인
-      Optional<RefreshToken> tokenOpt = refreshTokenRepository.findByToken(refreshTokenValue);
-      if (tokenOpt.isEmpty()) {
-        logger.warn("DB에서 찾을 수 없는 Refresh Token 사용 시도");
-        return Optional.empty();
-      }
-
-      RefreshToken refreshToken = tokenOpt.get();
-
-      // 토큰 상태 확인
-      if (refreshToken.isRevoked() || refreshToken.isExpired()) {
-        logger.warn("만료되었거나 무효화된 Refresh Token 사용 시도 - 사용자: {}", refreshToken.getUserId());
+      // 토큰 상태 확인 (캐시 → DB)
+      ActiveToken activeToken = findActiveToken(refreshTokenValue);
+      if (activeToken == null) {
+        logger.warn("DB에 없거나 만료·무효화된 Refresh Token 사용 시도");
         return Optional.empty();
       }
 
       // 사용자 정보 조회
-      Optional<User> userOpt = userRepository.findById(refreshToken.getUserId());
+      Optional<User> userOpt = userRepository.findById(activeToken.userId());
       if (userOpt.isEmpty()) {
-        logger.error("Refresh Token에 연결된 사용자를 찾을 수 없음: {}", refreshToken.getUserId());
+        logger.error("Refresh Token에 연결된 사용자를 찾을 수 없음: {}", activeToken.userId());
         return Optional.empty();
       }
 
@@ -146,14 +168,8 @@ public class RefreshTokenService {
         return false;
       }
 
-      // DB에서 토큰 확인
-      Optional<RefreshToken> tokenOpt = refreshTokenRepository.findByToken(token);
-      if (tokenOpt.isEmpty()) {
-        return false;
-      }
-
-      RefreshToken refreshToken = tokenOpt.get();
-      return !refreshToken.isRevoked() && !refreshToken.isExpired();
+      // 토큰 상태 확인 (캐시 → DB)
+      return findActiveToken(token) != null;
 
     } catch (Exception e) {
       logger.error("Refresh Token 검증 실패: {}", e.getMessage());
@@ -165,6 +181,7 @@ public class RefreshTokenService {
   @Transactional
   public void revokeToken(String token) {
     try {
+      evictNowAndAfterCompletion(() -> activeTokens.remove(token));
       refreshTokenRepository.revokeByToken(token, LocalDateTime.now());
       logger.info("Refresh Token 무효화됨");
     } catch (Exception e) {
@@ -176,6 +193,8 @@ public class RefreshTokenService {
   @Transactional
   public void revokeAllUserTokens(String userId) {
     try {
+      evictNowAndAfterCompletion(
+          () -> activeTokens.removeIf((token, active) -> active.userId().equals(userId)));
       refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
       logger.info("사용자의 모든 Refresh Token 무효화됨 - 사용자: {}", userId);
     } catch (Exception e) {
@@ -183,6 +202,56 @@ public class RefreshTokenService {
     }
   }
 
+  /** 무효화되지 않고 만료되지 않은 토큰이면 (사용자, 만료일), 아니면 null. 캐시에 없으면 DB 를 보고 유효할 때만 담는다. */
+  private ActiveToken findActiveToken(String token) {
+    ActiveToken cached = activeTokens.get(token);
+    if (cached != null) {
+      return LocalDateTime.now().isAfter(cached.expiryDate()) ? null : cached;
+    }
+
+    long generation = revocations.get();
+    Optional<RefreshToken> tokenOpt = refreshTokenRepository.findByToken(token);
+    if (tokenOpt.isEmpty() || tokenOpt.get().isRevoked() || tokenOpt.get().isExpired()) {
+      return null;
+    }
+
+    RefreshToken refreshToken = tokenOpt.get();
+    ActiveToken active = new ActiveToken(refreshToken.getUserId(), refreshToken.getExpiryDate());
+    Duration untilExpiry = Duration.between(LocalDateTime.now(), active.expiryDate());
+    Duration ttl = cacheTtl.compareTo(untilExpiry) < 0 ? cacheTtl : untilExpiry;
+    if (ttl.isPositive()) {
+      synchronized (revocations) {
+        // 읽는 사이 무효화가 있었으면 이 행이 이미 낡았을 수 있다
+        if (revocations.get() == generation) {
+          activeTokens.put(token, active, ttl);
+        }
+      }
+    }
+    return active;
+  }
+
+  /** 캐시를 지금 비우고, 트랜잭션이 있으면 끝난 뒤 (커밋이든 롤백이든) 한 번 더 비운다 */
+  private void evictNowAndAfterCompletion(Runnable eviction) {
+    evict(eviction);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            evict(eviction);
+          }
+        });
+  }
+
+  private void evict(Runnable eviction) {
+    synchronized (revocations) {
+      revocations.incrementAndGet();
+      eviction.run();
+    }
+  }
+
   /** 사용자별 토큰 개수 제한 관리 */
   @Transactional
   protected void cleanupUserTokens(String userId) {
@@ -0,0 +1,66 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.dto.SeekPage;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서 목록의 전체 건수를 요청한 방식대로 채운다.
+ *
+ * <p>조건 없는 대형 표의 {@code COUNT(*)} 는 전체 스캔이라 페이지 조회보다 비싸다. 추정치로 충분하면 PostgreSQL 이
+ * ANALYZE 때 기록한 {@code pg_class.reltuples} 를 쓴다. 조건이 걸린 목록(프로젝트·엔티티별)은 인덱스로 좁혀지고
+ * 통계로는 정확도를 보장할 수 없으므로 정확히 센다. 통계가 아직 없으면 역시 정확히 센다.
+ */
+@Slf4j
+@Component
+public class RowCountEstimator {
+
+  // 월 파티션 테이블(TimePartitionManager)은 부모에 통계가 없으므로 자식 파티션 값을 더한다
+  private static final String RELTUPLES_SQL =
+      "SELECT CASE WHEN COUNT(*) FILTER (WHERE c.reltuples >= 0) = 0 THEN NULL"
+          + " ELSE SUM(GREATEST(c.reltuples, 0))::bigint END"
+          + " FROM pg_class c WHERE c.relkind = 'r' AND (c.oid = to_regclass(?)"
+          + " OR c.oid IN (SELECT inhrelid FROM pg_inherits WHERE inhparent = to_regclass(?)))";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public RowCountEstimator(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * @param table 조건 없는 목록의 대상 테이블
+   * @param filtered 조건이 걸린 목록이면 true (추정하지 않는다)
+   * @param exact 정확한 건수
+   */
+  public <T> SeekPage<T> withTotal(
+      SeekPage<T> page,
+      SeekPage.CountMode mode,
+      String table,
+      boolean filtered,
+      LongSupplier exact) {
+    if (mode == SeekPage.CountMode.NONE) {
+      return page;
+    }
+    if (mode == SeekPage.CountMode.APPROXIMATE && !filtered) {
+      Long estimate = estimate(table);
+      if (estimate != null) {
+        return page.withTotal(estimate, true);
+      }
+    }
+    return page.withTotal(exact.getAsLong(), false);
+  }
+
+  /** 통계 추정 행 수. 통계가 없거나 읽지 못하면 null. */
+  Long estimate(String table) {
+    try {
+      return jdbcTemplate.queryForObject(RELTUPLES_SQL, Long.class, table, table);
+    } catch (DataAccessException e) {
+      log.debug("행 수 추정 실패: table={}, {}", table, e.getMessage());
+      return null;
+    }
+  }
+}
@@ -55,7 +55,7 @@ public class TestCaseAiGenerationService {
         List.of(RagChatMessage.system(systemPrompt), RagChatMessage.user(userMessage));
 
     // LLM 호출
-    LlmClient client = llmClientFactory.getClient(llmConfig);
+    LlmClient client = llmClientFactory.getClient(llmConfig, "testcase-meta");
     LlmClient.LlmResponse response = client.chat(llmConfig, messages, 0.3, 512);
 
     String content = response.getContent();
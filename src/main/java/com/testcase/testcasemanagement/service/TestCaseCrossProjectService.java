@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -65,6 +66,7 @@ public class TestCaseCrossProjectService {
   private final TestCaseMoveAuditLogRepository auditLogRepository;
   private final TestCaseDisplayIdService displayIdService;
   private final ProjectSecurityService projectSecurityService;
+  private final TestCaseSequenceAllocator sequenceAllocator;
 
   public TestCaseCrossProjectService(
       TestCaseRepository testCaseRepository,
@@ -74,7 +76,8 @@ public class TestCaseCrossProjectService {
       ProjectRepository projectRepository,
       TestCaseMoveAuditLogRepository auditLogRepository,
       TestCaseDisplayIdService displayIdService,
-      ProjectSecurityService projectSecurityService) {
+      ProjectSecurityService projectSecurityService,
+      TestCaseSequenceAllocator sequenceAllocator) {
     this.testCaseRepository = testCaseRepository;
     this.testResultRepository = testResultRepository;
     this.testExecutionRepository = testExecutionRepository;
@@ -83,6 +86,7 @@ public class TestCaseCrossProjectService {
     this.auditLogRepository = auditLogRepository;
     this.displayIdService = displayIdService;
     this.projectSecurityService = projectSecurityService;
+    this.sequenceAllocator = sequenceAllocator;
   }
 
   // ============================ Public API ============================
@@ -100,8 +104,8 @@ public class TestCaseCrossProjectService {
       throw new MoveForbiddenException("대상 프로젝트 편집 권한이 없습니다: " + ctx.targetProject.getId());
     }
 
-    SequenceAllocator seq = new SequenceAllocator(maxSeq(ctx.targetProject.getId()));
-    int rootOrder = maxChildOrder(ctx.targetProject.getId(), ctx.targetParentId);
+    SequenceCursor seq = reserveSequence(ctx, this::needsSequence);
+    int rootOrder = reserveRootOrders(ctx);
 
     List<NodeMapping> mappings = new ArrayList<>();
     List<String> auditIds = new ArrayList<>();
@@ -118,6 +122,7 @@ public class TestCaseCrossProjectService {
       reassignSequence(node, seq);
       if (isRoot) {
         node.setParentId(ctx.targetParentId);
+        // reserveRootOrders 로 빌린 구간 안의 값이라 카운터는 이미 이 너머에 있다
         node.setDisplayOrder(++rootOrder);
       }
       // 내부 노드는 parentId(이미 옮겨지는 노드 id)와 displayOrder 유지
@@ -177,8 +182,10 @@ public class TestCaseCrossProjectService {
       throw new MoveForbiddenException("대상 프로젝트 편집 권한이 없습니다: " + ctx.targetProject.getId());
     }
 
-    SequenceAllocator seq = new SequenceAllocator(maxSeq(ctx.targetProject.getId()));
-    int rootOrder = maxChildOrder(ctx.targetProject.getId(), ctx.targetParentId);
+    // 복제본은 sequentialId 없이 시작하므로 testcase 만 새 번호를 받는다
+    SequenceCursor seq =
+        reserveSequence(ctx, n -> TestCaseConstants.TYPE_TESTCASE.equals(n.getType()));
+    int rootOrder = reserveRootOrders(ctx);
 
     Map<String, String> idMap = new HashMap<>(); // oldId -> newId
     List<NodeMapping> mappings = new ArrayList<>();
@@ -401,7 +408,7 @@ public class TestCaseCrossProjectService {
   // ============================ Clone (copy) ============================
 
   private TestCase cloneTestCase(
-      TestCase src, Project targetProject, String newParentId, SequenceAllocator seq) {
+      TestCase src, Project targetProject, String newParentId, SequenceCursor seq) {
     TestCase clone = new TestCase();
     clone.setProject(targetProject);
     clone.setName(src.getName());
@@ -428,10 +435,8 @@ public class TestCaseCrossProjectService {
   // ============================ Helpers ============================
 
   /** testcase 타입이거나 기존에 sequentialId가 있던 노드에 대해 대상 프로젝트 기준 새 sequentialId + displayId 부여. */
-  private void reassignSequence(TestCase node, SequenceAllocator seq) {
-    boolean needsSeq =
-        TestCaseConstants.TYPE_TESTCASE.equals(node.getType()) || node.getSequentialId() != null;
-    if (needsSeq) {
+  private void reassignSequence(TestCase node, SequenceCursor seq) {
+    if (needsSequence(node)) {
       node.setSequentialId(seq.next());
       node.setDisplayId(displayIdService.generateDisplayId(node));
     } else {
@@ -439,6 +444,10 @@ public class TestCaseCrossProjectService {
     }
   }
 
+  private boolean needsSequence(TestCase node) {
+    return TestCaseConstants.TYPE_TESTCASE.equals(node.getType()) || node.getSequentialId() != null;
+  }
+
   private boolean isRoot(TestCase node, Set<String> movedIds) {
     return node.getParentId() == null || !movedIds.contains(node.getParentId());
   }
@@ -448,28 +457,30 @@ public class TestCaseCrossProjectService {
         && TestCaseConstants.SYSTEM_DEFAULT_FOLDER_DESCRIPTION.equals(n.getDescription());
   }
 
-  private int maxSeq(String projectId) {
-    Integer max = testCaseRepository.findMaxSequentialIdByProjectId(projectId);
-    return max == null ? 0 : max;
+  /** 대상 프로젝트에서 새 sequentialId 를 받을 노드 수만큼 연속 구간을 빌린다. */
+  private SequenceCursor reserveSequence(Context ctx, Predicate<TestCase> needsSequence) {
+    int count = 0;
+    for (TestCase node : ctx.orderedNodes) {
+      if (needsSequence.test(node)) count++;
+    }
+    if (count == 0) return new SequenceCursor(0);
+    return new SequenceCursor(
+        sequenceAllocator.reserveSequentialIds(ctx.targetProject.getId(), count) - 1);
   }
 
   /**
-   * 대상 부모(또는 루트)의 기존 형제 중 최대 displayOrder. 이동/복사한 항목은 이 값 +1부터 부여되어 항상 마지막 순서로 들어간다.
-   *
-   * <p>{@code findMaxDisplayOrderByParentId}는 JPQL {@code t.parentId = :parentId}라 parentId가
-   * null(프로젝트 루트)이면 어떤 행도 매칭하지 못해 항상 null→0을 돌려준다. 그 결과 루트로 이동/복사 시 displayOrder가 1,2..로 부여되어 기존 루트
-   * 항목과 충돌(중간 삽입)했다. 프로젝트 전체를 로드해 Java에서 parentId(널 포함)를 비교하여 정확한 최대값을 구한다.
+   * 옮기거나 복사한 루트 노드들을 대상 부모(또는 루트) 맨 뒤에 붙일 displayOrder 구간을 빌린다. 반환값은 구간 첫 값 - 1 이므로 {@code
+   * ++rootOrder} 로 차례로 쓴다.
    */
-  private int maxChildOrder(String projectId, String parentId) {
-    int max = 0;
-    for (TestCase tc : testCaseRepository.findByProjectId(projectId)) {
-      if (java.util.Objects.equals(tc.getParentId(), parentId)
-          && tc.getDisplayOrder() != null
-          && tc.getDisplayOrder() > max) {
-        max = tc.getDisplayOrder();
-      }
+  private int reserveRootOrders(Context ctx) {
+    int roots = 0;
+    for (TestCase node : ctx.orderedNodes) {
+      if (isRoot(node, ctx.movedIds)) roots++;
     }
-    return max;
+    if (roots == 0) return 0;
+    return sequenceAllocator.reserveDisplayOrders(
+            ctx.targetProject.getId(), ctx.targetParentId, roots)
+        - 1;
   }
 
   private NodeMapping toMapping(String sourceId, TestCase node) {
@@ -536,10 +547,11 @@ public class TestCaseCrossProjectService {
     int mirroredExecutionCount = 0;
   }
 
-  private static class SequenceAllocator {
+  /** 미리 빌린 순차 ID 구간을 차례로 꺼낸다. */
+  private static class SequenceCursor {
     private int current;
 
-    SequenceAllocator(int start) {
+    SequenceCursor(int start) {
       this.current = start;
     }
 
@@ -4,9 +4,7 @@ package com.testcase.testcasemanagement.service;
 
 import com.testcase.testcasemanagement.model.TestCase;
 import com.testcase.testcasemanagement.repository.TestCaseRepository;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -22,6 +20,7 @@ public class TestCaseDisplayIdMigrationService {
 
   private final TestCaseRepository testCaseRepository;
   private final TestCaseDisplayIdService displayIdService;
+  private final TestCaseSequenceAllocator sequenceAllocator;
 
   /**
    * 애플리케이션 시작 시 자동으로 실행되는 마이그레이션. displayId가 null인 테스트 케이스에 Display ID를 생성합니다.
@@ -65,16 +64,15 @@ public class TestCaseDisplayIdMigrationService {
   /**
    * 대상 노드에 Display ID를 부여한다. 순차 ID가 없는 테스트 케이스에는 프로젝트별 다음 번호를 먼저 채운다.
    *
-   * <p>번호는 프로젝트별로 메모리에서 이어 붙인다. 노드마다 MAX를 다시 조회하면 같은 트랜잭션 안에서 아직 flush 되지 않은 앞 번호를 못 보고 중복이 난다.
+   * <p>번호는 API 생성과 같은 할당기에서 받는다. MAX 로 따로 세면 할당기가 이미 빌려 준 번호와 겹칠 수 있다.
    */
   private MigrationResult assignDisplayIds(List<TestCase> targets) {
-    Map<String, Integer> lastSequentialIdByProject = new HashMap<>();
     int successCount = 0;
     int failCount = 0;
 
     for (TestCase testCase : targets) {
       try {
-        ensureSequentialId(testCase, lastSequentialIdByProject);
+        ensureSequentialId(testCase);
 
         String generatedDisplayId = displayIdService.generateDisplayId(testCase);
 
@@ -101,23 +99,12 @@ public class TestCaseDisplayIdMigrationService {
   }
 
   /** 순차 ID가 없는 테스트 케이스에 프로젝트별 다음 번호를 채운다. 프로젝트가 없으면 손대지 않는다(Display ID 생성 단계에서 실패로 잡힌다). */
-  private void ensureSequentialId(
-      TestCase testCase, Map<String, Integer> lastSequentialIdByProject) {
+  private void ensureSequentialId(TestCase testCase) {
     if (testCase.getSequentialId() != null || testCase.getProject() == null) {
       return;
     }
 
-    String projectId = testCase.getProject().getId();
-    int last =
-        lastSequentialIdByProject.computeIfAbsent(
-            projectId,
-            id -> {
-              Integer max = testCaseRepository.findMaxSequentialIdByProjectId(id);
-              return max == null ? 0 : max;
-            });
-
-    int next = last + 1;
-    lastSequentialIdByProject.put(projectId, next);
+    int next = sequenceAllocator.nextSequentialId(testCase.getProject().getId());
     testCase.setSequentialId(next);
 
     log.info("순차 ID 보정 - TestCase ID: {}, 순차 ID: {}", testCase.getId(), next);
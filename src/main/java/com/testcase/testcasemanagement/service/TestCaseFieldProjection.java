@@ -0,0 +1,209 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.mapper.TestCaseMapper;
+import com.testcase.testcasemanagement.model.TestStep;
+import com.testcase.testcasemanagement.security.ProjectSecurityService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로젝트 테스트케이스 목록의 필드 선택 조회 ({@code GET /api/testcases/project/{projectId}?fields=...})
+ *
+ * <p>MCP 서버·Jira 앱 같은 자동화 클라이언트는 목록에서 ID·이름 정도만 쓰는데, 기본 응답은 단계·태그·링크까지 채운 {@code TestCaseDto}
+ * 전체라 프로젝트 하나에 수 MB 가 된다. 여기서는 요청한 컬럼만 JPQL 로 골라 읽고, 컬렉션(단계·태그·링크)은 요청했을 때만 컬렉션마다 한 번에
+ * 읽어 붙인다. 엔티티를 만들지 않으므로 영속성 컨텍스트와 지연 로딩도 거치지 않는다.
+ *
+ * <p>필드 이름과 값 형식은 {@code TestCaseDto} 와 같다(날짜는 문자열). {@code id} 는 항상 포함한다.
+ */
+@Component
+public class TestCaseFieldProjection {
+
+  /** 컬럼 필드 → JPQL 경로. 순서가 전체 필드 조회 때의 응답 키 순서다. */
+  static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+
+  static {
+    COLUMNS.put("id", "t.id");
+    COLUMNS.put("sequentialId", "t.sequentialId");
+    COLUMNS.put("displayId", "t.displayId");
+    COLUMNS.put("name", "t.name");
+    COLUMNS.put("type", "t.type");
+    COLUMNS.put("description", "t.description");
+    COLUMNS.put("preCondition", "t.preCondition");
+    COLUMNS.put("postCondition", "t.postCondition");
+    COLUMNS.put("isAutomated", "t.isAutomated");
+    COLUMNS.put("executionType", "t.executionType");
+    COLUMNS.put("testTechnique", "t.testTechnique");
+    COLUMNS.put("parentId", "t.parentId");
+    COLUMNS.put("expectedResults", "t.expectedResults");
+    COLUMNS.put("createdAt", "t.createdAt");
+    COLUMNS.put("updatedAt", "t.updatedAt");
+    COLUMNS.put("createdBy", "t.createdBy");
+    COLUMNS.put("updatedBy", "t.updatedBy");
+    COLUMNS.put("displayOrder", "t.displayOrder");
+    COLUMNS.put("projectId", "t.project.id");
+    COLUMNS.put("priority", "t.priority");
+    COLUMNS.put("version", "t.version");
+  }
+
+  /** 컬렉션 필드 → 원소를 테스트케이스 ID 와 함께 읽는 JPQL */
+  static final Map<String, String> COLLECTIONS =
+      Map.of(
+          "steps",
+          "SELECT t.id, s FROM TestCase t JOIN t.steps s"
+              + " WHERE t.project.id = :projectId ORDER BY t.id, INDEX(s)",
+          "tags",
+          "SELECT t.id, e FROM TestCase t JOIN t.tags e WHERE t.project.id = :projectId",
+          "linkedDocumentIds",
+          "SELECT t.id, e FROM TestCase t JOIN t.linkedDocumentIds e"
+              + " WHERE t.project.id = :projectId",
+          "linkedTestCaseIds",
+          "SELECT t.id, e FROM TestCase t JOIN t.linkedTestCaseIds e"
+              + " WHERE t.project.id = :projectId",
+          "linkedJunitTestCaseIds",
+          "SELECT t.id, e FROM TestCase t JOIN t.linkedJunitTestCaseIds e"
+              + " WHERE t.project.id = :projectId");
+
+  /** 필드를 지정하지 않은 스트리밍 조회가 돌려주는 전체 필드 */
+  public static final List<String> ALL_FIELDS;
+
+  static {
+    List<String> all = new ArrayList<>(COLUMNS.keySet());
+    all.addAll(List.of("steps", "tags", "linkedDocumentIds"));
+    all.addAll(List.of("linkedTestCaseIds", "linkedJunitTestCaseIds"));
+    ALL_FIELDS = List.copyOf(all);
+  }
+
+  private static final int FETCH_SIZE = 500;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private final ProjectSecurityService projectSecurityService;
+
+  public TestCaseFieldProjection(ProjectSecurityService projectSecurityService) {
+    this.projectSecurityService = projectSecurityService;
+  }
+
+  /**
+   * {@code fields} 파라미터(쉼표 구분)를 필드 목록으로 바꾼다. {@code id} 를 맨 앞에 두고 중복은 없앤다.
+   *
+   * @throws IllegalArgumentException 모르는 필드가 있을 때
+   */
+  public static List<String> parseFields(String fields) {
+    Set<String> selected = new LinkedHashSet<>();
+    selected.add("id");
+    List<String> unknown = new ArrayList<>();
+    for (String field : fields.split(",")) {
+      String name = field.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      if (COLUMNS.containsKey(name) || COLLECTIONS.containsKey(name)) {
+        selected.add(name);
+      } else {
+        unknown.add(name);
+      }
+    }
+    if (!unknown.isEmpty()) {
+      throw new IllegalArgumentException(
+          "알 수 없는 필드: " + String.join(", ", unknown) + " (사용 가능: " + ALL_FIELDS + ")");
+    }
+    return List.copyOf(selected);
+  }
+
+  public void checkAccess(String projectId) {
+    if (!projectSecurityService.canAccessProject(projectId)) {
+      throw new AccessDeniedException("프로젝트 접근 권한이 없습니다: " + projectId);
+    }
+  }
+
+  /** 선택한 필드만 담은 행 목록. 순서는 기본 목록 조회와 같다(상위 폴더 먼저, displayOrder 순). */
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> list(String projectId, List<String> fields) {
+    List<Map<String, Object>> rows = new ArrayList<>();
+    forEach(projectId, fields, rows::add);
+    return rows;
+  }
+
+  /**
+   * 행을 하나씩 {@code sink} 로 넘긴다. 컬럼은 커서로 읽어 목록 전체를 메모리에 올리지 않는다 — NDJSON 응답이 이 경로를 쓴다. 요청한
+   * 컬렉션만 먼저 읽어 둔다.
+   */
+  @Transactional(readOnly = true)
+  public void forEach(String projectId, List<String> fields, Consumer<Map<String, Object>> sink) {
+    checkAccess(projectId);
+
+    List<String> columns = fields.stream().filter(COLUMNS::containsKey).toList();
+    Map<String, Map<String, List<Object>>> collections = new HashMap<>();
+    for (String field : fields) {
+      if (COLLECTIONS.containsKey(field)) {
+        collections.put(field, loadCollection(field, projectId));
+      }
+    }
+
+    String jpql =
+        "SELECT "
+            + String.join(", ", columns.stream().map(COLUMNS::get).toList())
+            + " FROM TestCase t WHERE t.project.id = :projectId"
+            + " ORDER BY t.parentId NULLS FIRST, t.displayOrder";
+    try (Stream<Tuple> tuples =
+        entityManager
+            .createQuery(jpql, Tuple.class)
+            .setParameter("projectId", projectId)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()) {
+      tuples.forEach(tuple -> sink.accept(toRow(tuple, columns, fields, collections)));
+    }
+  }
+
+  private static Map<String, Object> toRow(
+      Tuple tuple,
+      List<String> columns,
+      List<String> fields,
+      Map<String, Map<String, List<Object>>> collections) {
+    Map<String, Object> row = new LinkedHashMap<>();
+    for (int i = 0; i < columns.size(); i++) {
+      Object value = tuple.get(i);
+      // TestCaseDto 와 같게 날짜는 LocalDateTime.toString() 형식의 문자열로 준다
+      row.put(columns.get(i), value instanceof Temporal ? value.toString() : value);
+    }
+    String id = (String) row.get("id");
+    for (String field : fields) {
+      Map<String, List<Object>> byTestCase = collections.get(field);
+      if (byTestCase != null) {
+        row.put(field, byTestCase.getOrDefault(id, List.of()));
+      }
+    }
+    return row;
+  }
+
+  private Map<String, List<Object>> loadCollection(String field, String projectId) {
+    Map<String, List<Object>> byTestCase = new HashMap<>();
+    List<Object[]> pairs =
+        entityManager
+            .createQuery(COLLECTIONS.get(field), Object[].class)
+            .setParameter("projectId", projectId)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultList();
+    for (Object[] pair : pairs) {
+      Object element = pair[1] instanceof TestStep step ? TestCaseMapper.toStepDto(step) : pair[1];
+      byTestCase.computeIfAbsent((String) pair[0], k -> new ArrayList<>()).add(element);
+    }
+    return byTestCase;
+  }
+}
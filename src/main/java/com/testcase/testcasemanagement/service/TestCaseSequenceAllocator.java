@@ -0,0 +1,286 @@
+package com.testcase.testcasemanagement.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 테스트케이스 순차 ID·displayOrder 할당기
+ *
+ * <p>예전에는 생성할 때마다 {@code MAX(sequential_id) + 1}, {@code MAX(display_order) + 1} 을 집계했다. 매 INSERT
+ * 마다 집계 쿼리가 돌고, 동시에 만든 두 건이 같은 값을 받을 수 있었다. 이제 {@code testcase_sequences} 카운터 행을 원자적으로 늘려 값을 빌린다.
+ *
+ * <ul>
+ *   <li>순차 ID 는 hi/lo 방식이다. 프로젝트마다 {@code app.sequence.block-size} 개씩 빌려 메모리에서 나눠 주므로 DB 왕복은 블록당 한
+ *       번이다. 재시작하면 쓰지 않은 나머지는 버려져 번호에 틈이 생긴다 — 유일성만 보장하고 연속성은 보장하지 않는다.
+ *   <li>displayOrder 는 "맨 뒤에 붙인다" 는 의미가 있으므로 인스턴스별 블록을 두지 않고 필요한 개수만큼 바로 빌린다. 일괄 저장은 {@link
+ *       #reserveDisplayOrders} 로 한 번에 연속 구간을 받는다.
+ *   <li>이동·재번호·복원처럼 displayOrder 를 직접 쓰는 경로는 {@link #advanceDisplayOrder} 로 카운터를 쓴 값 너머로 밀어 둔다.
+ *       그러지 않으면 다음 생성이 이미 있는 값을 받는다.
+ * </ul>
+ *
+ * <p>카운터 갱신은 별도 트랜잭션(REQUIRES_NEW)에서 바로 커밋한다. 호출한 긴 트랜잭션(Import 등)이 카운터 행 잠금을 끝까지 쥐고 있으면 같은 프로젝트의
+ * 다른 생성이 줄을 서기 때문이다. 바깥 트랜잭션이 롤백되면 빌린 번호는 버려진다.
+ *
+ * <p>이 트랜잭션의 커넥션은 주 풀이 아니라 할당기 전용의 작은 풀({@code app.sequence.pool.*})에서 얻는다. 주 풀에서 두 번째 커넥션을
+ * 얻으면, 커넥션을 하나씩 쥔 호출이 풀 크기만큼 몰렸을 때 모두 두 번째 커넥션을 기다리며 커넥션 타임아웃까지 멈춘다. 전용 풀 커넥션을 쥔 쪽은 다른
+ * 커넥션을 기다리지 않으므로 주 풀 크기와 상관없이 순환 대기가 생기지 않는다. DB 의 최대 연결 수는 주 풀과 이 풀을 합쳐 잡아야 한다.
+ *
+ * <p>프로젝트나 폴더를 지우면 {@link #forgetProject}, {@link #forgetParent} 로 그 카운터 행도 지운다. 지운 뒤 같은 키를 다시 쓰면
+ * 그때의 최대값으로 다시 시드하므로, 삭제가 롤백되어도 번호가 겹치지 않는다.
+ *
+ * <p>카운터 행이 없으면 처음 한 번만 기존 최대값으로 시드한다. 시드 경합은 {@code ON CONFLICT DO NOTHING} 으로 흡수한다 (PostgreSQL).
+ */
+@Slf4j
+@Component
+public class TestCaseSequenceAllocator {
+
+  private static final String LEASE_SQL =
+      "UPDATE testcase_sequences SET next_value = next_value + ?, updated_at = CURRENT_TIMESTAMP"
+          + " WHERE scope_key = ? RETURNING next_value";
+
+  private static final String SEED_SQL =
+      "INSERT INTO testcase_sequences (scope_key, next_value, updated_at)"
+          + " VALUES (?, ?, CURRENT_TIMESTAMP) ON CONFLICT (scope_key) DO NOTHING";
+
+  private static final String ADVANCE_SQL =
+      "UPDATE testcase_sequences SET next_value = GREATEST(next_value, ?),"
+          + " updated_at = CURRENT_TIMESTAMP WHERE scope_key = ?";
+
+  private static final String DELETE_KEY_SQL = "DELETE FROM testcase_sequences WHERE scope_key = ?";
+
+  /** 프로젝트의 순차 ID·루트 displayOrder 카운터와, 그 프로젝트 폴더들의 displayOrder 카운터 */
+  private static final String DELETE_PROJECT_SQL =
+      "DELETE FROM testcase_sequences WHERE scope_key IN (?, ?)"
+          + " OR scope_key IN (SELECT 'order:' || id FROM testcases WHERE project_id = ?)";
+
+  private static final String MAX_SEQUENTIAL_ID_SQL =
+      "SELECT MAX(sequential_id) FROM testcases WHERE project_id = ?";
+
+  private static final String MAX_CHILD_ORDER_SQL =
+      "SELECT MAX(display_order) FROM testcases WHERE parent_id = ?";
+
+  private static final String MAX_ROOT_ORDER_SQL =
+      "SELECT MAX(display_order) FROM testcases WHERE project_id = ? AND parent_id IS NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate requiresNew;
+  // 할당기 전용 커넥션 풀. 목으로 만든 테스트에서는 null
+  private final HikariDataSource pool;
+
+  // 프로젝트별로 빌려 둔 순차 ID 블록
+  private final Map<String, Block> sequentialIdBlocks = new ConcurrentHashMap<>();
+
+  @Value("${app.sequence.block-size:20}")
+  private int blockSize;
+
+  @Autowired
+  public TestCaseSequenceAllocator(
+      DataSourceProperties properties,
+      Environment environment,
+      @Value("${app.sequence.pool.maximum-size:4}") int maximumPoolSize) {
+    this(createPool(properties, environment, maximumPoolSize));
+  }
+
+  private TestCaseSequenceAllocator(HikariDataSource pool) {
+    this(new JdbcTemplate(pool), new DataSourceTransactionManager(pool), pool);
+  }
+
+  TestCaseSequenceAllocator(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this(jdbcTemplate, transactionManager, null);
+  }
+
+  private TestCaseSequenceAllocator(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      HikariDataSource pool) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.requiresNew = new TransactionTemplate(transactionManager);
+    this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.pool = pool;
+  }
+
+  /** 주 DB 설정({@code spring.datasource.*}, {@code .hikari.*})을 그대로 쓰고 크기·이름만 바꾼 풀 */
+  private static HikariDataSource createPool(
+      DataSourceProperties properties, Environment environment, int maximumPoolSize) {
+    HikariDataSource pool =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+    pool.setPoolName("sequence");
+    pool.setMaximumPoolSize(Math.max(maximumPoolSize, 1));
+    pool.setMinimumIdle(1);
+    return pool;
+  }
+
+  @PreDestroy
+  void close() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  /** 프로젝트의 다음 순차 ID. 빌려 둔 블록이 남아 있으면 DB 에 가지 않는다. */
+  public int nextSequentialId(String projectId) {
+    requireProject(projectId);
+    Block block = sequentialIdBlocks.computeIfAbsent(projectId, id -> new Block());
+    block.lock.lock();
+    try {
+      if (block.next >= block.limit) {
+        int size = Math.max(blockSize, 1);
+        block.next = lease(sequentialKey(projectId), size, () -> maxSequentialId(projectId));
+        block.limit = block.next + size;
+      }
+      return block.next++;
+    } finally {
+      block.lock.unlock();
+    }
+  }
+
+  /** 순차 ID {@code count} 개를 연속 구간으로 빌린다. 첫 값을 돌려준다. 일괄 Import 용. */
+  public int reserveSequentialIds(String projectId, int count) {
+    requireProject(projectId);
+    if (count <= 0) {
+      throw new IllegalArgumentException("count must be positive: " + count);
+    }
+    return lease(sequentialKey(projectId), count, () -> maxSequentialId(projectId));
+  }
+
+  /** 부모(null 이면 프로젝트 루트) 아래 맨 뒤 displayOrder */
+  public int nextDisplayOrder(String projectId, String parentId) {
+    return reserveDisplayOrders(projectId, parentId, 1);
+  }
+
+  /** 부모 아래 displayOrder {@code count} 개를 연속 구간으로 빌린다. 첫 값을 돌려준다. */
+  public int reserveDisplayOrders(String projectId, String parentId, int count) {
+    if (count <= 0) {
+      throw new IllegalArgumentException("count must be positive: " + count);
+    }
+    if (parentId != null) {
+      return lease(
+          displayOrderKey(projectId, parentId),
+          count,
+          () -> queryMax(MAX_CHILD_ORDER_SQL, parentId));
+    }
+    requireProject(projectId);
+    return lease(
+        displayOrderKey(projectId, null), count, () -> queryMax(MAX_ROOT_ORDER_SQL, projectId));
+  }
+
+  /**
+   * displayOrder 를 할당기를 거치지 않고 썼을 때 부른다. 다음 할당이 {@code usedOrder} 보다 크도록 카운터를 올린다.
+   *
+   * <p>카운터 행이 아직 없으면 그대로 둔다 — 다음 할당이 그때의 최대값으로 시드한다. 임대와 같은 별도 트랜잭션에서 바로 커밋해 카운터 행 잠금을
+   * 호출한 트랜잭션 끝까지 쥐지 않는다.
+   */
+  public void advanceDisplayOrder(String projectId, String parentId, int usedOrder) {
+    if (parentId == null) {
+      requireProject(projectId);
+    }
+    String key = displayOrderKey(projectId, parentId);
+    requiresNew.executeWithoutResult(
+        status -> jdbcTemplate.update(ADVANCE_SQL, usedOrder + 1L, key));
+  }
+
+  /** 프로젝트를 지울 때 부른다. 순차 ID·루트 displayOrder 카운터와 그 프로젝트 폴더들의 카운터를 지운다. */
+  public void forgetProject(String projectId) {
+    requireProject(projectId);
+    sequentialIdBlocks.remove(projectId);
+    requiresNew.executeWithoutResult(
+        status ->
+            jdbcTemplate.update(
+                DELETE_PROJECT_SQL,
+                sequentialKey(projectId),
+                displayOrderKey(projectId, null),
+                projectId));
+  }
+
+  /** 폴더를 지울 때 부른다. 그 폴더 아래 displayOrder 카운터를 지운다. */
+  public void forgetParent(String parentId) {
+    if (parentId == null) {
+      return;
+    }
+    requiresNew.executeWithoutResult(
+        status -> jdbcTemplate.update(DELETE_KEY_SQL, displayOrderKey(null, parentId)));
+  }
+
+  /**
+   * 카운터를 {@code count} 만큼 늘리고 빌린 구간의 첫 값을 돌려준다. 행이 없으면 {@code seed} 의 최대값 + 1 로 만든 뒤 다시 늘린다.
+   */
+  int lease(String key, int count, MaxQuery seed) {
+    Long first =
+        requiresNew.execute(
+            status -> {
+              Long next = increment(key, count);
+              if (next == null) {
+                jdbcTemplate.update(SEED_SQL, key, seed.max() + 1L);
+                next = increment(key, count);
+              }
+              return next == null ? null : next - count;
+            });
+    if (first == null) {
+      throw new IllegalStateException("시퀀스 카운터를 만들 수 없습니다: " + key);
+    }
+    log.debug("시퀀스 임대: {} [{}, {})", key, first, first + count);
+    return Math.toIntExact(first);
+  }
+
+  private Long increment(String key, int count) {
+    return jdbcTemplate.query(LEASE_SQL, rs -> rs.next() ? rs.getLong(1) : null, count, key);
+  }
+
+  private long maxSequentialId(String projectId) {
+    return queryMax(MAX_SEQUENTIAL_ID_SQL, projectId);
+  }
+
+  private long queryMax(String sql, String arg) {
+    Long max = jdbcTemplate.queryForObject(sql, Long.class, arg);
+    return max == null ? 0L : max;
+  }
+
+  private static String sequentialKey(String projectId) {
+    return "seq:" + projectId;
+  }
+
+  private static String displayOrderKey(String projectId, String parentId) {
+    return parentId != null ? "order:" + parentId : "order:" + projectId + ":root";
+  }
+
+  private static void requireProject(String projectId) {
+    if (projectId == null || projectId.isBlank()) {
+      throw new IllegalArgumentException("projectId is required");
+    }
+  }
+
+  /** 시드용 최대값 조회 */
+  @FunctionalInterface
+  interface MaxQuery {
+    long max();
+  }
+
+  /**
+   * 빌려 둔 순차 ID 구간 [next, limit)
+   *
+   * <p>블록이 비면 락을 쥔 채 DB 에 가므로 {@code synchronized} 대신 가상 스레드를 붙잡지 않는 락을 쓴다.
+   */
+  private static class Block {
+    private final ReentrantLock lock = new ReentrantLock();
+    private int next;
+    private int limit;
+  }
+}
@@ -28,9 +28,11 @@ import com.testcase.testcasemanagement.security.ProjectSecurityService;
 import com.testcase.testcasemanagement.util.CsvMappingConfig;
 import com.testcase.testcasemanagement.util.CsvUtils;
 import com.testcase.testcasemanagement.util.SheetsServiceUtil;
+import com.testcase.testcasemanagement.util.StreamingSheetReader;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -43,6 +45,7 @@ import java.util.*;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
@@ -67,6 +70,9 @@ public class TestCaseService {
   private final GoogleConfigService googleConfigService;
   private final ProjectRepository projectRepository;
   private final ProjectSecurityService projectSecurityService;
+  private final TestCaseStandardImporter standardImporter;
+  private final TestCaseSequenceAllocator sequenceAllocator;
+  private final ProjectChangeFeed projectChangeFeed;
 
   @PersistenceContext private EntityManager entityManager;
 
@@ -80,7 +86,10 @@ public class TestCaseService {
           displayIdHistoryRepository,
       GoogleConfigService googleConfigService,
       ProjectRepository projectRepository,
-      ProjectSecurityService projectSecurityService) {
+      ProjectSecurityService projectSecurityService,
+      TestCaseStandardImporter standardImporter,
+      TestCaseSequenceAllocator sequenceAllocator,
+      ProjectChangeFeed projectChangeFeed) {
     this.testCaseRepository = testCaseRepository;
     this.displayIdService = displayIdService;
     this.eventPublisher = eventPublisher;
@@ -90,6 +99,9 @@ public class TestCaseService {
     this.googleConfigService = googleConfigService;
     this.projectRepository = projectRepository;
     this.projectSecurityService = projectSecurityService;
+    this.standardImporter = standardImporter;
+    this.sequenceAllocator = sequenceAllocator;
+    this.projectChangeFeed = projectChangeFeed;
   }
 
   public List<TestCase> getAllTestCases() {
@@ -184,15 +196,15 @@ public class TestCaseService {
     entity.setCreatedBy(currentUser);
     entity.setUpdatedBy(currentUser);
 
-    if (entity.getDisplayOrder() == null) {
-      Integer maxOrder = testCaseRepository.findMaxDisplayOrderByParentId(entity.getParentId());
-      entity.setDisplayOrder(maxOrder == null ? 1 : maxOrder + 1);
+    boolean explicitOrder = entity.getDisplayOrder() != null;
+    if (!explicitOrder) {
+      entity.setDisplayOrder(
+          sequenceAllocator.nextDisplayOrder(project.getId(), entity.getParentId()));
     }
 
     // ICT-339: 순차 ID 자동 생성 (프로젝트별 순차 증가)
     if (entity.getSequentialId() == null) {
-      Integer maxSequentialId = testCaseRepository.findMaxSequentialIdByProjectId(project.getId());
-      entity.setSequentialId(maxSequentialId == null ? 1 : maxSequentialId + 1);
+      entity.setSequentialId(sequenceAllocator.nextSequentialId(project.getId()));
     }
 
     // ICT-341: Display ID 자동 생성 (프로젝트코드-넘버 형식)
@@ -202,6 +214,10 @@ public class TestCaseService {
     }
 
     TestCase savedEntity = testCaseRepository.save(entity);
+    if (explicitOrder) {
+      sequenceAllocator.advanceDisplayOrder(
+          project.getId(), savedEntity.getParentId(), savedEntity.getDisplayOrder());
+    }
 
     // ICT-349: 새 테스트케이스 생성 시 초기 버전 생성 이벤트 발행
     try {
@@ -363,6 +379,15 @@ public class TestCaseService {
         .createNativeQuery("DELETE FROM testcases WHERE id = :id")
         .setParameter("id", id)
         .executeUpdate();
+    if (TestCaseConstants.TYPE_FOLDER.equals(testCase.getType())) {
+      sequenceAllocator.forgetParent(id);
+    }
+    // 네이티브 삭제는 엔티티 콜백을 거치지 않으므로 변경 피드에 직접 남긴다
+    projectChangeFeed.markChanged(
+        testCase.getProject() != null ? testCase.getProject().getId() : null,
+        ProjectChangeFeed.EntityType.TESTCASE,
+        id,
+        ProjectChangeFeed.Operation.DELETE);
     log.info("테스트케이스 삭제 완료: testCaseId={}", id);
   }
 
@@ -540,14 +565,9 @@ public class TestCaseService {
     boolean parentChanged = !Objects.equals(oldParentId, newParentId);
 
     if (parentChanged) {
-      // 현재 테스트케이스를 제외한 최대 displayOrder 구하기
-      Integer maxOrder =
-          testCaseRepository.findByParentIdOrderByDisplayOrder(newParentId).stream()
-              .filter(tc -> !tc.getId().equals(entity.getId())) // 현재 테스트케이스 제외
-              .mapToInt(TestCase::getDisplayOrder)
-              .max()
-              .orElse(0);
-      entity.setDisplayOrder(maxOrder + 1);
+      // 새 부모의 맨 뒤로
+      entity.setDisplayOrder(
+          sequenceAllocator.nextDisplayOrder(entity.getProject().getId(), newParentId));
     } else if (testCaseDto.getDisplayOrder() == null) {
       // displayOrder가 null이면 기존 값 유지 (변경 없음)
       // 이미 entity에 기존 displayOrder가 있으므로 아무것도 하지 않음
@@ -586,7 +606,10 @@ public class TestCaseService {
                 .mapToInt(TestCase::getDisplayOrder)
                 .max()
                 .orElse(0);
-        entity.setDisplayOrder(maxOrder + 1);
+        // 카운터가 뒤처져 있었을 수 있으므로 실제 최대값 너머로 민 뒤 할당기에서 받는다
+        String projectId = entity.getProject().getId();
+        sequenceAllocator.advanceDisplayOrder(projectId, entity.getParentId(), maxOrder);
+        entity.setDisplayOrder(sequenceAllocator.nextDisplayOrder(projectId, entity.getParentId()));
         log.info(
             "displayOrder 자동 재할당: {} -> {}",
             testCaseDto.getDisplayOrder(),
@@ -597,6 +620,13 @@ public class TestCaseService {
         throw e; // 다른 예외는 그대로 던짐
       }
     }
+    if (!parentChanged && testCaseDto.getDisplayOrder() != null) {
+      // 요청이 정한 순서를 그대로 썼으므로 다음 생성이 같은 값을 받지 않게 한다
+      sequenceAllocator.advanceDisplayOrder(
+          updatedEntity.getProject().getId(),
+          updatedEntity.getParentId(),
+          updatedEntity.getDisplayOrder());
+    }
 
     // 저장 후 수정자 정보 확인 로그
     log.info(
@@ -789,9 +819,6 @@ public class TestCaseService {
     // Import폴더 자동 생성 또는 재사용 (공통 메서드 활용)
     String importFolderId = getOrCreateImportFolder(project);
 
-    // parentId별 displayOrder 관리
-    Map<String, Integer> parentMaxOrderMap = new HashMap<>();
-
     for (int i = 0; i < rows.size(); i++) {
       Map<String, String> row = rows.get(i);
       try {
@@ -808,12 +835,7 @@ public class TestCaseService {
         }
 
         // displayOrder 계산
-        if (!parentMaxOrderMap.containsKey(parentId)) {
-          Integer maxOrder = testCaseRepository.findMaxDisplayOrderByParentId(parentId);
-          parentMaxOrderMap.put(parentId, maxOrder == null ? 0 : maxOrder);
-        }
-        int nextOrder = parentMaxOrderMap.get(parentId) + 1;
-        parentMaxOrderMap.put(parentId, nextOrder);
+        int nextOrder = sequenceAllocator.nextDisplayOrder(projectId, parentId);
 
         // buildTestCase에서 parentId를 지정
         TestCase tc = buildTestCase(row, project, config);
@@ -881,8 +903,9 @@ public class TestCaseService {
         tc.setUpdatedAt(LocalDateTime.now());
         // displayOrder 자동 할당 (null일 때만)
         if (tc.getDisplayOrder() == null) {
-          Integer maxOrder = testCaseRepository.findMaxDisplayOrderByParentId(tc.getParentId());
-          tc.setDisplayOrder(maxOrder == null ? 1 : maxOrder + 1);
+          tc.setDisplayOrder(sequenceAllocator.nextDisplayOrder(projectId, tc.getParentId()));
+        } else {
+          sequenceAllocator.advanceDisplayOrder(projectId, tc.getParentId(), tc.getDisplayOrder());
         }
         // DB에 이미 동일 parentId/displayOrder가 있으면 에러로 처리
         Optional<TestCase> orderDup =
@@ -989,7 +1012,6 @@ public class TestCaseService {
     // Import 폴더 처리 (기존 import와 동일)
     String importFolderId = getOrCreateImportFolder(project);
 
-    Map<String, Integer> parentMaxOrderMap = new HashMap<>();
     List<TestCase> preparedTestCases = new ArrayList<>();
     for (int i = 0; i < rows.size(); i++) {
       Map<String, String> row = rows.get(i);
@@ -997,12 +1019,7 @@ public class TestCaseService {
         String parentId = row.getOrDefault("parentId", null);
         if (parentId == null || parentId.isEmpty()) parentId = importFolderId;
 
-        if (!parentMaxOrderMap.containsKey(parentId)) {
-          Integer maxOrder = testCaseRepository.findMaxDisplayOrderByParentId(parentId);
-          parentMaxOrderMap.put(parentId, maxOrder == null ? 0 : maxOrder);
-        }
-        int nextOrder = parentMaxOrderMap.get(parentId) + 1;
-        parentMaxOrderMap.put(parentId, nextOrder);
+        int nextOrder = sequenceAllocator.nextDisplayOrder(project.getId(), parentId);
 
         // 1. DisplayID 기반 기존 데이터 조회 (중복 방지 및 업데이트)
         String displayIdValue = null;
@@ -1100,6 +1117,22 @@ public class TestCaseService {
     return savedTestCases;
   }
 
+  /** displayOrder 를 할당기 밖에서 정해 저장한 항목들의 부모별 최대값 너머로 카운터를 민다. */
+  private void advanceDisplayOrders(List<TestCase> written) {
+    Map<List<String>, Integer> maxByParent = new HashMap<>();
+    for (TestCase tc : written) {
+      if (tc.getProject() == null || tc.getDisplayOrder() == null) {
+        continue;
+      }
+      maxByParent.merge(
+          Arrays.asList(tc.getProject().getId(), tc.getParentId()),
+          tc.getDisplayOrder(),
+          Math::max);
+    }
+    maxByParent.forEach(
+        (parent, max) -> sequenceAllocator.advanceDisplayOrder(parent.get(0), parent.get(1), max));
+  }
+
   /** Import 또는 미할당 테스트케이스 보관용 폴더를 조회하거나 새로 생성합니다. */
   private String getOrCreateImportFolder(Project project) {
     String projectId = project.getId();
@@ -1117,7 +1150,7 @@ public class TestCaseService {
       importFolder.setProject(project);
       importFolder.setCreatedAt(LocalDateTime.now());
       importFolder.setUpdatedAt(LocalDateTime.now());
-      importFolder.setDisplayOrder(1);
+      importFolder.setDisplayOrder(sequenceAllocator.nextDisplayOrder(projectId, null));
       importFolder.setDescription("시스템 자동 생성 폴더 (Import 및 미할당 항목)");
       importFolder = testCaseRepository.save(importFolder);
       return importFolder.getId();
@@ -1441,12 +1474,10 @@ public class TestCaseService {
     try {
       // 1단계: DTO를 Entity로 변환 (유효성 검사 포함)
       List<TestCase> testCaseEntities = new ArrayList<>();
+      // 요청이 displayOrder 를 정해 온 항목 — 저장 뒤 부모별 카운터를 그 값 너머로 민다
+      List<TestCase> explicitOrders = new ArrayList<>();
       Map<Integer, com.testcase.testcasemanagement.dto.TestCaseDto> indexToDtoMap = new HashMap<>();
 
-      // ICT-373 수정: 배치 내에서 sequentialId 및 displayOrder 추적 (프로젝트/부모별)
-      Map<String, Integer> projectMaxSeqIdMap = new HashMap<>();
-      Map<String, Integer> parentMaxOrderMap = new HashMap<>();
-
       for (int i = 0; i < testCaseDtos.size(); i++) {
         com.testcase.testcasemanagement.dto.TestCaseDto dto = testCaseDtos.get(i);
         try {
@@ -1544,24 +1575,10 @@ public class TestCaseService {
                 currentUser,
                 currentUser);
 
-            // ICT-373 수정: 순차 ID 자동 생성 (배치 내에서 증가 추적)
+            // ICT-373 수정: 순차 ID 자동 생성 (할당기가 배치·동시 생성 간 유일성을 보장)
             if (entity.getSequentialId() == null) {
               String projectId = entity.getProject().getId();
-
-              // 프로젝트별로 최대 sequentialId 캐싱 (첫 번째 조회만 DB 접근)
-              if (!projectMaxSeqIdMap.containsKey(projectId)) {
-                Integer maxSequentialId =
-                    testCaseRepository.findMaxSequentialIdByProjectId(projectId);
-                projectMaxSeqIdMap.put(projectId, maxSequentialId == null ? 0 : maxSequentialId);
-                log.info(
-                    "배치 저장 - 프로젝트 {}의 현재 최대 순차 ID: {}",
-                    projectId,
-                    projectMaxSeqIdMap.get(projectId));
-              }
-
-              // 배치 내에서 순차적으로 증가
-              Integer newSeqId = projectMaxSeqIdMap.get(projectId) + 1;
-              projectMaxSeqIdMap.put(projectId, newSeqId);
+              Integer newSeqId = sequenceAllocator.nextSequentialId(projectId);
               entity.setSequentialId(newSeqId);
 
               log.info(
@@ -1585,14 +1602,8 @@ public class TestCaseService {
             if (entity.getDisplayOrder() == null) {
               String parentId = entity.getParentId();
               String parentKey = (parentId == null) ? "root" : parentId;
-
-              if (!parentMaxOrderMap.containsKey(parentKey)) {
-                Integer maxOrder = testCaseRepository.findMaxDisplayOrderByParentId(parentId);
-                parentMaxOrderMap.put(parentKey, maxOrder == null ? 0 : maxOrder);
-              }
-
-              Integer newOrder = parentMaxOrderMap.get(parentKey) + 1;
-              parentMaxOrderMap.put(parentKey, newOrder);
+              String projectId = entity.getProject() == null ? null : entity.getProject().getId();
+              Integer newOrder = sequenceAllocator.nextDisplayOrder(projectId, parentId);
               entity.setDisplayOrder(newOrder);
 
               log.info("배치 저장 - 새 테스트케이스에 순서 할당: {} (부모: {})", newOrder, parentKey);
@@ -1603,6 +1614,9 @@ public class TestCaseService {
           entity.setUpdatedAt(java.time.LocalDateTime.now());
           testCaseEntities.add(entity);
           indexToDtoMap.put(i, dto);
+          if (dto.getDisplayOrder() != null) {
+            explicitOrders.add(entity);
+          }
 
         } catch (Exception e) {
           log.error(
@@ -1626,6 +1640,7 @@ public class TestCaseService {
       if (!testCaseEntities.isEmpty()) {
         List<TestCase> savedEntities = testCaseRepository.saveAll(testCaseEntities);
         testCaseRepository.flush(); // 즉시 DB에 반영
+        advanceDisplayOrders(explicitOrders);
 
         // 저장된 엔티티를 DTO로 변환 및 RAG 벡터화
         for (int i = 0; i < savedEntities.size(); i++) {
@@ -2078,8 +2093,6 @@ public class TestCaseService {
     "isAutomated",
     "tags"
   };
-  private static final Set<String> VALID_TYPES = Set.of("testcase", "folder");
-  private static final Set<String> VALID_PRIORITIES = Set.of("HIGH", "MEDIUM", "LOW");
 
   /** 샘플 CSV 바이트 생성 (BOM 포함 UTF-8) */
   public byte[] generateSampleCsv() throws IOException {
@@ -2261,87 +2274,63 @@ public class TestCaseService {
   // -------- 표준 형식 CSV Import --------
 
   @Transactional
-  public List<TestCase> importFromStandardCsv(InputStream is, String projectId) {
+  public TestCaseStandardImporter.ImportResult importFromStandardCsv(
+      InputStream is, String projectId) {
     Project project =
         projectRepository
             .findById(projectId)
             .orElseThrow(() -> new IllegalArgumentException("Invalid project ID: " + projectId));
-    List<Map<String, String>> rows = parseStandardCsv(is);
-    return processStandardRows(rows, project);
-  }
-
-  private List<Map<String, String>> parseStandardCsv(InputStream is) {
-    List<Map<String, String>> rows = new ArrayList<>();
-    try (CSVReader reader = new CSVReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-      String[] headers = reader.readNext();
-      if (headers == null) return rows;
-      // BOM 제거
-      if (headers.length > 0 && headers[0].startsWith("\uFEFF")) {
-        headers[0] = headers[0].substring(1);
-      }
-      String[] values;
-      while ((values = reader.readNext()) != null) {
-        Map<String, String> row = new LinkedHashMap<>();
-        for (int i = 0; i < headers.length; i++) {
-          row.put(headers[i].trim(), i < values.length ? values[i] : "");
-        }
-        rows.add(row);
-      }
-    } catch (Exception e) {
-      throw new CsvImportException(
-          "CSV 파싱 오류: " + e.getMessage(),
-          Collections.singletonList(Map.of("error", e.getMessage())));
-    }
-    return rows;
+    return importSpooled(is, ".csv", "CSV 파싱 오류: ", TestCaseStandardImporter::csvSource, project);
   }
 
   // -------- 표준 형식 Excel Import --------
 
   @Transactional
-  public List<TestCase> importFromStandardExcel(InputStream is, String projectId) {
+  public TestCaseStandardImporter.ImportResult importFromStandardExcel(
+      InputStream is, String projectId) {
     Project project =
         projectRepository
             .findById(projectId)
             .orElseThrow(() -> new IllegalArgumentException("Invalid project ID: " + projectId));
-    // 기존 parseExcel 재사용 (빈 CsvMappingConfig 사용)
-    CsvMappingConfig dummyConfig = new CsvMappingConfig();
-    List<Map<String, String>> rows = parseExcelRaw(is);
-    return processStandardRows(rows, project);
+    return importSpooled(
+        is, ".xlsx", "Excel 파싱 오류: ", TestCaseStandardImporter::xlsxSource, project);
   }
 
-  /** Excel → List<Map<header,value>> (CsvMappingConfig 없이 raw 파싱) */
-  private List<Map<String, String>> parseExcelRaw(InputStream is) {
-    List<Map<String, String>> rows = new ArrayList<>();
-    try (Workbook workbook = new XSSFWorkbook(is)) {
-      Sheet sheet = workbook.getSheetAt(0);
-      Iterator<Row> rowIterator = sheet.iterator();
-      if (!rowIterator.hasNext()) return rows;
-      Row headerRow = rowIterator.next();
-      List<String> headers = new ArrayList<>();
-      for (Cell cell : headerRow) {
-        headers.add(getCellValueAsString(cell).trim());
-      }
-      while (rowIterator.hasNext()) {
-        Row row = rowIterator.next();
-        Map<String, String> rowMap = new LinkedHashMap<>();
-        for (int i = 0; i < headers.size(); i++) {
-          Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-          rowMap.put(headers.get(i), getCellValueAsString(cell));
-        }
-        rows.add(rowMap);
-      }
+  /**
+   * 업로드를 임시 파일로 내려 두고 표준 Import 엔진으로 흘려 읽는다. 폴더 → 테스트케이스 두 번 읽어야 하므로 스트림을 그대로 쓰지 않는다.
+   */
+  private TestCaseStandardImporter.ImportResult importSpooled(
+      InputStream is,
+      String suffix,
+      String parseErrorPrefix,
+      Function<File, TestCaseStandardImporter.RowSource> sourceFactory,
+      Project project) {
+    File file = null;
+    try {
+      file = StreamingSheetReader.spoolToTempFile(is, suffix);
+      return standardImporter.importRows(
+          sourceFactory.apply(file), project, () -> getOrCreateImportFolder(project));
+    } catch (CsvImportException e) {
+      throw e;
     } catch (Exception e) {
       throw new CsvImportException(
-          "Excel 파싱 오류: " + e.getMessage(),
-          Collections.singletonList(Map.of("error", e.getMessage())));
+          parseErrorPrefix + e.getMessage(),
+          Collections.singletonList(Map.of("error", String.valueOf(e.getMessage()))));
+    } finally {
+      deleteQuietly(file);
+    }
+  }
+
+  private void deleteQuietly(File file) {
+    if (file != null && !file.delete() && file.exists()) {
+      log.warn("Import 임시 파일 삭제 실패: {}", file);
     }
-    return rows;
   }
 
   // -------- 표준 형식 JSON Import --------
 
   @Transactional
-  public List<TestCase> importFromJson(InputStream is, String projectId) {
+  public TestCaseStandardImporter.ImportResult importFromJson(InputStream is, String projectId) {
     Project project =
         projectRepository
             .findById(projectId)
@@ -2387,7 +2376,10 @@ public class TestCaseService {
         }
         rows.add(row);
       }
-      return processStandardRows(rows, project);
+      return standardImporter.importRows(
+          TestCaseStandardImporter.listSource(rows),
+          project,
+          () -> getOrCreateImportFolder(project));
     } catch (CsvImportException e) {
       throw e;
     } catch (Exception e) {
@@ -2403,168 +2395,31 @@ public class TestCaseService {
     return v.asText();
   }
 
-  // -------- 공통 표준 Import 처리 --------
-
-  @Transactional
-  private List<TestCase> processStandardRows(List<Map<String, String>> rows, Project project) {
-    List<Map<String, Object>> errors = new ArrayList<>();
-    List<TestCase> saved = new ArrayList<>();
-    String projectId = project.getId();
-
-    // 1단계: 프로젝트 내 기존 폴더 목록 조회 (name → id 맵)
-    Map<String, String> folderNameToId = new LinkedHashMap<>();
-    testCaseRepository
-        .findByProjectIdAndType(projectId, "folder")
-        .forEach(f -> folderNameToId.put(f.getName(), f.getId()));
-
-    // 2단계: 파일 내 folder 항목 먼저 처리
-    Map<String, Integer> parentMaxOrderMap = new HashMap<>();
-    for (int i = 0; i < rows.size(); i++) {
-      Map<String, String> row = rows.get(i);
-      String type = row.getOrDefault("type", "testcase").trim().toLowerCase();
-      if (!"folder".equals(type)) continue;
-      try {
-        String name = row.getOrDefault("name", "").trim();
-        if (name.isEmpty()) {
-          errors.add(Map.of("row", i + 2, "message", "폴더명이 비어있습니다"));
-          continue;
-        }
-        if (folderNameToId.containsKey(name)) continue; // 이미 존재
-
-        TestCase folder = new TestCase();
-        folder.setProject(project);
-        folder.setName(name);
-        folder.setType("folder");
-        folder.setDescription(row.getOrDefault("description", ""));
-        folder.setCreatedAt(LocalDateTime.now());
-        folder.setUpdatedAt(LocalDateTime.now());
-        // displayOrder
-        String parentPath = row.getOrDefault("parentPath", "").trim();
-        String parentFolderId = parentPath.isEmpty() ? null : folderNameToId.get(parentPath);
-        folder.setParentId(parentFolderId);
-        int nextOrder = getNextDisplayOrder(parentFolderId, parentMaxOrderMap);
-        folder.setDisplayOrder(nextOrder);
-        folder = testCaseRepository.save(folder);
-        folderNameToId.put(name, folder.getId());
-        saved.add(folder);
-      } catch (Exception e) {
-        errors.add(Map.of("row", i + 2, "message", "폴더 생성 실패: " + e.getMessage()));
-      }
-    }
-
-    // 3단계: testcase 항목 처리
-    String importFolderId = null; // 지연 초기화 (실제로 필요할 때만 생성)
-    for (int i = 0; i < rows.size(); i++) {
-      Map<String, String> row = rows.get(i);
-      String type = row.getOrDefault("type", "testcase").trim().toLowerCase();
-      if ("folder".equals(type)) continue;
-      try {
-        String name = row.getOrDefault("name", "").trim();
-        if (name.isEmpty()) {
-          errors.add(Map.of("row", i + 2, "message", "이름이 비어있습니다"));
-          continue;
-        }
-
-        String parentPath = row.getOrDefault("parentPath", "").trim();
-        String parentId = null;
-        if (!parentPath.isEmpty()) {
-          parentId = folderNameToId.get(parentPath);
-          if (parentId == null) {
-            // 폴더가 없으면 Import 폴더 사용
-            if (importFolderId == null) importFolderId = getOrCreateImportFolder(project);
-            parentId = importFolderId;
-          }
-        }
-
-        TestCase tc = new TestCase();
-        tc.setProject(project);
-        tc.setName(name);
-        tc.setType("testcase");
-        tc.setParentId(parentId);
-        tc.setDescription(row.getOrDefault("description", ""));
-        tc.setPreCondition(row.getOrDefault("preCondition", ""));
-        tc.setPostCondition(row.getOrDefault("postCondition", ""));
-        tc.setExpectedResults(row.getOrDefault("expectedResults", ""));
-
-        String priority = row.getOrDefault("priority", "MEDIUM").trim().toUpperCase();
-        tc.setPriority(VALID_PRIORITIES.contains(priority) ? priority : "MEDIUM");
-        tc.setExecutionType(row.getOrDefault("executionType", "Manual").trim());
-        String isAuto = row.getOrDefault("isAutomated", "false").trim().toLowerCase();
-        tc.setIsAutomated("true".equals(isAuto));
-
-        // tags
-        String tagsRaw = row.getOrDefault("tags", "").trim();
-        if (!tagsRaw.isEmpty()) {
-          tc.setTags(new ArrayList<>(Arrays.asList(tagsRaw.split(";"))));
-        }
-
-        // steps
-        List<TestStep> steps = parseStepsFromRow(row);
-        tc.setSteps(steps);
-
-        tc.setCreatedAt(LocalDateTime.now());
-        tc.setUpdatedAt(LocalDateTime.now());
-        int nextOrder = getNextDisplayOrder(parentId, parentMaxOrderMap);
-        tc.setDisplayOrder(nextOrder);
-
-        testCaseRepository.save(tc);
-        saved.add(tc);
-      } catch (Exception e) {
-        errors.add(Map.of("row", i + 2, "message", "테스트케이스 생성 실패: " + e.getMessage()));
-      }
-    }
-
-    if (!errors.isEmpty()) {
-      throw new CsvImportException("Import 중 오류 발생 (" + errors.size() + "건)", errors);
-    }
-    return saved;
-  }
-
-  private int getNextDisplayOrder(String parentId, Map<String, Integer> parentMaxOrderMap) {
-    String key = parentId == null ? "__root__" : parentId;
-    if (!parentMaxOrderMap.containsKey(key)) {
-      Integer maxOrder = testCaseRepository.findMaxDisplayOrderByParentId(parentId);
-      parentMaxOrderMap.put(key, maxOrder == null ? 0 : maxOrder);
-    }
-    int next = parentMaxOrderMap.get(key) + 1;
-    parentMaxOrderMap.put(key, next);
-    return next;
-  }
-
-  private List<TestStep> parseStepsFromRow(Map<String, String> row) {
-    List<TestStep> steps = new ArrayList<>();
-    for (int sn = 1; sn <= 50; sn++) {
-      String action = row.getOrDefault("step" + sn + "_action", "").trim();
-      String expected = row.getOrDefault("step" + sn + "_expected", "").trim();
-      if (action.isEmpty() && expected.isEmpty()) break;
-      TestStep step = new TestStep();
-      step.setStepNumber(sn);
-      step.setDescription(action);
-      step.setExpectedResult(expected);
-      steps.add(step);
-    }
-    return steps;
-  }
-
   // -------- 사전 검증 --------
 
   public ImportValidationResultDto validateImport(InputStream is, String format, String projectId) {
-    List<Map<String, String>> rows;
+    File file = null;
     try {
+      TestCaseStandardImporter.RowSource source;
       switch (format.toLowerCase()) {
         case "csv":
-          rows = parseStandardCsv(is);
+          file = StreamingSheetReader.spoolToTempFile(is, ".csv");
+          source = TestCaseStandardImporter.csvSource(file);
           break;
         case "excel":
-          rows = parseExcelRaw(is);
+          file = StreamingSheetReader.spoolToTempFile(is, ".xlsx");
+          source = TestCaseStandardImporter.xlsxSource(file);
           break;
         case "json":
-          rows = parseJsonToRowMaps(is);
+          source = TestCaseStandardImporter.listSource(parseJsonToRowMaps(is));
           break;
         default:
           throw new IllegalArgumentException("지원하지 않는 형식: " + format);
       }
-    } catch (CsvImportException e) {
+      return standardImporter.validate(source);
+    } catch (IllegalArgumentException e) {
+      throw e;
+    } catch (Exception e) {
       ImportValidationResultDto result = new ImportValidationResultDto();
       result.setTotalRows(0);
       result.setValidRows(0);
@@ -2574,70 +2429,9 @@ public class TestCaseService {
               new ImportValidationResultDto.ValidationError(0, "file", e.getMessage(), "")));
       result.setPreviewData(Collections.emptyList());
       return result;
+    } finally {
+      deleteQuietly(file);
     }
-
-    List<ImportValidationResultDto.ValidationError> errors = new ArrayList<>();
-    List<ImportValidationResultDto.PreviewRow> preview = new ArrayList<>();
-    int validCount = 0;
-
-    for (int i = 0; i < rows.size(); i++) {
-      Map<String, String> row = rows.get(i);
-      int rowNum = i + 2; // header = 1
-      boolean rowValid = true;
-
-      String name = row.getOrDefault("name", "").trim();
-      String type = row.getOrDefault("type", "testcase").trim().toLowerCase();
-      String priority = row.getOrDefault("priority", "").trim().toUpperCase();
-
-      if (name.isEmpty()) {
-        errors.add(
-            new ImportValidationResultDto.ValidationError(rowNum, "name", "이름은 필수 항목입니다", name));
-        rowValid = false;
-      }
-      if (!type.isEmpty() && !VALID_TYPES.contains(type)) {
-        errors.add(
-            new ImportValidationResultDto.ValidationError(
-                rowNum, "type", "유효하지 않은 타입 (folder 또는 testcase)", type));
-        rowValid = false;
-      }
-      if (!priority.isEmpty() && !VALID_PRIORITIES.contains(priority)) {
-        errors.add(
-            new ImportValidationResultDto.ValidationError(
-                rowNum, "priority", "유효하지 않은 우선순위 (HIGH, MEDIUM, LOW)", priority));
-        rowValid = false;
-      }
-
-      if (rowValid) validCount++;
-
-      if (preview.size() < 20) {
-        ImportValidationResultDto.PreviewRow pr = new ImportValidationResultDto.PreviewRow();
-        pr.setName(name);
-        pr.setType(type.isEmpty() ? "testcase" : type);
-        pr.setParentPath(row.getOrDefault("parentPath", ""));
-        pr.setPriority(row.getOrDefault("priority", ""));
-        pr.setTags(row.getOrDefault("tags", ""));
-        pr.setStepsCount(countStepsInRow(row));
-        pr.setValid(rowValid);
-        preview.add(pr);
-      }
-    }
-
-    ImportValidationResultDto result = new ImportValidationResultDto();
-    result.setTotalRows(rows.size());
-    result.setValidRows(validCount);
-    result.setInvalidRows(rows.size() - validCount);
-    result.setErrors(errors);
-    result.setPreviewData(preview);
-    return result;
-  }
-
-  private int countStepsInRow(Map<String, String> row) {
-    int count = 0;
-    for (int sn = 1; sn <= 50; sn++) {
-      if (!row.getOrDefault("step" + sn + "_action", "").isEmpty()) count++;
-      else break;
-    }
-    return count;
   }
 
   private List<Map<String, String>> parseJsonToRowMaps(InputStream is) {
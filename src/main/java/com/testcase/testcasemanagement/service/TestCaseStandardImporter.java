@@ -0,0 +1,406 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.dto.ImportValidationResultDto;
+import com.testcase.testcasemanagement.model.Project;
+import com.testcase.testcasemanagement.model.TestCase;
+import com.testcase.testcasemanagement.model.TestStep;
+import com.testcase.testcasemanagement.repository.TestCaseRepository;
+import com.testcase.testcasemanagement.service.TestCaseService.CsvImportException;
+import com.testcase.testcasemanagement.util.StreamingSheetReader;
+import com.testcase.testcasemanagement.util.StreamingSheetReader.RowHandler;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 표준 형식(CSV/Excel/JSON) 테스트케이스 Import 엔진
+ *
+ * <p>행을 리스트로 모으지 않고 {@link RowSource} 에서 흘려 받는다. 폴더 행을 먼저 만들어야 테스트케이스 행의 parentPath 를 풀 수 있으므로 원본을
+ * 두 번 읽는다 — 1차는 폴더 생성과 필수값 검사, 2차는 테스트케이스 저장. 2차 저장은 {@code app.import.chunk-size} 건씩 모아
+ * {@code saveAll} → flush → clear 하므로 JDBC 배치로 나가고 영속성 컨텍스트도 청크 크기 이상 커지지 않는다.
+ *
+ * <p>Import 는 전부 아니면 전무다. 1차에서 오류가 있으면 아무것도 저장하지 않고, 2차 저장 중 실패하면 호출한 트랜잭션이 롤백된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestCaseStandardImporter {
+
+  static final Set<String> VALID_TYPES = Set.of("testcase", "folder");
+  static final Set<String> VALID_PRIORITIES = Set.of("HIGH", "MEDIUM", "LOW");
+
+  // 사전 검증 미리보기 행 수
+  private static final int PREVIEW_ROWS = 20;
+
+  private final TestCaseRepository testCaseRepository;
+  private final TestCaseSequenceAllocator sequenceAllocator;
+  private final TestCaseDisplayIdService displayIdService;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Value("${app.import.chunk-size:500}")
+  private int chunkSize;
+
+  // 응답·예외에 담는 오류 수 상한 (전체 건수는 따로 센다)
+  @Value("${app.import.max-reported-errors:1000}")
+  private int maxReportedErrors;
+
+  // 응답에 되돌려 줄 저장 항목 수
+  @Value("${app.import.sample-size:100}")
+  private int sampleSize;
+
+  /** 행 공급원. 여러 번 읽을 수 있어야 한다. */
+  @FunctionalInterface
+  public interface RowSource {
+    void read(RowHandler handler) throws IOException;
+  }
+
+  /**
+   * Import 결과
+   *
+   * @param importedCount 저장한 폴더·테스트케이스 수
+   * @param items 저장한 항목 중 앞쪽 일부 ({@code app.import.sample-size})
+   * @param chunks 테스트케이스 청크별 저장 기록
+   */
+  public record ImportResult(int importedCount, List<TestCase> items, List<ChunkReport> chunks) {}
+
+  /** 청크 하나의 저장 기록. 행 번호는 스프레드시트 기준이다. */
+  public record ChunkReport(int index, int firstRow, int lastRow, int saved, long elapsedMillis) {}
+
+  public static RowSource csvSource(File file) {
+    return handler -> {
+      try (InputStream is = new FileInputStream(file)) {
+        StreamingSheetReader.readCsv(is, handler);
+      }
+    };
+  }
+
+  public static RowSource xlsxSource(File file) {
+    return handler -> StreamingSheetReader.readXlsx(file, handler);
+  }
+
+  /** 이미 메모리에 있는 행 (JSON). 행 번호는 헤더가 있다고 보고 2 부터 매긴다. */
+  public static RowSource listSource(List<Map<String, String>> rows) {
+    return handler -> {
+      for (int i = 0; i < rows.size(); i++) {
+        handler.onRow(i + 2, rows.get(i));
+      }
+    };
+  }
+
+  /**
+   * 행을 읽어 폴더와 테스트케이스를 만든다.
+   *
+   * @param importFolder parentPath 폴더가 없을 때 쓸 Import 폴더 ID (필요할 때만 부른다)
+   * @throws CsvImportException 검사 또는 저장에 실패한 행이 있을 때
+   */
+  public ImportResult importRows(RowSource source, Project project, Supplier<String> importFolder)
+      throws IOException {
+    ErrorCollector errors = new ErrorCollector(maxReportedErrors);
+    List<TestCase> sample = new ArrayList<>();
+    int[] imported = {0};
+
+    // 1차: 프로젝트 내 기존 폴더 목록 조회 (name → id 맵) 후 파일 내 folder 항목 먼저 처리
+    Map<String, String> folderNameToId = new LinkedHashMap<>();
+    testCaseRepository
+        .findByProjectIdAndType(project.getId(), "folder")
+        .forEach(f -> folderNameToId.put(f.getName(), f.getId()));
+    source.read(
+        (rowNumber, row) -> {
+          String name = row.getOrDefault("name", "").trim();
+          if (!isFolder(row)) {
+            if (name.isEmpty()) {
+              errors.add(rowNumber, "이름이 비어있습니다");
+            }
+            return;
+          }
+          if (name.isEmpty()) {
+            errors.add(rowNumber, "폴더명이 비어있습니다");
+            return;
+          }
+          if (folderNameToId.containsKey(name)) return; // 이미 존재
+          try {
+            TestCase folder = new TestCase();
+            folder.setProject(project);
+            folder.setName(name);
+            folder.setType("folder");
+            folder.setDescription(row.getOrDefault("description", ""));
+            folder.setCreatedAt(LocalDateTime.now());
+            folder.setUpdatedAt(LocalDateTime.now());
+            String parentPath = row.getOrDefault("parentPath", "").trim();
+            String parentFolderId = parentPath.isEmpty() ? null : folderNameToId.get(parentPath);
+            folder.setParentId(parentFolderId);
+            folder.setDisplayOrder(
+                sequenceAllocator.nextDisplayOrder(project.getId(), parentFolderId));
+            folder = testCaseRepository.save(folder);
+            folderNameToId.put(name, folder.getId());
+            imported[0]++;
+            addSample(sample, folder);
+          } catch (Exception e) {
+            errors.add(rowNumber, "폴더 생성 실패: " + e.getMessage());
+          }
+        });
+    errors.throwIfAny();
+
+    // 2차: testcase 항목을 청크 단위로 저장
+    ChunkWriter writer = new ChunkWriter(project.getId());
+    String[] importFolderId = {null}; // 지연 초기화 (실제로 필요할 때만 생성)
+    source.read(
+        (rowNumber, row) -> {
+          if (isFolder(row)) return;
+          String parentPath = row.getOrDefault("parentPath", "").trim();
+          String parentId = null;
+          if (!parentPath.isEmpty()) {
+            parentId = folderNameToId.get(parentPath);
+            if (parentId == null) {
+              // 폴더가 없으면 Import 폴더 사용
+              if (importFolderId[0] == null) importFolderId[0] = importFolder.get();
+              parentId = importFolderId[0];
+            }
+          }
+          TestCase tc = buildTestCase(row, project, parentId);
+          addSample(sample, tc);
+          imported[0] += writer.add(rowNumber, tc);
+        });
+    imported[0] += writer.flush();
+
+    return new ImportResult(imported[0], sample, writer.reports);
+  }
+
+  /** 저장하지 않고 한 번 훑어 행별 유효성과 미리보기를 만든다. */
+  public ImportValidationResultDto validate(RowSource source) throws IOException {
+    List<ImportValidationResultDto.ValidationError> errors = new ArrayList<>();
+    List<ImportValidationResultDto.PreviewRow> preview = new ArrayList<>();
+    int[] counts = {0, 0}; // total, valid
+
+    source.read(
+        (rowNumber, row) -> {
+          counts[0]++;
+          List<ImportValidationResultDto.ValidationError> rowErrors = validateRow(rowNumber, row);
+          if (rowErrors.isEmpty()) counts[1]++;
+          for (ImportValidationResultDto.ValidationError error : rowErrors) {
+            if (errors.size() < maxReportedErrors) errors.add(error);
+          }
+
+          if (preview.size() < PREVIEW_ROWS) {
+            String type = row.getOrDefault("type", "testcase").trim().toLowerCase();
+            ImportValidationResultDto.PreviewRow pr = new ImportValidationResultDto.PreviewRow();
+            pr.setName(row.getOrDefault("name", "").trim());
+            pr.setType(type.isEmpty() ? "testcase" : type);
+            pr.setParentPath(row.getOrDefault("parentPath", ""));
+            pr.setPriority(row.getOrDefault("priority", ""));
+            pr.setTags(row.getOrDefault("tags", ""));
+            pr.setStepsCount(countSteps(row));
+            pr.setValid(rowErrors.isEmpty());
+            preview.add(pr);
+          }
+        });
+
+    ImportValidationResultDto result = new ImportValidationResultDto();
+    result.setTotalRows(counts[0]);
+    result.setValidRows(counts[1]);
+    result.setInvalidRows(counts[0] - counts[1]);
+    result.setErrors(errors);
+    result.setPreviewData(preview);
+    return result;
+  }
+
+  /** 사전 검증 규칙: 이름 필수, 타입·우선순위는 비었거나 허용값이어야 한다. */
+  static List<ImportValidationResultDto.ValidationError> validateRow(
+      int rowNumber, Map<String, String> row) {
+    List<ImportValidationResultDto.ValidationError> errors = new ArrayList<>(0);
+    String name = row.getOrDefault("name", "").trim();
+    String type = row.getOrDefault("type", "testcase").trim().toLowerCase();
+    String priority = row.getOrDefault("priority", "").trim().toUpperCase();
+
+    if (name.isEmpty()) {
+      errors.add(
+          new ImportValidationResultDto.ValidationError(rowNumber, "name", "이름은 필수 항목입니다", name));
+    }
+    if (!type.isEmpty() && !VALID_TYPES.contains(type)) {
+      errors.add(
+          new ImportValidationResultDto.ValidationError(
+              rowNumber, "type", "유효하지 않은 타입 (folder 또는 testcase)", type));
+    }
+    if (!priority.isEmpty() && !VALID_PRIORITIES.contains(priority)) {
+      errors.add(
+          new ImportValidationResultDto.ValidationError(
+              rowNumber, "priority", "유효하지 않은 우선순위 (HIGH, MEDIUM, LOW)", priority));
+    }
+    return errors;
+  }
+
+  private static boolean isFolder(Map<String, String> row) {
+    return "folder".equals(row.getOrDefault("type", "testcase").trim().toLowerCase());
+  }
+
+  private static TestCase buildTestCase(Map<String, String> row, Project project, String parentId) {
+    TestCase tc = new TestCase();
+    tc.setProject(project);
+    tc.setName(row.getOrDefault("name", "").trim());
+    tc.setType("testcase");
+    tc.setParentId(parentId);
+    tc.setDescription(row.getOrDefault("description", ""));
+    tc.setPreCondition(row.getOrDefault("preCondition", ""));
+    tc.setPostCondition(row.getOrDefault("postCondition", ""));
+    tc.setExpectedResults(row.getOrDefault("expectedResults", ""));
+
+    String priority = row.getOrDefault("priority", "MEDIUM").trim().toUpperCase();
+    tc.setPriority(VALID_PRIORITIES.contains(priority) ? priority : "MEDIUM");
+    tc.setExecutionType(row.getOrDefault("executionType", "Manual").trim());
+    String isAuto = row.getOrDefault("isAutomated", "false").trim().toLowerCase();
+    tc.setIsAutomated("true".equals(isAuto));
+
+    // tags
+    String tagsRaw = row.getOrDefault("tags", "").trim();
+    if (!tagsRaw.isEmpty()) {
+      tc.setTags(new ArrayList<>(Arrays.asList(tagsRaw.split(";"))));
+    }
+
+    // steps
+    tc.setSteps(parseSteps(row));
+
+    tc.setCreatedAt(LocalDateTime.now());
+    tc.setUpdatedAt(LocalDateTime.now());
+    return tc;
+  }
+
+  private static List<TestStep> parseSteps(Map<String, String> row) {
+    List<TestStep> steps = new ArrayList<>();
+    for (int sn = 1; sn <= 50; sn++) {
+      String action = row.getOrDefault("step" + sn + "_action", "").trim();
+      String expected = row.getOrDefault("step" + sn + "_expected", "").trim();
+      if (action.isEmpty() && expected.isEmpty()) break;
+      TestStep step = new TestStep();
+      step.setStepNumber(sn);
+      step.setDescription(action);
+      step.setExpectedResult(expected);
+      steps.add(step);
+    }
+    return steps;
+  }
+
+  private static int countSteps(Map<String, String> row) {
+    int count = 0;
+    for (int sn = 1; sn <= 50; sn++) {
+      if (!row.getOrDefault("step" + sn + "_action", "").isEmpty()) count++;
+      else break;
+    }
+    return count;
+  }
+
+  private void addSample(List<TestCase> sample, TestCase tc) {
+    if (sample.size() < sampleSize) sample.add(tc);
+  }
+
+  /**
+   * 테스트케이스를 모아 청크 단위로 저장한다. 순차 ID 와 부모별 displayOrder 는 청크마다 연속 구간으로 한 번에 빌려 파일 순서대로 나눠 준다.
+   */
+  private class ChunkWriter {
+    private final String projectId;
+    private final List<TestCase> pending = new ArrayList<>();
+    private final List<ChunkReport> reports = new ArrayList<>();
+    private int firstRow;
+    private int lastRow;
+
+    ChunkWriter(String projectId) {
+      this.projectId = projectId;
+    }
+
+    /** 쌓고, 청크가 차면 저장한다. 이번에 저장한 건수를 돌려준다. */
+    int add(int rowNumber, TestCase tc) {
+      if (pending.isEmpty()) firstRow = rowNumber;
+      lastRow = rowNumber;
+      pending.add(tc);
+      return pending.size() >= Math.max(chunkSize, 1) ? flush() : 0;
+    }
+
+    int flush() {
+      if (pending.isEmpty()) return 0;
+      long started = System.currentTimeMillis();
+      int saved = pending.size();
+      try {
+        assignNumbers();
+        testCaseRepository.saveAll(pending);
+        entityManager.flush();
+      } catch (Exception e) {
+        // 세션이 더 쓸 수 없는 상태가 되므로 여기서 멈춘다 (트랜잭션은 롤백된다)
+        throw new CsvImportException(
+            "Import 중 오류 발생 (" + firstRow + "~" + lastRow + "행 저장 실패)",
+            List.of(Map.of("row", firstRow, "message", "테스트케이스 저장 실패: " + e.getMessage())));
+      }
+      // 저장한 엔티티를 영속성 컨텍스트에서 떼어 메모리를 청크 크기로 묶는다
+      entityManager.clear();
+      ChunkReport report =
+          new ChunkReport(
+              reports.size() + 1, firstRow, lastRow, saved, System.currentTimeMillis() - started);
+      reports.add(report);
+      log.info(
+          "테스트케이스 Import 청크 {} 저장: {}~{}행, {}건, {}ms",
+          report.index(),
+          report.firstRow(),
+          report.lastRow(),
+          report.saved(),
+          report.elapsedMillis());
+      pending.clear();
+      return saved;
+    }
+
+    private void assignNumbers() {
+      int sequentialId = sequenceAllocator.reserveSequentialIds(projectId, pending.size());
+      Map<String, List<TestCase>> byParent = new LinkedHashMap<>();
+      for (TestCase tc : pending) {
+        tc.setSequentialId(sequentialId++);
+        tc.setDisplayId(displayIdService.generateDisplayId(tc));
+        byParent.computeIfAbsent(tc.getParentId(), k -> new ArrayList<>()).add(tc);
+      }
+      byParent.forEach(
+          (parentId, children) -> {
+            int order =
+                sequenceAllocator.reserveDisplayOrders(projectId, parentId, children.size());
+            for (TestCase tc : children) {
+              tc.setDisplayOrder(order++);
+            }
+          });
+    }
+  }
+
+  /** 오류를 상한까지만 담고 전체 건수는 센다. */
+  private static class ErrorCollector {
+    private final int limit;
+    private final List<Map<String, Object>> errors = new ArrayList<>();
+    private int total;
+
+    ErrorCollector(int limit) {
+      this.limit = limit;
+    }
+
+    void add(int rowNumber, String message) {
+      total++;
+      if (errors.size() < limit) {
+        errors.add(Map.of("row", rowNumber, "message", message));
+      }
+    }
+
+    void throwIfAny() {
+      if (total > 0) {
+        throw new CsvImportException("Import 중 오류 발생 (" + total + "건)", errors);
+      }
+    }
+  }
+}
@@ -37,16 +37,19 @@ public class TestCaseTreeMoveService {
   private final TestCaseMoveAuditLogRepository auditLogRepository;
   private final ProjectSecurityService projectSecurityService;
   private final SecurityContextUtil securityContextUtil;
+  private final TestCaseSequenceAllocator sequenceAllocator;
 
   public TestCaseTreeMoveService(
       TestCaseRepository testCaseRepository,
       TestCaseMoveAuditLogRepository auditLogRepository,
       ProjectSecurityService projectSecurityService,
-      SecurityContextUtil securityContextUtil) {
+      SecurityContextUtil securityContextUtil,
+      TestCaseSequenceAllocator sequenceAllocator) {
     this.testCaseRepository = testCaseRepository;
     this.auditLogRepository = auditLogRepository;
     this.projectSecurityService = projectSecurityService;
     this.securityContextUtil = securityContextUtil;
+    this.sequenceAllocator = sequenceAllocator;
   }
 
   // ============================ Public API ============================
@@ -168,6 +171,7 @@ public class TestCaseTreeMoveService {
       siblings.get(i).setDisplayOrder(i + 1);
     }
     testCaseRepository.saveAll(siblings);
+    sequenceAllocator.advanceDisplayOrder(projectId, targetParentId, siblings.size());
 
     // 옛 부모들 정규화 (새 부모와 다른 경우만)
     for (String op : oldParents) {
@@ -251,6 +255,9 @@ public class TestCaseTreeMoveService {
       siblings.get(i).setDisplayOrder(i + 1);
     }
     testCaseRepository.saveAll(siblings);
+    // 1..N 을 직접 썼으므로 다음 생성이 N 이하를 받지 않게 카운터를 민다
+    sequenceAllocator.advanceDisplayOrder(
+        node.getProject().getId(), targetParentId, siblings.size());
     return node.getDisplayOrder();
   }
 
@@ -285,7 +292,10 @@ public class TestCaseTreeMoveService {
       }
       n++;
     }
-    if (changed) testCaseRepository.saveAll(toSave);
+    if (changed) {
+      testCaseRepository.saveAll(toSave);
+      sequenceAllocator.advanceDisplayOrder(projectId, parentId, n - 1);
+    }
   }
 
   private TestCase resolveAndValidateTargetParent(TestCase movingNode, String targetParentId) {
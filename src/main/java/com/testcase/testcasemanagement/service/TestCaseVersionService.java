@@ -33,6 +33,7 @@ public class TestCaseVersionService {
   private final TestCaseVersionRepository versionRepository;
   private final TestCaseRepository testCaseRepository;
   private final ObjectMapper objectMapper;
+  private final TestCaseSequenceAllocator sequenceAllocator;
 
   // ============ 버전 생성 관련 메소드들 ============
 
@@ -170,6 +171,11 @@ public class TestCaseVersionService {
     // 실제 테스트케이스 데이터도 복원된 버전으로 업데이트
     updateTestCaseFromVersion(testCase, targetVersion);
     testCaseRepository.save(testCase);
+    // 옛 displayOrder 를 그대로 되살렸으므로 다음 생성이 같은 값을 받지 않게 카운터를 민다
+    if (testCase.getDisplayOrder() != null && testCase.getProject() != null) {
+      sequenceAllocator.advanceDisplayOrder(
+          testCase.getProject().getId(), testCase.getParentId(), testCase.getDisplayOrder());
+    }
 
     // 복원 이력 생성
     createVersionFromTestCase(
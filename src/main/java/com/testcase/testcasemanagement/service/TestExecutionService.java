@@ -22,6 +22,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 public class TestExecutionService {
@@ -47,6 +48,7 @@ public class TestExecutionService {
   // 인라인 이미지 사용 표시 전용. 결과·실행을 지울 때 첨부를 함께 지우지는 않는다.
   private final TestCaseFileStorageService fileStorageService;
   private final ProjectSecurityService projectSecurityService;
+  private final LiveUpdateHub liveUpdateHub;
 
   @Autowired
   public TestExecutionService(
@@ -58,7 +60,8 @@ public class TestExecutionService {
       JiraIntegrationService jiraIntegrationService,
       TestCaseRepository testCaseRepository,
       TestCaseFileStorageService fileStorageService,
-      ProjectSecurityService projectSecurityService) {
+      ProjectSecurityService projectSecurityService,
+      LiveUpdateHub liveUpdateHub) {
     this.testExecutionRepository = testExecutionRepository;
     this.testResultRepository = testResultRepository;
     this.testPlanRepository = testPlanRepository;
@@ -68,6 +71,7 @@ public class TestExecutionService {
     this.testCaseRepository = testCaseRepository;
     this.fileStorageService = fileStorageService;
     this.projectSecurityService = projectSecurityService;
+    this.liveUpdateHub = liveUpdateHub;
   }
 
   /**
@@ -166,6 +170,25 @@ public class TestExecutionService {
     return result;
   }
 
+  /**
+   * 실행 화면 실시간 구독 (SSE). 연결 직후 현재 상태를 {@code execution} 이벤트로 보내고, 이후 결과가 기록될 때마다 {@code result}
+   * 이벤트(케이스별)를 보낸다.
+   */
+  @Transactional(readOnly = true)
+  public SseEmitter subscribeLiveUpdates(String id) {
+    TestExecution entity =
+        testExecutionRepository
+            .findById(id)
+            .orElseThrow(() -> new NoSuchElementException("TestExecution not found"));
+    if (!projectSecurityService.canAccessProject(entity.getProject().getId())) {
+      throw new AccessDeniedException("프로젝트 접근 권한이 없습니다: " + entity.getProject().getId());
+    }
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("executionId", entity.getId());
+    snapshot.put("status", entity.getStatus());
+    return liveUpdateHub.subscribe("execution:" + id, "execution", snapshot);
+  }
+
   @Transactional
   public TestExecutionDto updateTestExecution(String id, TestExecutionDto dto) {
     TestExecution entity =
@@ -245,6 +268,7 @@ public class TestExecutionService {
     entity.setStartDate(LocalDateTime.now());
     entity.setUpdatedAt(LocalDateTime.now());
     TestExecution saved = testExecutionRepository.save(entity);
+    publishExecutionChanged(saved, List.of(), false);
     return toDto(saved);
   }
 
@@ -264,6 +288,7 @@ public class TestExecutionService {
     entity.setEndDate(LocalDateTime.now());
     entity.setUpdatedAt(LocalDateTime.now());
     TestExecution saved = testExecutionRepository.save(entity);
+    publishExecutionChanged(saved, List.of(), false);
     return toDto(saved);
   }
 
@@ -288,6 +313,7 @@ public class TestExecutionService {
     entity.setEndDate(null); // Clear the end date since we're restarting
     entity.setUpdatedAt(LocalDateTime.now());
     TestExecution saved = testExecutionRepository.save(entity);
+    publishExecutionChanged(saved, List.of(), false);
     return toDto(saved);
   }
 
@@ -386,6 +412,7 @@ public class TestExecutionService {
 
     // ICT-InlineImage: 노트에 붙여넣은 이미지를 사용 중으로 표시 (미사용 정리로 지워지는 것 방지)
     markInlineImagesAsUsed(r.getNotes());
+    publishExecutionChanged(saved, List.of(r), false);
 
     // 저장 후 다시 조회하여 tags를 포함한 모든 데이터를 가져옴
     TestExecution reloaded =
@@ -476,6 +503,7 @@ public class TestExecutionService {
       throw new IllegalArgumentException("결과를 입력할 테스트케이스 ID 또는 DisplayID가 없습니다.");
     }
 
+    List<TestResult> added = new ArrayList<>(finalTestCaseIds.size());
     for (String testCaseId : finalTestCaseIds) {
       TestResult r = new TestResult();
       r.setTestExecution(entity);
@@ -489,6 +517,7 @@ public class TestExecutionService {
       r.setExecutedBy(currentUser);
 
       results.add(r);
+      added.add(r);
     }
 
     entity.setResults(results);
@@ -497,6 +526,7 @@ public class TestExecutionService {
 
     // ICT-InlineImage: 케이스가 여럿이어도 같은 노트를 공유하므로 이미지 표시는 한 번만
     markInlineImagesAsUsed(bulkDto.getNotes());
+    publishExecutionChanged(saved, added, false);
 
     // 저장 후 다시 조회
     TestExecution reloaded =
@@ -505,6 +535,47 @@ public class TestExecutionService {
     return toDto(reloaded);
   }
 
+  /**
+   * 실행 화면({@code execution:<id>})과 프로젝트 화면({@code project:<id>}) 구독자에게 커밋 뒤 알린다. 결과 이벤트는 케이스마다
+   * 마지막 것만 남으므로 일괄 입력도 받는 쪽에는 케이스 수만큼만 간다. 본문은 다시 읽을 대상만 담는다.
+   */
+  private void publishExecutionChanged(
+      TestExecution execution, List<TestResult> changed, boolean removed) {
+    String executionId = execution.getId();
+    String projectId = execution.getProject() != null ? execution.getProject().getId() : null;
+    String status = execution.getStatus();
+    List<String[]> results =
+        changed.stream()
+            .map(
+                r ->
+                    new String[] {
+                      r.getTestCaseId(),
+                      removed ? null : r.getResult(),
+                      r.getExecutedAt() != null ? r.getExecutedAt().toString() : null
+                    })
+            .toList();
+    liveUpdateHub.afterCommit(
+        () -> {
+          String topic = "execution:" + executionId;
+          for (String[] result : results) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("executionId", executionId);
+            data.put("testCaseId", result[0]);
+            data.put("result", result[1]);
+            data.put("executedAt", result[2]);
+            data.put("removed", removed);
+            liveUpdateHub.publish(topic, "result", result[0], data);
+          }
+          Map<String, Object> summary = new LinkedHashMap<>();
+          summary.put("executionId", executionId);
+          summary.put("status", status);
+          liveUpdateHub.publish(topic, "execution", executionId, summary);
+          if (projectId != null) {
+            liveUpdateHub.publish("project:" + projectId, "execution", executionId, summary);
+          }
+        });
+  }
+
   // Entity <-> DTO 변환 메서드 (기본값: 결과 상세 포함)
   private TestExecutionDto toDto(TestExecution entity) {
     return toDto(entity, true);
@@ -931,6 +1002,9 @@ public class TestExecutionService {
 
     // ICT-InlineImage: 수정하면서 새로 넣은 이미지도 사용 중으로 표시
     markInlineImagesAsUsed(updatedResult.getNotes());
+    if (updatedResult.getTestExecution() != null) {
+      publishExecutionChanged(updatedResult.getTestExecution(), List.of(updatedResult), false);
+    }
 
     // 7. DTO로 변환하여 반환
     TestResultDto responseDto = new TestResultDto();
@@ -999,6 +1073,9 @@ public class TestExecutionService {
     // 4. 삭제. 노트에 붙여넣은 이미지는 함께 지우지 않는다 — 같은 이미지를 다른 결과가
     // 참조할 수 있고, 여기서 지우면 그쪽 화면의 이미지가 조용히 사라진다.
     testResultRepository.delete(existingResult);
+    if (existingResult.getTestExecution() != null) {
+      publishExecutionChanged(existingResult.getTestExecution(), List.of(existingResult), true);
+    }
 
     System.out.println("🗑️ 테스트 결과 삭제 완료: " + resultId + " by " + currentUsername);
   }
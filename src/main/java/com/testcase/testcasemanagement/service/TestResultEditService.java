@@ -35,6 +35,7 @@ public class TestResultEditService {
   private final TestResultRepository testResultRepository;
   private final UserRepository userRepository;
   private final ObjectMapper objectMapper;
+  private final TestResultLatestProjection latestProjection;
 
   /** 새로운 편집본 생성 */
   public TestResultEditDto createEdit(
@@ -200,6 +201,8 @@ public class TestResultEditService {
       edit.activate();
       edit.setApprovedBy(applier);
       edit = editRepository.save(edit);
+      // 리포트의 현재 판정은 적용된 편집본을 따른다
+      latestProjection.markDirty(edit.getOriginalTestResult(), false);
 
       // 적용 결과 생성
       List<TestResultEditDto.EditComparisonDto> appliedChanges = generateComparisonChanges(edit);
@@ -244,6 +247,7 @@ public class TestResultEditService {
 
     edit.revert();
     edit = editRepository.save(edit);
+    latestProjection.markDirty(edit.getOriginalTestResult(), false);
 
     log.info("Edit reverted successfully: {}", edit.getId());
     return convertToDto(edit);
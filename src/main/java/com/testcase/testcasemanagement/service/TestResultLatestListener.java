@@ -0,0 +1,54 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.model.TestResult;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TestResult} 변경을 {@link TestResultLatestProjection} 에 알리는 Hibernate 이벤트 리스너
+ *
+ * <p>결과를 저장하는 경로가 실행 화면, JUnit 업로드, JIRA 동기화, 프로젝트 간 복사 등 여럿이라 서비스마다 호출을 넣으면 언젠가 빠진다. 엔티티
+ * 이벤트에서 한 번에 잡는다. 등록은 {@link ProjectChangeListener} 와 같이 {@code HibernateEventListenerConfig} 가 한다.
+ */
+@Component
+public class TestResultLatestListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private final TestResultLatestProjection projection;
+
+  public TestResultLatestListener(TestResultLatestProjection projection) {
+    this.projection = projection;
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    publish(event.getEntity(), false);
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    publish(event.getEntity(), false);
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    publish(event.getEntity(), true);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private void publish(Object entity, boolean removed) {
+    if (entity instanceof TestResult result) {
+      projection.markDirty(result, removed);
+    }
+  }
+}
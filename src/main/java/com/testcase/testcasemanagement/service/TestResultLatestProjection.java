@@ -0,0 +1,488 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.model.TestExecution;
+import com.testcase.testcasemanagement.model.TestResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (플랜, 테스트케이스)별 최신 결과 투영({@code test_result_latest}) 관리자
+ *
+ * <p>결과가 바뀐 조합을 트랜잭션 동안 모아 두었다가, 커밋 직전(Hibernate 플러시 뒤, 같은 JDBC 트랜잭션 안) 조합마다 원본에서 한 문장으로 다시
+ * 계산한다. 증분으로 더하고 빼지 않고 조합 단위로 다시 세는 이유는 수정·삭제·편집본 적용이 섞여도 틀어질 여지가 없어서다. 한 조합의 재계산은 {@code
+ * (test_case_id, executed_at)} 인덱스로 그 케이스의 결과만 읽는다. JUnit 대량 업로드처럼 한 트랜잭션에 조합이 많으면 JDBC 배치 하나로 보낸다.
+ *
+ * <p>결과 엔티티 변경은 {@link TestResultLatestListener} 가 Hibernate 이벤트로 알려 준다. 엔티티를 거치지 않는 경로(편집본 적용,
+ * 프로젝트 일괄 삭제)는 해당 서비스가 직접 호출한다. 플랜에 속하지 않은 실행의 결과는 투영하지 않는다 — 리포트는 플랜 필터가 있을 때만 이 표를
+ * 쓴다.
+ *
+ * <p>재계산 전에 조합마다 트랜잭션 범위 advisory 잠금({@link #LOCK_KEYS_SQL})을 잡는다. 없으면 같은 조합에 결과를 쓰는 두 트랜잭션이 각자의
+ * 스냅숏으로 다시 세어, 나중에 커밋한 쪽이 상대 결과를 빠뜨린 최신 결과·수행 횟수로 행을 덮는다. 잠금을 얻은 뒤의 upsert 는 READ COMMITTED
+ * 에서 새 스냅숏을 받으므로 먼저 커밋한 쪽의 결과까지 센다.
+ *
+ * <p>SQL 은 PostgreSQL 전용이다({@code DISTINCT ON}, {@code ON CONFLICT}).
+ */
+@Slf4j
+@Component
+public class TestResultLatestProjection {
+
+  /**
+   * 원본 결과에서 조합별 승자(최신 수행), 수행 횟수, JIRA 가 붙은 최신 결과를 골라 upsert 한다. {@code %s} 자리에 범위 조건이 들어간다.
+   * 판정은 적용된 편집본이 있으면 편집된 값을 쓴다.
+   */
+  private static final String UPSERT_SQL_TEMPLATE =
+      "WITH src AS ("
+          + " SELECT te.test_plan_id, tr.test_case_id, te.project_id, tr.id AS result_id,"
+          + " COALESCE((SELECT ed.edited_result FROM test_result_edits ed"
+          + " WHERE ed.original_test_result_id = tr.id AND ed.is_active = true"
+          + " AND ed.edited_result IS NOT NULL LIMIT 1), tr.result) AS result,"
+          + " tr.executed_at,"
+          + " (tr.jira_issue_key IS NOT NULL AND BTRIM(tr.jira_issue_key) <> '') AS has_jira"
+          + " FROM test_results tr JOIN test_executions te ON te.id = tr.test_execution_id"
+          + " WHERE te.test_plan_id IS NOT NULL AND tr.test_case_id IS NOT NULL"
+          + " AND tr.executed_at IS NOT NULL%s)"
+          + " INSERT INTO test_result_latest (test_plan_id, test_case_id, project_id,"
+          + " test_result_id, result, executed_at, execution_count, jira_result_id, updated_at)"
+          + " SELECT w.test_plan_id, w.test_case_id, w.project_id, w.result_id, w.result,"
+          + " w.executed_at, c.cnt, j.result_id, CURRENT_TIMESTAMP"
+          + " FROM (SELECT DISTINCT ON (test_plan_id, test_case_id) * FROM src"
+          + " ORDER BY test_plan_id, test_case_id, executed_at DESC, result_id DESC) w"
+          + " JOIN (SELECT test_plan_id, test_case_id, COUNT(*) AS cnt FROM src"
+          + " GROUP BY test_plan_id, test_case_id) c"
+          + " ON c.test_plan_id = w.test_plan_id AND c.test_case_id = w.test_case_id"
+          + " LEFT JOIN (SELECT DISTINCT ON (test_plan_id, test_case_id)"
+          + " test_plan_id, test_case_id, result_id FROM src WHERE has_jira"
+          + " ORDER BY test_plan_id, test_case_id, executed_at DESC, result_id DESC) j"
+          + " ON j.test_plan_id = w.test_plan_id AND j.test_case_id = w.test_case_id"
+          + " ON CONFLICT (test_plan_id, test_case_id) DO UPDATE SET"
+          + " project_id = EXCLUDED.project_id, test_result_id = EXCLUDED.test_result_id,"
+          + " result = EXCLUDED.result, executed_at = EXCLUDED.executed_at,"
+          + " execution_count = EXCLUDED.execution_count,"
+          + " jira_result_id = EXCLUDED.jira_result_id, updated_at = EXCLUDED.updated_at";
+
+  static final String UPSERT_KEY_SQL =
+      String.format(UPSERT_SQL_TEMPLATE, " AND te.test_plan_id = ? AND tr.test_case_id = ?");
+
+  static final String REBUILD_SQL = String.format(UPSERT_SQL_TEMPLATE, "");
+
+  /**
+   * 조합 키({@code planId:caseId}) 배열의 advisory 잠금을 배열 순서대로 잡는다. 호출하는 쪽이 키를 정렬해 넘겨 두 트랜잭션이 서로의 잠금을
+   * 기다리는 교착을 막는다. 잠금은 커밋·롤백 때 풀린다.
+   */
+  static final String LOCK_KEYS_SQL =
+      "SELECT COUNT(pg_advisory_xact_lock(hashtext(k))) FROM unnest(CAST(? AS text[])) AS t(k)";
+
+  /** 원본 결과가 하나도 남지 않은 조합을 지운다. */
+  static final String DELETE_EMPTY_KEY_SQL =
+      "DELETE FROM test_result_latest l WHERE l.test_plan_id = ? AND l.test_case_id = ?"
+          + " AND NOT EXISTS (SELECT 1 FROM test_results tr"
+          + " JOIN test_executions te ON te.id = tr.test_execution_id"
+          + " WHERE te.test_plan_id = l.test_plan_id AND tr.test_case_id = l.test_case_id"
+          + " AND tr.executed_at IS NOT NULL)";
+
+  // 리포트 페이지: 플랜에 담긴 케이스(폴더 제외)를 모집단으로 하고 투영을 LEFT JOIN 한다
+  private static final String PAGE_FROM =
+      " FROM (SELECT DISTINCT test_plan_id, test_case_id FROM test_plan_cases"
+          + " WHERE test_plan_id IN (%s)) pc"
+          + " JOIN testcases tc ON tc.id = pc.test_case_id"
+          + " AND (tc.type IS NULL OR LOWER(tc.type) <> 'folder')"
+          + " LEFT JOIN test_result_latest l"
+          + " ON l.test_plan_id = pc.test_plan_id AND l.test_case_id = pc.test_case_id"
+          + " WHERE 1 = 1";
+
+  private static final String NOT_RUN = "NOT_RUN";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Value("${app.report.latest-projection.enabled:true}")
+  private boolean enabled;
+
+  // 트랜잭션(세션)마다 아직 반영하지 않은 조합
+  private final Map<SessionImplementor, Pending> pendingBySession = new ConcurrentHashMap<>();
+
+  public TestResultLatestProjection(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** 리포트가 이 투영을 읽어도 되는지. 끄면 리포트는 예전처럼 결과를 훑어 최신을 가린다. */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 결과가 저장·수정되었음을 기록한다. 실제 재계산은 현재 트랜잭션 커밋 직전에 한 번만 한다.
+   *
+   * @param removed 결과가 삭제되었으면 true — 조합에 남은 결과가 없을 때 행을 지운다
+   */
+  public void markDirty(TestResult result, boolean removed) {
+    if (result == null || result.getTestCaseId() == null || result.getTestExecution() == null) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      log.warn("트랜잭션 밖에서 결과가 바뀌어 최신 결과 투영을 건너뜁니다: {}", result.getId());
+      return;
+    }
+    TestExecution execution = result.getTestExecution();
+    // 지연 로딩 프록시를 플러시 도중에 초기화하지 않도록, 이미 읽힌 경우에만 플랜 ID 를 바로 쓴다
+    String planId = Hibernate.isInitialized(execution) ? execution.getTestPlanId() : null;
+    PendingKey key = new PendingKey(execution.getId(), planId, result.getTestCaseId());
+
+    SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+    Pending pending =
+        pendingBySession.computeIfAbsent(
+            session,
+            s -> {
+              Pending created = new Pending();
+              s.getActionQueue().registerProcess(txSession -> flush(created));
+              s.getActionQueue()
+                  .registerProcess((success, txSession) -> pendingBySession.remove(s));
+              return created;
+            });
+    pending.mark(key, removed);
+  }
+
+  /** 결과가 바뀐 조합들을 원본에서 다시 계산한다. 커밋 직전 Hibernate 가 호출한다. */
+  void flush(Pending pending) {
+    Map<PendingKey, Boolean> keys = pending.drain();
+    if (keys.isEmpty()) {
+      return;
+    }
+    Map<String, String> planByExecution = resolvePlans(keys.keySet());
+    // 같은 플랜의 여러 실행에서 같은 케이스가 바뀌었으면 (플랜, 케이스) 로 한 번만 계산한다
+    Map<List<String>, Boolean> combos = new LinkedHashMap<>();
+    for (Map.Entry<PendingKey, Boolean> entry : keys.entrySet()) {
+      PendingKey key = entry.getKey();
+      String planId =
+          key.planId() != null ? key.planId() : planByExecution.get(key.executionId());
+      if (planId != null) { // 플랜 없는 실행은 투영하지 않는다
+        combos.merge(List.of(planId, key.testCaseId()), entry.getValue(), Boolean::logicalOr);
+      }
+    }
+    List<Object[]> upserts = new ArrayList<>();
+    List<Object[]> deletes = new ArrayList<>();
+    combos.forEach(
+        (combo, removed) -> {
+          Object[] args = combo.toArray();
+          upserts.add(args);
+          if (removed) {
+            deletes.add(args);
+          }
+        });
+    if (!upserts.isEmpty()) {
+      lockCombos(combos.keySet());
+      jdbcTemplate.batchUpdate(UPSERT_KEY_SQL, upserts);
+    }
+    if (!deletes.isEmpty()) {
+      jdbcTemplate.batchUpdate(DELETE_EMPTY_KEY_SQL, deletes);
+    }
+    log.debug("최신 결과 투영 갱신: {}개 조합 (삭제 확인 {}개)", upserts.size(), deletes.size());
+  }
+
+  /** 재계산할 조합을 정렬된 순서로 잠근다. 같은 조합을 다시 세는 다른 트랜잭션은 이쪽이 커밋할 때까지 기다린다. */
+  private void lockCombos(Iterable<List<String>> combos) {
+    List<String> keys = new ArrayList<>();
+    for (List<String> combo : combos) {
+      keys.add(combo.get(0) + ":" + combo.get(1));
+    }
+    Collections.sort(keys);
+    jdbcTemplate.queryForObject(LOCK_KEYS_SQL, Long.class, (Object) keys.toArray(new String[0]));
+  }
+
+  /** 플랜 ID 를 모르는 조합의 실행 ID 로 플랜을 한 번에 찾는다. */
+  private Map<String, String> resolvePlans(Iterable<PendingKey> keys) {
+    List<String> executionIds = new ArrayList<>();
+    for (PendingKey key : keys) {
+      if (key.planId() == null && key.executionId() != null) {
+        executionIds.add(key.executionId());
+      }
+    }
+    if (executionIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> planByExecution = new HashMap<>();
+    List<String> distinct = executionIds.stream().distinct().toList();
+    jdbcTemplate.query(
+        "SELECT id, test_plan_id FROM test_executions WHERE id IN ("
+            + placeholders(distinct.size())
+            + ")",
+        rs -> {
+          planByExecution.put(rs.getString(1), rs.getString(2));
+        },
+        distinct.toArray());
+    return planByExecution;
+  }
+
+  /** 프로젝트 일괄 삭제는 엔티티를 거치지 않으므로 투영도 직접 지운다. */
+  public void deleteByProject(String projectId) {
+    jdbcTemplate.update("DELETE FROM test_result_latest WHERE project_id = ?", projectId);
+  }
+
+  /** 투영을 원본에서 통째로 다시 만든다. */
+  @Transactional
+  public int rebuildAll() {
+    jdbcTemplate.update("DELETE FROM test_result_latest");
+    int rows = jdbcTemplate.update(REBUILD_SQL);
+    log.info("최신 결과 투영 재구성 완료: {}개 조합", rows);
+    return rows;
+  }
+
+  /** 투영이 비어 있는데 결과가 있으면(처음 배포, 표 유실) 기동 시 한 번 채운다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEmpty() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      Boolean projected =
+          jdbcTemplate.queryForObject(
+              "SELECT EXISTS (SELECT 1 FROM test_result_latest)", Boolean.class);
+      Boolean hasResults =
+          jdbcTemplate.queryForObject(
+              "SELECT EXISTS (SELECT 1 FROM test_results)", Boolean.class);
+      if (!Boolean.TRUE.equals(projected) && Boolean.TRUE.equals(hasResults)) {
+        jdbcTemplate.update(REBUILD_SQL);
+        log.info("최신 결과 투영을 처음 채웠습니다.");
+      }
+    } catch (Exception e) {
+      log.error("최신 결과 투영 초기 적재 실패", e);
+    }
+  }
+
+  /**
+   * 플랜 리포트 한 페이지를 투영에서 읽는다. 커서가 있으면 그 뒤부터(키셋), 없으면 {@code offset} 부터 읽는다. 정렬 키가 같으면 (플랜,
+   * 케이스) 순으로 끊으므로 페이지 경계에서 행이 빠지거나 겹치지 않는다.
+   */
+  public PlanPage findPlanPage(PlanPageQuery query) {
+    SortKey sortKey = SortKey.of(query.sortBy());
+    String direction = query.descending() ? "DESC" : "ASC";
+
+    StringBuilder where = new StringBuilder();
+    List<Object> args = new ArrayList<>(query.testPlanIds());
+    if (query.latestOnly()) {
+      where.append(" AND l.result IS NOT NULL AND UPPER(l.result) <> 'NOT_RUN'");
+    }
+    if (query.results() != null && !query.results().isEmpty()) {
+      where
+          .append(" AND (CASE WHEN l.result IS NULL OR UPPER(l.result) = 'NOT_RUN'")
+          .append(" THEN 'NOT_RUN' ELSE l.result END) IN (")
+          .append(placeholders(query.results().size()))
+          .append(")");
+      args.addAll(query.results());
+    }
+    String from = String.format(PAGE_FROM, placeholders(query.testPlanIds().size())) + where;
+
+    Long total =
+        jdbcTemplate.queryForObject("SELECT COUNT(*)" + from, Long.class, args.toArray());
+
+    Cursor cursor = Cursor.decode(query.cursor(), query.sortBy(), direction);
+    StringBuilder sql =
+        new StringBuilder(
+            "SELECT pc.test_plan_id, pc.test_case_id, l.test_result_id, l.jira_result_id,"
+                + " l.result, l.execution_count, CAST(")
+            .append(sortKey.expression)
+            .append(" AS text) AS sort_value")
+            .append(from);
+    List<Object> pageArgs = new ArrayList<>(args);
+    if (cursor != null) {
+      sql.append(" AND (")
+          .append(sortKey.expression)
+          .append(", pc.test_plan_id, pc.test_case_id) ")
+          .append(query.descending() ? "<" : ">")
+          .append(" (CAST(? AS ")
+          .append(sortKey.sqlType)
+          .append("), ?, ?)");
+      pageArgs.add(cursor.sortValue());
+      pageArgs.add(cursor.testPlanId());
+      pageArgs.add(cursor.testCaseId());
+    }
+    sql.append(" ORDER BY ")
+        .append(sortKey.expression)
+        .append(' ')
+        .append(direction)
+        .append(", pc.test_plan_id ")
+        .append(direction)
+        .append(", pc.test_case_id ")
+        .append(direction)
+        .append(" LIMIT ?");
+    // 한 행 더 읽어 다음 페이지가 있는지 본다
+    pageArgs.add(query.size() + 1);
+    if (cursor == null) {
+      sql.append(" OFFSET ?");
+      pageArgs.add(query.offset());
+    }
+
+    List<Row> rows =
+        jdbcTemplate.query(
+            sql.toString(),
+            (rs, rowNum) ->
+                new Row(
+                    rs.getString("test_plan_id"),
+                    rs.getString("test_case_id"),
+                    rs.getString("test_result_id"),
+                    rs.getString("jira_result_id"),
+                    rs.getString("result"),
+                    rs.getInt("execution_count"),
+                    rs.getString("sort_value")),
+            pageArgs.toArray());
+
+    String nextCursor = null;
+    if (rows.size() > query.size()) {
+      rows = new ArrayList<>(rows.subList(0, query.size()));
+      Row last = rows.get(rows.size() - 1);
+      nextCursor =
+          new Cursor(last.sortValue(), last.testPlanId(), last.testCaseId())
+              .encode(query.sortBy(), direction);
+    }
+    return new PlanPage(rows, total == null ? 0L : total, nextCursor);
+  }
+
+  /** 투영으로 정렬할 수 있는 필드인지. 나머지 정렬은 예전 경로로 처리한다. */
+  public static boolean supportsSort(String sortBy) {
+    return sortBy == null || SortKey.BY_FIELD.containsKey(sortBy);
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  /**
+   * 리포트 정렬 필드별 SQL 정렬 키. 예전 메모리 정렬과 같게, 미실행 케이스는 수행시각 내림차순에서 맨 앞·오름차순에서 맨 뒤에 온다 ({@code
+   * nullsLast} 비교기를 통째로 뒤집던 동작).
+   */
+  private enum SortKey {
+    EXECUTED_AT("COALESCE(l.executed_at, 'infinity'::timestamp)", "timestamp"),
+    TEST_CASE_NAME("LOWER(COALESCE(tc.name, ''))", "text"),
+    RESULT("LOWER(COALESCE(l.result, 'NOT_RUN'))", "text");
+
+    private static final Map<String, SortKey> BY_FIELD =
+        Map.of("executedAt", EXECUTED_AT, "testCaseName", TEST_CASE_NAME, "result", RESULT);
+
+    private final String expression;
+    private final String sqlType;
+
+    SortKey(String expression, String sqlType) {
+      this.expression = expression;
+      this.sqlType = sqlType;
+    }
+
+    static SortKey of(String sortBy) {
+      return sortBy == null ? EXECUTED_AT : BY_FIELD.getOrDefault(sortBy, EXECUTED_AT);
+    }
+  }
+
+  /** 리포트 페이지 요청 */
+  public record PlanPageQuery(
+      List<String> testPlanIds,
+      boolean latestOnly,
+      List<String> results,
+      String sortBy,
+      boolean descending,
+      String cursor,
+      long offset,
+      int size) {}
+
+  /** 리포트 한 행. 미실행 조합은 결과 ID 가 null 이다. */
+  public record Row(
+      String testPlanId,
+      String testCaseId,
+      String testResultId,
+      String jiraResultId,
+      String result,
+      int executionCount,
+      String sortValue) {
+
+    public boolean executed() {
+      return testResultId != null;
+    }
+
+    /** 화면에 보일 판정. 미실행이나 판정 없는 결과는 NOT_RUN 으로 묶는다(예전 리포트와 같은 기준). */
+    public String displayResult() {
+      return executed() ? result : NOT_RUN;
+    }
+  }
+
+  /** 리포트 한 페이지와 전체 건수, 다음 페이지 커서(마지막 페이지면 null) */
+  public record PlanPage(List<Row> rows, long total, String nextCursor) {}
+
+  /**
+   * 키셋 커서. 정렬 필드·방향을 함께 담아, 정렬을 바꾼 뒤 예전 커서가 오면 버리고 처음부터 읽게 한다. 구분자가 값에 섞여도 깨지지 않도록 조각마다
+   * Base64 로 감싼다.
+   */
+  record Cursor(String sortValue, String testPlanId, String testCaseId) {
+
+    String encode(String sortBy, String direction) {
+      return String.join(
+          ".",
+          b64(Objects.toString(sortBy, "") + ":" + direction),
+          b64(sortValue),
+          b64(testPlanId),
+          b64(testCaseId));
+    }
+
+    static Cursor decode(String token, String sortBy, String direction) {
+      if (token == null || token.isBlank()) {
+        return null;
+      }
+      try {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 4
+            || !unb64(parts[0]).equals(Objects.toString(sortBy, "") + ":" + direction)) {
+          return null;
+        }
+        return new Cursor(unb64(parts[1]), unb64(parts[2]), unb64(parts[3]));
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+
+    private static String b64(String value) {
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String unb64(String value) {
+      return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+  }
+
+  /** 반영할 조합. 플랜 ID 를 그 자리에서 모르면 커밋 직전에 실행 ID 로 찾는다. */
+  record PendingKey(String executionId, String planId, String testCaseId) {}
+
+  /** 한 트랜잭션 동안 모인 조합. 값은 삭제가 섞였는지 여부. */
+  static class Pending {
+    private final Map<PendingKey, Boolean> keys = new LinkedHashMap<>();
+
+    synchronized void mark(PendingKey key, boolean removed) {
+      keys.merge(key, removed, Boolean::logicalOr);
+    }
+
+    synchronized Map<PendingKey, Boolean> drain() {
+      Map<PendingKey, Boolean> drained = new LinkedHashMap<>(keys);
+      keys.clear();
+      return drained;
+    }
+  }
+}
@@ -2,6 +2,7 @@
 
 package com.testcase.testcasemanagement.service;
 
+import com.testcase.testcasemanagement.dto.CursorPage;
 import com.testcase.testcasemanagement.dto.JiraStatusSummaryDto;
 import com.testcase.testcasemanagement.dto.TestResultFilterDto;
 import com.testcase.testcasemanagement.dto.TestResultReportDto;
@@ -38,6 +39,7 @@ public class TestResultReportService {
   private final TestResultRepository testResultRepository;
   private final TestCaseRepository testCaseRepository;
   private final ExportService exportService;
+  private final TestResultLatestProjection latestProjection;
 
   @Autowired
   public TestResultReportService(
@@ -46,13 +48,15 @@ public class TestResultReportService {
       ProjectRepository projectRepository,
       TestResultRepository testResultRepository,
       TestCaseRepository testCaseRepository,
-      ExportService exportService) {
+      ExportService exportService,
+      TestResultLatestProjection latestProjection) {
     this.testExecutionRepository = testExecutionRepository;
     this.testPlanRepository = testPlanRepository;
     this.projectRepository = projectRepository;
     this.testResultRepository = testResultRepository;
     this.testCaseRepository = testCaseRepository;
     this.exportService = exportService;
+    this.latestProjection = latestProjection;
   }
 
   // 1. 프로젝트별 테스트 결과
@@ -354,6 +358,11 @@ public class TestResultReportService {
     // ICT-263: '최신 결과만 보기' 또는 '미실행 케이스 포함' 옵션이 켜진 경우
     if (Boolean.TRUE.equals(filter.getLatestOnly())
         || Boolean.TRUE.equals(filter.getIncludeNotExecuted())) {
+      // 플랜 리포트는 최신 결과 투영에서 DB 가 바로 거르고 정렬해 한 페이지만 읽는다
+      if (canUseLatestProjection(filter)) {
+        return getLatestReportFromProjection(filter, pageable);
+      }
+
       // 모든 케이스(또는 실존 케이스)에 대한 최신 결과 목록 추출 (246 -> 208 달성의 근본 해결)
       List<TestResultReportDto> allCases = getCompletePopulationResults(filter);
 
@@ -1041,42 +1050,10 @@ public class TestResultReportService {
       TestResultReportDto dto;
       if (tr != null) {
         dto = convertToReportDtoWithCache(tr, caseLookup, planNameById, folderPathCache);
-
-        // ICT-JIRA-LATEST: 최신 결과에 JIRA 정보가 없으나 과거 이력에 있는 경우 JIRA 정보 합성
-        if (!tr.hasJiraIssue() && jiraTr != null) {
-          dto.setJiraIssueKey(jiraTr.getJiraIssueKey());
-          dto.setJiraIssueUrl(jiraTr.getJiraIssueUrl());
-          dto.setJiraStatus(jiraTr.getJiraStatus());
-          dto.setJiraSyncStatus(
-              jiraTr.getJiraSyncStatus() != null ? jiraTr.getJiraSyncStatus().toString() : null);
-        }
-
+        applyHistoricalJira(dto, tr, jiraTr);
         dto.setExecutionCount(execCount); // 집계된 수행 횟수 설정
       } else {
-        dto = new TestResultReportDto();
-        dto.setTestCaseId(tc.getId());
-        dto.setTestCaseName(tc.getName());
-        dto.setFolderPath(buildFolderPathFromCache(tc, caseLookup, folderPathCache));
-        dto.setResult(TestResultStatus.NOT_RUN.value());
-
-        // ICT-JIRA-LATEST: 결과가 없더라도(미실행) 과거 이력에 JIRA가 있으면 표시
-        if (jiraTr != null) {
-          dto.setJiraIssueKey(jiraTr.getJiraIssueKey());
-          dto.setJiraIssueUrl(jiraTr.getJiraIssueUrl());
-          dto.setJiraStatus(jiraTr.getJiraStatus());
-          dto.setJiraSyncStatus(
-              jiraTr.getJiraSyncStatus() != null ? jiraTr.getJiraSyncStatus().toString() : null);
-        }
-
-        dto.setPriority(tc.getPriority());
-        dto.setCategory(tc.getType());
-        dto.setExecutionCount(0); // 미실행 시 0
-
-        // 플랜 정보 추가 (미실행 케이스라도 플랜 필터가 있으면 플랜 정보를 명시)
-        if (!"PROJ".equals(planId) && planNameById.containsKey(planId)) {
-          dto.setTestPlanId(planId);
-          dto.setTestPlanName(planNameById.get(planId));
-        }
+        dto = notExecutedDto(tc, planId, jiraTr, caseLookup, planNameById, folderPathCache);
       }
       reportDtos.add(dto);
     }
@@ -1099,6 +1076,132 @@ public class TestResultReportService {
     return byId;
   }
 
+  /**
+   * ICT-JIRA-LATEST: 최신 결과에 JIRA 정보가 없으면 과거 이력 중 가장 최근 JIRA 정보를 보여 준다. 미실행 행({@code latest} 가
+   * null)도 과거 이력에 JIRA 가 있으면 표시한다.
+   */
+  private void applyHistoricalJira(TestResultReportDto dto, TestResult latest, TestResult jiraTr) {
+    if (jiraTr == null || (latest != null && latest.hasJiraIssue())) return;
+    dto.setJiraIssueKey(jiraTr.getJiraIssueKey());
+    dto.setJiraIssueUrl(jiraTr.getJiraIssueUrl());
+    dto.setJiraStatus(jiraTr.getJiraStatus());
+    dto.setJiraSyncStatus(
+        jiraTr.getJiraSyncStatus() != null ? jiraTr.getJiraSyncStatus().toString() : null);
+  }
+
+  /** 결과가 없는 (플랜:케이스) 행. 플랜 필터가 있으면 미실행이어도 플랜 정보를 명시한다. */
+  private TestResultReportDto notExecutedDto(
+      TestCase tc,
+      String planId,
+      TestResult jiraTr,
+      Map<String, TestCase> caseLookup,
+      Map<String, String> planNameById,
+      Map<String, String> folderPathCache) {
+    TestResultReportDto dto = new TestResultReportDto();
+    dto.setTestCaseId(tc.getId());
+    dto.setTestCaseName(tc.getName());
+    dto.setFolderPath(buildFolderPathFromCache(tc, caseLookup, folderPathCache));
+    dto.setResult(TestResultStatus.NOT_RUN.value());
+    applyHistoricalJira(dto, null, jiraTr);
+    dto.setPriority(tc.getPriority());
+    dto.setCategory(tc.getType());
+    dto.setExecutionCount(0); // 미실행 시 0
+    if (!"PROJ".equals(planId) && planNameById.containsKey(planId)) {
+      dto.setTestPlanId(planId);
+      dto.setTestPlanName(planNameById.get(planId));
+    }
+    return dto;
+  }
+
+  /**
+   * 최신 결과 투영으로 처리할 수 있는 리포트인지. 플랜 필터만 있고(실행 필터·태그 필터 없음) 투영이 아는 정렬일 때다. 나머지는 예전처럼 결과를 훑는다.
+   */
+  private boolean canUseLatestProjection(TestResultFilterDto filter) {
+    return latestProjection != null
+        && latestProjection.isEnabled()
+        && filter.getTestPlanIds() != null
+        && !filter.getTestPlanIds().isEmpty()
+        && (filter.getTestExecutionIds() == null || filter.getTestExecutionIds().isEmpty())
+        && normalizeTagFilter(filter.getTags()).isEmpty()
+        && TestResultLatestProjection.supportsSort(filter.getSortBy());
+  }
+
+  /**
+   * 플랜 리포트('최신 결과만 보기'·'미실행 포함')를 최신 결과 투영에서 한 페이지만 읽어 만든다.
+   *
+   * <p>예전에는 프로젝트 결과를 전부 훑어 (플랜:케이스) 승자를 가리고 DTO 를 모두 만든 뒤 정렬·subList 했다. 2만 케이스 플랜이면 페이지 하나에
+   * 수 초였다. 이제 거르기·정렬·페이징은 DB 가 하고, 엔티티는 페이지에 보이는 행의 결과와 케이스만 읽는다. 판정은 투영의 값(적용된 편집본 반영)을
+   * 쓴다.
+   */
+  private Page<TestResultReportDto> getLatestReportFromProjection(
+      TestResultFilterDto filter, Pageable pageable) {
+    TestResultLatestProjection.PlanPage slice =
+        latestProjection.findPlanPage(
+            new TestResultLatestProjection.PlanPageQuery(
+                filter.getTestPlanIds(),
+                Boolean.TRUE.equals(filter.getLatestOnly()),
+                filter.getResults(),
+                filter.getSortBy(),
+                "DESC".equalsIgnoreCase(filter.getSortDirection()),
+                filter.getCursor(),
+                pageable.getOffset(),
+                pageable.getPageSize()));
+
+    Set<String> resultIds = new LinkedHashSet<>();
+    Set<String> caseIds = new LinkedHashSet<>();
+    Set<String> planIds = new LinkedHashSet<>();
+    for (TestResultLatestProjection.Row row : slice.rows()) {
+      resultIds.add(row.testResultId());
+      resultIds.add(row.jiraResultId());
+      caseIds.add(row.testCaseId());
+      planIds.add(row.testPlanId());
+    }
+    Map<String, TestResult> resultById = loadResultsByIds(resultIds);
+    Map<String, TestCase> caseLookup = loadCasesWithAncestors(caseIds);
+    Map<String, String> planNameById = loadPlanNames(planIds);
+    Map<String, String> folderPathCache = new HashMap<>();
+
+    List<TestResultReportDto> dtos = new ArrayList<>();
+    for (TestResultLatestProjection.Row row : slice.rows()) {
+      TestCase tc = caseLookup.get(row.testCaseId());
+      if (tc == null) continue;
+
+      TestResult tr = row.executed() ? resultById.get(row.testResultId()) : null;
+      TestResult jiraTr =
+          row.jiraResultId() != null ? resultById.get(row.jiraResultId()) : null;
+      TestResultReportDto dto;
+      if (tr != null) {
+        dto = convertToReportDtoWithCache(tr, caseLookup, planNameById, folderPathCache);
+        dto.setResult(row.result());
+        applyHistoricalJira(dto, tr, jiraTr);
+        dto.setExecutionCount(row.executionCount());
+      } else {
+        dto =
+            notExecutedDto(
+                tc, row.testPlanId(), jiraTr, caseLookup, planNameById, folderPathCache);
+      }
+      dtos.add(dto);
+    }
+    return new CursorPage<>(dtos, pageable, slice.total(), slice.nextCursor());
+  }
+
+  /** 케이스와 폴더 경로에 필요한 조상 폴더를 한 단계씩 묶어 읽는다 (케이스마다 findById 하지 않는다). */
+  private Map<String, TestCase> loadCasesWithAncestors(Collection<String> caseIds) {
+    Map<String, TestCase> testCaseMap = new HashMap<>();
+    Set<String> toLoad = new HashSet<>(caseIds);
+    while (!toLoad.isEmpty()) {
+      List<TestCase> loaded = testCaseRepository.findAllById(toLoad);
+      toLoad = new HashSet<>();
+      for (TestCase tc : loaded) {
+        testCaseMap.put(tc.getId(), tc);
+        if (tc.getParentId() != null && !testCaseMap.containsKey(tc.getParentId())) {
+          toLoad.add(tc.getParentId());
+        }
+      }
+    }
+    return testCaseMap;
+  }
+
   /** (플랜:케이스) 키에서 플랜 ID 만 뽑는다 ('PROJ' 는 플랜이 아니라 프로젝트 전체 보기 표식). */
   private Set<String> planIdsOf(Collection<String> planCaseKeys) {
     Set<String> planIds = new LinkedHashSet<>();
@@ -1393,18 +1496,7 @@ public class TestResultReportService {
             .collect(Collectors.toSet());
 
     // 2. testCase 계층 전체 배치 로딩 (폴더 경로 재귀에 필요한 조상 포함)
-    Map<String, TestCase> testCaseMap = new HashMap<>();
-    Set<String> toLoad = new HashSet<>(testCaseIds);
-    while (!toLoad.isEmpty()) {
-      List<TestCase> loaded = testCaseRepository.findAllById(toLoad);
-      toLoad = new HashSet<>();
-      for (TestCase tc : loaded) {
-        testCaseMap.put(tc.getId(), tc);
-        if (tc.getParentId() != null && !testCaseMap.containsKey(tc.getParentId())) {
-          toLoad.add(tc.getParentId());
-        }
-      }
-    }
+    Map<String, TestCase> testCaseMap = loadCasesWithAncestors(testCaseIds);
 
     // 3. 고유 testPlanId 배치 로딩
     Set<String> testPlanIds =
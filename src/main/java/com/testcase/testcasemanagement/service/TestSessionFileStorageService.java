@@ -7,7 +7,6 @@ import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.repository.TestSessionAttachmentRepository;
 import com.testcase.testcasemanagement.repository.TestSessionRepository;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -15,8 +14,6 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -90,8 +87,9 @@ public class TestSessionFileStorageService {
     return attachments.stream().map(this::toDto).collect(Collectors.toList());
   }
 
+  /** 다운로드할 MinIO objectKey 조회 (본문 스트리밍은 {@link AttachmentDownloadService}) */
   @Transactional(readOnly = true)
-  public Resource loadFileAsResource(String attachmentId) throws IOException {
+  public String getDownloadObjectKey(String attachmentId) {
     TestSessionAttachment attachment =
         attachmentRepository
             .findById(attachmentId)
@@ -101,8 +99,7 @@ public class TestSessionFileStorageService {
       throw new IllegalStateException("다운로드할 수 없는 파일입니다: " + attachmentId);
     }
 
-    InputStream inputStream = minioService.downloadFile(attachment.getFilePath());
-    return new InputStreamResource(inputStream);
+    return attachment.getFilePath();
   }
 
   @Transactional(readOnly = true)
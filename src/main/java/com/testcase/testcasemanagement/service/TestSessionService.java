@@ -1,5 +1,6 @@
 package com.testcase.testcasemanagement.service;
 
+import com.testcase.testcasemanagement.dto.SeekPage;
 import com.testcase.testcasemanagement.dto.TestSessionAttachmentDto;
 import com.testcase.testcasemanagement.dto.TestSessionBugDto;
 import com.testcase.testcasemanagement.dto.TestSessionNoteDto;
@@ -18,6 +19,7 @@ import com.testcase.testcasemanagement.repository.TestSessionApprovalRepository;
 import com.testcase.testcasemanagement.repository.TestSessionAttachmentRepository;
 import com.testcase.testcasemanagement.repository.TestSessionInterruptionRepository;
 import com.testcase.testcasemanagement.repository.TestSessionRepository;
+import com.testcase.testcasemanagement.util.SeekCursor;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,6 +39,10 @@ public class TestSessionService {
 
   @Autowired private TestSessionRepository testSessionRepository;
 
+  @Autowired private RowCountEstimator rowCountEstimator;
+
+  private static final int MAX_SCROLL_SIZE = 500;
+
   @Autowired private ProjectRepository projectRepository;
 
   @Autowired private TestCharterService testCharterService;
@@ -263,6 +269,60 @@ public class TestSessionService {
     Sort sortSpec = parseSort(sort);
     Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), sortSpec);
 
+    Specification<TestSession> spec =
+        projectSpec(projectId, status, from, to, testerId, charterId);
+    return testSessionRepository.findAll(spec, pageable).stream().map(this::toDto).toList();
+  }
+
+  /**
+   * 프로젝트 세션 목록을 생성 시각 순서의 커서로 이어 읽는다.
+   *
+   * <p>{@link #listByProject} 와 같은 조건이지만 OFFSET 대신 (createdAt, id) 키셋을 쓰고 건수는 요청할 때만 센다.
+   * 커서는 발급한 프로젝트와 정렬 방향에서만 유효하다.
+   */
+  @Transactional(readOnly = true)
+  public SeekPage<TestSessionResponseDto> scrollByProject(
+      String projectId,
+      TestSession.SessionStatus status,
+      LocalDateTime from,
+      LocalDateTime to,
+      String testerId,
+      String charterId,
+      String cursor,
+      int size,
+      boolean descending,
+      SeekPage.CountMode countMode) {
+    if (!projectRepository.existsById(projectId)) {
+      throw new ResourceNotFoundException("프로젝트를 찾을 수 없습니다: " + projectId);
+    }
+
+    String scope = "test-sessions:" + projectId + (descending ? ":desc" : ":asc");
+    int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+    SeekCursor after = SeekCursor.decode(cursor, scope);
+
+    Specification<TestSession> base =
+        projectSpec(projectId, status, from, to, testerId, charterId);
+    Specification<TestSession> spec =
+        after != null ? base.and(after.after("createdAt", descending)) : base;
+
+    List<TestSession> rows =
+        testSessionRepository.findBy(
+            spec,
+            q -> q.sortBy(SeekCursor.sort("createdAt", descending)).limit(limit + 1).all());
+    SeekPage<TestSession> page =
+        SeekPage.of(rows, limit, t -> new SeekCursor(t.getCreatedAt(), t.getId()), scope);
+    return rowCountEstimator
+        .withTotal(page, countMode, "test_sessions", true, () -> testSessionRepository.count(base))
+        .map(this::toDto);
+  }
+
+  private Specification<TestSession> projectSpec(
+      String projectId,
+      TestSession.SessionStatus status,
+      LocalDateTime from,
+      LocalDateTime to,
+      String testerId,
+      String charterId) {
     Specification<TestSession> spec =
         (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
 
@@ -282,7 +342,7 @@ public class TestSessionService {
       spec = spec.and((root, query, cb) -> cb.equal(root.get("charter").get("id"), charterId));
     }
 
-    return testSessionRepository.findAll(spec, pageable).stream().map(this::toDto).toList();
+    return spec;
   }
 
   private void validateTimeDistribution(TestSessionRequestDto request) {
@@ -0,0 +1,387 @@
+package com.testcase.testcasemanagement.service;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 추가 전용(append-only) 이력 테이블의 월 단위 파티션 관리자 (PostgreSQL 전용)
+ *
+ * <p>user_activities, audit_logs, page_visit_metrics 는 쌓이기만 하고 오래된 행은 보존 기간이 지나면 통째로 버린다. 행 단위
+ * DELETE 로 1년치를 지우면 긴 트랜잭션과 대량의 dead tuple 이 남는다. 월 파티션으로 나눠 두면 보존 정리는 {@code DROP TABLE} 한 번이고, 시간
+ * 조건이 붙은 조회(기간별 활동 조회, 통계)는 플래너가 해당 월 파티션만 읽는다(partition pruning).
+ *
+ * <p>{@code app.retention.partitioning.enabled=true} 일 때만 동작한다. 기동 시 아직 일반 테이블이면 한 번 파티션 테이블로 바꾸고,
+ * 매일 앞으로 몇 달치 파티션을 미리 만들어 둔다. 범위를 벗어난 행은 {@code <table>_default} 파티션이 받는다.
+ *
+ * <p>PostgreSQL 이 아니거나 꺼져 있으면 {@link #isPartitioned} 가 false 이고, 호출하는 쪽은 벌크 DELETE 로만 정리한다.
+ */
+@Slf4j
+@Component
+public class TimePartitionManager {
+
+  /** 파티션 대상 테이블과 파티션 키 컬럼 */
+  public enum PartitionedTable {
+    USER_ACTIVITIES("user_activities", "timestamp"),
+    AUDIT_LOGS("audit_logs", "timestamp"),
+    PAGE_VISIT_METRICS("page_visit_metrics", "visit_date");
+
+    private final String tableName;
+    private final String column;
+
+    PartitionedTable(String tableName, String column) {
+      this.tableName = tableName;
+      this.column = column;
+    }
+
+    public String getTableName() {
+      return tableName;
+    }
+
+    public String getColumn() {
+      return column;
+    }
+  }
+
+  private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("'p'yyyy_MM");
+
+  // 변환 시 이보다 오래된 달은 개별 파티션을 만들지 않고 default 파티션에 모은다
+  private static final int MAX_BACKFILL_MONTHS = 120;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final DataSource dataSource;
+
+  @Value("${app.retention.partitioning.enabled:false}")
+  private boolean enabled;
+
+  @Value("${app.retention.partitioning.premake-months:3}")
+  private int premakeMonths;
+
+  private volatile Boolean postgres;
+
+  public TimePartitionManager(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      DataSource dataSource) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.dataSource = dataSource;
+  }
+
+  /** 기동 시 일반 테이블을 파티션 테이블로 바꾸고 앞으로 쓸 파티션을 만든다 */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    if (!isActive()) {
+      return;
+    }
+    for (PartitionedTable table : PartitionedTable.values()) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> convertIfNeeded(table));
+      } catch (Exception e) {
+        // 변환은 최적화다 — 실패해도 일반 테이블 + 벌크 DELETE 로 계속 동작한다
+        log.error("{} 파티션 변환 실패, 일반 테이블로 유지합니다: {}", table.getTableName(), e.getMessage(), e);
+      }
+    }
+    premakePartitions();
+  }
+
+  /** 매일 새벽 앞으로 쓸 월 파티션을 미리 만든다 — 미리 없으면 새 달의 행이 default 파티션에 쌓인다 */
+  @Scheduled(cron = "0 10 0 * * *")
+  public void premakePartitions() {
+    if (!isActive()) {
+      return;
+    }
+    YearMonth current = YearMonth.now();
+    for (PartitionedTable table : PartitionedTable.values()) {
+      if (!isPartitioned(table)) {
+        continue;
+      }
+      for (int i = 0; i <= premakeMonths; i++) {
+        try {
+          createMonthPartition(table, current.plusMonths(i));
+        } catch (Exception e) {
+          // default 파티션에 이미 그 달의 행이 있으면 생성이 거부된다 — 다음 달 생성은 계속한다
+          log.warn(
+              "{} 파티션 생성 실패: {} - {}",
+              table.getTableName(),
+              partitionName(table, current.plusMonths(i)),
+              e.getMessage());
+        }
+      }
+    }
+  }
+
+  /** 해당 테이블이 현재 파티션 테이블인지 */
+  public boolean isPartitioned(PartitionedTable table) {
+    if (!isActive()) {
+      return false;
+    }
+    return "p".equals(relkind(table.getTableName()).orElse(null));
+  }
+
+  /**
+   * cutoff 이전 구간만 담은 월 파티션을 통째로 버린다.
+   *
+   * <p>상한이 cutoff 이하인 파티션만 대상이다. cutoff 가 걸친 달은 남겨 두므로 호출하는 쪽이 벌크 DELETE 로 나머지를 지워야 한다.
+   *
+   * @return 버린 행 수 (통계 추정치 reltuples 합계). 파티션 테이블이 아니면 0
+   */
+  public long dropPartitionsBefore(PartitionedTable table, LocalDate cutoff) {
+    if (!isPartitioned(table)) {
+      return 0L;
+    }
+    List<Map<String, Object>> partitions =
+        jdbcTemplate.queryForList(
+            "SELECT c.relname AS name, c.reltuples AS tuples FROM pg_inherits i"
+                + " JOIN pg_class c ON c.oid = i.inhrelid"
+                + " WHERE i.inhparent = to_regclass(?)",
+            table.getTableName());
+    long dropped = 0L;
+    for (Map<String, Object> partition : partitions) {
+      String name = (String) partition.get("name");
+      Optional<YearMonth> month = parsePartitionMonth(table, name);
+      if (month.isEmpty() || !isEntirelyBefore(month.get(), cutoff)) {
+        continue;
+      }
+      jdbcTemplate.execute("DROP TABLE IF EXISTS " + quote(name));
+      // 한 번도 ANALYZE 되지 않은 파티션은 -1 이다
+      dropped += Math.max(0L, ((Number) partition.get("tuples")).longValue());
+      log.info("보존 기간 경과 파티션 삭제: {}", name);
+    }
+    return dropped;
+  }
+
+  /** 월 파티션 이름 — {@code <table>_pYYYY_MM} */
+  static String partitionName(PartitionedTable table, YearMonth month) {
+    return table.getTableName() + "_" + month.format(SUFFIX);
+  }
+
+  /** 월 파티션 이름에서 달을 읽는다. 이 관리자가 만든 이름이 아니면(default 등) empty */
+  static Optional<YearMonth> parsePartitionMonth(PartitionedTable table, String partitionName) {
+    String prefix = table.getTableName() + "_";
+    if (partitionName == null || !partitionName.startsWith(prefix)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(YearMonth.parse(partitionName.substring(prefix.length()), SUFFIX));
+    } catch (DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+
+  /** 해당 달의 모든 행이 cutoff 이전인지 (달의 상한 = 다음 달 1일 ≤ cutoff) */
+  static boolean isEntirelyBefore(YearMonth month, LocalDate cutoff) {
+    return !month.plusMonths(1).atDay(1).isAfter(cutoff);
+  }
+
+  private boolean isActive() {
+    if (!enabled) {
+      return false;
+    }
+    if (postgres == null) {
+      try (Connection connection = dataSource.getConnection()) {
+        DatabaseMetaData metaData = connection.getMetaData();
+        postgres = "PostgreSQL".equalsIgnoreCase(metaData.getDatabaseProductName());
+      } catch (Exception e) {
+        log.warn("DB 종류 확인 실패, 파티션 관리를 건너뜁니다: {}", e.getMessage());
+        return false;
+      }
+      if (!postgres) {
+        log.info("PostgreSQL 이 아니므로 이력 테이블 파티션 관리를 사용하지 않습니다.");
+      }
+    }
+    return postgres;
+  }
+
+  private Optional<String> relkind(String tableName) {
+    List<String> kinds =
+        jdbcTemplate.queryForList(
+            "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+            String.class,
+            tableName);
+    return kinds.stream().findFirst();
+  }
+
+  /**
+   * 일반 테이블을 같은 이름의 월 파티션 테이블로 바꾼다. 트랜잭션 안에서 호출된다.
+   *
+   * <p>순서: 인덱스·제약 정의 보관 → 기존 테이블 이름 변경 → 같은 컬럼 구성의 파티션 테이블 생성 → 데이터 달 범위만큼 파티션 생성 → 행 복사 → 기존
+   * 테이블 삭제 → 인덱스·제약 재생성. 인덱스는 행을 다 넣은 뒤 만드는 편이 빠르다.
+   *
+   * <p>파티션 테이블의 PK·UNIQUE 는 파티션 키를 포함해야 한다. PK 는 (id, 키) 로 넓히고, 키가 없는 UNIQUE 는 경고 후 뺀다. 다른 테이블이
+   * 이 테이블을 참조하면(FK) PK 를 바꿀 수 없으므로 변환하지 않는다.
+   */
+  private void convertIfNeeded(PartitionedTable table) {
+    String name = table.getTableName();
+    String column = quote(table.getColumn());
+    String kind = relkind(name).orElse(null);
+    if (!"r".equals(kind)) {
+      return; // 이미 파티션 테이블이거나 아직 없음
+    }
+    Boolean locked =
+        jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, "partition:" + name);
+    if (!Boolean.TRUE.equals(locked)) {
+      log.info("{} 파티션 변환은 다른 인스턴스가 진행 중입니다.", name);
+      return;
+    }
+    Integer referencing =
+        jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_constraint WHERE contype = 'f' AND confrelid = to_regclass(?)",
+            Integer.class,
+            name);
+    if (referencing != null && referencing > 0) {
+      log.warn("{} 를 참조하는 외래키가 있어 파티션 변환을 건너뜁니다.", name);
+      return;
+    }
+
+    List<Map<String, Object>> constraints =
+        jdbcTemplate.queryForList(
+            "SELECT c.conname AS name, c.contype::text AS type,"
+                + " pg_get_constraintdef(c.oid) AS def,"
+                + " (SELECT a.attnum FROM pg_attribute a"
+                + "   WHERE a.attrelid = c.conrelid AND a.attname = ?) = ANY(c.conkey) AS has_key"
+                + " FROM pg_constraint c"
+                + " WHERE c.conrelid = to_regclass(?) AND c.contype IN ('p', 'u', 'f')",
+            table.getColumn(),
+            name);
+    List<Map<String, Object>> indexes =
+        jdbcTemplate.queryForList(
+            "SELECT i.relname AS name, pg_get_indexdef(x.indexrelid) AS def,"
+                + " x.indisunique AS is_unique,"
+                + " (SELECT a.attnum FROM pg_attribute a"
+                + "   WHERE a.attrelid = x.indrelid AND a.attname = ?) = ANY(x.indkey::int2[])"
+                + "   AS has_key"
+                + " FROM pg_index x JOIN pg_class i ON i.oid = x.indexrelid"
+                + " WHERE x.indrelid = to_regclass(?)"
+                + " AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = x.indexrelid)",
+            table.getColumn(),
+            name);
+
+    String legacy = name + "_legacy";
+    // 키가 비어 있던 예전 행(audit_logs.timestamp 는 nullable)은 가장 이른 시각으로 채운다
+    jdbcTemplate.update(
+        "UPDATE "
+            + quote(name)
+            + " SET "
+            + column
+            + " = COALESCE((SELECT min("
+            + column
+            + ") FROM "
+            + quote(name)
+            + "), now()) WHERE "
+            + column
+            + " IS NULL");
+    Map<String, Object> bounds =
+        jdbcTemplate.queryForMap(
+            "SELECT min(" + column + ") AS lo, max(" + column + ") AS hi FROM " + quote(name));
+
+    jdbcTemplate.execute("ALTER TABLE " + quote(name) + " RENAME TO " + quote(legacy));
+    jdbcTemplate.execute(
+        "CREATE TABLE "
+            + quote(name)
+            + " (LIKE "
+            + quote(legacy)
+            + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY RANGE ("
+            + column
+            + ")");
+    jdbcTemplate.execute(
+        "ALTER TABLE " + quote(name) + " ALTER COLUMN " + column + " SET NOT NULL");
+
+    YearMonth now = YearMonth.now();
+    YearMonth from = toYearMonth(bounds.get("lo")).orElse(now);
+    YearMonth to = toYearMonth(bounds.get("hi")).orElse(now);
+    if (from.isBefore(now.minusMonths(MAX_BACKFILL_MONTHS))) {
+      from = now.minusMonths(MAX_BACKFILL_MONTHS);
+    }
+    if (to.isBefore(now)) {
+      to = now;
+    }
+    for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+      createMonthPartition(table, month);
+    }
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS "
+            + quote(name + "_default")
+            + " PARTITION OF "
+            + quote(name)
+            + " DEFAULT");
+
+    int copied =
+        jdbcTemplate.update("INSERT INTO " + quote(name) + " SELECT * FROM " + quote(legacy));
+    jdbcTemplate.execute("DROP TABLE " + quote(legacy));
+
+    for (Map<String, Object> constraint : constraints) {
+      String type = (String) constraint.get("type");
+      String def = (String) constraint.get("def");
+      if ("p".equals(type) && !Boolean.TRUE.equals(constraint.get("has_key"))) {
+        def = def.substring(0, def.lastIndexOf(')')) + ", " + column + ")";
+      } else if ("u".equals(type) && !Boolean.TRUE.equals(constraint.get("has_key"))) {
+        log.warn("{}: 파티션 키가 없는 UNIQUE 제약 {} 는 재생성하지 않습니다.", name, constraint.get("name"));
+        continue;
+      }
+      jdbcTemplate.execute(
+          "ALTER TABLE "
+              + quote(name)
+              + " ADD CONSTRAINT "
+              + quote((String) constraint.get("name"))
+              + " "
+              + def);
+    }
+    for (Map<String, Object> index : indexes) {
+      if (Boolean.TRUE.equals(index.get("is_unique"))
+          && !Boolean.TRUE.equals(index.get("has_key"))) {
+        log.warn("{}: 파티션 키가 없는 UNIQUE 인덱스 {} 는 재생성하지 않습니다.", name, index.get("name"));
+        continue;
+      }
+      jdbcTemplate.execute((String) index.get("def"));
+    }
+    log.info("{} 를 월 파티션 테이블로 변환했습니다: {}건, {} ~ {}", name, copied, from, to);
+  }
+
+  private void createMonthPartition(PartitionedTable table, YearMonth month) {
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS "
+            + quote(partitionName(table, month))
+            + " PARTITION OF "
+            + quote(table.getTableName())
+            + " FOR VALUES FROM ('"
+            + month.atDay(1)
+            + "') TO ('"
+            + month.plusMonths(1).atDay(1)
+            + "')");
+  }
+
+  private static Optional<YearMonth> toYearMonth(Object value) {
+    if (value instanceof java.sql.Timestamp timestamp) {
+      LocalDateTime dateTime = timestamp.toLocalDateTime();
+      return Optional.of(YearMonth.from(dateTime));
+    }
+    if (value instanceof java.sql.Date date) {
+      return Optional.of(YearMonth.from(date.toLocalDate()));
+    }
+    return Optional.empty();
+  }
+
+  private static String quote(String identifier) {
+    return "\"" + identifier.replace("\"", "\"\"") + "\"";
+  }
+}
@@ -1,12 +1,15 @@
 // src/main/java/com/testcase/testcasemanagement/service/UserActivityService.java
 package com.testcase.testcasemanagement.service;
 
+import com.testcase.testcasemanagement.dto.SeekPage;
 import com.testcase.testcasemanagement.exception.ResourceNotFoundException;
 import com.testcase.testcasemanagement.model.User;
 import com.testcase.testcasemanagement.model.UserActivity;
 import com.testcase.testcasemanagement.repository.UserActivityRepository;
 import com.testcase.testcasemanagement.repository.UserRepository;
 import com.testcase.testcasemanagement.util.SecurityContextUtil;
+import com.testcase.testcasemanagement.util.SeekCursor;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -18,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +39,14 @@ public class UserActivityService {
 
   @Autowired private SecurityContextUtil securityContextUtil;
 
+  @Autowired private TimePartitionManager timePartitionManager;
+
+  @Autowired private RowCountEstimator rowCountEstimator;
+
+  private static final String SCROLL_SCOPE = "user-activities:desc";
+
+  private static final int MAX_SCROLL_SIZE = 1000;
+
   // 활동 타입 상수
   public static class ActivityType {
     public static final String LOGIN = "LOGIN";
@@ -320,6 +332,54 @@ public class UserActivityService {
     return userActivityRepository.searchActivities(keyword, pageable);
   }
 
+  /**
+   * 전체 활동 이력을 커서로 이어 읽는다 (관리자용). 키워드가 있으면 {@link #searchActivities} 와 같은 대상에서 찾는다.
+   *
+   * <p>페이지 번호 방식과 달리 깊이와 무관하게 (timestamp, id) 인덱스 범위만 읽고, 건수는 요청할 때만 센다.
+   */
+  @Transactional(readOnly = true)
+  public SeekPage<UserActivity> scrollActivities(
+      String keyword, String cursor, int size, SeekPage.CountMode countMode) {
+    if (!securityContextUtil.isSystemAdmin()) {
+      throw new SecurityException("전체 활동 이력을 조회할 권한이 없습니다.");
+    }
+
+    int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+    SeekCursor after = SeekCursor.decode(cursor, SCROLL_SCOPE);
+    boolean filtered = keyword != null && !keyword.isBlank();
+
+    Specification<UserActivity> base =
+        filtered ? keywordSpec(keyword.trim()) : (root, query, cb) -> cb.conjunction();
+    Specification<UserActivity> spec =
+        after != null ? base.and(after.after("timestamp", true)) : base;
+
+    List<UserActivity> rows =
+        userActivityRepository.findBy(
+            spec, q -> q.sortBy(SeekCursor.sort("timestamp", true)).limit(limit + 1).all());
+    SeekPage<UserActivity> page =
+        SeekPage.of(rows, limit, a -> new SeekCursor(a.getTimestamp(), a.getId()), SCROLL_SCOPE);
+    return rowCountEstimator.withTotal(
+        page,
+        countMode,
+        TimePartitionManager.PartitionedTable.USER_ACTIVITIES.getTableName(),
+        filtered,
+        () -> userActivityRepository.count(base));
+  }
+
+  // searchActivities 의 JPQL 과 같은 조건. 사용자가 없는 활동도 남도록 LEFT JOIN 한다
+  private static Specification<UserActivity> keywordSpec(String keyword) {
+    String pattern = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+    return (root, query, cb) -> {
+      var user = root.join("user", JoinType.LEFT);
+      return cb.or(
+          cb.like(cb.lower(root.get("activityType")), pattern),
+          cb.like(cb.lower(root.get("activityCategory")), pattern),
+          cb.like(cb.lower(root.get("targetEntityName")), pattern),
+          cb.like(cb.lower(root.get("details")), pattern),
+          cb.like(cb.lower(user.get("username")), pattern));
+    };
+  }
+
   /** 이상 활동 조회 */
   @Transactional(readOnly = true)
   public List<UserActivity> getAnomalousActivities(String userId) {
@@ -458,15 +518,28 @@ public class UserActivityService {
       throw new SecurityException("활동 이력 정리 권한이 없습니다.");
     }
 
-    List<UserActivity> oldActivities = userActivityRepository.findOldActivities(cutoffDate);
-    int count = oldActivities.size();
+    return purgeActivitiesBefore(cutoffDate);
+  }
+
+  /**
+   * cutoff 이전 활동 이력 삭제 (권한 확인 없음 - 보존 스케줄러용)
+   *
+   * <p>파티션 테이블이면 cutoff 이전 달 파티션을 통째로 버리고, 남은 경계 달만 벌크 DELETE 로 지운다. 행을 메모리에 올리지 않는다.
+   *
+   * @return 삭제한 행 수 (파티션 삭제분은 통계 추정치)
+   */
+  @Transactional
+  public int purgeActivitiesBefore(LocalDateTime cutoffDate) {
+    long dropped =
+        timePartitionManager.dropPartitionsBefore(
+            TimePartitionManager.PartitionedTable.USER_ACTIVITIES, cutoffDate.toLocalDate());
+    long count = dropped + userActivityRepository.deleteOldActivities(cutoffDate);
 
     if (count > 0) {
-      userActivityRepository.deleteAll(oldActivities);
-      logger.info("오래된 활동 이력 {}건 정리 완료", count);
+      logger.info("오래된 활동 이력 {}건 정리 완료 (파티션 삭제 {}건)", count, dropped);
     }
 
-    return count;
+    return (int) Math.min(count, Integer.MAX_VALUE);
   }
 
   /** 사용자 활동 접근 권한 확인 Spring Security @PreAuthorize에서 사용 */
@@ -0,0 +1,106 @@
+package com.testcase.testcasemanagement.service.llm;
+
+import com.testcase.testcasemanagement.dto.rag.RagChatMessage;
+import com.testcase.testcasemanagement.model.LlmConfig;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link LlmResponseCache} 를 앞에 둔 LlmClient 데코레이터
+ *
+ * <p>적중하면 제공자를 부르지 않는다. 스트리밍 호출도 캐시된 응답을 같은 {@link StreamCallback} 으로 조각내 흘려보내므로 호출하는 쪽은 차이를 모른다.
+ * 스트리밍 미스는 받은 청크를 모아 두었다가 제공자 호출이 예외 없이 끝났을 때만 저장한다 — 중간에 끊긴 응답을 캐시하지 않기 위해서다.
+ */
+class CachingLlmClient implements LlmClient {
+
+  // 캐시 재생 시 한 번에 보내는 글자 수 — 실제 스트림처럼 조금씩 그려지게 한다
+  private static final int REPLAY_CHUNK_CHARS = 64;
+
+  private final LlmClient delegate;
+  private final LlmResponseCache cache;
+  private final String template;
+
+  CachingLlmClient(LlmClient delegate, LlmResponseCache cache, String template) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.template = template;
+  }
+
+  @Override
+  public LlmResponse chat(
+      LlmConfig config, List<RagChatMessage> messages, Double temperature, Integer maxTokens)
+      throws LlmClientException {
+    Optional<LlmResponseCache.Key> key =
+        cache.keyFor(template, config, messages, temperature, maxTokens);
+    if (key.isEmpty()) {
+      return delegate.chat(config, messages, temperature, maxTokens);
+    }
+    Optional<LlmResponse> cached = cache.get(key.get());
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    LlmResponse response = delegate.chat(config, messages, temperature, maxTokens);
+    cache.put(key.get(), response);
+    return response;
+  }
+
+  @Override
+  public void chatStream(
+      LlmConfig config,
+      List<RagChatMessage> messages,
+      Double temperature,
+      Integer maxTokens,
+      StreamCallback callback)
+      throws LlmClientException {
+    Optional<LlmResponseCache.Key> key =
+        cache.keyFor(template, config, messages, temperature, maxTokens);
+    if (key.isEmpty()) {
+      delegate.chatStream(config, messages, temperature, maxTokens, callback);
+      return;
+    }
+    Optional<LlmResponse> cached = cache.get(key.get());
+    if (cached.isPresent()) {
+      replay(cached.get().getContent(), callback);
+      return;
+    }
+
+    StringBuilder collected = new StringBuilder();
+    boolean[] completed = {false};
+    delegate.chatStream(
+        config,
+        messages,
+        temperature,
+        maxTokens,
+        (chunk, isLast) -> {
+          if (chunk != null) {
+            collected.append(chunk);
+          }
+          if (isLast) {
+            completed[0] = true;
+          }
+          callback.onChunk(chunk, isLast);
+        });
+    if (completed[0]) {
+      cache.put(key.get(), new LlmResponse(collected.toString(), null, config.getModelName()));
+    }
+  }
+
+  @Override
+  public LlmConfig.LlmProvider getSupportedProvider() {
+    return delegate.getSupportedProvider();
+  }
+
+  private static void replay(String content, StreamCallback callback) {
+    int start = 0;
+    while (start < content.length()) {
+      int end = Math.min(content.length(), start + REPLAY_CHUNK_CHARS);
+      // 서로게이트 쌍을 가르지 않는다
+      if (end < content.length() && Character.isHighSurrogate(content.charAt(end - 1))) {
+        end--;
+      }
+      callback.onChunk(content.substring(start, end), false);
+      start = end;
+    }
+    callback.onChunk("", true);
+  }
+}
@@ -12,22 +12,52 @@ import org.springframework.stereotype.Component;
  * LLM 클라이언트 팩토리
  *
  * <p>LlmConfig의 provider에 따라 적절한 LlmClient 구현체를 반환
+ *
+ * <p>반환하는 클라이언트 앞에는 {@link LlmResponseCache} 가 있다. 호출 종류(template)를 넘기면 그 종류의 TTL 로 캐시되고, 연결 확인처럼 반드시
+ * 제공자에 닿아야 하는 호출은 {@link #getDirectClient} 를 쓴다.
  */
 @Component
 @RequiredArgsConstructor
 public class LlmClientFactory {
 
+  /** 템플릿을 지정하지 않은 호출의 캐시 템플릿 이름 */
+  public static final String DEFAULT_TEMPLATE = "default";
+
   private final List<LlmClient> llmClients;
+  private final LlmResponseCache responseCache;
   private Map<LlmConfig.LlmProvider, LlmClient> clientMap;
 
   /**
-   * LlmConfig에 맞는 LlmClient 반환
+   * LlmConfig에 맞는 LlmClient 반환 (응답 캐시 적용, 기본 템플릿)
    *
    * @param config LLM 설정
-   * @return LlmClient 구현체
+   * @return 캐시를 앞에 둔 LlmClient
    * @throws IllegalArgumentException 지원하지 않는 provider인 경우
    */
   public LlmClient getClient(LlmConfig config) {
+    return getClient(config, DEFAULT_TEMPLATE);
+  }
+
+  /**
+   * LlmConfig에 맞는 LlmClient 반환 (응답 캐시 적용)
+   *
+   * @param config LLM 설정
+   * @param template 캐시 TTL 을 고르는 호출 종류 이름 (llm.response-cache.template-ttl-minutes 의 키)
+   * @return 캐시를 앞에 둔 LlmClient
+   * @throws IllegalArgumentException 지원하지 않는 provider인 경우
+   */
+  public LlmClient getClient(LlmConfig config, String template) {
+    return responseCache.wrap(getDirectClient(config), template);
+  }
+
+  /**
+   * 캐시 없이 제공자에 바로 닿는 LlmClient 반환
+   *
+   * @param config LLM 설정
+   * @return LlmClient 구현체
+   * @throws IllegalArgumentException 지원하지 않는 provider인 경우
+   */
+  public LlmClient getDirectClient(LlmConfig config) {
     if (clientMap == null) {
       // 지연 초기화: 모든 LlmClient 빈들을 provider별로 매핑
       clientMap =
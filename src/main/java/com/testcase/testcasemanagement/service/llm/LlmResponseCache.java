@@ -0,0 +1,345 @@
+package com.testcase.testcasemanagement.service.llm;
+
+import com.testcase.testcasemanagement.dto.rag.RagChatMessage;
+import com.testcase.testcasemanagement.model.LlmConfig;
+import com.testcase.testcasemanagement.util.ApiKeyHasher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * LLM 응답 캐시 (제공자 무관)
+ *
+ * <p>같은 설정·같은 메시지·같은 파라미터의 호출은 제공자에 다시 보내지 않고 이전 응답을 돌려준다. 테스트케이스 메타 생성, 질의 의도 분석처럼 입력이 그대로 반복되는
+ * 호출이 많아 비용과 지연을 함께 줄인다.
+ *
+ * <ul>
+ *   <li>정확 일치: 설정 ID·제공자·URL·모델·온도·최대 토큰·전체 메시지의 SHA-256 키
+ *   <li>유사 일치(선택): 마지막 사용자 메시지를 뺀 나머지가 정확히 같고, 마지막 사용자 메시지의 임베딩 코사인 유사도가 임계값 이상이면 적중
+ * </ul>
+ *
+ * <p>온도가 {@code max-temperature} 를 넘거나 지정되지 않은 호출은 캐시하지 않는다 — 매번 다른 답을 기대하는 호출이다. TTL 은 호출 종류(템플릿)별로
+ * 다르게 줄 수 있고, 0 이면 그 템플릿은 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class LlmResponseCache {
+
+  /** 캐시 설정 ({@code llm.response-cache.*}) */
+  @Component
+  @ConfigurationProperties(prefix = "llm.response-cache")
+  public static class Properties {
+    private boolean enabled = true;
+    private int maxEntries = 1000;
+    private int maxResponseChars = 32768;
+    private double maxTemperature = 0.3;
+    private long defaultTtlMinutes = 60;
+    private Map<String, Long> templateTtlMinutes = new HashMap<>();
+    private boolean semanticEnabled = false;
+    private double semanticThreshold = 0.92;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    public int getMaxResponseChars() {
+      return maxResponseChars;
+    }
+
+    public void setMaxResponseChars(int maxResponseChars) {
+      this.maxResponseChars = maxResponseChars;
+    }
+
+    public double getMaxTemperature() {
+      return maxTemperature;
+    }
+
+    public void setMaxTemperature(double maxTemperature) {
+      this.maxTemperature = maxTemperature;
+    }
+
+    public long getDefaultTtlMinutes() {
+      return defaultTtlMinutes;
+    }
+
+    public void setDefaultTtlMinutes(long defaultTtlMinutes) {
+      this.defaultTtlMinutes = defaultTtlMinutes;
+    }
+
+    public Map<String, Long> getTemplateTtlMinutes() {
+      return templateTtlMinutes;
+    }
+
+    public void setTemplateTtlMinutes(Map<String, Long> templateTtlMinutes) {
+      this.templateTtlMinutes = templateTtlMinutes;
+    }
+
+    public boolean isSemanticEnabled() {
+      return semanticEnabled;
+    }
+
+    public void setSemanticEnabled(boolean semanticEnabled) {
+      this.semanticEnabled = semanticEnabled;
+    }
+
+    public double getSemanticThreshold() {
+      return semanticThreshold;
+    }
+
+    public void setSemanticThreshold(double semanticThreshold) {
+      this.semanticThreshold = semanticThreshold;
+    }
+  }
+
+  /** 한 호출의 캐시 키. 캐시 대상이 아니면 만들지 않는다. */
+  record Key(
+      String exact, String prefix, String lastUserMessage, String template, String configId) {}
+
+  private record Entry(
+      String configId,
+      String prefix,
+      float[] embedding,
+      LlmClient.LlmResponse response,
+      long expiresAtMillis) {}
+
+  // 임베딩 차원 — 문자 3-gram 을 이 크기로 해싱한다
+  private static final int EMBEDDING_DIMENSIONS = 256;
+
+  private final Properties properties;
+  private final Counter hitCounter;
+  private final Counter semanticHitCounter;
+  private final Counter missCounter;
+
+  // access-order LinkedHashMap: 가장 오래 안 쓴 항목이 맨 앞
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+  public LlmResponseCache(Properties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.hitCounter = meterRegistry.counter("llm.response.cache", "result", "hit");
+    this.semanticHitCounter = meterRegistry.counter("llm.response.cache", "result", "semantic_hit");
+    this.missCounter = meterRegistry.counter("llm.response.cache", "result", "miss");
+  }
+
+  /** delegate 앞에 캐시를 둔 클라이언트. template 은 TTL 을 고르는 호출 종류 이름이다. */
+  public LlmClient wrap(LlmClient delegate, String template) {
+    return new CachingLlmClient(delegate, this, template);
+  }
+
+  /** 캐시 대상이면 키를 만든다. 꺼져 있거나, 온도가 높거나, 템플릿 TTL 이 0 이면 empty. */
+  Optional<Key> keyFor(
+      String template,
+      LlmConfig config,
+      List<RagChatMessage> messages,
+      Double temperature,
+      Integer maxTokens) {
+    if (!properties.isEnabled()
+        || temperature == null
+        || temperature > properties.getMaxTemperature()
+        || ttlMinutes(template) <= 0
+        || messages == null
+        || messages.isEmpty()) {
+      return Optional.empty();
+    }
+    StringBuilder prefix = new StringBuilder();
+    // 설정 ID 를 넣어, 제공자·모델이 같아도 다른 설정(API 키·계정)의 응답을 섞지 않고 설정 단위 무효화가 빠짐없이 닿게 한다
+    prefix
+        .append(config.getId())
+        .append('\n')
+        .append(config.getProvider())
+        .append('\n')
+        .append(config.getApiUrl())
+        .append('\n')
+        .append(config.getModelName())
+        .append('\n')
+        .append(temperature)
+        .append('\n')
+        .append(maxTokens)
+        .append('\n');
+    int last = messages.size() - 1;
+    for (int i = 0; i < last; i++) {
+      appendMessage(prefix, messages.get(i));
+    }
+    RagChatMessage lastMessage = messages.get(last);
+    String prefixKey = ApiKeyHasher.sha256Hex(prefix.toString());
+    String lastUser = "user".equals(lastMessage.getRole()) ? lastMessage.getContent() : null;
+    appendMessage(prefix, lastMessage);
+    return Optional.of(
+        new Key(
+            ApiKeyHasher.sha256Hex(prefix.toString()),
+            prefixKey,
+            lastUser,
+            template,
+            config.getId()));
+  }
+
+  /** 캐시된 응답 조회. 정확 일치를 먼저 보고, 켜져 있으면 유사 일치를 본다. */
+  synchronized Optional<LlmClient.LlmResponse> get(Key key) {
+    long now = System.currentTimeMillis();
+    Entry exact = entries.get(key.exact());
+    if (exact != null) {
+      if (exact.expiresAtMillis() >= now) {
+        hitCounter.increment();
+        return Optional.of(exact.response());
+      }
+      entries.remove(key.exact());
+    }
+    if (properties.isSemanticEnabled() && key.lastUserMessage() != null) {
+      float[] query = embed(key.lastUserMessage());
+      Entry best = null;
+      double bestScore = properties.getSemanticThreshold();
+      for (Entry candidate : entries.values()) {
+        if (candidate.embedding() == null
+            || candidate.expiresAtMillis() < now
+            || !candidate.prefix().equals(key.prefix())) {
+          continue;
+        }
+        double score = cosine(query, candidate.embedding());
+        if (score >= bestScore) {
+          best = candidate;
+          bestScore = score;
+        }
+      }
+      if (best != null) {
+        semanticHitCounter.increment();
+        log.debug("LLM 응답 유사 캐시 적중: template={}, score={}", key.template(), bestScore);
+        return Optional.of(best.response());
+      }
+    }
+    missCounter.increment();
+    return Optional.empty();
+  }
+
+  /** 응답 저장. 비었거나 너무 긴 응답은 담지 않는다. */
+  synchronized void put(Key key, LlmClient.LlmResponse response) {
+    if (response == null
+        || response.getContent() == null
+        || response.getContent().isBlank()
+        || response.getContent().length() > properties.getMaxResponseChars()
+        || properties.getMaxEntries() <= 0) {
+      return;
+    }
+    float[] embedding =
+        properties.isSemanticEnabled() && key.lastUserMessage() != null
+            ? embed(key.lastUserMessage())
+            : null;
+    long expiresAt =
+        System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ttlMinutes(key.template()));
+    entries.put(
+        key.exact(), new Entry(key.configId(), key.prefix(), embedding, response, expiresAt));
+    Iterator<String> eldest = entries.keySet().iterator();
+    while (entries.size() > properties.getMaxEntries() && eldest.hasNext()) {
+      eldest.next();
+      eldest.remove();
+    }
+  }
+
+  /** 현재 항목 수 */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** 전체 비우기 (기본 LLM 설정 변경 등) */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /** 해당 LLM 설정으로 받은 응답만 지운다 (설정 수정·삭제·활성 전환) */
+  public synchronized void invalidateConfig(String configId) {
+    if (configId != null) {
+      entries.values().removeIf(entry -> configId.equals(entry.configId()));
+    }
+  }
+
+  /**
+   * 지금 지우고 트랜잭션이 끝난 뒤 한 번 더 지운다. 커밋 전 다른 스레드가 옛 설정으로 받은 응답을 다시 담아도
+   * 커밋 뒤에는 남지 않는다. configId 가 null 이면 전체를 비운다.
+   */
+  public void invalidateAfterCommit(String configId) {
+    Runnable invalidate = configId != null ? () -> invalidateConfig(configId) : this::clear;
+    invalidate.run();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            invalidate.run();
+          }
+        });
+  }
+
+  private long ttlMinutes(String template) {
+    Long ttl = template != null ? properties.getTemplateTtlMinutes().get(template) : null;
+    return ttl != null ? ttl : properties.getDefaultTtlMinutes();
+  }
+
+  private static void appendMessage(StringBuilder builder, RagChatMessage message) {
+    String content = message.getContent() != null ? message.getContent() : "";
+    // 길이를 앞에 붙여 메시지 경계가 내용과 섞여 다른 대화가 같은 키가 되지 않게 한다
+    builder
+        .append(message.getRole())
+        .append(':')
+        .append(content.length())
+        .append(':')
+        .append(content)
+        .append('\n');
+  }
+
+  /**
+   * 로컬 임베딩: 정규화한 문자 3-gram 을 고정 차원으로 해싱한 L2 정규화 벡터.
+   *
+   * <p>외부 임베딩 서비스 없이 동작하고 결정적이라 테스트할 수 있다. 의미 유사도보다는 "표현이 거의 같은 질문"을 잡는 용도다.
+   */
+  static float[] embed(String text) {
+    float[] vector = new float[EMBEDDING_DIMENSIONS];
+    String normalized = " " + text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT) + " ";
+    for (int i = 0; i + 3 <= normalized.length(); i++) {
+      int hash = normalized.substring(i, i + 3).hashCode();
+      vector[Math.floorMod(hash, EMBEDDING_DIMENSIONS)] += 1f;
+    }
+    double norm = 0;
+    for (float v : vector) {
+      norm += v * v;
+    }
+    if (norm > 0) {
+      float scale = (float) (1.0 / Math.sqrt(norm));
+      for (int i = 0; i < vector.length; i++) {
+        vector[i] *= scale;
+      }
+    }
+    return vector;
+  }
+
+  static double cosine(float[] a, float[] b) {
+    double dot = 0;
+    for (int i = 0; i < a.length; i++) {
+      dot += a[i] * b[i];
+    }
+    return dot;
+  }
+}
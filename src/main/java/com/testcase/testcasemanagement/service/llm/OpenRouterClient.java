@@ -3,7 +3,7 @@ package com.testcase.testcasemanagement.service.llm;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.testcase.testcasemanagement.dto.rag.RagChatMessage;
 import com.testcase.testcasemanagement.model.LlmConfig;
-import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +32,7 @@ public class OpenRouterClient implements LlmClient {
       LlmApiUrlNormalizer.chatCompletionsPathOf(LlmConfig.LlmProvider.OPENROUTER);
 
   private final WebClient.Builder webClientBuilder;
-  private final EncryptionUtil encryptionUtil;
+  private final SecretVault secretVault;
   private final ObjectMapper objectMapper;
 
   @Override
@@ -43,7 +43,7 @@ public class OpenRouterClient implements LlmClient {
       log.info(
           "📤 OpenRouter API 호출: model={}, messages={}", config.getModelName(), messages.size());
 
-      String apiKey = encryptionUtil.decrypt(config.getEncryptedApiKey());
+      String apiKey = secretVault.reveal(config.getEncryptedApiKey());
 
       WebClient webClient =
           webClientBuilder
@@ -139,7 +139,7 @@ public class OpenRouterClient implements LlmClient {
           config.getModelName(),
           messages.size());
 
-      String apiKey = encryptionUtil.decrypt(config.getEncryptedApiKey());
+      String apiKey = secretVault.reveal(config.getEncryptedApiKey());
 
       WebClient webClient =
           webClientBuilder
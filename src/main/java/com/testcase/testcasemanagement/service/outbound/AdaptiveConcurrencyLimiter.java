@@ -0,0 +1,176 @@
+package com.testcase.testcasemanagement.service.outbound;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 동시 호출 한도
+ *
+ * <p>고정 크기 벌크헤드는 상대가 느려져도 같은 수의 스레드를 계속 내준다. 이 한도는 응답을 보고 스스로 움직인다.
+ *
+ * <ul>
+ *   <li>증가(additive): 지연 기준 안에 끝난 호출마다 {@code 1/limit} — 한도만큼 성공하면 1 늘어난다. 한도의 절반도 쓰지 않는 동안에는 늘리지
+ *       않는다 (한가해서 성공한 것이지 여유가 있어 성공한 게 아니다).
+ *   <li>감소(multiplicative): 기준보다 느린 호출, 인프라 오류마다 {@code backoffRatio} 를 곱한다.
+ * </ul>
+ *
+ * <p>한도가 차면 {@code maxQueue} 개까지만 {@code maxWait} 동안 기다리고 나머지는 바로 거절한다. 상대가 멈췄을 때 요청 스레드가 끝없이 쌓이지
+ * 않게 하는 것이 목적이라 대기는 짧게 둔다. 호출 하나가 외부 I/O 라 락 하나로 충분하다.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final int maxQueue;
+  private final long maxWaitNanos;
+  private final long latencyThresholdNanos;
+  private final double backoffRatio;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+
+  private double limit;
+  private int inFlight;
+  private int queued;
+
+  public AdaptiveConcurrencyLimiter(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      int maxQueue,
+      Duration maxWait,
+      Duration latencyThreshold,
+      double backoffRatio) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("invalid limits: min " + minLimit + ", max " + maxLimit);
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("backoffRatio must be in (0, 1): " + backoffRatio);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.maxQueue = Math.max(0, maxQueue);
+    this.maxWaitNanos = maxWait.toNanos();
+    this.latencyThresholdNanos = latencyThreshold.toNanos();
+    this.backoffRatio = backoffRatio;
+    this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+  }
+
+  /** 자리를 얻으면 true. 얻었으면 반드시 {@code onSuccess}/{@code onDropped}/{@code onIgnored} 중 하나로 돌려준다. */
+  public boolean tryAcquire() {
+    lock.lock();
+    try {
+      if (inFlight < permits()) {
+        inFlight++;
+        return true;
+      }
+      if (queued >= maxQueue || maxWaitNanos <= 0) {
+        return false;
+      }
+      queued++;
+      try {
+        long remaining = maxWaitNanos;
+        while (inFlight >= permits()) {
+          if (remaining <= 0) {
+            return false;
+          }
+          remaining = released.awaitNanos(remaining);
+        }
+        inFlight++;
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        queued--;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 정상 응답. 지연 기준을 넘었으면 감소로 본다. */
+  public void onSuccess(long latencyNanos) {
+    if (latencyNanos > latencyThresholdNanos) {
+      onDropped();
+      return;
+    }
+    lock.lock();
+    try {
+      if (inFlight * 2 >= limit) {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+      }
+      release();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 인프라 오류·시간 초과 */
+  public void onDropped() {
+    lock.lock();
+    try {
+      limit = Math.max(minLimit, limit * backoffRatio);
+      release();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 업무 오류 (404, 검증 실패 등) — 상대의 상태와 관계없으니 한도는 그대로 */
+  public void onIgnored() {
+    lock.lock();
+    try {
+      release();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public double getLimit() {
+    lock.lock();
+    try {
+      return limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getQueued() {
+    lock.lock();
+    try {
+      return queued;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** 사용 중 / 한도 (1 이면 가득 참) */
+  public double getSaturation() {
+    lock.lock();
+    try {
+      return inFlight / (double) permits();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private int permits() {
+    return (int) limit;
+  }
+
+  private void release() {
+    inFlight--;
+    released.signal();
+  }
+}
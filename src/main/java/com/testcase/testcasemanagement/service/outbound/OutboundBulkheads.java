@@ -0,0 +1,138 @@
+package com.testcase.testcasemanagement.service.outbound;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 시스템별 격리 묶음 (jira, rag, llm, minio)
+ *
+ * <p>네 시스템은 모두 요청 스레드에서 블로킹으로 불리고, 동시 호출 상한이 없었다. RAG 가 멈추면 읽기 타임아웃(5분) 동안 요청 스레드가 하나씩 잡혀
+ * Tomcat 스레드가 바닥나고 상관없는 화면까지 멈췄다. 시스템마다 {@link OutboundGuard} 를 따로 두어 한 시스템이 쓸 수 있는 스레드를 한도로
+ * 묶고, 넘치면 바로 거절한다. 호출은 {@code OutboundCallMetricsAspect} 가 감싼다.
+ *
+ * <p>회로 차단기는 Resilience4j 레지스트리에 {@code outbound-<system>} 이름으로 올려 Actuator·Micrometer 의 기존 계측을 그대로 쓴다.
+ * 동시 호출 한도는 {@code outbound.concurrency.*} 게이지로 내보낸다.
+ */
+@Slf4j
+@Component
+public class OutboundBulkheads {
+
+  static final List<String> SYSTEMS = List.of("jira", "rag", "llm", "minio");
+
+  private final Map<String, OutboundGuard> guards = new HashMap<>();
+
+  public OutboundBulkheads(
+      Properties properties,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      MeterRegistry registry) {
+    for (String system : SYSTEMS) {
+      Limits limits = properties.getSystems().getOrDefault(system, new Limits());
+      AdaptiveConcurrencyLimiter limiter =
+          new AdaptiveConcurrencyLimiter(
+              limits.getInitialLimit(),
+              limits.getMinLimit(),
+              limits.getMaxLimit(),
+              limits.getMaxQueue(),
+              limits.getMaxWait(),
+              limits.getLatencyThreshold(),
+              limits.getBackoffRatio());
+      CircuitBreaker circuitBreaker =
+          circuitBreakerRegistry.circuitBreaker("outbound-" + system, circuitConfig(limits));
+      guards.put(system, new OutboundGuard(system, limiter, circuitBreaker, registry));
+
+      gauge(registry, "outbound.concurrency.limit", system, limiter, l -> l.getLimit());
+      gauge(registry, "outbound.concurrency.in_flight", system, limiter, l -> l.getInFlight());
+      gauge(registry, "outbound.concurrency.queued", system, limiter, l -> l.getQueued());
+      gauge(registry, "outbound.concurrency.saturation", system, limiter, l -> l.getSaturation());
+      log.info(
+          "외부 호출 격리 - {}: 동시 한도 {} ({}~{}), 대기 {}개/{}ms, 지연 기준 {}ms",
+          system,
+          limits.getInitialLimit(),
+          limits.getMinLimit(),
+          limits.getMaxLimit(),
+          limits.getMaxQueue(),
+          limits.getMaxWait().toMillis(),
+          limits.getLatencyThreshold().toMillis());
+    }
+  }
+
+  public OutboundGuard guard(String system) {
+    OutboundGuard guard = guards.get(system);
+    if (guard == null) {
+      throw new IllegalArgumentException("Unknown outbound system: " + system);
+    }
+    return guard;
+  }
+
+  private static CircuitBreakerConfig circuitConfig(Limits limits) {
+    return CircuitBreakerConfig.custom()
+        .failureRateThreshold(limits.getFailureRateThreshold())
+        .slowCallRateThreshold(limits.getSlowCallRateThreshold())
+        .slowCallDurationThreshold(limits.getLatencyThreshold())
+        .minimumNumberOfCalls(limits.getMinimumCalls())
+        .slidingWindowSize(Math.max(limits.getMinimumCalls(), limits.getSlidingWindowSize()))
+        .waitDurationInOpenState(limits.getWaitInOpen())
+        .permittedNumberOfCallsInHalfOpenState(limits.getHalfOpenCalls())
+        .recordException(OutboundFailures::isInfrastructureFailure)
+        .build();
+  }
+
+  private static void gauge(
+      MeterRegistry registry,
+      String name,
+      String system,
+      AdaptiveConcurrencyLimiter limiter,
+      ToDoubleFunction<AdaptiveConcurrencyLimiter> value) {
+    Gauge.builder(name, limiter, value).tag("system", system).register(registry);
+  }
+
+  /** 격리 설정 ({@code app.outbound.systems.<system>.*}). 빠진 시스템·항목은 {@link Limits} 기본값. */
+  @Getter
+  @Setter
+  @Component
+  @ConfigurationProperties(prefix = "app.outbound")
+  public static class Properties {
+    private Map<String, Limits> systems = new HashMap<>();
+  }
+
+  /** 시스템 하나의 한도 */
+  @Getter
+  @Setter
+  public static class Limits {
+    /** 시작 동시 한도 */
+    private int initialLimit = 10;
+
+    private int minLimit = 2;
+    private int maxLimit = 50;
+
+    /** 한도가 찼을 때 기다릴 수 있는 호출 수. 넘치면 바로 거절한다. */
+    private int maxQueue = 10;
+
+    private Duration maxWait = Duration.ofMillis(200);
+
+    /** 이보다 느린 호출은 한도 감소·회로의 느린 호출로 센다 */
+    private Duration latencyThreshold = Duration.ofSeconds(10);
+
+    private double backoffRatio = 0.9;
+
+    private float failureRateThreshold = 50;
+    private float slowCallRateThreshold = 80;
+    private int minimumCalls = 20;
+    private int slidingWindowSize = 50;
+    private Duration waitInOpen = Duration.ofSeconds(30);
+    private int halfOpenCalls = 3;
+  }
+}
@@ -0,0 +1,50 @@
+package com.testcase.testcasemanagement.service.outbound;
+
+import com.testcase.testcasemanagement.exception.RagApiException;
+import io.minio.errors.ServerException;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 외부 호출 예외 중 "상대가 아프다" 로 볼 것만 고른다.
+ *
+ * <p>회로 차단기와 동시 호출 한도는 이 판정만 실패로 센다. 404·인증 실패·검증 오류처럼 요청 쪽 문제를 세면 한 사용자의 잘못된 설정이 모두의 호출을
+ * 막는다. 서비스들이 예외를 {@code RuntimeException} 으로 감싸 다시 던지므로 원인 사슬을 따라 내려가며 본다.
+ */
+public final class OutboundFailures {
+
+  private static final int MAX_DEPTH = 10;
+
+  private OutboundFailures() {}
+
+  public static boolean isInfrastructureFailure(Throwable error) {
+    Throwable current = error;
+    for (int depth = 0; current != null && depth < MAX_DEPTH; depth++) {
+      if (current instanceof TimeoutException
+          || current instanceof InterruptedIOException
+          || current instanceof SocketException
+          || current instanceof ResourceAccessException
+          || current instanceof HttpServerErrorException
+          || current instanceof WebClientRequestException
+          || current instanceof ServerException) {
+        return true;
+      }
+      if (current instanceof WebClientResponseException response) {
+        return response.getStatusCode().is5xxServerError();
+      }
+      if (current instanceof RagApiException rag && rag.getStatusCode() != null) {
+        return rag.getStatusCode() >= 500;
+      }
+      if (current.getCause() == current) {
+        break;
+      }
+      current = current.getCause();
+    }
+    return false;
+  }
+}
@@ -0,0 +1,92 @@
+package com.testcase.testcasemanagement.service.outbound;
+
+import com.testcase.testcasemanagement.exception.OutboundUnavailableException;
+import com.testcase.testcasemanagement.exception.OutboundUnavailableException.Reason;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 시스템 하나의 격리 — 회로 차단기 + 적응형 동시 호출 한도
+ *
+ * <p>순서는 회로 → 한도 → 호출이다. 회로가 열려 있으면 자리도 잡지 않고 거절하고, 자리가 없으면 회로 허가를 돌려준다. 호출이 끝나면 지연과
+ * 예외를 둘 다에 알린다. 실패 판정은 {@link OutboundFailures} 를 쓴다.
+ */
+public final class OutboundGuard {
+
+  /** 예외를 그대로 통과시키는 호출 */
+  @FunctionalInterface
+  public interface Call<T> {
+    T call() throws Throwable;
+  }
+
+  private final String system;
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final CircuitBreaker circuitBreaker;
+  private final Counter bulkheadRejections;
+  private final Counter circuitRejections;
+
+  OutboundGuard(
+      String system,
+      AdaptiveConcurrencyLimiter limiter,
+      CircuitBreaker circuitBreaker,
+      MeterRegistry meterRegistry) {
+    this.system = system;
+    this.limiter = limiter;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkheadRejections = rejections(meterRegistry, system, "bulkhead_full");
+    this.circuitRejections = rejections(meterRegistry, system, "circuit_open");
+  }
+
+  public <T> T call(Call<T> call) throws Throwable {
+    if (!circuitBreaker.tryAcquirePermission()) {
+      circuitRejections.increment();
+      throw new OutboundUnavailableException(system, Reason.CIRCUIT_OPEN);
+    }
+    if (!limiter.tryAcquire()) {
+      circuitBreaker.releasePermission();
+      bulkheadRejections.increment();
+      throw new OutboundUnavailableException(system, Reason.BULKHEAD_FULL);
+    }
+
+    long start = System.nanoTime();
+    try {
+      T result = call.call();
+      long elapsed = System.nanoTime() - start;
+      circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+      limiter.onSuccess(elapsed);
+      return result;
+    } catch (Throwable e) {
+      long elapsed = System.nanoTime() - start;
+      // 회로는 설정한 판정(recordException)으로 실패인지 가린다
+      circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+      if (OutboundFailures.isInfrastructureFailure(e)) {
+        limiter.onDropped();
+      } else {
+        limiter.onIgnored();
+      }
+      throw e;
+    }
+  }
+
+  public String getSystem() {
+    return system;
+  }
+
+  public AdaptiveConcurrencyLimiter getLimiter() {
+    return limiter;
+  }
+
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  private static Counter rejections(MeterRegistry meterRegistry, String system, String reason) {
+    return Counter.builder("outbound.rejections")
+        .description("Outbound calls rejected without being sent")
+        .tag("system", system)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
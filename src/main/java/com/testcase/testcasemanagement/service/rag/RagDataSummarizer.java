@@ -11,9 +11,14 @@ import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-/** 대용량 데이터 요약 서비스 SQL 결과가 너무 많을 경우 LLM을 통해 요약합니다. */
+/**
+ * 대용량 데이터 요약 서비스 SQL 결과가 너무 많을 경우 LLM을 통해 요약합니다.
+ *
+ * <p>요약은 답변 전에 한 번 더 LLM 을 부르는 일이라 첫 응답이 그만큼 늦어진다. 결과를 그대로 실어도 토큰 예산 안이면 요약하지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +28,10 @@ public class RagDataSummarizer {
   private final LlmConfigRepository llmConfigRepository;
   private final ObjectMapper objectMapper;
 
+  // 이 추정 토큰 수 이하의 결과는 요약 없이 원본 그대로 프롬프트에 싣는다
+  @Value("${rag.summarize.token-budget:2000}")
+  private int tokenBudget;
+
   /** 리스트 데이터를 요약하거나 전체 목록을 반환합니다. */
   public String summarize(
       List<Map<String, Object>> data, String originalQuery, boolean forceFullList) {
@@ -39,9 +48,19 @@ public class RagDataSummarizer {
       }
     }
 
+    // 건수가 많아도 토큰 예산 안이면 그대로 싣는다 — 요약 LLM 왕복을 아낀다
+    try {
+      String compact = objectMapper.writeValueAsString(data);
+      if (estimateTokens(compact) <= tokenBudget) {
+        return compact;
+      }
+    } catch (Exception e) {
+      log.debug("데이터 직렬화 실패, 요약으로 진행: {}", e.getMessage());
+    }
+
     try {
       LlmConfig llmConfig = getLlmConfig();
-      LlmClient llmClient = llmClientFactory.getClient(llmConfig);
+      LlmClient llmClient = llmClientFactory.getClient(llmConfig, "rag-summary");
 
       String systemPrompt =
           """
@@ -76,6 +95,22 @@ public class RagDataSummarizer {
     }
   }
 
+  /**
+   * 대략적인 토큰 수. ASCII 는 4자당 1토큰, 그 밖의 문자(한글 등)는 1자당 1토큰으로 어림한다 — 모델별 토크나이저 없이 쓰는 보수적 추정이다.
+   */
+  static int estimateTokens(String text) {
+    int ascii = 0;
+    int other = 0;
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) < 128) {
+        ascii++;
+      } else {
+        other++;
+      }
+    }
+    return (ascii + 3) / 4 + other;
+  }
+
   private LlmConfig getLlmConfig() {
     return llmConfigRepository
         .findByIsDefaultTrueAndIsActiveTrue()
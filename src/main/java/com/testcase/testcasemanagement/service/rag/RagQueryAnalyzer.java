@@ -7,16 +7,26 @@ import com.testcase.testcasemanagement.repository.LlmConfigRepository;
 import com.testcase.testcasemanagement.service.llm.LlmClient;
 import com.testcase.testcasemanagement.service.llm.LlmClientFactory;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-/** RAG 질의 의도 분석 서비스 사용자의 질문을 분석하여 어떤 DB 데이터가 필요한지 판단합니다. */
+/**
+ * RAG 질의 의도 분석 서비스 사용자의 질문을 분석하여 어떤 DB 데이터가 필요한지 판단합니다.
+ *
+ * <p>분석은 큰 스키마 프롬프트를 싣는 LLM 호출이라 채팅 첫 응답까지의 시간에서 큰 몫을 차지한다. 같은 프로젝트에서 같은 질문(공백·대소문자·끝 문장부호
+ * 차이 무시)이 다시 오면 짧은 시간 동안 이전 분석을 재사용한다. 의도는 "무엇을 조회할지"일 뿐 데이터 자체가 아니므로 재사용해도 답변이 낡지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -26,6 +36,18 @@ public class RagQueryAnalyzer {
   private final LlmConfigRepository llmConfigRepository;
   private final ObjectMapper objectMapper;
 
+  @Value("${rag.intent-cache.max-entries:500}")
+  private int intentCacheMaxEntries;
+
+  @Value("${rag.intent-cache.ttl-minutes:10}")
+  private long intentCacheTtlMinutes;
+
+  // access-order LinkedHashMap: 가장 오래 안 쓴 항목이 맨 앞
+  private final LinkedHashMap<String, CachedIntent> intentCache =
+      new LinkedHashMap<>(64, 0.75f, true);
+
+  private record CachedIntent(QueryIntent intent, long expiresAtMillis) {}
+
   @Data
   @Builder
   @NoArgsConstructor
@@ -43,9 +65,66 @@ public class RagQueryAnalyzer {
 
   /** 사용자의 질문을 분석하여 의도를 파악합니다. */
   public QueryIntent analyzeIntent(String message, String projectId) {
+    String cacheKey = projectId + "\n" + normalizeQuestion(message);
+    QueryIntent cached = getCachedIntent(cacheKey);
+    if (cached != null) {
+      log.debug("질의 의도 캐시 적중: project={}", projectId);
+      return cached;
+    }
+    QueryIntent analyzed = requestIntent(message, projectId);
+    if (analyzed != null) {
+      putCachedIntent(cacheKey, analyzed);
+      return analyzed;
+    }
+    // 실패 시 기본적으로 통계 정보는 포함하도록 설정 (사용자 요청 기반). 기본값은 캐시하지 않는다.
+    return QueryIntent.builder()
+        .needsStatistics(true)
+        .searchKeywords(new ArrayList<>())
+        .justification("분석 실패로 인한 기본값 적용")
+        .build();
+  }
+
+  /** 캐시 키용 질문 정규화: 앞뒤 공백, 연속 공백, 대소문자, 끝 문장부호 차이를 없앤다. */
+  static String normalizeQuestion(String message) {
+    if (message == null) {
+      return "";
+    }
+    String normalized = message.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    return normalized.replaceAll("[\\s?？!！.。]+$", "");
+  }
+
+  private synchronized QueryIntent getCachedIntent(String key) {
+    CachedIntent entry = intentCache.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAtMillis() < System.currentTimeMillis()) {
+      intentCache.remove(key);
+      return null;
+    }
+    return entry.intent();
+  }
+
+  private synchronized void putCachedIntent(String key, QueryIntent intent) {
+    if (intentCacheMaxEntries <= 0) {
+      return;
+    }
+    intentCache.put(
+        key,
+        new CachedIntent(
+            intent, System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(intentCacheTtlMinutes)));
+    Iterator<String> eldest = intentCache.keySet().iterator();
+    while (intentCache.size() > intentCacheMaxEntries && eldest.hasNext()) {
+      eldest.next();
+      eldest.remove();
+    }
+  }
+
+  /** LLM 에 의도 분석을 요청한다. 실패하면 null. */
+  private QueryIntent requestIntent(String message, String projectId) {
     try {
       LlmConfig llmConfig = getLlmConfig();
-      LlmClient llmClient = llmClientFactory.getClient(llmConfig);
+      LlmClient llmClient = llmClientFactory.getClient(llmConfig, "rag-intent");
 
       String dbSchema =
           """
@@ -125,12 +204,7 @@ public class RagQueryAnalyzer {
 
     } catch (Exception e) {
       log.error("질의 의도 분석 실패, 기본값 반환: {}", e.getMessage());
-      // 실패 시 기본적으로 통계 정보는 포함하도록 설정 (사용자 요청 기반)
-      return QueryIntent.builder()
-          .needsStatistics(true)
-          .searchKeywords(new ArrayList<>())
-          .justification("분석 실패로 인한 기본값 적용")
-          .build();
+      return null;
     }
   }
 
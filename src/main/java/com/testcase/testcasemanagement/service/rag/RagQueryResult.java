@@ -0,0 +1,43 @@
+package com.testcase.testcasemanagement.service.rag;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RAG SQL 실행 결과 (열 단위)
+ *
+ * <p>행마다 {@code Map<String, Object>} 를 만들지 않고 열마다 값 목록 하나를 둔다. 열 이름·타입은 한 번만 들고, 예산에 걸려 잘렸는지도 함께
+ * 알려 준다.
+ *
+ * @param columns 열 정의와 값 (모든 열의 값 개수는 {@code rowCount} 와 같다)
+ * @param rowCount 읽은 행 수
+ * @param truncated 행·바이트 예산 때문에 나머지 행을 읽지 않았으면 true
+ * @param truncationReason 잘린 이유 (잘리지 않았으면 null)
+ */
+public record RagQueryResult(
+    List<Column> columns, int rowCount, boolean truncated, String truncationReason) {
+
+  /**
+   * 열 하나
+   *
+   * @param name 열 라벨
+   * @param sqlType JDBC 타입 이름 ({@link java.sql.ResultSetMetaData#getColumnTypeName})
+   * @param values 행 순서대로의 값
+   */
+  public record Column(String name, String sqlType, List<Object> values) {}
+
+  /** 기존 소비자(요약기 등)용 행 단위 보기. 열 순서를 유지한다. */
+  public List<Map<String, Object>> toRows() {
+    List<Map<String, Object>> rows = new ArrayList<>(rowCount);
+    for (int row = 0; row < rowCount; row++) {
+      Map<String, Object> values = new LinkedHashMap<>();
+      for (Column column : columns) {
+        values.put(column.name(), column.values().get(row));
+      }
+      rows.add(values);
+    }
+    return rows;
+  }
+}
@@ -1,21 +1,82 @@
 package com.testcase.testcasemanagement.service.rag;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-/** RAG용 SQL 실행기 안전한 SELECT 쿼리만 실행하도록 제한합니다. */
+/**
+ * RAG용 SQL 실행기 안전한 SELECT 쿼리만 실행하도록 제한합니다.
+ *
+ * <p>LLM 이 만든 SQL 은 무거운 조인이 섞여도 막을 수 없으므로 실행 자체에 한도를 둔다.
+ *
+ * <ul>
+ *   <li>문장 타임아웃({@code rag.sql.statement-timeout-seconds}) — 넘기면 DB 가 취소한다
+ *   <li>커서 스트리밍(fetch size) 과 행·바이트 예산 — 예산을 넘으면 나머지 행은 읽지 않고 잘림으로 표시한다
+ *   <li>전체·프로젝트별 동시 실행 한도 — 채팅 질의가 OLTP 커넥션 풀을 다 쓰지 못하게 한다. 허가는 트랜잭션(커넥션)을
+ *       열기 전에 얻으므로 기다리는 질의는 커넥션을 쥐지 않는다
+ *   <li>검사·재작성 결과 캐시 — 같은 SQL 은 검사를 다시 하지 않고, 같은 문장 텍스트로 실행돼 드라이버의 prepared statement 캐시를 탄다
+ * </ul>
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RagSqlExecutor {
 
   private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate readOnlyTransaction;
+
+  @Value("${rag.sql.statement-timeout-seconds:10}")
+  private int statementTimeoutSeconds;
+
+  @Value("${rag.sql.fetch-size:100}")
+  private int fetchSize;
+
+  @Value("${rag.sql.max-rows:100}")
+  private int maxRows;
+
+  @Value("${rag.sql.max-bytes:262144}")
+  private long maxBytes;
+
+  // 0 이하면 한도 없음
+  @Value("${rag.sql.max-concurrent:4}")
+  private int maxConcurrent;
+
+  @Value("${rag.sql.max-concurrent-per-project:2}")
+  private int maxConcurrentPerProject;
+
+  @Value("${rag.sql.acquire-timeout-ms:2000}")
+  private long acquireTimeoutMillis;
+
+  @Value("${rag.sql.plan-cache-size:200}")
+  private int planCacheSize;
+
+  // 전체 한도용 세마포어 키 (프로젝트 ID 는 UUID 라 겹치지 않는다)
+  private static final String GLOBAL_PERMIT_KEY = "*";
+
+  private static final Pattern LIMIT_PATTERN =
+      Pattern.compile("\\bLIMIT\\b", Pattern.CASE_INSENSITIVE);
+
+  // 지금 쓰는 중인 키의 세마포어만 둔다 — 마지막 사용자가 놓으면 지워 프로젝트 수만큼 쌓이지 않는다
+  private final Map<String, Permit> permits = new ConcurrentHashMap<>();
+
+  // 프로젝트 + SQL → 검사를 통과하고 LIMIT 을 붙인 실행 SQL (access-order LRU)
+  private final LinkedHashMap<String, String> planCache = new LinkedHashMap<>(64, 0.75f, true);
 
   // 안전하지 않은 키워드 체크 (대소문자 구분 없이)
   private static final Pattern UNSAFE_PATTERN =
@@ -42,32 +103,203 @@ public class RagSqlExecutor {
           "\\b(pg_[a-z0-9_]+|information_schema|dblink\\w*|lo_import|lo_export|current_setting|set_config|rolpassword)\\b",
           Pattern.CASE_INSENSITIVE);
 
-  /** SELECT 쿼리를 실행하고 결과를 반환합니다. */
-  @Transactional(readOnly = true)
-  public List<Map<String, Object>> executeSelect(String sql, String projectId) {
-    if (!isSafeSelect(sql, projectId)) {
-      throw new IllegalArgumentException("허용되지 않은 SQL 쿼리이거나 다른 프로젝트 데이터에 접근을 시도했습니다.");
+  /** 한 키의 세마포어와 그것을 쥐거나 기다리는 호출 수. users 는 permits.compute 안에서만 바꾼다. */
+  private static final class Permit {
+    private final Semaphore semaphore;
+    private int users;
+
+    private Permit(int limit) {
+      this.semaphore = new Semaphore(limit);
     }
+  }
 
-    log.info("Executing RAG SQL for project {}: {}", projectId, sql);
+  public RagSqlExecutor(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * SELECT 쿼리를 실행하고 결과를 행 단위로 반환합니다.
+   *
+   * <p>{@link #executeBounded} 와 같은 한도가 적용된다. 잘렸는지 알아야 하면 {@link #executeBounded} 를 쓴다.
+   */
+  public List<Map<String, Object>> executeSelect(String sql, String projectId) {
+    return executeBounded(sql, projectId).toRows();
+  }
+
+  /**
+   * SELECT 쿼리를 타임아웃·행·바이트 예산과 동시 실행 한도 안에서 실행하고 열 단위 결과를 반환합니다.
+   *
+   * <p>허가를 얻은 뒤에야 읽기 전용 트랜잭션을 연다 (읽기 복제본 라우팅은 그대로 탄다).
+   */
+  public RagQueryResult executeBounded(String sql, String projectId) {
+    String boundedSql = plan(sql, projectId);
+
+    Permit global = acquire(GLOBAL_PERMIT_KEY, maxConcurrent);
     try {
-      // 결과 개수 제한 (성능 및 토큰 방지)
-      String limitedSql = sql;
-      if (!sql.toLowerCase().contains("limit")) {
-        limitedSql = sql.trim();
-        if (limitedSql.endsWith(";")) {
-          limitedSql = limitedSql.substring(0, limitedSql.length() - 1);
-        }
-        limitedSql += " LIMIT 100";
+      Permit project = acquire(projectId, maxConcurrentPerProject);
+      try {
+        return readOnlyTransaction.execute(status -> run(boundedSql, projectId));
+      } finally {
+        release(projectId, project);
       }
+    } finally {
+      release(GLOBAL_PERMIT_KEY, global);
+    }
+  }
 
-      return jdbcTemplate.queryForList(limitedSql);
+  private RagQueryResult run(String boundedSql, String projectId) {
+    log.info("Executing RAG SQL for project {}: {}", projectId, boundedSql);
+    try {
+      RagQueryResult result =
+          jdbcTemplate.query(
+              con -> {
+                PreparedStatement ps = con.prepareStatement(boundedSql);
+                ps.setQueryTimeout(statementTimeoutSeconds);
+                ps.setFetchSize(fetchSize);
+                // 한 행 더 받아 봐야 잘렸는지 안다
+                ps.setMaxRows(maxRows + 1);
+                return ps;
+              },
+              (ResultSetExtractor<RagQueryResult>) rs -> read(rs, maxRows, maxBytes));
+      if (result != null && result.truncated()) {
+        log.info("RAG SQL 결과 잘림 ({}): {}행", result.truncationReason(), result.rowCount());
+      }
+      return result;
     } catch (Exception e) {
       log.error("SQL 실행 실패: {}", e.getMessage());
       throw new RuntimeException("SQL 실행 중 오류가 발생했습니다: " + e.getMessage());
     }
   }
 
+  /** 검사를 통과한 SQL 에 LIMIT 을 붙여 돌려준다. 같은 프로젝트의 같은 SQL 은 캐시에서 꺼낸다. */
+  private String plan(String sql, String projectId) {
+    String trimmed = sql == null ? "" : sql.trim();
+    String cacheKey = projectId + "\n" + trimmed;
+    synchronized (planCache) {
+      String cached = planCache.get(cacheKey);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    if (!isSafeSelect(trimmed, projectId)) {
+      throw new IllegalArgumentException("허용되지 않은 SQL 쿼리이거나 다른 프로젝트 데이터에 접근을 시도했습니다.");
+    }
+
+    // 결과 개수 제한 (성능 및 토큰 방지) — LIMIT 이 있어도 setMaxRows 가 상한을 건다
+    String bounded = trimmed.endsWith(";") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    if (!LIMIT_PATTERN.matcher(bounded).find()) {
+      bounded += " LIMIT " + (maxRows + 1);
+    }
+
+    synchronized (planCache) {
+      planCache.put(cacheKey, bounded);
+      while (planCache.size() > Math.max(planCacheSize, 0)) {
+        planCache.remove(planCache.keySet().iterator().next());
+      }
+    }
+    return bounded;
+  }
+
+  /** 한도가 있으면 허가를 얻는다. 제한 시간 안에 못 얻으면 실행하지 않는다. */
+  private Permit acquire(String key, int limit) {
+    if (limit <= 0) {
+      return null;
+    }
+    Permit permit =
+        permits.compute(
+            key,
+            (k, current) -> {
+              Permit p = current != null ? current : new Permit(limit);
+              p.users++;
+              return p;
+            });
+    try {
+      if (permit.semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        return permit;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    unreference(key);
+    log.warn("RAG SQL 동시 실행 한도 초과: {}", GLOBAL_PERMIT_KEY.equals(key) ? "전체" : key);
+    throw new IllegalStateException("RAG SQL 동시 실행 한도를 넘었습니다. 잠시 후 다시 시도하세요.");
+  }
+
+  private void release(String key, Permit permit) {
+    if (permit != null) {
+      permit.semaphore.release();
+      unreference(key);
+    }
+  }
+
+  private void unreference(String key) {
+    permits.computeIfPresent(key, (k, p) -> --p.users == 0 ? null : p);
+  }
+
+  /** 지금 세마포어를 들고 있는 키 수 (전체 한도 키 포함) */
+  int trackedPermitKeys() {
+    return permits.size();
+  }
+
+  /**
+   * 커서에서 행을 읽어 열 단위로 모은다. 행 수나 추정 크기가 예산을 넘으면 거기서 멈춘다.
+   *
+   * <p>예산을 넘긴 행은 담지 않는다 — 잘린 결과도 항상 예산 안이다.
+   */
+  static RagQueryResult read(ResultSet rs, int maxRows, long maxBytes) throws SQLException {
+    ResultSetMetaData meta = rs.getMetaData();
+    int columnCount = meta.getColumnCount();
+    List<RagQueryResult.Column> columns = new ArrayList<>(columnCount);
+    for (int i = 1; i <= columnCount; i++) {
+      columns.add(
+          new RagQueryResult.Column(
+              JdbcUtils.lookupColumnName(meta, i), meta.getColumnTypeName(i), new ArrayList<>()));
+    }
+
+    int rows = 0;
+    long bytes = 0;
+    String truncationReason = null;
+    Object[] values = new Object[columnCount];
+    while (rs.next()) {
+      if (rows >= maxRows) {
+        truncationReason = "행 수 한도 " + maxRows + "행";
+        break;
+      }
+      long rowBytes = 0;
+      for (int i = 0; i < columnCount; i++) {
+        values[i] = JdbcUtils.getResultSetValue(rs, i + 1);
+        rowBytes += estimateBytes(values[i]);
+      }
+      if (bytes + rowBytes > maxBytes) {
+        truncationReason = "크기 한도 " + maxBytes + "바이트";
+        break;
+      }
+      bytes += rowBytes;
+      for (int i = 0; i < columnCount; i++) {
+        columns.get(i).values().add(values[i]);
+      }
+      rows++;
+    }
+    return new RagQueryResult(columns, rows, truncationReason != null, truncationReason);
+  }
+
+  /** 값의 대략적인 크기. 문자열은 글자 수, 바이트 배열은 길이, 나머지는 16 으로 본다. */
+  static long estimateBytes(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof CharSequence text) {
+      return text.length();
+    }
+    if (value instanceof byte[] array) {
+      return array.length;
+    }
+    return 16;
+  }
+
   private boolean isSafeSelect(String sql, String projectId) {
     String trimmed = sql.trim();
     String upperSql = trimmed.toUpperCase();
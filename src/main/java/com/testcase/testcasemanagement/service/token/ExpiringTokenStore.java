@@ -0,0 +1,34 @@
+package com.testcase.testcasemanagement.service.token;
+
+import java.time.Duration;
+
+/**
+ * 만료 시각이 있는 짧은 수명 토큰 저장소
+ *
+ * <p>리다이렉트 토큰, Refresh Token 조회 캐시처럼 "키 → 값, 정해진 시간 뒤 사라짐" 이 필요한 곳이 각자 맵과 전체 스캔 정리를 두지 않도록 한
+ * 곳에 모았다. 구현은 둘이다.
+ *
+ * <ul>
+ *   <li>{@link InMemoryExpiringTokenStore} — 인스턴스 안에서만 보인다. 항목 수 상한(LRU)과 타이머 휠 만료.
+ *   <li>{@link JdbcExpiringTokenStore} — DB 테이블에 두어 여러 인스턴스가 같은 토큰을 본다. 발급과 소비가 다른 인스턴스로 갈 수 있을 때
+ *       쓴다.
+ * </ul>
+ *
+ * <p>만료된 항목은 어느 구현이든 {@link #get}/{@link #consume} 에서 없는 것으로 본다. {@link #purgeExpired} 는 자리만 비운다.
+ */
+public interface ExpiringTokenStore<V> {
+
+  /** 값을 넣는다. 같은 키가 있으면 값과 만료 시각을 바꾼다. */
+  void put(String key, V value, Duration ttl);
+
+  /** 만료되지 않은 값. 없으면 null. */
+  V get(String key);
+
+  /** 1회성 소비 — 지우면서 값을 돌려준다. 동시에 소비해도 한 호출만 값을 받는다. 없거나 만료면 null. */
+  V consume(String key);
+
+  void remove(String key);
+
+  /** 만료된 항목이 차지한 자리를 비운다. 주기 작업에서 부른다. */
+  void purgeExpired();
+}
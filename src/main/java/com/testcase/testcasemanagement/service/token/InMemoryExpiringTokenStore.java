@@ -0,0 +1,207 @@
+package com.testcase.testcasemanagement.service.token;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 메모리에 두는 {@link ExpiringTokenStore}
+ *
+ * <p>항목 수가 {@code maxEntries} 를 넘으면 가장 오래 쓰이지 않은 항목부터 밀어낸다(접근 순서 {@link LinkedHashMap}). 로그인이 몰려
+ * 토큰이 쏟아져도 메모리는 상한 안에 머문다.
+ *
+ * <p>만료는 해시 타이머 휠로 한다. 항목은 만료 시각이 속한 칸의 이중 연결 리스트에 걸리고, 시각이 지나면 그 칸만 본다. 예전처럼 정리 때마다 맵
+ * 전체를 훑지 않으며, 지우거나 바꿀 때 칸에서 빼는 것도 O(1) 이다. 휠은 별도 스레드 없이 연산이 들어올 때 지난 칸만큼 돌리고, 한 바퀴보다 먼
+ * 만료는 그 칸에 남아 다음 바퀴에 다시 본다.
+ *
+ * <p>모든 연산은 인스턴스 락 하나로 묶는다. 각 연산이 O(1) 이라 짧은 토큰 조회에는 충분하다. {@link #removeIf} 만 전체를 훑는다.
+ */
+public final class InMemoryExpiringTokenStore<V> implements ExpiringTokenStore<V> {
+
+  private static final int WHEEL_SIZE = 512;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+  private final int maxEntries;
+  private final long tickNanos;
+  private final LongSupplier nanoClock;
+
+  private final LinkedHashMap<String, Node<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Node<V>[] wheel;
+
+  /** 마지막으로 처리한 휠 눈금 */
+  private long processedTick;
+
+  private long evictions;
+
+  /** 눈금 1초 — 만료가 최대 1초 늦게 자리에서 빠질 수 있지만 조회는 만료 시각을 직접 본다. */
+  public InMemoryExpiringTokenStore(int maxEntries) {
+    this(maxEntries, Duration.ofSeconds(1), System::nanoTime);
+  }
+
+  @SuppressWarnings("unchecked")
+  InMemoryExpiringTokenStore(int maxEntries, Duration tick, LongSupplier nanoClock) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+    }
+    this.maxEntries = maxEntries;
+    this.tickNanos = tick.toNanos();
+    this.nanoClock = nanoClock;
+    this.wheel = (Node<V>[]) new Node<?>[WHEEL_SIZE];
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      Node<V> head = new Node<>(null, null, 0L);
+      head.prev = head;
+      head.next = head;
+      wheel[i] = head;
+    }
+    this.processedTick = tickOf(nanoClock.getAsLong());
+  }
+
+  @Override
+  public synchronized void put(String key, V value, Duration ttl) {
+    long now = nanoClock.getAsLong();
+    advance(now);
+    Node<V> previous = entries.remove(key);
+    if (previous != null) {
+      unlink(previous);
+    }
+    Node<V> node = new Node<>(key, value, now + ttl.toNanos());
+    link(node);
+    entries.put(key, node);
+    while (entries.size() > maxEntries) {
+      Iterator<Node<V>> eldest = entries.values().iterator();
+      unlink(eldest.next());
+      eldest.remove();
+      evictions++;
+    }
+  }
+
+  @Override
+  public synchronized V get(String key) {
+    long now = nanoClock.getAsLong();
+    advance(now);
+    Node<V> node = entries.get(key);
+    if (node == null) {
+      return null;
+    }
+    if (node.isExpired(now)) {
+      entries.remove(key);
+      unlink(node);
+      return null;
+    }
+    return node.value;
+  }
+
+  @Override
+  public synchronized V consume(String key) {
+    long now = nanoClock.getAsLong();
+    advance(now);
+    Node<V> node = entries.remove(key);
+    if (node == null) {
+      return null;
+    }
+    unlink(node);
+    return node.isExpired(now) ? null : node.value;
+  }
+
+  @Override
+  public synchronized void remove(String key) {
+    Node<V> node = entries.remove(key);
+    if (node != null) {
+      unlink(node);
+    }
+  }
+
+  /** 조건에 맞는 항목을 모두 지운다. 전체를 훑으므로 드문 일괄 무효화에만 쓴다. */
+  public synchronized int removeIf(BiPredicate<String, V> predicate) {
+    int removed = 0;
+    Iterator<Node<V>> it = entries.values().iterator();
+    while (it.hasNext()) {
+      Node<V> node = it.next();
+      if (predicate.test(node.key, node.value)) {
+        unlink(node);
+        it.remove();
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  @Override
+  public synchronized void purgeExpired() {
+    advance(nanoClock.getAsLong());
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** 상한 때문에 만료 전에 밀려난 항목 수 */
+  public synchronized long evictionCount() {
+    return evictions;
+  }
+
+  /** 지난 눈금의 칸을 차례로 비운다. 한 바퀴 넘게 지났으면 모든 칸을 한 번씩만 본다. */
+  private void advance(long now) {
+    long nowTick = tickOf(now);
+    if (nowTick <= processedTick) {
+      return;
+    }
+    long ticks = Math.min(nowTick - processedTick, WHEEL_SIZE);
+    for (long tick = nowTick - ticks + 1; tick <= nowTick; tick++) {
+      expireSlot(wheel[(int) (tick & WHEEL_MASK)], now);
+    }
+    processedTick = nowTick;
+  }
+
+  private void expireSlot(Node<V> head, long now) {
+    Node<V> node = head.next;
+    while (node != head) {
+      Node<V> next = node.next;
+      if (node.isExpired(now)) {
+        unlink(node);
+        entries.remove(node.key);
+      }
+      node = next;
+    }
+  }
+
+  private void link(Node<V> node) {
+    Node<V> head = wheel[(int) (tickOf(node.deadline) & WHEEL_MASK)];
+    node.prev = head.prev;
+    node.next = head;
+    head.prev.next = node;
+    head.prev = node;
+  }
+
+  private static <V> void unlink(Node<V> node) {
+    node.prev.next = node.next;
+    node.next.prev = node.prev;
+    node.prev = node;
+    node.next = node;
+  }
+
+  private long tickOf(long nanos) {
+    // nanoTime 은 음수일 수 있다
+    return Math.floorDiv(nanos, tickNanos);
+  }
+
+  private static final class Node<V> {
+    private final String key;
+    private final V value;
+    private final long deadline;
+    private Node<V> prev;
+    private Node<V> next;
+
+    private Node(String key, V value, long deadline) {
+      this.key = key;
+      this.value = value;
+      this.deadline = deadline;
+    }
+
+    private boolean isExpired(long now) {
+      return now - deadline >= 0;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.testcase.testcasemanagement.service.token;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * DB 테이블({@code expiring_tokens})에 두는 {@link ExpiringTokenStore}
+ *
+ * <p>토큰을 발급한 인스턴스와 소비하는 인스턴스가 다를 수 있을 때 쓴다. 값은 문자열만 받는다. 소비는 {@code DELETE ... RETURNING} 한
+ * 문장이라 여러 인스턴스가 같은 토큰을 동시에 내밀어도 한 곳만 값을 받는다. 만료 정리는 {@code expires_at} 인덱스로 범위 삭제한다.
+ *
+ * <p>항목 수 상한은 두지 않는다. 메모리를 쓰지 않고, 만료 행은 {@link #purgeExpired} 가 지운다. SQL 은 PostgreSQL 전용이다({@code
+ * ON CONFLICT}, {@code RETURNING}).
+ */
+public class JdbcExpiringTokenStore implements ExpiringTokenStore<String> {
+
+  static final String UPSERT_SQL =
+      "INSERT INTO expiring_tokens (namespace, token, token_value, expires_at)"
+          + " VALUES (?, ?, ?, ?) ON CONFLICT (namespace, token) DO UPDATE"
+          + " SET token_value = EXCLUDED.token_value, expires_at = EXCLUDED.expires_at";
+
+  static final String SELECT_SQL =
+      "SELECT token_value FROM expiring_tokens"
+          + " WHERE namespace = ? AND token = ? AND expires_at > ?";
+
+  static final String CONSUME_SQL =
+      "DELETE FROM expiring_tokens WHERE namespace = ? AND token = ?"
+          + " RETURNING token_value, expires_at";
+
+  static final String DELETE_SQL = "DELETE FROM expiring_tokens WHERE namespace = ? AND token = ?";
+
+  static final String PURGE_SQL =
+      "DELETE FROM expiring_tokens WHERE namespace = ? AND expires_at <= ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String namespace;
+  private final Clock clock;
+
+  public JdbcExpiringTokenStore(JdbcTemplate jdbcTemplate, String namespace, Clock clock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namespace = namespace;
+    this.clock = clock;
+  }
+
+  @Override
+  public void put(String key, String value, Duration ttl) {
+    jdbcTemplate.update(UPSERT_SQL, namespace, key, value, timestamp(now().plus(ttl)));
+  }
+
+  @Override
+  public String get(String key) {
+    List<String> values =
+        jdbcTemplate.queryForList(SELECT_SQL, String.class, namespace, key, timestamp(now()));
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  @Override
+  public String consume(String key) {
+    LocalDateTime now = now();
+    List<String> values =
+        jdbcTemplate.query(
+            CONSUME_SQL,
+            (rs, rowNum) ->
+                rs.getTimestamp("expires_at").toLocalDateTime().isAfter(now)
+                    ? rs.getString("token_value")
+                    : null,
+            namespace,
+            key);
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  @Override
+  public void remove(String key) {
+    jdbcTemplate.update(DELETE_SQL, namespace, key);
+  }
+
+  @Override
+  public void purgeExpired() {
+    jdbcTemplate.update(PURGE_SQL, namespace, timestamp(now()));
+  }
+
+  private LocalDateTime now() {
+    return LocalDateTime.now(clock);
+  }
+
+  private static Timestamp timestamp(LocalDateTime time) {
+    return Timestamp.valueOf(time);
+  }
+}
@@ -0,0 +1,78 @@
+package com.testcase.testcasemanagement.util;
+
+import com.testcase.testcasemanagement.exception.ResourceNotValidException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * (시각, ID) 정렬 키 위에서 이어 읽는 키셋 커서
+ *
+ * <p>활동 이력·감사 로그·세션 목록은 시각 역순으로 끝없이 쌓여서 OFFSET 페이징은 깊은 페이지일수록 앞 행을 전부 건너뛰느라 느려진다. 마지막으로 본 행의
+ * (시각, ID) 를 토큰으로 돌려주고 다음 요청은 그보다 뒤만 읽으면 몇 번째 페이지든 인덱스 범위 조회 한 번이다. 같은 시각에 여러 행이 있어도 ID 가 순서를
+ * 끊어 주므로 빠지거나 겹치는 행이 없다.
+ *
+ * <p>토큰에는 발급한 목록(scope)을 함께 넣는다. 다른 목록이나 다른 정렬 방향의 토큰은 엉뚱한 위치부터 읽게 되므로 처음부터 다시 읽지 않고 400 으로
+ * 거절한다 — 내보내기 클라이언트가 조용히 중복 행을 받는 것보다 낫다.
+ */
+public record SeekCursor(LocalDateTime at, String id) {
+
+  /** 이 목록·방향에서만 유효한 불투명 토큰 */
+  public String encode(String scope) {
+    return String.join(".", b64(scope), b64(at.toString()), b64(id));
+  }
+
+  /**
+   * 토큰을 푼다. 비어 있으면 첫 페이지이므로 null.
+   *
+   * @throws ResourceNotValidException 형식이 깨졌거나 다른 목록·방향에서 발급된 토큰
+   */
+  public static SeekCursor decode(String token, String scope) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    try {
+      String[] parts = token.split("\\.", -1);
+      if (parts.length == 3 && unb64(parts[0]).equals(scope)) {
+        return new SeekCursor(LocalDateTime.parse(unb64(parts[1])), unb64(parts[2]));
+      }
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      // 아래에서 거절
+    }
+    throw new ResourceNotValidException(
+        "유효하지 않은 커서입니다.", Map.of("cursor", "다른 목록이거나 손상된 커서"));
+  }
+
+  /** 커서보다 뒤에 오는 행만 남기는 조건. 정렬은 {@link #sort} 와 같아야 한다. */
+  public <T> Specification<T> after(String timeAttribute, boolean descending) {
+    return (root, query, cb) -> {
+      var time = root.<LocalDateTime>get(timeAttribute);
+      var rowId = root.<String>get("id");
+      return descending
+          ? cb.or(
+              cb.lessThan(time, at), cb.and(cb.equal(time, at), cb.lessThan(rowId, id)))
+          : cb.or(
+              cb.greaterThan(time, at), cb.and(cb.equal(time, at), cb.greaterThan(rowId, id)));
+    };
+  }
+
+  /** 키셋 정렬: 시각 다음 ID */
+  public static Sort sort(String timeAttribute, boolean descending) {
+    Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+    return Sort.by(direction, timeAttribute).and(Sort.by(direction, "id"));
+  }
+
+  private static String b64(String value) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String unb64(String value) {
+    return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,156 @@
+package com.testcase.testcasemanagement.util;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * 표 형식 파일(CSV, XLSX)을 한 행씩 읽는 스트리밍 리더
+ *
+ * <p>첫 행을 헤더로 보고 이후 행을 {@code 헤더 → 값} 맵으로 넘긴다. 파일 전체를 메모리에 올리지 않는다 — XLSX 는 {@code new
+ * XSSFWorkbook} 대신 POI 이벤트(SAX) 리더로 시트 XML 을 흘려 읽으므로 행 수와 무관하게 메모리가 일정하다. 공유 문자열 표만은 메모리에
+ * 올라가며 크기는 고유 문자열 수에 비례한다.
+ *
+ * <p>행 번호는 스프레드시트 기준(헤더 = 1)이다. 오류 메시지에 그대로 쓴다.
+ */
+public final class StreamingSheetReader {
+
+  /** 데이터 행 하나를 받는 콜백 */
+  @FunctionalInterface
+  public interface RowHandler {
+    void onRow(int rowNumber, Map<String, String> row);
+  }
+
+  private StreamingSheetReader() {}
+
+  /** UTF-8 CSV 를 읽는다. 헤더의 BOM 은 지운다. 반환값은 데이터 행 수. */
+  public static int readCsv(InputStream is, RowHandler handler) throws IOException {
+    try (CSVReader reader = new CSVReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+      String[] headers = reader.readNext();
+      if (headers == null) return 0;
+      // BOM 제거
+      if (headers.length > 0 && headers[0].startsWith("\uFEFF")) {
+        headers[0] = headers[0].substring(1);
+      }
+      int rowNumber = 1;
+      String[] values;
+      while ((values = reader.readNext()) != null) {
+        rowNumber++;
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+          row.put(headers[i].trim(), i < values.length ? values[i] : "");
+        }
+        handler.onRow(rowNumber, row);
+      }
+      return rowNumber - 1;
+    } catch (CsvValidationException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * XLSX 첫 시트를 이벤트 모드로 읽는다. 반환값은 데이터 행 수.
+   *
+   * <p>ZIP 의 중앙 디렉터리를 읽어야 하므로 스트림이 아니라 파일을 받는다 — 스트림으로 열면 POI 가 전체를 메모리에 복사한다.
+   */
+  public static int readXlsx(File file, RowHandler handler) throws IOException {
+    try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+      XSSFReader xssfReader = new XSSFReader(pkg);
+      ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+      StylesTable styles = xssfReader.getStylesTable();
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+      if (!sheets.hasNext()) return 0;
+
+      RowCollector collector = new RowCollector(handler);
+      try (InputStream sheet = sheets.next()) {
+        XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(
+            new XSSFSheetXMLHandler(styles, null, strings, collector, new DataFormatter(), false));
+        parser.parse(new InputSource(sheet));
+      }
+      return collector.dataRows;
+    } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+      // 핸들러가 던진 RuntimeException 은 감싸지 않고 그대로 올린다
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /** 업로드 스트림을 임시 파일로 내려 받는다. 호출한 쪽이 지운다. */
+  public static File spoolToTempFile(InputStream is, String suffix) throws IOException {
+    File file = Files.createTempFile("testcase-import-", suffix).toFile();
+    try {
+      Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      return file;
+    } catch (IOException e) {
+      Files.deleteIfExists(file.toPath());
+      throw e;
+    }
+  }
+
+  /** 셀 이벤트를 모아 한 행이 끝날 때마다 맵으로 넘긴다. 빈 셀은 이벤트가 없으므로 열 위치로 채운다. */
+  private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+    private final RowHandler handler;
+    private List<String> headers;
+    private final List<String> values = new ArrayList<>();
+    private int dataRows;
+
+    RowCollector(RowHandler handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+      values.clear();
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+      int column =
+          cellReference == null ? values.size() : new CellReference(cellReference).getCol();
+      while (values.size() < column) {
+        values.add("");
+      }
+      values.add(formattedValue == null ? "" : formattedValue.trim());
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+      if (headers == null) {
+        headers = new ArrayList<>(values);
+        return;
+      }
+      Map<String, String> row = new LinkedHashMap<>();
+      for (int i = 0; i < headers.size(); i++) {
+        row.put(headers.get(i), i < values.size() ? values.get(i) : "");
+      }
+      dataRows++;
+      // POI 의 rowNum 은 0 부터다
+      handler.onRow(rowNum + 1, row);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.testcase.testcasemanagement.config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/** 가상 스레드 모드의 RAG 벡터화 실행기는 한도가 차도 제출 스레드를 막지 않고 대기열에 쌓는다. */
+public class AsyncConfigTest {
+
+  @Test
+  public void ragVectorizationExecutor_queuesInsteadOfBlockingCaller() throws Exception {
+    AsyncConfig config = new AsyncConfig();
+    ReflectionTestUtils.setField(config, "virtualThreads", true);
+    Executor executor = config.ragVectorizationExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(4);
+    AtomicBoolean virtual = new AtomicBoolean(true);
+    try {
+      long start = System.nanoTime();
+      // 동시 실행 수(코어 4)를 넘겨 제출해도 바로 돌아와야 한다
+      for (int i = 0; i < 20; i++) {
+        executor.execute(
+            () -> {
+              virtual.compareAndSet(true, Thread.currentThread().isVirtual());
+              started.countDown();
+              awaitQuietly(release);
+            });
+      }
+      Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+
+      Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+      Assert.assertEquals(((ThreadPoolTaskExecutor) executor).getQueueSize(), 16);
+      Assert.assertTrue(virtual.get());
+    } finally {
+      release.countDown();
+      ((ThreadPoolTaskExecutor) executor).shutdown();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -1,14 +1,23 @@
 package com.testcase.testcasemanagement.config;
 
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import com.sun.net.httpserver.HttpServer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.core.env.Environment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -68,33 +77,123 @@ public class JiraSecurityConfigTest {
 
   /**
    * dev-review R2(SSRF 잔여): Jira 아웃바운드 커넥션은 리다이렉트를 자동 추종하면 안 된다. 검증(#81)을 통과한 공개 URL 이 302 로
-   * 사설/메타데이터(169.254.169.254)로 재유도하는 우회를 prepareConnection 이 차단하는지 검증한다.
+   * 사설/메타데이터(169.254.169.254)로 재유도하는 우회를 풀 HTTP 클라이언트가 차단하는지 로컬 서버로 검증한다.
    */
   @Test
   public void jiraConnection_doesNotFollowRedirects() throws Exception {
+    AtomicInteger targetHits = new AtomicInteger();
+    HttpServer server = startServer(targetHits);
+    JiraSecurityConfig config = pooledConfig();
+    try {
+      ResponseEntity<String> response =
+          config.jiraRestTemplate().getForEntity(baseUrl(server) + "/redirect", String.class);
+
+      assertEquals(response.getStatusCode().value(), 302);
+      // Jira 아웃바운드 커넥션은 리다이렉트를 추종하면 안 됨(SSRF 재유도 차단)
+      assertEquals(targetHits.get(), 0);
+    } finally {
+      config.jiraHttpClient().close();
+      server.stop(0);
+    }
+  }
+
+  /** 같은 호스트로 연달아 보낸 요청은 keep-alive 커넥션 하나를 재사용한다. */
+  @Test
+  public void jiraConnection_reusesPooledConnection() throws Exception {
+    HttpServer server = startServer(new AtomicInteger());
+    JiraSecurityConfig config = pooledConfig();
+    try {
+      RestTemplate restTemplate = config.jiraRestTemplate();
+      for (int i = 0; i < 3; i++) {
+        restTemplate.getForEntity(baseUrl(server) + "/target", String.class);
+      }
+
+      assertEquals(config.getRequestsExecuted(), 3L);
+      assertEquals(config.getConnectionsOpened(), 1L);
+    } finally {
+      config.jiraHttpClient().close();
+      server.stop(0);
+    }
+  }
+
+  /** 한 서버의 유휴 커넥션만 닫고, 다른 서버로 쓰던 커넥션은 그대로 재사용한다. */
+  @Test
+  public void closeIdle_closesOnlyThatServersConnections() throws Exception {
+    HttpServer first = startServer(new AtomicInteger());
+    HttpServer second = startServer(new AtomicInteger());
+    JiraSecurityConfig config = pooledConfig();
+    try {
+      RestTemplate restTemplate = config.jiraRestTemplate();
+      restTemplate.getForEntity(baseUrl(first) + "/target", String.class);
+      restTemplate.getForEntity(baseUrl(second) + "/target", String.class);
+      assertEquals(config.getConnectionsOpened(), 2L);
+
+      assertEquals(config.jiraHttpConnectionManager().closeIdle(baseUrl(first) + "/rest"), 1);
+      assertEquals(config.jiraHttpConnectionManager().getTotalStats().getAvailable(), 1);
+
+      restTemplate.getForEntity(baseUrl(second) + "/target", String.class);
+      assertEquals(config.getConnectionsOpened(), 2L);
+      restTemplate.getForEntity(baseUrl(first) + "/target", String.class);
+      assertEquals(config.getConnectionsOpened(), 3L);
+    } finally {
+      config.jiraHttpClient().close();
+      first.stop(0);
+      second.stop(0);
+    }
+  }
+
+  /** httpsEnforce=false 로 두어 HTTPS 강제 없이 로컬 HTTP 서버에 붙는 설정. 빈 메서드는 한 번씩만 부른다. */
+  private JiraSecurityConfig pooledConfig() {
     when(environment.getActiveProfiles()).thenReturn(new String[] {"test"});
-    JiraSecurityConfig config = new JiraSecurityConfig(environment);
-    // httpsEnforce=false 로 두어 HTTPS/SSL 분기를 건너뛰고 리다이렉트 설정만 검증한다.
-    Field httpsField = JiraSecurityConfig.class.getDeclaredField("httpsEnforce");
-    httpsField.setAccessible(true);
-    httpsField.setBoolean(config, false);
-
-    org.springframework.http.client.SimpleClientHttpRequestFactory factory =
-        (org.springframework.http.client.SimpleClientHttpRequestFactory)
-            config.jiraClientHttpRequestFactory();
-
-    java.net.HttpURLConnection conn =
-        (java.net.HttpURLConnection)
-            java.net.URI.create("http://example.com").toURL().openConnection();
-    // 기본값은 true — prepareConnection 이 명시적으로 false 로 바꿔야 한다.
-    conn.setInstanceFollowRedirects(true);
-
-    Method prepare =
-        org.springframework.http.client.SimpleClientHttpRequestFactory.class.getDeclaredMethod(
-            "prepareConnection", java.net.HttpURLConnection.class, String.class);
-    prepare.setAccessible(true);
-    prepare.invoke(factory, conn, "GET");
-
-    assertFalse(conn.getInstanceFollowRedirects(), "Jira 아웃바운드 커넥션은 리다이렉트를 추종하면 안 됨(SSRF 재유도 차단)");
+    JiraSecurityConfig config =
+        new JiraSecurityConfig(environment) {
+          private CloseableHttpClient client;
+          private JiraHttpConnectionManager manager;
+
+          @Override
+          public CloseableHttpClient jiraHttpClient() {
+            return client != null ? client : (client = super.jiraHttpClient());
+          }
+
+          @Override
+          public JiraHttpConnectionManager jiraHttpConnectionManager() {
+            return manager != null ? manager : (manager = super.jiraHttpConnectionManager());
+          }
+        };
+    ReflectionTestUtils.setField(config, "httpsEnforce", false);
+    ReflectionTestUtils.setField(config, "connectionTimeout", 5000);
+    ReflectionTestUtils.setField(config, "readTimeout", 5000);
+    ReflectionTestUtils.setField(config, "poolMaxConnections", 4);
+    ReflectionTestUtils.setField(config, "poolMaxPerRoute", 2);
+    ReflectionTestUtils.setField(config, "poolIdleTimeout", 60000L);
+    ReflectionTestUtils.setField(config, "poolAcquireTimeout", 5000L);
+    return config;
+  }
+
+  /** /redirect 는 /target 으로 302, /target 은 200 을 돌려주는 로컬 서버 */
+  private static HttpServer startServer(AtomicInteger targetHits) throws Exception {
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/redirect",
+        exchange -> {
+          exchange.getResponseHeaders().add("Location", "/target");
+          exchange.sendResponseHeaders(302, -1);
+          exchange.close();
+        });
+    server.createContext(
+        "/target",
+        exchange -> {
+          targetHits.incrementAndGet();
+          byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    server.start();
+    return server;
+  }
+
+  private static String baseUrl(HttpServer server) {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
   }
 }
@@ -0,0 +1,122 @@
+package com.testcase.testcasemanagement.config;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.testcase.testcasemanagement.exception.OutboundUnavailableException;
+import com.testcase.testcasemanagement.service.outbound.OutboundBulkheads;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** OutboundCallMetricsAspect 테스트 — 긴 RAG 흐름은 격리 자리를 쥐지 않아 검색을 굶기지 않는다. */
+public class OutboundCallMetricsAspectTest {
+
+  private OutboundCallMetricsAspect aspect;
+  private ExecutorService background;
+  private CountDownLatch started;
+  private CountDownLatch release;
+
+  @BeforeMethod
+  public void setUp() {
+    // RAG 동시 한도 1, 대기 없음: 자리 하나를 쥐면 다음 호출은 바로 거절된다
+    OutboundBulkheads.Limits rag = new OutboundBulkheads.Limits();
+    rag.setInitialLimit(1);
+    rag.setMinLimit(1);
+    rag.setMaxLimit(1);
+    rag.setMaxQueue(0);
+    rag.setMaxWait(Duration.ZERO);
+    OutboundBulkheads.Properties properties = new OutboundBulkheads.Properties();
+    properties.setSystems(Map.of("rag", rag));
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    aspect =
+        new OutboundCallMetricsAspect(
+            meterRegistry,
+            new OutboundBulkheads(properties, CircuitBreakerRegistry.ofDefaults(), meterRegistry));
+    background = Executors.newSingleThreadExecutor();
+    started = new CountDownLatch(1);
+    release = new CountDownLatch(1);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    release.countDown();
+    background.shutdownNow();
+  }
+
+  @Test
+  public void backgroundVectorization_doesNotStarveSearch() throws Throwable {
+    Future<?> vectorizing = inBackground(holding("vectorizeTestCase"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertEquals(aspect.rag(returning("searchSimilar")), "ok");
+
+    release.countDown();
+    vectorizing.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void guardedCallHoldingSlot_rejectsSearch() throws Throwable {
+    // 대조군: 격리되는 호출이 자리를 쥐고 있으면 같은 한도에서 검색은 거절된다
+    Future<?> embedding = inBackground(holding("generateEmbeddings"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    expectThrows(
+        OutboundUnavailableException.class, () -> aspect.rag(returning("searchSimilar")));
+
+    release.countDown();
+    embedding.get(5, TimeUnit.SECONDS);
+  }
+
+  private Future<?> inBackground(ProceedingJoinPoint joinPoint) {
+    return background.submit(
+        () -> {
+          try {
+            return aspect.rag(joinPoint);
+          } catch (Throwable e) {
+            throw new IllegalStateException(e);
+          }
+        });
+  }
+
+  private ProceedingJoinPoint holding(String operation) throws Throwable {
+    ProceedingJoinPoint joinPoint = joinPoint(operation);
+    when(joinPoint.proceed())
+        .thenAnswer(
+            i -> {
+              started.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return null;
+            });
+    return joinPoint;
+  }
+
+  private static ProceedingJoinPoint returning(String operation) throws Throwable {
+    ProceedingJoinPoint joinPoint = joinPoint(operation);
+    when(joinPoint.proceed()).thenReturn("ok");
+    return joinPoint;
+  }
+
+  private static ProceedingJoinPoint joinPoint(String operation) {
+    Signature signature = mock(Signature.class);
+    when(signature.getName()).thenReturn(operation);
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+    when(joinPoint.getSignature()).thenReturn(signature);
+    return joinPoint;
+  }
+}
@@ -0,0 +1,112 @@
+package com.testcase.testcasemanagement.config;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/** ReadReplicaRouter 테스트 — H2 메모리 DB 두 개를 주 DB·복제본으로 두고 읽기 전용 트랜잭션이 어디로 가는지 본다. */
+public class ReadReplicaRouterTest {
+
+  private ReadReplicaRouter router;
+
+  @AfterMethod
+  public void tearDown() throws Exception {
+    SecurityContextHolder.clearContext();
+    if (router != null) {
+      router.close();
+    }
+  }
+
+  @Test
+  public void readOnlyTransaction_goesToReplica_writeTransactionToPrimary() {
+    DataSource dataSource = route(h2("replica"), "SELECT 0", Duration.ZERO);
+
+    assertEquals(whereDoesItRead(dataSource, true), "replica");
+    assertEquals(whereDoesItRead(dataSource, false), "primary");
+  }
+
+  @Test
+  public void laggingReplica_fallsBackToPrimaryUntilItCatchesUp() {
+    DataSource dataSource = route(h2("replica"), "SELECT 30", Duration.ZERO);
+
+    router.refreshLag();
+
+    assertFalse(router.replicas().get(0).healthy());
+    assertEquals(whereDoesItRead(dataSource, true), "primary");
+  }
+
+  @Test
+  public void unreachableReplica_fallsBackToPrimary() {
+    JdbcDataSource broken = new JdbcDataSource();
+    broken.setURL("jdbc:h2:mem:missing_" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+    DataSource dataSource = route(broken, "SELECT 0", Duration.ZERO);
+
+    assertEquals(whereDoesItRead(dataSource, true), "primary");
+    assertFalse(router.replicas().get(0).healthy());
+  }
+
+  @Test
+  public void readYourWrites_keepsWriterOnPrimary() {
+    DataSource dataSource = route(h2("replica"), "SELECT 0", Duration.ofMinutes(1));
+
+    login("writer");
+    router.markWrite();
+    assertEquals(whereDoesItRead(dataSource, true), "primary");
+
+    login("someone-else");
+    assertEquals(whereDoesItRead(dataSource, true), "replica");
+  }
+
+  private DataSource route(DataSource replica, String lagQuery, Duration readYourWrites) {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-1", replica);
+    router =
+        new ReadReplicaRouter(
+            h2("primary"),
+            replicas,
+            Duration.ofSeconds(5),
+            readYourWrites,
+            lagQuery,
+            new SimpleMeterRegistry(),
+            Clock.systemUTC());
+    return router.dataSource();
+  }
+
+  private static String whereDoesItRead(DataSource dataSource, boolean readOnly) {
+    TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    tx.setReadOnly(readOnly);
+    return tx.execute(
+        status ->
+            new JdbcTemplate(dataSource).queryForObject("SELECT name FROM marker", String.class));
+  }
+
+  private static DataSource h2(String marker) {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + marker + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+    jdbc.update("INSERT INTO marker VALUES (?)", marker);
+    return dataSource;
+  }
+
+  private static void login(String username) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+  }
+}
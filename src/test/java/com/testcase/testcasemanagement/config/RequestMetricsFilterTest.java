@@ -0,0 +1,85 @@
+package com.testcase.testcasemanagement.config;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** RequestMetricsFilter 단위 테스트 — 요청당 문장 수 분포와 N+1 감지. */
+public class RequestMetricsFilterTest {
+
+  private static final String URI = "/api/testcases/project/{projectId}";
+
+  private SimpleMeterRegistry registry;
+  private SqlTracingListener listener;
+  private RequestMetricsFilter filter;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    listener = new SqlTracingListener(registry, Duration.ofSeconds(1), 10, true);
+    filter = new RequestMetricsFilter(registry, 5);
+  }
+
+  @Test
+  public void repeatedStatementShape_isCountedAsNPlusOne() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/testcases/project/p1");
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> {
+          req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+          for (int i = 0; i < 6; i++) {
+            runStatement("select * from test_steps where case_id = '" + i + "'");
+          }
+        });
+
+    assertEquals(
+        registry.get("http.server.requests.sql.statements").tag("uri", URI).summary().totalAmount(),
+        6.0);
+    assertEquals(registry.get("sql.n_plus_one").tag("uri", URI).counter().count(), 1.0);
+    assertNull(RequestSqlStats.current());
+  }
+
+  @Test
+  public void distinctStatements_areNotFlagged() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard");
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> {
+          req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/dashboard");
+          runStatement("select count(*) from test_case");
+          runStatement("select count(*) from test_result");
+        });
+
+    assertNull(registry.find("sql.n_plus_one").counter());
+  }
+
+  @Test
+  public void unmappedRequest_isNotRecorded() throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/static/app.js"),
+        new MockHttpServletResponse(),
+        (req, res) -> runStatement("select 1"));
+
+    assertNull(registry.find("http.server.requests.sql.statements").summary());
+  }
+
+  private void runStatement(String sql) {
+    ExecutionInfo info = new ExecutionInfo();
+    info.setElapsedTime(1);
+    listener.afterQuery(info, List.of(new QueryInfo(sql)));
+  }
+}
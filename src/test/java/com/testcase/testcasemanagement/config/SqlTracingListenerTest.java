@@ -0,0 +1,137 @@
+package com.testcase.testcasemanagement.config;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** SqlTracingListener 단위 테스트 — 문장 모양 정규화, 느린 SQL 바인드 값 가림, 요청 집계. */
+public class SqlTracingListenerTest {
+
+  private SimpleMeterRegistry registry;
+  private SqlTracingListener listener;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    listener = new SqlTracingListener(registry, Duration.ofMillis(100), 2, true);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    RequestSqlStats.end();
+  }
+
+  @Test
+  public void shapeOf_collapsesLiteralsAndInLists() {
+    assertEquals(
+        SqlTracingListener.shapeOf(
+            "SELECT t1_0.id FROM test_case t1_0\n WHERE t1_0.id IN (?, ?, ?) AND name = 'a''b'"),
+        "select t1_0.id from test_case t1_0 where t1_0.id in (?...) and name = ?");
+    assertEquals(
+        SqlTracingListener.shapeOf("select * from t where id in (?,?) limit 20"),
+        SqlTracingListener.shapeOf("select * from t where id in (?,?,?,?) limit 50"));
+  }
+
+  @Test
+  public void statementType_usesLeadingKeyword() {
+    assertEquals(
+        SqlTracingListener.statementType("  with x as (select 1) select * from x"), "select");
+    assertEquals(SqlTracingListener.statementType("INSERT INTO t VALUES (?)"), "insert");
+    assertEquals(SqlTracingListener.statementType("set local lock_timeout = 1000"), "other");
+  }
+
+  @Test
+  public void slowQuery_redactsStringParameters() throws Exception {
+    UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    List<ParameterSetOperation> params = new ArrayList<>();
+    params.add(param("setString", 2, "secret@example.com"));
+    params.add(param("setObject", 1, id));
+    params.add(param("setLong", 3, 42L));
+    params.add(new ParameterSetOperation(setNull(), new Object[] {4, java.sql.Types.VARCHAR}));
+
+    RequestSqlStats.begin("GET /api/users/1");
+    listener.afterQuery(
+        execution(150), List.of(query("select * from users where id = ? and email = ?", params)));
+
+    SqlTracingListener.SlowQuery slow = listener.recentSlowQueries().get(0);
+    assertEquals(slow.parameters(), List.of(id.toString(), "'***'(18)", "42", "NULL"));
+    assertEquals(slow.request(), "GET /api/users/1");
+    assertEquals(registry.get("sql.slow").tag("type", "select").counter().count(), 1.0);
+  }
+
+  @Test
+  public void fastQuery_isTimedButNotKeptAsSlow() {
+    listener.afterQuery(execution(5), List.of(new QueryInfo("update t set a = 1")));
+
+    assertTrue(listener.recentSlowQueries().isEmpty());
+    assertEquals(registry.get("sql.query").tag("type", "update").timer().count(), 1L);
+    assertNull(registry.find("sql.slow").counter());
+  }
+
+  @Test
+  public void recentSlowQueries_keepsNewestWithinLimit() {
+    for (int i = 1; i <= 3; i++) {
+      listener.afterQuery(execution(100 + i), List.of(new QueryInfo("select " + i)));
+    }
+
+    List<SqlTracingListener.SlowQuery> recent = listener.recentSlowQueries();
+    assertEquals(recent.size(), 2);
+    assertEquals(recent.get(0).elapsedMillis(), 103L);
+  }
+
+  @Test
+  public void requestStats_countsRepeatedShapes() {
+    RequestSqlStats stats = RequestSqlStats.begin("GET /api/testcases");
+    for (int i = 0; i < 12; i++) {
+      listener.afterQuery(
+          execution(1), List.of(new QueryInfo("select * from test_steps where case_id = " + i)));
+    }
+    listener.afterQuery(execution(1), List.of(new QueryInfo("select * from test_case")));
+
+    assertEquals(stats.getStatements(), 13);
+    assertEquals(stats.mostRepeated().getValue().intValue(), 12);
+    assertEquals(stats.mostRepeated().getKey(), "select * from test_steps where case_id = ?");
+  }
+
+  private static ExecutionInfo execution(long elapsedMillis) {
+    ExecutionInfo info = new ExecutionInfo();
+    info.setElapsedTime(elapsedMillis);
+    info.setSuccess(true);
+    return info;
+  }
+
+  private static QueryInfo query(String sql, List<ParameterSetOperation> params) {
+    QueryInfo info = new QueryInfo(sql);
+    info.setParametersList(List.of(params));
+    return info;
+  }
+
+  private static ParameterSetOperation param(String method, int index, Object value)
+      throws Exception {
+    Method setter =
+        switch (method) {
+          case "setString" -> PreparedStatement.class.getMethod(method, int.class, String.class);
+          case "setLong" -> PreparedStatement.class.getMethod(method, int.class, long.class);
+          default -> PreparedStatement.class.getMethod(method, int.class, Object.class);
+        };
+    return new ParameterSetOperation(setter, new Object[] {index, value});
+  }
+
+  private static Method setNull() throws Exception {
+    return PreparedStatement.class.getMethod("setNull", int.class, int.class);
+  }
+}
@@ -0,0 +1,71 @@
+package com.testcase.testcasemanagement.config;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** VirtualThreadPinningMonitor 단위 테스트 — 고정 위치 추출과 태그 상한. JFR 스트림은 띄우지 않는다. */
+public class VirtualThreadPinningMonitorTest {
+
+  private SimpleMeterRegistry registry;
+  private VirtualThreadPinningMonitor monitor;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(20), 2);
+  }
+
+  @Test
+  public void pinnedSite_picksInnermostApplicationFrame() {
+    List<String> frames =
+        List.of(
+            "java.lang.VirtualThread.parkOnCarrierThread:677",
+            "reactor.core.publisher.BlockingSingleSubscriber.blockingGet:129",
+            "com.testcase.testcasemanagement.service.RagServiceImpl.listDocuments:512",
+            "com.testcase.testcasemanagement.service.RagServiceImpl.isTestCaseVectorized:876");
+
+    assertEquals(
+        VirtualThreadPinningMonitor.pinnedSite(frames), "service.RagServiceImpl.listDocuments");
+  }
+
+  @Test
+  public void pinnedSite_fallsBackToLibraryFrameThenUnknown() {
+    List<String> frames =
+        List.of(
+            "java.lang.VirtualThread.parkOnCarrierThread:677",
+            "org.apache.hc.core5.pool.StrictConnPool.lease:190");
+
+    assertEquals(
+        VirtualThreadPinningMonitor.pinnedSite(frames),
+        "org.apache.hc.core5.pool.StrictConnPool.lease");
+    assertEquals(
+        VirtualThreadPinningMonitor.pinnedSite(List.of("jdk.internal.misc.Unsafe.park:-1")),
+        VirtualThreadPinningMonitor.UNKNOWN_SITE);
+  }
+
+  @Test
+  public void record_countsPerSiteAndFoldsOverflowIntoOther() {
+    monitor.record(Duration.ofMillis(30), List.of("com.testcase.testcasemanagement.a.A.x:1"));
+    monitor.record(Duration.ofMillis(50), List.of("com.testcase.testcasemanagement.a.A.x:2"));
+    monitor.record(Duration.ofMillis(30), List.of("com.testcase.testcasemanagement.b.B.y:1"));
+    monitor.record(Duration.ofMillis(30), List.of("com.testcase.testcasemanagement.c.C.z:1"));
+
+    String name = VirtualThreadPinningMonitor.METRIC_NAME;
+    assertEquals(registry.get(name).tag("site", "a.A.x").counter().count(), 2.0);
+    Timer timer = registry.get(name + ".duration").tag("site", "a.A.x").timer();
+    assertEquals(timer.totalTime(TimeUnit.MILLISECONDS), 80.0);
+    assertEquals(registry.get(name).tag("site", "b.B.y").counter().count(), 1.0);
+    String other = VirtualThreadPinningMonitor.OTHER_SITE;
+    assertNotNull(registry.find(name).tag("site", other).counter());
+    assertNull(registry.find(name).tag("site", "c.C.z").counter());
+  }
+}
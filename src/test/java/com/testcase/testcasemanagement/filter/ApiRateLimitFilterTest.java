@@ -0,0 +1,154 @@
+package com.testcase.testcasemanagement.filter;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.testcase.testcasemanagement.config.ApiKeyAuthenticationFilter;
+import com.testcase.testcasemanagement.filter.ratelimit.LocalRateLimitBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** ApiRateLimitFilter 테스트 — 식별자·경로 분류별 버킷, 비싼 경로의 비용, 429 응답. */
+public class ApiRateLimitFilterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ApiRateLimitFilter filter;
+
+  @BeforeMethod
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    // 사용자 버스트 10, API 키 버스트 20, 익명 버스트 2, 로그인·갱신 버스트 4. 내보내기 비용 5
+    filter =
+        new ApiRateLimitFilter(
+            new LocalRateLimitBackend(1000),
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            meterRegistry,
+            0.01,
+            10,
+            0.01,
+            20,
+            0.01,
+            2,
+            0.01,
+            4,
+            10,
+            20,
+            5,
+            20);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  public void exportCostsMoreAndHasItsOwnBucket() throws Exception {
+    login("alice");
+
+    assertEquals(call("/api/testcases/export/csv").getStatus(), 200);
+    assertEquals(call("/api/testcases/export/json").getStatus(), 200);
+    MockHttpServletResponse rejected = call("/api/testcases/export/excel");
+    assertEquals(rejected.getStatus(), 429);
+    assertNotNull(rejected.getHeader("Retry-After"));
+    assertTrue(rejected.getContentAsString().contains("RATE_LIMIT_EXCEEDED"));
+
+    // 내보내기 버킷이 비어도 일반 API 는 남아 있다
+    assertEquals(call("/api/testcases/tc-1").getStatus(), 200);
+    assertEquals(
+        meterRegistry
+            .counter("ratelimit.api.rejected", "route", "EXPORT", "client", "user")
+            .count(),
+        1.0);
+  }
+
+  @Test
+  public void usersAndApiKeysHaveSeparateBuckets() throws Exception {
+    login("alice");
+    for (int i = 0; i < 10; i++) {
+      assertEquals(call("/api/projects").getStatus(), 200);
+    }
+    assertEquals(call("/api/projects").getStatus(), 429);
+
+    login("bob");
+    assertEquals(call("/api/projects").getStatus(), 200);
+
+    // API 키 주체는 모두 service-account 지만 키 ID 로 나뉜다
+    login("service-account");
+    for (int i = 0; i < 20; i++) {
+      assertEquals(callWithApiKey("/api/projects", "key-1").getStatus(), 200);
+    }
+    assertEquals(callWithApiKey("/api/projects", "key-1").getStatus(), 429);
+    assertEquals(callWithApiKey("/api/projects", "key-2").getStatus(), 200);
+  }
+
+  @Test
+  public void anonymousCallsAreKeyedByIp_andPagesAreSkipped() throws Exception {
+    assertEquals(call("/api/auth/signup").getStatus(), 200);
+    assertEquals(call("/api/auth/signup").getStatus(), 200);
+    assertEquals(call("/api/auth/signup").getStatus(), 429);
+
+    MockHttpServletResponse page = call("/projects");
+    assertEquals(page.getStatus(), 200);
+    assertNull(page.getHeader("X-RateLimit-Remaining"));
+  }
+
+  @Test
+  public void loginAndRefreshHaveTheirOwnLimit_apartFromAnonymousBucket() throws Exception {
+    // 프록시 뒤에서 익명 한도를 다 써도 로그인·갱신은 따로 센다
+    assertEquals(call("/api/auth/signup").getStatus(), 200);
+    assertEquals(call("/api/auth/signup").getStatus(), 200);
+    assertEquals(call("/api/auth/signup").getStatus(), 429);
+
+    assertEquals(call("/api/auth/login").getStatus(), 200);
+    assertEquals(call("/api/auth/refresh").getStatus(), 200);
+    assertEquals(call("/api/auth/login").getStatus(), 200);
+    assertEquals(call("/api/auth/refresh").getStatus(), 200);
+    assertEquals(call("/api/auth/login").getStatus(), 429);
+
+    // 인증된 요청이라도 갱신은 같은 로그인·갱신 한도를 쓴다
+    login("alice");
+    assertEquals(call("/api/auth/refresh").getStatus(), 429);
+    assertEquals(
+        meterRegistry
+            .counter("ratelimit.api.rejected", "route", "AUTH", "client", "auth")
+            .count(),
+        2.0);
+  }
+
+  private MockHttpServletResponse call(String path) throws Exception {
+    return callWithApiKey(path, null);
+  }
+
+  private MockHttpServletResponse callWithApiKey(String path, String apiKeyId)
+      throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    request.setRemoteAddr("10.0.0.1");
+    if (apiKeyId != null) {
+      request.setAttribute(ApiKeyAuthenticationFilter.API_KEY_ID_ATTRIBUTE, apiKeyId);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private static void login(String username) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+  }
+}
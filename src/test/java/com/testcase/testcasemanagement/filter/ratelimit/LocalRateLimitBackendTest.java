@@ -0,0 +1,114 @@
+package com.testcase.testcasemanagement.filter.ratelimit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** LocalRateLimitBackend 테스트 — 버스트·충전·비용, 키 상한, 동시 요청에서 한도 초과 없음. */
+public class LocalRateLimitBackendTest {
+
+  private static final RateLimit TEN_PER_SECOND = new RateLimit(10, 10);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private LocalRateLimitBackend backend;
+
+  @BeforeMethod
+  public void setUp() {
+    nanos.set(0);
+    backend = new LocalRateLimitBackend(100, nanos::get);
+  }
+
+  @Test
+  public void burstThenRefillAtRate() {
+    for (int i = 0; i < 10; i++) {
+      assertTrue(backend.tryAcquire("k", 1, TEN_PER_SECOND).allowed());
+    }
+    RateLimitDecision denied = backend.tryAcquire("k", 1, TEN_PER_SECOND);
+    assertFalse(denied.allowed());
+    assertEquals(denied.retryAfter(), Duration.ofMillis(100));
+
+    nanos.addAndGet(Duration.ofMillis(100).toNanos());
+    assertTrue(backend.tryAcquire("k", 1, TEN_PER_SECOND).allowed());
+    assertFalse(backend.tryAcquire("k", 1, TEN_PER_SECOND).allowed());
+  }
+
+  @Test
+  public void costConsumesSeveralTokensAndIsClampedToBurst() {
+    RateLimitDecision first = backend.tryAcquire("k", 4, TEN_PER_SECOND);
+    assertTrue(first.allowed());
+    assertEquals(first.remaining(), 6);
+    assertTrue(backend.tryAcquire("k", 6, TEN_PER_SECOND).allowed());
+
+    // 버킷보다 비싼 요청도 가득 차 있으면 한 번은 통과한다
+    assertTrue(backend.tryAcquire("other", 50, TEN_PER_SECOND).allowed());
+    assertFalse(backend.tryAcquire("other", 1, TEN_PER_SECOND).allowed());
+  }
+
+  @Test
+  public void keysBeyondCapShareOverflowBucket() {
+    backend = new LocalRateLimitBackend(2, nanos::get);
+    RateLimit one = new RateLimit(1, 1);
+    assertTrue(backend.tryAcquire("a", 1, one).allowed());
+    assertTrue(backend.tryAcquire("b", 1, one).allowed());
+
+    assertTrue(backend.tryAcquire("c", 1, one).allowed());
+    assertFalse(backend.tryAcquire("d", 1, one).allowed());
+
+    // 한가해진 버킷이 정리되면 새 키가 다시 자기 버킷을 갖는다
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    backend.purgeIdle();
+    assertEquals(backend.trackedKeys(), 0);
+    assertTrue(backend.tryAcquire("d", 1, one).allowed());
+  }
+
+  @Test
+  public void concurrentRequestsNeverExceedBurst() throws Exception {
+    RateLimit limit = new RateLimit(0.001, 100);
+    backend = new LocalRateLimitBackend(100);
+    AtomicInteger allowed = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    for (int t = 0; t < 8; t++) {
+      pool.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            for (int i = 0; i < 100; i++) {
+              if (backend.tryAcquire("shared", 1, limit).allowed()) {
+                allowed.incrementAndGet();
+              }
+            }
+          });
+    }
+    start.countDown();
+    pool.shutdown();
+    assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(allowed.get(), 100);
+  }
+
+  @Test
+  public void routeClassMatchesExpensivePaths() {
+    assertEquals(ApiRouteClass.of("/api/testcases/export/excel"), ApiRouteClass.EXPORT);
+    assertEquals(ApiRouteClass.of("/api/test-results/export-hierarchical"), ApiRouteClass.EXPORT);
+    assertEquals(ApiRouteClass.of("/api/rag/chat/stream"), ApiRouteClass.RAG_CHAT);
+    assertEquals(ApiRouteClass.of("/api/testcases/ai/generate-meta"), ApiRouteClass.AI_GENERATION);
+    assertEquals(ApiRouteClass.of("/api/testcases/import/csv"), ApiRouteClass.BULK_IMPORT);
+    assertEquals(
+        ApiRouteClass.of("/api/test-executions/e1/results/bulk"), ApiRouteClass.BULK_IMPORT);
+    assertEquals(ApiRouteClass.of("/api/rag/chat/conversations/threads"), ApiRouteClass.DEFAULT);
+    assertEquals(ApiRouteClass.of("/api/testcases/tc-1"), ApiRouteClass.DEFAULT);
+  }
+}
@@ -0,0 +1,153 @@
+package com.testcase.testcasemanagement.integration;
+
+import static org.testng.Assert.assertEquals;
+
+import com.testcase.testcasemanagement.model.Project;
+import com.testcase.testcasemanagement.model.TestCase;
+import com.testcase.testcasemanagement.model.TestExecution;
+import com.testcase.testcasemanagement.model.TestResult;
+import com.testcase.testcasemanagement.repository.ProjectRepository;
+import com.testcase.testcasemanagement.repository.TestCaseRepository;
+import com.testcase.testcasemanagement.repository.TestExecutionRepository;
+import com.testcase.testcasemanagement.repository.TestResultRepository;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * 최신 결과 투영({@code test_result_latest})의 동시 갱신 테스트.
+ *
+ * <p>같은 (플랜, 케이스) 에 두 트랜잭션이 동시에 결과를 쓰면, 각자의 스냅숏으로 다시 센 값이 서로를 덮어 수행 횟수와 최신 결과가 한 건씩 빠졌다. 두
+ * 트랜잭션이 결과를 넣은 뒤 함께 커밋하게 맞추고, 커밋이 끝난 투영이 두 결과를 모두 세는지 본다. 테스트 트랜잭션을 쓰지 않고 실제로 커밋하므로 만든 데이터는
+ * 직접 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class TestResultLatestConcurrencyIntegrationTest extends AbstractTestNGSpringContextTests {
+
+  @Autowired private ProjectRepository projectRepository;
+  @Autowired private TestCaseRepository testCaseRepository;
+  @Autowired private TestExecutionRepository testExecutionRepository;
+  @Autowired private TestResultRepository testResultRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate tx;
+  private String planId;
+  private Project project;
+  private TestCase testCase;
+  private TestExecution firstExecution;
+  private TestExecution secondExecution;
+
+  @BeforeMethod
+  public void setUp() {
+    tx = new TransactionTemplate(transactionManager);
+    long stamp = System.nanoTime();
+    planId = "plan-latest-" + stamp;
+
+    tx.executeWithoutResult(
+        status -> {
+          project = new Project();
+          project.setName("최신 결과 동시 갱신");
+          project.setCode("LATEST-" + stamp);
+          project = projectRepository.save(project);
+
+          testCase = new TestCase();
+          testCase.setProject(project);
+          testCase.setName("동시 갱신 대상 케이스");
+          testCase.setType("testcase");
+          testCase.setDisplayOrder(1);
+          testCase.setCreatedAt(LocalDateTime.now());
+          testCase = testCaseRepository.save(testCase);
+
+          firstExecution = testExecutionRepository.save(execution("실행 1"));
+          secondExecution = testExecutionRepository.save(execution("실행 2"));
+        });
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    tx.executeWithoutResult(
+        status -> {
+          jdbcTemplate.update("DELETE FROM test_result_latest WHERE test_plan_id = ?", planId);
+          testResultRepository.deleteAll(testResultRepository.findByTestCaseId(testCase.getId()));
+          testExecutionRepository.deleteById(firstExecution.getId());
+          testExecutionRepository.deleteById(secondExecution.getId());
+          testCaseRepository.deleteById(testCase.getId());
+          projectRepository.deleteById(project.getId());
+        });
+  }
+
+  @Test(description = "같은 조합에 두 트랜잭션이 함께 커밋해도 투영이 두 결과를 모두 센다")
+  public void concurrentResultsForSameKey_areBothCounted() throws Exception {
+    LocalDateTime base = LocalDateTime.now().withNano(0);
+    // 두 트랜잭션 모두 결과를 넣은 뒤에야 커밋으로 넘어간다 — 커밋 직전 재계산이 서로의 결과를 못 보는 구간을 만든다
+    CyclicBarrier beforeCommit = new CyclicBarrier(2);
+    ExecutorService writers = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> older =
+          writers.submit(() -> writeResult(firstExecution, "FAIL", base, beforeCommit));
+      Future<String> newer =
+          writers.submit(
+              () -> writeResult(secondExecution, "PASS", base.plusMinutes(1), beforeCommit));
+      older.get(30, TimeUnit.SECONDS);
+      String newestId = newer.get(30, TimeUnit.SECONDS);
+
+      Map<String, Object> latest =
+          jdbcTemplate.queryForMap(
+              "SELECT test_result_id, result, execution_count FROM test_result_latest"
+                  + " WHERE test_plan_id = ? AND test_case_id = ?",
+              planId,
+              testCase.getId());
+      assertEquals(((Number) latest.get("execution_count")).intValue(), 2);
+      assertEquals(latest.get("test_result_id"), newestId);
+      assertEquals(latest.get("result"), "PASS");
+    } finally {
+      writers.shutdownNow();
+    }
+  }
+
+  private String writeResult(
+      TestExecution execution, String verdict, LocalDateTime executedAt, CyclicBarrier barrier) {
+    return tx.execute(
+        status -> {
+          TestResult result = new TestResult();
+          result.setTestExecution(testExecutionRepository.findById(execution.getId()).get());
+          result.setTestCaseId(testCase.getId());
+          result.setResult(verdict);
+          result.setExecutedAt(executedAt);
+          result = testResultRepository.saveAndFlush(result);
+          try {
+            barrier.await(10, TimeUnit.SECONDS);
+          } catch (Exception e) {
+            throw new IllegalStateException(e);
+          }
+          return result.getId();
+        });
+  }
+
+  private TestExecution execution(String name) {
+    TestExecution execution = new TestExecution();
+    execution.setName(name);
+    execution.setProject(project);
+    execution.setTestPlanId(planId);
+    execution.setStatus("INPROGRESS");
+    execution.setCreatedAt(LocalDateTime.now());
+    execution.setUpdatedAt(LocalDateTime.now());
+    return execution;
+  }
+}
@@ -0,0 +1,106 @@
+package com.testcase.testcasemanagement.security;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** SecretVault 테스트 — 적중 시 복호화 생략, 무효화와 겹친 조회, 크기 상한, TTL 0 이면 보관하지 않음. */
+public class SecretVaultTest {
+
+  private EncryptionUtil encryptionUtil;
+  private SimpleMeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    encryptionUtil = mock(EncryptionUtil.class);
+    registry = new SimpleMeterRegistry();
+    when(encryptionUtil.decrypt(anyString())).thenAnswer(inv -> "plain-" + inv.getArgument(0));
+  }
+
+  @Test
+  public void reveal_decryptsOncePerCiphertext() {
+    SecretVault vault = vault(Duration.ofMinutes(5), 16);
+
+    assertEquals(vault.reveal("c1"), "plain-c1");
+    assertEquals(vault.reveal("c1"), "plain-c1");
+    assertEquals(vault.reveal("c2"), "plain-c2");
+
+    verify(encryptionUtil, times(1)).decrypt("c1");
+    assertEquals(registry.counter("secrets.vault.lookups", "result", "hit").count(), 1.0);
+    assertEquals(registry.counter("secrets.vault.lookups", "result", "miss").count(), 2.0);
+    assertEquals(registry.get("secrets.vault.entries").gauge().value(), 2.0);
+  }
+
+  @Test
+  public void namedEntry_readsCiphertextUntilInvalidated() {
+    SecretVault vault = vault(Duration.ofMinutes(5), 16);
+    String[] stored = {"old"};
+
+    assertEquals(vault.reveal("jira:1", () -> stored[0]), "plain-old");
+    stored[0] = "new";
+    assertEquals(vault.reveal("jira:1", () -> stored[0]), "plain-old");
+
+    vault.invalidateAfterCommit("jira:1");
+    assertEquals(vault.reveal("jira:1", () -> stored[0]), "plain-new");
+  }
+
+  @Test
+  public void loadOverlappingInvalidate_isNotCached() {
+    SecretVault vault = vault(Duration.ofMinutes(5), 16);
+    String[] stored = {"old"};
+
+    // 옛 암호문을 읽은 직후 설정이 바뀌어 무효화된다
+    String first =
+        vault.reveal(
+            "jira:1",
+            () -> {
+              String read = stored[0];
+              stored[0] = "new";
+              vault.invalidate("jira:1");
+              return read;
+            });
+
+    assertEquals(first, "plain-old");
+    assertEquals(vault.size(), 0);
+    assertEquals(vault.reveal("jira:1", () -> stored[0]), "plain-new");
+  }
+
+  @Test
+  public void overflow_evictsLeastRecentlyUsed() {
+    SecretVault vault = vault(Duration.ofMinutes(5), 2);
+
+    vault.reveal("c1");
+    vault.reveal("c2");
+    vault.reveal("c1");
+    vault.reveal("c3");
+
+    assertEquals(vault.size(), 2);
+    vault.reveal("c1");
+    vault.reveal("c2");
+    verify(encryptionUtil, times(1)).decrypt("c1");
+    verify(encryptionUtil, times(2)).decrypt("c2");
+  }
+
+  @Test
+  public void zeroTtl_keepsNothing() {
+    SecretVault vault = vault(Duration.ZERO, 16);
+
+    vault.reveal("c1");
+    vault.reveal("c1");
+
+    assertEquals(vault.size(), 0);
+    verify(encryptionUtil, times(2)).decrypt("c1");
+  }
+
+  private SecretVault vault(Duration ttl, int maxEntries) {
+    return new SecretVault(encryptionUtil, registry, ttl, maxEntries);
+  }
+}
@@ -0,0 +1,155 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.time.ZonedDateTime;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * {@link AttachmentDownloadService} 의 Range / 조건부 요청 처리를 검증한다.
+ *
+ * <p>미리보기에서 동영상을 탐색하면 브라우저가 Range 요청을 보낸다. 전체 객체를 다시 받지 않고 MinIO ranged GET 으로 해당 구간만 중계해야 한다.
+ */
+public class AttachmentDownloadServiceTest {
+
+  private static final String OBJECT_KEY = "testresult/tr-1/video.mp4";
+  private static final long SIZE = 1000L;
+
+  @Mock private MinIOService minioService;
+  @Mock private AttachmentDiskCache diskCache;
+
+  private AttachmentDownloadService downloadService;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this);
+    downloadService = new AttachmentDownloadService(minioService, diskCache);
+    when(minioService.statObject(OBJECT_KEY))
+        .thenReturn(
+            new MinIOService.ObjectStat(SIZE, "abc123", "video/mp4", ZonedDateTime.now()));
+    when(minioService.downloadFile(OBJECT_KEY)).thenReturn(new ByteArrayInputStream(new byte[0]));
+    when(minioService.downloadFileRange(eq(OBJECT_KEY), anyLong(), anyLong()))
+        .thenReturn(new ByteArrayInputStream(new byte[0]));
+    when(diskCache.isCacheable(anyLong())).thenReturn(false);
+  }
+
+  /** Range 가 없으면 전체를 200 으로 보내고 ETag 를 붙인다. */
+  @Test
+  public void testFullDownloadCarriesEtag() throws Exception {
+    ResponseEntity<Resource> response = serve(new HttpHeaders());
+
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.OK);
+    Assert.assertEquals(response.getHeaders().getETag(), "\"abc123\"");
+    Assert.assertEquals(response.getHeaders().getContentLength(), SIZE);
+    Assert.assertEquals(response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES), "bytes");
+    verify(minioService).downloadFile(OBJECT_KEY);
+    verify(minioService, never()).downloadFileRange(anyString(), anyLong(), anyLong());
+  }
+
+  /** 단일 구간은 MinIO ranged GET 으로 그 구간만 가져와 206 으로 보낸다. */
+  @Test
+  public void testSingleRangeUsesRangedGet() throws Exception {
+    HttpHeaders request = new HttpHeaders();
+    request.set(HttpHeaders.RANGE, "bytes=100-199");
+
+    ResponseEntity<Resource> response = serve(request);
+
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.PARTIAL_CONTENT);
+    Assert.assertEquals(
+        response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE), "bytes 100-199/1000");
+    Assert.assertEquals(response.getHeaders().getContentLength(), 100L);
+    verify(minioService).downloadFileRange(OBJECT_KEY, 100L, 100L);
+    verify(minioService, never()).downloadFile(anyString());
+  }
+
+  /** 접미 구간(bytes=-N)은 객체 끝에서 N 바이트다. */
+  @Test
+  public void testSuffixRange() throws Exception {
+    HttpHeaders request = new HttpHeaders();
+    request.set(HttpHeaders.RANGE, "bytes=-50");
+
+    ResponseEntity<Resource> response = serve(request);
+
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.PARTIAL_CONTENT);
+    Assert.assertEquals(
+        response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE), "bytes 950-999/1000");
+    verify(minioService).downloadFileRange(OBJECT_KEY, 950L, 50L);
+  }
+
+  /** 객체 크기를 넘는 시작 위치는 416 과 전체 크기를 알려준다. */
+  @Test
+  public void testUnsatisfiableRange() throws Exception {
+    HttpHeaders request = new HttpHeaders();
+    request.set(HttpHeaders.RANGE, "bytes=5000-");
+
+    ResponseEntity<Resource> response = serve(request);
+
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    Assert.assertEquals(
+        response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE), "bytes */1000");
+    verify(minioService, never()).downloadFile(anyString());
+    verify(minioService, never()).downloadFileRange(anyString(), anyLong(), anyLong());
+  }
+
+  /** If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 — MinIO 본문 요청이 없어야 한다. */
+  @Test
+  public void testIfNoneMatchReturnsNotModified() throws Exception {
+    HttpHeaders request = new HttpHeaders();
+    request.setIfNoneMatch("W/\"abc123\"");
+
+    ResponseEntity<Resource> response = serve(request);
+
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.NOT_MODIFIED);
+    Assert.assertNull(response.getBody());
+    verify(minioService, never()).downloadFile(anyString());
+  }
+
+  /** If-Range 가 다른 ETag 면 객체가 바뀐 것이므로 Range 를 무시하고 전체를 보낸다. */
+  @Test
+  public void testIfRangeMismatchFallsBackToFullBody() throws Exception {
+    HttpHeaders request = new HttpHeaders();
+    request.set(HttpHeaders.RANGE, "bytes=0-9");
+    request.set(HttpHeaders.IF_RANGE, "\"stale\"");
+
+    ResponseEntity<Resource> response = serve(request);
+
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.OK);
+    verify(minioService).downloadFile(OBJECT_KEY);
+  }
+
+  /** Presigned 리다이렉트가 켜져 있으면 임계치 이상 객체는 302 로 MinIO 에 넘긴다. */
+  @Test
+  public void testLargeObjectRedirectsToPresignedUrl() throws Exception {
+    ReflectionTestUtils.setField(downloadService, "presignedRedirectEnabled", true);
+    ReflectionTestUtils.setField(downloadService, "presignedRedirectThresholdBytes", 500L);
+    ReflectionTestUtils.setField(downloadService, "presignedRedirectExpiryMinutes", 10);
+    when(minioService.generatePresignedUrl(eq(OBJECT_KEY), eq(10), anyMap()))
+        .thenReturn("http://minio.local/bucket/video.mp4?X-Amz-Signature=x");
+
+    ResponseEntity<Resource> response = serve(new HttpHeaders());
+
+    Assert.assertEquals(response.getStatusCode(), HttpStatus.FOUND);
+    Assert.assertEquals(
+        response.getHeaders().getLocation().toString(),
+        "http://minio.local/bucket/video.mp4?X-Amz-Signature=x");
+    verify(minioService, never()).downloadFile(anyString());
+  }
+
+  private ResponseEntity<Resource> serve(HttpHeaders request) throws Exception {
+    return downloadService.serve(OBJECT_KEY, "video.mp4", "video/mp4", true, request);
+  }
+}
@@ -21,7 +21,7 @@ public class JiraConfigServiceJqlTest {
   @BeforeClass
   public void setUp() {
     // buildJqlFromQuery 는 필드 미사용 → null 의존성으로 인스턴스화 가능.
-    service = new JiraConfigService(null, null, null);
+    service = new JiraConfigService(null, null, null, null);
   }
 
   private String buildJql(String query, String projectKey) throws Exception {
@@ -14,6 +14,9 @@ import com.testcase.testcasemanagement.model.JiraSyncStatus;
 import com.testcase.testcasemanagement.model.TestResult;
 import com.testcase.testcasemanagement.repository.TestResultRepository;
 import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import org.mockito.Mock;
@@ -49,7 +52,8 @@ public class JiraStatusAggregationServiceTest {
             testResultRepository,
             jiraApiService,
             jiraConfigService,
-            encryptionUtil,
+            new SecretVault(
+                encryptionUtil, new SimpleMeterRegistry(), Duration.ofMinutes(5), 256),
             jiraConfigRepository);
   }
 
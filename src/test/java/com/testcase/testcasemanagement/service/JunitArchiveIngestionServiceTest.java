@@ -0,0 +1,177 @@
+package com.testcase.testcasemanagement.service;
+
+import com.testcase.testcasemanagement.model.JunitTestResult;
+import com.testcase.testcasemanagement.model.JunitTestSuite;
+import com.testcase.testcasemanagement.model.User;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** JUnit 리포트 묶음(zip/tar.gz)을 병렬로 파싱해 하나의 결과로 합치는지 검증한다. */
+public class JunitArchiveIngestionServiceTest {
+
+  private ThreadPoolTaskExecutor executor;
+  private JunitArchiveIngestionService service;
+  private User user;
+
+  @BeforeMethod
+  public void setUp() {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(2);
+    executor.setRejectedExecutionHandler(
+        new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    service = new JunitArchiveIngestionService(new JunitXmlParserService(), executor);
+
+    user = new User();
+    user.setId("u-1");
+    user.setUsername("ci");
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  /** surefire 디렉터리처럼 파일이 많아도 항목 순서대로 스위트를 모으고 합계를 다시 낸다. */
+  @Test
+  public void testZipOfManyReportsMergesIntoOneResult() throws Exception {
+    Map<String, String> entries = new LinkedHashMap<>();
+    for (int i = 0; i < 40; i++) {
+      entries.put("target/surefire-reports/TEST-com.example.S" + i + ".xml", suite("S" + i, i % 3));
+    }
+    // JUnit 형식이 아닌 XML, 숨김 파일, macOS 리소스 포크는 건너뛴다
+    entries.put("target/surefire-reports/testng-results.xml", "<testng-results/>");
+    entries.put("__MACOSX/target/._TEST-x.xml", "garbage");
+    entries.put("target/surefire-reports/S0.txt", "plain text");
+
+    AtomicInteger lastTotal = new AtomicInteger();
+    JunitTestResult result =
+        service.parseArchive(
+            new ByteArrayInputStream(zip(entries)),
+            "surefire-reports.zip",
+            "p-1",
+            user,
+            (current, total, message) -> lastTotal.set(total));
+
+    List<JunitTestSuite> suites = result.getTestSuites();
+    Assert.assertEquals(suites.size(), 40);
+    Assert.assertEquals(suites.get(0).getName(), "com.example.S0");
+    Assert.assertEquals(suites.get(39).getName(), "com.example.S39");
+    Assert.assertTrue(suites.stream().allMatch(s -> s.getJunitTestResult() == result));
+    Assert.assertEquals(result.getTotalTests(), Integer.valueOf(40 * 2));
+    Assert.assertEquals(result.getFailures(), Integer.valueOf(26));
+    Assert.assertEquals(result.getTestExecutionName(), "Test Execution - surefire-reports");
+    Assert.assertEquals(lastTotal.get(), 41);
+  }
+
+  @Test
+  public void testTarGzIsReadAsStream() throws Exception {
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("build/test-results/test/TEST-A.xml", suite("A", 1));
+    entries.put("build/test-results/test/TEST-B.xml", suite("B", 0));
+
+    JunitTestResult result =
+        service.parseArchive(
+            new ByteArrayInputStream(tarGz(entries)), "results.tar.gz", "p-1", user, null);
+
+    Assert.assertEquals(result.getTestSuites().size(), 2);
+    Assert.assertEquals(result.getFailures(), Integer.valueOf(1));
+  }
+
+  /** 압축 폭탄 대비: 항목 하나가 상한을 넘으면 전체를 실패로 본다. */
+  @Test(expectedExceptions = JunitXmlParserService.JunitXmlParsingException.class)
+  public void testOversizedEntryIsRejected() throws Exception {
+    ReflectionTestUtils.setField(service, "maxEntrySize", 64L);
+
+    service.parseArchive(
+        new ByteArrayInputStream(zip(Map.of("TEST-A.xml", suite("A", 0)))),
+        "r.zip",
+        "p-1",
+        user,
+        null);
+  }
+
+  @Test(expectedExceptions = JunitXmlParserService.JunitXmlParsingException.class)
+  public void testArchiveWithoutJunitSuitesFails() throws Exception {
+    service.parseArchive(
+        new ByteArrayInputStream(zip(Map.of("readme.xml", "<readme/>"))),
+        "r.zip",
+        "p-1",
+        user,
+        null);
+  }
+
+  @Test
+  public void testIsArchive() {
+    Assert.assertTrue(JunitArchiveIngestionService.isArchive("reports.ZIP"));
+    Assert.assertTrue(JunitArchiveIngestionService.isArchive("reports.tar.gz"));
+    Assert.assertTrue(JunitArchiveIngestionService.isArchive("reports.tgz"));
+    Assert.assertFalse(JunitArchiveIngestionService.isArchive("TEST-A.xml"));
+    Assert.assertFalse(JunitArchiveIngestionService.isArchive(null));
+  }
+
+  /** 케이스 2개짜리 스위트. failures 가 0 보다 크면 한 케이스를 실패로 둔다. */
+  private static String suite(String name, int failures) {
+    int failed = Math.min(failures, 1);
+    StringBuilder xml = new StringBuilder();
+    xml.append("<testsuite name=\"com.example.")
+        .append(name)
+        .append("\" tests=\"2\" failures=\"")
+        .append(failed)
+        .append("\" errors=\"0\" skipped=\"0\" time=\"0.5\">");
+    xml.append("<testcase name=\"ok\" classname=\"com.example.").append(name).append("\"/>");
+    xml.append("<testcase name=\"maybe\" classname=\"com.example.").append(name).append("\">");
+    if (failed > 0) {
+      xml.append("<failure message=\"boom\">trace</failure>");
+    }
+    xml.append("</testcase></testsuite>");
+    return xml.toString();
+  }
+
+  private static byte[] zip(Map<String, String> entries) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(out)) {
+      for (Map.Entry<String, String> e : entries.entrySet()) {
+        zip.putNextEntry(new ZipEntry(e.getKey()));
+        zip.write(e.getValue().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+      }
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] tarGz(Map<String, String> entries) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (TarArchiveOutputStream tar =
+        new TarArchiveOutputStream(new GzipCompressorOutputStream(out))) {
+      for (Map.Entry<String, String> e : entries.entrySet()) {
+        byte[] data = e.getValue().getBytes(StandardCharsets.UTF_8);
+        TarArchiveEntry entry = new TarArchiveEntry(e.getKey());
+        entry.setSize(data.length);
+        tar.putArchiveEntry(entry);
+        tar.write(data);
+        tar.closeArchiveEntry();
+      }
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,224 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.testcase.testcasemanagement.model.JunitIngestionJob;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Kind;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Status;
+import com.testcase.testcasemanagement.model.JunitProcessStatus;
+import com.testcase.testcasemanagement.model.JunitTestResult;
+import com.testcase.testcasemanagement.model.JunitTestSuite;
+import com.testcase.testcasemanagement.repository.JunitIngestionJobRepository;
+import com.testcase.testcasemanagement.repository.JunitTestResultRepository;
+import com.testcase.testcasemanagement.repository.JunitTestSuiteRepository;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.xml.sax.SAXException;
+
+/** JunitAsyncProcessingService 테스트 — 체크포인트부터 이어 저장, 영구 오류는 실패, 일시 오류는 재시도 대기. */
+public class JunitAsyncProcessingServiceTest {
+
+  private static final String ID = "result-1";
+  private static final String OWNER = "junit-test";
+  private static final byte[] SOURCE = "<testsuites/>".getBytes();
+
+  private JunitTestResultRepository testResultRepository;
+  private JunitTestSuiteRepository testSuiteRepository;
+  private JunitIngestionJobRepository jobRepository;
+  private JunitXmlParserService xmlParserService;
+  private JunitAsyncProcessingService service;
+  private JunitTestResult testResult;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    testResultRepository = mock(JunitTestResultRepository.class);
+    testSuiteRepository = mock(JunitTestSuiteRepository.class);
+    jobRepository = mock(JunitIngestionJobRepository.class);
+    xmlParserService = mock(JunitXmlParserService.class);
+    JunitFileStorageService fileStorageService = mock(JunitFileStorageService.class);
+
+    service = new JunitAsyncProcessingService();
+    ReflectionTestUtils.setField(service, "testResultRepository", testResultRepository);
+    ReflectionTestUtils.setField(service, "testSuiteRepository", testSuiteRepository);
+    ReflectionTestUtils.setField(service, "jobRepository", jobRepository);
+    ReflectionTestUtils.setField(service, "xmlParserService", xmlParserService);
+    ReflectionTestUtils.setField(service, "fileStorageService", fileStorageService);
+    ReflectionTestUtils.setField(service, "liveUpdateHub", mock(LiveUpdateHub.class));
+    ReflectionTestUtils.setField(
+        service, "transactionManager", mock(PlatformTransactionManager.class));
+    ReflectionTestUtils.setField(service, "batchSuites", 2);
+
+    testResult = new JunitTestResult();
+    testResult.setId(ID);
+    testResult.setProjectId("p1");
+    testResult.setFileName("report.xml");
+    testResult.setOriginalFilePath("/tmp/report.xml");
+    when(testResultRepository.findById(ID)).thenReturn(Optional.of(testResult));
+    when(testResultRepository.save(any(JunitTestResult.class))).thenAnswer(i -> i.getArgument(0));
+    when(testResultRepository.getReferenceById(ID)).thenReturn(testResult);
+    when(fileStorageService.loadFileAsInputStream("/tmp/report.xml"))
+        .thenAnswer(i -> new ByteArrayInputStream(SOURCE));
+    when(jobRepository.checkpoint(eq(ID), eq(OWNER), eq(Status.RUNNING), anyInt(), any(), any()))
+        .thenReturn(1);
+    when(jobRepository.finish(eq(ID), eq(OWNER), any(), any(), any(), any())).thenReturn(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void resume_skipsCommittedSuitesAndCheckpointsEachBatch() throws Exception {
+    whenParsed(parsedWithSuites(5));
+    JunitIngestionJob job = job(2);
+    job.setSuitesCommitted(2);
+    job.setSourceBytes((long) SOURCE.length);
+
+    service.runJob(job, OWNER);
+
+    ArgumentCaptor<List<JunitTestSuite>> saved = ArgumentCaptor.forClass(List.class);
+    verify(testSuiteRepository, times(2)).saveAll(saved.capture());
+    assertEquals(saved.getAllValues().get(0).get(0).getName(), "suite-2");
+    assertEquals(saved.getAllValues().get(1).size(), 1);
+    verify(jobRepository)
+        .checkpoint(
+            eq(ID), eq(OWNER), eq(Status.RUNNING), eq(4), eq((long) SOURCE.length), any());
+    verify(jobRepository)
+        .checkpoint(
+            eq(ID), eq(OWNER), eq(Status.RUNNING), eq(5), eq((long) SOURCE.length), any());
+    verify(jobRepository).finish(eq(ID), eq(OWNER), eq(Status.DONE), any(), isNull(), any());
+    verify(testSuiteRepository, never()).deleteAll(anyList());
+    assertEquals(testResult.getStatus(), JunitProcessStatus.COMPLETED);
+    assertEquals(testResult.getTotalTests(), 5);
+  }
+
+  @Test
+  public void invalidXml_failsWithoutRetry() throws Exception {
+    when(xmlParserService.parseJunitXmlWithProgress(any(), any(), any(), any(), any()))
+        .thenThrow(
+            new JunitXmlParserService.JunitXmlParsingException(
+                "Failed to parse JUnit XML", new SAXException("broken")));
+
+    service.runJob(job(1), OWNER);
+
+    verify(jobRepository).finish(eq(ID), eq(OWNER), eq(Status.FAILED), any(), any(), any());
+    verify(jobRepository, never())
+        .requeue(anyString(), anyString(), any(), any(), any(), any(), any());
+    assertEquals(testResult.getStatus(), JunitProcessStatus.FAILED);
+  }
+
+  @Test
+  public void storageError_isRequeuedUntilAttemptsRunOut() throws Exception {
+    when(xmlParserService.parseJunitXmlWithProgress(any(), any(), any(), any(), any()))
+        .thenThrow(
+            new JunitXmlParserService.JunitXmlParsingException(
+                "Failed to parse with streaming", new IOException("connection reset")));
+
+    service.runJob(job(1), OWNER);
+    verify(jobRepository)
+        .requeue(eq(ID), eq(OWNER), eq(Status.QUEUED), any(), any(), any(), any());
+
+    service.runJob(job(3), OWNER);
+    verify(jobRepository).finish(eq(ID), eq(OWNER), eq(Status.FAILED), any(), any(), any());
+  }
+
+  @Test
+  public void failAfterLeaseLost_leavesSuitesAndStatusToNewOwner() throws Exception {
+    // 다른 인스턴스가 이어받아 finish 가 0 행이면 스위트 삭제·상태 변경 없이 물러난다
+    when(jobRepository.finish(eq(ID), eq(OWNER), eq(Status.FAILED), any(), any(), any()))
+        .thenReturn(0);
+    when(xmlParserService.parseJunitXmlWithProgress(any(), any(), any(), any(), any()))
+        .thenThrow(
+            new JunitXmlParserService.JunitXmlParsingException(
+                "Failed to parse JUnit XML", new SAXException("broken")));
+
+    service.runJob(job(1), OWNER);
+
+    verify(testSuiteRepository, never()).deleteAll(anyList());
+    assertEquals(testResult.getStatus(), JunitProcessStatus.PARSING);
+    assertNull(testResult.getErrorMessage());
+  }
+
+  @Test
+  public void changedSource_resetsCheckpointOnlyWhileOwned() throws Exception {
+    whenParsed(parsedWithSuites(3));
+    when(jobRepository.resetCheckpoint(
+            eq(ID), eq(OWNER), eq(Status.RUNNING), eq((long) SOURCE.length), any()))
+        .thenReturn(1, 0);
+    JunitIngestionJob job = job(2);
+    job.setSuitesCommitted(2);
+    job.setSourceBytes(999L);
+
+    // 임대를 쥐고 있으면 커밋된 스위트를 지우고 처음부터 저장한다
+    service.runJob(job, OWNER);
+    verify(testSuiteRepository, times(1)).deleteAll(anyList());
+    verify(testSuiteRepository, times(2)).saveAll(anyList());
+
+    // 다른 인스턴스가 이어받아 0 행이면 그쪽 스위트를 지우지 않고 물러난다
+    service.runJob(job, OWNER);
+    verify(testSuiteRepository, times(1)).deleteAll(anyList());
+    verify(testSuiteRepository, times(2)).saveAll(anyList());
+  }
+
+  @Test
+  public void isPermanent_distinguishesSourceErrorsFromInfrastructure() {
+    assertTrue(
+        JunitAsyncProcessingService.isPermanent(
+            new JunitXmlParserService.JunitXmlParsingException("No test suites found")));
+    assertFalse(
+        JunitAsyncProcessingService.isPermanent(
+            new JunitXmlParserService.JunitXmlParsingException(
+                "load", new JunitFileStorageService.FileStorageException("missing"))));
+    assertFalse(JunitAsyncProcessingService.isPermanent(new IllegalStateException("db down")));
+  }
+
+  private void whenParsed(JunitTestResult parsed) throws Exception {
+    when(xmlParserService.parseJunitXmlWithProgress(any(), any(), any(), any(), any()))
+        .thenAnswer(
+            i -> {
+              i.getArgument(0, InputStream.class).readAllBytes();
+              return parsed;
+            });
+  }
+
+  private static JunitTestResult parsedWithSuites(int count) {
+    JunitTestResult parsed = new JunitTestResult();
+    List<JunitTestSuite> suites = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      JunitTestSuite suite = new JunitTestSuite();
+      suite.setName("suite-" + i);
+      suite.setTestCases(new ArrayList<>());
+      suites.add(suite);
+    }
+    parsed.setTestSuites(suites);
+    parsed.setTotalTests(count);
+    return parsed;
+  }
+
+  private static JunitIngestionJob job(int attempts) {
+    JunitIngestionJob job = new JunitIngestionJob(ID, "p1", Kind.XML);
+    job.setStatus(Status.RUNNING);
+    job.setAttempts(attempts);
+    return job;
+  }
+}
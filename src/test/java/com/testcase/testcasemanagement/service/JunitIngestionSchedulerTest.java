@@ -0,0 +1,116 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.testcase.testcasemanagement.model.JunitIngestionJob;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Kind;
+import com.testcase.testcasemanagement.model.JunitIngestionJob.Status;
+import com.testcase.testcasemanagement.model.JunitTestResult;
+import com.testcase.testcasemanagement.repository.JunitIngestionJobRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** JunitIngestionScheduler 테스트 — 풀에 넘기는 수 상한, 거절된 작업은 DB 에 남김, 이미 잡힌 작업은 건너뜀. */
+public class JunitIngestionSchedulerTest {
+
+  private JunitIngestionJobRepository jobRepository;
+  private JunitAsyncProcessingService processingService;
+  private List<Runnable> submitted;
+  private JunitIngestionScheduler scheduler;
+
+  @BeforeMethod
+  public void setUp() {
+    jobRepository = mock(JunitIngestionJobRepository.class);
+    processingService = mock(JunitAsyncProcessingService.class);
+    submitted = new ArrayList<>();
+    scheduler = new JunitIngestionScheduler(jobRepository, processingService, submitted::add);
+    ReflectionTestUtils.setField(scheduler, "maxConcurrent", 2);
+  }
+
+  @Test
+  public void submit_dispatchesUpToCapacityAndLeavesRestQueued() {
+    assertTrue(scheduler.submit(result("r1"), Kind.XML));
+    assertTrue(scheduler.submit(result("r2"), Kind.ARCHIVE));
+    assertTrue(scheduler.submit(result("r3"), Kind.XML));
+
+    assertEquals(submitted.size(), 2);
+    assertEquals(scheduler.dispatchedCount(), 2);
+
+    // 자리가 없으면 DB 를 보지도 않는다
+    scheduler.poll();
+    verify(jobRepository, never()).findClaimable(any(), any(), any(), any());
+  }
+
+  @Test
+  public void submit_isIdempotentPerResult() {
+    when(jobRepository.existsById("r1")).thenReturn(true);
+
+    assertFalse(scheduler.submit(result("r1"), Kind.XML));
+    assertTrue(submitted.isEmpty());
+  }
+
+  @Test
+  public void submit_restartsFailedJobForSameFile() {
+    // 실패로 끝난 작업만 처음부터 다시 넣는다. 대기·실행 중이거나 끝난 작업은 그대로 둔다
+    when(jobRepository.existsById("r1")).thenReturn(true);
+    when(jobRepository.existsById("r2")).thenReturn(true);
+    when(jobRepository.restartFailed(
+            eq("r1"), eq(Status.QUEUED), eq(Status.FAILED), any(), any()))
+        .thenReturn(1);
+
+    assertTrue(scheduler.submit(result("r1"), Kind.ARCHIVE));
+    assertFalse(scheduler.submit(result("r2"), Kind.ARCHIVE));
+    assertEquals(submitted.size(), 1);
+    verify(jobRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  public void rejectedByPool_staysQueuedForNextPoll() {
+    scheduler =
+        new JunitIngestionScheduler(
+            jobRepository,
+            processingService,
+            task -> {
+              throw new RejectedExecutionException("full");
+            });
+
+    assertTrue(scheduler.submit(result("r1"), Kind.XML));
+    assertEquals(scheduler.dispatchedCount(), 0);
+  }
+
+  @Test
+  public void run_onlyProcessesClaimedJobs() {
+    JunitIngestionJob job = new JunitIngestionJob("r1", "p1", Kind.XML);
+    when(jobRepository.claim(eq("r1"), any(), eq(Status.QUEUED), eq(Status.RUNNING), any(), any()))
+        .thenReturn(1);
+    when(jobRepository.findById("r1")).thenReturn(Optional.of(job));
+
+    scheduler.submit(result("r1"), Kind.XML);
+    scheduler.submit(result("r2"), Kind.XML);
+    submitted.forEach(Runnable::run);
+
+    verify(processingService).runJob(eq(job), any());
+    verify(jobRepository, never()).findById("r2");
+    assertEquals(scheduler.dispatchedCount(), 0);
+  }
+
+  private static JunitTestResult result(String id) {
+    JunitTestResult result = new JunitTestResult();
+    result.setId(id);
+    result.setProjectId("p1");
+    return result;
+  }
+}
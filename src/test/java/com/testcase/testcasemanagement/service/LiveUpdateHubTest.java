@@ -0,0 +1,96 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** LiveUpdateHub 테스트 — 구독자별 묶음, 밀린 구독자의 resync 전환, 구독자 수 상한. */
+public class LiveUpdateHubTest {
+
+  private TaskScheduler scheduler;
+  private LiveUpdateHub hub;
+
+  @BeforeMethod
+  public void setUp() {
+    scheduler = mock(TaskScheduler.class);
+    hub = new LiveUpdateHub(scheduler, Runnable::run);
+  }
+
+  @Test
+  public void subscriber_keepsOnlyLatestValuePerKey() {
+    LiveUpdateHub.Subscriber subscriber = new LiveUpdateHub.Subscriber("t", new SseEmitter());
+
+    assertTrue(subscriber.offer(event("progress", "r1", 10), 8));
+    assertFalse(subscriber.offer(event("progress", "r1", 20), 8));
+    assertFalse(subscriber.offer(event("progress", "r2", 5), 8));
+
+    List<LiveUpdateHub.Event> drained = subscriber.drain();
+    assertEquals(drained.size(), 2);
+    assertEquals(drained.get(0).data(), Map.of("value", 20));
+    assertFalse(subscriber.finishDrain());
+  }
+
+  @Test
+  public void slowSubscriber_fallsBackToResync() {
+    LiveUpdateHub.Subscriber subscriber = new LiveUpdateHub.Subscriber("t", new SseEmitter());
+
+    subscriber.offer(event("result", "tc1", 1), 2);
+    subscriber.offer(event("result", "tc2", 1), 2);
+    subscriber.offer(event("result", "tc3", 1), 2);
+
+    List<LiveUpdateHub.Event> drained = subscriber.drain();
+    assertEquals(drained.size(), 1);
+    assertEquals(drained.get(0).name(), "resync");
+
+    // 보내는 동안 새 이벤트가 들어오면 다시 예약한다
+    subscriber.offer(event("result", "tc4", 1), 2);
+    assertTrue(subscriber.finishDrain());
+  }
+
+  @Test
+  public void burstOfPublishes_schedulesOneSendPerSubscriber() {
+    hub.subscribe("junit:r1");
+    hub.subscribe("junit:r1");
+
+    for (int i = 0; i < 100; i++) {
+      hub.publish("junit:r1", "progress", "r1", Map.of("value", i));
+    }
+    hub.publish("junit:other", "progress", "other", Map.of("value", 1));
+
+    verify(scheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  @Test
+  public void subscribe_rejectsBeyondTopicAndTotalLimits() {
+    ReflectionTestUtils.setField(hub, "maxSubscribersPerTopic", 1);
+    ReflectionTestUtils.setField(hub, "maxSubscribers", 2);
+
+    hub.subscribe("execution:e1");
+    ResponseStatusException perTopic =
+        expectThrows(ResponseStatusException.class, () -> hub.subscribe("execution:e1"));
+    assertEquals(perTopic.getStatusCode().value(), 503);
+
+    hub.subscribe("execution:e2");
+    expectThrows(ResponseStatusException.class, () -> hub.subscribe("execution:e3"));
+    assertEquals(hub.subscriberCount(), 2);
+  }
+
+  private static LiveUpdateHub.Event event(String name, String key, int value) {
+    return new LiveUpdateHub.Event(name, name + ":" + key, Map.of("value", value));
+  }
+}
@@ -0,0 +1,89 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.testcase.testcasemanagement.dto.llm.LlmConfigDTO;
+import com.testcase.testcasemanagement.dto.rag.RagChatMessage;
+import com.testcase.testcasemanagement.model.LlmConfig;
+import com.testcase.testcasemanagement.repository.LlmConfigRepository;
+import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
+import com.testcase.testcasemanagement.service.llm.LlmClient;
+import com.testcase.testcasemanagement.service.llm.LlmClientFactory;
+import com.testcase.testcasemanagement.service.llm.LlmResponseCache;
+import com.testcase.testcasemanagement.service.llm.OpenRouterModelCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** LLM 설정을 바꾸면 그 설정으로 캐시해 둔 응답을 다시 쓰지 않는다. */
+public class LlmConfigServiceImplCacheTest {
+
+  private static final List<RagChatMessage> MESSAGES = List.of(RagChatMessage.user("질문"));
+
+  private LlmConfigRepository repository;
+  private LlmResponseCache cache;
+  private LlmClient provider;
+  private LlmConfigServiceImpl service;
+  private LlmConfig config;
+
+  @BeforeMethod
+  public void setUp() {
+    repository = mock(LlmConfigRepository.class);
+    cache = new LlmResponseCache(new LlmResponseCache.Properties(), new SimpleMeterRegistry());
+    provider = mock(LlmClient.class);
+    when(provider.chat(any(), anyList(), anyDouble(), anyInt()))
+        .thenReturn(new LlmClient.LlmResponse("답변", 1, "model"));
+    service =
+        new LlmConfigServiceImpl(
+            repository,
+            mock(EncryptionUtil.class),
+            mock(LlmClientFactory.class),
+            mock(OpenRouterModelCatalogService.class),
+            mock(SecretVault.class),
+            cache);
+
+    config = new LlmConfig();
+    config.setId("cfg-1");
+    config.setName("기본");
+    config.setProvider(LlmConfig.LlmProvider.OPENAI);
+    config.setApiUrl("http://llm.local");
+    config.setModelName("old-model");
+    config.setIsDefault(false);
+    config.setIsActive(true);
+    when(repository.findById("cfg-1")).thenReturn(Optional.of(config));
+    when(repository.save(any(LlmConfig.class))).thenAnswer(i -> i.getArgument(0));
+  }
+
+  @Test
+  public void updateConfig_dropsResponsesCachedForThatConfig() {
+    LlmClient client = cache.wrap(provider, "testcase-meta");
+    client.chat(config, MESSAGES, 0.0, 64);
+    client.chat(config, MESSAGES, 0.0, 64);
+    verify(provider, times(1)).chat(any(), anyList(), anyDouble(), anyInt());
+
+    service.updateConfig("cfg-1", LlmConfigDTO.builder().testCaseTemplate("새 템플릿").build());
+    client.chat(config, MESSAGES, 0.0, 64);
+
+    verify(provider, times(2)).chat(any(), anyList(), anyDouble(), anyInt());
+  }
+
+  @Test
+  public void setDefaultConfig_clearsWholeCache() {
+    cache.wrap(provider, "testcase-meta").chat(config, MESSAGES, 0.0, 64);
+
+    service.setDefaultConfig("cfg-1");
+
+    Assert.assertEquals(cache.size(), 0);
+  }
+}
@@ -0,0 +1,152 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.testcase.testcasemanagement.dto.ProjectChangesDto;
+import com.testcase.testcasemanagement.service.ProjectChangeFeed.EntityType;
+import com.testcase.testcasemanagement.service.ProjectChangeFeed.Operation;
+import java.util.List;
+import java.util.Map;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** ProjectChangeFeed 테스트 — 커서 배정, 엔티티별 압축, 보존 기간이 지난 커서의 재동기화 판정. */
+public class ProjectChangeFeedTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private LiveUpdateHub liveUpdateHub;
+  private ProjectChangeFeed feed;
+
+  @BeforeMethod
+  public void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    liveUpdateHub = mock(LiveUpdateHub.class);
+    feed = new ProjectChangeFeed(jdbcTemplate, liveUpdateHub);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void flush_assignsConsecutiveSeqsEndingAtNewCursor() {
+    // 커서가 10 까지 나가 있었고 변경 3건이 들어오면 11..13 을 받고 커서는 13 이 된다
+    when(jdbcTemplate.query(
+            eq(ProjectChangeFeed.ADVANCE_CURSOR_SQL),
+            any(ResultSetExtractor.class),
+            eq("change:p1"),
+            eq(4L)))
+        .thenReturn(14L);
+    ProjectChangeFeed.Pending pending = new ProjectChangeFeed.Pending();
+    pending.mark("p1", EntityType.TESTCASE, "tc1", Operation.UPSERT);
+    pending.mark("p1", EntityType.TESTPLAN, "plan1", Operation.UPSERT);
+    pending.mark("p1", EntityType.TESTCASE, "tc2", Operation.UPSERT);
+    // 같은 엔티티를 다시 건드리면 마지막 작업만 남는다
+    pending.mark("p1", EntityType.TESTCASE, "tc1", Operation.DELETE);
+
+    feed.flush(pending);
+
+    ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate).batchUpdate(eq(ProjectChangeFeed.INSERT_SQL), rows.capture());
+    List<Object[]> written = rows.getValue();
+    assertEquals(written.size(), 3);
+    assertEquals(written.get(0)[1], 11L);
+    assertEquals(written.get(0)[3], "plan1");
+    assertEquals(written.get(1)[3], "tc2");
+    assertEquals(written.get(2)[1], 13L);
+    assertEquals(written.get(2)[3], "tc1");
+    assertEquals(written.get(2)[4], "DELETE");
+
+    // 두 번째 flush 는 쓸 것이 없다
+    feed.flush(pending);
+    verify(jdbcTemplate).batchUpdate(eq(ProjectChangeFeed.INSERT_SQL), anyList());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void changesSince_compactsToLatestPerEntity() {
+    when(jdbcTemplate.query(
+            eq(ProjectChangeFeed.SELECT_SQL), any(RowMapper.class), eq("p1"), eq(4L), eq(3)))
+        .thenReturn(
+            List.of(
+                change(5, "tc1", "UPSERT"),
+                change(6, "tc2", "UPSERT"),
+                change(7, "tc1", "DELETE")));
+    when(jdbcTemplate.queryForList(ProjectChangeFeed.CURRENT_CURSOR_SQL, Long.class, "change:p1"))
+        .thenReturn(List.of(9L));
+
+    ProjectChangesDto dto = feed.changesSince("p1", 4L, 3);
+
+    assertFalse(dto.isResetRequired());
+    assertTrue(dto.isHasMore());
+    assertEquals(dto.getCursor(), 7L);
+    assertEquals(dto.getChanges().size(), 2);
+    assertEquals(dto.getChanges().get(0).getEntityId(), "tc2");
+    assertEquals(dto.getChanges().get(1).getOperation(), "DELETE");
+    verify(jdbcTemplate, never()).queryForObject(ProjectChangeFeed.OLDEST_SQL, Long.class, "p1");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void changesSince_requiresResetWhenRecordsWerePurged() {
+    when(jdbcTemplate.query(
+            eq(ProjectChangeFeed.SELECT_SQL), any(RowMapper.class), eq("p1"), eq(4L), eq(10)))
+        .thenReturn(List.of(change(20, "tc1", "UPSERT")));
+    when(jdbcTemplate.queryForList(ProjectChangeFeed.CURRENT_CURSOR_SQL, Long.class, "change:p1"))
+        .thenReturn(List.of(25L));
+    when(jdbcTemplate.queryForObject(ProjectChangeFeed.OLDEST_SQL, Long.class, "p1"))
+        .thenReturn(20L);
+
+    ProjectChangesDto dto = feed.changesSince("p1", 4L, 10);
+
+    assertTrue(dto.isResetRequired());
+    assertEquals(dto.getCursor(), 25L);
+    assertTrue(dto.getChanges().isEmpty());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void changesSince_requiresResetForCursorAheadOfFeed() {
+    when(jdbcTemplate.query(
+            eq(ProjectChangeFeed.SELECT_SQL), any(RowMapper.class), eq("p1"), eq(50L), eq(10)))
+        .thenReturn(List.of());
+    when(jdbcTemplate.queryForList(ProjectChangeFeed.CURRENT_CURSOR_SQL, Long.class, "change:p1"))
+        .thenReturn(List.of());
+
+    ProjectChangesDto dto = feed.changesSince("p1", 50L, 10);
+
+    assertTrue(dto.isResetRequired());
+    assertEquals(dto.getCursor(), 0L);
+  }
+
+  @Test
+  public void subscribe_goesThroughHubOnItsOwnTopicWithCurrentCursor() {
+    // 프로젝트 현황 이벤트가 섞이지 않도록 project:<id> 가 아닌 별도 토픽을 쓴다
+    when(jdbcTemplate.queryForList(ProjectChangeFeed.CURRENT_CURSOR_SQL, Long.class, "change:p1"))
+        .thenReturn(List.of(42L));
+
+    feed.subscribe("p1");
+
+    verify(liveUpdateHub).subscribe("changes:p1", "change", Map.of("cursor", 42L));
+  }
+
+  private static ProjectChangesDto.Change change(long seq, String entityId, String operation) {
+    return ProjectChangesDto.Change.builder()
+        .seq(seq)
+        .entityType("TESTCASE")
+        .entityId(entityId)
+        .operation(operation)
+        .changedAt("2026-10-01T09:30")
+        .build();
+  }
+}
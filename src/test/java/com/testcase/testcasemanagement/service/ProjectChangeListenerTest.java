@@ -0,0 +1,62 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.testcase.testcasemanagement.model.Project;
+import com.testcase.testcasemanagement.model.TestCase;
+import com.testcase.testcasemanagement.model.TestPlan;
+import com.testcase.testcasemanagement.service.ProjectChangeFeed.EntityType;
+import com.testcase.testcasemanagement.service.ProjectChangeFeed.Operation;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** ProjectChangeListener 테스트 — Hibernate 이벤트를 엔티티 종류별 변경 피드 기록으로 옮긴다. */
+public class ProjectChangeListenerTest {
+
+  private ProjectChangeFeed feed;
+  private ProjectChangeListener listener;
+
+  @BeforeMethod
+  public void setUp() {
+    feed = mock(ProjectChangeFeed.class);
+    listener = new ProjectChangeListener(feed);
+  }
+
+  @Test
+  public void insertAndDelete_markFeedWithEntityTypeAndOperation() {
+    TestCase testCase = new TestCase();
+    testCase.setId("tc1");
+    testCase.setProject(project("p1"));
+    TestPlan plan = new TestPlan();
+    plan.setId("plan1");
+    plan.setProject(project("p1"));
+
+    listener.onPostInsert(new PostInsertEvent(testCase, "tc1", null, null, null));
+    listener.onPostDelete(new PostDeleteEvent(plan, "plan1", null, null, null));
+
+    verify(feed).markChanged("p1", EntityType.TESTCASE, "tc1", Operation.UPSERT);
+    verify(feed).markChanged("p1", EntityType.TESTPLAN, "plan1", Operation.DELETE);
+  }
+
+  @Test
+  public void otherEntitiesOrMissingProject_areIgnored() {
+    TestCase orphan = new TestCase();
+    orphan.setId("tc1");
+
+    listener.onPostInsert(new PostInsertEvent(orphan, "tc1", null, null, null));
+    listener.onPostInsert(new PostInsertEvent(project("p1"), "p1", null, null, null));
+
+    verify(feed, never()).markChanged(any(), any(), any(), any());
+  }
+
+  private static Project project(String id) {
+    Project project = new Project();
+    project.setId(id);
+    return project;
+  }
+}
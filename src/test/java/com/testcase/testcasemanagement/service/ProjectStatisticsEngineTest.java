@@ -0,0 +1,178 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.testcase.testcasemanagement.dto.ProjectStatisticsDto;
+import com.testcase.testcasemanagement.repository.TestResultRepository;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** ProjectStatisticsEngine 테스트 — 두 쿼리 결과를 DTO 로 옮기는 계산과 프로젝트별 스냅샷 공유. */
+public class ProjectStatisticsEngineTest {
+
+  private TestResultRepository repository;
+
+  @BeforeMethod
+  public void setUp() {
+    repository = mock(TestResultRepository.class);
+  }
+
+  @Test
+  public void toDto_mapsSnapshotAndComputesRates() {
+    Map<String, Object> snapshot = new HashMap<>();
+    snapshot.put("total_test_cases", 10L);
+    snapshot.put("total_folders", 3L);
+    snapshot.put("executed_test_cases", 8L);
+    snapshot.put("passed_test_cases", 6L);
+    snapshot.put("not_run_test_cases", 4L);
+    snapshot.put("active_priority_high_cases", 2L);
+    snapshot.put("last_execution_date", Timestamp.valueOf("2026-10-01 09:30:00"));
+    Map<String, Object> windows =
+        Map.of(
+            "yesterday_executions", 4L,
+            "today_executions", 6L,
+            "last_week_executions", 20L,
+            "this_week_executions", 15L,
+            "average_pass_rate_7_days", new BigDecimal("75.50"),
+            "critical_failures_7_days", 1L);
+
+    ProjectStatisticsDto dto = ProjectStatisticsEngine.toDto("p1", snapshot, windows);
+
+    assertEquals(dto.getTotalTestCases().intValue(), 10);
+    assertEquals(dto.getTotalFolders().intValue(), 3);
+    assertEquals(dto.getActivePriorityHighCases().intValue(), 2);
+    assertEquals(dto.getLastExecutionDate(), LocalDateTime.of(2026, 10, 1, 9, 30));
+    assertEquals(dto.getPassRate(), 75.0);
+    assertEquals(dto.getTestCoverage(), 80.0);
+    assertEquals(dto.getDailyChangeRate(), 50.0);
+    assertEquals(dto.getWeeklyChangeRate(), -25.0);
+    assertEquals(dto.getAveragePassRateLast7Days(), 75.5);
+    assertEquals(dto.getAveragePassRateLast30Days(), 0.0);
+    assertEquals(dto.getCriticalFailuresLast7Days().intValue(), 1);
+  }
+
+  @Test
+  public void snapshot_isSharedUntilTtl_andSkippedWhenTtlIsZero() {
+    stubQueries();
+
+    ProjectStatisticsEngine cached = new ProjectStatisticsEngine(repository, Duration.ofMinutes(1));
+    assertSame(cached.statistics("p1"), cached.statistics("p1"));
+    verify(repository, times(1)).findProjectStatisticsSnapshot("p1");
+
+    ProjectStatisticsEngine uncached = new ProjectStatisticsEngine(repository, Duration.ZERO);
+    uncached.statistics("p1");
+    uncached.statistics("p1");
+    verify(repository, times(3)).findProjectStatisticsSnapshot("p1");
+  }
+
+  @Test
+  public void concurrentCallers_waitForOneCalculation() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    when(repository.findProjectStatisticsSnapshot("p1"))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              return Map.of("total_test_cases", 1L);
+            });
+    stubWindows();
+    ProjectStatisticsEngine engine = new ProjectStatisticsEngine(repository, Duration.ofMinutes(1));
+
+    ExecutorService callers = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<ProjectStatisticsDto>> results =
+          List.of(
+              callers.submit(() -> engine.statistics("p1")),
+              callers.submit(() -> engine.statistics("p1")),
+              callers.submit(() -> engine.statistics("p1")),
+              callers.submit(() -> engine.statistics("p1")));
+      Thread.sleep(100);
+      release.countDown();
+      ProjectStatisticsDto first = results.get(0).get();
+      for (Future<ProjectStatisticsDto> result : results) {
+        assertSame(result.get(), first);
+      }
+    } finally {
+      callers.shutdownNow();
+    }
+    verify(repository, times(1)).findProjectStatisticsSnapshot("p1");
+  }
+
+  @Test
+  public void failedCalculation_isNotCached() {
+    stubWindows();
+    when(repository.findProjectStatisticsSnapshot("p1"))
+        .thenThrow(new IllegalStateException("db down"))
+        .thenReturn(Map.of("total_test_cases", 2L));
+    ProjectStatisticsEngine engine = new ProjectStatisticsEngine(repository, Duration.ofMinutes(1));
+
+    expectThrows(IllegalStateException.class, () -> engine.statistics("p1"));
+
+    assertEquals(engine.statistics("p1").getTotalTestCases().intValue(), 2);
+  }
+
+  @Test
+  public void errorInCalculation_releasesWaitersAndIsNotCached() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    when(repository.findProjectStatisticsSnapshot("p1"))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              throw new StackOverflowError("boom");
+            })
+        .thenReturn(Map.of("total_test_cases", 3L));
+    stubWindows();
+    ProjectStatisticsEngine engine = new ProjectStatisticsEngine(repository, Duration.ofMinutes(1));
+
+    ExecutorService callers = Executors.newFixedThreadPool(2);
+    try {
+      Future<ProjectStatisticsDto> owner = callers.submit(() -> engine.statistics("p1"));
+      Thread.sleep(100);
+      Future<ProjectStatisticsDto> waiter = callers.submit(() -> engine.statistics("p1"));
+      Thread.sleep(100);
+      release.countDown();
+
+      ExecutionException ownerFailure =
+          expectThrows(ExecutionException.class, () -> owner.get(5, TimeUnit.SECONDS));
+      assertTrue(ownerFailure.getCause() instanceof StackOverflowError);
+      ExecutionException waiterFailure =
+          expectThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+      assertTrue(waiterFailure.getCause() instanceof StackOverflowError);
+    } finally {
+      callers.shutdownNow();
+    }
+    assertEquals(engine.statistics("p1").getTotalTestCases().intValue(), 3);
+  }
+
+  private void stubQueries() {
+    when(repository.findProjectStatisticsSnapshot("p1")).thenReturn(Map.of("total_test_cases", 1L));
+    stubWindows();
+  }
+
+  private void stubWindows() {
+    when(repository.findProjectExecutionWindows(
+            eq("p1"), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(Map.of());
+  }
+}
@@ -0,0 +1,89 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.testcase.testcasemanagement.model.RefreshToken;
+import com.testcase.testcasemanagement.repository.RefreshTokenRepository;
+import com.testcase.testcasemanagement.repository.UserRepository;
+import com.testcase.testcasemanagement.util.JwtTokenUtil;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** RefreshTokenService 조회 캐시 테스트 — 반복 검증은 DB 를 한 번만 보고, 무효화하면 바로 다시 본다. */
+public class RefreshTokenServiceCacheTest {
+
+  private static final String TOKEN = "refresh-token";
+
+  private RefreshTokenRepository refreshTokenRepository;
+  private RefreshTokenService service;
+  private RefreshToken stored;
+
+  @BeforeMethod
+  public void setUp() {
+    refreshTokenRepository = mock(RefreshTokenRepository.class);
+    JwtTokenUtil jwtTokenUtil = mock(JwtTokenUtil.class);
+    when(jwtTokenUtil.validateRefreshToken(anyString())).thenReturn(true);
+    service =
+        new RefreshTokenService(
+            refreshTokenRepository,
+            mock(UserRepository.class),
+            jwtTokenUtil,
+            mock(CustomUserDetailsService.class),
+            Duration.ofSeconds(30),
+            100);
+
+    stored = new RefreshToken(TOKEN, "user-1", LocalDateTime.now().plusDays(7));
+    when(refreshTokenRepository.findByToken(TOKEN)).thenAnswer(i -> Optional.of(stored));
+  }
+
+  @Test
+  public void validate_hitsRepositoryOncePerCachedToken() {
+    assertTrue(service.validateRefreshToken(TOKEN));
+    assertTrue(service.validateRefreshToken(TOKEN));
+    assertTrue(service.validateRefreshToken(TOKEN));
+
+    verify(refreshTokenRepository, times(1)).findByToken(TOKEN);
+  }
+
+  @Test
+  public void revokeToken_invalidatesCachedEntry() {
+    assertTrue(service.validateRefreshToken(TOKEN));
+
+    service.revokeToken(TOKEN);
+    stored.setRevoked(true);
+
+    assertFalse(service.validateRefreshToken(TOKEN));
+    verify(refreshTokenRepository).revokeByToken(anyString(), any());
+    verify(refreshTokenRepository, times(2)).findByToken(TOKEN);
+  }
+
+  @Test
+  public void revokeAllUserTokens_invalidatesEveryTokenOfUser() {
+    assertTrue(service.validateRefreshToken(TOKEN));
+
+    service.revokeAllUserTokens("user-1");
+    stored.setRevoked(true);
+
+    assertFalse(service.validateRefreshToken(TOKEN));
+  }
+
+  @Test
+  public void revokedTokens_areNotCached() {
+    stored.setRevoked(true);
+
+    assertFalse(service.validateRefreshToken(TOKEN));
+    assertFalse(service.validateRefreshToken(TOKEN));
+
+    verify(refreshTokenRepository, times(2)).findByToken(TOKEN);
+  }
+}
@@ -0,0 +1,90 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.testcase.testcasemanagement.dto.SeekPage;
+import com.testcase.testcasemanagement.util.SeekCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** {@link RowCountEstimator} 가 요청한 방식대로만 건수를 세는지 검증한다. */
+public class RowCountEstimatorTest {
+
+  private static final SeekPage.CountMode APPROXIMATE = SeekPage.CountMode.APPROXIMATE;
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private RowCountEstimator estimator;
+
+  private final AtomicInteger exactCalls = new AtomicInteger();
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    estimator = new RowCountEstimator(jdbcTemplate);
+    exactCalls.set(0);
+  }
+
+  /** 기본은 세지 않는다 — 통계도 COUNT 도 건드리지 않는다. */
+  @Test
+  public void testNoneSkipsCounting() {
+    SeekPage<String> page =
+        estimator.withTotal(page(), SeekPage.CountMode.NONE, "t", false, this::exact);
+
+    Assert.assertNull(page.getTotalElements());
+    Assert.assertEquals(exactCalls.get(), 0);
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  /** 조건 없는 목록은 통계 추정치를 쓰고, 조건이 있으면 정확히 센다. */
+  @Test
+  public void testApproximateUsesStatisticsOnlyWhenUnfiltered() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(Object[].class)))
+        .thenReturn(1_200_000L);
+
+    SeekPage<String> unfiltered =
+        estimator.withTotal(page(), APPROXIMATE, "audit_logs", false, this::exact);
+    Assert.assertEquals(unfiltered.getTotalElements(), Long.valueOf(1_200_000L));
+    Assert.assertTrue(unfiltered.isTotalApproximate());
+    Assert.assertEquals(exactCalls.get(), 0);
+
+    SeekPage<String> filtered =
+        estimator.withTotal(page(), APPROXIMATE, "audit_logs", true, this::exact);
+    Assert.assertEquals(filtered.getTotalElements(), Long.valueOf(42L));
+    Assert.assertFalse(filtered.isTotalApproximate());
+    Assert.assertEquals(exactCalls.get(), 1);
+  }
+
+  /** 아직 ANALYZE 되지 않아 통계가 없으면 정확히 센다. */
+  @Test
+  public void testApproximateFallsBackToExactWithoutStatistics() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(Object[].class)))
+        .thenReturn(null);
+
+    SeekPage<String> page =
+        estimator.withTotal(page(), APPROXIMATE, "audit_logs", false, this::exact);
+
+    Assert.assertEquals(page.getTotalElements(), Long.valueOf(42L));
+    Assert.assertFalse(page.isTotalApproximate());
+  }
+
+  private long exact() {
+    exactCalls.incrementAndGet();
+    return 42L;
+  }
+
+  private static SeekPage<String> page() {
+    return SeekPage.of(
+        List.of("a"), 10, s -> new SeekCursor(LocalDateTime.of(2026, 1, 1, 0, 0), s), "scope");
+  }
+}
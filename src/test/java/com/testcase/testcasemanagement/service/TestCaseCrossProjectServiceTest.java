@@ -1,6 +1,7 @@
 package com.testcase.testcasemanagement.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
@@ -48,6 +49,7 @@ public class TestCaseCrossProjectServiceTest {
   private ProjectRepository projectRepository;
   private TestCaseMoveAuditLogRepository auditLogRepository;
   private ProjectSecurityService projectSecurityService;
+  private TestCaseSequenceAllocator sequenceAllocator;
   private TestCaseCrossProjectService service;
 
   // 인메모리 저장소
@@ -69,6 +71,7 @@ public class TestCaseCrossProjectServiceTest {
     projectRepository = Mockito.mock(ProjectRepository.class);
     auditLogRepository = Mockito.mock(TestCaseMoveAuditLogRepository.class);
     projectSecurityService = Mockito.mock(ProjectSecurityService.class);
+    sequenceAllocator = Mockito.mock(TestCaseSequenceAllocator.class);
 
     service =
         new TestCaseCrossProjectService(
@@ -79,7 +82,8 @@ public class TestCaseCrossProjectServiceTest {
             projectRepository,
             auditLogRepository,
             new TestCaseDisplayIdService(),
-            projectSecurityService);
+            projectSecurityService,
+            sequenceAllocator);
 
     store = new HashMap<>();
     resultStore = new HashMap<>();
@@ -140,7 +144,60 @@ public class TestCaseCrossProjectServiceTest {
                     .filter(java.util.Objects::nonNull)
                     .max(Comparator.naturalOrder())
                     .orElse(null));
-    // maxChildOrder가 사용하는 프로젝트 전체 조회 (루트=null parentId도 정확히 처리)
+    // 할당기: 카운터가 없으면 저장소의 현재 최대값에서 시작 (루트=null parentId는 프로젝트 기준)
+    Map<String, Integer> counters = new HashMap<>();
+    lenient()
+        .when(sequenceAllocator.reserveSequentialIds(anyString(), anyInt()))
+        .thenAnswer(
+            inv -> {
+              String pid = inv.getArgument(0);
+              int count = inv.getArgument(1);
+              int first =
+                  counters.computeIfAbsent(
+                      "seq:" + pid,
+                      k ->
+                          store.values().stream()
+                                  .filter(
+                                      tc ->
+                                          tc.getProject() != null
+                                              && pid.equals(tc.getProject().getId()))
+                                  .map(TestCase::getSequentialId)
+                                  .filter(java.util.Objects::nonNull)
+                                  .max(Comparator.naturalOrder())
+                                  .orElse(0)
+                              + 1);
+              counters.put("seq:" + pid, first + count);
+              return first;
+            });
+    lenient()
+        .when(sequenceAllocator.reserveDisplayOrders(anyString(), any(), anyInt()))
+        .thenAnswer(
+            inv -> {
+              String pid = inv.getArgument(0);
+              String parentId = inv.getArgument(1);
+              int count = inv.getArgument(2);
+              String key = parentId == null ? pid + ":root" : parentId;
+              int first =
+                  counters.computeIfAbsent(
+                      "order:" + key,
+                      k ->
+                          store.values().stream()
+                                  .filter(
+                                      tc -> java.util.Objects.equals(tc.getParentId(), parentId))
+                                  .filter(
+                                      tc ->
+                                          parentId != null
+                                              || (tc.getProject() != null
+                                                  && pid.equals(tc.getProject().getId())))
+                                  .map(TestCase::getDisplayOrder)
+                                  .filter(java.util.Objects::nonNull)
+                                  .max(Comparator.naturalOrder())
+                                  .orElse(0)
+                              + 1);
+              counters.put("order:" + key, first + count);
+              return first;
+            });
+    // 프로젝트 전체 조회
     lenient()
         .when(testCaseRepository.findByProjectId(anyString()))
         .thenAnswer(
@@ -26,6 +26,7 @@ import org.testng.annotations.Test;
 public class TestCaseDisplayIdMigrationServiceTest {
 
   @Mock private TestCaseRepository testCaseRepository;
+  @Mock private TestCaseSequenceAllocator sequenceAllocator;
 
   private TestCaseDisplayIdMigrationService migrationService;
 
@@ -33,7 +34,8 @@ public class TestCaseDisplayIdMigrationServiceTest {
   public void setUp() {
     MockitoAnnotations.openMocks(this);
     migrationService =
-        new TestCaseDisplayIdMigrationService(testCaseRepository, new TestCaseDisplayIdService());
+        new TestCaseDisplayIdMigrationService(
+            testCaseRepository, new TestCaseDisplayIdService(), sequenceAllocator);
     when(testCaseRepository.save(any(TestCase.class))).thenAnswer(inv -> inv.getArgument(0));
   }
 
@@ -85,7 +87,7 @@ public class TestCaseDisplayIdMigrationServiceTest {
     Project project = project("p1", "DEMO");
     when(testCaseRepository.findMigratableWithoutDisplayId())
         .thenReturn(new ArrayList<>(List.of(node("tc-1", "testcase", null, project))));
-    when(testCaseRepository.findMaxSequentialIdByProjectId("p1")).thenReturn(11);
+    when(sequenceAllocator.nextSequentialId("p1")).thenReturn(12);
 
     migrationService.migrateExistingTestCases();
 
@@ -105,7 +107,7 @@ public class TestCaseDisplayIdMigrationServiceTest {
                     node("tc-1", "testcase", null, project),
                     node("tc-2", "testcase", null, project),
                     node("tc-3", "testcase", null, project))));
-    when(testCaseRepository.findMaxSequentialIdByProjectId("p1")).thenReturn(4);
+    when(sequenceAllocator.nextSequentialId("p1")).thenReturn(5, 6, 7);
 
     migrationService.migrateExistingTestCases();
 
@@ -114,8 +116,8 @@ public class TestCaseDisplayIdMigrationServiceTest {
     List<String> displayIds = saved.getAllValues().stream().map(TestCase::getDisplayId).toList();
     assertEquals(displayIds, List.of("DEMO-005", "DEMO-006", "DEMO-007"));
 
-    // MAX 조회는 프로젝트당 한 번이면 된다 (같은 트랜잭션에서 반복 조회하면 앞 번호를 못 본다)
-    verify(testCaseRepository, times(1)).findMaxSequentialIdByProjectId("p1");
+    // 번호는 API 생성과 같은 할당기에서 받는다 — MAX 를 따로 세지 않는다
+    verify(testCaseRepository, never()).findMaxSequentialIdByProjectId(any());
   }
 
   @Test
@@ -126,7 +128,7 @@ public class TestCaseDisplayIdMigrationServiceTest {
     migrationService.migrateExistingTestCases();
 
     verify(testCaseRepository, never()).save(any(TestCase.class));
-    verify(testCaseRepository, never()).findMaxSequentialIdByProjectId(any());
+    verify(sequenceAllocator, never()).nextSequentialId(any());
   }
 
   @Test
@@ -0,0 +1,40 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.util.List;
+import org.testng.annotations.Test;
+
+/** TestCaseFieldProjection 의 fields 파라미터 해석 테스트 */
+public class TestCaseFieldProjectionTest {
+
+  @Test
+  public void parseFields_putsIdFirstAndDropsDuplicates() {
+    assertEquals(
+        TestCaseFieldProjection.parseFields(" name, parentId ,name,,tags"),
+        List.of("id", "name", "parentId", "tags"));
+    assertEquals(TestCaseFieldProjection.parseFields("id"), List.of("id"));
+  }
+
+  @Test
+  public void parseFields_rejectsUnknownFields() {
+    IllegalArgumentException e =
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> TestCaseFieldProjection.parseFields("name,children,project"));
+
+    assertTrue(e.getMessage().contains("children, project"), e.getMessage());
+  }
+
+  @Test
+  public void allFields_coverEveryColumnAndCollection() {
+    assertEquals(
+        TestCaseFieldProjection.ALL_FIELDS.size(),
+        TestCaseFieldProjection.COLUMNS.size() + TestCaseFieldProjection.COLLECTIONS.size());
+    assertEquals(
+        TestCaseFieldProjection.parseFields(String.join(",", TestCaseFieldProjection.ALL_FIELDS)),
+        TestCaseFieldProjection.ALL_FIELDS);
+  }
+}
@@ -0,0 +1,220 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * {@link TestCaseSequenceAllocator} 의 hi/lo 임대와 시드 흐름을 메모리 카운터로 검증한다.
+ *
+ * <p>카운터 UPDATE 는 목 {@link JdbcTemplate} 이 흉내 낸다. 순차 ID 는 블록당 한 번만 DB 에 가야 하고, 카운터 행이 없을 때만
+ * 기존 최대값으로 시드해야 한다.
+ */
+public class TestCaseSequenceAllocatorTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private TestCaseSequenceAllocator allocator;
+
+  // scope_key → next_value
+  private final Map<String, Long> counters = new HashMap<>();
+  private int leaseCalls;
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    counters.clear();
+    leaseCalls = 0;
+    allocator = new TestCaseSequenceAllocator(jdbcTemplate, transactionManager);
+    ReflectionTestUtils.setField(allocator, "blockSize", 5);
+    stubCounterTable();
+  }
+
+  /** 카운터 행이 없으면 기존 최대값 + 1 부터 시작하고, 블록을 다 쓸 때까지 DB 에 가지 않는다. */
+  @Test
+  public void testSequentialIdsAreLeasedInBlocks() {
+    when(jdbcTemplate.queryForObject(contains("MAX(sequential_id)"), eq(Long.class), eq("p1")))
+        .thenReturn(41L);
+
+    List<Integer> ids = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      ids.add(allocator.nextSequentialId("p1"));
+    }
+
+    Assert.assertEquals(ids, List.of(42, 43, 44, 45, 46, 47, 48));
+    // 첫 임대(시드 전 실패 + 시드 후 성공)와 두 번째 블록
+    Assert.assertEquals(leaseCalls, 3);
+    Assert.assertEquals(counters.get("seq:p1"), Long.valueOf(52));
+    verify(jdbcTemplate, times(1))
+        .update(contains("INSERT INTO testcase_sequences"), anyString(), any(Long.class));
+  }
+
+  /** displayOrder 는 블록 없이 요청한 개수만큼 연속 구간을 빌린다. 루트는 프로젝트별 키를 쓴다. */
+  @Test
+  public void testDisplayOrdersAreReservedContiguously() {
+    when(jdbcTemplate.queryForObject(contains("parent_id = ?"), eq(Long.class), eq("folder-1")))
+        .thenReturn(3L);
+    when(jdbcTemplate.queryForObject(contains("parent_id IS NULL"), eq(Long.class), eq("p1")))
+        .thenReturn(null);
+
+    Assert.assertEquals(allocator.nextDisplayOrder("p1", "folder-1"), 4);
+    Assert.assertEquals(allocator.reserveDisplayOrders("p1", "folder-1", 3), 5);
+    Assert.assertEquals(allocator.nextDisplayOrder("p1", "folder-1"), 8);
+    Assert.assertEquals(allocator.nextDisplayOrder("p1", null), 1);
+
+    Assert.assertEquals(counters.get("order:folder-1"), Long.valueOf(9));
+    Assert.assertEquals(counters.get("order:p1:root"), Long.valueOf(2));
+  }
+
+  /** 직접 쓴 displayOrder 너머로 카운터를 밀고, 카운터 행이 없으면 다음 시드에 맡긴다. */
+  @Test
+  public void testAdvanceDisplayOrderSkipsUsedValues() {
+    when(jdbcTemplate.queryForObject(contains("parent_id = ?"), eq(Long.class), eq("folder-1")))
+        .thenReturn(0L);
+    Assert.assertEquals(allocator.nextDisplayOrder("p1", "folder-1"), 1);
+
+    allocator.advanceDisplayOrder("p1", "folder-1", 6);
+    Assert.assertEquals(allocator.nextDisplayOrder("p1", "folder-1"), 7);
+    // 더 작은 값으로는 되돌리지 않는다
+    allocator.advanceDisplayOrder("p1", "folder-1", 2);
+    Assert.assertEquals(allocator.nextDisplayOrder("p1", "folder-1"), 8);
+
+    allocator.advanceDisplayOrder("p1", "folder-2", 5);
+    Assert.assertFalse(counters.containsKey("order:folder-2"));
+  }
+
+  /** 여러 스레드가 동시에 받아도 번호가 겹치지 않는다. */
+  @Test
+  public void testConcurrentCallersGetUniqueIds() throws Exception {
+    when(jdbcTemplate.queryForObject(contains("MAX(sequential_id)"), eq(Long.class), eq("p1")))
+        .thenReturn(0L);
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        futures.add(pool.submit(() -> allocator.nextSequentialId("p1")));
+      }
+      Set<Integer> ids = new HashSet<>();
+      for (Future<Integer> future : futures) {
+        ids.add(future.get());
+      }
+      Assert.assertEquals(ids.size(), 200);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /** 프로젝트·폴더를 지우면 카운터 행과 빌려 둔 블록을 버리고, 다음 할당은 그때의 최대값으로 다시 시드한다. */
+  @Test
+  public void testForgetDropsCountersAndLeasedBlock() {
+    when(jdbcTemplate.queryForObject(contains("MAX(sequential_id)"), eq(Long.class), eq("p1")))
+        .thenReturn(41L, 0L);
+    when(jdbcTemplate.queryForObject(contains("parent_id = ?"), eq(Long.class), eq("folder-1")))
+        .thenReturn(0L);
+    Assert.assertEquals(allocator.nextSequentialId("p1"), 42);
+    Assert.assertEquals(allocator.nextDisplayOrder("p1", "folder-1"), 1);
+
+    allocator.forgetProject("p1");
+    allocator.forgetParent("folder-1");
+
+    verify(jdbcTemplate)
+        .update(contains("SELECT 'order:' || id"), eq("seq:p1"), eq("order:p1:root"), eq("p1"));
+    Assert.assertFalse(counters.containsKey("seq:p1"));
+    Assert.assertFalse(counters.containsKey("order:folder-1"));
+    Assert.assertEquals(allocator.nextSequentialId("p1"), 1);
+  }
+
+  /** 프로젝트 없이 루트 displayOrder 나 순차 ID 를 요청하면 거부한다. */
+  @Test
+  public void testProjectIsRequired() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> allocator.nextSequentialId(null));
+    Assert.assertThrows(
+        IllegalArgumentException.class, () -> allocator.nextDisplayOrder(null, null));
+    Assert.assertThrows(
+        IllegalArgumentException.class, () -> allocator.reserveSequentialIds("p1", 0));
+  }
+
+  /** testcase_sequences 테이블의 UPDATE ... RETURNING, GREATEST 밀기, 삭제, 시드 INSERT 를 메모리 맵으로 흉내 낸다. */
+  @SuppressWarnings("unchecked")
+  private void stubCounterTable() {
+    when(jdbcTemplate.query(
+            contains("UPDATE testcase_sequences"),
+            any(ResultSetExtractor.class),
+            any(),
+            anyString()))
+        .thenAnswer(
+            inv -> {
+              synchronized (counters) {
+                leaseCalls++;
+                int count = inv.getArgument(2);
+                String key = inv.getArgument(3);
+                Long current = counters.get(key);
+                if (current == null) {
+                  return null;
+                }
+                counters.put(key, current + count);
+                return current + count;
+              }
+            });
+    when(jdbcTemplate.update(contains("GREATEST"), any(Long.class), anyString()))
+        .thenAnswer(
+            inv -> {
+              synchronized (counters) {
+                Long floor = inv.getArgument(1);
+                return counters.computeIfPresent(
+                            inv.getArgument(2), (key, current) -> Math.max(current, floor))
+                        == null
+                    ? 0
+                    : 1;
+              }
+            });
+    when(jdbcTemplate.update(
+            contains("DELETE FROM testcase_sequences"), anyString(), anyString(), anyString()))
+        .thenAnswer(
+            inv -> {
+              synchronized (counters) {
+                counters.remove((String) inv.getArgument(1));
+                counters.remove((String) inv.getArgument(2));
+                return 1;
+              }
+            });
+    when(jdbcTemplate.update(contains("DELETE FROM testcase_sequences"), anyString()))
+        .thenAnswer(
+            inv -> {
+              synchronized (counters) {
+                return counters.remove((String) inv.getArgument(1)) == null ? 0 : 1;
+              }
+            });
+    when(jdbcTemplate.update(
+            contains("INSERT INTO testcase_sequences"), anyString(), any(Long.class)))
+        .thenAnswer(
+            inv -> {
+              synchronized (counters) {
+                counters.putIfAbsent(inv.getArgument(1), inv.getArgument(2));
+                return 1;
+              }
+            });
+  }
+}
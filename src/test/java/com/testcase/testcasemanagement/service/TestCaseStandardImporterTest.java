@@ -0,0 +1,184 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.testcase.testcasemanagement.dto.ImportValidationResultDto;
+import com.testcase.testcasemanagement.model.Project;
+import com.testcase.testcasemanagement.model.TestCase;
+import com.testcase.testcasemanagement.repository.TestCaseRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * {@link TestCaseStandardImporter} 의 청크 저장과 검증 흐름을 목 저장소로 검증한다.
+ *
+ * <p>테스트케이스는 청크 크기만큼 모아 한 번에 저장하고 영속성 컨텍스트를 비워야 한다. 필수값 오류가 있으면 아무것도 저장하지 않아야 한다.
+ */
+public class TestCaseStandardImporterTest {
+
+  @Mock private TestCaseRepository testCaseRepository;
+  @Mock private EntityManager entityManager;
+  @Mock private TestCaseSequenceAllocator sequenceAllocator;
+
+  private TestCaseStandardImporter importer;
+  private Project project;
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    importer =
+        new TestCaseStandardImporter(
+            testCaseRepository, sequenceAllocator, new TestCaseDisplayIdService());
+    ReflectionTestUtils.setField(importer, "entityManager", entityManager);
+    ReflectionTestUtils.setField(importer, "chunkSize", 2);
+    ReflectionTestUtils.setField(importer, "maxReportedErrors", 2);
+    ReflectionTestUtils.setField(importer, "sampleSize", 3);
+    project = new Project();
+    project.setId("p1");
+    project.setCode("IMP");
+    when(testCaseRepository.findByProjectIdAndType("p1", "folder")).thenReturn(List.of());
+    when(testCaseRepository.save(any(TestCase.class)))
+        .thenAnswer(
+            inv -> {
+              TestCase tc = inv.getArgument(0);
+              tc.setId(UUID.randomUUID().toString());
+              return tc;
+            });
+  }
+
+  /** 폴더를 먼저 만들고, 테스트케이스 5건은 2·2·1 청크로 저장하며 번호는 청크마다 한 번에 빌린다. */
+  @Test
+  public void testTestCasesAreSavedInChunks() throws Exception {
+    List<Map<String, String>> rows = new ArrayList<>();
+    rows.add(row("testcase", "TC-1", "로그인"));
+    rows.add(row("folder", "로그인", ""));
+    for (int i = 2; i <= 5; i++) {
+      rows.add(row("testcase", "TC-" + i, "로그인"));
+    }
+    when(sequenceAllocator.nextDisplayOrder("p1", null)).thenReturn(4);
+    when(sequenceAllocator.reserveSequentialIds(eq("p1"), anyInt())).thenReturn(10, 12, 14);
+    when(sequenceAllocator.reserveDisplayOrders(eq("p1"), anyString(), anyInt()))
+        .thenReturn(1, 3, 5);
+    List<Integer> chunkSizes = new ArrayList<>();
+    List<String> parentIds = new ArrayList<>();
+    List<String> displayIds = new ArrayList<>();
+    List<Integer> orders = new ArrayList<>();
+    when(testCaseRepository.saveAll(anyList()))
+        .thenAnswer(
+            inv -> {
+              List<TestCase> chunk = inv.getArgument(0);
+              chunkSizes.add(chunk.size());
+              chunk.forEach(
+                  tc -> {
+                    parentIds.add(tc.getParentId());
+                    displayIds.add(tc.getDisplayId());
+                    orders.add(tc.getDisplayOrder());
+                  });
+              return chunk;
+            });
+
+    TestCaseStandardImporter.ImportResult result =
+        importer.importRows(
+            TestCaseStandardImporter.listSource(rows),
+            project,
+            () -> {
+              throw new AssertionError("Import 폴더가 필요하지 않아야 한다");
+            });
+
+    Assert.assertEquals(result.importedCount(), 6);
+    Assert.assertEquals(chunkSizes, List.of(2, 2, 1));
+    Assert.assertEquals(result.items().size(), 3);
+    Assert.assertEquals(result.chunks().size(), 3);
+    Assert.assertEquals(result.chunks().get(0).firstRow(), 2);
+    Assert.assertEquals(result.chunks().get(2).lastRow(), 7);
+    Assert.assertEquals(parentIds.stream().distinct().count(), 1);
+    Assert.assertNotNull(parentIds.get(0));
+    Assert.assertEquals(
+        displayIds, List.of("IMP-010", "IMP-011", "IMP-012", "IMP-013", "IMP-014"));
+    Assert.assertEquals(orders, List.of(1, 2, 3, 4, 5));
+    verify(sequenceAllocator, times(3)).reserveSequentialIds(eq("p1"), anyInt());
+    verify(testCaseRepository, never()).findMaxDisplayOrderByParentId(any());
+    verify(entityManager, times(3)).flush();
+    verify(entityManager, times(3)).clear();
+  }
+
+  /** 이름이 빈 행이 있으면 테스트케이스를 하나도 저장하지 않고, 오류는 상한까지만 담는다. */
+  @Test
+  public void testMissingNamesAbortBeforeSaving() {
+    List<Map<String, String>> rows =
+        List.of(row("testcase", "", ""), row("testcase", " ", ""), row("folder", "", ""));
+
+    TestCaseService.CsvImportException e =
+        Assert.expectThrows(
+            TestCaseService.CsvImportException.class,
+            () ->
+                importer.importRows(
+                    TestCaseStandardImporter.listSource(rows), project, () -> "import"));
+
+    Assert.assertEquals(e.getMessage(), "Import 중 오류 발생 (3건)");
+    Assert.assertEquals(e.getErrors().size(), 2);
+    Assert.assertEquals(e.getErrors().get(0).get("row"), 2);
+    verify(testCaseRepository, never()).saveAll(anyList());
+  }
+
+  /** 청크 저장이 실패하면 해당 행 범위를 담아 멈춘다. */
+  @Test
+  public void testChunkFailureReportsRowRange() {
+    List<Map<String, String>> rows =
+        List.of(row("testcase", "a", ""), row("testcase", "b", ""), row("testcase", "c", ""));
+    when(testCaseRepository.saveAll(anyList()))
+        .thenThrow(new IllegalStateException("constraint violation"));
+
+    TestCaseService.CsvImportException e =
+        Assert.expectThrows(
+            TestCaseService.CsvImportException.class,
+            () ->
+                importer.importRows(
+                    TestCaseStandardImporter.listSource(rows), project, () -> "import"));
+
+    Assert.assertTrue(e.getMessage().contains("2~3행"));
+    verify(testCaseRepository, times(1)).saveAll(anyList());
+  }
+
+  /** 검증은 저장 없이 행별 오류와 미리보기를 만든다. */
+  @Test
+  public void testValidateCountsRowsWithoutSaving() throws Exception {
+    Map<String, String> badPriority = row("testcase", "TC", "");
+    badPriority.put("priority", "URGENT");
+    List<Map<String, String>> rows =
+        List.of(row("folder", "F", ""), badPriority, row("suite", "", ""));
+
+    ImportValidationResultDto result =
+        importer.validate(TestCaseStandardImporter.listSource(rows));
+
+    Assert.assertEquals(result.getTotalRows(), 3);
+    Assert.assertEquals(result.getValidRows(), 1);
+    Assert.assertEquals(result.getInvalidRows(), 2);
+    Assert.assertEquals(result.getErrors().size(), 2); // 상한 2 (실제 3건)
+    Assert.assertEquals(result.getPreviewData().size(), 3);
+    verifyNoMoreInteractions(testCaseRepository);
+  }
+
+  private static Map<String, String> row(String type, String name, String parentPath) {
+    Map<String, String> row = new LinkedHashMap<>();
+    row.put("type", type);
+    row.put("name", name);
+    row.put("parentPath", parentPath);
+    return row;
+  }
+}
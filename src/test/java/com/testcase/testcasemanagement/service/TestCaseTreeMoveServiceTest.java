@@ -2,6 +2,8 @@ package com.testcase.testcasemanagement.service;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +26,9 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -35,11 +40,14 @@ public class TestCaseTreeMoveServiceTest {
   private TestCaseMoveAuditLogRepository auditLogRepository;
   private ProjectSecurityService projectSecurityService;
   private SecurityContextUtil securityContextUtil;
+  private TestCaseSequenceAllocator sequenceAllocator;
   private TestCaseTreeMoveService service;
 
   // 인메모리 저장소
   private Map<String, TestCase> store;
   private List<TestCaseMoveAuditLog> auditStore;
+  // testcase_sequences: scope_key → next_value
+  private Map<String, Long> counters;
 
   private Project projectA;
   private Project projectB;
@@ -51,12 +59,20 @@ public class TestCaseTreeMoveServiceTest {
     projectSecurityService = Mockito.mock(ProjectSecurityService.class);
     securityContextUtil = Mockito.mock(SecurityContextUtil.class);
 
-    service =
-        new TestCaseTreeMoveService(
-            testCaseRepository, auditLogRepository, projectSecurityService, securityContextUtil);
-
     store = new HashMap<>();
     auditStore = new ArrayList<>();
+    counters = new HashMap<>();
+    sequenceAllocator =
+        new TestCaseSequenceAllocator(
+            counterTable(), Mockito.mock(PlatformTransactionManager.class));
+
+    service =
+        new TestCaseTreeMoveService(
+            testCaseRepository,
+            auditLogRepository,
+            projectSecurityService,
+            securityContextUtil,
+            sequenceAllocator);
 
     projectA = new Project();
     projectA.setId("proj-A");
@@ -156,6 +172,43 @@ public class TestCaseTreeMoveServiceTest {
             });
   }
 
+  /** testcase_sequences 카운터와 부모별 MAX(display_order) 를 메모리로 흉내 내는 JdbcTemplate */
+  @SuppressWarnings("unchecked")
+  private JdbcTemplate counterTable() {
+    JdbcTemplate jdbc = Mockito.mock(JdbcTemplate.class);
+    when(jdbc.query(
+            contains("next_value = next_value +"), any(ResultSetExtractor.class), any(), any()))
+        .thenAnswer(
+            inv -> {
+              int count = inv.getArgument(2);
+              return counters.computeIfPresent(inv.getArgument(3), (k, v) -> v + count);
+            });
+    when(jdbc.update(contains("INSERT INTO testcase_sequences"), anyString(), any(Long.class)))
+        .thenAnswer(
+            inv -> {
+              counters.putIfAbsent(inv.getArgument(1), inv.getArgument(2));
+              return 1;
+            });
+    when(jdbc.update(contains("GREATEST"), any(Long.class), anyString()))
+        .thenAnswer(
+            inv -> {
+              Long floor = inv.getArgument(1);
+              counters.computeIfPresent(inv.getArgument(2), (k, v) -> Math.max(v, floor));
+              return 1;
+            });
+    when(jdbc.queryForObject(contains("WHERE parent_id = ?"), eq(Long.class), anyString()))
+        .thenAnswer(
+            inv -> {
+              String parentId = inv.getArgument(2);
+              return store.values().stream()
+                  .filter(tc -> parentId.equals(tc.getParentId()))
+                  .mapToLong(TestCase::getDisplayOrder)
+                  .max()
+                  .orElse(0L);
+            });
+    return jdbc;
+  }
+
   // ============================ Fixtures ============================
 
   private TestCase put(String id, String type, String parentId, Integer order, Project project) {
@@ -196,6 +249,27 @@ public class TestCaseTreeMoveServiceTest {
 
   // ============================ Single move tests ============================
 
+  /** 이동으로 1..N 을 다시 매긴 폴더에 새로 만들면 N 다음 번호를 받는다 (카운터가 이동을 따라온다). */
+  @Test
+  public void moveThenCreate_nextDisplayOrderDoesNotCollide() {
+    buildTreeA();
+    // F3 카운터는 비어 있을 때 시드되어 1 을 내줬다
+    Assert.assertEquals(sequenceAllocator.nextDisplayOrder("proj-A", "F3"), 1);
+    put("N1", "testcase", "F3", 1, projectA);
+
+    service.moveBatch(new TestCaseMoveBatchRequest(List.of("T1", "T2"), "F3", null, null));
+    service.move("T3", new TestCaseMoveRequest("F3", null, null));
+
+    List<Integer> orders =
+        store.values().stream()
+            .filter(tc -> "F3".equals(tc.getParentId()))
+            .map(TestCase::getDisplayOrder)
+            .sorted()
+            .toList();
+    Assert.assertEquals(orders, List.of(1, 2, 3, 4));
+    Assert.assertEquals(sequenceAllocator.nextDisplayOrder("proj-A", "F3"), 5);
+  }
+
   @Test
   public void move_reparentTestcaseToOtherFolder_success() {
     buildTreeA();
@@ -54,7 +54,8 @@ public class TestExecutionServiceDisplayIdTest {
             jiraIntegrationService,
             testCaseRepository,
             fileStorageService,
-            projectSecurityService);
+            projectSecurityService,
+            mock(LiveUpdateHub.class));
 
     // SecurityContext Mocking
     Authentication authentication = mock(Authentication.class);
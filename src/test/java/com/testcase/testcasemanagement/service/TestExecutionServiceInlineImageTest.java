@@ -70,7 +70,8 @@ public class TestExecutionServiceInlineImageTest {
             jiraIntegrationService,
             testCaseRepository,
             fileStorageService,
-            projectSecurityService);
+            projectSecurityService,
+            mock(LiveUpdateHub.class));
 
     Authentication authentication = mock(Authentication.class);
     when(authentication.getName()).thenReturn("testuser");
@@ -0,0 +1,169 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * {@link TestResultLatestProjection} 의 커밋 직전 반영과 리포트 페이지 조회를 목 {@link JdbcTemplate} 으로 검증한다.
+ *
+ * <p>한 트랜잭션에서 같은 (플랜, 케이스) 가 여러 번 바뀌어도 재계산은 한 번이어야 하고, 커서가 있으면 OFFSET 대신 키셋 조건으로 읽어야 한다.
+ */
+public class TestResultLatestProjectionTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private TestResultLatestProjection projection;
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    projection = new TestResultLatestProjection(jdbcTemplate);
+  }
+
+  /** 플랜을 모르는 키는 실행 ID 로 찾고, 같은 조합은 한 번만 upsert 하며, 삭제가 섞인 조합만 빈 행 정리를 한다. */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testFlushDedupesCombosAndResolvesPlans() {
+    doAnswer(
+            inv -> {
+              RowCallbackHandler handler = inv.getArgument(1);
+              java.sql.ResultSet rs = mock(java.sql.ResultSet.class);
+              when(rs.getString(1)).thenReturn("exec-2");
+              when(rs.getString(2)).thenReturn("plan-1");
+              handler.processRow(rs);
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(
+            contains("FROM test_executions"), any(RowCallbackHandler.class), any(Object[].class));
+
+    TestResultLatestProjection.Pending pending = new TestResultLatestProjection.Pending();
+    pending.mark(new TestResultLatestProjection.PendingKey("exec-1", "plan-1", "tc-1"), false);
+    pending.mark(new TestResultLatestProjection.PendingKey("exec-2", null, "tc-1"), true);
+    pending.mark(new TestResultLatestProjection.PendingKey("exec-1", "plan-1", "tc-2"), false);
+    pending.mark(new TestResultLatestProjection.PendingKey("exec-9", null, "tc-3"), false);
+
+    projection.flush(pending);
+
+    // 다시 세기 전에 조합을 정렬된 순서로 잠근다
+    InOrder order = inOrder(jdbcTemplate);
+    order
+        .verify(jdbcTemplate)
+        .queryForObject(
+            eq(TestResultLatestProjection.LOCK_KEYS_SQL),
+            eq(Long.class),
+            ArgumentMatchers.<Object>argThat(
+                keys ->
+                    Arrays.equals((Object[]) keys, new String[] {"plan-1:tc-1", "plan-1:tc-2"})));
+    order
+        .verify(jdbcTemplate)
+        .batchUpdate(eq(TestResultLatestProjection.UPSERT_KEY_SQL), anyList());
+
+    ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate)
+        .batchUpdate(eq(TestResultLatestProjection.UPSERT_KEY_SQL), upserts.capture());
+    Assert.assertEquals(upserts.getValue().size(), 2);
+    Assert.assertEquals(upserts.getValue().get(0), new Object[] {"plan-1", "tc-1"});
+    Assert.assertEquals(upserts.getValue().get(1), new Object[] {"plan-1", "tc-2"});
+
+    ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate)
+        .batchUpdate(eq(TestResultLatestProjection.DELETE_EMPTY_KEY_SQL), deletes.capture());
+    Assert.assertEquals(deletes.getValue().size(), 1);
+    Assert.assertEquals(deletes.getValue().get(0), new Object[] {"plan-1", "tc-1"});
+
+    // 한 번 비운 뒤에는 다시 반영하지 않는다 (upsert·삭제 각 한 번뿐)
+    projection.flush(pending);
+    verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(List.class));
+  }
+
+  /** 한 행을 더 읽어 다음 커서를 만들고, 그 커서로 부르면 OFFSET 없이 키셋 조건으로 읽는다. */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testPlanPageUsesKeysetAfterFirstPage() {
+    when(jdbcTemplate.queryForObject(
+            contains("SELECT COUNT(*)"), eq(Long.class), any(Object[].class)))
+        .thenReturn(3L);
+    List<String> sqls = new ArrayList<>();
+    List<Object[]> argsSeen = new ArrayList<>();
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+        .thenAnswer(
+            inv -> {
+              sqls.add(inv.getArgument(0));
+              argsSeen.add((Object[]) inv.getRawArguments()[2]);
+              return new ArrayList<>(
+                  List.of(
+                      row("tc-1", "2026-01-02 00:00:00"),
+                      row("tc-2", "2026-01-01 00:00:00"),
+                      row("tc-3", "infinity")));
+            });
+
+    TestResultLatestProjection.PlanPage first =
+        projection.findPlanPage(query(null, List.of("FAIL")));
+
+    Assert.assertEquals(first.total(), 3L);
+    Assert.assertEquals(first.rows().size(), 2);
+    Assert.assertNotNull(first.nextCursor());
+    Assert.assertTrue(sqls.get(0).contains(" OFFSET ?"));
+    Assert.assertTrue(sqls.get(0).contains("ORDER BY COALESCE(l.executed_at"));
+
+    projection.findPlanPage(query(first.nextCursor(), List.of("FAIL")));
+
+    String keyset = sqls.get(1);
+    Assert.assertFalse(keyset.contains("OFFSET"));
+    Assert.assertTrue(
+        keyset.contains(", pc.test_plan_id, pc.test_case_id) < (CAST(? AS timestamp)"));
+    Object[] args = argsSeen.get(1);
+    // 플랜 1 · 결과 필터 1 · 커서 3 · LIMIT 1
+    Assert.assertEquals(args.length, 6);
+    Assert.assertEquals(args[2], "2026-01-01 00:00:00");
+    Assert.assertEquals(args[4], "tc-2");
+    Assert.assertEquals(args[5], 3);
+  }
+
+  /** 정렬을 바꾸면 예전 커서는 버리고 처음부터 OFFSET 으로 읽는다. */
+  @Test
+  public void testCursorFromAnotherSortIsIgnored() {
+    String token =
+        new TestResultLatestProjection.Cursor("abc", "plan-1", "tc-1")
+            .encode("testCaseName", "ASC");
+
+    Assert.assertNull(TestResultLatestProjection.Cursor.decode(token, "executedAt", "DESC"));
+    Assert.assertNull(
+        TestResultLatestProjection.Cursor.decode("not-a-cursor", "executedAt", "DESC"));
+    Assert.assertEquals(
+        TestResultLatestProjection.Cursor.decode(token, "testCaseName", "ASC"),
+        new TestResultLatestProjection.Cursor("abc", "plan-1", "tc-1"));
+    Assert.assertFalse(TestResultLatestProjection.supportsSort("executorName"));
+  }
+
+  private static TestResultLatestProjection.PlanPageQuery query(
+      String cursor, List<String> results) {
+    return new TestResultLatestProjection.PlanPageQuery(
+        List.of("plan-1"), false, results, "executedAt", true, cursor, 0, 2);
+  }
+
+  private static TestResultLatestProjection.Row row(String caseId, String sortValue) {
+    return new TestResultLatestProjection.Row(
+        "plan-1", caseId, "r-" + caseId, null, "FAIL", 1, sortValue);
+  }
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
+import com.testcase.testcasemanagement.dto.CursorPage;
 import com.testcase.testcasemanagement.dto.JiraStatusSummaryDto;
 import com.testcase.testcasemanagement.dto.TestResultFilterDto;
 import com.testcase.testcasemanagement.dto.TestResultReportDto;
@@ -43,6 +44,8 @@ public class TestResultReportServiceMockTest {
 
   @Mock private ExportService exportService;
 
+  @Mock private TestResultLatestProjection latestProjection;
+
   @InjectMocks private TestResultReportService testResultReportService;
 
   // NOTE: TestResultReportService 생성자 주입을 사용하므로 BeforeMethod에서
@@ -66,7 +69,8 @@ public class TestResultReportServiceMockTest {
             projectRepository,
             testResultRepository,
             testCaseRepository,
-            exportService);
+            exportService,
+            latestProjection);
 
     System.out.println("=== ICT-191 테스트 결과 리포트 서비스 목킹 테스트 시작 ===");
 
@@ -894,4 +898,63 @@ public class TestResultReportServiceMockTest {
     verify(testResultRepository, never())
         .findDedupedIdsByProjectAndTags(anyString(), anyList(), any(Pageable.class));
   }
+
+  // ================= 최신 결과 투영 =================
+
+  @Test(description = "플랜 리포트의 '최신 결과만' 은 투영에서 한 페이지만 읽고 결과를 훑지 않는다")
+  public void testDetailedReport_PlanLatestOnlyReadsProjectionPage() {
+    // Given: 최신 결과엔 JIRA 가 없고, 과거 결과에 있다. 투영의 판정은 적용된 편집본(BLOCKED)이다
+    TestResult latest = createMockResultWithTestCaseIdAndPlan("PASS", "testcase-1", "testplan-1");
+    TestResult withJira =
+        createMockResultWithTestCaseIdAndPlan("FAIL", "testcase-1", "testplan-1");
+    withJira.setJiraIssueKey("ICT-9");
+    TestResultFilterDto filter =
+        TestResultFilterDto.builder()
+            .projectId("project-1")
+            .testPlanIds(List.of("testplan-1"))
+            .latestOnly(true)
+            .page(0)
+            .size(1)
+            .build();
+    filter.setDefaultSort();
+    filter.setDefaultDisplayColumns();
+
+    when(latestProjection.isEnabled()).thenReturn(true);
+    when(latestProjection.findPlanPage(any()))
+        .thenReturn(
+            new TestResultLatestProjection.PlanPage(
+                List.of(
+                    new TestResultLatestProjection.Row(
+                        "testplan-1",
+                        "testcase-1",
+                        latest.getId(),
+                        withJira.getId(),
+                        "BLOCKED",
+                        3,
+                        "2026-01-01 00:00:00")),
+                7L,
+                "next-token"));
+    when(testResultRepository.findByIdsWithFetch(anyList())).thenReturn(List.of(latest, withJira));
+    when(testCaseRepository.findAllById(any())).thenReturn(List.of(mockTestCase));
+    when(testPlanRepository.findAllById(any())).thenReturn(List.of(mockTestPlan));
+
+    // When
+    Page<TestResultReportDto> page = testResultReportService.getDetailedTestResultReport(filter);
+
+    // Then
+    assertEquals(page.getTotalElements(), 7L);
+    assertEquals(((CursorPage<TestResultReportDto>) page).getNextCursor(), "next-token");
+    TestResultReportDto dto = page.getContent().get(0);
+    assertEquals(dto.getResult(), "BLOCKED");
+    assertEquals(dto.getExecutionCount(), 3);
+    assertEquals(dto.getJiraIssueKey(), "ICT-9");
+
+    ArgumentCaptor<TestResultLatestProjection.PlanPageQuery> query =
+        ArgumentCaptor.forClass(TestResultLatestProjection.PlanPageQuery.class);
+    verify(latestProjection).findPlanPage(query.capture());
+    assertTrue(query.getValue().latestOnly());
+    assertTrue(query.getValue().descending());
+    assertEquals(query.getValue().size(), 1);
+    verify(testResultRepository, never()).findPopulationRowsByProject(anyString());
+  }
 }
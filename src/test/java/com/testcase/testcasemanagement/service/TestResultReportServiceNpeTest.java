@@ -27,7 +27,7 @@ public class TestResultReportServiceNpeTest {
 
   @BeforeClass
   public void setUp() {
-    service = new TestResultReportService(null, null, null, null, null, null);
+    service = new TestResultReportService(null, null, null, null, null, null, null);
   }
 
   private TestResult result(String verdict, LocalDateTime executedAt) {
@@ -0,0 +1,130 @@
+package com.testcase.testcasemanagement.service;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.testcase.testcasemanagement.service.TimePartitionManager.PartitionedTable;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * {@link TimePartitionManager} 의 파티션 이름 규칙과 보존 정리 대상 선정을 검증한다.
+ *
+ * <p>보존 정리는 cutoff 이전 구간만 담은 월 파티션만 버려야 한다. cutoff 가 걸친 달을 버리면 보존 기간 안의 행까지 사라진다.
+ */
+public class TimePartitionManagerTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData metaData;
+
+  private TimePartitionManager manager;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this);
+    manager = new TimePartitionManager(jdbcTemplate, transactionManager, dataSource);
+    ReflectionTestUtils.setField(manager, "enabled", true);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.getMetaData()).thenReturn(metaData);
+    when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+  }
+
+  /** 파티션 이름은 테이블명_pYYYY_MM 이고 다시 달로 읽힌다. */
+  @Test
+  public void testPartitionNameRoundTrip() {
+    String name =
+        TimePartitionManager.partitionName(PartitionedTable.AUDIT_LOGS, YearMonth.of(2025, 3));
+
+    Assert.assertEquals(name, "audit_logs_p2025_03");
+    Assert.assertEquals(
+        TimePartitionManager.parsePartitionMonth(PartitionedTable.AUDIT_LOGS, name),
+        Optional.of(YearMonth.of(2025, 3)));
+  }
+
+  /** default 파티션이나 다른 테이블의 이름은 월 파티션으로 보지 않는다. */
+  @Test
+  public void testParseIgnoresForeignNames() {
+    Assert.assertTrue(
+        TimePartitionManager.parsePartitionMonth(
+                PartitionedTable.USER_ACTIVITIES, "user_activities_default")
+            .isEmpty());
+    Assert.assertTrue(
+        TimePartitionManager.parsePartitionMonth(
+                PartitionedTable.USER_ACTIVITIES, "audit_logs_p2025_03")
+            .isEmpty());
+  }
+
+  /** 달의 상한(다음 달 1일)이 cutoff 이하일 때만 통째로 버릴 수 있다. */
+  @Test
+  public void testIsEntirelyBefore() {
+    LocalDate cutoff = LocalDate.of(2025, 4, 1);
+
+    Assert.assertTrue(TimePartitionManager.isEntirelyBefore(YearMonth.of(2025, 3), cutoff));
+    Assert.assertFalse(TimePartitionManager.isEntirelyBefore(YearMonth.of(2025, 4), cutoff));
+    Assert.assertFalse(
+        TimePartitionManager.isEntirelyBefore(YearMonth.of(2025, 3), LocalDate.of(2025, 3, 15)));
+  }
+
+  /** cutoff 이전 월 파티션만 DROP 하고 추정 행 수를 합산한다. default 와 경계 달은 남긴다. */
+  @Test
+  public void testDropPartitionsBeforeDropsOnlyExpiredMonths() {
+    when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("user_activities")))
+        .thenReturn(List.of("p"));
+    when(jdbcTemplate.queryForList(anyString(), eq("user_activities")))
+        .thenReturn(
+            List.of(
+                Map.of("name", "user_activities_p2025_01", "tuples", 1000f),
+                Map.of("name", "user_activities_p2025_02", "tuples", -1f),
+                Map.of("name", "user_activities_p2025_03", "tuples", 500f),
+                Map.of("name", "user_activities_default", "tuples", 10f)));
+
+    long dropped =
+        manager.dropPartitionsBefore(PartitionedTable.USER_ACTIVITIES, LocalDate.of(2025, 3, 1));
+
+    Assert.assertEquals(dropped, 1000L);
+    verify(jdbcTemplate).execute("DROP TABLE IF EXISTS \"user_activities_p2025_01\"");
+    verify(jdbcTemplate).execute("DROP TABLE IF EXISTS \"user_activities_p2025_02\"");
+    verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS \"user_activities_p2025_03\"");
+    verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS \"user_activities_default\"");
+  }
+
+  /** 일반 테이블이면 아무것도 버리지 않는다 — 호출하는 쪽의 벌크 DELETE 가 전부 처리한다. */
+  @Test
+  public void testDropPartitionsBeforeNoopWhenNotPartitioned() {
+    when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("audit_logs")))
+        .thenReturn(List.of("r"));
+
+    long dropped = manager.dropPartitionsBefore(PartitionedTable.AUDIT_LOGS, LocalDate.now());
+
+    Assert.assertEquals(dropped, 0L);
+    verify(jdbcTemplate, never()).execute(anyString());
+  }
+
+  /** 꺼져 있으면 DB 를 조회하지 않는다. */
+  @Test
+  public void testDisabledSkipsDatabase() throws Exception {
+    ReflectionTestUtils.setField(manager, "enabled", false);
+
+    Assert.assertFalse(manager.isPartitioned(PartitionedTable.PAGE_VISIT_METRICS));
+    verify(dataSource, never()).getConnection();
+    verifyNoInteractions(jdbcTemplate);
+  }
+}
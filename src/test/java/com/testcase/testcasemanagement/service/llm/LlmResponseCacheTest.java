@@ -0,0 +1,205 @@
+package com.testcase.testcasemanagement.service.llm;
+
+import com.testcase.testcasemanagement.dto.rag.RagChatMessage;
+import com.testcase.testcasemanagement.model.LlmConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * {@link LlmResponseCache} / {@link CachingLlmClient} 동작을 로컬 스텁 클라이언트로 검증한다.
+ *
+ * <p>같은 호출은 제공자에 한 번만 가야 하고, 스트리밍 호출은 캐시된 응답을 같은 콜백으로 받아야 한다.
+ */
+public class LlmResponseCacheTest {
+
+  private LlmResponseCache.Properties properties;
+  private LlmResponseCache cache;
+  private StubClient stub;
+  private LlmConfig config;
+
+  @BeforeMethod
+  public void setUp() {
+    properties = new LlmResponseCache.Properties();
+    cache = new LlmResponseCache(properties, new SimpleMeterRegistry());
+    stub = new StubClient();
+    config = new LlmConfig();
+    config.setProvider(LlmConfig.LlmProvider.OPENAI);
+    config.setApiUrl("http://llm.local");
+    config.setModelName("stub-model");
+  }
+
+  /** 같은 메시지·파라미터의 두 번째 호출은 제공자를 부르지 않는다. */
+  @Test
+  public void testExactHitSkipsProvider() {
+    LlmClient client = cache.wrap(stub, "testcase-meta");
+
+    LlmClient.LlmResponse first = client.chat(config, messages("로그인 실패 케이스"), 0.3, 512);
+    LlmClient.LlmResponse second = client.chat(config, messages("로그인 실패 케이스"), 0.3, 512);
+
+    Assert.assertEquals(second.getContent(), first.getContent());
+    Assert.assertEquals(stub.calls, 1);
+  }
+
+  /** 온도가 상한을 넘으면 매번 제공자를 부른다. */
+  @Test
+  public void testHighTemperatureBypassesCache() {
+    LlmClient client = cache.wrap(stub, "rag-chat");
+
+    client.chat(config, messages("안녕"), 0.7, 256);
+    client.chat(config, messages("안녕"), 0.7, 256);
+
+    Assert.assertEquals(stub.calls, 2);
+    Assert.assertEquals(cache.size(), 0);
+  }
+
+  /** 템플릿 TTL 이 0 이면 그 템플릿은 캐시하지 않는다. */
+  @Test
+  public void testZeroTemplateTtlDisablesCaching() {
+    properties.setTemplateTtlMinutes(Map.of("rag-summary", 0L));
+    LlmClient client = cache.wrap(stub, "rag-summary");
+
+    client.chat(config, messages("요약"), 0.1, 256);
+    client.chat(config, messages("요약"), 0.1, 256);
+
+    Assert.assertEquals(stub.calls, 2);
+  }
+
+  /** 스트리밍 미스는 받은 청크를 모아 저장하고, 다음 스트리밍 호출은 같은 콜백으로 재생한다. */
+  @Test
+  public void testStreamingMissIsStoredAndReplayed() {
+    LlmClient client = cache.wrap(stub, "rag-chat");
+    List<String> firstChunks = new ArrayList<>();
+    List<String> replayChunks = new ArrayList<>();
+    boolean[] replayDone = {false};
+
+    client.chatStream(
+        config, messages("스트림"), 0.0, 256, (chunk, isLast) -> firstChunks.add(chunk));
+    client.chatStream(
+        config,
+        messages("스트림"),
+        0.0,
+        256,
+        (chunk, isLast) -> {
+          replayChunks.add(chunk);
+          replayDone[0] |= isLast;
+        });
+
+    Assert.assertEquals(stub.calls, 1);
+    Assert.assertTrue(replayDone[0]);
+    Assert.assertEquals(String.join("", replayChunks), String.join("", firstChunks));
+  }
+
+  /** 유사 일치를 켜면 표현이 거의 같은 질문도 적중한다. 앞선 대화가 다르면 적중하지 않는다. */
+  @Test
+  public void testSemanticHit() {
+    properties.setSemanticEnabled(true);
+    properties.setSemanticThreshold(0.8);
+    LlmClient client = cache.wrap(stub, "rag-intent");
+
+    client.chat(config, messages("로그인 기능 테스트케이스 통과율 알려줘"), 0.1, 800);
+    client.chat(config, messages("로그인 기능 테스트케이스 통과율 알려 줘"), 0.1, 800);
+    Assert.assertEquals(stub.calls, 1);
+
+    List<RagChatMessage> otherSystem =
+        List.of(
+            RagChatMessage.system("다른 시스템 프롬프트"),
+            RagChatMessage.user("로그인 기능 테스트케이스 통과율 알려줘"));
+    client.chat(config, otherSystem, 0.1, 800);
+    Assert.assertEquals(stub.calls, 2);
+  }
+
+  /** 제공자 호출이 실패하면 아무것도 저장하지 않는다. */
+  @Test
+  public void testFailureIsNotCached() {
+    stub.fail = true;
+    LlmClient client = cache.wrap(stub, "testcase-meta");
+
+    Assert.assertThrows(
+        LlmClient.LlmClientException.class, () -> client.chat(config, messages("x"), 0.0, 16));
+    Assert.assertEquals(cache.size(), 0);
+  }
+
+  /** 설정 단위 무효화는 그 설정으로 받은 응답만 지우고 다른 설정의 응답은 남긴다. */
+  @Test
+  public void testInvalidateConfigDropsOnlyThatConfig() {
+    LlmConfig other = new LlmConfig();
+    other.setId("cfg-2");
+    other.setProvider(LlmConfig.LlmProvider.OPENAI);
+    other.setApiUrl("http://llm.local");
+    other.setModelName("other-model");
+    config.setId("cfg-1");
+    LlmClient client = cache.wrap(stub, "testcase-meta");
+    client.chat(config, messages("질문"), 0.0, 64);
+    client.chat(other, messages("질문"), 0.0, 64);
+
+    cache.invalidateConfig("cfg-1");
+    client.chat(config, messages("질문"), 0.0, 64);
+    client.chat(other, messages("질문"), 0.0, 64);
+
+    Assert.assertEquals(stub.calls, 3);
+  }
+
+  /** 제공자·URL·모델이 같아도 설정이 다르면 응답을 나눠 쓰지 않고, 한쪽 무효화가 다른 쪽 응답을 남기지 않는다. */
+  @Test
+  public void testSameModelDifferentConfigDoesNotShareEntries() {
+    LlmConfig sameModel = new LlmConfig();
+    sameModel.setId("cfg-2");
+    sameModel.setProvider(config.getProvider());
+    sameModel.setApiUrl(config.getApiUrl());
+    sameModel.setModelName(config.getModelName());
+    config.setId("cfg-1");
+    LlmClient client = cache.wrap(stub, "testcase-meta");
+
+    client.chat(config, messages("질문"), 0.0, 64);
+    client.chat(sameModel, messages("질문"), 0.0, 64);
+    Assert.assertEquals(stub.calls, 2);
+
+    cache.invalidateConfig("cfg-2");
+    client.chat(sameModel, messages("질문"), 0.0, 64);
+    Assert.assertEquals(stub.calls, 3);
+  }
+
+  private static List<RagChatMessage> messages(String question) {
+    return List.of(RagChatMessage.system("시스템 프롬프트"), RagChatMessage.user(question));
+  }
+
+  /** 호출 횟수를 세고 질문을 되돌려주는 로컬 스텁 */
+  private static class StubClient implements LlmClient {
+    int calls;
+    boolean fail;
+
+    @Override
+    public LlmResponse chat(
+        LlmConfig config, List<RagChatMessage> messages, Double temperature, Integer maxTokens) {
+      calls++;
+      if (fail) {
+        throw new LlmClient.LlmClientException("stub failure");
+      }
+      return new LlmResponse("답변: " + messages.get(messages.size() - 1).getContent(), 5, "m");
+    }
+
+    @Override
+    public void chatStream(
+        LlmConfig config,
+        List<RagChatMessage> messages,
+        Double temperature,
+        Integer maxTokens,
+        StreamCallback callback) {
+      String content = chat(config, messages, temperature, maxTokens).getContent();
+      for (char c : content.toCharArray()) {
+        callback.onChunk(String.valueOf(c), false);
+      }
+      callback.onChunk("", true);
+    }
+
+    @Override
+    public LlmConfig.LlmProvider getSupportedProvider() {
+      return LlmConfig.LlmProvider.OPENAI;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.testcase.testcasemanagement.service.outbound;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import org.testng.annotations.Test;
+
+/** AdaptiveConcurrencyLimiter 테스트 — 한도까지만 허용, 느림·실패에 곱으로 줄고 바쁠 때 성공하면 더해 늘어난다. */
+public class AdaptiveConcurrencyLimiterTest {
+
+  private static final long FAST = Duration.ofMillis(10).toNanos();
+  private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+  private static AdaptiveConcurrencyLimiter limiter(int initial, int max) {
+    return new AdaptiveConcurrencyLimiter(
+        initial, 1, max, 0, Duration.ZERO, Duration.ofSeconds(1), 0.5);
+  }
+
+  @Test
+  public void rejectsImmediatelyWhenFullAndNoQueue() {
+    AdaptiveConcurrencyLimiter limiter = limiter(2, 10);
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+    assertEquals(limiter.getSaturation(), 1.0);
+
+    limiter.onIgnored();
+    assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  public void slowCallsAndFailuresShrinkLimit() {
+    AdaptiveConcurrencyLimiter limiter = limiter(8, 10);
+    limiter.tryAcquire();
+    limiter.onSuccess(SLOW);
+    assertEquals(limiter.getLimit(), 4.0);
+
+    limiter.tryAcquire();
+    limiter.onDropped();
+    assertEquals(limiter.getLimit(), 2.0);
+
+    for (int i = 0; i < 5; i++) {
+      limiter.tryAcquire();
+      limiter.onDropped();
+    }
+    assertEquals(limiter.getLimit(), 1.0);
+  }
+
+  @Test
+  public void fastCallsGrowLimitOnlyWhenBusy() {
+    AdaptiveConcurrencyLimiter limiter = limiter(4, 5);
+
+    // 한도의 절반도 쓰지 않으면 늘리지 않는다
+    limiter.tryAcquire();
+    limiter.onSuccess(FAST);
+    assertEquals(limiter.getLimit(), 4.0);
+
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 4; i++) {
+        limiter.tryAcquire();
+      }
+      for (int i = 0; i < 4; i++) {
+        limiter.onSuccess(FAST);
+      }
+    }
+    assertEquals(limiter.getLimit(), 5.0);
+  }
+
+  @Test
+  public void queuedCallerGetsReleasedSlot() throws Exception {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(
+            1, 1, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1), 0.5);
+    assertTrue(limiter.tryAcquire());
+
+    boolean[] acquired = new boolean[1];
+    Thread waiter = new Thread(() -> acquired[0] = limiter.tryAcquire());
+    waiter.start();
+    while (limiter.getQueued() == 0) {
+      Thread.sleep(5);
+    }
+    // 대기 자리가 하나라 다음 호출은 바로 거절된다
+    assertFalse(limiter.tryAcquire());
+
+    limiter.onIgnored();
+    waiter.join(5_000);
+    assertTrue(acquired[0]);
+    assertEquals(limiter.getInFlight(), 1);
+  }
+}
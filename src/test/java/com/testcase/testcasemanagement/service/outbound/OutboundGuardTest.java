@@ -0,0 +1,123 @@
+package com.testcase.testcasemanagement.service.outbound;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.testcase.testcasemanagement.exception.OutboundUnavailableException;
+import com.testcase.testcasemanagement.exception.OutboundUnavailableException.Reason;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** OutboundGuard 테스트 — 인프라 오류만 회로를 열고, 열린 회로·찬 한도는 보내지 않고 거절하며 지표를 남긴다. */
+public class OutboundGuardTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private OutboundBulkheads bulkheads;
+
+  @BeforeMethod
+  public void setUp() {
+    OutboundBulkheads.Limits rag = new OutboundBulkheads.Limits();
+    rag.setInitialLimit(2);
+    rag.setMinLimit(1);
+    rag.setMaxLimit(2);
+    rag.setMaxQueue(0);
+    rag.setMaxWait(Duration.ZERO);
+    rag.setMinimumCalls(4);
+    rag.setSlidingWindowSize(4);
+    OutboundBulkheads.Properties properties = new OutboundBulkheads.Properties();
+    properties.setSystems(Map.of("rag", rag));
+
+    meterRegistry = new SimpleMeterRegistry();
+    bulkheads =
+        new OutboundBulkheads(properties, CircuitBreakerRegistry.ofDefaults(), meterRegistry);
+  }
+
+  @Test
+  public void infrastructureFailuresOpenCircuit_thenCallsFailFast() {
+    OutboundGuard guard = bulkheads.guard("rag");
+    for (int i = 0; i < 4; i++) {
+      expectThrows(RuntimeException.class, () -> guard.call(this::timeout));
+    }
+    assertEquals(guard.getCircuitBreaker().getState(), CircuitBreaker.State.OPEN);
+
+    boolean[] sent = new boolean[1];
+    OutboundUnavailableException rejected =
+        expectThrows(
+            OutboundUnavailableException.class,
+            () ->
+                guard.call(
+                    () -> {
+                      sent[0] = true;
+                      return "ok";
+                    }));
+    assertEquals(rejected.getReason(), Reason.CIRCUIT_OPEN);
+    assertFalse(sent[0]);
+    assertEquals(rejections("rag", "circuit_open"), 1.0);
+  }
+
+  @Test
+  public void clientErrorsDoNotOpenCircuitOrShrinkLimit() {
+    OutboundGuard guard = bulkheads.guard("rag");
+    for (int i = 0; i < 10; i++) {
+      expectThrows(
+          HttpClientErrorException.class,
+          () ->
+              guard.call(
+                  () -> {
+                    throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+                  }));
+    }
+    assertEquals(guard.getCircuitBreaker().getState(), CircuitBreaker.State.CLOSED);
+    assertEquals(guard.getLimiter().getLimit(), 2.0);
+  }
+
+  @Test
+  public void fullBulkheadRejectsWithoutTouchingOtherSystems() throws Throwable {
+    OutboundGuard rag = bulkheads.guard("rag");
+    // 호출 안에서 다시 부르면 자리 두 개를 모두 잡은 상태가 된다
+    OutboundUnavailableException rejected =
+        expectThrows(
+            OutboundUnavailableException.class,
+            () -> rag.call(() -> rag.call(() -> rag.call(() -> "too deep"))));
+    assertEquals(rejected.getReason(), Reason.BULKHEAD_FULL);
+    assertEquals(rejections("rag", "bulkhead_full"), 1.0);
+    assertEquals(rag.getLimiter().getInFlight(), 0);
+
+    // 다른 시스템은 기본 한도로 따로 돈다
+    assertEquals(bulkheads.guard("jira").call(() -> "ok"), "ok");
+    assertTrue(
+        meterRegistry.get("outbound.concurrency.limit").tag("system", "jira").gauge().value()
+            > 2.0);
+  }
+
+  @Test
+  public void failurePredicateFollowsCauseChain() {
+    assertTrue(
+        OutboundFailures.isInfrastructureFailure(
+            new RuntimeException("유사도 검색 실패", new SocketTimeoutException("read timed out"))));
+    assertFalse(
+        OutboundFailures.isInfrastructureFailure(
+            new RuntimeException(new HttpClientErrorException(HttpStatus.UNAUTHORIZED))));
+    assertFalse(OutboundFailures.isInfrastructureFailure(new IllegalArgumentException("bad")));
+  }
+
+  private String timeout() {
+    throw new RuntimeException("RAG 호출 실패", new SocketTimeoutException("read timed out"));
+  }
+
+  private double rejections(String system, String reason) {
+    return meterRegistry
+        .counter("outbound.rejections", "system", system, "reason", reason)
+        .count();
+  }
+}
@@ -0,0 +1,97 @@
+package com.testcase.testcasemanagement.service.rag;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcase.testcasemanagement.model.LlmConfig;
+import com.testcase.testcasemanagement.repository.LlmConfigRepository;
+import com.testcase.testcasemanagement.service.llm.LlmClient;
+import com.testcase.testcasemanagement.service.llm.LlmClientFactory;
+import java.util.Optional;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * {@link RagQueryAnalyzer} 의 질의 의도 캐시를 검증한다.
+ *
+ * <p>의도 분석은 큰 프롬프트를 싣는 LLM 호출이다. 같은 프로젝트의 같은 질문은 다시 부르지 않아야 하고, 실패 기본값은 캐시에 남지 않아야 한다.
+ */
+public class RagQueryAnalyzerTest {
+
+  private static final String INTENT_JSON =
+      "{\"needsStatistics\": true, \"searchKeywords\": [\"로그인\"], \"justification\": \"통계\"}";
+
+  @Mock private LlmClientFactory llmClientFactory;
+  @Mock private LlmConfigRepository llmConfigRepository;
+  @Mock private LlmClient llmClient;
+
+  private RagQueryAnalyzer analyzer;
+
+  @BeforeMethod
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    analyzer = new RagQueryAnalyzer(llmClientFactory, llmConfigRepository, new ObjectMapper());
+    ReflectionTestUtils.setField(analyzer, "intentCacheMaxEntries", 500);
+    ReflectionTestUtils.setField(analyzer, "intentCacheTtlMinutes", 10L);
+    LlmConfig config = new LlmConfig();
+    when(llmConfigRepository.findByIsDefaultTrueAndIsActiveTrue()).thenReturn(Optional.of(config));
+    when(llmClientFactory.getClient(config, "rag-intent")).thenReturn(llmClient);
+  }
+
+  /** 공백·대소문자·끝 문장부호만 다른 질문은 같은 분석을 재사용한다. */
+  @Test
+  public void testNormalizedQuestionHitsCache() {
+    when(llmClient.chat(any(), anyList(), anyDouble(), anyInt()))
+        .thenReturn(new LlmClient.LlmResponse(INTENT_JSON, 10, "m"));
+
+    RagQueryAnalyzer.QueryIntent first = analyzer.analyzeIntent("Login 통과율 알려줘?", "p1");
+    RagQueryAnalyzer.QueryIntent second = analyzer.analyzeIntent("  login   통과율 알려줘 ", "p1");
+
+    Assert.assertTrue(first.isNeedsStatistics());
+    Assert.assertSame(second, first);
+    verify(llmClient, times(1)).chat(any(), anyList(), anyDouble(), anyInt());
+  }
+
+  /** 프로젝트가 다르면 생성 SQL 의 project_id 가 달라지므로 따로 분석한다. */
+  @Test
+  public void testCacheIsPerProject() {
+    when(llmClient.chat(any(), anyList(), anyDouble(), anyInt()))
+        .thenReturn(new LlmClient.LlmResponse(INTENT_JSON, 10, "m"));
+
+    analyzer.analyzeIntent("통과율", "p1");
+    analyzer.analyzeIntent("통과율", "p2");
+
+    verify(llmClient, times(2)).chat(any(), anyList(), anyDouble(), anyInt());
+  }
+
+  /** 분석 실패 시 기본값을 돌려주되 캐시하지 않는다 — 다음 요청은 다시 분석을 시도한다. */
+  @Test
+  public void testFailureFallbackIsNotCached() {
+    when(llmClient.chat(any(), anyList(), anyDouble(), anyInt()))
+        .thenReturn(new LlmClient.LlmResponse("not json", 10, "m"))
+        .thenReturn(new LlmClient.LlmResponse(INTENT_JSON, 10, "m"));
+
+    RagQueryAnalyzer.QueryIntent fallback = analyzer.analyzeIntent("통과율", "p1");
+    RagQueryAnalyzer.QueryIntent retried = analyzer.analyzeIntent("통과율", "p1");
+
+    Assert.assertEquals(fallback.getJustification(), "분석 실패로 인한 기본값 적용");
+    Assert.assertEquals(retried.getJustification(), "통계");
+    verify(llmClient, times(2)).chat(any(), anyList(), anyDouble(), anyInt());
+  }
+
+  /** 정규화 규칙 */
+  @Test
+  public void testNormalizeQuestion() {
+    Assert.assertEquals(RagQueryAnalyzer.normalizeQuestion("  A  b\tC?! "), "a b c");
+    Assert.assertEquals(RagQueryAnalyzer.normalizeQuestion("현황 알려줘。"), "현황 알려줘");
+    Assert.assertEquals(RagQueryAnalyzer.normalizeQuestion(null), "");
+  }
+}
@@ -1,9 +1,25 @@
 package com.testcase.testcasemanagement.service.rag;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -12,12 +28,19 @@ public class RagSqlExecutorTest {
 
   private RagSqlExecutor sqlExecutor;
   private JdbcTemplate jdbcTemplate;
+  private PlatformTransactionManager transactionManager;
   private String projectId = UUID.randomUUID().toString();
 
   @BeforeMethod
   public void setUp() {
     jdbcTemplate = mock(JdbcTemplate.class);
-    sqlExecutor = new RagSqlExecutor(jdbcTemplate);
+    transactionManager = mock(PlatformTransactionManager.class);
+    sqlExecutor = new RagSqlExecutor(jdbcTemplate, transactionManager);
+    ReflectionTestUtils.setField(sqlExecutor, "statementTimeoutSeconds", 10);
+    ReflectionTestUtils.setField(sqlExecutor, "fetchSize", 100);
+    ReflectionTestUtils.setField(sqlExecutor, "maxRows", 100);
+    ReflectionTestUtils.setField(sqlExecutor, "maxBytes", 262144L);
+    ReflectionTestUtils.setField(sqlExecutor, "planCacheSize", 200);
   }
 
   @Test
@@ -104,10 +127,10 @@ public class RagSqlExecutorTest {
 
   @Test
   public void testAllowsProjectScopedSelect_doesNotThrowIllegalArgument() {
-    when(jdbcTemplate.queryForList(anyString())).thenReturn(java.util.List.of());
+    stubEmptyResult();
     String sql = "SELECT id, name FROM testcases WHERE project_id = '" + projectId + "'";
     sqlExecutor.executeSelect(sql, projectId);
-    verify(jdbcTemplate).queryForList(anyString());
+    verifyQueried();
   }
 
   // ===== dev-review R2: 시스템 카탈로그 콤마 크로스조인 우회 회귀 가드 =====
@@ -160,9 +183,146 @@ public class RagSqlExecutorTest {
   /** 정상 프로젝트 스코프 쿼리는 시스템 카탈로그 차단 추가 후에도 계속 통과해야 한다(과도차단 방지). */
   @Test
   public void testLegitimateQueryStillAllowed_afterSystemCatalogBlock() {
-    when(jdbcTemplate.queryForList(anyString())).thenReturn(java.util.List.of());
+    stubEmptyResult();
     String sql = "SELECT id, title, status FROM testcases WHERE project_id = '" + projectId + "'";
     sqlExecutor.executeSelect(sql, projectId);
-    verify(jdbcTemplate).queryForList(anyString());
+    verifyQueried();
+  }
+
+  // ===== 실행 한도 (타임아웃·커서·행/바이트 예산) =====
+
+  /** 문장에 타임아웃·fetch size·최대 행(예산+1)을 걸고, LIMIT 이 없으면 붙인다. */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testStatementIsBounded() throws Exception {
+    stubEmptyResult();
+    String sql = "SELECT id FROM testcases WHERE project_id = '" + projectId + "';";
+
+    sqlExecutor.executeBounded(sql, projectId);
+
+    ArgumentCaptor<PreparedStatementCreator> creator =
+        ArgumentCaptor.forClass(PreparedStatementCreator.class);
+    verify(jdbcTemplate).query(creator.capture(), any(ResultSetExtractor.class));
+    Connection connection = mock(Connection.class);
+    PreparedStatement statement = mock(PreparedStatement.class);
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    creator.getValue().createPreparedStatement(connection);
+
+    verify(connection)
+        .prepareStatement(
+            "SELECT id FROM testcases WHERE project_id = '" + projectId + "' LIMIT 101");
+    verify(statement).setQueryTimeout(10);
+    verify(statement).setFetchSize(100);
+    verify(statement).setMaxRows(101);
+  }
+
+  /** 같은 SQL 은 안전 검사·재작성을 캐시에서 재사용하고, 안전하지 않은 SQL 은 캐시되지 않는다. */
+  @Test
+  public void testPlanCacheReusesCheckedSql() {
+    stubEmptyResult();
+    String sql = "SELECT id FROM testcases WHERE project_id = '" + projectId + "'";
+
+    sqlExecutor.executeBounded(sql, projectId);
+    sqlExecutor.executeBounded(sql, projectId);
+
+    Assert.assertThrows(
+        IllegalArgumentException.class, () -> sqlExecutor.executeBounded(sql, "other-project"));
+  }
+
+  /** 허가를 기다리는 질의는 트랜잭션(커넥션)을 열지 않고, 끝나면 프로젝트 세마포어도 남지 않는다. */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testWaitingQueryHoldsNoTransaction() throws Exception {
+    ReflectionTestUtils.setField(sqlExecutor, "maxConcurrent", 4);
+    ReflectionTestUtils.setField(sqlExecutor, "maxConcurrentPerProject", 1);
+    ReflectionTestUtils.setField(sqlExecutor, "acquireTimeoutMillis", 50L);
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+    when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+        .thenAnswer(
+            invocation -> {
+              running.countDown();
+              finish.await(5, TimeUnit.SECONDS);
+              return new RagQueryResult(List.of(), 0, false, null);
+            });
+    String sql = "SELECT id FROM testcases WHERE project_id = '" + projectId + "'";
+
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      Future<RagQueryResult> first = pool.submit(() -> sqlExecutor.executeBounded(sql, projectId));
+      Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+
+      Assert.assertThrows(
+          IllegalStateException.class, () -> sqlExecutor.executeBounded(sql, projectId));
+      verify(transactionManager, times(1)).getTransaction(any());
+
+      finish.countDown();
+      first.get(5, TimeUnit.SECONDS);
+    } finally {
+      finish.countDown();
+      pool.shutdownNow();
+    }
+    Assert.assertEquals(sqlExecutor.trackedPermitKeys(), 0);
+  }
+
+  /** 행 예산을 넘으면 나머지는 읽지 않고 잘림으로 표시한다. */
+  @Test
+  public void testRowBudgetTruncates() throws Exception {
+    ResultSet rs = resultSet(5, "a");
+
+    RagQueryResult result = RagSqlExecutor.read(rs, 3, 1_000_000L);
+
+    Assert.assertEquals(result.rowCount(), 3);
+    Assert.assertTrue(result.truncated());
+    Assert.assertEquals(result.columns().get(0).values(), List.of("a", "a", "a"));
+    Assert.assertEquals(result.columns().get(0).sqlType(), "varchar");
+  }
+
+  /** 바이트 예산을 넘는 행은 담지 않는다 — 잘린 결과도 예산 안이다. */
+  @Test
+  public void testByteBudgetTruncates() throws Exception {
+    ResultSet rs = resultSet(5, "0123456789");
+
+    RagQueryResult result = RagSqlExecutor.read(rs, 100, 25L);
+
+    Assert.assertEquals(result.rowCount(), 2);
+    Assert.assertTrue(result.truncated());
+  }
+
+  /** 예산 안이면 모두 읽고 행 단위 보기는 열 순서를 지킨다. */
+  @Test
+  public void testWithinBudgetReturnsAllRows() throws Exception {
+    ResultSet rs = resultSet(2, "x");
+
+    RagQueryResult result = RagSqlExecutor.read(rs, 100, 1_000L);
+
+    Assert.assertFalse(result.truncated());
+    Assert.assertNull(result.truncationReason());
+    Assert.assertEquals(result.toRows().get(1).get("title"), "x");
+  }
+
+  @SuppressWarnings("unchecked")
+  private void verifyQueried() {
+    verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void stubEmptyResult() {
+    when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+        .thenReturn(new RagQueryResult(List.of(), 0, false, null));
+  }
+
+  /** title(varchar) 열 하나에 같은 값이 rows 개 있는 결과 */
+  private static ResultSet resultSet(int rows, String value) throws Exception {
+    ResultSetMetaData meta = mock(ResultSetMetaData.class);
+    when(meta.getColumnCount()).thenReturn(1);
+    when(meta.getColumnLabel(1)).thenReturn("title");
+    when(meta.getColumnTypeName(1)).thenReturn("varchar");
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getMetaData()).thenReturn(meta);
+    int[] cursor = {0};
+    when(rs.next()).thenAnswer(invocation -> cursor[0]++ < rows);
+    when(rs.getObject(1)).thenReturn(value);
+    return rs;
   }
 }
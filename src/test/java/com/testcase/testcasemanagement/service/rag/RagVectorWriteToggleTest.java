@@ -13,9 +13,10 @@ import com.testcase.testcasemanagement.dto.rag.RagConversationMessageIndexRespon
 import com.testcase.testcasemanagement.exception.RagDisabledException;
 import com.testcase.testcasemanagement.exception.RagVectorWriteDisabledException;
 import com.testcase.testcasemanagement.repository.LlmConfigRepository;
-import com.testcase.testcasemanagement.security.EncryptionUtil;
+import com.testcase.testcasemanagement.security.SecretVault;
 import com.testcase.testcasemanagement.service.RagServiceImpl;
 import com.testcase.testcasemanagement.service.SystemSettingService;
+import com.testcase.testcasemanagement.service.outbound.OutboundBulkheads;
 import java.util.UUID;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.testng.Assert;
@@ -32,7 +33,7 @@ public class RagVectorWriteToggleTest {
 
   private WebClient ragWebClient;
   private LlmConfigRepository llmConfigRepository;
-  private EncryptionUtil encryptionUtil;
+  private SecretVault secretVault;
   private SystemSettingService systemSettingService;
   private RagServiceImpl ragService;
 
@@ -40,7 +41,7 @@ public class RagVectorWriteToggleTest {
   void setUp() {
     ragWebClient = mock(WebClient.class);
     llmConfigRepository = mock(LlmConfigRepository.class);
-    encryptionUtil = mock(EncryptionUtil.class);
+    secretVault = mock(SecretVault.class);
     systemSettingService = mock(SystemSettingService.class);
 
     // RAG 자체는 켜져 있고 벡터 쓰기만 끈 상태가 이 기능의 대상이다.
@@ -51,8 +52,9 @@ public class RagVectorWriteToggleTest {
             ragWebClient,
             "http://localhost:8001",
             llmConfigRepository,
-            encryptionUtil,
-            systemSettingService);
+            secretVault,
+            systemSettingService,
+            mock(OutboundBulkheads.class));
   }
 
   private void setVectorWrite(boolean enabled) {
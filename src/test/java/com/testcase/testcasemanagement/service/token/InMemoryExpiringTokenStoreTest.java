@@ -0,0 +1,89 @@
+package com.testcase.testcasemanagement.service.token;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** InMemoryExpiringTokenStore 테스트 — 상한 LRU, 타이머 휠 만료, 1회성 소비. */
+public class InMemoryExpiringTokenStoreTest {
+
+  private static final Duration TICK = Duration.ofSeconds(1);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private InMemoryExpiringTokenStore<String> store;
+
+  @BeforeMethod
+  public void setUp() {
+    nanos.set(0);
+    store = new InMemoryExpiringTokenStore<>(3, TICK, nanos::get);
+  }
+
+  @Test
+  public void put_overCapacityEvictsLeastRecentlyUsed() {
+    store.put("a", "1", Duration.ofMinutes(5));
+    store.put("b", "2", Duration.ofMinutes(5));
+    store.put("c", "3", Duration.ofMinutes(5));
+    store.get("a");
+
+    store.put("d", "4", Duration.ofMinutes(5));
+
+    assertEquals(store.size(), 3);
+    assertEquals(store.evictionCount(), 1);
+    assertNull(store.get("b"));
+    assertEquals(store.get("a"), "1");
+  }
+
+  @Test
+  public void purgeExpired_freesSlotsWithoutTouchingKeys() {
+    store.put("short", "1", Duration.ofSeconds(2));
+    store.put("long", "2", Duration.ofMinutes(20));
+
+    advance(Duration.ofSeconds(3));
+    store.purgeExpired();
+    assertEquals(store.size(), 1);
+
+    // 휠 한 바퀴(512초)를 넘는 만료도 다음 바퀴에서 정확히 빠진다
+    advance(Duration.ofMinutes(10));
+    store.purgeExpired();
+    assertEquals(store.size(), 1);
+    advance(Duration.ofMinutes(10));
+    store.purgeExpired();
+    assertEquals(store.size(), 0);
+  }
+
+  @Test
+  public void get_treatsExpiredAsMissingBeforeWheelReachesSlot() {
+    store.put("k", "v", Duration.ofMillis(500));
+    nanos.addAndGet(Duration.ofMillis(600).toNanos());
+
+    assertNull(store.get("k"));
+    assertEquals(store.size(), 0);
+  }
+
+  @Test
+  public void consume_returnsValueOnlyOnce() {
+    store.put("k", "v", Duration.ofMinutes(5));
+
+    assertEquals(store.consume("k"), "v");
+    assertNull(store.consume("k"));
+  }
+
+  @Test
+  public void removeIf_dropsMatchingEntries() {
+    store.put("a", "user-1", Duration.ofMinutes(5));
+    store.put("b", "user-2", Duration.ofMinutes(5));
+    store.put("c", "user-1", Duration.ofMinutes(5));
+
+    assertEquals(store.removeIf((key, value) -> value.equals("user-1")), 2);
+    assertEquals(store.get("b"), "user-2");
+    assertEquals(store.size(), 1);
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+}
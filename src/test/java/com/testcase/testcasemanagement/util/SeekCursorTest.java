@@ -0,0 +1,70 @@
+package com.testcase.testcasemanagement.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.testcase.testcasemanagement.dto.SeekPage;
+import com.testcase.testcasemanagement.exception.ResourceNotValidException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.testng.annotations.Test;
+
+/** SeekCursor·SeekPage 단위 테스트 — 커서 왕복, 다른 목록 커서 거절, 한 행 더 읽기로 다음 페이지 판단. */
+public class SeekCursorTest {
+
+  private static final LocalDateTime AT = LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123456000);
+
+  @Test
+  public void encodeDecode_roundTripsTimestampAndId() {
+    String token = new SeekCursor(AT, "id-1").encode("audit-logs:desc");
+
+    assertEquals(SeekCursor.decode(token, "audit-logs:desc"), new SeekCursor(AT, "id-1"));
+    // URL 에 그대로 실을 수 있어야 한다
+    assertTrue(token.matches("^[A-Za-z0-9_.-]+$"));
+  }
+
+  @Test
+  public void decode_blankIsFirstPage() {
+    assertNull(SeekCursor.decode(null, "audit-logs:desc"));
+    assertNull(SeekCursor.decode(" ", "audit-logs:desc"));
+  }
+
+  @Test
+  public void decode_rejectsForeignOrBrokenToken() {
+    String token = new SeekCursor(AT, "id-1").encode("test-sessions:p1:desc");
+
+    // 다른 프로젝트·방향에서 발급한 커서는 엉뚱한 위치부터 읽게 되므로 거절
+    assertThrows(
+        ResourceNotValidException.class, () -> SeekCursor.decode(token, "test-sessions:p1:asc"));
+    assertThrows(
+        ResourceNotValidException.class, () -> SeekCursor.decode(token, "test-sessions:p2:desc"));
+    assertThrows(ResourceNotValidException.class, () -> SeekCursor.decode("not-a-cursor", "x"));
+  }
+
+  @Test
+  public void seekPage_extraRowMeansNextPageAndLastKeptRowIsCursor() {
+    List<String> fetched = List.of("a", "b", "c");
+
+    SeekPage<String> page = SeekPage.of(fetched, 2, s -> new SeekCursor(AT, s), "scope");
+
+    assertEquals(page.getContent(), List.of("a", "b"));
+    assertTrue(page.isHasNext());
+    assertEquals(SeekCursor.decode(page.getNextCursor(), "scope"), new SeekCursor(AT, "b"));
+    assertNull(page.getTotalElements());
+
+    SeekPage<String> last = SeekPage.of(List.of("d"), 2, s -> new SeekCursor(AT, s), "scope");
+    assertFalse(last.isHasNext());
+    assertNull(last.getNextCursor());
+  }
+
+  @Test
+  public void countMode_unknownValueFallsBackToNone() {
+    assertEquals(SeekPage.CountMode.from("approximate"), SeekPage.CountMode.APPROXIMATE);
+    assertEquals(SeekPage.CountMode.from("EXACT"), SeekPage.CountMode.EXACT);
+    assertEquals(SeekPage.CountMode.from("bogus"), SeekPage.CountMode.NONE);
+    assertEquals(SeekPage.CountMode.from(null), SeekPage.CountMode.NONE);
+  }
+}
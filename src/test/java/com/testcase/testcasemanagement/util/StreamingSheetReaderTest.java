@@ -0,0 +1,100 @@
+package com.testcase.testcasemanagement.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * {@link StreamingSheetReader} 가 기존 트리 파싱과 같은 행 맵을 만드는지 검증한다.
+ *
+ * <p>행 번호는 스프레드시트 기준이어야 하고, XLSX 의 빈 셀은 이벤트가 없으므로 열 위치로 채워져야 한다.
+ */
+public class StreamingSheetReaderTest {
+
+  /** 헤더의 BOM 을 지우고, 모자란 열은 빈 문자열로 채운다. */
+  @Test
+  public void testReadCsvStripsBomAndPadsRows() throws Exception {
+    String csv = "\uFEFFtype,name,priority\nfolder,로그인\ntestcase,\"성공, 실패\",HIGH\n";
+    List<Integer> rowNumbers = new ArrayList<>();
+    List<Map<String, String>> rows = new ArrayList<>();
+
+    int count =
+        StreamingSheetReader.readCsv(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+            (rowNumber, row) -> {
+              rowNumbers.add(rowNumber);
+              rows.add(row);
+            });
+
+    Assert.assertEquals(count, 2);
+    Assert.assertEquals(rowNumbers, List.of(2, 3));
+    Assert.assertEquals(rows.get(0).get("type"), "folder");
+    Assert.assertEquals(rows.get(0).get("priority"), "");
+    Assert.assertEquals(rows.get(1).get("name"), "성공, 실패");
+  }
+
+  /** 중간의 빈 셀은 이벤트가 없어도 제 열에 빈 값으로 들어간다. */
+  @Test
+  public void testReadXlsxFillsGapsByColumn() throws Exception {
+    File file = Files.createTempFile("streaming-sheet-", ".xlsx").toFile();
+    try {
+      try (XSSFWorkbook workbook = new XSSFWorkbook();
+          OutputStream os = new FileOutputStream(file)) {
+        Sheet sheet = workbook.createSheet();
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("name");
+        header.createCell(1).setCellValue("description");
+        header.createCell(2).setCellValue("priority");
+        Row data = sheet.createRow(1);
+        data.createCell(0).setCellValue(" 로그인 ");
+        data.createCell(2).setCellValue("LOW");
+        // 빈 행 하나를 건너뛴 뒤의 행
+        sheet.createRow(3).createCell(0).setCellValue(42);
+        workbook.write(os);
+      }
+
+      List<Integer> rowNumbers = new ArrayList<>();
+      List<Map<String, String>> rows = new ArrayList<>();
+      int count =
+          StreamingSheetReader.readXlsx(
+              file,
+              (rowNumber, row) -> {
+                rowNumbers.add(rowNumber);
+                rows.add(row);
+              });
+
+      Assert.assertEquals(count, 2);
+      Assert.assertEquals(rowNumbers, List.of(2, 4));
+      Assert.assertEquals(rows.get(0), Map.of("name", "로그인", "description", "", "priority", "LOW"));
+      Assert.assertEquals(rows.get(1).get("name"), "42");
+      Assert.assertEquals(rows.get(1).get("priority"), "");
+    } finally {
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+
+  /** 핸들러가 던진 예외는 IOException 으로 감싸지 않는다. */
+  @Test
+  public void testHandlerExceptionPropagatesUnwrapped() {
+    String csv = "name\na\n";
+    Assert.assertThrows(
+        IllegalStateException.class,
+        () ->
+            StreamingSheetReader.readCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                (rowNumber, row) -> {
+                  throw new IllegalStateException("stop");
+                }));
+  }
+}